@@ -0,0 +1,301 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.style;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.Element;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.dominokit.domino.ui.IsElement;
+
+/**
+ * Collects css classes additions and removals and applies them to an element at once.
+ *
+ * <p>Adding a class then removing it in the same batch cancels out, and adding more than one class
+ * from the same {@link LimitOneOfPrefixedCssClass} group only keeps the last one, so the element
+ * class list is only touched for the final result. A batch can be applied to more than one element.
+ *
+ * <p>Css classes that are not simple class names, for example {@link ToggleCssClass} or {@link
+ * BooleanCssClass}, have their own apply logic, those are applied in order after the batched
+ * changes.
+ *
+ * <p><strong>Usage Example:</strong>
+ *
+ * <pre>
+ * element.batchCss(batch -&gt; batch
+ *     .add(dui_bg_red, dui_fg_white)
+ *     .remove(dui_hidden));
+ * </pre>
+ */
+public class CssBatch {
+
+  private final Set<String> toAdd = new LinkedHashSet<>();
+  private final Set<String> toRemove = new LinkedHashSet<>();
+  private final Map<Set<String>, LimitOneOfPrefixedCssClass> addedGroups = new HashMap<>();
+  private final Map<Set<String>, LimitOneOfPrefixedCssClass> removedGroups = new HashMap<>();
+  private final List<DeferredChange> deferred = new ArrayList<>();
+
+  /**
+   * Creates a new empty batch.
+   *
+   * @return a new {@link CssBatch}
+   */
+  public static CssBatch create() {
+    return new CssBatch();
+  }
+
+  /**
+   * Adds css classes names to the batch.
+   *
+   * @param cssClasses The css classes names to add.
+   * @return same batch instance
+   */
+  public CssBatch add(String... cssClasses) {
+    for (String cssClass : cssClasses) {
+      if (nonNull(cssClass) && !cssClass.isEmpty()) {
+        toRemove.remove(cssClass);
+        toAdd.add(cssClass);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Adds css classes to the batch.
+   *
+   * @param cssClasses The css classes to add.
+   * @return same batch instance
+   */
+  public CssBatch add(CssClass... cssClasses) {
+    for (CssClass cssClass : cssClasses) {
+      addCssClass(cssClass);
+    }
+    return this;
+  }
+
+  /**
+   * Adds the css class of the {@link HasCssClass} to the batch.
+   *
+   * @param hasCssClass The css class provider.
+   * @return same batch instance
+   */
+  public CssBatch add(HasCssClass hasCssClass) {
+    return add(hasCssClass.getCssClass());
+  }
+
+  /**
+   * Removes css classes names in the batch.
+   *
+   * @param cssClasses The css classes names to remove.
+   * @return same batch instance
+   */
+  public CssBatch remove(String... cssClasses) {
+    for (String cssClass : cssClasses) {
+      if (nonNull(cssClass) && !cssClass.isEmpty()) {
+        toAdd.remove(cssClass);
+        toRemove.add(cssClass);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Removes css classes in the batch.
+   *
+   * @param cssClasses The css classes to remove.
+   * @return same batch instance
+   */
+  public CssBatch remove(CssClass... cssClasses) {
+    for (CssClass cssClass : cssClasses) {
+      removeCssClass(cssClass);
+    }
+    return this;
+  }
+
+  /**
+   * Removes the css class of the {@link HasCssClass} in the batch.
+   *
+   * @param hasCssClass The css class provider.
+   * @return same batch instance
+   */
+  public CssBatch remove(HasCssClass hasCssClass) {
+    return remove(hasCssClass.getCssClass());
+  }
+
+  /**
+   * Adds or removes a css class in the batch based on a condition.
+   *
+   * @param cssClass The css class.
+   * @param add true to add the css class, false to remove it.
+   * @return same batch instance
+   */
+  public CssBatch toggle(CssClass cssClass, boolean add) {
+    return add ? add(cssClass) : remove(cssClass);
+  }
+
+  /**
+   * @return true if the batch has no changes to apply.
+   */
+  public boolean isEmpty() {
+    return toAdd.isEmpty()
+        && toRemove.isEmpty()
+        && addedGroups.isEmpty()
+        && removedGroups.isEmpty()
+        && deferred.isEmpty();
+  }
+
+  /**
+   * Clears all changes collected by this batch.
+   *
+   * @return same batch instance
+   */
+  public CssBatch clear() {
+    toAdd.clear();
+    toRemove.clear();
+    addedGroups.clear();
+    removedGroups.clear();
+    deferred.clear();
+    return this;
+  }
+
+  /**
+   * Applies the batch changes to the specified element.
+   *
+   * @param element The element to apply the changes to.
+   */
+  public void apply(IsElement<?> element) {
+    apply(element.element());
+  }
+
+  /**
+   * Applies the batch changes to the specified element, all removals are done first then all the
+   * additions are added in a single class list call.
+   *
+   * @param element The element to apply the changes to.
+   */
+  public void apply(Element element) {
+    if (isNull(element) || isEmpty()) {
+      return;
+    }
+    Set<String> removals = new LinkedHashSet<>(toRemove);
+    for (LimitOneOfPrefixedCssClass group : removedGroups.values()) {
+      removals.addAll(group.appliedClasses(element));
+    }
+    for (LimitOneOfPrefixedCssClass group : addedGroups.values()) {
+      removals.addAll(group.appliedClasses(element));
+    }
+    removals.removeAll(toAdd);
+
+    // remove(String... arr) is not supported in IE11, so looping over the set solving the problem
+    for (String cssClass : removals) {
+      element.classList.remove(cssClass);
+    }
+    if (!toAdd.isEmpty()) {
+      element.classList.add(toAdd.toArray(new String[0]));
+    }
+    removedGroups.values().forEach(group -> group.unIndex(element));
+    addedGroups.values().forEach(group -> group.index(element));
+    deferred.forEach(change -> change.apply(element));
+  }
+
+  /**
+   * Replays the batch final changes on the specified style using its {@code removeCss} and {@code
+   * addCss} methods, for styles that do not apply the batch to the element directly.
+   *
+   * @param style The style to apply the changes to.
+   * @param <R> The style return type.
+   * @return the result of the last style call.
+   */
+  <R> R applyTo(DominoStyle<?, R> style) {
+    List<String> additions = new ArrayList<>(toAdd);
+    for (LimitOneOfPrefixedCssClass group : addedGroups.values()) {
+      additions.remove(group.getCssClass());
+    }
+    style.removeCss(toRemove.toArray(new String[0]));
+    style.removeCss(removedGroups.values().toArray(new CssClass[0]));
+    style.addCss(addedGroups.values().toArray(new CssClass[0]));
+    R result = style.addCss(additions.toArray(new String[0]));
+    for (DeferredChange change : deferred) {
+      result = change.add ? style.addCss(change.cssClass) : style.removeCss(change.cssClass);
+    }
+    return result;
+  }
+
+  private void addCssClass(CssClass cssClass) {
+    if (isNull(cssClass) || cssClass instanceof NoneCss) {
+      return;
+    }
+    if (cssClass instanceof StringCssClass) {
+      add(cssClass.getCssClass());
+    } else if (cssClass instanceof CompositeCssClass) {
+      ((CompositeCssClass) cssClass).getCssClasses().forEach(this::addCssClass);
+    } else if (cssClass instanceof LimitOneOfPrefixedCssClass) {
+      LimitOneOfPrefixedCssClass group = (LimitOneOfPrefixedCssClass) cssClass;
+      LimitOneOfPrefixedCssClass previous = addedGroups.put(group.getPrefixes(), group);
+      if (nonNull(previous)) {
+        toAdd.remove(previous.getCssClass());
+      }
+      removedGroups.remove(group.getPrefixes());
+      add(group.getCssClass());
+    } else {
+      deferred.add(new DeferredChange(cssClass, true));
+    }
+  }
+
+  private void removeCssClass(CssClass cssClass) {
+    if (isNull(cssClass) || cssClass instanceof NoneCss) {
+      return;
+    }
+    if (cssClass instanceof StringCssClass) {
+      remove(cssClass.getCssClass());
+    } else if (cssClass instanceof CompositeCssClass) {
+      ((CompositeCssClass) cssClass).getCssClasses().forEach(this::removeCssClass);
+    } else if (cssClass instanceof LimitOneOfPrefixedCssClass) {
+      LimitOneOfPrefixedCssClass group = (LimitOneOfPrefixedCssClass) cssClass;
+      LimitOneOfPrefixedCssClass added = addedGroups.remove(group.getPrefixes());
+      if (nonNull(added)) {
+        toAdd.remove(added.getCssClass());
+      }
+      removedGroups.put(group.getPrefixes(), group);
+    } else {
+      deferred.add(new DeferredChange(cssClass, false));
+    }
+  }
+
+  private static final class DeferredChange {
+    private final CssClass cssClass;
+    private final boolean add;
+
+    private DeferredChange(CssClass cssClass, boolean add) {
+      this.cssClass = cssClass;
+      this.add = add;
+    }
+
+    private void apply(Element element) {
+      if (add) {
+        cssClass.apply(element);
+      } else {
+        cssClass.remove(element);
+      }
+    }
+  }
+}
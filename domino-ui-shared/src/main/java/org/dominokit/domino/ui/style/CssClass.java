@@ -43,6 +43,16 @@ public interface CssClass {
    */
   String getCssClass();
 
+  /**
+   * Creates a string backed {@link CssClass} for the specified css class name.
+   *
+   * @param cssClass The css class name.
+   * @return A new {@link StringCssClass} instance.
+   */
+  static CssClass of(String cssClass) {
+    return new StringCssClass(cssClass);
+  }
+
   /**
    * Applies the CSS class to the provided {@link IsElement}.
    *
@@ -16,6 +16,7 @@
 package org.dominokit.domino.ui.style;
 
 import elemental2.dom.Element;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 /**
@@ -232,6 +233,29 @@ public interface DominoStyle<E extends Element, R> {
    */
   R replaceCss(String cssClass, String replacementClass);
 
+  /**
+   * Collects css classes changes in a {@link CssBatch} and applies them to the element at once.
+   *
+   * @param batch The handler that adds and removes css classes to the batch.
+   * @return The updated style.
+   */
+  default R batchCss(Consumer<CssBatch> batch) {
+    CssBatch cssBatch = CssBatch.create();
+    batch.accept(cssBatch);
+    return applyCss(cssBatch);
+  }
+
+  /**
+   * Applies a prepared {@link CssBatch} to the element, the default implementation replays the
+   * batch final changes using {@code removeCss} and {@code addCss}.
+   *
+   * @param batch The css batch to apply.
+   * @return The updated style.
+   */
+  default R applyCss(CssBatch batch) {
+    return batch.applyTo(this);
+  }
+
   /**
    * Sets the border style of the element.
    *
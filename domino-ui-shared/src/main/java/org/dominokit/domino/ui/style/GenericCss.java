@@ -328,6 +328,8 @@ public interface GenericCss {
 
   CssClass dui_transition_none = () -> "dui-transition-none";
 
+  CssClass dui_paused = () -> "dui-paused";
+
   CssClass dui_horizontal =
       ReplaceCssClass.of(() -> "dui-vertical").replaceWith(() -> "dui-horizontal");
 
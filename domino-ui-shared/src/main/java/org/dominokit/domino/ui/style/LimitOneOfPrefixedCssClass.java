@@ -15,15 +15,32 @@
  */
 package org.dominokit.domino.ui.style;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.DOMTokenList;
 import elemental2.dom.Element;
 import java.util.*;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 
 /**
  * A class for managing a set of prefixed CSS classes and ensuring that only one of them is active
  * at a time on a DOM element.
+ *
+ * <p>The class applied for each prefix is indexed on the element, so replacing the active class of
+ * a group removes the previously applied class directly instead of scanning all the element css
+ * classes. The index is only a hint, it is trusted for a prefix while the indexed class is still
+ * applied and it is the only class of the element starting with that prefix, a class of the group
+ * added or removed by other means, like {@code addCss} or a markup change, falls back to scanning
+ * the element classes so that all the classes of the group are removed. Changes to classes outside
+ * the group do not invalidate the index.
  */
 public class LimitOneOfPrefixedCssClass implements CssClass {
 
+  private static final Map<String, Set<String>> PREFIXES = new HashMap<>();
+  private static final String APPLIED_INDEX_KEY = "dui-limit-one-of-index";
+
   private final Set<String> prefixes;
 
   private final CssClass cssClass;
@@ -37,7 +54,7 @@ public class LimitOneOfPrefixedCssClass implements CssClass {
    * @return A new {@link LimitOneOfPrefixedCssClass} instance with the specified css class.
    */
   public static LimitOneOfPrefixedCssClass of(Set<String> prefixes, String cssClass) {
-    return new LimitOneOfPrefixedCssClass(prefixes, () -> cssClass);
+    return new LimitOneOfPrefixedCssClass(prefixes, CssClass.of(cssClass));
   }
 
   /**
@@ -61,13 +78,7 @@ public class LimitOneOfPrefixedCssClass implements CssClass {
    * @return A new {@link LimitOneOfPrefixedCssClass} instance with the specified css class.
    */
   public static LimitOneOfPrefixedCssClass of(String prefix, String cssClass) {
-    return of(
-        new HashSet<>() {
-          {
-            add(prefix);
-          }
-        },
-        cssClass);
+    return of(prefixOf(prefix), cssClass);
   }
 
   /**
@@ -79,13 +90,7 @@ public class LimitOneOfPrefixedCssClass implements CssClass {
    * @return A new {@link LimitOneOfPrefixedCssClass} instance with the specified css class.
    */
   public static LimitOneOfPrefixedCssClass of(String prefix, CssClass cssClass) {
-    return of(
-        new HashSet<>() {
-          {
-            add(prefix);
-          }
-        },
-        cssClass);
+    return of(prefixOf(prefix), cssClass);
   }
 
   /**
@@ -112,6 +117,17 @@ public class LimitOneOfPrefixedCssClass implements CssClass {
     return of(new HashSet<>(Arrays.asList(prefixes)), cssClass);
   }
 
+  /**
+   * Returns a shared, immutable single prefix set, so that the thousands of constants using the
+   * same prefix do not each allocate their own set.
+   *
+   * @param prefix The prefix.
+   * @return the interned set containing only the specified prefix.
+   */
+  private static Set<String> prefixOf(String prefix) {
+    return PREFIXES.computeIfAbsent(prefix, Collections::singleton);
+  }
+
   /**
    * Creates a PostfixCssClass with the specified base CSS class name and string postfix.
    *
@@ -130,11 +146,11 @@ public class LimitOneOfPrefixedCssClass implements CssClass {
    */
   @Override
   public void remove(Element element) {
-    CompositeCssClass.of(element).getCssClasses().stream()
-        .filter(
-            className ->
-                prefixes.stream().anyMatch(prefix -> className.getCssClass().startsWith(prefix)))
-        .forEach(css -> css.remove(element));
+    // remove(String... arr) is not supported in IE11, so looping over the list solving the problem
+    for (String applied : appliedClasses(element)) {
+      element.classList.remove(applied);
+    }
+    unIndex(element);
   }
 
   /**
@@ -144,8 +160,127 @@ public class LimitOneOfPrefixedCssClass implements CssClass {
    */
   @Override
   public void apply(Element element) {
-    remove(element);
+    String target = getCssClass();
+    for (String applied : appliedClasses(element)) {
+      if (!applied.equals(target)) {
+        element.classList.remove(applied);
+      }
+    }
     this.cssClass.apply(element);
+    index(element);
+  }
+
+  /**
+   * Finds the css classes of this group currently applied to the element.
+   *
+   * @param element The DOM element to check.
+   * @return the list of applied css classes that starts with any of the group prefixes.
+   */
+  List<String> appliedClasses(Element element) {
+    List<String> applied = new ArrayList<>();
+    JsPropertyMap<String> index = getIndex(element, false);
+    boolean indexed = nonNull(index);
+    if (indexed) {
+      String classes = element.getAttribute("class");
+      for (String prefix : prefixes) {
+        String indexedClass = index.get(prefix);
+        if (isNull(indexedClass)
+            || !element.classList.contains(indexedClass)
+            || !isOnlyPrefixed(classes, prefix)) {
+          indexed = false;
+          break;
+        }
+        if (!applied.contains(indexedClass)) {
+          applied.add(indexedClass);
+        }
+      }
+    }
+    if (!indexed) {
+      applied.clear();
+      DOMTokenList classList = element.classList;
+      for (int i = 0; i < classList.length; i++) {
+        String className = classList.item(i);
+        if (matchesPrefix(className)) {
+          applied.add(className);
+        }
+      }
+    }
+    return applied;
+  }
+
+  /**
+   * Records this group css class as the applied class for all of its prefixes on the element, this
+   * should be called after all the element class changes are done.
+   *
+   * @param element The DOM element.
+   */
+  void index(Element element) {
+    JsPropertyMap<String> index = getIndex(element, true);
+    String target = getCssClass();
+    for (String prefix : prefixes) {
+      index.set(prefix, target);
+    }
+  }
+
+  /**
+   * Removes the index entries of this group prefixes from the element, this should be called after
+   * all the element class changes are done.
+   *
+   * @param element The DOM element.
+   */
+  void unIndex(Element element) {
+    JsPropertyMap<String> index = getIndex(element, false);
+    if (nonNull(index)) {
+      for (String prefix : prefixes) {
+        index.delete(prefix);
+      }
+    }
+  }
+
+  /**
+   * Checks that the prefix occurs only once in the class attribute, that is the indexed class is
+   * the only class of the element that could belong to the group. This is a plain string search, a
+   * prefix occurring in the middle of an unrelated class only makes it fall back to the scan.
+   *
+   * @param classes The element class attribute.
+   * @param prefix The group prefix.
+   * @return true if the prefix occurs at most once.
+   */
+  private static boolean isOnlyPrefixed(String classes, String prefix) {
+    if (isNull(classes)) {
+      return true;
+    }
+    int first = classes.indexOf(prefix);
+    return first < 0 || classes.indexOf(prefix, first + 1) < 0;
+  }
+
+  private boolean matchesPrefix(String className) {
+    for (String prefix : prefixes) {
+      if (className.startsWith(prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static JsPropertyMap<String> getIndex(Element element, boolean create) {
+    JsPropertyMap<Object> elementProperties = Js.asPropertyMap(element);
+    if (elementProperties.has(APPLIED_INDEX_KEY)) {
+      return Js.uncheckedCast(elementProperties.get(APPLIED_INDEX_KEY));
+    }
+    if (create) {
+      JsPropertyMap<String> index = JsPropertyMap.of();
+      elementProperties.set(APPLIED_INDEX_KEY, index);
+      return index;
+    }
+    return null;
+  }
+
+  /**
+   * @return the prefixes of the css classes group replaced by this css class.
+   */
+  public Set<String> getPrefixes() {
+    return prefixes;
   }
 
   @Override
@@ -18,4687 +18,4698 @@ package org.dominokit.domino.ui.style;
 
 public interface SpacingCss {
 
-  CssClass dui_filler = () -> "dui-filler";
+  CssClass dui_filler = CssClass.of("dui-filler");
 
-  CssClass dui_hide_label = () -> "dui-hide-label";
+  CssClass dui_hide_label = CssClass.of("dui-hide-label");
 
-  CssClass dui_bottom_0_5 = () -> "dui-bottom-0_5";
+  CssClass dui_bottom_0_5 = CssClass.of("dui-bottom-0_5");
 
-  CssClass dui_bottom_1 = () -> "dui-bottom-1";
+  CssClass dui_bottom_1 = CssClass.of("dui-bottom-1");
 
-  CssClass dui_bottom_10 = () -> "dui-bottom-10";
+  CssClass dui_bottom_10 = CssClass.of("dui-bottom-10");
 
-  CssClass dui_bottom_11 = () -> "dui-bottom-11";
+  CssClass dui_bottom_11 = CssClass.of("dui-bottom-11");
 
-  CssClass dui_bottom_12 = () -> "dui-bottom-12";
+  CssClass dui_bottom_12 = CssClass.of("dui-bottom-12");
 
-  CssClass dui_bottom_14 = () -> "dui-bottom-14";
+  CssClass dui_bottom_14 = CssClass.of("dui-bottom-14");
 
-  CssClass dui_bottom_16 = () -> "dui-bottom-16";
+  CssClass dui_bottom_16 = CssClass.of("dui-bottom-16");
 
-  CssClass dui_bottom_1_2p = () -> "dui-bottom-1_2p";
+  CssClass dui_bottom_1_2p = CssClass.of("dui-bottom-1_2p");
 
-  CssClass dui_bottom_1_3p = () -> "dui-bottom-1_3p";
+  CssClass dui_bottom_1_3p = CssClass.of("dui-bottom-1_3p");
 
-  CssClass dui_bottom_1_4p = () -> "dui-bottom-1_4p";
+  CssClass dui_bottom_1_4p = CssClass.of("dui-bottom-1_4p");
 
-  CssClass dui_bottom_1_5 = () -> "dui-bottom-1_5";
+  CssClass dui_bottom_1_5 = CssClass.of("dui-bottom-1_5");
 
-  CssClass dui_bottom_2 = () -> "dui-bottom-2";
+  CssClass dui_bottom_2 = CssClass.of("dui-bottom-2");
 
-  CssClass dui_bottom_20 = () -> "dui-bottom-20";
+  CssClass dui_bottom_20 = CssClass.of("dui-bottom-20");
 
-  CssClass dui_bottom_24 = () -> "dui-bottom-24";
+  CssClass dui_bottom_24 = CssClass.of("dui-bottom-24");
 
-  CssClass dui_bottom_28 = () -> "dui-bottom-28";
+  CssClass dui_bottom_28 = CssClass.of("dui-bottom-28");
 
-  CssClass dui_bottom_2_3p = () -> "dui-bottom-2_3p";
+  CssClass dui_bottom_2_3p = CssClass.of("dui-bottom-2_3p");
 
-  CssClass dui_bottom_2_5 = () -> "dui-bottom-2_5";
+  CssClass dui_bottom_2_5 = CssClass.of("dui-bottom-2_5");
 
-  CssClass dui_bottom_2px = () -> "dui-bottom-2px";
+  CssClass dui_bottom_2px = CssClass.of("dui-bottom-2px");
 
-  CssClass dui_bottom_3 = () -> "dui-bottom-3";
+  CssClass dui_bottom_3 = CssClass.of("dui-bottom-3");
 
-  CssClass dui_bottom_32 = () -> "dui-bottom-32";
+  CssClass dui_bottom_32 = CssClass.of("dui-bottom-32");
 
-  CssClass dui_bottom_36 = () -> "dui-bottom-36";
+  CssClass dui_bottom_36 = CssClass.of("dui-bottom-36");
 
-  CssClass dui_bottom_3_4p = () -> "dui-bottom-3_4p";
+  CssClass dui_bottom_3_4p = CssClass.of("dui-bottom-3_4p");
 
-  CssClass dui_bottom_3_5 = () -> "dui-bottom-3_5";
+  CssClass dui_bottom_3_5 = CssClass.of("dui-bottom-3_5");
 
-  CssClass dui_bottom_4 = () -> "dui-bottom-4";
+  CssClass dui_bottom_4 = CssClass.of("dui-bottom-4");
 
-  CssClass dui_bottom_40 = () -> "dui-bottom-40";
+  CssClass dui_bottom_40 = CssClass.of("dui-bottom-40");
 
-  CssClass dui_bottom_44 = () -> "dui-bottom-44";
+  CssClass dui_bottom_44 = CssClass.of("dui-bottom-44");
 
-  CssClass dui_bottom_48 = () -> "dui-bottom-48";
+  CssClass dui_bottom_48 = CssClass.of("dui-bottom-48");
 
-  CssClass dui_bottom_4px = () -> "dui-bottom-4px";
+  CssClass dui_bottom_4px = CssClass.of("dui-bottom-4px");
 
-  CssClass dui_bottom_5 = () -> "dui-bottom-5";
+  CssClass dui_bottom_5 = CssClass.of("dui-bottom-5");
 
-  CssClass dui_bottom_52 = () -> "dui-bottom-52";
+  CssClass dui_bottom_52 = CssClass.of("dui-bottom-52");
 
-  CssClass dui_bottom_56 = () -> "dui-bottom-56";
+  CssClass dui_bottom_56 = CssClass.of("dui-bottom-56");
 
-  CssClass dui_bottom_6 = () -> "dui-bottom-6";
+  CssClass dui_bottom_6 = CssClass.of("dui-bottom-6");
 
-  CssClass dui_bottom_60 = () -> "dui-bottom-60";
+  CssClass dui_bottom_60 = CssClass.of("dui-bottom-60");
 
-  CssClass dui_bottom_64 = () -> "dui-bottom-64";
+  CssClass dui_bottom_64 = CssClass.of("dui-bottom-64");
 
-  CssClass dui_bottom_7 = () -> "dui-bottom-7";
+  CssClass dui_bottom_7 = CssClass.of("dui-bottom-7");
 
-  CssClass dui_bottom_72 = () -> "dui-bottom-72";
+  CssClass dui_bottom_72 = CssClass.of("dui-bottom-72");
 
-  CssClass dui_bottom_8 = () -> "dui-bottom-8";
+  CssClass dui_bottom_8 = CssClass.of("dui-bottom-8");
 
-  CssClass dui_bottom_80 = () -> "dui-bottom-80";
+  CssClass dui_bottom_80 = CssClass.of("dui-bottom-80");
 
-  CssClass dui_bottom_8px = () -> "dui-bottom-8px";
+  CssClass dui_bottom_8px = CssClass.of("dui-bottom-8px");
 
-  CssClass dui_bottom_9 = () -> "dui-bottom-9";
+  CssClass dui_bottom_9 = CssClass.of("dui-bottom-9");
 
-  CssClass dui_bottom_96 = () -> "dui-bottom-96";
+  CssClass dui_bottom_96 = CssClass.of("dui-bottom-96");
 
-  CssClass dui_bottom_auto = () -> "dui-bottom-auto";
+  CssClass dui_bottom_auto = CssClass.of("dui-bottom-auto");
 
-  CssClass dui_bottom_full = () -> "dui-bottom-full";
+  CssClass dui_bottom_full = CssClass.of("dui-bottom-full");
 
-  CssClass dui_bottom_px = () -> "dui-bottom-px";
+  CssClass dui_bottom_px = CssClass.of("dui-bottom-px");
 
-  CssClass dui_flex_basis_0 = () -> "dui-basis-0";
+  CssClass dui_flex_basis_0 = CssClass.of("dui-basis-0");
 
-  CssClass dui_flex_basis_0_5 = () -> "dui-basis-0_5";
+  CssClass dui_flex_basis_0_5 = CssClass.of("dui-basis-0_5");
 
-  CssClass dui_flex_basis_1 = () -> "dui-basis-1";
+  CssClass dui_flex_basis_1 = CssClass.of("dui-basis-1");
 
-  CssClass dui_flex_basis_10 = () -> "dui-basis-10";
+  CssClass dui_flex_basis_10 = CssClass.of("dui-basis-10");
 
-  CssClass dui_flex_basis_11 = () -> "dui-basis-11";
+  CssClass dui_flex_basis_11 = CssClass.of("dui-basis-11");
 
-  CssClass dui_flex_basis_12 = () -> "dui-basis-12";
+  CssClass dui_flex_basis_12 = CssClass.of("dui-basis-12");
 
-  CssClass dui_flex_basis_14 = () -> "dui-basis-14";
+  CssClass dui_flex_basis_14 = CssClass.of("dui-basis-14");
 
-  CssClass dui_flex_basis_16 = () -> "dui-basis-16";
+  CssClass dui_flex_basis_16 = CssClass.of("dui-basis-16");
 
-  CssClass dui_flex_basis_1_2p = () -> "dui-basis-1_2p";
+  CssClass dui_flex_basis_1_2p = CssClass.of("dui-basis-1_2p");
 
-  CssClass dui_flex_basis_1_3p = () -> "dui-basis-1_3p";
+  CssClass dui_flex_basis_1_3p = CssClass.of("dui-basis-1_3p");
 
-  CssClass dui_flex_basis_1_4p = () -> "dui-basis-1_4p";
+  CssClass dui_flex_basis_1_4p = CssClass.of("dui-basis-1_4p");
 
-  CssClass dui_flex_basis_1_5 = () -> "dui-basis-1_5";
+  CssClass dui_flex_basis_1_5 = CssClass.of("dui-basis-1_5");
 
-  CssClass dui_flex_basis_2 = () -> "dui-basis-2";
+  CssClass dui_flex_basis_2 = CssClass.of("dui-basis-2");
 
-  CssClass dui_flex_basis_20 = () -> "dui-basis-20";
+  CssClass dui_flex_basis_20 = CssClass.of("dui-basis-20");
 
-  CssClass dui_flex_basis_24 = () -> "dui-basis-24";
+  CssClass dui_flex_basis_24 = CssClass.of("dui-basis-24");
 
-  CssClass dui_flex_basis_28 = () -> "dui-basis-28";
+  CssClass dui_flex_basis_28 = CssClass.of("dui-basis-28");
 
-  CssClass dui_flex_basis_2_3p = () -> "dui-basis-2_3p";
+  CssClass dui_flex_basis_2_3p = CssClass.of("dui-basis-2_3p");
 
-  CssClass dui_flex_basis_2_5 = () -> "dui-basis-2_5";
+  CssClass dui_flex_basis_2_5 = CssClass.of("dui-basis-2_5");
 
-  CssClass dui_flex_basis_2px = () -> "dui-basis-2px";
+  CssClass dui_flex_basis_2px = CssClass.of("dui-basis-2px");
 
-  CssClass dui_flex_basis_3 = () -> "dui-basis-3";
+  CssClass dui_flex_basis_3 = CssClass.of("dui-basis-3");
 
-  CssClass dui_flex_basis_32 = () -> "dui-basis-32";
+  CssClass dui_flex_basis_32 = CssClass.of("dui-basis-32");
 
-  CssClass dui_flex_basis_36 = () -> "dui-basis-36";
+  CssClass dui_flex_basis_36 = CssClass.of("dui-basis-36");
 
-  CssClass dui_flex_basis_3_4p = () -> "dui-basis-3_4p";
+  CssClass dui_flex_basis_3_4p = CssClass.of("dui-basis-3_4p");
 
-  CssClass dui_flex_basis_3_5 = () -> "dui-basis-3_5";
+  CssClass dui_flex_basis_3_5 = CssClass.of("dui-basis-3_5");
 
-  CssClass dui_flex_basis_4 = () -> "dui-basis-4";
+  CssClass dui_flex_basis_4 = CssClass.of("dui-basis-4");
 
-  CssClass dui_flex_basis_40 = () -> "dui-basis-40";
+  CssClass dui_flex_basis_40 = CssClass.of("dui-basis-40");
 
-  CssClass dui_flex_basis_44 = () -> "dui-basis-44";
+  CssClass dui_flex_basis_44 = CssClass.of("dui-basis-44");
 
-  CssClass dui_flex_basis_48 = () -> "dui-basis-48";
+  CssClass dui_flex_basis_48 = CssClass.of("dui-basis-48");
 
-  CssClass dui_flex_basis_4px = () -> "dui-basis-4px";
+  CssClass dui_flex_basis_4px = CssClass.of("dui-basis-4px");
 
-  CssClass dui_flex_basis_5 = () -> "dui-basis-5";
+  CssClass dui_flex_basis_5 = CssClass.of("dui-basis-5");
 
-  CssClass dui_flex_basis_52 = () -> "dui-basis-52";
+  CssClass dui_flex_basis_52 = CssClass.of("dui-basis-52");
 
-  CssClass dui_flex_basis_56 = () -> "dui-basis-56";
+  CssClass dui_flex_basis_56 = CssClass.of("dui-basis-56");
 
-  CssClass dui_flex_basis_6 = () -> "dui-basis-6";
+  CssClass dui_flex_basis_6 = CssClass.of("dui-basis-6");
 
-  CssClass dui_flex_basis_60 = () -> "dui-basis-60";
+  CssClass dui_flex_basis_60 = CssClass.of("dui-basis-60");
 
-  CssClass dui_flex_basis_64 = () -> "dui-basis-64";
+  CssClass dui_flex_basis_64 = CssClass.of("dui-basis-64");
 
-  CssClass dui_flex_basis_7 = () -> "dui-basis-7";
+  CssClass dui_flex_basis_7 = CssClass.of("dui-basis-7");
 
-  CssClass dui_flex_basis_72 = () -> "dui-basis-72";
+  CssClass dui_flex_basis_72 = CssClass.of("dui-basis-72");
 
-  CssClass dui_flex_basis_8 = () -> "dui-basis-8";
+  CssClass dui_flex_basis_8 = CssClass.of("dui-basis-8");
 
-  CssClass dui_flex_basis_80 = () -> "dui-basis-80";
+  CssClass dui_flex_basis_80 = CssClass.of("dui-basis-80");
 
-  CssClass dui_flex_basis_8px = () -> "dui-basis-8px";
+  CssClass dui_flex_basis_8px = CssClass.of("dui-basis-8px");
 
-  CssClass dui_flex_basis_9 = () -> "dui-basis-9";
+  CssClass dui_flex_basis_9 = CssClass.of("dui-basis-9");
 
-  CssClass dui_flex_basis_96 = () -> "dui-basis-96";
+  CssClass dui_flex_basis_96 = CssClass.of("dui-basis-96");
 
-  CssClass dui_flex_basis_full = () -> "dui-basis-full";
+  CssClass dui_flex_basis_full = CssClass.of("dui-basis-full");
 
-  CssClass dui_flex_basis_px = () -> "dui-basis-px";
+  CssClass dui_flex_basis_px = CssClass.of("dui-basis-px");
 
-  CssClass dui_gap_0 = () -> "dui-gap-0";
+  CssClass dui_gap_0 = CssClass.of("dui-gap-0");
 
-  CssClass dui_gap_0_5 = () -> "dui-gap-0_5";
+  CssClass dui_gap_0_5 = CssClass.of("dui-gap-0_5");
 
-  CssClass dui_gap_1 = () -> "dui-gap-1";
+  CssClass dui_gap_1 = CssClass.of("dui-gap-1");
 
-  CssClass dui_gap_10 = () -> "dui-gap-10";
+  CssClass dui_gap_10 = CssClass.of("dui-gap-10");
 
-  CssClass dui_gap_11 = () -> "dui-gap-11";
+  CssClass dui_gap_11 = CssClass.of("dui-gap-11");
 
-  CssClass dui_gap_12 = () -> "dui-gap-12";
+  CssClass dui_gap_12 = CssClass.of("dui-gap-12");
 
-  CssClass dui_gap_14 = () -> "dui-gap-14";
+  CssClass dui_gap_14 = CssClass.of("dui-gap-14");
 
-  CssClass dui_gap_16 = () -> "dui-gap-16";
+  CssClass dui_gap_16 = CssClass.of("dui-gap-16");
 
-  CssClass dui_gap_1_2p = () -> "dui-gap-1_2p";
+  CssClass dui_gap_1_2p = CssClass.of("dui-gap-1_2p");
 
-  CssClass dui_gap_1_3p = () -> "dui-gap-1_3p";
+  CssClass dui_gap_1_3p = CssClass.of("dui-gap-1_3p");
 
-  CssClass dui_gap_1_4p = () -> "dui-gap-1_4p";
+  CssClass dui_gap_1_4p = CssClass.of("dui-gap-1_4p");
 
-  CssClass dui_gap_1_5 = () -> "dui-gap-1_5";
+  CssClass dui_gap_1_5 = CssClass.of("dui-gap-1_5");
 
-  CssClass dui_gap_2 = () -> "dui-gap-2";
+  CssClass dui_gap_2 = CssClass.of("dui-gap-2");
 
-  CssClass dui_gap_20 = () -> "dui-gap-20";
+  CssClass dui_gap_20 = CssClass.of("dui-gap-20");
 
-  CssClass dui_gap_24 = () -> "dui-gap-24";
+  CssClass dui_gap_24 = CssClass.of("dui-gap-24");
 
-  CssClass dui_gap_28 = () -> "dui-gap-28";
+  CssClass dui_gap_28 = CssClass.of("dui-gap-28");
 
-  CssClass dui_gap_2_3p = () -> "dui-gap-2_3p";
+  CssClass dui_gap_2_3p = CssClass.of("dui-gap-2_3p");
 
-  CssClass dui_gap_2_5 = () -> "dui-gap-2_5";
+  CssClass dui_gap_2_5 = CssClass.of("dui-gap-2_5");
 
-  CssClass dui_gap_2px = () -> "dui-gap-2px";
+  CssClass dui_gap_2px = CssClass.of("dui-gap-2px");
 
-  CssClass dui_gap_3 = () -> "dui-gap-3";
+  CssClass dui_gap_3 = CssClass.of("dui-gap-3");
 
-  CssClass dui_gap_32 = () -> "dui-gap-32";
+  CssClass dui_gap_32 = CssClass.of("dui-gap-32");
 
-  CssClass dui_gap_36 = () -> "dui-gap-36";
+  CssClass dui_gap_36 = CssClass.of("dui-gap-36");
 
-  CssClass dui_gap_3_4p = () -> "dui-gap-3_4p";
+  CssClass dui_gap_3_4p = CssClass.of("dui-gap-3_4p");
 
-  CssClass dui_gap_3_5 = () -> "dui-gap-3_5";
+  CssClass dui_gap_3_5 = CssClass.of("dui-gap-3_5");
 
-  CssClass dui_gap_4 = () -> "dui-gap-4";
+  CssClass dui_gap_4 = CssClass.of("dui-gap-4");
 
-  CssClass dui_gap_40 = () -> "dui-gap-40";
+  CssClass dui_gap_40 = CssClass.of("dui-gap-40");
 
-  CssClass dui_gap_44 = () -> "dui-gap-44";
+  CssClass dui_gap_44 = CssClass.of("dui-gap-44");
 
-  CssClass dui_gap_48 = () -> "dui-gap-48";
+  CssClass dui_gap_48 = CssClass.of("dui-gap-48");
 
-  CssClass dui_gap_4px = () -> "dui-gap-4px";
+  CssClass dui_gap_4px = CssClass.of("dui-gap-4px");
 
-  CssClass dui_gap_5 = () -> "dui-gap-5";
+  CssClass dui_gap_5 = CssClass.of("dui-gap-5");
 
-  CssClass dui_gap_52 = () -> "dui-gap-52";
+  CssClass dui_gap_52 = CssClass.of("dui-gap-52");
 
-  CssClass dui_gap_56 = () -> "dui-gap-56";
+  CssClass dui_gap_56 = CssClass.of("dui-gap-56");
 
-  CssClass dui_gap_6 = () -> "dui-gap-6";
+  CssClass dui_gap_6 = CssClass.of("dui-gap-6");
 
-  CssClass dui_gap_60 = () -> "dui-gap-60";
+  CssClass dui_gap_60 = CssClass.of("dui-gap-60");
 
-  CssClass dui_gap_64 = () -> "dui-gap-64";
+  CssClass dui_gap_64 = CssClass.of("dui-gap-64");
 
-  CssClass dui_gap_7 = () -> "dui-gap-7";
+  CssClass dui_gap_7 = CssClass.of("dui-gap-7");
 
-  CssClass dui_gap_72 = () -> "dui-gap-72";
+  CssClass dui_gap_72 = CssClass.of("dui-gap-72");
 
-  CssClass dui_gap_8 = () -> "dui-gap-8";
+  CssClass dui_gap_8 = CssClass.of("dui-gap-8");
 
-  CssClass dui_gap_80 = () -> "dui-gap-80";
+  CssClass dui_gap_80 = CssClass.of("dui-gap-80");
 
-  CssClass dui_gap_8px = () -> "dui-gap-8px";
+  CssClass dui_gap_8px = CssClass.of("dui-gap-8px");
 
-  CssClass dui_gap_9 = () -> "dui-gap-9";
+  CssClass dui_gap_9 = CssClass.of("dui-gap-9");
 
-  CssClass dui_gap_96 = () -> "dui-gap-96";
+  CssClass dui_gap_96 = CssClass.of("dui-gap-96");
 
-  CssClass dui_gap_full = () -> "dui-gap-full";
+  CssClass dui_gap_full = CssClass.of("dui-gap-full");
 
-  CssClass dui_gap_px = () -> "dui-gap-px";
+  CssClass dui_gap_px = CssClass.of("dui-gap-px");
 
-  CssClass dui_gap_x_0 = () -> "dui-gap-x-0";
+  CssClass dui_gap_x_0 = CssClass.of("dui-gap-x-0");
 
-  CssClass dui_gap_x_0_5 = () -> "dui-gap-x-0_5";
+  CssClass dui_gap_x_0_5 = CssClass.of("dui-gap-x-0_5");
 
-  CssClass dui_gap_x_1 = () -> "dui-gap-x-1";
+  CssClass dui_gap_x_1 = CssClass.of("dui-gap-x-1");
 
-  CssClass dui_gap_x_10 = () -> "dui-gap-x-10";
+  CssClass dui_gap_x_10 = CssClass.of("dui-gap-x-10");
 
-  CssClass dui_gap_x_11 = () -> "dui-gap-x-11";
+  CssClass dui_gap_x_11 = CssClass.of("dui-gap-x-11");
 
-  CssClass dui_gap_x_12 = () -> "dui-gap-x-12";
+  CssClass dui_gap_x_12 = CssClass.of("dui-gap-x-12");
 
-  CssClass dui_gap_x_14 = () -> "dui-gap-x-14";
+  CssClass dui_gap_x_14 = CssClass.of("dui-gap-x-14");
 
-  CssClass dui_gap_x_16 = () -> "dui-gap-x-16";
+  CssClass dui_gap_x_16 = CssClass.of("dui-gap-x-16");
 
-  CssClass dui_gap_x_1_2p = () -> "dui-gap-x-1_2p";
+  CssClass dui_gap_x_1_2p = CssClass.of("dui-gap-x-1_2p");
 
-  CssClass dui_gap_x_1_3p = () -> "dui-gap-x-1_3p";
+  CssClass dui_gap_x_1_3p = CssClass.of("dui-gap-x-1_3p");
 
-  CssClass dui_gap_x_1_4p = () -> "dui-gap-x-1_4p";
+  CssClass dui_gap_x_1_4p = CssClass.of("dui-gap-x-1_4p");
 
-  CssClass dui_gap_x_1_5 = () -> "dui-gap-x-1_5";
+  CssClass dui_gap_x_1_5 = CssClass.of("dui-gap-x-1_5");
 
-  CssClass dui_gap_x_2 = () -> "dui-gap-x-2";
+  CssClass dui_gap_x_2 = CssClass.of("dui-gap-x-2");
 
-  CssClass dui_gap_x_20 = () -> "dui-gap-x-20";
+  CssClass dui_gap_x_20 = CssClass.of("dui-gap-x-20");
 
-  CssClass dui_gap_x_24 = () -> "dui-gap-x-24";
+  CssClass dui_gap_x_24 = CssClass.of("dui-gap-x-24");
 
-  CssClass dui_gap_x_28 = () -> "dui-gap-x-28";
+  CssClass dui_gap_x_28 = CssClass.of("dui-gap-x-28");
 
-  CssClass dui_gap_x_2_3p = () -> "dui-gap-x-2_3p";
+  CssClass dui_gap_x_2_3p = CssClass.of("dui-gap-x-2_3p");
 
-  CssClass dui_gap_x_2_5 = () -> "dui-gap-x-2_5";
+  CssClass dui_gap_x_2_5 = CssClass.of("dui-gap-x-2_5");
 
-  CssClass dui_gap_x_2px = () -> "dui-gap-x-2px";
+  CssClass dui_gap_x_2px = CssClass.of("dui-gap-x-2px");
 
-  CssClass dui_gap_x_3 = () -> "dui-gap-x-3";
+  CssClass dui_gap_x_3 = CssClass.of("dui-gap-x-3");
 
-  CssClass dui_gap_x_32 = () -> "dui-gap-x-32";
+  CssClass dui_gap_x_32 = CssClass.of("dui-gap-x-32");
 
-  CssClass dui_gap_x_36 = () -> "dui-gap-x-36";
+  CssClass dui_gap_x_36 = CssClass.of("dui-gap-x-36");
 
-  CssClass dui_gap_x_3_4p = () -> "dui-gap-x-3_4p";
+  CssClass dui_gap_x_3_4p = CssClass.of("dui-gap-x-3_4p");
 
-  CssClass dui_gap_x_3_5 = () -> "dui-gap-x-3_5";
+  CssClass dui_gap_x_3_5 = CssClass.of("dui-gap-x-3_5");
 
-  CssClass dui_gap_x_4 = () -> "dui-gap-x-4";
+  CssClass dui_gap_x_4 = CssClass.of("dui-gap-x-4");
 
-  CssClass dui_gap_x_40 = () -> "dui-gap-x-40";
+  CssClass dui_gap_x_40 = CssClass.of("dui-gap-x-40");
 
-  CssClass dui_gap_x_44 = () -> "dui-gap-x-44";
+  CssClass dui_gap_x_44 = CssClass.of("dui-gap-x-44");
 
-  CssClass dui_gap_x_48 = () -> "dui-gap-x-48";
+  CssClass dui_gap_x_48 = CssClass.of("dui-gap-x-48");
 
-  CssClass dui_gap_x_4px = () -> "dui-gap-x-4px";
+  CssClass dui_gap_x_4px = CssClass.of("dui-gap-x-4px");
 
-  CssClass dui_gap_x_5 = () -> "dui-gap-x-5";
+  CssClass dui_gap_x_5 = CssClass.of("dui-gap-x-5");
 
-  CssClass dui_gap_x_52 = () -> "dui-gap-x-52";
+  CssClass dui_gap_x_52 = CssClass.of("dui-gap-x-52");
 
-  CssClass dui_gap_x_56 = () -> "dui-gap-x-56";
+  CssClass dui_gap_x_56 = CssClass.of("dui-gap-x-56");
 
-  CssClass dui_gap_x_6 = () -> "dui-gap-x-6";
+  CssClass dui_gap_x_6 = CssClass.of("dui-gap-x-6");
 
-  CssClass dui_gap_x_60 = () -> "dui-gap-x-60";
+  CssClass dui_gap_x_60 = CssClass.of("dui-gap-x-60");
 
-  CssClass dui_gap_x_64 = () -> "dui-gap-x-64";
+  CssClass dui_gap_x_64 = CssClass.of("dui-gap-x-64");
 
-  CssClass dui_gap_x_7 = () -> "dui-gap-x-7";
+  CssClass dui_gap_x_7 = CssClass.of("dui-gap-x-7");
 
-  CssClass dui_gap_x_72 = () -> "dui-gap-x-72";
+  CssClass dui_gap_x_72 = CssClass.of("dui-gap-x-72");
 
-  CssClass dui_gap_x_8 = () -> "dui-gap-x-8";
+  CssClass dui_gap_x_8 = CssClass.of("dui-gap-x-8");
 
-  CssClass dui_gap_x_80 = () -> "dui-gap-x-80";
+  CssClass dui_gap_x_80 = CssClass.of("dui-gap-x-80");
 
-  CssClass dui_gap_x_8px = () -> "dui-gap-x-8px";
+  CssClass dui_gap_x_8px = CssClass.of("dui-gap-x-8px");
 
-  CssClass dui_gap_x_9 = () -> "dui-gap-x-9";
+  CssClass dui_gap_x_9 = CssClass.of("dui-gap-x-9");
 
-  CssClass dui_gap_x_96 = () -> "dui-gap-x-96";
+  CssClass dui_gap_x_96 = CssClass.of("dui-gap-x-96");
 
-  CssClass dui_gap_x_full = () -> "dui-gap-x-full";
+  CssClass dui_gap_x_full = CssClass.of("dui-gap-x-full");
 
-  CssClass dui_gap_x_px = () -> "dui-gap-x-px";
+  CssClass dui_gap_x_px = CssClass.of("dui-gap-x-px");
 
-  CssClass dui_gap_y_0 = () -> "dui-gap-y-0";
+  CssClass dui_gap_y_0 = CssClass.of("dui-gap-y-0");
 
-  CssClass dui_gap_y_0_5 = () -> "dui-gap-y-0_5";
+  CssClass dui_gap_y_0_5 = CssClass.of("dui-gap-y-0_5");
 
-  CssClass dui_gap_y_1 = () -> "dui-gap-y-1";
+  CssClass dui_gap_y_1 = CssClass.of("dui-gap-y-1");
 
-  CssClass dui_gap_y_10 = () -> "dui-gap-y-10";
+  CssClass dui_gap_y_10 = CssClass.of("dui-gap-y-10");
 
-  CssClass dui_gap_y_11 = () -> "dui-gap-y-11";
+  CssClass dui_gap_y_11 = CssClass.of("dui-gap-y-11");
 
-  CssClass dui_gap_y_12 = () -> "dui-gap-y-12";
+  CssClass dui_gap_y_12 = CssClass.of("dui-gap-y-12");
 
-  CssClass dui_gap_y_14 = () -> "dui-gap-y-14";
+  CssClass dui_gap_y_14 = CssClass.of("dui-gap-y-14");
 
-  CssClass dui_gap_y_16 = () -> "dui-gap-y-16";
+  CssClass dui_gap_y_16 = CssClass.of("dui-gap-y-16");
 
-  CssClass dui_gap_y_1_2p = () -> "dui-gap-y-1_2p";
+  CssClass dui_gap_y_1_2p = CssClass.of("dui-gap-y-1_2p");
 
-  CssClass dui_gap_y_1_3p = () -> "dui-gap-y-1_3p";
+  CssClass dui_gap_y_1_3p = CssClass.of("dui-gap-y-1_3p");
 
-  CssClass dui_gap_y_1_4p = () -> "dui-gap-y-1_4p";
+  CssClass dui_gap_y_1_4p = CssClass.of("dui-gap-y-1_4p");
 
-  CssClass dui_gap_y_1_5 = () -> "dui-gap-y-1_5";
+  CssClass dui_gap_y_1_5 = CssClass.of("dui-gap-y-1_5");
 
-  CssClass dui_gap_y_2 = () -> "dui-gap-y-2";
+  CssClass dui_gap_y_2 = CssClass.of("dui-gap-y-2");
 
-  CssClass dui_gap_y_20 = () -> "dui-gap-y-20";
+  CssClass dui_gap_y_20 = CssClass.of("dui-gap-y-20");
 
-  CssClass dui_gap_y_24 = () -> "dui-gap-y-24";
+  CssClass dui_gap_y_24 = CssClass.of("dui-gap-y-24");
 
-  CssClass dui_gap_y_28 = () -> "dui-gap-y-28";
+  CssClass dui_gap_y_28 = CssClass.of("dui-gap-y-28");
 
-  CssClass dui_gap_y_2_3p = () -> "dui-gap-y-2_3p";
+  CssClass dui_gap_y_2_3p = CssClass.of("dui-gap-y-2_3p");
 
-  CssClass dui_gap_y_2_5 = () -> "dui-gap-y-2_5";
+  CssClass dui_gap_y_2_5 = CssClass.of("dui-gap-y-2_5");
 
-  CssClass dui_gap_y_2px = () -> "dui-gap-y-2px";
+  CssClass dui_gap_y_2px = CssClass.of("dui-gap-y-2px");
 
-  CssClass dui_gap_y_3 = () -> "dui-gap-y-3";
+  CssClass dui_gap_y_3 = CssClass.of("dui-gap-y-3");
 
-  CssClass dui_gap_y_32 = () -> "dui-gap-y-32";
+  CssClass dui_gap_y_32 = CssClass.of("dui-gap-y-32");
 
-  CssClass dui_gap_y_36 = () -> "dui-gap-y-36";
+  CssClass dui_gap_y_36 = CssClass.of("dui-gap-y-36");
 
-  CssClass dui_gap_y_3_4p = () -> "dui-gap-y-3_4p";
+  CssClass dui_gap_y_3_4p = CssClass.of("dui-gap-y-3_4p");
 
-  CssClass dui_gap_y_3_5 = () -> "dui-gap-y-3_5";
+  CssClass dui_gap_y_3_5 = CssClass.of("dui-gap-y-3_5");
 
-  CssClass dui_gap_y_4 = () -> "dui-gap-y-4";
+  CssClass dui_gap_y_4 = CssClass.of("dui-gap-y-4");
 
-  CssClass dui_gap_y_40 = () -> "dui-gap-y-40";
+  CssClass dui_gap_y_40 = CssClass.of("dui-gap-y-40");
 
-  CssClass dui_gap_y_44 = () -> "dui-gap-y-44";
+  CssClass dui_gap_y_44 = CssClass.of("dui-gap-y-44");
 
-  CssClass dui_gap_y_48 = () -> "dui-gap-y-48";
+  CssClass dui_gap_y_48 = CssClass.of("dui-gap-y-48");
 
-  CssClass dui_gap_y_4px = () -> "dui-gap-y-4px";
+  CssClass dui_gap_y_4px = CssClass.of("dui-gap-y-4px");
 
-  CssClass dui_gap_y_5 = () -> "dui-gap-y-5";
+  CssClass dui_gap_y_5 = CssClass.of("dui-gap-y-5");
 
-  CssClass dui_gap_y_52 = () -> "dui-gap-y-52";
+  CssClass dui_gap_y_52 = CssClass.of("dui-gap-y-52");
 
-  CssClass dui_gap_y_56 = () -> "dui-gap-y-56";
+  CssClass dui_gap_y_56 = CssClass.of("dui-gap-y-56");
 
-  CssClass dui_gap_y_6 = () -> "dui-gap-y-6";
+  CssClass dui_gap_y_6 = CssClass.of("dui-gap-y-6");
 
-  CssClass dui_gap_y_60 = () -> "dui-gap-y-60";
+  CssClass dui_gap_y_60 = CssClass.of("dui-gap-y-60");
 
-  CssClass dui_gap_y_64 = () -> "dui-gap-y-64";
+  CssClass dui_gap_y_64 = CssClass.of("dui-gap-y-64");
 
-  CssClass dui_gap_y_7 = () -> "dui-gap-y-7";
+  CssClass dui_gap_y_7 = CssClass.of("dui-gap-y-7");
 
-  CssClass dui_gap_y_72 = () -> "dui-gap-y-72";
+  CssClass dui_gap_y_72 = CssClass.of("dui-gap-y-72");
 
-  CssClass dui_gap_y_8 = () -> "dui-gap-y-8";
+  CssClass dui_gap_y_8 = CssClass.of("dui-gap-y-8");
 
-  CssClass dui_gap_y_80 = () -> "dui-gap-y-80";
+  CssClass dui_gap_y_80 = CssClass.of("dui-gap-y-80");
 
-  CssClass dui_gap_y_8px = () -> "dui-gap-y-8px";
+  CssClass dui_gap_y_8px = CssClass.of("dui-gap-y-8px");
 
-  CssClass dui_gap_y_9 = () -> "dui-gap-y-9";
+  CssClass dui_gap_y_9 = CssClass.of("dui-gap-y-9");
 
-  CssClass dui_gap_y_96 = () -> "dui-gap-y-96";
+  CssClass dui_gap_y_96 = CssClass.of("dui-gap-y-96");
 
-  CssClass dui_gap_y_full = () -> "dui-gap-y-full";
+  CssClass dui_gap_y_full = CssClass.of("dui-gap-y-full");
 
-  CssClass dui_gap_y_px = () -> "dui-gap-y-px";
+  CssClass dui_gap_y_px = CssClass.of("dui-gap-y-px");
 
-  CssClass dui_h_0 = () -> "dui-h-0";
+  CssClass dui_h_0 = CssClass.of("dui-h-0");
 
-  CssClass dui_h_0_5 = () -> "dui-h-0_5";
+  CssClass dui_h_0_5 = CssClass.of("dui-h-0_5");
 
-  CssClass dui_h_1 = () -> "dui-h-1";
+  CssClass dui_h_1 = CssClass.of("dui-h-1");
 
-  CssClass dui_h_10 = () -> "dui-h-10";
+  CssClass dui_h_10 = CssClass.of("dui-h-10");
 
-  CssClass dui_h_11 = () -> "dui-h-11";
+  CssClass dui_h_11 = CssClass.of("dui-h-11");
 
-  CssClass dui_h_12 = () -> "dui-h-12";
+  CssClass dui_h_12 = CssClass.of("dui-h-12");
 
-  CssClass dui_h_14 = () -> "dui-h-14";
+  CssClass dui_h_14 = CssClass.of("dui-h-14");
 
-  CssClass dui_h_16 = () -> "dui-h-16";
+  CssClass dui_h_16 = CssClass.of("dui-h-16");
 
-  CssClass dui_h_1_2p = () -> "dui-h-1_2p";
+  CssClass dui_h_1_2p = CssClass.of("dui-h-1_2p");
 
-  CssClass dui_h_1_3p = () -> "dui-h-1_3p";
+  CssClass dui_h_1_3p = CssClass.of("dui-h-1_3p");
 
-  CssClass dui_h_1_4p = () -> "dui-h-1_4p";
+  CssClass dui_h_1_4p = CssClass.of("dui-h-1_4p");
 
-  CssClass dui_h_1_5 = () -> "dui-h-1_5";
+  CssClass dui_h_1_5 = CssClass.of("dui-h-1_5");
 
-  CssClass dui_h_2 = () -> "dui-h-2";
+  CssClass dui_h_2 = CssClass.of("dui-h-2");
 
-  CssClass dui_h_20 = () -> "dui-h-20";
+  CssClass dui_h_20 = CssClass.of("dui-h-20");
 
-  CssClass dui_h_24 = () -> "dui-h-24";
+  CssClass dui_h_24 = CssClass.of("dui-h-24");
 
-  CssClass dui_h_28 = () -> "dui-h-28";
+  CssClass dui_h_28 = CssClass.of("dui-h-28");
 
-  CssClass dui_h_2_3p = () -> "dui-h-2_3p";
+  CssClass dui_h_2_3p = CssClass.of("dui-h-2_3p");
 
-  CssClass dui_h_2_5 = () -> "dui-h-2_5";
+  CssClass dui_h_2_5 = CssClass.of("dui-h-2_5");
 
-  CssClass dui_h_2px = () -> "dui-h-2px";
+  CssClass dui_h_2px = CssClass.of("dui-h-2px");
 
-  CssClass dui_h_3 = () -> "dui-h-3";
+  CssClass dui_h_3 = CssClass.of("dui-h-3");
 
-  CssClass dui_h_32 = () -> "dui-h-32";
+  CssClass dui_h_32 = CssClass.of("dui-h-32");
 
-  CssClass dui_h_36 = () -> "dui-h-36";
+  CssClass dui_h_36 = CssClass.of("dui-h-36");
 
-  CssClass dui_h_3_4p = () -> "dui-h-3_4p";
+  CssClass dui_h_3_4p = CssClass.of("dui-h-3_4p");
 
-  CssClass dui_h_3_5 = () -> "dui-h-3_5";
+  CssClass dui_h_3_5 = CssClass.of("dui-h-3_5");
 
-  CssClass dui_h_4 = () -> "dui-h-4";
+  CssClass dui_h_4 = CssClass.of("dui-h-4");
 
-  CssClass dui_h_40 = () -> "dui-h-40";
+  CssClass dui_h_40 = CssClass.of("dui-h-40");
 
-  CssClass dui_h_44 = () -> "dui-h-44";
+  CssClass dui_h_44 = CssClass.of("dui-h-44");
 
-  CssClass dui_h_48 = () -> "dui-h-48";
+  CssClass dui_h_48 = CssClass.of("dui-h-48");
 
-  CssClass dui_h_4px = () -> "dui-h-4px";
+  CssClass dui_h_4px = CssClass.of("dui-h-4px");
 
-  CssClass dui_h_5 = () -> "dui-h-5";
+  CssClass dui_h_5 = CssClass.of("dui-h-5");
 
-  CssClass dui_h_52 = () -> "dui-h-52";
+  CssClass dui_h_52 = CssClass.of("dui-h-52");
 
-  CssClass dui_h_56 = () -> "dui-h-56";
+  CssClass dui_h_56 = CssClass.of("dui-h-56");
 
-  CssClass dui_h_6 = () -> "dui-h-6";
+  CssClass dui_h_6 = CssClass.of("dui-h-6");
 
-  CssClass dui_h_60 = () -> "dui-h-60";
+  CssClass dui_h_60 = CssClass.of("dui-h-60");
 
-  CssClass dui_h_64 = () -> "dui-h-64";
+  CssClass dui_h_64 = CssClass.of("dui-h-64");
 
-  CssClass dui_h_7 = () -> "dui-h-7";
+  CssClass dui_h_7 = CssClass.of("dui-h-7");
 
-  CssClass dui_h_72 = () -> "dui-h-72";
+  CssClass dui_h_72 = CssClass.of("dui-h-72");
 
-  CssClass dui_h_8 = () -> "dui-h-8";
+  CssClass dui_h_8 = CssClass.of("dui-h-8");
 
-  CssClass dui_h_80 = () -> "dui-h-80";
+  CssClass dui_h_80 = CssClass.of("dui-h-80");
 
-  CssClass dui_h_8px = () -> "dui-h-8px";
+  CssClass dui_h_8px = CssClass.of("dui-h-8px");
 
-  CssClass dui_h_9 = () -> "dui-h-9";
+  CssClass dui_h_9 = CssClass.of("dui-h-9");
 
-  CssClass dui_h_96 = () -> "dui-h-96";
+  CssClass dui_h_96 = CssClass.of("dui-h-96");
 
-  CssClass dui_h_full = () -> "dui-h-full";
+  CssClass dui_h_full = CssClass.of("dui-h-full");
 
-  CssClass dui_h_inherit = () -> "dui-h-inherit";
+  CssClass dui_h_inherit = CssClass.of("dui-h-inherit");
 
-  CssClass dui_h_px = () -> "dui-h-px";
+  CssClass dui_h_px = CssClass.of("dui-h-px");
 
-  CssClass dui_inset_0_5 = () -> "dui-inset-0_5";
+  CssClass dui_inset_0_5 = CssClass.of("dui-inset-0_5");
 
-  CssClass dui_inset_1 = () -> "dui-inset-1";
+  CssClass dui_inset_1 = CssClass.of("dui-inset-1");
 
-  CssClass dui_inset_10 = () -> "dui-inset-10";
+  CssClass dui_inset_10 = CssClass.of("dui-inset-10");
 
-  CssClass dui_inset_11 = () -> "dui-inset-11";
+  CssClass dui_inset_11 = CssClass.of("dui-inset-11");
 
-  CssClass dui_inset_12 = () -> "dui-inset-12";
+  CssClass dui_inset_12 = CssClass.of("dui-inset-12");
 
-  CssClass dui_inset_14 = () -> "dui-inset-14";
+  CssClass dui_inset_14 = CssClass.of("dui-inset-14");
 
-  CssClass dui_inset_16 = () -> "dui-inset-16";
+  CssClass dui_inset_16 = CssClass.of("dui-inset-16");
 
-  CssClass dui_inset_1_2p = () -> "dui-inset-1_2p";
+  CssClass dui_inset_1_2p = CssClass.of("dui-inset-1_2p");
 
-  CssClass dui_inset_1_3p = () -> "dui-inset-1_3p";
+  CssClass dui_inset_1_3p = CssClass.of("dui-inset-1_3p");
 
-  CssClass dui_inset_1_4p = () -> "dui-inset-1_4p";
+  CssClass dui_inset_1_4p = CssClass.of("dui-inset-1_4p");
 
-  CssClass dui_inset_1_5 = () -> "dui-inset-1_5";
+  CssClass dui_inset_1_5 = CssClass.of("dui-inset-1_5");
 
-  CssClass dui_inset_2 = () -> "dui-inset-2";
+  CssClass dui_inset_2 = CssClass.of("dui-inset-2");
 
-  CssClass dui_inset_20 = () -> "dui-inset-20";
+  CssClass dui_inset_20 = CssClass.of("dui-inset-20");
 
-  CssClass dui_inset_24 = () -> "dui-inset-24";
+  CssClass dui_inset_24 = CssClass.of("dui-inset-24");
 
-  CssClass dui_inset_28 = () -> "dui-inset-28";
+  CssClass dui_inset_28 = CssClass.of("dui-inset-28");
 
-  CssClass dui_inset_2_3p = () -> "dui-inset-2_3p";
+  CssClass dui_inset_2_3p = CssClass.of("dui-inset-2_3p");
 
-  CssClass dui_inset_2_5 = () -> "dui-inset-2_5";
+  CssClass dui_inset_2_5 = CssClass.of("dui-inset-2_5");
 
-  CssClass dui_inset_2px = () -> "dui-inset-2px";
+  CssClass dui_inset_2px = CssClass.of("dui-inset-2px");
 
-  CssClass dui_inset_3 = () -> "dui-inset-3";
+  CssClass dui_inset_3 = CssClass.of("dui-inset-3");
 
-  CssClass dui_inset_32 = () -> "dui-inset-32";
+  CssClass dui_inset_32 = CssClass.of("dui-inset-32");
 
-  CssClass dui_inset_36 = () -> "dui-inset-36";
+  CssClass dui_inset_36 = CssClass.of("dui-inset-36");
 
-  CssClass dui_inset_3_4p = () -> "dui-inset-3_4p";
+  CssClass dui_inset_3_4p = CssClass.of("dui-inset-3_4p");
 
-  CssClass dui_inset_3_5 = () -> "dui-inset-3_5";
+  CssClass dui_inset_3_5 = CssClass.of("dui-inset-3_5");
 
-  CssClass dui_inset_4 = () -> "dui-inset-4";
+  CssClass dui_inset_4 = CssClass.of("dui-inset-4");
 
-  CssClass dui_inset_40 = () -> "dui-inset-40";
+  CssClass dui_inset_40 = CssClass.of("dui-inset-40");
 
-  CssClass dui_inset_44 = () -> "dui-inset-44";
+  CssClass dui_inset_44 = CssClass.of("dui-inset-44");
 
-  CssClass dui_inset_48 = () -> "dui-inset-48";
+  CssClass dui_inset_48 = CssClass.of("dui-inset-48");
 
-  CssClass dui_inset_4px = () -> "dui-inset-4px";
+  CssClass dui_inset_4px = CssClass.of("dui-inset-4px");
 
-  CssClass dui_inset_5 = () -> "dui-inset-5";
+  CssClass dui_inset_5 = CssClass.of("dui-inset-5");
 
-  CssClass dui_inset_52 = () -> "dui-inset-52";
+  CssClass dui_inset_52 = CssClass.of("dui-inset-52");
 
-  CssClass dui_inset_56 = () -> "dui-inset-56";
+  CssClass dui_inset_56 = CssClass.of("dui-inset-56");
 
-  CssClass dui_inset_6 = () -> "dui-inset-6";
+  CssClass dui_inset_6 = CssClass.of("dui-inset-6");
 
-  CssClass dui_inset_60 = () -> "dui-inset-60";
+  CssClass dui_inset_60 = CssClass.of("dui-inset-60");
 
-  CssClass dui_inset_64 = () -> "dui-inset-64";
+  CssClass dui_inset_64 = CssClass.of("dui-inset-64");
 
-  CssClass dui_inset_7 = () -> "dui-inset-7";
+  CssClass dui_inset_7 = CssClass.of("dui-inset-7");
 
-  CssClass dui_inset_72 = () -> "dui-inset-72";
+  CssClass dui_inset_72 = CssClass.of("dui-inset-72");
 
-  CssClass dui_inset_8 = () -> "dui-inset-8";
+  CssClass dui_inset_8 = CssClass.of("dui-inset-8");
 
-  CssClass dui_inset_80 = () -> "dui-inset-80";
+  CssClass dui_inset_80 = CssClass.of("dui-inset-80");
 
-  CssClass dui_inset_8px = () -> "dui-inset-8px";
+  CssClass dui_inset_8px = CssClass.of("dui-inset-8px");
 
-  CssClass dui_inset_9 = () -> "dui-inset-9";
+  CssClass dui_inset_9 = CssClass.of("dui-inset-9");
 
-  CssClass dui_inset_96 = () -> "dui-inset-96";
+  CssClass dui_inset_96 = CssClass.of("dui-inset-96");
 
-  CssClass dui_inset_auto = () -> "dui-inset-auto";
+  CssClass dui_inset_auto = CssClass.of("dui-inset-auto");
 
-  CssClass dui_inset_full = () -> "dui-inset-full";
+  CssClass dui_inset_full = CssClass.of("dui-inset-full");
 
-  CssClass dui_inset_px = () -> "dui-inset-px";
+  CssClass dui_inset_px = CssClass.of("dui-inset-px");
 
-  CssClass dui_inset_x_0_5 = () -> "dui-inset-x-0_5";
+  CssClass dui_inset_x_0_5 = CssClass.of("dui-inset-x-0_5");
 
-  CssClass dui_inset_x_1 = () -> "dui-inset-x-1";
+  CssClass dui_inset_x_1 = CssClass.of("dui-inset-x-1");
 
-  CssClass dui_inset_x_10 = () -> "dui-inset-x-10";
+  CssClass dui_inset_x_10 = CssClass.of("dui-inset-x-10");
 
-  CssClass dui_inset_x_11 = () -> "dui-inset-x-11";
+  CssClass dui_inset_x_11 = CssClass.of("dui-inset-x-11");
 
-  CssClass dui_inset_x_12 = () -> "dui-inset-x-12";
+  CssClass dui_inset_x_12 = CssClass.of("dui-inset-x-12");
 
-  CssClass dui_inset_x_14 = () -> "dui-inset-x-14";
+  CssClass dui_inset_x_14 = CssClass.of("dui-inset-x-14");
 
-  CssClass dui_inset_x_16 = () -> "dui-inset-x-16";
+  CssClass dui_inset_x_16 = CssClass.of("dui-inset-x-16");
 
-  CssClass dui_inset_x_1_2p = () -> "dui-inset-x-1_2p";
+  CssClass dui_inset_x_1_2p = CssClass.of("dui-inset-x-1_2p");
 
-  CssClass dui_inset_x_1_3p = () -> "dui-inset-x-1_3p";
+  CssClass dui_inset_x_1_3p = CssClass.of("dui-inset-x-1_3p");
 
-  CssClass dui_inset_x_1_4p = () -> "dui-inset-x-1_4p";
+  CssClass dui_inset_x_1_4p = CssClass.of("dui-inset-x-1_4p");
 
-  CssClass dui_inset_x_1_5 = () -> "dui-inset-x-1_5";
+  CssClass dui_inset_x_1_5 = CssClass.of("dui-inset-x-1_5");
 
-  CssClass dui_inset_x_2 = () -> "dui-inset-x-2";
+  CssClass dui_inset_x_2 = CssClass.of("dui-inset-x-2");
 
-  CssClass dui_inset_x_20 = () -> "dui-inset-x-20";
+  CssClass dui_inset_x_20 = CssClass.of("dui-inset-x-20");
 
-  CssClass dui_inset_x_24 = () -> "dui-inset-x-24";
+  CssClass dui_inset_x_24 = CssClass.of("dui-inset-x-24");
 
-  CssClass dui_inset_x_28 = () -> "dui-inset-x-28";
+  CssClass dui_inset_x_28 = CssClass.of("dui-inset-x-28");
 
-  CssClass dui_inset_x_2_3p = () -> "dui-inset-x-2_3p";
+  CssClass dui_inset_x_2_3p = CssClass.of("dui-inset-x-2_3p");
 
-  CssClass dui_inset_x_2_5 = () -> "dui-inset-x-2_5";
+  CssClass dui_inset_x_2_5 = CssClass.of("dui-inset-x-2_5");
 
-  CssClass dui_inset_x_2px = () -> "dui-inset-x-2px";
+  CssClass dui_inset_x_2px = CssClass.of("dui-inset-x-2px");
 
-  CssClass dui_inset_x_3 = () -> "dui-inset-x-3";
+  CssClass dui_inset_x_3 = CssClass.of("dui-inset-x-3");
 
-  CssClass dui_inset_x_32 = () -> "dui-inset-x-32";
+  CssClass dui_inset_x_32 = CssClass.of("dui-inset-x-32");
 
-  CssClass dui_inset_x_36 = () -> "dui-inset-x-36";
+  CssClass dui_inset_x_36 = CssClass.of("dui-inset-x-36");
 
-  CssClass dui_inset_x_3_4p = () -> "dui-inset-x-3_4p";
+  CssClass dui_inset_x_3_4p = CssClass.of("dui-inset-x-3_4p");
 
-  CssClass dui_inset_x_3_5 = () -> "dui-inset-x-3_5";
+  CssClass dui_inset_x_3_5 = CssClass.of("dui-inset-x-3_5");
 
-  CssClass dui_inset_x_4 = () -> "dui-inset-x-4";
+  CssClass dui_inset_x_4 = CssClass.of("dui-inset-x-4");
 
-  CssClass dui_inset_x_40 = () -> "dui-inset-x-40";
+  CssClass dui_inset_x_40 = CssClass.of("dui-inset-x-40");
 
-  CssClass dui_inset_x_44 = () -> "dui-inset-x-44";
+  CssClass dui_inset_x_44 = CssClass.of("dui-inset-x-44");
 
-  CssClass dui_inset_x_48 = () -> "dui-inset-x-48";
+  CssClass dui_inset_x_48 = CssClass.of("dui-inset-x-48");
 
-  CssClass dui_inset_x_4px = () -> "dui-inset-x-4px";
+  CssClass dui_inset_x_4px = CssClass.of("dui-inset-x-4px");
 
-  CssClass dui_inset_x_5 = () -> "dui-inset-x-5";
+  CssClass dui_inset_x_5 = CssClass.of("dui-inset-x-5");
 
-  CssClass dui_inset_x_52 = () -> "dui-inset-x-52";
+  CssClass dui_inset_x_52 = CssClass.of("dui-inset-x-52");
 
-  CssClass dui_inset_x_56 = () -> "dui-inset-x-56";
+  CssClass dui_inset_x_56 = CssClass.of("dui-inset-x-56");
 
-  CssClass dui_inset_x_6 = () -> "dui-inset-x-6";
+  CssClass dui_inset_x_6 = CssClass.of("dui-inset-x-6");
 
-  CssClass dui_inset_x_60 = () -> "dui-inset-x-60";
+  CssClass dui_inset_x_60 = CssClass.of("dui-inset-x-60");
 
-  CssClass dui_inset_x_64 = () -> "dui-inset-x-64";
+  CssClass dui_inset_x_64 = CssClass.of("dui-inset-x-64");
 
-  CssClass dui_inset_x_7 = () -> "dui-inset-x-7";
+  CssClass dui_inset_x_7 = CssClass.of("dui-inset-x-7");
 
-  CssClass dui_inset_x_72 = () -> "dui-inset-x-72";
+  CssClass dui_inset_x_72 = CssClass.of("dui-inset-x-72");
 
-  CssClass dui_inset_x_8 = () -> "dui-inset-x-8";
+  CssClass dui_inset_x_8 = CssClass.of("dui-inset-x-8");
 
-  CssClass dui_inset_x_80 = () -> "dui-inset-x-80";
+  CssClass dui_inset_x_80 = CssClass.of("dui-inset-x-80");
 
-  CssClass dui_inset_x_8px = () -> "dui-inset-x-8px";
+  CssClass dui_inset_x_8px = CssClass.of("dui-inset-x-8px");
 
-  CssClass dui_inset_x_9 = () -> "dui-inset-x-9";
+  CssClass dui_inset_x_9 = CssClass.of("dui-inset-x-9");
 
-  CssClass dui_inset_x_96 = () -> "dui-inset-x-96";
+  CssClass dui_inset_x_96 = CssClass.of("dui-inset-x-96");
 
-  CssClass dui_inset_x_auto = () -> "dui-inset-x-auto";
+  CssClass dui_inset_x_auto = CssClass.of("dui-inset-x-auto");
 
-  CssClass dui_inset_x_full = () -> "dui-inset-x-full";
+  CssClass dui_inset_x_full = CssClass.of("dui-inset-x-full");
 
-  CssClass dui_inset_x_px = () -> "dui-inset-x-px";
+  CssClass dui_inset_x_px = CssClass.of("dui-inset-x-px");
 
-  CssClass dui_inset_y_0_5 = () -> "dui-inset-y-0_5";
+  CssClass dui_inset_y_0_5 = CssClass.of("dui-inset-y-0_5");
 
-  CssClass dui_inset_y_1 = () -> "dui-inset-y-1";
+  CssClass dui_inset_y_1 = CssClass.of("dui-inset-y-1");
 
-  CssClass dui_inset_y_10 = () -> "dui-inset-y-10";
+  CssClass dui_inset_y_10 = CssClass.of("dui-inset-y-10");
 
-  CssClass dui_inset_y_11 = () -> "dui-inset-y-11";
+  CssClass dui_inset_y_11 = CssClass.of("dui-inset-y-11");
 
-  CssClass dui_inset_y_12 = () -> "dui-inset-y-12";
+  CssClass dui_inset_y_12 = CssClass.of("dui-inset-y-12");
 
-  CssClass dui_inset_y_14 = () -> "dui-inset-y-14";
+  CssClass dui_inset_y_14 = CssClass.of("dui-inset-y-14");
 
-  CssClass dui_inset_y_16 = () -> "dui-inset-y-16";
+  CssClass dui_inset_y_16 = CssClass.of("dui-inset-y-16");
 
-  CssClass dui_inset_y_1_2p = () -> "dui-inset-y-1_2p";
+  CssClass dui_inset_y_1_2p = CssClass.of("dui-inset-y-1_2p");
 
-  CssClass dui_inset_y_1_3p = () -> "dui-inset-y-1_3p";
+  CssClass dui_inset_y_1_3p = CssClass.of("dui-inset-y-1_3p");
 
-  CssClass dui_inset_y_1_4p = () -> "dui-inset-y-1_4p";
+  CssClass dui_inset_y_1_4p = CssClass.of("dui-inset-y-1_4p");
 
-  CssClass dui_inset_y_1_5 = () -> "dui-inset-y-1_5";
+  CssClass dui_inset_y_1_5 = CssClass.of("dui-inset-y-1_5");
 
-  CssClass dui_inset_y_2 = () -> "dui-inset-y-2";
+  CssClass dui_inset_y_2 = CssClass.of("dui-inset-y-2");
 
-  CssClass dui_inset_y_20 = () -> "dui-inset-y-20";
+  CssClass dui_inset_y_20 = CssClass.of("dui-inset-y-20");
 
-  CssClass dui_inset_y_24 = () -> "dui-inset-y-24";
+  CssClass dui_inset_y_24 = CssClass.of("dui-inset-y-24");
 
-  CssClass dui_inset_y_28 = () -> "dui-inset-y-28";
+  CssClass dui_inset_y_28 = CssClass.of("dui-inset-y-28");
 
-  CssClass dui_inset_y_2_3p = () -> "dui-inset-y-2_3p";
+  CssClass dui_inset_y_2_3p = CssClass.of("dui-inset-y-2_3p");
 
-  CssClass dui_inset_y_2_5 = () -> "dui-inset-y-2_5";
+  CssClass dui_inset_y_2_5 = CssClass.of("dui-inset-y-2_5");
 
-  CssClass dui_inset_y_2px = () -> "dui-inset-y-2px";
+  CssClass dui_inset_y_2px = CssClass.of("dui-inset-y-2px");
 
-  CssClass dui_inset_y_3 = () -> "dui-inset-y-3";
+  CssClass dui_inset_y_3 = CssClass.of("dui-inset-y-3");
 
-  CssClass dui_inset_y_32 = () -> "dui-inset-y-32";
+  CssClass dui_inset_y_32 = CssClass.of("dui-inset-y-32");
 
-  CssClass dui_inset_y_36 = () -> "dui-inset-y-36";
+  CssClass dui_inset_y_36 = CssClass.of("dui-inset-y-36");
 
-  CssClass dui_inset_y_3_4p = () -> "dui-inset-y-3_4p";
+  CssClass dui_inset_y_3_4p = CssClass.of("dui-inset-y-3_4p");
 
-  CssClass dui_inset_y_3_5 = () -> "dui-inset-y-3_5";
+  CssClass dui_inset_y_3_5 = CssClass.of("dui-inset-y-3_5");
 
-  CssClass dui_inset_y_4 = () -> "dui-inset-y-4";
+  CssClass dui_inset_y_4 = CssClass.of("dui-inset-y-4");
 
-  CssClass dui_inset_y_40 = () -> "dui-inset-y-40";
+  CssClass dui_inset_y_40 = CssClass.of("dui-inset-y-40");
 
-  CssClass dui_inset_y_44 = () -> "dui-inset-y-44";
+  CssClass dui_inset_y_44 = CssClass.of("dui-inset-y-44");
 
-  CssClass dui_inset_y_48 = () -> "dui-inset-y-48";
+  CssClass dui_inset_y_48 = CssClass.of("dui-inset-y-48");
 
-  CssClass dui_inset_y_4px = () -> "dui-inset-y-4px";
+  CssClass dui_inset_y_4px = CssClass.of("dui-inset-y-4px");
 
-  CssClass dui_inset_y_5 = () -> "dui-inset-y-5";
+  CssClass dui_inset_y_5 = CssClass.of("dui-inset-y-5");
 
-  CssClass dui_inset_y_52 = () -> "dui-inset-y-52";
+  CssClass dui_inset_y_52 = CssClass.of("dui-inset-y-52");
 
-  CssClass dui_inset_y_56 = () -> "dui-inset-y-56";
+  CssClass dui_inset_y_56 = CssClass.of("dui-inset-y-56");
 
-  CssClass dui_inset_y_6 = () -> "dui-inset-y-6";
+  CssClass dui_inset_y_6 = CssClass.of("dui-inset-y-6");
 
-  CssClass dui_inset_y_60 = () -> "dui-inset-y-60";
+  CssClass dui_inset_y_60 = CssClass.of("dui-inset-y-60");
 
-  CssClass dui_inset_y_64 = () -> "dui-inset-y-64";
+  CssClass dui_inset_y_64 = CssClass.of("dui-inset-y-64");
 
-  CssClass dui_inset_y_7 = () -> "dui-inset-y-7";
+  CssClass dui_inset_y_7 = CssClass.of("dui-inset-y-7");
 
-  CssClass dui_inset_y_72 = () -> "dui-inset-y-72";
+  CssClass dui_inset_y_72 = CssClass.of("dui-inset-y-72");
 
-  CssClass dui_inset_y_8 = () -> "dui-inset-y-8";
+  CssClass dui_inset_y_8 = CssClass.of("dui-inset-y-8");
 
-  CssClass dui_inset_y_80 = () -> "dui-inset-y-80";
+  CssClass dui_inset_y_80 = CssClass.of("dui-inset-y-80");
 
-  CssClass dui_inset_y_8px = () -> "dui-inset-y-8px";
+  CssClass dui_inset_y_8px = CssClass.of("dui-inset-y-8px");
 
-  CssClass dui_inset_y_9 = () -> "dui-inset-y-9";
+  CssClass dui_inset_y_9 = CssClass.of("dui-inset-y-9");
 
-  CssClass dui_inset_y_96 = () -> "dui-inset-y-96";
+  CssClass dui_inset_y_96 = CssClass.of("dui-inset-y-96");
 
-  CssClass dui_inset_y_auto = () -> "dui-inset-y-auto";
+  CssClass dui_inset_y_auto = CssClass.of("dui-inset-y-auto");
 
-  CssClass dui_inset_y_full = () -> "dui-inset-y-full";
+  CssClass dui_inset_y_full = CssClass.of("dui-inset-y-full");
 
-  CssClass dui_inset_y_px = () -> "dui-inset-y-px";
+  CssClass dui_inset_y_px = CssClass.of("dui-inset-y-px");
 
-  CssClass dui_left_0 = () -> "dui-left-0";
+  CssClass dui_left_0 = CssClass.of("dui-left-0");
 
-  CssClass dui_left_0_5 = () -> "dui-left-0_5";
+  CssClass dui_left_0_5 = CssClass.of("dui-left-0_5");
 
-  CssClass dui_left_1 = () -> "dui-left-1";
+  CssClass dui_left_1 = CssClass.of("dui-left-1");
 
-  CssClass dui_left_10 = () -> "dui-left-10";
+  CssClass dui_left_10 = CssClass.of("dui-left-10");
 
-  CssClass dui_left_11 = () -> "dui-left-11";
+  CssClass dui_left_11 = CssClass.of("dui-left-11");
 
-  CssClass dui_left_12 = () -> "dui-left-12";
+  CssClass dui_left_12 = CssClass.of("dui-left-12");
 
-  CssClass dui_left_14 = () -> "dui-left-14";
+  CssClass dui_left_14 = CssClass.of("dui-left-14");
 
-  CssClass dui_left_16 = () -> "dui-left-16";
+  CssClass dui_left_16 = CssClass.of("dui-left-16");
 
-  CssClass dui_left_1_2p = () -> "dui-left-1_2p";
+  CssClass dui_left_1_2p = CssClass.of("dui-left-1_2p");
 
-  CssClass dui_left_1_3p = () -> "dui-left-1_3p";
+  CssClass dui_left_1_3p = CssClass.of("dui-left-1_3p");
 
-  CssClass dui_left_1_4p = () -> "dui-left-1_4p";
+  CssClass dui_left_1_4p = CssClass.of("dui-left-1_4p");
 
-  CssClass dui_left_1_5 = () -> "dui-left-1_5";
+  CssClass dui_left_1_5 = CssClass.of("dui-left-1_5");
 
-  CssClass dui_left_2 = () -> "dui-left-2";
+  CssClass dui_left_2 = CssClass.of("dui-left-2");
 
-  CssClass dui_left_20 = () -> "dui-left-20";
+  CssClass dui_left_20 = CssClass.of("dui-left-20");
 
-  CssClass dui_left_24 = () -> "dui-left-24";
+  CssClass dui_left_24 = CssClass.of("dui-left-24");
 
-  CssClass dui_left_28 = () -> "dui-left-28";
+  CssClass dui_left_28 = CssClass.of("dui-left-28");
 
-  CssClass dui_left_2_3p = () -> "dui-left-2_3p";
+  CssClass dui_left_2_3p = CssClass.of("dui-left-2_3p");
 
-  CssClass dui_left_2_5 = () -> "dui-left-2_5";
+  CssClass dui_left_2_5 = CssClass.of("dui-left-2_5");
 
-  CssClass dui_left_2px = () -> "dui-left-2px";
+  CssClass dui_left_2px = CssClass.of("dui-left-2px");
 
-  CssClass dui_left_3 = () -> "dui-left-3";
+  CssClass dui_left_3 = CssClass.of("dui-left-3");
 
-  CssClass dui_left_32 = () -> "dui-left-32";
+  CssClass dui_left_32 = CssClass.of("dui-left-32");
 
-  CssClass dui_left_36 = () -> "dui-left-36";
+  CssClass dui_left_36 = CssClass.of("dui-left-36");
 
-  CssClass dui_left_3_4p = () -> "dui-left-3_4p";
+  CssClass dui_left_3_4p = CssClass.of("dui-left-3_4p");
 
-  CssClass dui_left_3_5 = () -> "dui-left-3_5";
+  CssClass dui_left_3_5 = CssClass.of("dui-left-3_5");
 
-  CssClass dui_left_4 = () -> "dui-left-4";
+  CssClass dui_left_4 = CssClass.of("dui-left-4");
 
-  CssClass dui_left_40 = () -> "dui-left-40";
+  CssClass dui_left_40 = CssClass.of("dui-left-40");
 
-  CssClass dui_left_44 = () -> "dui-left-44";
+  CssClass dui_left_44 = CssClass.of("dui-left-44");
 
-  CssClass dui_left_48 = () -> "dui-left-48";
+  CssClass dui_left_48 = CssClass.of("dui-left-48");
 
-  CssClass dui_left_4px = () -> "dui-left-4px";
+  CssClass dui_left_4px = CssClass.of("dui-left-4px");
 
-  CssClass dui_left_5 = () -> "dui-left-5";
+  CssClass dui_left_5 = CssClass.of("dui-left-5");
 
-  CssClass dui_left_52 = () -> "dui-left-52";
+  CssClass dui_left_52 = CssClass.of("dui-left-52");
 
-  CssClass dui_left_56 = () -> "dui-left-56";
+  CssClass dui_left_56 = CssClass.of("dui-left-56");
 
-  CssClass dui_left_6 = () -> "dui-left-6";
+  CssClass dui_left_6 = CssClass.of("dui-left-6");
 
-  CssClass dui_left_60 = () -> "dui-left-60";
+  CssClass dui_left_60 = CssClass.of("dui-left-60");
 
-  CssClass dui_left_64 = () -> "dui-left-64";
+  CssClass dui_left_64 = CssClass.of("dui-left-64");
 
-  CssClass dui_left_7 = () -> "dui-left-7";
+  CssClass dui_left_7 = CssClass.of("dui-left-7");
 
-  CssClass dui_left_72 = () -> "dui-left-72";
+  CssClass dui_left_72 = CssClass.of("dui-left-72");
 
-  CssClass dui_left_8 = () -> "dui-left-8";
+  CssClass dui_left_8 = CssClass.of("dui-left-8");
 
-  CssClass dui_left_80 = () -> "dui-left-80";
+  CssClass dui_left_80 = CssClass.of("dui-left-80");
 
-  CssClass dui_left_8px = () -> "dui-left-8px";
+  CssClass dui_left_8px = CssClass.of("dui-left-8px");
 
-  CssClass dui_left_9 = () -> "dui-left-9";
+  CssClass dui_left_9 = CssClass.of("dui-left-9");
 
-  CssClass dui_left_96 = () -> "dui-left-96";
+  CssClass dui_left_96 = CssClass.of("dui-left-96");
 
-  CssClass dui_left_auto = () -> "dui-left-auto";
+  CssClass dui_left_auto = CssClass.of("dui-left-auto");
 
-  CssClass dui_left_full = () -> "dui-left-full";
+  CssClass dui_left_full = CssClass.of("dui-left-full");
 
-  CssClass dui_left_px = () -> "dui-left-px";
+  CssClass dui_left_px = CssClass.of("dui-left-px");
 
-  CssClass dui_m_0 = () -> "dui-m-0";
+  CssClass dui_m_0 = CssClass.of("dui-m-0");
 
-  CssClass dui_m_0_5 = () -> "dui-m-0_5";
+  CssClass dui_m_0_5 = CssClass.of("dui-m-0_5");
 
-  CssClass dui_m_1 = () -> "dui-m-1";
+  CssClass dui_m_1 = CssClass.of("dui-m-1");
 
-  CssClass dui_m_10 = () -> "dui-m-10";
+  CssClass dui_m_10 = CssClass.of("dui-m-10");
 
-  CssClass dui_m_11 = () -> "dui-m-11";
+  CssClass dui_m_11 = CssClass.of("dui-m-11");
 
-  CssClass dui_m_12 = () -> "dui-m-12";
+  CssClass dui_m_12 = CssClass.of("dui-m-12");
 
-  CssClass dui_m_14 = () -> "dui-m-14";
+  CssClass dui_m_14 = CssClass.of("dui-m-14");
 
-  CssClass dui_m_16 = () -> "dui-m-16";
+  CssClass dui_m_16 = CssClass.of("dui-m-16");
 
-  CssClass dui_m_1_2p = () -> "dui-m-1_2p";
+  CssClass dui_m_1_2p = CssClass.of("dui-m-1_2p");
 
-  CssClass dui_m_1_3p = () -> "dui-m-1_3p";
+  CssClass dui_m_1_3p = CssClass.of("dui-m-1_3p");
 
-  CssClass dui_m_1_4p = () -> "dui-m-1_4p";
+  CssClass dui_m_1_4p = CssClass.of("dui-m-1_4p");
 
-  CssClass dui_m_1_5 = () -> "dui-m-1_5";
+  CssClass dui_m_1_5 = CssClass.of("dui-m-1_5");
 
-  CssClass dui_m_2 = () -> "dui-m-2";
+  CssClass dui_m_2 = CssClass.of("dui-m-2");
 
-  CssClass dui_m_20 = () -> "dui-m-20";
+  CssClass dui_m_20 = CssClass.of("dui-m-20");
 
-  CssClass dui_m_24 = () -> "dui-m-24";
+  CssClass dui_m_24 = CssClass.of("dui-m-24");
 
-  CssClass dui_m_28 = () -> "dui-m-28";
+  CssClass dui_m_28 = CssClass.of("dui-m-28");
 
-  CssClass dui_m_2_3p = () -> "dui-m-2_3p";
+  CssClass dui_m_2_3p = CssClass.of("dui-m-2_3p");
 
-  CssClass dui_m_2_5 = () -> "dui-m-2_5";
+  CssClass dui_m_2_5 = CssClass.of("dui-m-2_5");
 
-  CssClass dui_m_2px = () -> "dui-m-2px";
+  CssClass dui_m_2px = CssClass.of("dui-m-2px");
 
-  CssClass dui_m_3 = () -> "dui-m-3";
+  CssClass dui_m_3 = CssClass.of("dui-m-3");
 
-  CssClass dui_m_32 = () -> "dui-m-32";
+  CssClass dui_m_32 = CssClass.of("dui-m-32");
 
-  CssClass dui_m_36 = () -> "dui-m-36";
+  CssClass dui_m_36 = CssClass.of("dui-m-36");
 
-  CssClass dui_m_3_4p = () -> "dui-m-3_4p";
+  CssClass dui_m_3_4p = CssClass.of("dui-m-3_4p");
 
-  CssClass dui_m_3_5 = () -> "dui-m-3_5";
+  CssClass dui_m_3_5 = CssClass.of("dui-m-3_5");
 
-  CssClass dui_m_4 = () -> "dui-m-4";
+  CssClass dui_m_4 = CssClass.of("dui-m-4");
 
-  CssClass dui_m_40 = () -> "dui-m-40";
+  CssClass dui_m_40 = CssClass.of("dui-m-40");
 
-  CssClass dui_m_44 = () -> "dui-m-44";
+  CssClass dui_m_44 = CssClass.of("dui-m-44");
 
-  CssClass dui_m_48 = () -> "dui-m-48";
+  CssClass dui_m_48 = CssClass.of("dui-m-48");
 
-  CssClass dui_m_4px = () -> "dui-m-4px";
+  CssClass dui_m_4px = CssClass.of("dui-m-4px");
 
-  CssClass dui_m_5 = () -> "dui-m-5";
+  CssClass dui_m_5 = CssClass.of("dui-m-5");
 
-  CssClass dui_m_52 = () -> "dui-m-52";
+  CssClass dui_m_52 = CssClass.of("dui-m-52");
 
-  CssClass dui_m_56 = () -> "dui-m-56";
+  CssClass dui_m_56 = CssClass.of("dui-m-56");
 
-  CssClass dui_m_6 = () -> "dui-m-6";
+  CssClass dui_m_6 = CssClass.of("dui-m-6");
 
-  CssClass dui_m_60 = () -> "dui-m-60";
+  CssClass dui_m_60 = CssClass.of("dui-m-60");
 
-  CssClass dui_m_64 = () -> "dui-m-64";
+  CssClass dui_m_64 = CssClass.of("dui-m-64");
 
-  CssClass dui_m_7 = () -> "dui-m-7";
+  CssClass dui_m_7 = CssClass.of("dui-m-7");
 
-  CssClass dui_m_72 = () -> "dui-m-72";
+  CssClass dui_m_72 = CssClass.of("dui-m-72");
 
-  CssClass dui_m_8 = () -> "dui-m-8";
+  CssClass dui_m_8 = CssClass.of("dui-m-8");
 
-  CssClass dui_m_80 = () -> "dui-m-80";
+  CssClass dui_m_80 = CssClass.of("dui-m-80");
 
-  CssClass dui_m_8px = () -> "dui-m-8px";
+  CssClass dui_m_8px = CssClass.of("dui-m-8px");
 
-  CssClass dui_m_9 = () -> "dui-m-9";
+  CssClass dui_m_9 = CssClass.of("dui-m-9");
 
-  CssClass dui_m_96 = () -> "dui-m-96";
+  CssClass dui_m_96 = CssClass.of("dui-m-96");
 
-  CssClass dui_m_auto = () -> "dui-m-auto";
+  CssClass dui_m_auto = CssClass.of("dui-m-auto");
 
-  CssClass dui_m_b_0 = () -> "dui-m-b-0";
+  CssClass dui_m_b_0 = CssClass.of("dui-m-b-0");
 
-  CssClass dui_m_b_0_5 = () -> "dui-m-b-0_5";
+  CssClass dui_m_b_0_5 = CssClass.of("dui-m-b-0_5");
 
-  CssClass dui_m_b_1 = () -> "dui-m-b-1";
+  CssClass dui_m_b_1 = CssClass.of("dui-m-b-1");
 
-  CssClass dui_m_b_10 = () -> "dui-m-b-10";
+  CssClass dui_m_b_10 = CssClass.of("dui-m-b-10");
 
-  CssClass dui_m_b_11 = () -> "dui-m-b-11";
+  CssClass dui_m_b_11 = CssClass.of("dui-m-b-11");
 
-  CssClass dui_m_b_12 = () -> "dui-m-b-12";
+  CssClass dui_m_b_12 = CssClass.of("dui-m-b-12");
 
-  CssClass dui_m_b_14 = () -> "dui-m-b-14";
+  CssClass dui_m_b_14 = CssClass.of("dui-m-b-14");
 
-  CssClass dui_m_b_16 = () -> "dui-m-b-16";
+  CssClass dui_m_b_16 = CssClass.of("dui-m-b-16");
 
-  CssClass dui_m_b_1_2p = () -> "dui-m-b-1_2p";
+  CssClass dui_m_b_1_2p = CssClass.of("dui-m-b-1_2p");
 
-  CssClass dui_m_b_1_3p = () -> "dui-m-b-1_3p";
+  CssClass dui_m_b_1_3p = CssClass.of("dui-m-b-1_3p");
 
-  CssClass dui_m_b_1_4p = () -> "dui-m-b-1_4p";
+  CssClass dui_m_b_1_4p = CssClass.of("dui-m-b-1_4p");
 
-  CssClass dui_m_b_1_5 = () -> "dui-m-b-1_5";
+  CssClass dui_m_b_1_5 = CssClass.of("dui-m-b-1_5");
 
-  CssClass dui_m_b_2 = () -> "dui-m-b-2";
+  CssClass dui_m_b_2 = CssClass.of("dui-m-b-2");
 
-  CssClass dui_m_b_20 = () -> "dui-m-b-20";
+  CssClass dui_m_b_20 = CssClass.of("dui-m-b-20");
 
-  CssClass dui_m_b_24 = () -> "dui-m-b-24";
+  CssClass dui_m_b_24 = CssClass.of("dui-m-b-24");
 
-  CssClass dui_m_b_28 = () -> "dui-m-b-28";
+  CssClass dui_m_b_28 = CssClass.of("dui-m-b-28");
 
-  CssClass dui_m_b_2_3p = () -> "dui-m-b-2_3p";
+  CssClass dui_m_b_2_3p = CssClass.of("dui-m-b-2_3p");
 
-  CssClass dui_m_b_2_5 = () -> "dui-m-b-2_5";
+  CssClass dui_m_b_2_5 = CssClass.of("dui-m-b-2_5");
 
-  CssClass dui_m_b_2px = () -> "dui-m-b-2px";
+  CssClass dui_m_b_2px = CssClass.of("dui-m-b-2px");
 
-  CssClass dui_m_b_3 = () -> "dui-m-b-3";
+  CssClass dui_m_b_3 = CssClass.of("dui-m-b-3");
 
-  CssClass dui_m_b_32 = () -> "dui-m-b-32";
+  CssClass dui_m_b_32 = CssClass.of("dui-m-b-32");
 
-  CssClass dui_m_b_36 = () -> "dui-m-b-36";
+  CssClass dui_m_b_36 = CssClass.of("dui-m-b-36");
 
-  CssClass dui_m_b_3_4p = () -> "dui-m-b-3_4p";
+  CssClass dui_m_b_3_4p = CssClass.of("dui-m-b-3_4p");
 
-  CssClass dui_m_b_3_5 = () -> "dui-m-b-3_5";
+  CssClass dui_m_b_3_5 = CssClass.of("dui-m-b-3_5");
 
-  CssClass dui_m_b_4 = () -> "dui-m-b-4";
+  CssClass dui_m_b_4 = CssClass.of("dui-m-b-4");
 
-  CssClass dui_m_b_40 = () -> "dui-m-b-40";
+  CssClass dui_m_b_40 = CssClass.of("dui-m-b-40");
 
-  CssClass dui_m_b_44 = () -> "dui-m-b-44";
+  CssClass dui_m_b_44 = CssClass.of("dui-m-b-44");
 
-  CssClass dui_m_b_48 = () -> "dui-m-b-48";
+  CssClass dui_m_b_48 = CssClass.of("dui-m-b-48");
 
-  CssClass dui_m_b_4px = () -> "dui-m-b-4px";
+  CssClass dui_m_b_4px = CssClass.of("dui-m-b-4px");
 
-  CssClass dui_m_b_5 = () -> "dui-m-b-5";
+  CssClass dui_m_b_5 = CssClass.of("dui-m-b-5");
 
-  CssClass dui_m_b_52 = () -> "dui-m-b-52";
+  CssClass dui_m_b_52 = CssClass.of("dui-m-b-52");
 
-  CssClass dui_m_b_56 = () -> "dui-m-b-56";
+  CssClass dui_m_b_56 = CssClass.of("dui-m-b-56");
 
-  CssClass dui_m_b_6 = () -> "dui-m-b-6";
+  CssClass dui_m_b_6 = CssClass.of("dui-m-b-6");
 
-  CssClass dui_m_b_60 = () -> "dui-m-b-60";
+  CssClass dui_m_b_60 = CssClass.of("dui-m-b-60");
 
-  CssClass dui_m_b_64 = () -> "dui-m-b-64";
+  CssClass dui_m_b_64 = CssClass.of("dui-m-b-64");
 
-  CssClass dui_m_b_7 = () -> "dui-m-b-7";
+  CssClass dui_m_b_7 = CssClass.of("dui-m-b-7");
 
-  CssClass dui_m_b_72 = () -> "dui-m-b-72";
+  CssClass dui_m_b_72 = CssClass.of("dui-m-b-72");
 
-  CssClass dui_m_b_8 = () -> "dui-m-b-8";
+  CssClass dui_m_b_8 = CssClass.of("dui-m-b-8");
 
-  CssClass dui_m_b_80 = () -> "dui-m-b-80";
+  CssClass dui_m_b_80 = CssClass.of("dui-m-b-80");
 
-  CssClass dui_m_b_8px = () -> "dui-m-b-8px";
+  CssClass dui_m_b_8px = CssClass.of("dui-m-b-8px");
 
-  CssClass dui_m_b_9 = () -> "dui-m-b-9";
+  CssClass dui_m_b_9 = CssClass.of("dui-m-b-9");
 
-  CssClass dui_m_b_96 = () -> "dui-m-b-96";
+  CssClass dui_m_b_96 = CssClass.of("dui-m-b-96");
 
-  CssClass dui_m_b_auto = () -> "dui-m-b-auto";
+  CssClass dui_m_b_auto = CssClass.of("dui-m-b-auto");
 
-  CssClass dui_m_b_full = () -> "dui-m-b-full";
+  CssClass dui_m_b_full = CssClass.of("dui-m-b-full");
 
-  CssClass dui_m_b_px = () -> "dui-m-b-px";
+  CssClass dui_m_b_px = CssClass.of("dui-m-b-px");
 
-  CssClass dui_m_full = () -> "dui-m-full";
+  CssClass dui_m_full = CssClass.of("dui-m-full");
 
-  CssClass dui_m_l_0 = () -> "dui-m-l-0";
+  CssClass dui_m_l_0 = CssClass.of("dui-m-l-0");
 
-  CssClass dui_m_l_0_5 = () -> "dui-m-l-0_5";
+  CssClass dui_m_l_0_5 = CssClass.of("dui-m-l-0_5");
 
-  CssClass dui_m_l_1 = () -> "dui-m-l-1";
+  CssClass dui_m_l_1 = CssClass.of("dui-m-l-1");
 
-  CssClass dui_m_l_10 = () -> "dui-m-l-10";
+  CssClass dui_m_l_10 = CssClass.of("dui-m-l-10");
 
-  CssClass dui_m_l_11 = () -> "dui-m-l-11";
+  CssClass dui_m_l_11 = CssClass.of("dui-m-l-11");
 
-  CssClass dui_m_l_12 = () -> "dui-m-l-12";
+  CssClass dui_m_l_12 = CssClass.of("dui-m-l-12");
 
-  CssClass dui_m_l_14 = () -> "dui-m-l-14";
+  CssClass dui_m_l_14 = CssClass.of("dui-m-l-14");
 
-  CssClass dui_m_l_16 = () -> "dui-m-l-16";
+  CssClass dui_m_l_16 = CssClass.of("dui-m-l-16");
 
-  CssClass dui_m_l_1_2p = () -> "dui-m-l-1_2p";
+  CssClass dui_m_l_1_2p = CssClass.of("dui-m-l-1_2p");
 
-  CssClass dui_m_l_1_3p = () -> "dui-m-l-1_3p";
+  CssClass dui_m_l_1_3p = CssClass.of("dui-m-l-1_3p");
 
-  CssClass dui_m_l_1_4p = () -> "dui-m-l-1_4p";
+  CssClass dui_m_l_1_4p = CssClass.of("dui-m-l-1_4p");
 
-  CssClass dui_m_l_1_5 = () -> "dui-m-l-1_5";
+  CssClass dui_m_l_1_5 = CssClass.of("dui-m-l-1_5");
 
-  CssClass dui_m_l_2 = () -> "dui-m-l-2";
+  CssClass dui_m_l_2 = CssClass.of("dui-m-l-2");
 
-  CssClass dui_m_l_20 = () -> "dui-m-l-20";
+  CssClass dui_m_l_20 = CssClass.of("dui-m-l-20");
 
-  CssClass dui_m_l_24 = () -> "dui-m-l-24";
+  CssClass dui_m_l_24 = CssClass.of("dui-m-l-24");
 
-  CssClass dui_m_l_28 = () -> "dui-m-l-28";
+  CssClass dui_m_l_28 = CssClass.of("dui-m-l-28");
 
-  CssClass dui_m_l_2_3p = () -> "dui-m-l-2_3p";
+  CssClass dui_m_l_2_3p = CssClass.of("dui-m-l-2_3p");
 
-  CssClass dui_m_l_2_5 = () -> "dui-m-l-2_5";
+  CssClass dui_m_l_2_5 = CssClass.of("dui-m-l-2_5");
 
-  CssClass dui_m_l_2px = () -> "dui-m-l-2px";
+  CssClass dui_m_l_2px = CssClass.of("dui-m-l-2px");
 
-  CssClass dui_m_l_3 = () -> "dui-m-l-3";
+  CssClass dui_m_l_3 = CssClass.of("dui-m-l-3");
 
-  CssClass dui_m_l_32 = () -> "dui-m-l-32";
+  CssClass dui_m_l_32 = CssClass.of("dui-m-l-32");
 
-  CssClass dui_m_l_36 = () -> "dui-m-l-36";
+  CssClass dui_m_l_36 = CssClass.of("dui-m-l-36");
 
-  CssClass dui_m_l_3_4p = () -> "dui-m-l-3_4p";
+  CssClass dui_m_l_3_4p = CssClass.of("dui-m-l-3_4p");
 
-  CssClass dui_m_l_3_5 = () -> "dui-m-l-3_5";
+  CssClass dui_m_l_3_5 = CssClass.of("dui-m-l-3_5");
 
-  CssClass dui_m_l_4 = () -> "dui-m-l-4";
+  CssClass dui_m_l_4 = CssClass.of("dui-m-l-4");
 
-  CssClass dui_m_l_40 = () -> "dui-m-l-40";
+  CssClass dui_m_l_40 = CssClass.of("dui-m-l-40");
 
-  CssClass dui_m_l_44 = () -> "dui-m-l-44";
+  CssClass dui_m_l_44 = CssClass.of("dui-m-l-44");
 
-  CssClass dui_m_l_48 = () -> "dui-m-l-48";
+  CssClass dui_m_l_48 = CssClass.of("dui-m-l-48");
 
-  CssClass dui_m_l_4px = () -> "dui-m-l-4px";
+  CssClass dui_m_l_4px = CssClass.of("dui-m-l-4px");
 
-  CssClass dui_m_l_5 = () -> "dui-m-l-5";
+  CssClass dui_m_l_5 = CssClass.of("dui-m-l-5");
 
-  CssClass dui_m_l_52 = () -> "dui-m-l-52";
+  CssClass dui_m_l_52 = CssClass.of("dui-m-l-52");
 
-  CssClass dui_m_l_56 = () -> "dui-m-l-56";
+  CssClass dui_m_l_56 = CssClass.of("dui-m-l-56");
 
-  CssClass dui_m_l_6 = () -> "dui-m-l-6";
+  CssClass dui_m_l_6 = CssClass.of("dui-m-l-6");
 
-  CssClass dui_m_l_60 = () -> "dui-m-l-60";
+  CssClass dui_m_l_60 = CssClass.of("dui-m-l-60");
 
-  CssClass dui_m_l_64 = () -> "dui-m-l-64";
+  CssClass dui_m_l_64 = CssClass.of("dui-m-l-64");
 
-  CssClass dui_m_l_7 = () -> "dui-m-l-7";
+  CssClass dui_m_l_7 = CssClass.of("dui-m-l-7");
 
-  CssClass dui_m_l_72 = () -> "dui-m-l-72";
+  CssClass dui_m_l_72 = CssClass.of("dui-m-l-72");
 
-  CssClass dui_m_l_8 = () -> "dui-m-l-8";
+  CssClass dui_m_l_8 = CssClass.of("dui-m-l-8");
 
-  CssClass dui_m_l_80 = () -> "dui-m-l-80";
+  CssClass dui_m_l_80 = CssClass.of("dui-m-l-80");
 
-  CssClass dui_m_l_8px = () -> "dui-m-l-8px";
+  CssClass dui_m_l_8px = CssClass.of("dui-m-l-8px");
 
-  CssClass dui_m_l_9 = () -> "dui-m-l-9";
+  CssClass dui_m_l_9 = CssClass.of("dui-m-l-9");
 
-  CssClass dui_m_l_96 = () -> "dui-m-l-96";
+  CssClass dui_m_l_96 = CssClass.of("dui-m-l-96");
 
-  CssClass dui_m_l_auto = () -> "dui-m-l-auto";
+  CssClass dui_m_l_auto = CssClass.of("dui-m-l-auto");
 
-  CssClass dui_m_l_full = () -> "dui-m-l-full";
+  CssClass dui_m_l_full = CssClass.of("dui-m-l-full");
 
-  CssClass dui_m_l_px = () -> "dui-m-l-px";
+  CssClass dui_m_l_px = CssClass.of("dui-m-l-px");
 
-  CssClass dui_m_px = () -> "dui-m-px";
+  CssClass dui_m_px = CssClass.of("dui-m-px");
 
-  CssClass dui_m_r_0 = () -> "dui-m-r-0";
+  CssClass dui_m_r_0 = CssClass.of("dui-m-r-0");
 
-  CssClass dui_m_r_0_5 = () -> "dui-m-r-0_5";
+  CssClass dui_m_r_0_5 = CssClass.of("dui-m-r-0_5");
 
-  CssClass dui_m_r_1 = () -> "dui-m-r-1";
+  CssClass dui_m_r_1 = CssClass.of("dui-m-r-1");
 
-  CssClass dui_m_r_10 = () -> "dui-m-r-10";
+  CssClass dui_m_r_10 = CssClass.of("dui-m-r-10");
 
-  CssClass dui_m_r_11 = () -> "dui-m-r-11";
+  CssClass dui_m_r_11 = CssClass.of("dui-m-r-11");
 
-  CssClass dui_m_r_12 = () -> "dui-m-r-12";
+  CssClass dui_m_r_12 = CssClass.of("dui-m-r-12");
 
-  CssClass dui_m_r_14 = () -> "dui-m-r-14";
+  CssClass dui_m_r_14 = CssClass.of("dui-m-r-14");
 
-  CssClass dui_m_r_16 = () -> "dui-m-r-16";
+  CssClass dui_m_r_16 = CssClass.of("dui-m-r-16");
 
-  CssClass dui_m_r_1_2p = () -> "dui-m-r-1_2p";
+  CssClass dui_m_r_1_2p = CssClass.of("dui-m-r-1_2p");
 
-  CssClass dui_m_r_1_3p = () -> "dui-m-r-1_3p";
+  CssClass dui_m_r_1_3p = CssClass.of("dui-m-r-1_3p");
 
-  CssClass dui_m_r_1_4p = () -> "dui-m-r-1_4p";
+  CssClass dui_m_r_1_4p = CssClass.of("dui-m-r-1_4p");
 
-  CssClass dui_m_r_1_5 = () -> "dui-m-r-1_5";
+  CssClass dui_m_r_1_5 = CssClass.of("dui-m-r-1_5");
 
-  CssClass dui_m_r_2 = () -> "dui-m-r-2";
+  CssClass dui_m_r_2 = CssClass.of("dui-m-r-2");
 
-  CssClass dui_m_r_20 = () -> "dui-m-r-20";
+  CssClass dui_m_r_20 = CssClass.of("dui-m-r-20");
 
-  CssClass dui_m_r_24 = () -> "dui-m-r-24";
+  CssClass dui_m_r_24 = CssClass.of("dui-m-r-24");
 
-  CssClass dui_m_r_28 = () -> "dui-m-r-28";
+  CssClass dui_m_r_28 = CssClass.of("dui-m-r-28");
 
-  CssClass dui_m_r_2_3p = () -> "dui-m-r-2_3p";
+  CssClass dui_m_r_2_3p = CssClass.of("dui-m-r-2_3p");
 
-  CssClass dui_m_r_2_5 = () -> "dui-m-r-2_5";
+  CssClass dui_m_r_2_5 = CssClass.of("dui-m-r-2_5");
 
-  CssClass dui_m_r_2px = () -> "dui-m-r-2px";
+  CssClass dui_m_r_2px = CssClass.of("dui-m-r-2px");
 
-  CssClass dui_m_r_3 = () -> "dui-m-r-3";
+  CssClass dui_m_r_3 = CssClass.of("dui-m-r-3");
 
-  CssClass dui_m_r_32 = () -> "dui-m-r-32";
+  CssClass dui_m_r_32 = CssClass.of("dui-m-r-32");
 
-  CssClass dui_m_r_36 = () -> "dui-m-r-36";
+  CssClass dui_m_r_36 = CssClass.of("dui-m-r-36");
 
-  CssClass dui_m_r_3_4p = () -> "dui-m-r-3_4p";
+  CssClass dui_m_r_3_4p = CssClass.of("dui-m-r-3_4p");
 
-  CssClass dui_m_r_3_5 = () -> "dui-m-r-3_5";
+  CssClass dui_m_r_3_5 = CssClass.of("dui-m-r-3_5");
 
-  CssClass dui_m_r_4 = () -> "dui-m-r-4";
+  CssClass dui_m_r_4 = CssClass.of("dui-m-r-4");
 
-  CssClass dui_m_r_40 = () -> "dui-m-r-40";
+  CssClass dui_m_r_40 = CssClass.of("dui-m-r-40");
 
-  CssClass dui_m_r_44 = () -> "dui-m-r-44";
+  CssClass dui_m_r_44 = CssClass.of("dui-m-r-44");
 
-  CssClass dui_m_r_48 = () -> "dui-m-r-48";
+  CssClass dui_m_r_48 = CssClass.of("dui-m-r-48");
 
-  CssClass dui_m_r_4px = () -> "dui-m-r-4px";
+  CssClass dui_m_r_4px = CssClass.of("dui-m-r-4px");
 
-  CssClass dui_m_r_5 = () -> "dui-m-r-5";
+  CssClass dui_m_r_5 = CssClass.of("dui-m-r-5");
 
-  CssClass dui_m_r_52 = () -> "dui-m-r-52";
+  CssClass dui_m_r_52 = CssClass.of("dui-m-r-52");
 
-  CssClass dui_m_r_56 = () -> "dui-m-r-56";
+  CssClass dui_m_r_56 = CssClass.of("dui-m-r-56");
 
-  CssClass dui_m_r_6 = () -> "dui-m-r-6";
+  CssClass dui_m_r_6 = CssClass.of("dui-m-r-6");
 
-  CssClass dui_m_r_60 = () -> "dui-m-r-60";
+  CssClass dui_m_r_60 = CssClass.of("dui-m-r-60");
 
-  CssClass dui_m_r_64 = () -> "dui-m-r-64";
+  CssClass dui_m_r_64 = CssClass.of("dui-m-r-64");
 
-  CssClass dui_m_r_7 = () -> "dui-m-r-7";
+  CssClass dui_m_r_7 = CssClass.of("dui-m-r-7");
 
-  CssClass dui_m_r_72 = () -> "dui-m-r-72";
+  CssClass dui_m_r_72 = CssClass.of("dui-m-r-72");
 
-  CssClass dui_m_r_8 = () -> "dui-m-r-8";
+  CssClass dui_m_r_8 = CssClass.of("dui-m-r-8");
 
-  CssClass dui_m_r_80 = () -> "dui-m-r-80";
+  CssClass dui_m_r_80 = CssClass.of("dui-m-r-80");
 
-  CssClass dui_m_r_8px = () -> "dui-m-r-8px";
+  CssClass dui_m_r_8px = CssClass.of("dui-m-r-8px");
 
-  CssClass dui_m_r_9 = () -> "dui-m-r-9";
+  CssClass dui_m_r_9 = CssClass.of("dui-m-r-9");
 
-  CssClass dui_m_r_96 = () -> "dui-m-r-96";
+  CssClass dui_m_r_96 = CssClass.of("dui-m-r-96");
 
-  CssClass dui_m_r_auto = () -> "dui-m-r-auto";
+  CssClass dui_m_r_auto = CssClass.of("dui-m-r-auto");
 
-  CssClass dui_m_r_full = () -> "dui-m-r-full";
+  CssClass dui_m_r_full = CssClass.of("dui-m-r-full");
 
-  CssClass dui_m_r_px = () -> "dui-m-r-px";
+  CssClass dui_m_r_px = CssClass.of("dui-m-r-px");
 
-  CssClass dui_m_t_0 = () -> "dui-m-t-0";
+  CssClass dui_m_t_0 = CssClass.of("dui-m-t-0");
 
-  CssClass dui_m_t_0_5 = () -> "dui-m-t-0_5";
+  CssClass dui_m_t_0_5 = CssClass.of("dui-m-t-0_5");
 
-  CssClass dui_m_t_1 = () -> "dui-m-t-1";
+  CssClass dui_m_t_1 = CssClass.of("dui-m-t-1");
 
-  CssClass dui_m_t_10 = () -> "dui-m-t-10";
+  CssClass dui_m_t_10 = CssClass.of("dui-m-t-10");
 
-  CssClass dui_m_t_11 = () -> "dui-m-t-11";
+  CssClass dui_m_t_11 = CssClass.of("dui-m-t-11");
 
-  CssClass dui_m_t_12 = () -> "dui-m-t-12";
+  CssClass dui_m_t_12 = CssClass.of("dui-m-t-12");
 
-  CssClass dui_m_t_14 = () -> "dui-m-t-14";
+  CssClass dui_m_t_14 = CssClass.of("dui-m-t-14");
 
-  CssClass dui_m_t_16 = () -> "dui-m-t-16";
+  CssClass dui_m_t_16 = CssClass.of("dui-m-t-16");
 
-  CssClass dui_m_t_1_2p = () -> "dui-m-t-1_2p";
+  CssClass dui_m_t_1_2p = CssClass.of("dui-m-t-1_2p");
 
-  CssClass dui_m_t_1_3p = () -> "dui-m-t-1_3p";
+  CssClass dui_m_t_1_3p = CssClass.of("dui-m-t-1_3p");
 
-  CssClass dui_m_t_1_4p = () -> "dui-m-t-1_4p";
+  CssClass dui_m_t_1_4p = CssClass.of("dui-m-t-1_4p");
 
-  CssClass dui_m_t_1_5 = () -> "dui-m-t-1_5";
+  CssClass dui_m_t_1_5 = CssClass.of("dui-m-t-1_5");
 
-  CssClass dui_m_t_2 = () -> "dui-m-t-2";
+  CssClass dui_m_t_2 = CssClass.of("dui-m-t-2");
 
-  CssClass dui_m_t_20 = () -> "dui-m-t-20";
+  CssClass dui_m_t_20 = CssClass.of("dui-m-t-20");
 
-  CssClass dui_m_t_24 = () -> "dui-m-t-24";
+  CssClass dui_m_t_24 = CssClass.of("dui-m-t-24");
 
-  CssClass dui_m_t_28 = () -> "dui-m-t-28";
+  CssClass dui_m_t_28 = CssClass.of("dui-m-t-28");
 
-  CssClass dui_m_t_2_3p = () -> "dui-m-t-2_3p";
+  CssClass dui_m_t_2_3p = CssClass.of("dui-m-t-2_3p");
 
-  CssClass dui_m_t_2_5 = () -> "dui-m-t-2_5";
+  CssClass dui_m_t_2_5 = CssClass.of("dui-m-t-2_5");
 
-  CssClass dui_m_t_2px = () -> "dui-m-t-2px";
+  CssClass dui_m_t_2px = CssClass.of("dui-m-t-2px");
 
-  CssClass dui_m_t_3 = () -> "dui-m-t-3";
+  CssClass dui_m_t_3 = CssClass.of("dui-m-t-3");
 
-  CssClass dui_m_t_32 = () -> "dui-m-t-32";
+  CssClass dui_m_t_32 = CssClass.of("dui-m-t-32");
 
-  CssClass dui_m_t_36 = () -> "dui-m-t-36";
+  CssClass dui_m_t_36 = CssClass.of("dui-m-t-36");
 
-  CssClass dui_m_t_3_4p = () -> "dui-m-t-3_4p";
+  CssClass dui_m_t_3_4p = CssClass.of("dui-m-t-3_4p");
 
-  CssClass dui_m_t_3_5 = () -> "dui-m-t-3_5";
+  CssClass dui_m_t_3_5 = CssClass.of("dui-m-t-3_5");
 
-  CssClass dui_m_t_4 = () -> "dui-m-t-4";
+  CssClass dui_m_t_4 = CssClass.of("dui-m-t-4");
 
-  CssClass dui_m_t_40 = () -> "dui-m-t-40";
+  CssClass dui_m_t_40 = CssClass.of("dui-m-t-40");
 
-  CssClass dui_m_t_44 = () -> "dui-m-t-44";
+  CssClass dui_m_t_44 = CssClass.of("dui-m-t-44");
 
-  CssClass dui_m_t_48 = () -> "dui-m-t-48";
+  CssClass dui_m_t_48 = CssClass.of("dui-m-t-48");
 
-  CssClass dui_m_t_4px = () -> "dui-m-t-4px";
+  CssClass dui_m_t_4px = CssClass.of("dui-m-t-4px");
 
-  CssClass dui_m_t_5 = () -> "dui-m-t-5";
+  CssClass dui_m_t_5 = CssClass.of("dui-m-t-5");
 
-  CssClass dui_m_t_52 = () -> "dui-m-t-52";
+  CssClass dui_m_t_52 = CssClass.of("dui-m-t-52");
 
-  CssClass dui_m_t_56 = () -> "dui-m-t-56";
+  CssClass dui_m_t_56 = CssClass.of("dui-m-t-56");
 
-  CssClass dui_m_t_6 = () -> "dui-m-t-6";
+  CssClass dui_m_t_6 = CssClass.of("dui-m-t-6");
 
-  CssClass dui_m_t_60 = () -> "dui-m-t-60";
+  CssClass dui_m_t_60 = CssClass.of("dui-m-t-60");
 
-  CssClass dui_m_t_64 = () -> "dui-m-t-64";
+  CssClass dui_m_t_64 = CssClass.of("dui-m-t-64");
 
-  CssClass dui_m_t_7 = () -> "dui-m-t-7";
+  CssClass dui_m_t_7 = CssClass.of("dui-m-t-7");
 
-  CssClass dui_m_t_72 = () -> "dui-m-t-72";
+  CssClass dui_m_t_72 = CssClass.of("dui-m-t-72");
 
-  CssClass dui_m_t_8 = () -> "dui-m-t-8";
+  CssClass dui_m_t_8 = CssClass.of("dui-m-t-8");
 
-  CssClass dui_m_t_80 = () -> "dui-m-t-80";
+  CssClass dui_m_t_80 = CssClass.of("dui-m-t-80");
 
-  CssClass dui_m_t_8px = () -> "dui-m-t-8px";
+  CssClass dui_m_t_8px = CssClass.of("dui-m-t-8px");
 
-  CssClass dui_m_t_9 = () -> "dui-m-t-9";
+  CssClass dui_m_t_9 = CssClass.of("dui-m-t-9");
 
-  CssClass dui_m_t_96 = () -> "dui-m-t-96";
+  CssClass dui_m_t_96 = CssClass.of("dui-m-t-96");
 
-  CssClass dui_m_t_auto = () -> "dui-m-t-auto";
+  CssClass dui_m_t_auto = CssClass.of("dui-m-t-auto");
 
-  CssClass dui_m_t_full = () -> "dui-m-t-full";
+  CssClass dui_m_t_full = CssClass.of("dui-m-t-full");
 
-  CssClass dui_m_t_px = () -> "dui-m-t-px";
+  CssClass dui_m_t_px = CssClass.of("dui-m-t-px");
 
-  CssClass dui_m_x_0 = () -> "dui-m-x-0";
+  CssClass dui_m_x_0 = CssClass.of("dui-m-x-0");
 
-  CssClass dui_m_x_0_5 = () -> "dui-m-x-0_5";
+  CssClass dui_m_x_0_5 = CssClass.of("dui-m-x-0_5");
 
-  CssClass dui_m_x_1 = () -> "dui-m-x-1";
+  CssClass dui_m_x_1 = CssClass.of("dui-m-x-1");
 
-  CssClass dui_m_x_10 = () -> "dui-m-x-10";
+  CssClass dui_m_x_10 = CssClass.of("dui-m-x-10");
 
-  CssClass dui_m_x_11 = () -> "dui-m-x-11";
+  CssClass dui_m_x_11 = CssClass.of("dui-m-x-11");
 
-  CssClass dui_m_x_12 = () -> "dui-m-x-12";
+  CssClass dui_m_x_12 = CssClass.of("dui-m-x-12");
 
-  CssClass dui_m_x_14 = () -> "dui-m-x-14";
+  CssClass dui_m_x_14 = CssClass.of("dui-m-x-14");
 
-  CssClass dui_m_x_16 = () -> "dui-m-x-16";
+  CssClass dui_m_x_16 = CssClass.of("dui-m-x-16");
 
-  CssClass dui_m_x_1_2p = () -> "dui-m-x-1_2p";
+  CssClass dui_m_x_1_2p = CssClass.of("dui-m-x-1_2p");
 
-  CssClass dui_m_x_1_3p = () -> "dui-m-x-1_3p";
+  CssClass dui_m_x_1_3p = CssClass.of("dui-m-x-1_3p");
 
-  CssClass dui_m_x_1_4p = () -> "dui-m-x-1_4p";
+  CssClass dui_m_x_1_4p = CssClass.of("dui-m-x-1_4p");
 
-  CssClass dui_m_x_1_5 = () -> "dui-m-x-1_5";
+  CssClass dui_m_x_1_5 = CssClass.of("dui-m-x-1_5");
 
-  CssClass dui_m_x_2 = () -> "dui-m-x-2";
+  CssClass dui_m_x_2 = CssClass.of("dui-m-x-2");
 
-  CssClass dui_m_x_20 = () -> "dui-m-x-20";
+  CssClass dui_m_x_20 = CssClass.of("dui-m-x-20");
 
-  CssClass dui_m_x_24 = () -> "dui-m-x-24";
+  CssClass dui_m_x_24 = CssClass.of("dui-m-x-24");
 
-  CssClass dui_m_x_28 = () -> "dui-m-x-28";
+  CssClass dui_m_x_28 = CssClass.of("dui-m-x-28");
 
-  CssClass dui_m_x_2_3p = () -> "dui-m-x-2_3p";
+  CssClass dui_m_x_2_3p = CssClass.of("dui-m-x-2_3p");
 
-  CssClass dui_m_x_2_5 = () -> "dui-m-x-2_5";
+  CssClass dui_m_x_2_5 = CssClass.of("dui-m-x-2_5");
 
-  CssClass dui_m_x_2px = () -> "dui-m-x-2px";
+  CssClass dui_m_x_2px = CssClass.of("dui-m-x-2px");
 
-  CssClass dui_m_x_3 = () -> "dui-m-x-3";
+  CssClass dui_m_x_3 = CssClass.of("dui-m-x-3");
 
-  CssClass dui_m_x_32 = () -> "dui-m-x-32";
+  CssClass dui_m_x_32 = CssClass.of("dui-m-x-32");
 
-  CssClass dui_m_x_36 = () -> "dui-m-x-36";
+  CssClass dui_m_x_36 = CssClass.of("dui-m-x-36");
 
-  CssClass dui_m_x_3_4p = () -> "dui-m-x-3_4p";
+  CssClass dui_m_x_3_4p = CssClass.of("dui-m-x-3_4p");
 
-  CssClass dui_m_x_3_5 = () -> "dui-m-x-3_5";
+  CssClass dui_m_x_3_5 = CssClass.of("dui-m-x-3_5");
 
-  CssClass dui_m_x_4 = () -> "dui-m-x-4";
+  CssClass dui_m_x_4 = CssClass.of("dui-m-x-4");
 
-  CssClass dui_m_x_40 = () -> "dui-m-x-40";
+  CssClass dui_m_x_40 = CssClass.of("dui-m-x-40");
 
-  CssClass dui_m_x_44 = () -> "dui-m-x-44";
+  CssClass dui_m_x_44 = CssClass.of("dui-m-x-44");
 
-  CssClass dui_m_x_48 = () -> "dui-m-x-48";
+  CssClass dui_m_x_48 = CssClass.of("dui-m-x-48");
 
-  CssClass dui_m_x_4px = () -> "dui-m-x-4px";
+  CssClass dui_m_x_4px = CssClass.of("dui-m-x-4px");
 
-  CssClass dui_m_x_5 = () -> "dui-m-x-5";
+  CssClass dui_m_x_5 = CssClass.of("dui-m-x-5");
 
-  CssClass dui_m_x_52 = () -> "dui-m-x-52";
+  CssClass dui_m_x_52 = CssClass.of("dui-m-x-52");
 
-  CssClass dui_m_x_56 = () -> "dui-m-x-56";
+  CssClass dui_m_x_56 = CssClass.of("dui-m-x-56");
 
-  CssClass dui_m_x_6 = () -> "dui-m-x-6";
+  CssClass dui_m_x_6 = CssClass.of("dui-m-x-6");
 
-  CssClass dui_m_x_60 = () -> "dui-m-x-60";
+  CssClass dui_m_x_60 = CssClass.of("dui-m-x-60");
 
-  CssClass dui_m_x_64 = () -> "dui-m-x-64";
+  CssClass dui_m_x_64 = CssClass.of("dui-m-x-64");
 
-  CssClass dui_m_x_7 = () -> "dui-m-x-7";
+  CssClass dui_m_x_7 = CssClass.of("dui-m-x-7");
 
-  CssClass dui_m_x_72 = () -> "dui-m-x-72";
+  CssClass dui_m_x_72 = CssClass.of("dui-m-x-72");
 
-  CssClass dui_m_x_8 = () -> "dui-m-x-8";
+  CssClass dui_m_x_8 = CssClass.of("dui-m-x-8");
 
-  CssClass dui_m_x_80 = () -> "dui-m-x-80";
+  CssClass dui_m_x_80 = CssClass.of("dui-m-x-80");
 
-  CssClass dui_m_x_8px = () -> "dui-m-x-8px";
+  CssClass dui_m_x_8px = CssClass.of("dui-m-x-8px");
 
-  CssClass dui_m_x_9 = () -> "dui-m-x-9";
+  CssClass dui_m_x_9 = CssClass.of("dui-m-x-9");
 
-  CssClass dui_m_x_96 = () -> "dui-m-x-96";
+  CssClass dui_m_x_96 = CssClass.of("dui-m-x-96");
 
-  CssClass dui_m_x_auto = () -> "dui-m-x-auto";
+  CssClass dui_m_x_auto = CssClass.of("dui-m-x-auto");
 
-  CssClass dui_m_x_full = () -> "dui-m-x-full";
+  CssClass dui_m_x_full = CssClass.of("dui-m-x-full");
 
-  CssClass dui_m_x_px = () -> "dui-m-x-px";
+  CssClass dui_m_x_px = CssClass.of("dui-m-x-px");
 
-  CssClass dui_m_y_0 = () -> "dui-m-y-0";
+  CssClass dui_m_y_0 = CssClass.of("dui-m-y-0");
 
-  CssClass dui_m_y_0_5 = () -> "dui-m-y-0_5";
+  CssClass dui_m_y_0_5 = CssClass.of("dui-m-y-0_5");
 
-  CssClass dui_m_y_1 = () -> "dui-m-y-1";
+  CssClass dui_m_y_1 = CssClass.of("dui-m-y-1");
 
-  CssClass dui_m_y_10 = () -> "dui-m-y-10";
+  CssClass dui_m_y_10 = CssClass.of("dui-m-y-10");
 
-  CssClass dui_m_y_11 = () -> "dui-m-y-11";
+  CssClass dui_m_y_11 = CssClass.of("dui-m-y-11");
 
-  CssClass dui_m_y_12 = () -> "dui-m-y-12";
+  CssClass dui_m_y_12 = CssClass.of("dui-m-y-12");
 
-  CssClass dui_m_y_14 = () -> "dui-m-y-14";
+  CssClass dui_m_y_14 = CssClass.of("dui-m-y-14");
 
-  CssClass dui_m_y_16 = () -> "dui-m-y-16";
+  CssClass dui_m_y_16 = CssClass.of("dui-m-y-16");
 
-  CssClass dui_m_y_1_2p = () -> "dui-m-y-1_2p";
+  CssClass dui_m_y_1_2p = CssClass.of("dui-m-y-1_2p");
 
-  CssClass dui_m_y_1_3p = () -> "dui-m-y-1_3p";
+  CssClass dui_m_y_1_3p = CssClass.of("dui-m-y-1_3p");
 
-  CssClass dui_m_y_1_4p = () -> "dui-m-y-1_4p";
+  CssClass dui_m_y_1_4p = CssClass.of("dui-m-y-1_4p");
 
-  CssClass dui_m_y_1_5 = () -> "dui-m-y-1_5";
+  CssClass dui_m_y_1_5 = CssClass.of("dui-m-y-1_5");
 
-  CssClass dui_m_y_2 = () -> "dui-m-y-2";
+  CssClass dui_m_y_2 = CssClass.of("dui-m-y-2");
 
-  CssClass dui_m_y_20 = () -> "dui-m-y-20";
+  CssClass dui_m_y_20 = CssClass.of("dui-m-y-20");
 
-  CssClass dui_m_y_24 = () -> "dui-m-y-24";
+  CssClass dui_m_y_24 = CssClass.of("dui-m-y-24");
 
-  CssClass dui_m_y_28 = () -> "dui-m-y-28";
+  CssClass dui_m_y_28 = CssClass.of("dui-m-y-28");
 
-  CssClass dui_m_y_2_3p = () -> "dui-m-y-2_3p";
+  CssClass dui_m_y_2_3p = CssClass.of("dui-m-y-2_3p");
 
-  CssClass dui_m_y_2_5 = () -> "dui-m-y-2_5";
+  CssClass dui_m_y_2_5 = CssClass.of("dui-m-y-2_5");
 
-  CssClass dui_m_y_2px = () -> "dui-m-y-2px";
+  CssClass dui_m_y_2px = CssClass.of("dui-m-y-2px");
 
-  CssClass dui_m_y_3 = () -> "dui-m-y-3";
+  CssClass dui_m_y_3 = CssClass.of("dui-m-y-3");
 
-  CssClass dui_m_y_32 = () -> "dui-m-y-32";
+  CssClass dui_m_y_32 = CssClass.of("dui-m-y-32");
 
-  CssClass dui_m_y_36 = () -> "dui-m-y-36";
+  CssClass dui_m_y_36 = CssClass.of("dui-m-y-36");
 
-  CssClass dui_m_y_3_4p = () -> "dui-m-y-3_4p";
+  CssClass dui_m_y_3_4p = CssClass.of("dui-m-y-3_4p");
 
-  CssClass dui_m_y_3_5 = () -> "dui-m-y-3_5";
+  CssClass dui_m_y_3_5 = CssClass.of("dui-m-y-3_5");
 
-  CssClass dui_m_y_4 = () -> "dui-m-y-4";
+  CssClass dui_m_y_4 = CssClass.of("dui-m-y-4");
 
-  CssClass dui_m_y_40 = () -> "dui-m-y-40";
+  CssClass dui_m_y_40 = CssClass.of("dui-m-y-40");
 
-  CssClass dui_m_y_44 = () -> "dui-m-y-44";
+  CssClass dui_m_y_44 = CssClass.of("dui-m-y-44");
 
-  CssClass dui_m_y_48 = () -> "dui-m-y-48";
+  CssClass dui_m_y_48 = CssClass.of("dui-m-y-48");
 
-  CssClass dui_m_y_4px = () -> "dui-m-y-4px";
+  CssClass dui_m_y_4px = CssClass.of("dui-m-y-4px");
 
-  CssClass dui_m_y_5 = () -> "dui-m-y-5";
+  CssClass dui_m_y_5 = CssClass.of("dui-m-y-5");
 
-  CssClass dui_m_y_52 = () -> "dui-m-y-52";
+  CssClass dui_m_y_52 = CssClass.of("dui-m-y-52");
 
-  CssClass dui_m_y_56 = () -> "dui-m-y-56";
+  CssClass dui_m_y_56 = CssClass.of("dui-m-y-56");
 
-  CssClass dui_m_y_6 = () -> "dui-m-y-6";
+  CssClass dui_m_y_6 = CssClass.of("dui-m-y-6");
 
-  CssClass dui_m_y_60 = () -> "dui-m-y-60";
+  CssClass dui_m_y_60 = CssClass.of("dui-m-y-60");
 
-  CssClass dui_m_y_64 = () -> "dui-m-y-64";
+  CssClass dui_m_y_64 = CssClass.of("dui-m-y-64");
 
-  CssClass dui_m_y_7 = () -> "dui-m-y-7";
+  CssClass dui_m_y_7 = CssClass.of("dui-m-y-7");
 
-  CssClass dui_m_y_72 = () -> "dui-m-y-72";
+  CssClass dui_m_y_72 = CssClass.of("dui-m-y-72");
 
-  CssClass dui_m_y_8 = () -> "dui-m-y-8";
+  CssClass dui_m_y_8 = CssClass.of("dui-m-y-8");
 
-  CssClass dui_m_y_80 = () -> "dui-m-y-80";
+  CssClass dui_m_y_80 = CssClass.of("dui-m-y-80");
 
-  CssClass dui_m_y_8px = () -> "dui-m-y-8px";
+  CssClass dui_m_y_8px = CssClass.of("dui-m-y-8px");
 
-  CssClass dui_m_y_9 = () -> "dui-m-y-9";
+  CssClass dui_m_y_9 = CssClass.of("dui-m-y-9");
 
-  CssClass dui_m_y_96 = () -> "dui-m-y-96";
+  CssClass dui_m_y_96 = CssClass.of("dui-m-y-96");
 
-  CssClass dui_m_y_auto = () -> "dui-m-y-auto";
+  CssClass dui_m_y_auto = CssClass.of("dui-m-y-auto");
 
-  CssClass dui_m_y_full = () -> "dui-m-y-full";
+  CssClass dui_m_y_full = CssClass.of("dui-m-y-full");
 
-  CssClass dui_m_y_px = () -> "dui-m-y-px";
+  CssClass dui_m_y_px = CssClass.of("dui-m-y-px");
 
-  CssClass dui_max_h_0 = () -> "dui-max-h-0";
+  CssClass dui_max_h_0 = CssClass.of("dui-max-h-0");
 
-  CssClass dui_max_h_0_5 = () -> "dui-max-h-0_5";
+  CssClass dui_max_h_0_5 = CssClass.of("dui-max-h-0_5");
 
-  CssClass dui_max_h_1 = () -> "dui-max-h-1";
+  CssClass dui_max_h_1 = CssClass.of("dui-max-h-1");
 
-  CssClass dui_max_h_10 = () -> "dui-max-h-10";
+  CssClass dui_max_h_10 = CssClass.of("dui-max-h-10");
 
-  CssClass dui_max_h_11 = () -> "dui-max-h-11";
+  CssClass dui_max_h_11 = CssClass.of("dui-max-h-11");
 
-  CssClass dui_max_h_12 = () -> "dui-max-h-12";
+  CssClass dui_max_h_12 = CssClass.of("dui-max-h-12");
 
-  CssClass dui_max_h_14 = () -> "dui-max-h-14";
+  CssClass dui_max_h_14 = CssClass.of("dui-max-h-14");
 
-  CssClass dui_max_h_16 = () -> "dui-max-h-16";
+  CssClass dui_max_h_16 = CssClass.of("dui-max-h-16");
 
-  CssClass dui_max_h_1_2p = () -> "dui-max-h-1_2p";
+  CssClass dui_max_h_1_2p = CssClass.of("dui-max-h-1_2p");
 
-  CssClass dui_max_h_1_3p = () -> "dui-max-h-1_3p";
+  CssClass dui_max_h_1_3p = CssClass.of("dui-max-h-1_3p");
 
-  CssClass dui_max_h_1_4p = () -> "dui-max-h-1_4p";
+  CssClass dui_max_h_1_4p = CssClass.of("dui-max-h-1_4p");
 
-  CssClass dui_max_h_1_5 = () -> "dui-max-h-1_5";
+  CssClass dui_max_h_1_5 = CssClass.of("dui-max-h-1_5");
 
-  CssClass dui_max_h_2 = () -> "dui-max-h-2";
+  CssClass dui_max_h_2 = CssClass.of("dui-max-h-2");
 
-  CssClass dui_max_h_20 = () -> "dui-max-h-20";
+  CssClass dui_max_h_20 = CssClass.of("dui-max-h-20");
 
-  CssClass dui_max_h_24 = () -> "dui-max-h-24";
+  CssClass dui_max_h_24 = CssClass.of("dui-max-h-24");
 
-  CssClass dui_max_h_28 = () -> "dui-max-h-28";
+  CssClass dui_max_h_28 = CssClass.of("dui-max-h-28");
 
-  CssClass dui_max_h_2_3p = () -> "dui-max-h-2_3p";
+  CssClass dui_max_h_2_3p = CssClass.of("dui-max-h-2_3p");
 
-  CssClass dui_max_h_2_5 = () -> "dui-max-h-2_5";
+  CssClass dui_max_h_2_5 = CssClass.of("dui-max-h-2_5");
 
-  CssClass dui_max_h_2px = () -> "dui-max-h-2px";
+  CssClass dui_max_h_2px = CssClass.of("dui-max-h-2px");
 
-  CssClass dui_max_h_3 = () -> "dui-max-h-3";
+  CssClass dui_max_h_3 = CssClass.of("dui-max-h-3");
 
-  CssClass dui_max_h_32 = () -> "dui-max-h-32";
+  CssClass dui_max_h_32 = CssClass.of("dui-max-h-32");
 
-  CssClass dui_max_h_36 = () -> "dui-max-h-36";
+  CssClass dui_max_h_36 = CssClass.of("dui-max-h-36");
 
-  CssClass dui_max_h_3_4p = () -> "dui-max-h-3_4p";
+  CssClass dui_max_h_3_4p = CssClass.of("dui-max-h-3_4p");
 
-  CssClass dui_max_h_3_5 = () -> "dui-max-h-3_5";
+  CssClass dui_max_h_3_5 = CssClass.of("dui-max-h-3_5");
 
-  CssClass dui_max_h_4 = () -> "dui-max-h-4";
+  CssClass dui_max_h_4 = CssClass.of("dui-max-h-4");
 
-  CssClass dui_max_h_40 = () -> "dui-max-h-40";
+  CssClass dui_max_h_40 = CssClass.of("dui-max-h-40");
 
-  CssClass dui_max_h_44 = () -> "dui-max-h-44";
+  CssClass dui_max_h_44 = CssClass.of("dui-max-h-44");
 
-  CssClass dui_max_h_48 = () -> "dui-max-h-48";
+  CssClass dui_max_h_48 = CssClass.of("dui-max-h-48");
 
-  CssClass dui_max_h_4px = () -> "dui-max-h-4px";
+  CssClass dui_max_h_4px = CssClass.of("dui-max-h-4px");
 
-  CssClass dui_max_h_5 = () -> "dui-max-h-5";
+  CssClass dui_max_h_5 = CssClass.of("dui-max-h-5");
 
-  CssClass dui_max_h_52 = () -> "dui-max-h-52";
+  CssClass dui_max_h_52 = CssClass.of("dui-max-h-52");
 
-  CssClass dui_max_h_56 = () -> "dui-max-h-56";
+  CssClass dui_max_h_56 = CssClass.of("dui-max-h-56");
 
-  CssClass dui_max_h_6 = () -> "dui-max-h-6";
+  CssClass dui_max_h_6 = CssClass.of("dui-max-h-6");
 
-  CssClass dui_max_h_60 = () -> "dui-max-h-60";
+  CssClass dui_max_h_60 = CssClass.of("dui-max-h-60");
 
-  CssClass dui_max_h_64 = () -> "dui-max-h-64";
+  CssClass dui_max_h_64 = CssClass.of("dui-max-h-64");
 
-  CssClass dui_max_h_7 = () -> "dui-max-h-7";
+  CssClass dui_max_h_7 = CssClass.of("dui-max-h-7");
 
-  CssClass dui_max_h_72 = () -> "dui-max-h-72";
+  CssClass dui_max_h_72 = CssClass.of("dui-max-h-72");
 
-  CssClass dui_max_h_8 = () -> "dui-max-h-8";
+  CssClass dui_max_h_8 = CssClass.of("dui-max-h-8");
 
-  CssClass dui_max_h_80 = () -> "dui-max-h-80";
+  CssClass dui_max_h_80 = CssClass.of("dui-max-h-80");
 
-  CssClass dui_max_h_8px = () -> "dui-max-h-8px";
+  CssClass dui_max_h_8px = CssClass.of("dui-max-h-8px");
 
-  CssClass dui_max_h_9 = () -> "dui-max-h-9";
+  CssClass dui_max_h_9 = CssClass.of("dui-max-h-9");
 
-  CssClass dui_max_h_96 = () -> "dui-max-h-96";
+  CssClass dui_max_h_96 = CssClass.of("dui-max-h-96");
 
-  CssClass dui_max_h_full = () -> "dui-max-h-full";
+  CssClass dui_max_h_full = CssClass.of("dui-max-h-full");
 
-  CssClass dui_max_h_px = () -> "dui-max-h-px";
+  CssClass dui_max_h_px = CssClass.of("dui-max-h-px");
 
-  CssClass dui_max_w_0 = () -> "dui-max-w-0";
+  CssClass dui_max_w_0 = CssClass.of("dui-max-w-0");
 
-  CssClass dui_max_w_0_5 = () -> "dui-max-w-0_5";
+  CssClass dui_max_w_0_5 = CssClass.of("dui-max-w-0_5");
 
-  CssClass dui_max_w_1 = () -> "dui-max-w-1";
+  CssClass dui_max_w_1 = CssClass.of("dui-max-w-1");
 
-  CssClass dui_max_w_10 = () -> "dui-max-w-10";
+  CssClass dui_max_w_10 = CssClass.of("dui-max-w-10");
 
-  CssClass dui_max_w_11 = () -> "dui-max-w-11";
+  CssClass dui_max_w_11 = CssClass.of("dui-max-w-11");
 
-  CssClass dui_max_w_12 = () -> "dui-max-w-12";
+  CssClass dui_max_w_12 = CssClass.of("dui-max-w-12");
 
-  CssClass dui_max_w_14 = () -> "dui-max-w-14";
+  CssClass dui_max_w_14 = CssClass.of("dui-max-w-14");
 
-  CssClass dui_max_w_16 = () -> "dui-max-w-16";
+  CssClass dui_max_w_16 = CssClass.of("dui-max-w-16");
 
-  CssClass dui_max_w_1_2p = () -> "dui-max-w-1_2p";
+  CssClass dui_max_w_1_2p = CssClass.of("dui-max-w-1_2p");
 
-  CssClass dui_max_w_1_3p = () -> "dui-max-w-1_3p";
+  CssClass dui_max_w_1_3p = CssClass.of("dui-max-w-1_3p");
 
-  CssClass dui_max_w_1_4p = () -> "dui-max-w-1_4p";
+  CssClass dui_max_w_1_4p = CssClass.of("dui-max-w-1_4p");
 
-  CssClass dui_max_w_1_5 = () -> "dui-max-w-1_5";
+  CssClass dui_max_w_1_5 = CssClass.of("dui-max-w-1_5");
 
-  CssClass dui_max_w_2 = () -> "dui-max-w-2";
+  CssClass dui_max_w_2 = CssClass.of("dui-max-w-2");
 
-  CssClass dui_max_w_20 = () -> "dui-max-w-20";
+  CssClass dui_max_w_20 = CssClass.of("dui-max-w-20");
 
-  CssClass dui_max_w_24 = () -> "dui-max-w-24";
+  CssClass dui_max_w_24 = CssClass.of("dui-max-w-24");
 
-  CssClass dui_max_w_28 = () -> "dui-max-w-28";
+  CssClass dui_max_w_28 = CssClass.of("dui-max-w-28");
 
-  CssClass dui_max_w_2_3p = () -> "dui-max-w-2_3p";
+  CssClass dui_max_w_2_3p = CssClass.of("dui-max-w-2_3p");
 
-  CssClass dui_max_w_2_5 = () -> "dui-max-w-2_5";
+  CssClass dui_max_w_2_5 = CssClass.of("dui-max-w-2_5");
 
-  CssClass dui_max_w_2px = () -> "dui-max-w-2px";
+  CssClass dui_max_w_2px = CssClass.of("dui-max-w-2px");
 
-  CssClass dui_max_w_3 = () -> "dui-max-w-3";
+  CssClass dui_max_w_3 = CssClass.of("dui-max-w-3");
 
-  CssClass dui_max_w_32 = () -> "dui-max-w-32";
+  CssClass dui_max_w_32 = CssClass.of("dui-max-w-32");
 
-  CssClass dui_max_w_36 = () -> "dui-max-w-36";
+  CssClass dui_max_w_36 = CssClass.of("dui-max-w-36");
 
-  CssClass dui_max_w_3_4p = () -> "dui-max-w-3_4p";
+  CssClass dui_max_w_3_4p = CssClass.of("dui-max-w-3_4p");
 
-  CssClass dui_max_w_3_5 = () -> "dui-max-w-3_5";
+  CssClass dui_max_w_3_5 = CssClass.of("dui-max-w-3_5");
 
-  CssClass dui_max_w_4 = () -> "dui-max-w-4";
+  CssClass dui_max_w_4 = CssClass.of("dui-max-w-4");
 
-  CssClass dui_max_w_40 = () -> "dui-max-w-40";
+  CssClass dui_max_w_40 = CssClass.of("dui-max-w-40");
 
-  CssClass dui_max_w_44 = () -> "dui-max-w-44";
+  CssClass dui_max_w_44 = CssClass.of("dui-max-w-44");
 
-  CssClass dui_max_w_48 = () -> "dui-max-w-48";
+  CssClass dui_max_w_48 = CssClass.of("dui-max-w-48");
 
-  CssClass dui_max_w_4px = () -> "dui-max-w-4px";
+  CssClass dui_max_w_4px = CssClass.of("dui-max-w-4px");
 
-  CssClass dui_max_w_5 = () -> "dui-max-w-5";
+  CssClass dui_max_w_5 = CssClass.of("dui-max-w-5");
 
-  CssClass dui_max_w_52 = () -> "dui-max-w-52";
+  CssClass dui_max_w_52 = CssClass.of("dui-max-w-52");
 
-  CssClass dui_max_w_56 = () -> "dui-max-w-56";
+  CssClass dui_max_w_56 = CssClass.of("dui-max-w-56");
 
-  CssClass dui_max_w_6 = () -> "dui-max-w-6";
+  CssClass dui_max_w_6 = CssClass.of("dui-max-w-6");
 
-  CssClass dui_max_w_60 = () -> "dui-max-w-60";
+  CssClass dui_max_w_60 = CssClass.of("dui-max-w-60");
 
-  CssClass dui_max_w_64 = () -> "dui-max-w-64";
+  CssClass dui_max_w_64 = CssClass.of("dui-max-w-64");
 
-  CssClass dui_max_w_7 = () -> "dui-max-w-7";
+  CssClass dui_max_w_7 = CssClass.of("dui-max-w-7");
 
-  CssClass dui_max_w_72 = () -> "dui-max-w-72";
+  CssClass dui_max_w_72 = CssClass.of("dui-max-w-72");
 
-  CssClass dui_max_w_8 = () -> "dui-max-w-8";
+  CssClass dui_max_w_8 = CssClass.of("dui-max-w-8");
 
-  CssClass dui_max_w_80 = () -> "dui-max-w-80";
+  CssClass dui_max_w_80 = CssClass.of("dui-max-w-80");
 
-  CssClass dui_max_w_8px = () -> "dui-max-w-8px";
+  CssClass dui_max_w_8px = CssClass.of("dui-max-w-8px");
 
-  CssClass dui_max_w_9 = () -> "dui-max-w-9";
+  CssClass dui_max_w_9 = CssClass.of("dui-max-w-9");
 
-  CssClass dui_max_w_96 = () -> "dui-max-w-96";
+  CssClass dui_max_w_96 = CssClass.of("dui-max-w-96");
 
-  CssClass dui_max_w_full = () -> "dui-max-w-full";
+  CssClass dui_max_w_full = CssClass.of("dui-max-w-full");
 
-  CssClass dui_max_w_px = () -> "dui-max-w-px";
+  CssClass dui_max_w_px = CssClass.of("dui-max-w-px");
 
-  CssClass dui_min_h_0 = () -> "dui-min-h-0";
+  CssClass dui_min_h_0 = CssClass.of("dui-min-h-0");
 
-  CssClass dui_min_h_0_5 = () -> "dui-min-h-0_5";
+  CssClass dui_min_h_0_5 = CssClass.of("dui-min-h-0_5");
 
-  CssClass dui_min_h_1 = () -> "dui-min-h-1";
+  CssClass dui_min_h_1 = CssClass.of("dui-min-h-1");
 
-  CssClass dui_min_h_10 = () -> "dui-min-h-10";
+  CssClass dui_min_h_10 = CssClass.of("dui-min-h-10");
 
-  CssClass dui_min_h_11 = () -> "dui-min-h-11";
+  CssClass dui_min_h_11 = CssClass.of("dui-min-h-11");
 
-  CssClass dui_min_h_12 = () -> "dui-min-h-12";
+  CssClass dui_min_h_12 = CssClass.of("dui-min-h-12");
 
-  CssClass dui_min_h_14 = () -> "dui-min-h-14";
+  CssClass dui_min_h_14 = CssClass.of("dui-min-h-14");
 
-  CssClass dui_min_h_16 = () -> "dui-min-h-16";
+  CssClass dui_min_h_16 = CssClass.of("dui-min-h-16");
 
-  CssClass dui_min_h_1_2p = () -> "dui-min-h-1_2p";
+  CssClass dui_min_h_1_2p = CssClass.of("dui-min-h-1_2p");
 
-  CssClass dui_min_h_1_3p = () -> "dui-min-h-1_3p";
+  CssClass dui_min_h_1_3p = CssClass.of("dui-min-h-1_3p");
 
-  CssClass dui_min_h_1_4p = () -> "dui-min-h-1_4p";
+  CssClass dui_min_h_1_4p = CssClass.of("dui-min-h-1_4p");
 
-  CssClass dui_min_h_1_5 = () -> "dui-min-h-1_5";
+  CssClass dui_min_h_1_5 = CssClass.of("dui-min-h-1_5");
 
-  CssClass dui_min_h_2 = () -> "dui-min-h-2";
+  CssClass dui_min_h_2 = CssClass.of("dui-min-h-2");
 
-  CssClass dui_min_h_20 = () -> "dui-min-h-20";
+  CssClass dui_min_h_20 = CssClass.of("dui-min-h-20");
 
-  CssClass dui_min_h_24 = () -> "dui-min-h-24";
+  CssClass dui_min_h_24 = CssClass.of("dui-min-h-24");
 
-  CssClass dui_min_h_28 = () -> "dui-min-h-28";
+  CssClass dui_min_h_28 = CssClass.of("dui-min-h-28");
 
-  CssClass dui_min_h_2_3p = () -> "dui-min-h-2_3p";
+  CssClass dui_min_h_2_3p = CssClass.of("dui-min-h-2_3p");
 
-  CssClass dui_min_h_2_5 = () -> "dui-min-h-2_5";
+  CssClass dui_min_h_2_5 = CssClass.of("dui-min-h-2_5");
 
-  CssClass dui_min_h_2px = () -> "dui-min-h-2px";
+  CssClass dui_min_h_2px = CssClass.of("dui-min-h-2px");
 
-  CssClass dui_min_h_3 = () -> "dui-min-h-3";
+  CssClass dui_min_h_3 = CssClass.of("dui-min-h-3");
 
-  CssClass dui_min_h_32 = () -> "dui-min-h-32";
+  CssClass dui_min_h_32 = CssClass.of("dui-min-h-32");
 
-  CssClass dui_min_h_36 = () -> "dui-min-h-36";
+  CssClass dui_min_h_36 = CssClass.of("dui-min-h-36");
 
-  CssClass dui_min_h_3_4p = () -> "dui-min-h-3_4p";
+  CssClass dui_min_h_3_4p = CssClass.of("dui-min-h-3_4p");
 
-  CssClass dui_min_h_3_5 = () -> "dui-min-h-3_5";
+  CssClass dui_min_h_3_5 = CssClass.of("dui-min-h-3_5");
 
-  CssClass dui_min_h_4 = () -> "dui-min-h-4";
+  CssClass dui_min_h_4 = CssClass.of("dui-min-h-4");
 
-  CssClass dui_min_h_40 = () -> "dui-min-h-40";
+  CssClass dui_min_h_40 = CssClass.of("dui-min-h-40");
 
-  CssClass dui_min_h_44 = () -> "dui-min-h-44";
+  CssClass dui_min_h_44 = CssClass.of("dui-min-h-44");
 
-  CssClass dui_min_h_48 = () -> "dui-min-h-48";
+  CssClass dui_min_h_48 = CssClass.of("dui-min-h-48");
 
-  CssClass dui_min_h_4px = () -> "dui-min-h-4px";
+  CssClass dui_min_h_4px = CssClass.of("dui-min-h-4px");
 
-  CssClass dui_min_h_5 = () -> "dui-min-h-5";
+  CssClass dui_min_h_5 = CssClass.of("dui-min-h-5");
 
-  CssClass dui_min_h_52 = () -> "dui-min-h-52";
+  CssClass dui_min_h_52 = CssClass.of("dui-min-h-52");
 
-  CssClass dui_min_h_56 = () -> "dui-min-h-56";
+  CssClass dui_min_h_56 = CssClass.of("dui-min-h-56");
 
-  CssClass dui_min_h_6 = () -> "dui-min-h-6";
+  CssClass dui_min_h_6 = CssClass.of("dui-min-h-6");
 
-  CssClass dui_min_h_60 = () -> "dui-min-h-60";
+  CssClass dui_min_h_60 = CssClass.of("dui-min-h-60");
 
-  CssClass dui_min_h_64 = () -> "dui-min-h-64";
+  CssClass dui_min_h_64 = CssClass.of("dui-min-h-64");
 
-  CssClass dui_min_h_7 = () -> "dui-min-h-7";
+  CssClass dui_min_h_7 = CssClass.of("dui-min-h-7");
 
-  CssClass dui_min_h_72 = () -> "dui-min-h-72";
+  CssClass dui_min_h_72 = CssClass.of("dui-min-h-72");
 
-  CssClass dui_min_h_8 = () -> "dui-min-h-8";
+  CssClass dui_min_h_8 = CssClass.of("dui-min-h-8");
 
-  CssClass dui_min_h_80 = () -> "dui-min-h-80";
+  CssClass dui_min_h_80 = CssClass.of("dui-min-h-80");
 
-  CssClass dui_min_h_8px = () -> "dui-min-h-8px";
+  CssClass dui_min_h_8px = CssClass.of("dui-min-h-8px");
 
-  CssClass dui_min_h_9 = () -> "dui-min-h-9";
+  CssClass dui_min_h_9 = CssClass.of("dui-min-h-9");
 
-  CssClass dui_min_h_96 = () -> "dui-min-h-96";
+  CssClass dui_min_h_96 = CssClass.of("dui-min-h-96");
 
-  CssClass dui_min_h_full = () -> "dui-min-h-full";
+  CssClass dui_min_h_full = CssClass.of("dui-min-h-full");
 
-  CssClass dui_min_h_px = () -> "dui-min-h-px";
+  CssClass dui_min_h_px = CssClass.of("dui-min-h-px");
 
-  CssClass dui_min_w_0 = () -> "dui-min-w-0";
+  CssClass dui_min_w_0 = CssClass.of("dui-min-w-0");
 
-  CssClass dui_min_w_0_5 = () -> "dui-min-w-0_5";
+  CssClass dui_min_w_0_5 = CssClass.of("dui-min-w-0_5");
 
-  CssClass dui_min_w_1 = () -> "dui-min-w-1";
+  CssClass dui_min_w_1 = CssClass.of("dui-min-w-1");
 
-  CssClass dui_min_w_10 = () -> "dui-min-w-10";
+  CssClass dui_min_w_10 = CssClass.of("dui-min-w-10");
 
-  CssClass dui_min_w_11 = () -> "dui-min-w-11";
+  CssClass dui_min_w_11 = CssClass.of("dui-min-w-11");
 
-  CssClass dui_min_w_12 = () -> "dui-min-w-12";
+  CssClass dui_min_w_12 = CssClass.of("dui-min-w-12");
 
-  CssClass dui_min_w_14 = () -> "dui-min-w-14";
+  CssClass dui_min_w_14 = CssClass.of("dui-min-w-14");
 
-  CssClass dui_min_w_16 = () -> "dui-min-w-16";
+  CssClass dui_min_w_16 = CssClass.of("dui-min-w-16");
 
-  CssClass dui_min_w_1_2p = () -> "dui-min-w-1_2p";
+  CssClass dui_min_w_1_2p = CssClass.of("dui-min-w-1_2p");
 
-  CssClass dui_min_w_1_3p = () -> "dui-min-w-1_3p";
+  CssClass dui_min_w_1_3p = CssClass.of("dui-min-w-1_3p");
 
-  CssClass dui_min_w_1_4p = () -> "dui-min-w-1_4p";
+  CssClass dui_min_w_1_4p = CssClass.of("dui-min-w-1_4p");
 
-  CssClass dui_min_w_1_5 = () -> "dui-min-w-1_5";
+  CssClass dui_min_w_1_5 = CssClass.of("dui-min-w-1_5");
 
-  CssClass dui_min_w_2 = () -> "dui-min-w-2";
+  CssClass dui_min_w_2 = CssClass.of("dui-min-w-2");
 
-  CssClass dui_min_w_20 = () -> "dui-min-w-20";
+  CssClass dui_min_w_20 = CssClass.of("dui-min-w-20");
 
-  CssClass dui_min_w_24 = () -> "dui-min-w-24";
+  CssClass dui_min_w_24 = CssClass.of("dui-min-w-24");
 
-  CssClass dui_min_w_28 = () -> "dui-min-w-28";
+  CssClass dui_min_w_28 = CssClass.of("dui-min-w-28");
 
-  CssClass dui_min_w_2_3p = () -> "dui-min-w-2_3p";
+  CssClass dui_min_w_2_3p = CssClass.of("dui-min-w-2_3p");
 
-  CssClass dui_min_w_2_5 = () -> "dui-min-w-2_5";
+  CssClass dui_min_w_2_5 = CssClass.of("dui-min-w-2_5");
 
-  CssClass dui_min_w_2px = () -> "dui-min-w-2px";
+  CssClass dui_min_w_2px = CssClass.of("dui-min-w-2px");
 
-  CssClass dui_min_w_3 = () -> "dui-min-w-3";
+  CssClass dui_min_w_3 = CssClass.of("dui-min-w-3");
 
-  CssClass dui_min_w_32 = () -> "dui-min-w-32";
+  CssClass dui_min_w_32 = CssClass.of("dui-min-w-32");
 
-  CssClass dui_min_w_36 = () -> "dui-min-w-36";
+  CssClass dui_min_w_36 = CssClass.of("dui-min-w-36");
 
-  CssClass dui_min_w_3_4p = () -> "dui-min-w-3_4p";
+  CssClass dui_min_w_3_4p = CssClass.of("dui-min-w-3_4p");
 
-  CssClass dui_min_w_3_5 = () -> "dui-min-w-3_5";
+  CssClass dui_min_w_3_5 = CssClass.of("dui-min-w-3_5");
 
-  CssClass dui_min_w_4 = () -> "dui-min-w-4";
+  CssClass dui_min_w_4 = CssClass.of("dui-min-w-4");
 
-  CssClass dui_min_w_40 = () -> "dui-min-w-40";
+  CssClass dui_min_w_40 = CssClass.of("dui-min-w-40");
 
-  CssClass dui_min_w_44 = () -> "dui-min-w-44";
+  CssClass dui_min_w_44 = CssClass.of("dui-min-w-44");
 
-  CssClass dui_min_w_48 = () -> "dui-min-w-48";
+  CssClass dui_min_w_48 = CssClass.of("dui-min-w-48");
 
-  CssClass dui_min_w_4px = () -> "dui-min-w-4px";
+  CssClass dui_min_w_4px = CssClass.of("dui-min-w-4px");
 
-  CssClass dui_min_w_5 = () -> "dui-min-w-5";
+  CssClass dui_min_w_5 = CssClass.of("dui-min-w-5");
 
-  CssClass dui_min_w_52 = () -> "dui-min-w-52";
+  CssClass dui_min_w_52 = CssClass.of("dui-min-w-52");
 
-  CssClass dui_min_w_56 = () -> "dui-min-w-56";
+  CssClass dui_min_w_56 = CssClass.of("dui-min-w-56");
 
-  CssClass dui_min_w_6 = () -> "dui-min-w-6";
+  CssClass dui_min_w_6 = CssClass.of("dui-min-w-6");
 
-  CssClass dui_min_w_60 = () -> "dui-min-w-60";
+  CssClass dui_min_w_60 = CssClass.of("dui-min-w-60");
 
-  CssClass dui_min_w_64 = () -> "dui-min-w-64";
+  CssClass dui_min_w_64 = CssClass.of("dui-min-w-64");
 
-  CssClass dui_min_w_7 = () -> "dui-min-w-7";
+  CssClass dui_min_w_7 = CssClass.of("dui-min-w-7");
 
-  CssClass dui_min_w_72 = () -> "dui-min-w-72";
+  CssClass dui_min_w_72 = CssClass.of("dui-min-w-72");
 
-  CssClass dui_min_w_8 = () -> "dui-min-w-8";
+  CssClass dui_min_w_8 = CssClass.of("dui-min-w-8");
 
-  CssClass dui_min_w_80 = () -> "dui-min-w-80";
+  CssClass dui_min_w_80 = CssClass.of("dui-min-w-80");
 
-  CssClass dui_min_w_8px = () -> "dui-min-w-8px";
+  CssClass dui_min_w_8px = CssClass.of("dui-min-w-8px");
 
-  CssClass dui_min_w_9 = () -> "dui-min-w-9";
+  CssClass dui_min_w_9 = CssClass.of("dui-min-w-9");
 
-  CssClass dui_min_w_96 = () -> "dui-min-w-96";
+  CssClass dui_min_w_96 = CssClass.of("dui-min-w-96");
 
-  CssClass dui_min_w_full = () -> "dui-min-w-full";
+  CssClass dui_min_w_full = CssClass.of("dui-min-w-full");
 
-  CssClass dui_min_w_px = () -> "dui-min-w-px";
+  CssClass dui_min_w_px = CssClass.of("dui-min-w-px");
 
-  CssClass dui_p_0 = () -> "dui-p-0";
+  CssClass dui_p_0 = CssClass.of("dui-p-0");
 
-  CssClass dui_p_0_5 = () -> "dui-p-0_5";
+  CssClass dui_p_0_5 = CssClass.of("dui-p-0_5");
 
-  CssClass dui_p_1 = () -> "dui-p-1";
+  CssClass dui_p_1 = CssClass.of("dui-p-1");
 
-  CssClass dui_p_10 = () -> "dui-p-10";
+  CssClass dui_p_10 = CssClass.of("dui-p-10");
 
-  CssClass dui_p_11 = () -> "dui-p-11";
+  CssClass dui_p_11 = CssClass.of("dui-p-11");
 
-  CssClass dui_p_12 = () -> "dui-p-12";
+  CssClass dui_p_12 = CssClass.of("dui-p-12");
 
-  CssClass dui_p_14 = () -> "dui-p-14";
+  CssClass dui_p_14 = CssClass.of("dui-p-14");
 
-  CssClass dui_p_16 = () -> "dui-p-16";
+  CssClass dui_p_16 = CssClass.of("dui-p-16");
 
-  CssClass dui_p_1_2p = () -> "dui-p-1_2p";
+  CssClass dui_p_1_2p = CssClass.of("dui-p-1_2p");
 
-  CssClass dui_p_1_3p = () -> "dui-p-1_3p";
+  CssClass dui_p_1_3p = CssClass.of("dui-p-1_3p");
 
-  CssClass dui_p_1_4p = () -> "dui-p-1_4p";
+  CssClass dui_p_1_4p = CssClass.of("dui-p-1_4p");
 
-  CssClass dui_p_1_5 = () -> "dui-p-1_5";
+  CssClass dui_p_1_5 = CssClass.of("dui-p-1_5");
 
-  CssClass dui_p_2 = () -> "dui-p-2";
+  CssClass dui_p_2 = CssClass.of("dui-p-2");
 
-  CssClass dui_p_20 = () -> "dui-p-20";
+  CssClass dui_p_20 = CssClass.of("dui-p-20");
 
-  CssClass dui_p_24 = () -> "dui-p-24";
+  CssClass dui_p_24 = CssClass.of("dui-p-24");
 
-  CssClass dui_p_28 = () -> "dui-p-28";
+  CssClass dui_p_28 = CssClass.of("dui-p-28");
 
-  CssClass dui_p_2_3p = () -> "dui-p-2_3p";
+  CssClass dui_p_2_3p = CssClass.of("dui-p-2_3p");
 
-  CssClass dui_p_2_5 = () -> "dui-p-2_5";
+  CssClass dui_p_2_5 = CssClass.of("dui-p-2_5");
 
-  CssClass dui_p_2px = () -> "dui-p-2px";
+  CssClass dui_p_2px = CssClass.of("dui-p-2px");
 
-  CssClass dui_p_3 = () -> "dui-p-3";
+  CssClass dui_p_3 = CssClass.of("dui-p-3");
 
-  CssClass dui_p_32 = () -> "dui-p-32";
+  CssClass dui_p_32 = CssClass.of("dui-p-32");
 
-  CssClass dui_p_36 = () -> "dui-p-36";
+  CssClass dui_p_36 = CssClass.of("dui-p-36");
 
-  CssClass dui_p_3_4p = () -> "dui-p-3_4p";
+  CssClass dui_p_3_4p = CssClass.of("dui-p-3_4p");
 
-  CssClass dui_p_3_5 = () -> "dui-p-3_5";
+  CssClass dui_p_3_5 = CssClass.of("dui-p-3_5");
 
-  CssClass dui_p_4 = () -> "dui-p-4";
+  CssClass dui_p_4 = CssClass.of("dui-p-4");
 
-  CssClass dui_p_40 = () -> "dui-p-40";
+  CssClass dui_p_40 = CssClass.of("dui-p-40");
 
-  CssClass dui_p_44 = () -> "dui-p-44";
+  CssClass dui_p_44 = CssClass.of("dui-p-44");
 
-  CssClass dui_p_48 = () -> "dui-p-48";
+  CssClass dui_p_48 = CssClass.of("dui-p-48");
 
-  CssClass dui_p_4px = () -> "dui-p-4px";
+  CssClass dui_p_4px = CssClass.of("dui-p-4px");
 
-  CssClass dui_p_5 = () -> "dui-p-5";
+  CssClass dui_p_5 = CssClass.of("dui-p-5");
 
-  CssClass dui_p_52 = () -> "dui-p-52";
+  CssClass dui_p_52 = CssClass.of("dui-p-52");
 
-  CssClass dui_p_56 = () -> "dui-p-56";
+  CssClass dui_p_56 = CssClass.of("dui-p-56");
 
-  CssClass dui_p_6 = () -> "dui-p-6";
+  CssClass dui_p_6 = CssClass.of("dui-p-6");
 
-  CssClass dui_p_60 = () -> "dui-p-60";
+  CssClass dui_p_60 = CssClass.of("dui-p-60");
 
-  CssClass dui_p_64 = () -> "dui-p-64";
+  CssClass dui_p_64 = CssClass.of("dui-p-64");
 
-  CssClass dui_p_7 = () -> "dui-p-7";
+  CssClass dui_p_7 = CssClass.of("dui-p-7");
 
-  CssClass dui_p_72 = () -> "dui-p-72";
+  CssClass dui_p_72 = CssClass.of("dui-p-72");
 
-  CssClass dui_p_8 = () -> "dui-p-8";
+  CssClass dui_p_8 = CssClass.of("dui-p-8");
 
-  CssClass dui_p_80 = () -> "dui-p-80";
+  CssClass dui_p_80 = CssClass.of("dui-p-80");
 
-  CssClass dui_p_8px = () -> "dui-p-8px";
+  CssClass dui_p_8px = CssClass.of("dui-p-8px");
 
-  CssClass dui_p_9 = () -> "dui-p-9";
+  CssClass dui_p_9 = CssClass.of("dui-p-9");
 
-  CssClass dui_p_96 = () -> "dui-p-96";
+  CssClass dui_p_96 = CssClass.of("dui-p-96");
 
-  CssClass dui_p_b_0 = () -> "dui-p-b-0";
+  CssClass dui_p_b_0 = CssClass.of("dui-p-b-0");
 
-  CssClass dui_p_b_0_5 = () -> "dui-p-b-0_5";
+  CssClass dui_p_b_0_5 = CssClass.of("dui-p-b-0_5");
 
-  CssClass dui_p_b_1 = () -> "dui-p-b-1";
+  CssClass dui_p_b_1 = CssClass.of("dui-p-b-1");
 
-  CssClass dui_p_b_10 = () -> "dui-p-b-10";
+  CssClass dui_p_b_10 = CssClass.of("dui-p-b-10");
 
-  CssClass dui_p_b_11 = () -> "dui-p-b-11";
+  CssClass dui_p_b_11 = CssClass.of("dui-p-b-11");
 
-  CssClass dui_p_b_12 = () -> "dui-p-b-12";
+  CssClass dui_p_b_12 = CssClass.of("dui-p-b-12");
 
-  CssClass dui_p_b_14 = () -> "dui-p-b-14";
+  CssClass dui_p_b_14 = CssClass.of("dui-p-b-14");
 
-  CssClass dui_p_b_16 = () -> "dui-p-b-16";
+  CssClass dui_p_b_16 = CssClass.of("dui-p-b-16");
 
-  CssClass dui_p_b_1_2p = () -> "dui-p-b-1_2p";
+  CssClass dui_p_b_1_2p = CssClass.of("dui-p-b-1_2p");
 
-  CssClass dui_p_b_1_3p = () -> "dui-p-b-1_3p";
+  CssClass dui_p_b_1_3p = CssClass.of("dui-p-b-1_3p");
 
-  CssClass dui_p_b_1_4p = () -> "dui-p-b-1_4p";
+  CssClass dui_p_b_1_4p = CssClass.of("dui-p-b-1_4p");
 
-  CssClass dui_p_b_1_5 = () -> "dui-p-b-1_5";
+  CssClass dui_p_b_1_5 = CssClass.of("dui-p-b-1_5");
 
-  CssClass dui_p_b_2 = () -> "dui-p-b-2";
+  CssClass dui_p_b_2 = CssClass.of("dui-p-b-2");
 
-  CssClass dui_p_b_20 = () -> "dui-p-b-20";
+  CssClass dui_p_b_20 = CssClass.of("dui-p-b-20");
 
-  CssClass dui_p_b_24 = () -> "dui-p-b-24";
+  CssClass dui_p_b_24 = CssClass.of("dui-p-b-24");
 
-  CssClass dui_p_b_28 = () -> "dui-p-b-28";
+  CssClass dui_p_b_28 = CssClass.of("dui-p-b-28");
 
-  CssClass dui_p_b_2_3p = () -> "dui-p-b-2_3p";
+  CssClass dui_p_b_2_3p = CssClass.of("dui-p-b-2_3p");
 
-  CssClass dui_p_b_2_5 = () -> "dui-p-b-2_5";
+  CssClass dui_p_b_2_5 = CssClass.of("dui-p-b-2_5");
 
-  CssClass dui_p_b_2px = () -> "dui-p-b-2px";
+  CssClass dui_p_b_2px = CssClass.of("dui-p-b-2px");
 
-  CssClass dui_p_b_3 = () -> "dui-p-b-3";
+  CssClass dui_p_b_3 = CssClass.of("dui-p-b-3");
 
-  CssClass dui_p_b_32 = () -> "dui-p-b-32";
+  CssClass dui_p_b_32 = CssClass.of("dui-p-b-32");
 
-  CssClass dui_p_b_36 = () -> "dui-p-b-36";
+  CssClass dui_p_b_36 = CssClass.of("dui-p-b-36");
 
-  CssClass dui_p_b_3_4p = () -> "dui-p-b-3_4p";
+  CssClass dui_p_b_3_4p = CssClass.of("dui-p-b-3_4p");
 
-  CssClass dui_p_b_3_5 = () -> "dui-p-b-3_5";
+  CssClass dui_p_b_3_5 = CssClass.of("dui-p-b-3_5");
 
-  CssClass dui_p_b_4 = () -> "dui-p-b-4";
+  CssClass dui_p_b_4 = CssClass.of("dui-p-b-4");
 
-  CssClass dui_p_b_40 = () -> "dui-p-b-40";
+  CssClass dui_p_b_40 = CssClass.of("dui-p-b-40");
 
-  CssClass dui_p_b_44 = () -> "dui-p-b-44";
+  CssClass dui_p_b_44 = CssClass.of("dui-p-b-44");
 
-  CssClass dui_p_b_48 = () -> "dui-p-b-48";
+  CssClass dui_p_b_48 = CssClass.of("dui-p-b-48");
 
-  CssClass dui_p_b_4px = () -> "dui-p-b-4px";
+  CssClass dui_p_b_4px = CssClass.of("dui-p-b-4px");
 
-  CssClass dui_p_b_5 = () -> "dui-p-b-5";
+  CssClass dui_p_b_5 = CssClass.of("dui-p-b-5");
 
-  CssClass dui_p_b_52 = () -> "dui-p-b-52";
+  CssClass dui_p_b_52 = CssClass.of("dui-p-b-52");
 
-  CssClass dui_p_b_56 = () -> "dui-p-b-56";
+  CssClass dui_p_b_56 = CssClass.of("dui-p-b-56");
 
-  CssClass dui_p_b_6 = () -> "dui-p-b-6";
+  CssClass dui_p_b_6 = CssClass.of("dui-p-b-6");
 
-  CssClass dui_p_b_60 = () -> "dui-p-b-60";
+  CssClass dui_p_b_60 = CssClass.of("dui-p-b-60");
 
-  CssClass dui_p_b_64 = () -> "dui-p-b-64";
+  CssClass dui_p_b_64 = CssClass.of("dui-p-b-64");
 
-  CssClass dui_p_b_7 = () -> "dui-p-b-7";
+  CssClass dui_p_b_7 = CssClass.of("dui-p-b-7");
 
-  CssClass dui_p_b_72 = () -> "dui-p-b-72";
+  CssClass dui_p_b_72 = CssClass.of("dui-p-b-72");
 
-  CssClass dui_p_b_8 = () -> "dui-p-b-8";
+  CssClass dui_p_b_8 = CssClass.of("dui-p-b-8");
 
-  CssClass dui_p_b_80 = () -> "dui-p-b-80";
+  CssClass dui_p_b_80 = CssClass.of("dui-p-b-80");
 
-  CssClass dui_p_b_8px = () -> "dui-p-b-8px";
+  CssClass dui_p_b_8px = CssClass.of("dui-p-b-8px");
 
-  CssClass dui_p_b_9 = () -> "dui-p-b-9";
+  CssClass dui_p_b_9 = CssClass.of("dui-p-b-9");
 
-  CssClass dui_p_b_96 = () -> "dui-p-b-96";
+  CssClass dui_p_b_96 = CssClass.of("dui-p-b-96");
 
-  CssClass dui_p_b_full = () -> "dui-p-b-full";
+  CssClass dui_p_b_full = CssClass.of("dui-p-b-full");
 
-  CssClass dui_p_b_px = () -> "dui-p-b-px";
+  CssClass dui_p_b_px = CssClass.of("dui-p-b-px");
 
-  CssClass dui_p_full = () -> "dui-p-full";
+  CssClass dui_p_full = CssClass.of("dui-p-full");
 
-  CssClass dui_p_l_0 = () -> "dui-p-l-0";
+  CssClass dui_p_l_0 = CssClass.of("dui-p-l-0");
 
-  CssClass dui_p_l_0_5 = () -> "dui-p-l-0_5";
+  CssClass dui_p_l_0_5 = CssClass.of("dui-p-l-0_5");
 
-  CssClass dui_p_l_1 = () -> "dui-p-l-1";
+  CssClass dui_p_l_1 = CssClass.of("dui-p-l-1");
 
-  CssClass dui_p_l_10 = () -> "dui-p-l-10";
+  CssClass dui_p_l_10 = CssClass.of("dui-p-l-10");
 
-  CssClass dui_p_l_11 = () -> "dui-p-l-11";
+  CssClass dui_p_l_11 = CssClass.of("dui-p-l-11");
 
-  CssClass dui_p_l_12 = () -> "dui-p-l-12";
+  CssClass dui_p_l_12 = CssClass.of("dui-p-l-12");
 
-  CssClass dui_p_l_14 = () -> "dui-p-l-14";
+  CssClass dui_p_l_14 = CssClass.of("dui-p-l-14");
 
-  CssClass dui_p_l_16 = () -> "dui-p-l-16";
+  CssClass dui_p_l_16 = CssClass.of("dui-p-l-16");
 
-  CssClass dui_p_l_1_2p = () -> "dui-p-l-1_2p";
+  CssClass dui_p_l_1_2p = CssClass.of("dui-p-l-1_2p");
 
-  CssClass dui_p_l_1_3p = () -> "dui-p-l-1_3p";
+  CssClass dui_p_l_1_3p = CssClass.of("dui-p-l-1_3p");
 
-  CssClass dui_p_l_1_4p = () -> "dui-p-l-1_4p";
+  CssClass dui_p_l_1_4p = CssClass.of("dui-p-l-1_4p");
 
-  CssClass dui_p_l_1_5 = () -> "dui-p-l-1_5";
+  CssClass dui_p_l_1_5 = CssClass.of("dui-p-l-1_5");
 
-  CssClass dui_p_l_2 = () -> "dui-p-l-2";
+  CssClass dui_p_l_2 = CssClass.of("dui-p-l-2");
 
-  CssClass dui_p_l_20 = () -> "dui-p-l-20";
+  CssClass dui_p_l_20 = CssClass.of("dui-p-l-20");
 
-  CssClass dui_p_l_24 = () -> "dui-p-l-24";
+  CssClass dui_p_l_24 = CssClass.of("dui-p-l-24");
 
-  CssClass dui_p_l_28 = () -> "dui-p-l-28";
+  CssClass dui_p_l_28 = CssClass.of("dui-p-l-28");
 
-  CssClass dui_p_l_2_3p = () -> "dui-p-l-2_3p";
+  CssClass dui_p_l_2_3p = CssClass.of("dui-p-l-2_3p");
 
-  CssClass dui_p_l_2_5 = () -> "dui-p-l-2_5";
+  CssClass dui_p_l_2_5 = CssClass.of("dui-p-l-2_5");
 
-  CssClass dui_p_l_2px = () -> "dui-p-l-2px";
+  CssClass dui_p_l_2px = CssClass.of("dui-p-l-2px");
 
-  CssClass dui_p_l_3 = () -> "dui-p-l-3";
+  CssClass dui_p_l_3 = CssClass.of("dui-p-l-3");
 
-  CssClass dui_p_l_32 = () -> "dui-p-l-32";
+  CssClass dui_p_l_32 = CssClass.of("dui-p-l-32");
 
-  CssClass dui_p_l_36 = () -> "dui-p-l-36";
+  CssClass dui_p_l_36 = CssClass.of("dui-p-l-36");
 
-  CssClass dui_p_l_3_4p = () -> "dui-p-l-3_4p";
+  CssClass dui_p_l_3_4p = CssClass.of("dui-p-l-3_4p");
 
-  CssClass dui_p_l_3_5 = () -> "dui-p-l-3_5";
+  CssClass dui_p_l_3_5 = CssClass.of("dui-p-l-3_5");
 
-  CssClass dui_p_l_4 = () -> "dui-p-l-4";
+  CssClass dui_p_l_4 = CssClass.of("dui-p-l-4");
 
-  CssClass dui_p_l_40 = () -> "dui-p-l-40";
+  CssClass dui_p_l_40 = CssClass.of("dui-p-l-40");
 
-  CssClass dui_p_l_44 = () -> "dui-p-l-44";
+  CssClass dui_p_l_44 = CssClass.of("dui-p-l-44");
 
-  CssClass dui_p_l_48 = () -> "dui-p-l-48";
+  CssClass dui_p_l_48 = CssClass.of("dui-p-l-48");
 
-  CssClass dui_p_l_4px = () -> "dui-p-l-4px";
+  CssClass dui_p_l_4px = CssClass.of("dui-p-l-4px");
 
-  CssClass dui_p_l_5 = () -> "dui-p-l-5";
+  CssClass dui_p_l_5 = CssClass.of("dui-p-l-5");
 
-  CssClass dui_p_l_52 = () -> "dui-p-l-52";
+  CssClass dui_p_l_52 = CssClass.of("dui-p-l-52");
 
-  CssClass dui_p_l_56 = () -> "dui-p-l-56";
+  CssClass dui_p_l_56 = CssClass.of("dui-p-l-56");
 
-  CssClass dui_p_l_6 = () -> "dui-p-l-6";
+  CssClass dui_p_l_6 = CssClass.of("dui-p-l-6");
 
-  CssClass dui_p_l_60 = () -> "dui-p-l-60";
+  CssClass dui_p_l_60 = CssClass.of("dui-p-l-60");
 
-  CssClass dui_p_l_64 = () -> "dui-p-l-64";
+  CssClass dui_p_l_64 = CssClass.of("dui-p-l-64");
 
-  CssClass dui_p_l_7 = () -> "dui-p-l-7";
+  CssClass dui_p_l_7 = CssClass.of("dui-p-l-7");
 
-  CssClass dui_p_l_72 = () -> "dui-p-l-72";
+  CssClass dui_p_l_72 = CssClass.of("dui-p-l-72");
 
-  CssClass dui_p_l_8 = () -> "dui-p-l-8";
+  CssClass dui_p_l_8 = CssClass.of("dui-p-l-8");
 
-  CssClass dui_p_l_80 = () -> "dui-p-l-80";
+  CssClass dui_p_l_80 = CssClass.of("dui-p-l-80");
 
-  CssClass dui_p_l_8px = () -> "dui-p-l-8px";
+  CssClass dui_p_l_8px = CssClass.of("dui-p-l-8px");
 
-  CssClass dui_p_l_9 = () -> "dui-p-l-9";
+  CssClass dui_p_l_9 = CssClass.of("dui-p-l-9");
 
-  CssClass dui_p_l_96 = () -> "dui-p-l-96";
+  CssClass dui_p_l_96 = CssClass.of("dui-p-l-96");
 
-  CssClass dui_p_l_full = () -> "dui-p-l-full";
+  CssClass dui_p_l_full = CssClass.of("dui-p-l-full");
 
-  CssClass dui_p_l_px = () -> "dui-p-l-px";
+  CssClass dui_p_l_px = CssClass.of("dui-p-l-px");
 
-  CssClass dui_p_px = () -> "dui-p-px";
+  CssClass dui_p_px = CssClass.of("dui-p-px");
 
-  CssClass dui_p_r_0 = () -> "dui-p-r-0";
+  CssClass dui_p_r_0 = CssClass.of("dui-p-r-0");
 
-  CssClass dui_p_r_0_5 = () -> "dui-p-r-0_5";
+  CssClass dui_p_r_0_5 = CssClass.of("dui-p-r-0_5");
 
-  CssClass dui_p_r_1 = () -> "dui-p-r-1";
+  CssClass dui_p_r_1 = CssClass.of("dui-p-r-1");
 
-  CssClass dui_p_r_10 = () -> "dui-p-r-10";
+  CssClass dui_p_r_10 = CssClass.of("dui-p-r-10");
 
-  CssClass dui_p_r_11 = () -> "dui-p-r-11";
+  CssClass dui_p_r_11 = CssClass.of("dui-p-r-11");
 
-  CssClass dui_p_r_12 = () -> "dui-p-r-12";
+  CssClass dui_p_r_12 = CssClass.of("dui-p-r-12");
 
-  CssClass dui_p_r_14 = () -> "dui-p-r-14";
+  CssClass dui_p_r_14 = CssClass.of("dui-p-r-14");
 
-  CssClass dui_p_r_16 = () -> "dui-p-r-16";
+  CssClass dui_p_r_16 = CssClass.of("dui-p-r-16");
 
-  CssClass dui_p_r_1_2p = () -> "dui-p-r-1_2p";
+  CssClass dui_p_r_1_2p = CssClass.of("dui-p-r-1_2p");
 
-  CssClass dui_p_r_1_3p = () -> "dui-p-r-1_3p";
+  CssClass dui_p_r_1_3p = CssClass.of("dui-p-r-1_3p");
 
-  CssClass dui_p_r_1_4p = () -> "dui-p-r-1_4p";
+  CssClass dui_p_r_1_4p = CssClass.of("dui-p-r-1_4p");
 
-  CssClass dui_p_r_1_5 = () -> "dui-p-r-1_5";
+  CssClass dui_p_r_1_5 = CssClass.of("dui-p-r-1_5");
 
-  CssClass dui_p_r_2 = () -> "dui-p-r-2";
+  CssClass dui_p_r_2 = CssClass.of("dui-p-r-2");
 
-  CssClass dui_p_r_20 = () -> "dui-p-r-20";
+  CssClass dui_p_r_20 = CssClass.of("dui-p-r-20");
 
-  CssClass dui_p_r_24 = () -> "dui-p-r-24";
+  CssClass dui_p_r_24 = CssClass.of("dui-p-r-24");
 
-  CssClass dui_p_r_28 = () -> "dui-p-r-28";
+  CssClass dui_p_r_28 = CssClass.of("dui-p-r-28");
 
-  CssClass dui_p_r_2_3p = () -> "dui-p-r-2_3p";
+  CssClass dui_p_r_2_3p = CssClass.of("dui-p-r-2_3p");
 
-  CssClass dui_p_r_2_5 = () -> "dui-p-r-2_5";
+  CssClass dui_p_r_2_5 = CssClass.of("dui-p-r-2_5");
 
-  CssClass dui_p_r_2px = () -> "dui-p-r-2px";
+  CssClass dui_p_r_2px = CssClass.of("dui-p-r-2px");
 
-  CssClass dui_p_r_3 = () -> "dui-p-r-3";
+  CssClass dui_p_r_3 = CssClass.of("dui-p-r-3");
 
-  CssClass dui_p_r_32 = () -> "dui-p-r-32";
+  CssClass dui_p_r_32 = CssClass.of("dui-p-r-32");
 
-  CssClass dui_p_r_36 = () -> "dui-p-r-36";
+  CssClass dui_p_r_36 = CssClass.of("dui-p-r-36");
 
-  CssClass dui_p_r_3_4p = () -> "dui-p-r-3_4p";
+  CssClass dui_p_r_3_4p = CssClass.of("dui-p-r-3_4p");
 
-  CssClass dui_p_r_3_5 = () -> "dui-p-r-3_5";
+  CssClass dui_p_r_3_5 = CssClass.of("dui-p-r-3_5");
 
-  CssClass dui_p_r_4 = () -> "dui-p-r-4";
+  CssClass dui_p_r_4 = CssClass.of("dui-p-r-4");
 
-  CssClass dui_p_r_40 = () -> "dui-p-r-40";
+  CssClass dui_p_r_40 = CssClass.of("dui-p-r-40");
 
-  CssClass dui_p_r_44 = () -> "dui-p-r-44";
+  CssClass dui_p_r_44 = CssClass.of("dui-p-r-44");
 
-  CssClass dui_p_r_48 = () -> "dui-p-r-48";
+  CssClass dui_p_r_48 = CssClass.of("dui-p-r-48");
 
-  CssClass dui_p_r_4px = () -> "dui-p-r-4px";
+  CssClass dui_p_r_4px = CssClass.of("dui-p-r-4px");
 
-  CssClass dui_p_r_5 = () -> "dui-p-r-5";
+  CssClass dui_p_r_5 = CssClass.of("dui-p-r-5");
 
-  CssClass dui_p_r_52 = () -> "dui-p-r-52";
+  CssClass dui_p_r_52 = CssClass.of("dui-p-r-52");
 
-  CssClass dui_p_r_56 = () -> "dui-p-r-56";
+  CssClass dui_p_r_56 = CssClass.of("dui-p-r-56");
 
-  CssClass dui_p_r_6 = () -> "dui-p-r-6";
+  CssClass dui_p_r_6 = CssClass.of("dui-p-r-6");
 
-  CssClass dui_p_r_60 = () -> "dui-p-r-60";
+  CssClass dui_p_r_60 = CssClass.of("dui-p-r-60");
 
-  CssClass dui_p_r_64 = () -> "dui-p-r-64";
+  CssClass dui_p_r_64 = CssClass.of("dui-p-r-64");
 
-  CssClass dui_p_r_7 = () -> "dui-p-r-7";
+  CssClass dui_p_r_7 = CssClass.of("dui-p-r-7");
 
-  CssClass dui_p_r_72 = () -> "dui-p-r-72";
+  CssClass dui_p_r_72 = CssClass.of("dui-p-r-72");
 
-  CssClass dui_p_r_8 = () -> "dui-p-r-8";
+  CssClass dui_p_r_8 = CssClass.of("dui-p-r-8");
 
-  CssClass dui_p_r_80 = () -> "dui-p-r-80";
+  CssClass dui_p_r_80 = CssClass.of("dui-p-r-80");
 
-  CssClass dui_p_r_8px = () -> "dui-p-r-8px";
+  CssClass dui_p_r_8px = CssClass.of("dui-p-r-8px");
 
-  CssClass dui_p_r_9 = () -> "dui-p-r-9";
+  CssClass dui_p_r_9 = CssClass.of("dui-p-r-9");
 
-  CssClass dui_p_r_96 = () -> "dui-p-r-96";
+  CssClass dui_p_r_96 = CssClass.of("dui-p-r-96");
 
-  CssClass dui_p_r_full = () -> "dui-p-r-full";
+  CssClass dui_p_r_full = CssClass.of("dui-p-r-full");
 
-  CssClass dui_p_r_px = () -> "dui-p-r-px";
+  CssClass dui_p_r_px = CssClass.of("dui-p-r-px");
 
-  CssClass dui_p_t_0 = () -> "dui-p-t-0";
+  CssClass dui_p_t_0 = CssClass.of("dui-p-t-0");
 
-  CssClass dui_p_t_0_5 = () -> "dui-p-t-0_5";
+  CssClass dui_p_t_0_5 = CssClass.of("dui-p-t-0_5");
 
-  CssClass dui_p_t_1 = () -> "dui-p-t-1";
+  CssClass dui_p_t_1 = CssClass.of("dui-p-t-1");
 
-  CssClass dui_p_t_10 = () -> "dui-p-t-10";
+  CssClass dui_p_t_10 = CssClass.of("dui-p-t-10");
 
-  CssClass dui_p_t_11 = () -> "dui-p-t-11";
+  CssClass dui_p_t_11 = CssClass.of("dui-p-t-11");
 
-  CssClass dui_p_t_12 = () -> "dui-p-t-12";
+  CssClass dui_p_t_12 = CssClass.of("dui-p-t-12");
 
-  CssClass dui_p_t_14 = () -> "dui-p-t-14";
+  CssClass dui_p_t_14 = CssClass.of("dui-p-t-14");
 
-  CssClass dui_p_t_16 = () -> "dui-p-t-16";
+  CssClass dui_p_t_16 = CssClass.of("dui-p-t-16");
 
-  CssClass dui_p_t_1_2p = () -> "dui-p-t-1_2p";
+  CssClass dui_p_t_1_2p = CssClass.of("dui-p-t-1_2p");
 
-  CssClass dui_p_t_1_3p = () -> "dui-p-t-1_3p";
+  CssClass dui_p_t_1_3p = CssClass.of("dui-p-t-1_3p");
 
-  CssClass dui_p_t_1_4p = () -> "dui-p-t-1_4p";
+  CssClass dui_p_t_1_4p = CssClass.of("dui-p-t-1_4p");
 
-  CssClass dui_p_t_1_5 = () -> "dui-p-t-1_5";
+  CssClass dui_p_t_1_5 = CssClass.of("dui-p-t-1_5");
 
-  CssClass dui_p_t_2 = () -> "dui-p-t-2";
+  CssClass dui_p_t_2 = CssClass.of("dui-p-t-2");
 
-  CssClass dui_p_t_20 = () -> "dui-p-t-20";
+  CssClass dui_p_t_20 = CssClass.of("dui-p-t-20");
 
-  CssClass dui_p_t_24 = () -> "dui-p-t-24";
+  CssClass dui_p_t_24 = CssClass.of("dui-p-t-24");
 
-  CssClass dui_p_t_28 = () -> "dui-p-t-28";
+  CssClass dui_p_t_28 = CssClass.of("dui-p-t-28");
 
-  CssClass dui_p_t_2_3p = () -> "dui-p-t-2_3p";
+  CssClass dui_p_t_2_3p = CssClass.of("dui-p-t-2_3p");
 
-  CssClass dui_p_t_2_5 = () -> "dui-p-t-2_5";
+  CssClass dui_p_t_2_5 = CssClass.of("dui-p-t-2_5");
 
-  CssClass dui_p_t_2px = () -> "dui-p-t-2px";
+  CssClass dui_p_t_2px = CssClass.of("dui-p-t-2px");
 
-  CssClass dui_p_t_3 = () -> "dui-p-t-3";
+  CssClass dui_p_t_3 = CssClass.of("dui-p-t-3");
 
-  CssClass dui_p_t_32 = () -> "dui-p-t-32";
+  CssClass dui_p_t_32 = CssClass.of("dui-p-t-32");
 
-  CssClass dui_p_t_36 = () -> "dui-p-t-36";
+  CssClass dui_p_t_36 = CssClass.of("dui-p-t-36");
 
-  CssClass dui_p_t_3_4p = () -> "dui-p-t-3_4p";
+  CssClass dui_p_t_3_4p = CssClass.of("dui-p-t-3_4p");
 
-  CssClass dui_p_t_3_5 = () -> "dui-p-t-3_5";
+  CssClass dui_p_t_3_5 = CssClass.of("dui-p-t-3_5");
 
-  CssClass dui_p_t_4 = () -> "dui-p-t-4";
+  CssClass dui_p_t_4 = CssClass.of("dui-p-t-4");
 
-  CssClass dui_p_t_40 = () -> "dui-p-t-40";
+  CssClass dui_p_t_40 = CssClass.of("dui-p-t-40");
 
-  CssClass dui_p_t_44 = () -> "dui-p-t-44";
+  CssClass dui_p_t_44 = CssClass.of("dui-p-t-44");
 
-  CssClass dui_p_t_48 = () -> "dui-p-t-48";
+  CssClass dui_p_t_48 = CssClass.of("dui-p-t-48");
 
-  CssClass dui_p_t_4px = () -> "dui-p-t-4px";
+  CssClass dui_p_t_4px = CssClass.of("dui-p-t-4px");
 
-  CssClass dui_p_t_5 = () -> "dui-p-t-5";
+  CssClass dui_p_t_5 = CssClass.of("dui-p-t-5");
 
-  CssClass dui_p_t_52 = () -> "dui-p-t-52";
+  CssClass dui_p_t_52 = CssClass.of("dui-p-t-52");
 
-  CssClass dui_p_t_56 = () -> "dui-p-t-56";
+  CssClass dui_p_t_56 = CssClass.of("dui-p-t-56");
 
-  CssClass dui_p_t_6 = () -> "dui-p-t-6";
+  CssClass dui_p_t_6 = CssClass.of("dui-p-t-6");
 
-  CssClass dui_p_t_60 = () -> "dui-p-t-60";
+  CssClass dui_p_t_60 = CssClass.of("dui-p-t-60");
 
-  CssClass dui_p_t_64 = () -> "dui-p-t-64";
+  CssClass dui_p_t_64 = CssClass.of("dui-p-t-64");
 
-  CssClass dui_p_t_7 = () -> "dui-p-t-7";
+  CssClass dui_p_t_7 = CssClass.of("dui-p-t-7");
 
-  CssClass dui_p_t_72 = () -> "dui-p-t-72";
+  CssClass dui_p_t_72 = CssClass.of("dui-p-t-72");
 
-  CssClass dui_p_t_8 = () -> "dui-p-t-8";
+  CssClass dui_p_t_8 = CssClass.of("dui-p-t-8");
 
-  CssClass dui_p_t_80 = () -> "dui-p-t-80";
+  CssClass dui_p_t_80 = CssClass.of("dui-p-t-80");
 
-  CssClass dui_p_t_8px = () -> "dui-p-t-8px";
+  CssClass dui_p_t_8px = CssClass.of("dui-p-t-8px");
 
-  CssClass dui_p_t_9 = () -> "dui-p-t-9";
+  CssClass dui_p_t_9 = CssClass.of("dui-p-t-9");
 
-  CssClass dui_p_t_96 = () -> "dui-p-t-96";
+  CssClass dui_p_t_96 = CssClass.of("dui-p-t-96");
 
-  CssClass dui_p_t_full = () -> "dui-p-t-full";
+  CssClass dui_p_t_full = CssClass.of("dui-p-t-full");
 
-  CssClass dui_p_t_px = () -> "dui-p-t-px";
+  CssClass dui_p_t_px = CssClass.of("dui-p-t-px");
 
-  CssClass dui_p_x_0 = () -> "dui-p-x-0";
+  CssClass dui_p_x_0 = CssClass.of("dui-p-x-0");
 
-  CssClass dui_p_x_0_5 = () -> "dui-p-x-0_5";
+  CssClass dui_p_x_0_5 = CssClass.of("dui-p-x-0_5");
 
-  CssClass dui_p_x_1 = () -> "dui-p-x-1";
+  CssClass dui_p_x_1 = CssClass.of("dui-p-x-1");
 
-  CssClass dui_p_x_10 = () -> "dui-p-x-10";
+  CssClass dui_p_x_10 = CssClass.of("dui-p-x-10");
 
-  CssClass dui_p_x_11 = () -> "dui-p-x-11";
+  CssClass dui_p_x_11 = CssClass.of("dui-p-x-11");
 
-  CssClass dui_p_x_12 = () -> "dui-p-x-12";
+  CssClass dui_p_x_12 = CssClass.of("dui-p-x-12");
 
-  CssClass dui_p_x_14 = () -> "dui-p-x-14";
+  CssClass dui_p_x_14 = CssClass.of("dui-p-x-14");
 
-  CssClass dui_p_x_16 = () -> "dui-p-x-16";
+  CssClass dui_p_x_16 = CssClass.of("dui-p-x-16");
 
-  CssClass dui_p_x_1_2p = () -> "dui-p-x-1_2p";
+  CssClass dui_p_x_1_2p = CssClass.of("dui-p-x-1_2p");
 
-  CssClass dui_p_x_1_3p = () -> "dui-p-x-1_3p";
+  CssClass dui_p_x_1_3p = CssClass.of("dui-p-x-1_3p");
 
-  CssClass dui_p_x_1_4p = () -> "dui-p-x-1_4p";
+  CssClass dui_p_x_1_4p = CssClass.of("dui-p-x-1_4p");
 
-  CssClass dui_p_x_1_5 = () -> "dui-p-x-1_5";
+  CssClass dui_p_x_1_5 = CssClass.of("dui-p-x-1_5");
 
-  CssClass dui_p_x_2 = () -> "dui-p-x-2";
+  CssClass dui_p_x_2 = CssClass.of("dui-p-x-2");
 
-  CssClass dui_p_x_20 = () -> "dui-p-x-20";
+  CssClass dui_p_x_20 = CssClass.of("dui-p-x-20");
 
-  CssClass dui_p_x_24 = () -> "dui-p-x-24";
+  CssClass dui_p_x_24 = CssClass.of("dui-p-x-24");
 
-  CssClass dui_p_x_28 = () -> "dui-p-x-28";
+  CssClass dui_p_x_28 = CssClass.of("dui-p-x-28");
 
-  CssClass dui_p_x_2_3p = () -> "dui-p-x-2_3p";
+  CssClass dui_p_x_2_3p = CssClass.of("dui-p-x-2_3p");
 
-  CssClass dui_p_x_2_5 = () -> "dui-p-x-2_5";
+  CssClass dui_p_x_2_5 = CssClass.of("dui-p-x-2_5");
 
-  CssClass dui_p_x_2px = () -> "dui-p-x-2px";
+  CssClass dui_p_x_2px = CssClass.of("dui-p-x-2px");
 
-  CssClass dui_p_x_3 = () -> "dui-p-x-3";
+  CssClass dui_p_x_3 = CssClass.of("dui-p-x-3");
 
-  CssClass dui_p_x_32 = () -> "dui-p-x-32";
+  CssClass dui_p_x_32 = CssClass.of("dui-p-x-32");
 
-  CssClass dui_p_x_36 = () -> "dui-p-x-36";
+  CssClass dui_p_x_36 = CssClass.of("dui-p-x-36");
 
-  CssClass dui_p_x_3_4p = () -> "dui-p-x-3_4p";
+  CssClass dui_p_x_3_4p = CssClass.of("dui-p-x-3_4p");
 
-  CssClass dui_p_x_3_5 = () -> "dui-p-x-3_5";
+  CssClass dui_p_x_3_5 = CssClass.of("dui-p-x-3_5");
 
-  CssClass dui_p_x_4 = () -> "dui-p-x-4";
+  CssClass dui_p_x_4 = CssClass.of("dui-p-x-4");
 
-  CssClass dui_p_x_40 = () -> "dui-p-x-40";
+  CssClass dui_p_x_40 = CssClass.of("dui-p-x-40");
 
-  CssClass dui_p_x_44 = () -> "dui-p-x-44";
+  CssClass dui_p_x_44 = CssClass.of("dui-p-x-44");
 
-  CssClass dui_p_x_48 = () -> "dui-p-x-48";
+  CssClass dui_p_x_48 = CssClass.of("dui-p-x-48");
 
-  CssClass dui_p_x_4px = () -> "dui-p-x-4px";
+  CssClass dui_p_x_4px = CssClass.of("dui-p-x-4px");
 
-  CssClass dui_p_x_5 = () -> "dui-p-x-5";
+  CssClass dui_p_x_5 = CssClass.of("dui-p-x-5");
 
-  CssClass dui_p_x_52 = () -> "dui-p-x-52";
+  CssClass dui_p_x_52 = CssClass.of("dui-p-x-52");
 
-  CssClass dui_p_x_56 = () -> "dui-p-x-56";
+  CssClass dui_p_x_56 = CssClass.of("dui-p-x-56");
 
-  CssClass dui_p_x_6 = () -> "dui-p-x-6";
+  CssClass dui_p_x_6 = CssClass.of("dui-p-x-6");
 
-  CssClass dui_p_x_60 = () -> "dui-p-x-60";
+  CssClass dui_p_x_60 = CssClass.of("dui-p-x-60");
 
-  CssClass dui_p_x_64 = () -> "dui-p-x-64";
+  CssClass dui_p_x_64 = CssClass.of("dui-p-x-64");
 
-  CssClass dui_p_x_7 = () -> "dui-p-x-7";
+  CssClass dui_p_x_7 = CssClass.of("dui-p-x-7");
 
-  CssClass dui_p_x_72 = () -> "dui-p-x-72";
+  CssClass dui_p_x_72 = CssClass.of("dui-p-x-72");
 
-  CssClass dui_p_x_8 = () -> "dui-p-x-8";
+  CssClass dui_p_x_8 = CssClass.of("dui-p-x-8");
 
-  CssClass dui_p_x_80 = () -> "dui-p-x-80";
+  CssClass dui_p_x_80 = CssClass.of("dui-p-x-80");
 
-  CssClass dui_p_x_8px = () -> "dui-p-x-8px";
+  CssClass dui_p_x_8px = CssClass.of("dui-p-x-8px");
 
-  CssClass dui_p_x_9 = () -> "dui-p-x-9";
+  CssClass dui_p_x_9 = CssClass.of("dui-p-x-9");
 
-  CssClass dui_p_x_96 = () -> "dui-p-x-96";
+  CssClass dui_p_x_96 = CssClass.of("dui-p-x-96");
 
-  CssClass dui_p_x_full = () -> "dui-p-x-full";
+  CssClass dui_p_x_full = CssClass.of("dui-p-x-full");
 
-  CssClass dui_p_x_px = () -> "dui-p-x-px";
+  CssClass dui_p_x_px = CssClass.of("dui-p-x-px");
 
-  CssClass dui_p_y_0 = () -> "dui-p-y-0";
+  CssClass dui_p_y_0 = CssClass.of("dui-p-y-0");
 
-  CssClass dui_p_y_0_5 = () -> "dui-p-y-0_5";
+  CssClass dui_p_y_0_5 = CssClass.of("dui-p-y-0_5");
 
-  CssClass dui_p_y_1 = () -> "dui-p-y-1";
+  CssClass dui_p_y_1 = CssClass.of("dui-p-y-1");
 
-  CssClass dui_p_y_10 = () -> "dui-p-y-10";
+  CssClass dui_p_y_10 = CssClass.of("dui-p-y-10");
 
-  CssClass dui_p_y_11 = () -> "dui-p-y-11";
+  CssClass dui_p_y_11 = CssClass.of("dui-p-y-11");
 
-  CssClass dui_p_y_12 = () -> "dui-p-y-12";
+  CssClass dui_p_y_12 = CssClass.of("dui-p-y-12");
 
-  CssClass dui_p_y_14 = () -> "dui-p-y-14";
+  CssClass dui_p_y_14 = CssClass.of("dui-p-y-14");
 
-  CssClass dui_p_y_16 = () -> "dui-p-y-16";
+  CssClass dui_p_y_16 = CssClass.of("dui-p-y-16");
 
-  CssClass dui_p_y_1_2p = () -> "dui-p-y-1_2p";
+  CssClass dui_p_y_1_2p = CssClass.of("dui-p-y-1_2p");
 
-  CssClass dui_p_y_1_3p = () -> "dui-p-y-1_3p";
+  CssClass dui_p_y_1_3p = CssClass.of("dui-p-y-1_3p");
 
-  CssClass dui_p_y_1_4p = () -> "dui-p-y-1_4p";
+  CssClass dui_p_y_1_4p = CssClass.of("dui-p-y-1_4p");
 
-  CssClass dui_p_y_1_5 = () -> "dui-p-y-1_5";
+  CssClass dui_p_y_1_5 = CssClass.of("dui-p-y-1_5");
 
-  CssClass dui_p_y_2 = () -> "dui-p-y-2";
+  CssClass dui_p_y_2 = CssClass.of("dui-p-y-2");
 
-  CssClass dui_p_y_20 = () -> "dui-p-y-20";
+  CssClass dui_p_y_20 = CssClass.of("dui-p-y-20");
 
-  CssClass dui_p_y_24 = () -> "dui-p-y-24";
+  CssClass dui_p_y_24 = CssClass.of("dui-p-y-24");
 
-  CssClass dui_p_y_28 = () -> "dui-p-y-28";
+  CssClass dui_p_y_28 = CssClass.of("dui-p-y-28");
 
-  CssClass dui_p_y_2_3p = () -> "dui-p-y-2_3p";
+  CssClass dui_p_y_2_3p = CssClass.of("dui-p-y-2_3p");
 
-  CssClass dui_p_y_2_5 = () -> "dui-p-y-2_5";
+  CssClass dui_p_y_2_5 = CssClass.of("dui-p-y-2_5");
 
-  CssClass dui_p_y_2px = () -> "dui-p-y-2px";
+  CssClass dui_p_y_2px = CssClass.of("dui-p-y-2px");
 
-  CssClass dui_p_y_3 = () -> "dui-p-y-3";
+  CssClass dui_p_y_3 = CssClass.of("dui-p-y-3");
 
-  CssClass dui_p_y_32 = () -> "dui-p-y-32";
+  CssClass dui_p_y_32 = CssClass.of("dui-p-y-32");
 
-  CssClass dui_p_y_36 = () -> "dui-p-y-36";
+  CssClass dui_p_y_36 = CssClass.of("dui-p-y-36");
 
-  CssClass dui_p_y_3_4p = () -> "dui-p-y-3_4p";
+  CssClass dui_p_y_3_4p = CssClass.of("dui-p-y-3_4p");
 
-  CssClass dui_p_y_3_5 = () -> "dui-p-y-3_5";
+  CssClass dui_p_y_3_5 = CssClass.of("dui-p-y-3_5");
 
-  CssClass dui_p_y_4 = () -> "dui-p-y-4";
+  CssClass dui_p_y_4 = CssClass.of("dui-p-y-4");
 
-  CssClass dui_p_y_40 = () -> "dui-p-y-40";
+  CssClass dui_p_y_40 = CssClass.of("dui-p-y-40");
 
-  CssClass dui_p_y_44 = () -> "dui-p-y-44";
+  CssClass dui_p_y_44 = CssClass.of("dui-p-y-44");
 
-  CssClass dui_p_y_48 = () -> "dui-p-y-48";
+  CssClass dui_p_y_48 = CssClass.of("dui-p-y-48");
 
-  CssClass dui_p_y_4px = () -> "dui-p-y-4px";
+  CssClass dui_p_y_4px = CssClass.of("dui-p-y-4px");
 
-  CssClass dui_p_y_5 = () -> "dui-p-y-5";
+  CssClass dui_p_y_5 = CssClass.of("dui-p-y-5");
 
-  CssClass dui_p_y_52 = () -> "dui-p-y-52";
+  CssClass dui_p_y_52 = CssClass.of("dui-p-y-52");
 
-  CssClass dui_p_y_56 = () -> "dui-p-y-56";
+  CssClass dui_p_y_56 = CssClass.of("dui-p-y-56");
 
-  CssClass dui_p_y_6 = () -> "dui-p-y-6";
+  CssClass dui_p_y_6 = CssClass.of("dui-p-y-6");
 
-  CssClass dui_p_y_60 = () -> "dui-p-y-60";
+  CssClass dui_p_y_60 = CssClass.of("dui-p-y-60");
 
-  CssClass dui_p_y_64 = () -> "dui-p-y-64";
+  CssClass dui_p_y_64 = CssClass.of("dui-p-y-64");
 
-  CssClass dui_p_y_7 = () -> "dui-p-y-7";
+  CssClass dui_p_y_7 = CssClass.of("dui-p-y-7");
 
-  CssClass dui_p_y_72 = () -> "dui-p-y-72";
+  CssClass dui_p_y_72 = CssClass.of("dui-p-y-72");
 
-  CssClass dui_p_y_8 = () -> "dui-p-y-8";
+  CssClass dui_p_y_8 = CssClass.of("dui-p-y-8");
 
-  CssClass dui_p_y_80 = () -> "dui-p-y-80";
+  CssClass dui_p_y_80 = CssClass.of("dui-p-y-80");
 
-  CssClass dui_p_y_8px = () -> "dui-p-y-8px";
+  CssClass dui_p_y_8px = CssClass.of("dui-p-y-8px");
 
-  CssClass dui_p_y_9 = () -> "dui-p-y-9";
+  CssClass dui_p_y_9 = CssClass.of("dui-p-y-9");
 
-  CssClass dui_p_y_96 = () -> "dui-p-y-96";
+  CssClass dui_p_y_96 = CssClass.of("dui-p-y-96");
 
-  CssClass dui_p_y_full = () -> "dui-p-y-full";
+  CssClass dui_p_y_full = CssClass.of("dui-p-y-full");
 
-  CssClass dui_p_y_px = () -> "dui-p-y-px";
+  CssClass dui_p_y_px = CssClass.of("dui-p-y-px");
 
-  CssClass dui_right_0 = () -> "dui-right-0";
+  CssClass dui_right_0 = CssClass.of("dui-right-0");
 
-  CssClass dui_right_0_5 = () -> "dui-right-0_5";
+  CssClass dui_right_0_5 = CssClass.of("dui-right-0_5");
 
-  CssClass dui_right_1 = () -> "dui-right-1";
+  CssClass dui_right_1 = CssClass.of("dui-right-1");
 
-  CssClass dui_right_10 = () -> "dui-right-10";
+  CssClass dui_right_10 = CssClass.of("dui-right-10");
 
-  CssClass dui_right_11 = () -> "dui-right-11";
+  CssClass dui_right_11 = CssClass.of("dui-right-11");
 
-  CssClass dui_right_12 = () -> "dui-right-12";
+  CssClass dui_right_12 = CssClass.of("dui-right-12");
 
-  CssClass dui_right_14 = () -> "dui-right-14";
+  CssClass dui_right_14 = CssClass.of("dui-right-14");
 
-  CssClass dui_right_16 = () -> "dui-right-16";
+  CssClass dui_right_16 = CssClass.of("dui-right-16");
 
-  CssClass dui_right_1_2p = () -> "dui-right-1_2p";
+  CssClass dui_right_1_2p = CssClass.of("dui-right-1_2p");
 
-  CssClass dui_right_1_3p = () -> "dui-right-1_3p";
+  CssClass dui_right_1_3p = CssClass.of("dui-right-1_3p");
 
-  CssClass dui_right_1_4p = () -> "dui-right-1_4p";
+  CssClass dui_right_1_4p = CssClass.of("dui-right-1_4p");
 
-  CssClass dui_right_1_5 = () -> "dui-right-1_5";
+  CssClass dui_right_1_5 = CssClass.of("dui-right-1_5");
 
-  CssClass dui_right_2 = () -> "dui-right-2";
+  CssClass dui_right_2 = CssClass.of("dui-right-2");
 
-  CssClass dui_right_20 = () -> "dui-right-20";
+  CssClass dui_right_20 = CssClass.of("dui-right-20");
 
-  CssClass dui_right_24 = () -> "dui-right-24";
+  CssClass dui_right_24 = CssClass.of("dui-right-24");
 
-  CssClass dui_right_28 = () -> "dui-right-28";
+  CssClass dui_right_28 = CssClass.of("dui-right-28");
 
-  CssClass dui_right_2_3p = () -> "dui-right-2_3p";
+  CssClass dui_right_2_3p = CssClass.of("dui-right-2_3p");
 
-  CssClass dui_right_2_5 = () -> "dui-right-2_5";
+  CssClass dui_right_2_5 = CssClass.of("dui-right-2_5");
 
-  CssClass dui_right_2px = () -> "dui-right-2px";
+  CssClass dui_right_2px = CssClass.of("dui-right-2px");
 
-  CssClass dui_right_3 = () -> "dui-right-3";
+  CssClass dui_right_3 = CssClass.of("dui-right-3");
 
-  CssClass dui_right_32 = () -> "dui-right-32";
+  CssClass dui_right_32 = CssClass.of("dui-right-32");
 
-  CssClass dui_right_36 = () -> "dui-right-36";
+  CssClass dui_right_36 = CssClass.of("dui-right-36");
 
-  CssClass dui_right_3_4p = () -> "dui-right-3_4p";
+  CssClass dui_right_3_4p = CssClass.of("dui-right-3_4p");
 
-  CssClass dui_right_3_5 = () -> "dui-right-3_5";
+  CssClass dui_right_3_5 = CssClass.of("dui-right-3_5");
 
-  CssClass dui_right_4 = () -> "dui-right-4";
+  CssClass dui_right_4 = CssClass.of("dui-right-4");
 
-  CssClass dui_right_40 = () -> "dui-right-40";
+  CssClass dui_right_40 = CssClass.of("dui-right-40");
 
-  CssClass dui_right_44 = () -> "dui-right-44";
+  CssClass dui_right_44 = CssClass.of("dui-right-44");
 
-  CssClass dui_right_48 = () -> "dui-right-48";
+  CssClass dui_right_48 = CssClass.of("dui-right-48");
 
-  CssClass dui_right_4px = () -> "dui-right-4px";
+  CssClass dui_right_4px = CssClass.of("dui-right-4px");
 
-  CssClass dui_right_5 = () -> "dui-right-5";
+  CssClass dui_right_5 = CssClass.of("dui-right-5");
 
-  CssClass dui_right_52 = () -> "dui-right-52";
+  CssClass dui_right_52 = CssClass.of("dui-right-52");
 
-  CssClass dui_right_56 = () -> "dui-right-56";
+  CssClass dui_right_56 = CssClass.of("dui-right-56");
 
-  CssClass dui_right_6 = () -> "dui-right-6";
+  CssClass dui_right_6 = CssClass.of("dui-right-6");
 
-  CssClass dui_right_60 = () -> "dui-right-60";
+  CssClass dui_right_60 = CssClass.of("dui-right-60");
 
-  CssClass dui_right_64 = () -> "dui-right-64";
+  CssClass dui_right_64 = CssClass.of("dui-right-64");
 
-  CssClass dui_right_7 = () -> "dui-right-7";
+  CssClass dui_right_7 = CssClass.of("dui-right-7");
 
-  CssClass dui_right_72 = () -> "dui-right-72";
+  CssClass dui_right_72 = CssClass.of("dui-right-72");
 
-  CssClass dui_right_8 = () -> "dui-right-8";
+  CssClass dui_right_8 = CssClass.of("dui-right-8");
 
-  CssClass dui_right_80 = () -> "dui-right-80";
+  CssClass dui_right_80 = CssClass.of("dui-right-80");
 
-  CssClass dui_right_8px = () -> "dui-right-8px";
+  CssClass dui_right_8px = CssClass.of("dui-right-8px");
 
-  CssClass dui_right_9 = () -> "dui-right-9";
+  CssClass dui_right_9 = CssClass.of("dui-right-9");
 
-  CssClass dui_right_96 = () -> "dui-right-96";
+  CssClass dui_right_96 = CssClass.of("dui-right-96");
 
-  CssClass dui_right_auto = () -> "dui-right-auto";
+  CssClass dui_right_auto = CssClass.of("dui-right-auto");
 
-  CssClass dui_right_full = () -> "dui-right-full";
+  CssClass dui_right_full = CssClass.of("dui-right-full");
 
-  CssClass dui_right_px = () -> "dui-right-px";
+  CssClass dui_right_px = CssClass.of("dui-right-px");
 
-  CssClass dui_space_x_0 = () -> "dui-space-x-0";
+  CssClass dui_space_x_0 = CssClass.of("dui-space-x-0");
 
-  CssClass dui_space_x_0_5 = () -> "dui-space-x-0_5";
+  CssClass dui_space_x_0_5 = CssClass.of("dui-space-x-0_5");
 
-  CssClass dui_space_x_1 = () -> "dui-space-x-1";
+  CssClass dui_space_x_1 = CssClass.of("dui-space-x-1");
 
-  CssClass dui_space_x_10 = () -> "dui-space-x-10";
+  CssClass dui_space_x_10 = CssClass.of("dui-space-x-10");
 
-  CssClass dui_space_x_11 = () -> "dui-space-x-11";
+  CssClass dui_space_x_11 = CssClass.of("dui-space-x-11");
 
-  CssClass dui_space_x_12 = () -> "dui-space-x-12";
+  CssClass dui_space_x_12 = CssClass.of("dui-space-x-12");
 
-  CssClass dui_space_x_14 = () -> "dui-space-x-14";
+  CssClass dui_space_x_14 = CssClass.of("dui-space-x-14");
 
-  CssClass dui_space_x_16 = () -> "dui-space-x-16";
+  CssClass dui_space_x_16 = CssClass.of("dui-space-x-16");
 
-  CssClass dui_space_x_1_2p = () -> "dui-space-x-1_2p";
+  CssClass dui_space_x_1_2p = CssClass.of("dui-space-x-1_2p");
 
-  CssClass dui_space_x_1_3p = () -> "dui-space-x-1_3p";
+  CssClass dui_space_x_1_3p = CssClass.of("dui-space-x-1_3p");
 
-  CssClass dui_space_x_1_4p = () -> "dui-space-x-1_4p";
+  CssClass dui_space_x_1_4p = CssClass.of("dui-space-x-1_4p");
 
-  CssClass dui_space_x_1_5 = () -> "dui-space-x-1_5";
+  CssClass dui_space_x_1_5 = CssClass.of("dui-space-x-1_5");
 
-  CssClass dui_space_x_2 = () -> "dui-space-x-2";
+  CssClass dui_space_x_2 = CssClass.of("dui-space-x-2");
 
-  CssClass dui_space_x_20 = () -> "dui-space-x-20";
+  CssClass dui_space_x_20 = CssClass.of("dui-space-x-20");
 
-  CssClass dui_space_x_24 = () -> "dui-space-x-24";
+  CssClass dui_space_x_24 = CssClass.of("dui-space-x-24");
 
-  CssClass dui_space_x_28 = () -> "dui-space-x-28";
+  CssClass dui_space_x_28 = CssClass.of("dui-space-x-28");
 
-  CssClass dui_space_x_2_3p = () -> "dui-space-x-2_3p";
+  CssClass dui_space_x_2_3p = CssClass.of("dui-space-x-2_3p");
 
-  CssClass dui_space_x_2_5 = () -> "dui-space-x-2_5";
+  CssClass dui_space_x_2_5 = CssClass.of("dui-space-x-2_5");
 
-  CssClass dui_space_x_2px = () -> "dui-space-x-2px";
+  CssClass dui_space_x_2px = CssClass.of("dui-space-x-2px");
 
-  CssClass dui_space_x_3 = () -> "dui-space-x-3";
+  CssClass dui_space_x_3 = CssClass.of("dui-space-x-3");
 
-  CssClass dui_space_x_32 = () -> "dui-space-x-32";
+  CssClass dui_space_x_32 = CssClass.of("dui-space-x-32");
 
-  CssClass dui_space_x_36 = () -> "dui-space-x-36";
+  CssClass dui_space_x_36 = CssClass.of("dui-space-x-36");
 
-  CssClass dui_space_x_3_4p = () -> "dui-space-x-3_4p";
+  CssClass dui_space_x_3_4p = CssClass.of("dui-space-x-3_4p");
 
-  CssClass dui_space_x_3_5 = () -> "dui-space-x-3_5";
+  CssClass dui_space_x_3_5 = CssClass.of("dui-space-x-3_5");
 
-  CssClass dui_space_x_4 = () -> "dui-space-x-4";
+  CssClass dui_space_x_4 = CssClass.of("dui-space-x-4");
 
-  CssClass dui_space_x_40 = () -> "dui-space-x-40";
+  CssClass dui_space_x_40 = CssClass.of("dui-space-x-40");
 
-  CssClass dui_space_x_44 = () -> "dui-space-x-44";
+  CssClass dui_space_x_44 = CssClass.of("dui-space-x-44");
 
-  CssClass dui_space_x_48 = () -> "dui-space-x-48";
+  CssClass dui_space_x_48 = CssClass.of("dui-space-x-48");
 
-  CssClass dui_space_x_4px = () -> "dui-space-x-4px";
+  CssClass dui_space_x_4px = CssClass.of("dui-space-x-4px");
 
-  CssClass dui_space_x_5 = () -> "dui-space-x-5";
+  CssClass dui_space_x_5 = CssClass.of("dui-space-x-5");
 
-  CssClass dui_space_x_52 = () -> "dui-space-x-52";
+  CssClass dui_space_x_52 = CssClass.of("dui-space-x-52");
 
-  CssClass dui_space_x_56 = () -> "dui-space-x-56";
+  CssClass dui_space_x_56 = CssClass.of("dui-space-x-56");
 
-  CssClass dui_space_x_6 = () -> "dui-space-x-6";
+  CssClass dui_space_x_6 = CssClass.of("dui-space-x-6");
 
-  CssClass dui_space_x_60 = () -> "dui-space-x-60";
+  CssClass dui_space_x_60 = CssClass.of("dui-space-x-60");
 
-  CssClass dui_space_x_64 = () -> "dui-space-x-64";
+  CssClass dui_space_x_64 = CssClass.of("dui-space-x-64");
 
-  CssClass dui_space_x_7 = () -> "dui-space-x-7";
+  CssClass dui_space_x_7 = CssClass.of("dui-space-x-7");
 
-  CssClass dui_space_x_72 = () -> "dui-space-x-72";
+  CssClass dui_space_x_72 = CssClass.of("dui-space-x-72");
 
-  CssClass dui_space_x_8 = () -> "dui-space-x-8";
+  CssClass dui_space_x_8 = CssClass.of("dui-space-x-8");
 
-  CssClass dui_space_x_80 = () -> "dui-space-x-80";
+  CssClass dui_space_x_80 = CssClass.of("dui-space-x-80");
 
-  CssClass dui_space_x_8px = () -> "dui-space-x-8px";
+  CssClass dui_space_x_8px = CssClass.of("dui-space-x-8px");
 
-  CssClass dui_space_x_9 = () -> "dui-space-x-9";
+  CssClass dui_space_x_9 = CssClass.of("dui-space-x-9");
 
-  CssClass dui_space_x_96 = () -> "dui-space-x-96";
+  CssClass dui_space_x_96 = CssClass.of("dui-space-x-96");
 
-  CssClass dui_space_x_full = () -> "dui-space-x-full";
+  CssClass dui_space_x_full = CssClass.of("dui-space-x-full");
 
-  CssClass dui_space_x_px = () -> "dui-space-x-px";
+  CssClass dui_space_x_px = CssClass.of("dui-space-x-px");
 
-  CssClass dui_space_y_0 = () -> "dui-space-y-0";
+  CssClass dui_space_y_0 = CssClass.of("dui-space-y-0");
 
-  CssClass dui_space_y_0_5 = () -> "dui-space-y-0_5";
+  CssClass dui_space_y_0_5 = CssClass.of("dui-space-y-0_5");
 
-  CssClass dui_space_y_1 = () -> "dui-space-y-1";
+  CssClass dui_space_y_1 = CssClass.of("dui-space-y-1");
 
-  CssClass dui_space_y_10 = () -> "dui-space-y-10";
+  CssClass dui_space_y_10 = CssClass.of("dui-space-y-10");
 
-  CssClass dui_space_y_11 = () -> "dui-space-y-11";
+  CssClass dui_space_y_11 = CssClass.of("dui-space-y-11");
 
-  CssClass dui_space_y_12 = () -> "dui-space-y-12";
+  CssClass dui_space_y_12 = CssClass.of("dui-space-y-12");
 
-  CssClass dui_space_y_14 = () -> "dui-space-y-14";
+  CssClass dui_space_y_14 = CssClass.of("dui-space-y-14");
 
-  CssClass dui_space_y_16 = () -> "dui-space-y-16";
+  CssClass dui_space_y_16 = CssClass.of("dui-space-y-16");
 
-  CssClass dui_space_y_1_2p = () -> "dui-space-y-1_2p";
+  CssClass dui_space_y_1_2p = CssClass.of("dui-space-y-1_2p");
 
-  CssClass dui_space_y_1_3p = () -> "dui-space-y-1_3p";
+  CssClass dui_space_y_1_3p = CssClass.of("dui-space-y-1_3p");
 
-  CssClass dui_space_y_1_4p = () -> "dui-space-y-1_4p";
+  CssClass dui_space_y_1_4p = CssClass.of("dui-space-y-1_4p");
 
-  CssClass dui_space_y_1_5 = () -> "dui-space-y-1_5";
+  CssClass dui_space_y_1_5 = CssClass.of("dui-space-y-1_5");
 
-  CssClass dui_space_y_2 = () -> "dui-space-y-2";
+  CssClass dui_space_y_2 = CssClass.of("dui-space-y-2");
 
-  CssClass dui_space_y_20 = () -> "dui-space-y-20";
+  CssClass dui_space_y_20 = CssClass.of("dui-space-y-20");
 
-  CssClass dui_space_y_24 = () -> "dui-space-y-24";
+  CssClass dui_space_y_24 = CssClass.of("dui-space-y-24");
 
-  CssClass dui_space_y_28 = () -> "dui-space-y-28";
+  CssClass dui_space_y_28 = CssClass.of("dui-space-y-28");
 
-  CssClass dui_space_y_2_3p = () -> "dui-space-y-2_3p";
+  CssClass dui_space_y_2_3p = CssClass.of("dui-space-y-2_3p");
 
-  CssClass dui_space_y_2_5 = () -> "dui-space-y-2_5";
+  CssClass dui_space_y_2_5 = CssClass.of("dui-space-y-2_5");
 
-  CssClass dui_space_y_2px = () -> "dui-space-y-2px";
+  CssClass dui_space_y_2px = CssClass.of("dui-space-y-2px");
 
-  CssClass dui_space_y_3 = () -> "dui-space-y-3";
+  CssClass dui_space_y_3 = CssClass.of("dui-space-y-3");
 
-  CssClass dui_space_y_32 = () -> "dui-space-y-32";
+  CssClass dui_space_y_32 = CssClass.of("dui-space-y-32");
 
-  CssClass dui_space_y_36 = () -> "dui-space-y-36";
+  CssClass dui_space_y_36 = CssClass.of("dui-space-y-36");
 
-  CssClass dui_space_y_3_4p = () -> "dui-space-y-3_4p";
+  CssClass dui_space_y_3_4p = CssClass.of("dui-space-y-3_4p");
 
-  CssClass dui_space_y_3_5 = () -> "dui-space-y-3_5";
+  CssClass dui_space_y_3_5 = CssClass.of("dui-space-y-3_5");
 
-  CssClass dui_space_y_4 = () -> "dui-space-y-4";
+  CssClass dui_space_y_4 = CssClass.of("dui-space-y-4");
 
-  CssClass dui_space_y_40 = () -> "dui-space-y-40";
+  CssClass dui_space_y_40 = CssClass.of("dui-space-y-40");
 
-  CssClass dui_space_y_44 = () -> "dui-space-y-44";
+  CssClass dui_space_y_44 = CssClass.of("dui-space-y-44");
 
-  CssClass dui_space_y_48 = () -> "dui-space-y-48";
+  CssClass dui_space_y_48 = CssClass.of("dui-space-y-48");
 
-  CssClass dui_space_y_4px = () -> "dui-space-y-4px";
+  CssClass dui_space_y_4px = CssClass.of("dui-space-y-4px");
 
-  CssClass dui_space_y_5 = () -> "dui-space-y-5";
+  CssClass dui_space_y_5 = CssClass.of("dui-space-y-5");
 
-  CssClass dui_space_y_52 = () -> "dui-space-y-52";
+  CssClass dui_space_y_52 = CssClass.of("dui-space-y-52");
 
-  CssClass dui_space_y_56 = () -> "dui-space-y-56";
+  CssClass dui_space_y_56 = CssClass.of("dui-space-y-56");
 
-  CssClass dui_space_y_6 = () -> "dui-space-y-6";
+  CssClass dui_space_y_6 = CssClass.of("dui-space-y-6");
 
-  CssClass dui_space_y_60 = () -> "dui-space-y-60";
+  CssClass dui_space_y_60 = CssClass.of("dui-space-y-60");
 
-  CssClass dui_space_y_64 = () -> "dui-space-y-64";
+  CssClass dui_space_y_64 = CssClass.of("dui-space-y-64");
 
-  CssClass dui_space_y_7 = () -> "dui-space-y-7";
+  CssClass dui_space_y_7 = CssClass.of("dui-space-y-7");
 
-  CssClass dui_space_y_72 = () -> "dui-space-y-72";
+  CssClass dui_space_y_72 = CssClass.of("dui-space-y-72");
 
-  CssClass dui_space_y_8 = () -> "dui-space-y-8";
+  CssClass dui_space_y_8 = CssClass.of("dui-space-y-8");
 
-  CssClass dui_space_y_80 = () -> "dui-space-y-80";
+  CssClass dui_space_y_80 = CssClass.of("dui-space-y-80");
 
-  CssClass dui_space_y_8px = () -> "dui-space-y-8px";
+  CssClass dui_space_y_8px = CssClass.of("dui-space-y-8px");
 
-  CssClass dui_space_y_9 = () -> "dui-space-y-9";
+  CssClass dui_space_y_9 = CssClass.of("dui-space-y-9");
 
-  CssClass dui_space_y_96 = () -> "dui-space-y-96";
+  CssClass dui_space_y_96 = CssClass.of("dui-space-y-96");
 
-  CssClass dui_space_y_full = () -> "dui-space-y-full";
+  CssClass dui_space_y_full = CssClass.of("dui-space-y-full");
 
-  CssClass dui_space_y_px = () -> "dui-space-y-px";
+  CssClass dui_space_y_px = CssClass.of("dui-space-y-px");
 
-  CssClass dui_top_0 = () -> "dui-top-0";
+  CssClass dui_top_0 = CssClass.of("dui-top-0");
 
-  CssClass dui_top_0_5 = () -> "dui-top-0_5";
+  CssClass dui_top_0_5 = CssClass.of("dui-top-0_5");
 
-  CssClass dui_top_1 = () -> "dui-top-1";
+  CssClass dui_top_1 = CssClass.of("dui-top-1");
 
-  CssClass dui_top_10 = () -> "dui-top-10";
+  CssClass dui_top_10 = CssClass.of("dui-top-10");
 
-  CssClass dui_top_11 = () -> "dui-top-11";
+  CssClass dui_top_11 = CssClass.of("dui-top-11");
 
-  CssClass dui_top_12 = () -> "dui-top-12";
+  CssClass dui_top_12 = CssClass.of("dui-top-12");
 
-  CssClass dui_top_14 = () -> "dui-top-14";
+  CssClass dui_top_14 = CssClass.of("dui-top-14");
 
-  CssClass dui_top_16 = () -> "dui-top-16";
+  CssClass dui_top_16 = CssClass.of("dui-top-16");
 
-  CssClass dui_top_1_2p = () -> "dui-top-1_2p";
+  CssClass dui_top_1_2p = CssClass.of("dui-top-1_2p");
 
-  CssClass dui_top_1_3p = () -> "dui-top-1_3p";
+  CssClass dui_top_1_3p = CssClass.of("dui-top-1_3p");
 
-  CssClass dui_top_1_4p = () -> "dui-top-1_4p";
+  CssClass dui_top_1_4p = CssClass.of("dui-top-1_4p");
 
-  CssClass dui_top_1_5 = () -> "dui-top-1_5";
+  CssClass dui_top_1_5 = CssClass.of("dui-top-1_5");
 
-  CssClass dui_top_2 = () -> "dui-top-2";
+  CssClass dui_top_2 = CssClass.of("dui-top-2");
 
-  CssClass dui_top_20 = () -> "dui-top-20";
+  CssClass dui_top_20 = CssClass.of("dui-top-20");
 
-  CssClass dui_top_24 = () -> "dui-top-24";
+  CssClass dui_top_24 = CssClass.of("dui-top-24");
 
-  CssClass dui_top_28 = () -> "dui-top-28";
+  CssClass dui_top_28 = CssClass.of("dui-top-28");
 
-  CssClass dui_top_2_3p = () -> "dui-top-2_3p";
+  CssClass dui_top_2_3p = CssClass.of("dui-top-2_3p");
 
-  CssClass dui_top_2_5 = () -> "dui-top-2_5";
+  CssClass dui_top_2_5 = CssClass.of("dui-top-2_5");
 
-  CssClass dui_top_2px = () -> "dui-top-2px";
+  CssClass dui_top_2px = CssClass.of("dui-top-2px");
 
-  CssClass dui_top_3 = () -> "dui-top-3";
+  CssClass dui_top_3 = CssClass.of("dui-top-3");
 
-  CssClass dui_top_32 = () -> "dui-top-32";
+  CssClass dui_top_32 = CssClass.of("dui-top-32");
 
-  CssClass dui_top_36 = () -> "dui-top-36";
+  CssClass dui_top_36 = CssClass.of("dui-top-36");
 
-  CssClass dui_top_3_4p = () -> "dui-top-3_4p";
+  CssClass dui_top_3_4p = CssClass.of("dui-top-3_4p");
 
-  CssClass dui_top_3_5 = () -> "dui-top-3_5";
+  CssClass dui_top_3_5 = CssClass.of("dui-top-3_5");
 
-  CssClass dui_top_4 = () -> "dui-top-4";
+  CssClass dui_top_4 = CssClass.of("dui-top-4");
 
-  CssClass dui_top_40 = () -> "dui-top-40";
+  CssClass dui_top_40 = CssClass.of("dui-top-40");
 
-  CssClass dui_top_44 = () -> "dui-top-44";
+  CssClass dui_top_44 = CssClass.of("dui-top-44");
 
-  CssClass dui_top_48 = () -> "dui-top-48";
+  CssClass dui_top_48 = CssClass.of("dui-top-48");
 
-  CssClass dui_top_4px = () -> "dui-top-4px";
+  CssClass dui_top_4px = CssClass.of("dui-top-4px");
 
-  CssClass dui_top_5 = () -> "dui-top-5";
+  CssClass dui_top_5 = CssClass.of("dui-top-5");
 
-  CssClass dui_top_52 = () -> "dui-top-52";
+  CssClass dui_top_52 = CssClass.of("dui-top-52");
 
-  CssClass dui_top_56 = () -> "dui-top-56";
+  CssClass dui_top_56 = CssClass.of("dui-top-56");
 
-  CssClass dui_top_6 = () -> "dui-top-6";
+  CssClass dui_top_6 = CssClass.of("dui-top-6");
 
-  CssClass dui_top_60 = () -> "dui-top-60";
+  CssClass dui_top_60 = CssClass.of("dui-top-60");
 
-  CssClass dui_top_64 = () -> "dui-top-64";
+  CssClass dui_top_64 = CssClass.of("dui-top-64");
 
-  CssClass dui_top_7 = () -> "dui-top-7";
+  CssClass dui_top_7 = CssClass.of("dui-top-7");
 
-  CssClass dui_top_72 = () -> "dui-top-72";
+  CssClass dui_top_72 = CssClass.of("dui-top-72");
 
-  CssClass dui_top_8 = () -> "dui-top-8";
+  CssClass dui_top_8 = CssClass.of("dui-top-8");
 
-  CssClass dui_top_80 = () -> "dui-top-80";
+  CssClass dui_top_80 = CssClass.of("dui-top-80");
 
-  CssClass dui_top_8px = () -> "dui-top-8px";
+  CssClass dui_top_8px = CssClass.of("dui-top-8px");
 
-  CssClass dui_top_9 = () -> "dui-top-9";
+  CssClass dui_top_9 = CssClass.of("dui-top-9");
 
-  CssClass dui_top_96 = () -> "dui-top-96";
+  CssClass dui_top_96 = CssClass.of("dui-top-96");
 
-  CssClass dui_top_auto = () -> "dui-top-auto";
+  CssClass dui_top_auto = CssClass.of("dui-top-auto");
 
-  CssClass dui_top_full = () -> "dui-top-full";
+  CssClass dui_top_full = CssClass.of("dui-top-full");
 
-  CssClass dui_top_px = () -> "dui-top-px";
+  CssClass dui_top_px = CssClass.of("dui-top-px");
 
-  CssClass dui_txt_indnt_0 = () -> "dui-txt-indnt-0";
+  CssClass dui_txt_indnt_0 = CssClass.of("dui-txt-indnt-0");
 
-  CssClass dui_txt_indnt_0_5 = () -> "dui-txt-indnt-0_5";
+  CssClass dui_txt_indnt_0_5 = CssClass.of("dui-txt-indnt-0_5");
 
-  CssClass dui_txt_indnt_1 = () -> "dui-txt-indnt-1";
+  CssClass dui_txt_indnt_1 = CssClass.of("dui-txt-indnt-1");
 
-  CssClass dui_txt_indnt_10 = () -> "dui-txt-indnt-10";
+  CssClass dui_txt_indnt_10 = CssClass.of("dui-txt-indnt-10");
 
-  CssClass dui_txt_indnt_11 = () -> "dui-txt-indnt-11";
+  CssClass dui_txt_indnt_11 = CssClass.of("dui-txt-indnt-11");
 
-  CssClass dui_txt_indnt_12 = () -> "dui-txt-indnt-12";
+  CssClass dui_txt_indnt_12 = CssClass.of("dui-txt-indnt-12");
 
-  CssClass dui_txt_indnt_14 = () -> "dui-txt-indnt-14";
+  CssClass dui_txt_indnt_14 = CssClass.of("dui-txt-indnt-14");
 
-  CssClass dui_txt_indnt_16 = () -> "dui-txt-indnt-16";
+  CssClass dui_txt_indnt_16 = CssClass.of("dui-txt-indnt-16");
 
-  CssClass dui_txt_indnt_1_2p = () -> "dui-txt-indnt-1_2p";
+  CssClass dui_txt_indnt_1_2p = CssClass.of("dui-txt-indnt-1_2p");
 
-  CssClass dui_txt_indnt_1_3p = () -> "dui-txt-indnt-1_3p";
+  CssClass dui_txt_indnt_1_3p = CssClass.of("dui-txt-indnt-1_3p");
 
-  CssClass dui_txt_indnt_1_4p = () -> "dui-txt-indnt-1_4p";
+  CssClass dui_txt_indnt_1_4p = CssClass.of("dui-txt-indnt-1_4p");
 
-  CssClass dui_txt_indnt_1_5 = () -> "dui-txt-indnt-1_5";
+  CssClass dui_txt_indnt_1_5 = CssClass.of("dui-txt-indnt-1_5");
 
-  CssClass dui_txt_indnt_2 = () -> "dui-txt-indnt-2";
+  CssClass dui_txt_indnt_2 = CssClass.of("dui-txt-indnt-2");
 
-  CssClass dui_txt_indnt_20 = () -> "dui-txt-indnt-20";
+  CssClass dui_txt_indnt_20 = CssClass.of("dui-txt-indnt-20");
 
-  CssClass dui_txt_indnt_24 = () -> "dui-txt-indnt-24";
+  CssClass dui_txt_indnt_24 = CssClass.of("dui-txt-indnt-24");
 
-  CssClass dui_txt_indnt_28 = () -> "dui-txt-indnt-28";
+  CssClass dui_txt_indnt_28 = CssClass.of("dui-txt-indnt-28");
 
-  CssClass dui_txt_indnt_2_3p = () -> "dui-txt-indnt-2_3p";
+  CssClass dui_txt_indnt_2_3p = CssClass.of("dui-txt-indnt-2_3p");
 
-  CssClass dui_txt_indnt_2_5 = () -> "dui-txt-indnt-2_5";
+  CssClass dui_txt_indnt_2_5 = CssClass.of("dui-txt-indnt-2_5");
 
-  CssClass dui_txt_indnt_2px = () -> "dui-txt-indnt-2px";
+  CssClass dui_txt_indnt_2px = CssClass.of("dui-txt-indnt-2px");
 
-  CssClass dui_txt_indnt_3 = () -> "dui-txt-indnt-3";
+  CssClass dui_txt_indnt_3 = CssClass.of("dui-txt-indnt-3");
 
-  CssClass dui_txt_indnt_32 = () -> "dui-txt-indnt-32";
+  CssClass dui_txt_indnt_32 = CssClass.of("dui-txt-indnt-32");
 
-  CssClass dui_txt_indnt_36 = () -> "dui-txt-indnt-36";
+  CssClass dui_txt_indnt_36 = CssClass.of("dui-txt-indnt-36");
 
-  CssClass dui_txt_indnt_3_4p = () -> "dui-txt-indnt-3_4p";
+  CssClass dui_txt_indnt_3_4p = CssClass.of("dui-txt-indnt-3_4p");
 
-  CssClass dui_txt_indnt_3_5 = () -> "dui-txt-indnt-3_5";
+  CssClass dui_txt_indnt_3_5 = CssClass.of("dui-txt-indnt-3_5");
 
-  CssClass dui_txt_indnt_4 = () -> "dui-txt-indnt-4";
+  CssClass dui_txt_indnt_4 = CssClass.of("dui-txt-indnt-4");
 
-  CssClass dui_txt_indnt_40 = () -> "dui-txt-indnt-40";
+  CssClass dui_txt_indnt_40 = CssClass.of("dui-txt-indnt-40");
 
-  CssClass dui_txt_indnt_44 = () -> "dui-txt-indnt-44";
+  CssClass dui_txt_indnt_44 = CssClass.of("dui-txt-indnt-44");
 
-  CssClass dui_txt_indnt_48 = () -> "dui-txt-indnt-48";
+  CssClass dui_txt_indnt_48 = CssClass.of("dui-txt-indnt-48");
 
-  CssClass dui_txt_indnt_4px = () -> "dui-txt-indnt-4px";
+  CssClass dui_txt_indnt_4px = CssClass.of("dui-txt-indnt-4px");
 
-  CssClass dui_txt_indnt_5 = () -> "dui-txt-indnt-5";
+  CssClass dui_txt_indnt_5 = CssClass.of("dui-txt-indnt-5");
 
-  CssClass dui_txt_indnt_52 = () -> "dui-txt-indnt-52";
+  CssClass dui_txt_indnt_52 = CssClass.of("dui-txt-indnt-52");
 
-  CssClass dui_txt_indnt_56 = () -> "dui-txt-indnt-56";
+  CssClass dui_txt_indnt_56 = CssClass.of("dui-txt-indnt-56");
 
-  CssClass dui_txt_indnt_6 = () -> "dui-txt-indnt-6";
+  CssClass dui_txt_indnt_6 = CssClass.of("dui-txt-indnt-6");
 
-  CssClass dui_txt_indnt_60 = () -> "dui-txt-indnt-60";
+  CssClass dui_txt_indnt_60 = CssClass.of("dui-txt-indnt-60");
 
-  CssClass dui_txt_indnt_64 = () -> "dui-txt-indnt-64";
+  CssClass dui_txt_indnt_64 = CssClass.of("dui-txt-indnt-64");
 
-  CssClass dui_txt_indnt_7 = () -> "dui-txt-indnt-7";
+  CssClass dui_txt_indnt_7 = CssClass.of("dui-txt-indnt-7");
 
-  CssClass dui_txt_indnt_72 = () -> "dui-txt-indnt-72";
+  CssClass dui_txt_indnt_72 = CssClass.of("dui-txt-indnt-72");
 
-  CssClass dui_txt_indnt_8 = () -> "dui-txt-indnt-8";
+  CssClass dui_txt_indnt_8 = CssClass.of("dui-txt-indnt-8");
 
-  CssClass dui_txt_indnt_80 = () -> "dui-txt-indnt-80";
+  CssClass dui_txt_indnt_80 = CssClass.of("dui-txt-indnt-80");
 
-  CssClass dui_txt_indnt_8px = () -> "dui-txt-indnt-8px";
+  CssClass dui_txt_indnt_8px = CssClass.of("dui-txt-indnt-8px");
 
-  CssClass dui_txt_indnt_9 = () -> "dui-txt-indnt-9";
+  CssClass dui_txt_indnt_9 = CssClass.of("dui-txt-indnt-9");
 
-  CssClass dui_txt_indnt_96 = () -> "dui-txt-indnt-96";
+  CssClass dui_txt_indnt_96 = CssClass.of("dui-txt-indnt-96");
 
-  CssClass dui_txt_indnt_full = () -> "dui-txt-indnt-full";
+  CssClass dui_txt_indnt_full = CssClass.of("dui-txt-indnt-full");
 
-  CssClass dui_txt_indnt_px = () -> "dui-txt-indnt-px";
+  CssClass dui_txt_indnt_px = CssClass.of("dui-txt-indnt-px");
 
-  CssClass dui_w_0 = () -> "dui-w-0";
+  CssClass dui_w_0 = CssClass.of("dui-w-0");
 
-  CssClass dui_w_0_5 = () -> "dui-w-0_5";
+  CssClass dui_w_0_5 = CssClass.of("dui-w-0_5");
 
-  CssClass dui_w_1 = () -> "dui-w-1";
+  CssClass dui_w_1 = CssClass.of("dui-w-1");
 
-  CssClass dui_w_10 = () -> "dui-w-10";
+  CssClass dui_w_10 = CssClass.of("dui-w-10");
 
-  CssClass dui_w_11 = () -> "dui-w-11";
+  CssClass dui_w_11 = CssClass.of("dui-w-11");
 
-  CssClass dui_w_12 = () -> "dui-w-12";
+  CssClass dui_w_12 = CssClass.of("dui-w-12");
 
-  CssClass dui_w_14 = () -> "dui-w-14";
+  CssClass dui_w_14 = CssClass.of("dui-w-14");
 
-  CssClass dui_w_16 = () -> "dui-w-16";
+  CssClass dui_w_16 = CssClass.of("dui-w-16");
 
-  CssClass dui_w_1_2p = () -> "dui-w-1_2p";
+  CssClass dui_w_1_2p = CssClass.of("dui-w-1_2p");
 
-  CssClass dui_w_1_3p = () -> "dui-w-1_3p";
+  CssClass dui_w_1_3p = CssClass.of("dui-w-1_3p");
 
-  CssClass dui_w_1_4p = () -> "dui-w-1_4p";
+  CssClass dui_w_1_4p = CssClass.of("dui-w-1_4p");
 
-  CssClass dui_w_1_5 = () -> "dui-w-1_5";
+  CssClass dui_w_1_5 = CssClass.of("dui-w-1_5");
 
-  CssClass dui_w_2 = () -> "dui-w-2";
+  CssClass dui_w_2 = CssClass.of("dui-w-2");
 
-  CssClass dui_w_20 = () -> "dui-w-20";
+  CssClass dui_w_20 = CssClass.of("dui-w-20");
 
-  CssClass dui_w_24 = () -> "dui-w-24";
+  CssClass dui_w_24 = CssClass.of("dui-w-24");
 
-  CssClass dui_w_28 = () -> "dui-w-28";
+  CssClass dui_w_28 = CssClass.of("dui-w-28");
 
-  CssClass dui_w_2_3p = () -> "dui-w-2_3p";
+  CssClass dui_w_2_3p = CssClass.of("dui-w-2_3p");
 
-  CssClass dui_w_2_5 = () -> "dui-w-2_5";
+  CssClass dui_w_2_5 = CssClass.of("dui-w-2_5");
 
-  CssClass dui_w_2px = () -> "dui-w-2px";
+  CssClass dui_w_2px = CssClass.of("dui-w-2px");
 
-  CssClass dui_w_3 = () -> "dui-w-3";
+  CssClass dui_w_3 = CssClass.of("dui-w-3");
 
-  CssClass dui_w_32 = () -> "dui-w-32";
+  CssClass dui_w_32 = CssClass.of("dui-w-32");
 
-  CssClass dui_w_36 = () -> "dui-w-36";
+  CssClass dui_w_36 = CssClass.of("dui-w-36");
 
-  CssClass dui_w_3_4p = () -> "dui-w-3_4p";
+  CssClass dui_w_3_4p = CssClass.of("dui-w-3_4p");
 
-  CssClass dui_w_3_5 = () -> "dui-w-3_5";
+  CssClass dui_w_3_5 = CssClass.of("dui-w-3_5");
 
-  CssClass dui_w_4 = () -> "dui-w-4";
+  CssClass dui_w_4 = CssClass.of("dui-w-4");
 
-  CssClass dui_w_40 = () -> "dui-w-40";
+  CssClass dui_w_40 = CssClass.of("dui-w-40");
 
-  CssClass dui_w_44 = () -> "dui-w-44";
+  CssClass dui_w_44 = CssClass.of("dui-w-44");
 
-  CssClass dui_w_48 = () -> "dui-w-48";
+  CssClass dui_w_48 = CssClass.of("dui-w-48");
 
-  CssClass dui_w_4px = () -> "dui-w-4px";
+  CssClass dui_w_4px = CssClass.of("dui-w-4px");
 
-  CssClass dui_w_5 = () -> "dui-w-5";
+  CssClass dui_w_5 = CssClass.of("dui-w-5");
 
-  CssClass dui_w_52 = () -> "dui-w-52";
+  CssClass dui_w_52 = CssClass.of("dui-w-52");
 
-  CssClass dui_w_56 = () -> "dui-w-56";
+  CssClass dui_w_56 = CssClass.of("dui-w-56");
 
-  CssClass dui_w_6 = () -> "dui-w-6";
+  CssClass dui_w_6 = CssClass.of("dui-w-6");
 
-  CssClass dui_w_60 = () -> "dui-w-60";
+  CssClass dui_w_60 = CssClass.of("dui-w-60");
 
-  CssClass dui_w_64 = () -> "dui-w-64";
+  CssClass dui_w_64 = CssClass.of("dui-w-64");
 
-  CssClass dui_w_7 = () -> "dui-w-7";
+  CssClass dui_w_7 = CssClass.of("dui-w-7");
 
-  CssClass dui_w_72 = () -> "dui-w-72";
+  CssClass dui_w_72 = CssClass.of("dui-w-72");
 
-  CssClass dui_w_8 = () -> "dui-w-8";
+  CssClass dui_w_8 = CssClass.of("dui-w-8");
 
-  CssClass dui_w_80 = () -> "dui-w-80";
+  CssClass dui_w_80 = CssClass.of("dui-w-80");
 
-  CssClass dui_w_8px = () -> "dui-w-8px";
+  CssClass dui_w_8px = CssClass.of("dui-w-8px");
 
-  CssClass dui_w_9 = () -> "dui-w-9";
+  CssClass dui_w_9 = CssClass.of("dui-w-9");
 
-  CssClass dui_w_96 = () -> "dui-w-96";
+  CssClass dui_w_96 = CssClass.of("dui-w-96");
 
-  CssClass dui_w_auto = () -> "dui-w-auto";
+  CssClass dui_w_auto = CssClass.of("dui-w-auto");
 
-  CssClass dui_w_full = () -> "dui-w-full";
+  CssClass dui_w_full = CssClass.of("dui-w-full");
 
-  CssClass dui_w_inherit = () -> "dui-w-inherit";
+  CssClass dui_w_inherit = CssClass.of("dui-w-inherit");
 
-  CssClass dui_w_px = () -> "dui-w-px";
+  CssClass dui_w_px = CssClass.of("dui-w-px");
 
-  CssClass dui_z_0 = () -> "dui-z-0";
+  CssClass dui_z_0 = CssClass.of("dui-z-0");
 
-  CssClass dui_z_10 = () -> "dui-z-10";
+  CssClass dui_z_10 = CssClass.of("dui-z-10");
 
-  CssClass dui_z_20 = () -> "dui-z-20";
+  CssClass dui_z_20 = CssClass.of("dui-z-20");
 
-  CssClass dui_z_30 = () -> "dui-z-30";
+  CssClass dui_z_30 = CssClass.of("dui-z-30");
 
-  CssClass dui_z_40 = () -> "dui-z-40";
+  CssClass dui_z_40 = CssClass.of("dui-z-40");
 
-  CssClass dui_z_50 = () -> "dui-z-50";
+  CssClass dui_z_50 = CssClass.of("dui-z-50");
 
-  CssClass dui_z_auto = () -> "dui-z-auto";
+  CssClass dui_z_auto = CssClass.of("dui-z-auto");
 
   CssClass dui_flex_row =
       new ReplaceCssClass(
               CompositeCssClass.of(
-                  () -> "dui-flex-row-reverse", () -> "dui-flex-col", () -> "dui-flex-col-reverse"))
-          .replaceWith(() -> "dui-flex-row");
+                  CssClass.of("dui-flex-row-reverse"),
+                  CssClass.of("dui-flex-col"),
+                  CssClass.of("dui-flex-col-reverse")))
+          .replaceWith(CssClass.of("dui-flex-row"));
 
   CssClass dui_flex_row_reverse =
       new ReplaceCssClass(
               CompositeCssClass.of(
-                  () -> "dui-flex-row", () -> "dui-flex-col", () -> "dui-flex-col-reverse"))
-          .replaceWith(() -> "dui-flex-row-reverse");
+                  CssClass.of("dui-flex-row"),
+                  CssClass.of("dui-flex-col"),
+                  CssClass.of("dui-flex-col-reverse")))
+          .replaceWith(CssClass.of("dui-flex-row-reverse"));
 
   CssClass dui_flex_col =
       new ReplaceCssClass(
               CompositeCssClass.of(
-                  () -> "dui-flex-row", () -> "dui-flex-row-reverse", () -> "dui-flex-col-reverse"))
-          .replaceWith(() -> "dui-flex-col");
+                  CssClass.of("dui-flex-row"),
+                  CssClass.of("dui-flex-row-reverse"),
+                  CssClass.of("dui-flex-col-reverse")))
+          .replaceWith(CssClass.of("dui-flex-col"));
 
   CssClass dui_flex_col_reverse =
       new ReplaceCssClass(
               CompositeCssClass.of(
-                  () -> "dui-flex-row", () -> "dui-flex-row-reverse", () -> "dui-flex-col"))
-          .replaceWith(() -> "dui-flex-col-reverse");
+                  CssClass.of("dui-flex-row"),
+                  CssClass.of("dui-flex-row-reverse"),
+                  CssClass.of("dui-flex-col")))
+          .replaceWith(CssClass.of("dui-flex-col-reverse"));
 
   CssClass dui_flex_wrap =
       new ReplaceCssClass(
-              CompositeCssClass.of(() -> "dui-flex-wrap-reverse", () -> "dui-flex-nowrap"))
-          .replaceWith(() -> "dui-flex-wrap");
+              CompositeCssClass.of(
+                  CssClass.of("dui-flex-wrap-reverse"), CssClass.of("dui-flex-nowrap")))
+          .replaceWith(CssClass.of("dui-flex-wrap"));
 
   CssClass dui_flex_wrap_reverse =
-      new ReplaceCssClass(CompositeCssClass.of(() -> "dui-flex-wrap", () -> "dui-flex-nowrap"))
-          .replaceWith(() -> "dui-flex-wrap-reverse");
+      new ReplaceCssClass(
+              CompositeCssClass.of(CssClass.of("dui-flex-wrap"), CssClass.of("dui-flex-nowrap")))
+          .replaceWith(CssClass.of("dui-flex-wrap-reverse"));
 
   CssClass dui_flex_nowrap =
       new ReplaceCssClass(
-              CompositeCssClass.of(() -> "dui-flex-wrap", () -> "dui-flex-wrap-reverse"))
-          .replaceWith(() -> "dui-flex-nowrap");
+              CompositeCssClass.of(
+                  CssClass.of("dui-flex-wrap"), CssClass.of("dui-flex-wrap-reverse")))
+          .replaceWith(CssClass.of("dui-flex-nowrap"));
 
-  CssClass dui_flex_1 = () -> "dui-flex-1";
+  CssClass dui_flex_1 = CssClass.of("dui-flex-1");
 
-  CssClass dui_flex_auto = () -> "dui-flex-auto";
+  CssClass dui_flex_auto = CssClass.of("dui-flex-auto");
 
-  CssClass dui_flex_initial = () -> "dui-flex-initial";
+  CssClass dui_flex_initial = CssClass.of("dui-flex-initial");
 
-  CssClass dui_flex_none = () -> "dui-flex-none";
+  CssClass dui_flex_none = CssClass.of("dui-flex-none");
 
-  CssClass dui_grow_0 = () -> "dui-grow-0";
+  CssClass dui_grow_0 = CssClass.of("dui-grow-0");
 
-  CssClass dui_grow_1 = () -> "dui-grow-1";
+  CssClass dui_grow_1 = CssClass.of("dui-grow-1");
 
-  CssClass dui_grow_2 = () -> "dui-grow-2";
+  CssClass dui_grow_2 = CssClass.of("dui-grow-2");
 
-  CssClass dui_grow_3 = () -> "dui-grow-3";
+  CssClass dui_grow_3 = CssClass.of("dui-grow-3");
 
-  CssClass dui_grow_4 = () -> "dui-grow-4";
+  CssClass dui_grow_4 = CssClass.of("dui-grow-4");
 
-  CssClass dui_grow_5 = () -> "dui-grow-5";
+  CssClass dui_grow_5 = CssClass.of("dui-grow-5");
 
-  CssClass dui_grow_6 = () -> "dui-grow-6";
+  CssClass dui_grow_6 = CssClass.of("dui-grow-6");
 
-  CssClass dui_grow_7 = () -> "dui-grow-7";
+  CssClass dui_grow_7 = CssClass.of("dui-grow-7");
 
-  CssClass dui_grow_8 = () -> "dui-grow-8";
+  CssClass dui_grow_8 = CssClass.of("dui-grow-8");
 
-  CssClass dui_grow_9 = () -> "dui-grow-9";
+  CssClass dui_grow_9 = CssClass.of("dui-grow-9");
 
-  CssClass dui_grow_10 = () -> "dui-grow-10";
+  CssClass dui_grow_10 = CssClass.of("dui-grow-10");
 
-  CssClass dui_grow_11 = () -> "dui-grow-11";
+  CssClass dui_grow_11 = CssClass.of("dui-grow-11");
 
-  CssClass dui_grow_12 = () -> "dui-grow-12";
+  CssClass dui_grow_12 = CssClass.of("dui-grow-12");
 
-  CssClass dui_shrink_0 = () -> "dui-shrink-0";
+  CssClass dui_shrink_0 = CssClass.of("dui-shrink-0");
 
-  CssClass dui_shrink_1 = () -> "dui-shrink-1";
+  CssClass dui_shrink_1 = CssClass.of("dui-shrink-1");
 
-  CssClass dui_shrink_2 = () -> "dui-shrink-2";
+  CssClass dui_shrink_2 = CssClass.of("dui-shrink-2");
 
-  CssClass dui_shrink_3 = () -> "dui-shrink-3";
+  CssClass dui_shrink_3 = CssClass.of("dui-shrink-3");
 
-  CssClass dui_shrink_4 = () -> "dui-shrink-4";
+  CssClass dui_shrink_4 = CssClass.of("dui-shrink-4");
 
-  CssClass dui_shrink_5 = () -> "dui-shrink-5";
+  CssClass dui_shrink_5 = CssClass.of("dui-shrink-5");
 
-  CssClass dui_shrink_6 = () -> "dui-shrink-6";
+  CssClass dui_shrink_6 = CssClass.of("dui-shrink-6");
 
-  CssClass dui_shrink_7 = () -> "dui-shrink-7";
+  CssClass dui_shrink_7 = CssClass.of("dui-shrink-7");
 
-  CssClass dui_shrink_8 = () -> "dui-shrink-8";
+  CssClass dui_shrink_8 = CssClass.of("dui-shrink-8");
 
-  CssClass dui_shrink_9 = () -> "dui-shrink-9";
+  CssClass dui_shrink_9 = CssClass.of("dui-shrink-9");
 
-  CssClass dui_shrink_10 = () -> "dui-shrink-10";
+  CssClass dui_shrink_10 = CssClass.of("dui-shrink-10");
 
-  CssClass dui_shrink_11 = () -> "dui-shrink-11";
+  CssClass dui_shrink_11 = CssClass.of("dui-shrink-11");
 
-  CssClass dui_shrink_12 = () -> "dui-shrink-12";
+  CssClass dui_shrink_12 = CssClass.of("dui-shrink-12");
 
-  CssClass dui_order_1 = () -> "dui-order-1";
+  CssClass dui_order_1 = CssClass.of("dui-order-1");
 
-  CssClass dui_order_2 = () -> "dui-order-2";
+  CssClass dui_order_2 = CssClass.of("dui-order-2");
 
-  CssClass dui_order_3 = () -> "dui-order-3";
+  CssClass dui_order_3 = CssClass.of("dui-order-3");
 
-  CssClass dui_order_4 = () -> "dui-order-4";
+  CssClass dui_order_4 = CssClass.of("dui-order-4");
 
-  CssClass dui_order_5 = () -> "dui-order-5";
+  CssClass dui_order_5 = CssClass.of("dui-order-5");
 
-  CssClass dui_order_6 = () -> "dui-order-6";
+  CssClass dui_order_6 = CssClass.of("dui-order-6");
 
-  CssClass dui_order_7 = () -> "dui-order-7";
+  CssClass dui_order_7 = CssClass.of("dui-order-7");
 
-  CssClass dui_order_8 = () -> "dui-order-8";
+  CssClass dui_order_8 = CssClass.of("dui-order-8");
 
-  CssClass dui_order_9 = () -> "dui-order-9";
+  CssClass dui_order_9 = CssClass.of("dui-order-9");
 
-  CssClass dui_order_10 = () -> "dui-order-10";
+  CssClass dui_order_10 = CssClass.of("dui-order-10");
 
-  CssClass dui_order_20 = () -> "dui-order-20";
+  CssClass dui_order_20 = CssClass.of("dui-order-20");
 
-  CssClass dui_order_30 = () -> "dui-order-30";
+  CssClass dui_order_30 = CssClass.of("dui-order-30");
 
-  CssClass dui_order_40 = () -> "dui-order-40";
+  CssClass dui_order_40 = CssClass.of("dui-order-40");
 
-  CssClass dui_order_50 = () -> "dui-order-50";
+  CssClass dui_order_50 = CssClass.of("dui-order-50");
 
-  CssClass dui_order_60 = () -> "dui-order-60";
+  CssClass dui_order_60 = CssClass.of("dui-order-60");
 
-  CssClass dui_order_70 = () -> "dui-order-70";
+  CssClass dui_order_70 = CssClass.of("dui-order-70");
 
-  CssClass dui_order_80 = () -> "dui-order-80";
+  CssClass dui_order_80 = CssClass.of("dui-order-80");
 
-  CssClass dui_order_90 = () -> "dui-order-90";
+  CssClass dui_order_90 = CssClass.of("dui-order-90");
 
-  CssClass dui_order_100 = () -> "dui-order-100";
+  CssClass dui_order_100 = CssClass.of("dui-order-100");
 
-  CssClass dui_order_first = () -> "dui-order-first";
+  CssClass dui_order_first = CssClass.of("dui-order-first");
 
-  CssClass dui_order_first_1 = () -> "dui-order-first-1";
+  CssClass dui_order_first_1 = CssClass.of("dui-order-first-1");
 
-  CssClass dui_order_first_2 = () -> "dui-order-first-2";
+  CssClass dui_order_first_2 = CssClass.of("dui-order-first-2");
 
-  CssClass dui_order_first_3 = () -> "dui-order-first-3";
+  CssClass dui_order_first_3 = CssClass.of("dui-order-first-3");
 
-  CssClass dui_order_first_4 = () -> "dui-order-first-4";
+  CssClass dui_order_first_4 = CssClass.of("dui-order-first-4");
 
-  CssClass dui_order_last = () -> "dui-order-last";
+  CssClass dui_order_last = CssClass.of("dui-order-last");
 
-  CssClass dui_order_last_1 = () -> "dui-order-last-1";
+  CssClass dui_order_last_1 = CssClass.of("dui-order-last-1");
 
-  CssClass dui_order_last_2 = () -> "dui-order-last-2";
+  CssClass dui_order_last_2 = CssClass.of("dui-order-last-2");
 
-  CssClass dui_order_last_3 = () -> "dui-order-last-3";
+  CssClass dui_order_last_3 = CssClass.of("dui-order-last-3");
 
-  CssClass dui_order_last_4 = () -> "dui-order-last-4";
+  CssClass dui_order_last_4 = CssClass.of("dui-order-last-4");
 
-  CssClass dui_order_none = () -> "dui-order-none";
+  CssClass dui_order_none = CssClass.of("dui-order-none");
 
-  CssClass dui_grid_cols_1 = () -> "dui-grid-cols-1";
+  CssClass dui_grid_cols_1 = CssClass.of("dui-grid-cols-1");
 
-  CssClass dui_grid_cols_2 = () -> "dui-grid-cols-2";
+  CssClass dui_grid_cols_2 = CssClass.of("dui-grid-cols-2");
 
-  CssClass dui_grid_cols_3 = () -> "dui-grid-cols-3";
+  CssClass dui_grid_cols_3 = CssClass.of("dui-grid-cols-3");
 
-  CssClass dui_grid_cols_4 = () -> "dui-grid-cols-4";
+  CssClass dui_grid_cols_4 = CssClass.of("dui-grid-cols-4");
 
-  CssClass dui_grid_cols_5 = () -> "dui-grid-cols-5";
+  CssClass dui_grid_cols_5 = CssClass.of("dui-grid-cols-5");
 
-  CssClass dui_grid_cols_6 = () -> "dui-grid-cols-6";
+  CssClass dui_grid_cols_6 = CssClass.of("dui-grid-cols-6");
 
-  CssClass dui_grid_cols_7 = () -> "dui-grid-cols-7";
+  CssClass dui_grid_cols_7 = CssClass.of("dui-grid-cols-7");
 
-  CssClass dui_grid_cols_8 = () -> "dui-grid-cols-8";
+  CssClass dui_grid_cols_8 = CssClass.of("dui-grid-cols-8");
 
-  CssClass dui_grid_cols_9 = () -> "dui-grid-cols-9";
+  CssClass dui_grid_cols_9 = CssClass.of("dui-grid-cols-9");
 
-  CssClass dui_grid_cols_10 = () -> "dui-grid-cols-10";
+  CssClass dui_grid_cols_10 = CssClass.of("dui-grid-cols-10");
 
-  CssClass dui_grid_cols_11 = () -> "dui-grid-cols-11";
+  CssClass dui_grid_cols_11 = CssClass.of("dui-grid-cols-11");
 
-  CssClass dui_grid_cols_12 = () -> "dui-grid-cols-12";
+  CssClass dui_grid_cols_12 = CssClass.of("dui-grid-cols-12");
 
-  CssClass dui_grid_cols_none = () -> "dui-grid-cols-none";
+  CssClass dui_grid_cols_none = CssClass.of("dui-grid-cols-none");
 
-  CssClass dui_col_auto = () -> "dui-col-auto";
+  CssClass dui_col_auto = CssClass.of("dui-col-auto");
 
-  CssClass dui_col_span_1 = () -> "dui-col-span-1";
+  CssClass dui_col_span_1 = CssClass.of("dui-col-span-1");
 
-  CssClass dui_col_span_2 = () -> "dui-col-span-2";
+  CssClass dui_col_span_2 = CssClass.of("dui-col-span-2");
 
-  CssClass dui_col_span_3 = () -> "dui-col-span-3";
+  CssClass dui_col_span_3 = CssClass.of("dui-col-span-3");
 
-  CssClass dui_col_span_4 = () -> "dui-col-span-4";
+  CssClass dui_col_span_4 = CssClass.of("dui-col-span-4");
 
-  CssClass dui_col_span_5 = () -> "dui-col-span-5";
+  CssClass dui_col_span_5 = CssClass.of("dui-col-span-5");
 
-  CssClass dui_col_span_6 = () -> "dui-col-span-6";
+  CssClass dui_col_span_6 = CssClass.of("dui-col-span-6");
 
-  CssClass dui_col_span_7 = () -> "dui-col-span-7";
+  CssClass dui_col_span_7 = CssClass.of("dui-col-span-7");
 
-  CssClass dui_col_span_8 = () -> "dui-col-span-8";
+  CssClass dui_col_span_8 = CssClass.of("dui-col-span-8");
 
-  CssClass dui_col_span_9 = () -> "dui-col-span-9";
+  CssClass dui_col_span_9 = CssClass.of("dui-col-span-9");
 
-  CssClass dui_col_span_10 = () -> "dui-col-span-10";
+  CssClass dui_col_span_10 = CssClass.of("dui-col-span-10");
 
-  CssClass dui_col_span_11 = () -> "dui-col-span-11";
+  CssClass dui_col_span_11 = CssClass.of("dui-col-span-11");
 
-  CssClass dui_col_span_12 = () -> "dui-col-span-12";
+  CssClass dui_col_span_12 = CssClass.of("dui-col-span-12");
 
-  CssClass dui_col_span_full = () -> "dui-col-span-full";
+  CssClass dui_col_span_full = CssClass.of("dui-col-span-full");
 
-  CssClass dui_col_start_1 = () -> "dui-col-start-1";
+  CssClass dui_col_start_1 = CssClass.of("dui-col-start-1");
 
-  CssClass dui_col_start_2 = () -> "dui-col-start-2";
+  CssClass dui_col_start_2 = CssClass.of("dui-col-start-2");
 
-  CssClass dui_col_start_3 = () -> "dui-col-start-3";
+  CssClass dui_col_start_3 = CssClass.of("dui-col-start-3");
 
-  CssClass dui_col_start_4 = () -> "dui-col-start-4";
+  CssClass dui_col_start_4 = CssClass.of("dui-col-start-4");
 
-  CssClass dui_col_start_5 = () -> "dui-col-start-5";
+  CssClass dui_col_start_5 = CssClass.of("dui-col-start-5");
 
-  CssClass dui_col_start_6 = () -> "dui-col-start-6";
+  CssClass dui_col_start_6 = CssClass.of("dui-col-start-6");
 
-  CssClass dui_col_start_7 = () -> "dui-col-start-7";
+  CssClass dui_col_start_7 = CssClass.of("dui-col-start-7");
 
-  CssClass dui_col_start_8 = () -> "dui-col-start-8";
+  CssClass dui_col_start_8 = CssClass.of("dui-col-start-8");
 
-  CssClass dui_col_start_9 = () -> "dui-col-start-9";
+  CssClass dui_col_start_9 = CssClass.of("dui-col-start-9");
 
-  CssClass dui_col_start_10 = () -> "dui-col-start-10";
+  CssClass dui_col_start_10 = CssClass.of("dui-col-start-10");
 
-  CssClass dui_col_start_11 = () -> "dui-col-start-11";
+  CssClass dui_col_start_11 = CssClass.of("dui-col-start-11");
 
-  CssClass dui_col_start_12 = () -> "dui-col-start-12";
+  CssClass dui_col_start_12 = CssClass.of("dui-col-start-12");
 
-  CssClass dui_col_start_13 = () -> "dui-col-start-13";
+  CssClass dui_col_start_13 = CssClass.of("dui-col-start-13");
 
-  CssClass dui_col_start_auto = () -> "dui-col-start-auto";
+  CssClass dui_col_start_auto = CssClass.of("dui-col-start-auto");
 
-  CssClass dui_col_end_1 = () -> "dui-col-end-1";
+  CssClass dui_col_end_1 = CssClass.of("dui-col-end-1");
 
-  CssClass dui_col_end_2 = () -> "dui-col-end-2";
+  CssClass dui_col_end_2 = CssClass.of("dui-col-end-2");
 
-  CssClass dui_col_end_3 = () -> "dui-col-end-3";
+  CssClass dui_col_end_3 = CssClass.of("dui-col-end-3");
 
-  CssClass dui_col_end_4 = () -> "dui-col-end-4";
+  CssClass dui_col_end_4 = CssClass.of("dui-col-end-4");
 
-  CssClass dui_col_end_5 = () -> "dui-col-end-5";
+  CssClass dui_col_end_5 = CssClass.of("dui-col-end-5");
 
-  CssClass dui_col_end_6 = () -> "dui-col-end-6";
+  CssClass dui_col_end_6 = CssClass.of("dui-col-end-6");
 
-  CssClass dui_col_end_7 = () -> "dui-col-end-7";
+  CssClass dui_col_end_7 = CssClass.of("dui-col-end-7");
 
-  CssClass dui_col_end_8 = () -> "dui-col-end-8";
+  CssClass dui_col_end_8 = CssClass.of("dui-col-end-8");
 
-  CssClass dui_col_end_9 = () -> "dui-col-end-9";
+  CssClass dui_col_end_9 = CssClass.of("dui-col-end-9");
 
-  CssClass dui_col_end_10 = () -> "dui-col-end-10";
+  CssClass dui_col_end_10 = CssClass.of("dui-col-end-10");
 
-  CssClass dui_col_end_11 = () -> "dui-col-end-11";
+  CssClass dui_col_end_11 = CssClass.of("dui-col-end-11");
 
-  CssClass dui_col_end_12 = () -> "dui-col-end-12";
+  CssClass dui_col_end_12 = CssClass.of("dui-col-end-12");
 
-  CssClass dui_col_end_13 = () -> "dui-col-end-13";
+  CssClass dui_col_end_13 = CssClass.of("dui-col-end-13");
 
-  CssClass dui_col_end_auto = () -> "dui-col-end-auto";
+  CssClass dui_col_end_auto = CssClass.of("dui-col-end-auto");
 
-  CssClass dui_grid_rows_1 = () -> "dui-grid-rows-1";
+  CssClass dui_grid_rows_1 = CssClass.of("dui-grid-rows-1");
 
-  CssClass dui_grid_rows_2 = () -> "dui-grid-rows-2";
+  CssClass dui_grid_rows_2 = CssClass.of("dui-grid-rows-2");
 
-  CssClass dui_grid_rows_3 = () -> "dui-grid-rows-3";
+  CssClass dui_grid_rows_3 = CssClass.of("dui-grid-rows-3");
 
-  CssClass dui_grid_rows_4 = () -> "dui-grid-rows-4";
+  CssClass dui_grid_rows_4 = CssClass.of("dui-grid-rows-4");
 
-  CssClass dui_grid_rows_5 = () -> "dui-grid-rows-5";
+  CssClass dui_grid_rows_5 = CssClass.of("dui-grid-rows-5");
 
-  CssClass dui_grid_rows_6 = () -> "dui-grid-rows-6";
+  CssClass dui_grid_rows_6 = CssClass.of("dui-grid-rows-6");
 
-  CssClass dui_grid_rows_none = () -> "dui-grid-rows-none";
+  CssClass dui_grid_rows_none = CssClass.of("dui-grid-rows-none");
 
-  CssClass dui_row_auto = () -> "dui-row-auto";
+  CssClass dui_row_auto = CssClass.of("dui-row-auto");
 
-  CssClass dui_row_span_1 = () -> "dui-row-span-1";
+  CssClass dui_row_span_1 = CssClass.of("dui-row-span-1");
 
-  CssClass dui_row_span_2 = () -> "dui-row-span-2";
+  CssClass dui_row_span_2 = CssClass.of("dui-row-span-2");
 
-  CssClass dui_row_span_3 = () -> "dui-row-span-3";
+  CssClass dui_row_span_3 = CssClass.of("dui-row-span-3");
 
-  CssClass dui_row_span_4 = () -> "dui-row-span-4";
+  CssClass dui_row_span_4 = CssClass.of("dui-row-span-4");
 
-  CssClass dui_row_span_5 = () -> "dui-row-span-5";
+  CssClass dui_row_span_5 = CssClass.of("dui-row-span-5");
 
-  CssClass dui_row_span_6 = () -> "dui-row-span-6";
+  CssClass dui_row_span_6 = CssClass.of("dui-row-span-6");
 
-  CssClass dui_row_span_full = () -> "dui-row-span-full";
+  CssClass dui_row_span_full = CssClass.of("dui-row-span-full");
 
-  CssClass dui_row_start_1 = () -> "dui-row-start-1";
+  CssClass dui_row_start_1 = CssClass.of("dui-row-start-1");
 
-  CssClass dui_row_start_2 = () -> "dui-row-start-2";
+  CssClass dui_row_start_2 = CssClass.of("dui-row-start-2");
 
-  CssClass dui_row_start_3 = () -> "dui-row-start-3";
+  CssClass dui_row_start_3 = CssClass.of("dui-row-start-3");
 
-  CssClass dui_row_start_4 = () -> "dui-row-start-4";
+  CssClass dui_row_start_4 = CssClass.of("dui-row-start-4");
 
-  CssClass dui_row_start_5 = () -> "dui-row-start-5";
+  CssClass dui_row_start_5 = CssClass.of("dui-row-start-5");
 
-  CssClass dui_row_start_6 = () -> "dui-row-start-6";
+  CssClass dui_row_start_6 = CssClass.of("dui-row-start-6");
 
-  CssClass dui_row_start_7 = () -> "dui-row-start-7";
+  CssClass dui_row_start_7 = CssClass.of("dui-row-start-7");
 
-  CssClass dui_row_start_auto = () -> "dui-row-start-auto";
+  CssClass dui_row_start_auto = CssClass.of("dui-row-start-auto");
 
-  CssClass dui_row_end_1 = () -> "dui-row-end-1";
+  CssClass dui_row_end_1 = CssClass.of("dui-row-end-1");
 
-  CssClass dui_row_end_2 = () -> "dui-row-end-2";
+  CssClass dui_row_end_2 = CssClass.of("dui-row-end-2");
 
-  CssClass dui_row_end_3 = () -> "dui-row-end-3";
+  CssClass dui_row_end_3 = CssClass.of("dui-row-end-3");
 
-  CssClass dui_row_end_4 = () -> "dui-row-end-4";
+  CssClass dui_row_end_4 = CssClass.of("dui-row-end-4");
 
-  CssClass dui_row_end_5 = () -> "dui-row-end-5";
+  CssClass dui_row_end_5 = CssClass.of("dui-row-end-5");
 
-  CssClass dui_row_end_6 = () -> "dui-row-end-6";
+  CssClass dui_row_end_6 = CssClass.of("dui-row-end-6");
 
-  CssClass dui_row_end_7 = () -> "dui-row-end-7";
+  CssClass dui_row_end_7 = CssClass.of("dui-row-end-7");
 
-  CssClass dui_row_end_auto = () -> "dui-row-end-auto";
+  CssClass dui_row_end_auto = CssClass.of("dui-row-end-auto");
 
-  CssClass dui_grid_flow_row = () -> "dui-grid-flow-row";
+  CssClass dui_grid_flow_row = CssClass.of("dui-grid-flow-row");
 
-  CssClass dui_grid_flow_col = () -> "dui-grid-flow-col";
+  CssClass dui_grid_flow_col = CssClass.of("dui-grid-flow-col");
 
-  CssClass dui_grid_flow_row_dense = () -> "dui-grid-flow-row-dense";
+  CssClass dui_grid_flow_row_dense = CssClass.of("dui-grid-flow-row-dense");
 
-  CssClass dui_grid_flow_col_dense = () -> "dui-grid-flow-col-dense";
+  CssClass dui_grid_flow_col_dense = CssClass.of("dui-grid-flow-col-dense");
 
-  CssClass dui_auto_cols_auto = () -> "dui-auto-cols-auto";
+  CssClass dui_auto_cols_auto = CssClass.of("dui-auto-cols-auto");
 
-  CssClass dui_auto_cols_min = () -> "dui-auto-cols-min";
+  CssClass dui_auto_cols_min = CssClass.of("dui-auto-cols-min");
 
-  CssClass dui_auto_cols_max = () -> "dui-auto-cols-max";
+  CssClass dui_auto_cols_max = CssClass.of("dui-auto-cols-max");
 
-  CssClass dui_auto_cols_fr = () -> "dui-auto-cols-fr";
+  CssClass dui_auto_cols_fr = CssClass.of("dui-auto-cols-fr");
 
-  CssClass dui_auto_rows_auto = () -> "dui-auto-rows-auto";
+  CssClass dui_auto_rows_auto = CssClass.of("dui-auto-rows-auto");
 
-  CssClass dui_auto_rows_min = () -> "dui-auto-rows-min";
+  CssClass dui_auto_rows_min = CssClass.of("dui-auto-rows-min");
 
-  CssClass dui_auto_rows_max = () -> "dui-auto-rows-max";
+  CssClass dui_auto_rows_max = CssClass.of("dui-auto-rows-max");
 
-  CssClass dui_auto_rows_fr = () -> "dui-auto-rows-fr";
+  CssClass dui_auto_rows_fr = CssClass.of("dui-auto-rows-fr");
 
-  CssClass dui_justify_start = () -> "dui-justify-start";
+  CssClass dui_justify_start = CssClass.of("dui-justify-start");
 
-  CssClass dui_justify_end = () -> "dui-justify-end";
+  CssClass dui_justify_end = CssClass.of("dui-justify-end");
 
-  CssClass dui_justify_center = () -> "dui-justify-center";
+  CssClass dui_justify_center = CssClass.of("dui-justify-center");
 
-  CssClass dui_justify_between = () -> "dui-justify-between";
+  CssClass dui_justify_between = CssClass.of("dui-justify-between");
 
-  CssClass dui_justify_around = () -> "dui-justify-around";
+  CssClass dui_justify_around = CssClass.of("dui-justify-around");
 
-  CssClass dui_justify_evenly = () -> "dui-justify-evenly";
+  CssClass dui_justify_evenly = CssClass.of("dui-justify-evenly");
 
-  CssClass dui_justify_items_start = () -> "dui-justify-items-start";
+  CssClass dui_justify_items_start = CssClass.of("dui-justify-items-start");
 
-  CssClass dui_justify_items_end = () -> "dui-justify-items-end";
+  CssClass dui_justify_items_end = CssClass.of("dui-justify-items-end");
 
-  CssClass dui_justify_items_center = () -> "dui-justify-items-center";
+  CssClass dui_justify_items_center = CssClass.of("dui-justify-items-center");
 
-  CssClass dui_justify_items_stretch = () -> "dui-justify-items-stretch";
+  CssClass dui_justify_items_stretch = CssClass.of("dui-justify-items-stretch");
 
-  CssClass dui_justify_self_auto = () -> "dui-justify-self-auto";
+  CssClass dui_justify_self_auto = CssClass.of("dui-justify-self-auto");
 
-  CssClass dui_justify_self_start = () -> "dui-justify-self-start";
+  CssClass dui_justify_self_start = CssClass.of("dui-justify-self-start");
 
-  CssClass dui_justify_self_end = () -> "dui-justify-self-end";
+  CssClass dui_justify_self_end = CssClass.of("dui-justify-self-end");
 
-  CssClass dui_justify_self_center = () -> "dui-justify-self-center";
+  CssClass dui_justify_self_center = CssClass.of("dui-justify-self-center");
 
-  CssClass dui_justify_self_stretch = () -> "dui-justify-self-stretch";
+  CssClass dui_justify_self_stretch = CssClass.of("dui-justify-self-stretch");
 
-  CssClass dui_content_center = () -> "dui-content-center";
+  CssClass dui_content_center = CssClass.of("dui-content-center");
 
-  CssClass dui_content_start = () -> "dui-content-start";
+  CssClass dui_content_start = CssClass.of("dui-content-start");
 
-  CssClass dui_content_end = () -> "dui-content-end";
+  CssClass dui_content_end = CssClass.of("dui-content-end");
 
-  CssClass dui_content_between = () -> "dui-content-between";
+  CssClass dui_content_between = CssClass.of("dui-content-between");
 
-  CssClass dui_content_around = () -> "dui-content-around";
+  CssClass dui_content_around = CssClass.of("dui-content-around");
 
-  CssClass dui_content_evenly = () -> "dui-content-evenly";
+  CssClass dui_content_evenly = CssClass.of("dui-content-evenly");
 
-  CssClass dui_items_start = () -> "dui-items-start";
+  CssClass dui_items_start = CssClass.of("dui-items-start");
 
-  CssClass dui_items_end = () -> "dui-items-end";
+  CssClass dui_items_end = CssClass.of("dui-items-end");
 
-  CssClass dui_items_center = () -> "dui-items-center";
+  CssClass dui_items_center = CssClass.of("dui-items-center");
 
-  CssClass dui_items_baseline = () -> "dui-items-baseline";
+  CssClass dui_items_baseline = CssClass.of("dui-items-baseline");
 
-  CssClass dui_items_stretch = () -> "dui-items-stretch";
+  CssClass dui_items_stretch = CssClass.of("dui-items-stretch");
 
-  CssClass dui_self_auto = () -> "dui-self-auto";
+  CssClass dui_self_auto = CssClass.of("dui-self-auto");
 
-  CssClass dui_self_start = () -> "dui-self-start";
+  CssClass dui_self_start = CssClass.of("dui-self-start");
 
-  CssClass dui_self_end = () -> "dui-self-end";
+  CssClass dui_self_end = CssClass.of("dui-self-end");
 
-  CssClass dui_self_center = () -> "dui-self-center";
+  CssClass dui_self_center = CssClass.of("dui-self-center");
 
-  CssClass dui_self_stretch = () -> "dui-self-stretch";
+  CssClass dui_self_stretch = CssClass.of("dui-self-stretch");
 
-  CssClass dui_self_baseline = () -> "dui-self-baseline";
+  CssClass dui_self_baseline = CssClass.of("dui-self-baseline");
 
-  CssClass dui_place_content_center = () -> "dui-place-content-center";
+  CssClass dui_place_content_center = CssClass.of("dui-place-content-center");
 
-  CssClass dui_place_content_start = () -> "dui-place-content-start";
+  CssClass dui_place_content_start = CssClass.of("dui-place-content-start");
 
-  CssClass dui_place_content_end = () -> "dui-place-content-end";
+  CssClass dui_place_content_end = CssClass.of("dui-place-content-end");
 
-  CssClass dui_place_content_between = () -> "dui-place-content-between";
+  CssClass dui_place_content_between = CssClass.of("dui-place-content-between");
 
-  CssClass dui_place_content_around = () -> "dui-place-content-around";
+  CssClass dui_place_content_around = CssClass.of("dui-place-content-around");
 
-  CssClass dui_place_content_evenly = () -> "dui-place-content-evenly";
+  CssClass dui_place_content_evenly = CssClass.of("dui-place-content-evenly");
 
-  CssClass dui_place_content_stretch = () -> "dui-place-content-stretch";
+  CssClass dui_place_content_stretch = CssClass.of("dui-place-content-stretch");
 
-  CssClass dui_place_items_start = () -> "dui-place-items-start";
+  CssClass dui_place_items_start = CssClass.of("dui-place-items-start");
 
-  CssClass dui_place_items_end = () -> "dui-place-items-end";
+  CssClass dui_place_items_end = CssClass.of("dui-place-items-end");
 
-  CssClass dui_place_items_center = () -> "dui-place-items-center";
+  CssClass dui_place_items_center = CssClass.of("dui-place-items-center");
 
-  CssClass dui_place_items_stretch = () -> "dui-place-items-stretch";
+  CssClass dui_place_items_stretch = CssClass.of("dui-place-items-stretch");
 
-  CssClass dui_place_self_auto = () -> "dui-place-self-auto";
+  CssClass dui_place_self_auto = CssClass.of("dui-place-self-auto");
 
-  CssClass dui_place_self_start = () -> "dui-place-self-start";
+  CssClass dui_place_self_start = CssClass.of("dui-place-self-start");
 
-  CssClass dui_place_self_end = () -> "dui-place-self-end";
+  CssClass dui_place_self_end = CssClass.of("dui-place-self-end");
 
-  CssClass dui_place_self_center = () -> "dui-place-self-center";
+  CssClass dui_place_self_center = CssClass.of("dui-place-self-center");
 
-  CssClass dui_place_self_stretch = () -> "dui-place-self-stretch";
+  CssClass dui_place_self_stretch = CssClass.of("dui-place-self-stretch");
 
-  CssClass dui_w_screen = () -> "dui-w-screen";
+  CssClass dui_w_screen = CssClass.of("dui-w-screen");
 
-  CssClass dui_w_min = () -> "dui-w-min";
+  CssClass dui_w_min = CssClass.of("dui-w-min");
 
-  CssClass dui_w_max = () -> "dui-w-max";
+  CssClass dui_w_max = CssClass.of("dui-w-max");
 
-  CssClass dui_w_fit = () -> "dui-w-fit";
+  CssClass dui_w_fit = CssClass.of("dui-w-fit");
 
-  CssClass dui_min_w_min = () -> "dui-min-w-min";
+  CssClass dui_min_w_min = CssClass.of("dui-min-w-min");
 
-  CssClass dui_min_w_max = () -> "dui-min-w-max";
+  CssClass dui_min_w_max = CssClass.of("dui-min-w-max");
 
-  CssClass dui_min_w_fit = () -> "dui-min-w-fit";
+  CssClass dui_min_w_fit = CssClass.of("dui-min-w-fit");
 
-  CssClass dui_max_w_min = () -> "dui-max-w-min";
+  CssClass dui_max_w_min = CssClass.of("dui-max-w-min");
 
-  CssClass dui_max_w_max = () -> "dui-max-w-max";
+  CssClass dui_max_w_max = CssClass.of("dui-max-w-max");
 
-  CssClass dui_max_w_fit = () -> "dui-max-w-fit";
+  CssClass dui_max_w_fit = CssClass.of("dui-max-w-fit");
 
-  CssClass dui_h_screen = () -> "dui-h-screen";
+  CssClass dui_h_screen = CssClass.of("dui-h-screen");
 
-  CssClass dui_h_min = () -> "dui-h-min";
+  CssClass dui_h_min = CssClass.of("dui-h-min");
 
-  CssClass dui_h_max = () -> "dui-h-max";
+  CssClass dui_h_max = CssClass.of("dui-h-max");
 
-  CssClass dui_h_fit = () -> "dui-h-fit";
+  CssClass dui_h_fit = CssClass.of("dui-h-fit");
 
-  CssClass dui_min_h_screen = () -> "dui-min-h-screen";
+  CssClass dui_min_h_screen = CssClass.of("dui-min-h-screen");
 
-  CssClass dui_min_h_min = () -> "dui-min-h-min";
+  CssClass dui_min_h_min = CssClass.of("dui-min-h-min");
 
-  CssClass dui_min_h_max = () -> "dui-min-h-max";
+  CssClass dui_min_h_max = CssClass.of("dui-min-h-max");
 
-  CssClass dui_min_h_fit = () -> "dui-min-h-fit";
+  CssClass dui_min_h_fit = CssClass.of("dui-min-h-fit");
 
-  CssClass dui_max_h_screen = () -> "dui-max-h-screen";
+  CssClass dui_max_h_screen = CssClass.of("dui-max-h-screen");
 
-  CssClass dui_max_h_min = () -> "dui-max-h-min";
+  CssClass dui_max_h_min = CssClass.of("dui-max-h-min");
 
-  CssClass dui_max_h_max = () -> "dui-max-h-max";
+  CssClass dui_max_h_max = CssClass.of("dui-max-h-max");
 
-  CssClass dui_max_h_fit = () -> "dui-max-h-fit";
+  CssClass dui_max_h_fit = CssClass.of("dui-max-h-fit");
 
-  CssClass dui_font_sans = () -> "dui-font-sans";
+  CssClass dui_font_sans = CssClass.of("dui-font-sans");
 
-  CssClass dui_font_serif = () -> "dui-font-serif";
+  CssClass dui_font_serif = CssClass.of("dui-font-serif");
 
-  CssClass dui_font_mono = () -> "dui-font-mono";
+  CssClass dui_font_mono = CssClass.of("dui-font-mono");
 
-  CssClass dui_text_xs = () -> "dui-text-xs";
+  CssClass dui_text_xs = CssClass.of("dui-text-xs");
 
-  CssClass dui_text_sm = () -> "dui-text-sm";
+  CssClass dui_text_sm = CssClass.of("dui-text-sm");
 
-  CssClass dui_text_base = () -> "dui-text-base";
+  CssClass dui_text_base = CssClass.of("dui-text-base");
 
-  CssClass dui_text_lg = () -> "dui-text-lg";
+  CssClass dui_text_lg = CssClass.of("dui-text-lg");
 
-  CssClass dui_text_xl = () -> "dui-text-xl";
+  CssClass dui_text_xl = CssClass.of("dui-text-xl");
 
-  CssClass dui_text_2xl = () -> "dui-text-2xl";
+  CssClass dui_text_2xl = CssClass.of("dui-text-2xl");
 
-  CssClass dui_text_3xl = () -> "dui-text-3xl";
+  CssClass dui_text_3xl = CssClass.of("dui-text-3xl");
 
-  CssClass dui_text_4xl = () -> "dui-text-4xl";
+  CssClass dui_text_4xl = CssClass.of("dui-text-4xl");
 
-  CssClass dui_text_5xl = () -> "dui-text-5xl";
+  CssClass dui_text_5xl = CssClass.of("dui-text-5xl");
 
-  CssClass dui_text_6xl = () -> "dui-text-6xl";
+  CssClass dui_text_6xl = CssClass.of("dui-text-6xl");
 
-  CssClass dui_text_7xl = () -> "dui-text-7xl";
+  CssClass dui_text_7xl = CssClass.of("dui-text-7xl");
 
-  CssClass dui_text_8xl = () -> "dui-text-8xl";
+  CssClass dui_text_8xl = CssClass.of("dui-text-8xl");
 
-  CssClass dui_text_9xl = () -> "dui-text-9xl";
+  CssClass dui_text_9xl = CssClass.of("dui-text-9xl");
 
-  CssClass dui_antialiased = () -> "dui-antialiased";
+  CssClass dui_antialiased = CssClass.of("dui-antialiased");
 
-  CssClass dui_subpixel_antialiased = () -> "dui-subpixel-antialiased";
+  CssClass dui_subpixel_antialiased = CssClass.of("dui-subpixel-antialiased");
 
-  CssClass dui_italic = () -> "dui-italic";
+  CssClass dui_italic = CssClass.of("dui-italic");
 
-  CssClass dui_not_italic = () -> "dui-not-italic";
+  CssClass dui_not_italic = CssClass.of("dui-not-italic");
 
-  CssClass dui_font_thin = () -> "dui-font-thin";
+  CssClass dui_font_thin = CssClass.of("dui-font-thin");
 
-  CssClass dui_font_extralight = () -> "dui-font-extralight";
+  CssClass dui_font_extralight = CssClass.of("dui-font-extralight");
 
-  CssClass dui_font_light = () -> "dui-font-light";
+  CssClass dui_font_light = CssClass.of("dui-font-light");
 
-  CssClass dui_font_normal = () -> "dui-font-normal";
+  CssClass dui_font_normal = CssClass.of("dui-font-normal");
 
-  CssClass dui_font_medium = () -> "dui-font-medium";
+  CssClass dui_font_medium = CssClass.of("dui-font-medium");
 
-  CssClass dui_font_semibold = () -> "dui-font-semibold";
+  CssClass dui_font_semibold = CssClass.of("dui-font-semibold");
 
-  CssClass dui_font_bold = () -> "dui-font-bold";
+  CssClass dui_font_bold = CssClass.of("dui-font-bold");
 
-  CssClass dui_font_extrabold = () -> "dui-font-extrabold";
+  CssClass dui_font_extrabold = CssClass.of("dui-font-extrabold");
 
-  CssClass dui_font_black = () -> "dui-font-black";
+  CssClass dui_font_black = CssClass.of("dui-font-black");
 
-  CssClass dui_normal_nums = () -> "dui-normal-nums";
+  CssClass dui_normal_nums = CssClass.of("dui-normal-nums");
 
-  CssClass dui_ordinal = () -> "dui-ordinal";
+  CssClass dui_ordinal = CssClass.of("dui-ordinal");
 
-  CssClass dui_slashed_zero = () -> "dui-slashed-zero";
+  CssClass dui_slashed_zero = CssClass.of("dui-slashed-zero");
 
-  CssClass dui_lining_nums = () -> "dui-lining-nums";
+  CssClass dui_lining_nums = CssClass.of("dui-lining-nums");
 
-  CssClass dui_oldstyle_nums = () -> "dui-oldstyle-nums";
+  CssClass dui_oldstyle_nums = CssClass.of("dui-oldstyle-nums");
 
-  CssClass dui_proportional_nums = () -> "dui-proportional-nums";
+  CssClass dui_proportional_nums = CssClass.of("dui-proportional-nums");
 
-  CssClass dui_tabular_nums = () -> "dui-tabular-nums";
+  CssClass dui_tabular_nums = CssClass.of("dui-tabular-nums");
 
-  CssClass dui_diagonal_fractions = () -> "dui-diagonal-fractions";
+  CssClass dui_diagonal_fractions = CssClass.of("dui-diagonal-fractions");
 
-  CssClass dui_stacked_fractions = () -> "dui-stacked-fractions";
+  CssClass dui_stacked_fractions = CssClass.of("dui-stacked-fractions");
 
-  CssClass dui_tracking_tighter = () -> "dui-tracking-tighter";
+  CssClass dui_tracking_tighter = CssClass.of("dui-tracking-tighter");
 
-  CssClass dui_tracking_tight = () -> "dui-tracking-tight";
+  CssClass dui_tracking_tight = CssClass.of("dui-tracking-tight");
 
-  CssClass dui_tracking_normal = () -> "dui-tracking-normal";
+  CssClass dui_tracking_normal = CssClass.of("dui-tracking-normal");
 
-  CssClass dui_tracking_wide = () -> "dui-tracking-wide";
+  CssClass dui_tracking_wide = CssClass.of("dui-tracking-wide");
 
-  CssClass dui_tracking_wider = () -> "dui-tracking-wider";
+  CssClass dui_tracking_wider = CssClass.of("dui-tracking-wider");
 
-  CssClass dui_tracking_widest = () -> "dui-tracking-widest";
+  CssClass dui_tracking_widest = CssClass.of("dui-tracking-widest");
 
-  CssClass dui_leading_3 = () -> "dui-leading-3";
+  CssClass dui_leading_3 = CssClass.of("dui-leading-3");
 
-  CssClass dui_leading_4 = () -> "dui-leading-4";
+  CssClass dui_leading_4 = CssClass.of("dui-leading-4");
 
-  CssClass dui_leading_5 = () -> "dui-leading-5";
+  CssClass dui_leading_5 = CssClass.of("dui-leading-5");
 
-  CssClass dui_leading_6 = () -> "dui-leading-6";
+  CssClass dui_leading_6 = CssClass.of("dui-leading-6");
 
-  CssClass dui_leading_7 = () -> "dui-leading-7";
+  CssClass dui_leading_7 = CssClass.of("dui-leading-7");
 
-  CssClass dui_leading_8 = () -> "dui-leading-8";
+  CssClass dui_leading_8 = CssClass.of("dui-leading-8");
 
-  CssClass dui_leading_9 = () -> "dui-leading-9";
+  CssClass dui_leading_9 = CssClass.of("dui-leading-9");
 
-  CssClass dui_leading_10 = () -> "dui-leading-10";
+  CssClass dui_leading_10 = CssClass.of("dui-leading-10");
 
-  CssClass dui_leading_none = () -> "dui-leading-none";
+  CssClass dui_leading_none = CssClass.of("dui-leading-none");
 
-  CssClass dui_leading_tight = () -> "dui-leading-tight";
+  CssClass dui_leading_tight = CssClass.of("dui-leading-tight");
 
-  CssClass dui_leading_snug = () -> "dui-leading-snug";
+  CssClass dui_leading_snug = CssClass.of("dui-leading-snug");
 
-  CssClass dui_leading_normal = () -> "dui-leading-normal";
+  CssClass dui_leading_normal = CssClass.of("dui-leading-normal");
 
-  CssClass dui_leading_relaxed = () -> "dui-leading-relaxed";
+  CssClass dui_leading_relaxed = CssClass.of("dui-leading-relaxed");
 
-  CssClass dui_leading_loose = () -> "dui-leading-loose";
+  CssClass dui_leading_loose = CssClass.of("dui-leading-loose");
 
-  CssClass dui_list_none = () -> "dui-list-none";
+  CssClass dui_list_none = CssClass.of("dui-list-none");
 
-  CssClass dui_list_disc = () -> "dui-list-disc";
+  CssClass dui_list_disc = CssClass.of("dui-list-disc");
 
-  CssClass dui_list_decimal = () -> "dui-list-decimal";
+  CssClass dui_list_decimal = CssClass.of("dui-list-decimal");
 
-  CssClass dui_list_inside = () -> "dui-list-inside";
+  CssClass dui_list_inside = CssClass.of("dui-list-inside");
 
-  CssClass dui_list_outside = () -> "dui-list-outside";
+  CssClass dui_list_outside = CssClass.of("dui-list-outside");
 
-  CssClass dui_text_left = () -> "dui-text-left";
+  CssClass dui_text_left = CssClass.of("dui-text-left");
 
-  CssClass dui_text_center = () -> "dui-text-center";
+  CssClass dui_text_center = CssClass.of("dui-text-center");
 
-  CssClass dui_text_right = () -> "dui-text-right";
+  CssClass dui_text_right = CssClass.of("dui-text-right");
 
-  CssClass dui_text_justify = () -> "dui-text-justify";
+  CssClass dui_text_justify = CssClass.of("dui-text-justify");
 
-  CssClass dui_text_inherit = () -> "dui-text-inherit";
+  CssClass dui_text_inherit = CssClass.of("dui-text-inherit");
 
-  CssClass dui_text_current = () -> "dui-text-current";
+  CssClass dui_text_current = CssClass.of("dui-text-current");
 
-  CssClass dui_text_transparent = () -> "dui-text-transparent";
+  CssClass dui_text_transparent = CssClass.of("dui-text-transparent");
 
-  CssClass dui_underline = () -> "dui-underline";
+  CssClass dui_underline = CssClass.of("dui-underline");
 
-  CssClass dui_overline = () -> "dui-overline";
+  CssClass dui_overline = CssClass.of("dui-overline");
 
-  CssClass dui_line_through = () -> "dui-line-through";
+  CssClass dui_line_through = CssClass.of("dui-line-through");
 
-  CssClass dui_no_underline = () -> "dui-no-underline";
+  CssClass dui_no_underline = CssClass.of("dui-no-underline");
 
-  CssClass dui_decoration_inherit = () -> "dui-decoration-inherit";
+  CssClass dui_decoration_inherit = CssClass.of("dui-decoration-inherit");
 
-  CssClass dui_decoration_current = () -> "dui-decoration-current";
+  CssClass dui_decoration_current = CssClass.of("dui-decoration-current");
 
-  CssClass dui_decoration_transparent = () -> "dui-decoration-transparent";
+  CssClass dui_decoration_transparent = CssClass.of("dui-decoration-transparent");
 
-  CssClass dui_decoration_solid = () -> "dui-decoration-solid";
+  CssClass dui_decoration_solid = CssClass.of("dui-decoration-solid");
 
-  CssClass dui_decoration_double = () -> "dui-decoration-double";
+  CssClass dui_decoration_double = CssClass.of("dui-decoration-double");
 
-  CssClass dui_decoration_dotted = () -> "dui-decoration-dotted";
+  CssClass dui_decoration_dotted = CssClass.of("dui-decoration-dotted");
 
-  CssClass dui_decoration_dashed = () -> "dui-decoration-dashed";
+  CssClass dui_decoration_dashed = CssClass.of("dui-decoration-dashed");
 
-  CssClass dui_decoration_wavy = () -> "dui-decoration-wavy";
+  CssClass dui_decoration_wavy = CssClass.of("dui-decoration-wavy");
 
-  CssClass dui_decoration_auto = () -> "dui-decoration-auto";
+  CssClass dui_decoration_auto = CssClass.of("dui-decoration-auto");
 
-  CssClass dui_decoration_from_font = () -> "dui-decoration-from-font";
+  CssClass dui_decoration_from_font = CssClass.of("dui-decoration-from-font");
 
-  CssClass dui_decoration_0 = () -> "dui-decoration-0";
+  CssClass dui_decoration_0 = CssClass.of("dui-decoration-0");
 
-  CssClass dui_decoration_1 = () -> "dui-decoration-1";
+  CssClass dui_decoration_1 = CssClass.of("dui-decoration-1");
 
-  CssClass dui_decoration_2 = () -> "dui-decoration-2";
+  CssClass dui_decoration_2 = CssClass.of("dui-decoration-2");
 
-  CssClass dui_decoration_4 = () -> "dui-decoration-4";
+  CssClass dui_decoration_4 = CssClass.of("dui-decoration-4");
 
-  CssClass dui_decoration_8 = () -> "dui-decoration-8";
+  CssClass dui_decoration_8 = CssClass.of("dui-decoration-8");
 
-  CssClass dui_underline_offset_auto = () -> "dui-underline-offset-auto";
+  CssClass dui_underline_offset_auto = CssClass.of("dui-underline-offset-auto");
 
-  CssClass dui_underline_offset_0 = () -> "dui-underline-offset-0";
+  CssClass dui_underline_offset_0 = CssClass.of("dui-underline-offset-0");
 
-  CssClass dui_underline_offset_1 = () -> "dui-underline-offset-1";
+  CssClass dui_underline_offset_1 = CssClass.of("dui-underline-offset-1");
 
-  CssClass dui_underline_offset_2 = () -> "dui-underline-offset-2";
+  CssClass dui_underline_offset_2 = CssClass.of("dui-underline-offset-2");
 
-  CssClass dui_underline_offset_4 = () -> "dui-underline-offset-4";
+  CssClass dui_underline_offset_4 = CssClass.of("dui-underline-offset-4");
 
-  CssClass dui_underline_offset_8 = () -> "dui-underline-offset-8";
+  CssClass dui_underline_offset_8 = CssClass.of("dui-underline-offset-8");
 
-  CssClass dui_uppercase = () -> "dui-uppercase";
+  CssClass dui_uppercase = CssClass.of("dui-uppercase");
 
-  CssClass dui_lowercase = () -> "dui-lowercase";
+  CssClass dui_lowercase = CssClass.of("dui-lowercase");
 
-  CssClass dui_capitalize = () -> "dui-capitalize";
+  CssClass dui_capitalize = CssClass.of("dui-capitalize");
 
-  CssClass dui_normal_case = () -> "dui-normal-case";
+  CssClass dui_normal_case = CssClass.of("dui-normal-case");
 
-  CssClass dui_truncate = () -> "dui-truncate";
+  CssClass dui_truncate = CssClass.of("dui-truncate");
 
-  CssClass dui_text_ellipsis = () -> "dui-text-ellipsis";
+  CssClass dui_text_ellipsis = CssClass.of("dui-text-ellipsis");
 
-  CssClass dui_text_clip = () -> "dui-text-clip";
+  CssClass dui_text_clip = CssClass.of("dui-text-clip");
 
-  CssClass dui_align_baseline = () -> "dui-align-baseline";
+  CssClass dui_align_baseline = CssClass.of("dui-align-baseline");
 
-  CssClass dui_align_top = () -> "dui-align-top";
+  CssClass dui_align_top = CssClass.of("dui-align-top");
 
-  CssClass dui_align_middle = () -> "dui-align-middle";
+  CssClass dui_align_middle = CssClass.of("dui-align-middle");
 
-  CssClass dui_align_bottom = () -> "dui-align-bottom";
+  CssClass dui_align_bottom = CssClass.of("dui-align-bottom");
 
-  CssClass dui_align_text_top = () -> "dui-align-text-top";
+  CssClass dui_align_text_top = CssClass.of("dui-align-text-top");
 
-  CssClass dui_align_text_bottom = () -> "dui-align-text-bottom";
+  CssClass dui_align_text_bottom = CssClass.of("dui-align-text-bottom");
 
-  CssClass dui_align_sub = () -> "dui-align-sub";
+  CssClass dui_align_sub = CssClass.of("dui-align-sub");
 
-  CssClass dui_align_super = () -> "dui-align-super";
+  CssClass dui_align_super = CssClass.of("dui-align-super");
 
-  CssClass dui_whitespace_normal = () -> "dui-whitespace-normal";
+  CssClass dui_whitespace_normal = CssClass.of("dui-whitespace-normal");
 
-  CssClass dui_whitespace_nowrap = () -> "dui-whitespace-nowrap";
+  CssClass dui_whitespace_nowrap = CssClass.of("dui-whitespace-nowrap");
 
-  CssClass dui_whitespace_pre = () -> "dui-whitespace-pre";
+  CssClass dui_whitespace_pre = CssClass.of("dui-whitespace-pre");
 
-  CssClass dui_whitespace_pre_line = () -> "dui-whitespace-pre-line";
+  CssClass dui_whitespace_pre_line = CssClass.of("dui-whitespace-pre-line");
 
-  CssClass dui_whitespace_pre_wrap = () -> "dui-whitespace-pre-wrap";
+  CssClass dui_whitespace_pre_wrap = CssClass.of("dui-whitespace-pre-wrap");
 
-  CssClass dui_whitespace_unset = () -> "dui-whitespace-unset";
+  CssClass dui_whitespace_unset = CssClass.of("dui-whitespace-unset");
 
-  CssClass dui_whitespace_break_spaces = () -> "dui-whitespace-break-spaces";
+  CssClass dui_whitespace_break_spaces = CssClass.of("dui-whitespace-break-spaces");
 
-  CssClass dui_break_normal = () -> "dui-break-normal";
+  CssClass dui_break_normal = CssClass.of("dui-break-normal");
 
-  CssClass dui_break_words = () -> "dui-break-words";
+  CssClass dui_break_words = CssClass.of("dui-break-words");
 
-  CssClass dui_break_all = () -> "dui-break-all";
+  CssClass dui_break_all = CssClass.of("dui-break-all");
 
-  CssClass dui_content_none = () -> "dui-content-none";
+  CssClass dui_content_none = CssClass.of("dui-content-none");
 
-  CssClass dui_bg_fixed = () -> "dui-bg-fixed";
+  CssClass dui_bg_fixed = CssClass.of("dui-bg-fixed");
 
-  CssClass dui_bg_local = () -> "dui-bg-local";
+  CssClass dui_bg_local = CssClass.of("dui-bg-local");
 
-  CssClass dui_bg_scroll = () -> "dui-bg-scroll";
+  CssClass dui_bg_scroll = CssClass.of("dui-bg-scroll");
 
-  CssClass dui_bg_clip_border = () -> "dui-bg-clip-border";
+  CssClass dui_bg_clip_border = CssClass.of("dui-bg-clip-border");
 
-  CssClass dui_bg_clip_padding = () -> "dui-bg-clip-padding";
+  CssClass dui_bg_clip_padding = CssClass.of("dui-bg-clip-padding");
 
-  CssClass dui_bg_clip_content = () -> "dui-bg-clip-content";
+  CssClass dui_bg_clip_content = CssClass.of("dui-bg-clip-content");
 
-  CssClass dui_bg_clip_text = () -> "dui-bg-clip-text";
+  CssClass dui_bg_clip_text = CssClass.of("dui-bg-clip-text");
 
-  CssClass dui_bg_origin_border = () -> "dui-bg-origin-border";
+  CssClass dui_bg_origin_border = CssClass.of("dui-bg-origin-border");
 
-  CssClass dui_bg_origin_padding = () -> "dui-bg-origin-padding";
+  CssClass dui_bg_origin_padding = CssClass.of("dui-bg-origin-padding");
 
-  CssClass dui_bg_origin_content = () -> "dui-bg-origin-content";
+  CssClass dui_bg_origin_content = CssClass.of("dui-bg-origin-content");
 
-  CssClass dui_bg_bottom = () -> "dui-bg-bottom";
+  CssClass dui_bg_bottom = CssClass.of("dui-bg-bottom");
 
-  CssClass dui_bg_center = () -> "dui-bg-center";
+  CssClass dui_bg_center = CssClass.of("dui-bg-center");
 
-  CssClass dui_bg_left = () -> "dui-bg-left";
+  CssClass dui_bg_left = CssClass.of("dui-bg-left");
 
-  CssClass dui_bg_left_bottom = () -> "dui-bg-left-bottom";
+  CssClass dui_bg_left_bottom = CssClass.of("dui-bg-left-bottom");
 
-  CssClass dui_bg_left_top = () -> "dui-bg-left-top";
+  CssClass dui_bg_left_top = CssClass.of("dui-bg-left-top");
 
-  CssClass dui_bg_right = () -> "dui-bg-right";
+  CssClass dui_bg_right = CssClass.of("dui-bg-right");
 
-  CssClass dui_bg_right_bottom = () -> "dui-bg-right-bottom";
+  CssClass dui_bg_right_bottom = CssClass.of("dui-bg-right-bottom");
 
-  CssClass dui_bg_right_top = () -> "dui-bg-right-top";
+  CssClass dui_bg_right_top = CssClass.of("dui-bg-right-top");
 
-  CssClass dui_bg_top = () -> "dui-bg-top";
+  CssClass dui_bg_top = CssClass.of("dui-bg-top");
 
-  CssClass dui_bg_repeat = () -> "dui-bg-repeat";
+  CssClass dui_bg_repeat = CssClass.of("dui-bg-repeat");
 
-  CssClass dui_bg_no_repeat = () -> "dui-bg-no-repeat";
+  CssClass dui_bg_no_repeat = CssClass.of("dui-bg-no-repeat");
 
-  CssClass dui_bg_repeat_x = () -> "dui-bg-repeat-x";
+  CssClass dui_bg_repeat_x = CssClass.of("dui-bg-repeat-x");
 
-  CssClass dui_bg_repeat_y = () -> "dui-bg-repeat-y";
+  CssClass dui_bg_repeat_y = CssClass.of("dui-bg-repeat-y");
 
-  CssClass dui_bg_repeat_round = () -> "dui-bg-repeat-round";
+  CssClass dui_bg_repeat_round = CssClass.of("dui-bg-repeat-round");
 
-  CssClass dui_bg_repeat_space = () -> "dui-bg-repeat-space";
+  CssClass dui_bg_repeat_space = CssClass.of("dui-bg-repeat-space");
 
-  CssClass dui_bg_auto = () -> "dui-bg-auto";
+  CssClass dui_bg_auto = CssClass.of("dui-bg-auto");
 
-  CssClass dui_bg_cover = () -> "dui-bg-cover";
+  CssClass dui_bg_cover = CssClass.of("dui-bg-cover");
 
-  CssClass dui_bg_contain = () -> "dui-bg-contain";
+  CssClass dui_bg_contain = CssClass.of("dui-bg-contain");
 
-  CssClass dui_rounded_none = () -> "dui-rounded-none";
+  CssClass dui_rounded_none = CssClass.of("dui-rounded-none");
 
-  CssClass dui_rounded_inherit = () -> "dui-rounded-inherit";
+  CssClass dui_rounded_inherit = CssClass.of("dui-rounded-inherit");
 
-  CssClass dui_rounded_t_inherit = () -> "dui-rounded-t-inherit";
+  CssClass dui_rounded_t_inherit = CssClass.of("dui-rounded-t-inherit");
 
-  CssClass dui_rounded_b_inherit = () -> "dui-rounded-b-inherit";
+  CssClass dui_rounded_b_inherit = CssClass.of("dui-rounded-b-inherit");
 
-  CssClass dui_rounded_l_inherit = () -> "dui-rounded-l-inherit";
+  CssClass dui_rounded_l_inherit = CssClass.of("dui-rounded-l-inherit");
 
-  CssClass dui_rounded_r_inherit = () -> "dui-rounded-r-inherit";
+  CssClass dui_rounded_r_inherit = CssClass.of("dui-rounded-r-inherit");
 
-  CssClass dui_rounded_tl_inherit = () -> "dui-rounded-tl-inherit";
+  CssClass dui_rounded_tl_inherit = CssClass.of("dui-rounded-tl-inherit");
 
-  CssClass dui_rounded_tr_inherit = () -> "dui-rounded-tr-inherit";
+  CssClass dui_rounded_tr_inherit = CssClass.of("dui-rounded-tr-inherit");
 
-  CssClass dui_rounded_br_inherit = () -> "dui-rounded-br-inherit";
+  CssClass dui_rounded_br_inherit = CssClass.of("dui-rounded-br-inherit");
 
-  CssClass dui_rounded_bl_inherit = () -> "dui-rounded-bl-inherit";
+  CssClass dui_rounded_bl_inherit = CssClass.of("dui-rounded-bl-inherit");
 
-  CssClass dui_rounded_sm = () -> "dui-rounded-sm";
+  CssClass dui_rounded_sm = CssClass.of("dui-rounded-sm");
 
-  CssClass dui_rounded = () -> "dui-rounded";
+  CssClass dui_rounded = CssClass.of("dui-rounded");
 
-  CssClass dui_rounded_md = () -> "dui-rounded-md";
+  CssClass dui_rounded_md = CssClass.of("dui-rounded-md");
 
-  CssClass dui_rounded_lg = () -> "dui-rounded-lg";
+  CssClass dui_rounded_lg = CssClass.of("dui-rounded-lg");
 
-  CssClass dui_rounded_xl = () -> "dui-rounded-xl";
+  CssClass dui_rounded_xl = CssClass.of("dui-rounded-xl");
 
-  CssClass dui_rounded_2xl = () -> "dui-rounded-2xl";
+  CssClass dui_rounded_2xl = CssClass.of("dui-rounded-2xl");
 
-  CssClass dui_rounded_3xl = () -> "dui-rounded-3xl";
+  CssClass dui_rounded_3xl = CssClass.of("dui-rounded-3xl");
 
-  CssClass dui_rounded_full = () -> "dui-rounded-full";
+  CssClass dui_rounded_full = CssClass.of("dui-rounded-full");
 
-  CssClass dui_rounded_circle = () -> "dui-rounded-circle";
+  CssClass dui_rounded_circle = CssClass.of("dui-rounded-circle");
 
-  CssClass dui_rounded_t_none = () -> "dui-rounded-t-none";
+  CssClass dui_rounded_t_none = CssClass.of("dui-rounded-t-none");
 
-  CssClass dui_rounded_t_sm = () -> "dui-rounded-t-sm";
+  CssClass dui_rounded_t_sm = CssClass.of("dui-rounded-t-sm");
 
-  CssClass dui_rounded_t = () -> "dui-rounded-t";
+  CssClass dui_rounded_t = CssClass.of("dui-rounded-t");
 
-  CssClass dui_rounded_t_md = () -> "dui-rounded-t-md";
+  CssClass dui_rounded_t_md = CssClass.of("dui-rounded-t-md");
 
-  CssClass dui_rounded_t_lg = () -> "dui-rounded-t-lg";
+  CssClass dui_rounded_t_lg = CssClass.of("dui-rounded-t-lg");
 
-  CssClass dui_rounded_t_xl = () -> "dui-rounded-t-xl";
+  CssClass dui_rounded_t_xl = CssClass.of("dui-rounded-t-xl");
 
-  CssClass dui_rounded_t_2xl = () -> "dui-rounded-t-2xl";
+  CssClass dui_rounded_t_2xl = CssClass.of("dui-rounded-t-2xl");
 
-  CssClass dui_rounded_t_3xl = () -> "dui-rounded-t-3xl";
+  CssClass dui_rounded_t_3xl = CssClass.of("dui-rounded-t-3xl");
 
-  CssClass dui_rounded_t_full = () -> "dui-rounded-t-full";
+  CssClass dui_rounded_t_full = CssClass.of("dui-rounded-t-full");
 
-  CssClass dui_rounded_r_none = () -> "dui-rounded-r-none";
+  CssClass dui_rounded_r_none = CssClass.of("dui-rounded-r-none");
 
-  CssClass dui_rounded_r_sm = () -> "dui-rounded-r-sm";
+  CssClass dui_rounded_r_sm = CssClass.of("dui-rounded-r-sm");
 
-  CssClass dui_rounded_r = () -> "dui-rounded-r";
+  CssClass dui_rounded_r = CssClass.of("dui-rounded-r");
 
-  CssClass dui_rounded_r_md = () -> "dui-rounded-r-md";
+  CssClass dui_rounded_r_md = CssClass.of("dui-rounded-r-md");
 
-  CssClass dui_rounded_r_lg = () -> "dui-rounded-r-lg";
+  CssClass dui_rounded_r_lg = CssClass.of("dui-rounded-r-lg");
 
-  CssClass dui_rounded_r_xl = () -> "dui-rounded-r-xl";
+  CssClass dui_rounded_r_xl = CssClass.of("dui-rounded-r-xl");
 
-  CssClass dui_rounded_r_2xl = () -> "dui-rounded-r-2xl";
+  CssClass dui_rounded_r_2xl = CssClass.of("dui-rounded-r-2xl");
 
-  CssClass dui_rounded_r_3xl = () -> "dui-rounded-r-3xl";
+  CssClass dui_rounded_r_3xl = CssClass.of("dui-rounded-r-3xl");
 
-  CssClass dui_rounded_r_full = () -> "dui-rounded-r-full";
+  CssClass dui_rounded_r_full = CssClass.of("dui-rounded-r-full");
 
-  CssClass dui_rounded_b_none = () -> "dui-rounded-b-none";
+  CssClass dui_rounded_b_none = CssClass.of("dui-rounded-b-none");
 
-  CssClass dui_rounded_b_sm = () -> "dui-rounded-b-sm";
+  CssClass dui_rounded_b_sm = CssClass.of("dui-rounded-b-sm");
 
-  CssClass dui_rounded_b = () -> "dui-rounded-b";
+  CssClass dui_rounded_b = CssClass.of("dui-rounded-b");
 
-  CssClass dui_rounded_b_md = () -> "dui-rounded-b-md";
+  CssClass dui_rounded_b_md = CssClass.of("dui-rounded-b-md");
 
-  CssClass dui_rounded_b_lg = () -> "dui-rounded-b-lg";
+  CssClass dui_rounded_b_lg = CssClass.of("dui-rounded-b-lg");
 
-  CssClass dui_rounded_b_xl = () -> "dui-rounded-b-xl";
+  CssClass dui_rounded_b_xl = CssClass.of("dui-rounded-b-xl");
 
-  CssClass dui_rounded_b_2xl = () -> "dui-rounded-b-2xl";
+  CssClass dui_rounded_b_2xl = CssClass.of("dui-rounded-b-2xl");
 
-  CssClass dui_rounded_b_3xl = () -> "dui-rounded-b-3xl";
+  CssClass dui_rounded_b_3xl = CssClass.of("dui-rounded-b-3xl");
 
-  CssClass dui_rounded_b_full = () -> "dui-rounded-b-full";
+  CssClass dui_rounded_b_full = CssClass.of("dui-rounded-b-full");
 
-  CssClass dui_rounded_l_none = () -> "dui-rounded-l-none";
+  CssClass dui_rounded_l_none = CssClass.of("dui-rounded-l-none");
 
-  CssClass dui_rounded_l_sm = () -> "dui-rounded-l-sm";
+  CssClass dui_rounded_l_sm = CssClass.of("dui-rounded-l-sm");
 
-  CssClass dui_rounded_l = () -> "dui-rounded-l";
+  CssClass dui_rounded_l = CssClass.of("dui-rounded-l");
 
-  CssClass dui_rounded_l_md = () -> "dui-rounded-l-md";
+  CssClass dui_rounded_l_md = CssClass.of("dui-rounded-l-md");
 
-  CssClass dui_rounded_l_lg = () -> "dui-rounded-l-lg";
+  CssClass dui_rounded_l_lg = CssClass.of("dui-rounded-l-lg");
 
-  CssClass dui_rounded_l_xl = () -> "dui-rounded-l-xl";
+  CssClass dui_rounded_l_xl = CssClass.of("dui-rounded-l-xl");
 
-  CssClass dui_rounded_l_2xl = () -> "dui-rounded-l-2xl";
+  CssClass dui_rounded_l_2xl = CssClass.of("dui-rounded-l-2xl");
 
-  CssClass dui_rounded_l_3xl = () -> "dui-rounded-l-3xl";
+  CssClass dui_rounded_l_3xl = CssClass.of("dui-rounded-l-3xl");
 
-  CssClass dui_rounded_l_full = () -> "dui-rounded-l-full";
+  CssClass dui_rounded_l_full = CssClass.of("dui-rounded-l-full");
 
-  CssClass dui_rounded_tl_none = () -> "dui-rounded-tl-none";
+  CssClass dui_rounded_tl_none = CssClass.of("dui-rounded-tl-none");
 
-  CssClass dui_rounded_tl_sm = () -> "dui-rounded-tl-sm";
+  CssClass dui_rounded_tl_sm = CssClass.of("dui-rounded-tl-sm");
 
-  CssClass dui_rounded_tl = () -> "dui-rounded-tl";
+  CssClass dui_rounded_tl = CssClass.of("dui-rounded-tl");
 
-  CssClass dui_rounded_tl_md = () -> "dui-rounded-tl-md";
+  CssClass dui_rounded_tl_md = CssClass.of("dui-rounded-tl-md");
 
-  CssClass dui_rounded_tl_lg = () -> "dui-rounded-tl-lg";
+  CssClass dui_rounded_tl_lg = CssClass.of("dui-rounded-tl-lg");
 
-  CssClass dui_rounded_tl_xl = () -> "dui-rounded-tl-xl";
+  CssClass dui_rounded_tl_xl = CssClass.of("dui-rounded-tl-xl");
 
-  CssClass dui_rounded_tl_2xl = () -> "dui-rounded-tl-2xl";
+  CssClass dui_rounded_tl_2xl = CssClass.of("dui-rounded-tl-2xl");
 
-  CssClass dui_rounded_tl_3xl = () -> "dui-rounded-tl-3xl";
+  CssClass dui_rounded_tl_3xl = CssClass.of("dui-rounded-tl-3xl");
 
-  CssClass dui_rounded_tl_full = () -> "dui-rounded-tl-full";
+  CssClass dui_rounded_tl_full = CssClass.of("dui-rounded-tl-full");
 
-  CssClass dui_rounded_tr_none = () -> "dui-rounded-tr-none";
+  CssClass dui_rounded_tr_none = CssClass.of("dui-rounded-tr-none");
 
-  CssClass dui_rounded_tr_sm = () -> "dui-rounded-tr-sm";
+  CssClass dui_rounded_tr_sm = CssClass.of("dui-rounded-tr-sm");
 
-  CssClass dui_rounded_tr = () -> "dui-rounded-tr";
+  CssClass dui_rounded_tr = CssClass.of("dui-rounded-tr");
 
-  CssClass dui_rounded_tr_md = () -> "dui-rounded-tr-md";
+  CssClass dui_rounded_tr_md = CssClass.of("dui-rounded-tr-md");
 
-  CssClass dui_rounded_tr_lg = () -> "dui-rounded-tr-lg";
+  CssClass dui_rounded_tr_lg = CssClass.of("dui-rounded-tr-lg");
 
-  CssClass dui_rounded_tr_xl = () -> "dui-rounded-tr-xl";
+  CssClass dui_rounded_tr_xl = CssClass.of("dui-rounded-tr-xl");
 
-  CssClass dui_rounded_tr_2xl = () -> "dui-rounded-tr-2xl";
+  CssClass dui_rounded_tr_2xl = CssClass.of("dui-rounded-tr-2xl");
 
-  CssClass dui_rounded_tr_3xl = () -> "dui-rounded-tr-3xl";
+  CssClass dui_rounded_tr_3xl = CssClass.of("dui-rounded-tr-3xl");
 
-  CssClass dui_rounded_tr_full = () -> "dui-rounded-tr-full";
+  CssClass dui_rounded_tr_full = CssClass.of("dui-rounded-tr-full");
 
-  CssClass dui_rounded_br_none = () -> "dui-rounded-br-none";
+  CssClass dui_rounded_br_none = CssClass.of("dui-rounded-br-none");
 
-  CssClass dui_rounded_br_sm = () -> "dui-rounded-br-sm";
+  CssClass dui_rounded_br_sm = CssClass.of("dui-rounded-br-sm");
 
-  CssClass dui_rounded_br = () -> "dui-rounded-br";
+  CssClass dui_rounded_br = CssClass.of("dui-rounded-br");
 
-  CssClass dui_rounded_br_md = () -> "dui-rounded-br-md";
+  CssClass dui_rounded_br_md = CssClass.of("dui-rounded-br-md");
 
-  CssClass dui_rounded_br_lg = () -> "dui-rounded-br-lg";
+  CssClass dui_rounded_br_lg = CssClass.of("dui-rounded-br-lg");
 
-  CssClass dui_rounded_br_xl = () -> "dui-rounded-br-xl";
+  CssClass dui_rounded_br_xl = CssClass.of("dui-rounded-br-xl");
 
-  CssClass dui_rounded_br_2xl = () -> "dui-rounded-br-2xl";
+  CssClass dui_rounded_br_2xl = CssClass.of("dui-rounded-br-2xl");
 
-  CssClass dui_rounded_br_3xl = () -> "dui-rounded-br-3xl";
+  CssClass dui_rounded_br_3xl = CssClass.of("dui-rounded-br-3xl");
 
-  CssClass dui_rounded_br_full = () -> "dui-rounded-br-full";
+  CssClass dui_rounded_br_full = CssClass.of("dui-rounded-br-full");
 
-  CssClass dui_rounded_bl_none = () -> "dui-rounded-bl-none";
+  CssClass dui_rounded_bl_none = CssClass.of("dui-rounded-bl-none");
 
-  CssClass dui_rounded_bl_sm = () -> "dui-rounded-bl-sm";
+  CssClass dui_rounded_bl_sm = CssClass.of("dui-rounded-bl-sm");
 
-  CssClass dui_rounded_bl = () -> "dui-rounded-bl";
+  CssClass dui_rounded_bl = CssClass.of("dui-rounded-bl");
 
-  CssClass dui_rounded_bl_md = () -> "dui-rounded-bl-md";
+  CssClass dui_rounded_bl_md = CssClass.of("dui-rounded-bl-md");
 
-  CssClass dui_rounded_bl_lg = () -> "dui-rounded-bl-lg";
+  CssClass dui_rounded_bl_lg = CssClass.of("dui-rounded-bl-lg");
 
-  CssClass dui_rounded_bl_xl = () -> "dui-rounded-bl-xl";
+  CssClass dui_rounded_bl_xl = CssClass.of("dui-rounded-bl-xl");
 
-  CssClass dui_rounded_bl_2xl = () -> "dui-rounded-bl-2xl";
+  CssClass dui_rounded_bl_2xl = CssClass.of("dui-rounded-bl-2xl");
 
-  CssClass dui_rounded_bl_3xl = () -> "dui-rounded-bl-3xl";
+  CssClass dui_rounded_bl_3xl = CssClass.of("dui-rounded-bl-3xl");
 
-  CssClass dui_rounded_bl_full = () -> "dui-rounded-bl-full";
+  CssClass dui_rounded_bl_full = CssClass.of("dui-rounded-bl-full");
 
-  CssClass dui_border_0 = () -> "dui-border-0";
+  CssClass dui_border_0 = CssClass.of("dui-border-0");
 
-  CssClass dui_border = () -> "dui-border";
+  CssClass dui_border = CssClass.of("dui-border");
 
-  CssClass dui_border_2px = () -> "dui-border-2px";
+  CssClass dui_border_2px = CssClass.of("dui-border-2px");
 
-  CssClass dui_border_4px = () -> "dui-border-4px";
+  CssClass dui_border_4px = CssClass.of("dui-border-4px");
 
-  CssClass dui_border_8px = () -> "dui-border-8px";
+  CssClass dui_border_8px = CssClass.of("dui-border-8px");
 
-  CssClass dui_border_9999px = () -> "dui-border-9999px";
+  CssClass dui_border_9999px = CssClass.of("dui-border-9999px");
 
-  CssClass dui_border_0_5 = () -> "dui-border-0_5";
+  CssClass dui_border_0_5 = CssClass.of("dui-border-0_5");
 
-  CssClass dui_border_1 = () -> "dui-border-1";
+  CssClass dui_border_1 = CssClass.of("dui-border-1");
 
-  CssClass dui_border_1_5 = () -> "dui-border-1_5";
+  CssClass dui_border_1_5 = CssClass.of("dui-border-1_5");
 
-  CssClass dui_border_2 = () -> "dui-border-2";
+  CssClass dui_border_2 = CssClass.of("dui-border-2");
 
-  CssClass dui_border_2_5 = () -> "dui-border-2_5";
+  CssClass dui_border_2_5 = CssClass.of("dui-border-2_5");
 
-  CssClass dui_border_3 = () -> "dui-border-3";
+  CssClass dui_border_3 = CssClass.of("dui-border-3");
 
-  CssClass dui_border_3_5 = () -> "dui-border-3_5";
+  CssClass dui_border_3_5 = CssClass.of("dui-border-3_5");
 
-  CssClass dui_border_4 = () -> "dui-border-4";
+  CssClass dui_border_4 = CssClass.of("dui-border-4");
 
-  CssClass dui_border_5 = () -> "dui-border-5";
+  CssClass dui_border_5 = CssClass.of("dui-border-5");
 
-  CssClass dui_border_6 = () -> "dui-border-6";
+  CssClass dui_border_6 = CssClass.of("dui-border-6");
 
-  CssClass dui_border_7 = () -> "dui-border-7";
+  CssClass dui_border_7 = CssClass.of("dui-border-7");
 
-  CssClass dui_border_8 = () -> "dui-border-8";
+  CssClass dui_border_8 = CssClass.of("dui-border-8");
 
-  CssClass dui_border_9 = () -> "dui-border-9";
+  CssClass dui_border_9 = CssClass.of("dui-border-9");
 
-  CssClass dui_border_10 = () -> "dui-border-10";
+  CssClass dui_border_10 = CssClass.of("dui-border-10");
 
-  CssClass dui_border_11 = () -> "dui-border-11";
+  CssClass dui_border_11 = CssClass.of("dui-border-11");
 
-  CssClass dui_border_12 = () -> "dui-border-12";
+  CssClass dui_border_12 = CssClass.of("dui-border-12");
 
-  CssClass dui_border_14 = () -> "dui-border-14";
+  CssClass dui_border_14 = CssClass.of("dui-border-14");
 
-  CssClass dui_border_16 = () -> "dui-border-16";
+  CssClass dui_border_16 = CssClass.of("dui-border-16");
 
-  CssClass dui_border_20 = () -> "dui-border-20";
+  CssClass dui_border_20 = CssClass.of("dui-border-20");
 
-  CssClass dui_border_24 = () -> "dui-border-24";
+  CssClass dui_border_24 = CssClass.of("dui-border-24");
 
-  CssClass dui_border_28 = () -> "dui-border-28";
+  CssClass dui_border_28 = CssClass.of("dui-border-28");
 
-  CssClass dui_border_32 = () -> "dui-border-32";
+  CssClass dui_border_32 = CssClass.of("dui-border-32");
 
-  CssClass dui_border_36 = () -> "dui-border-36";
+  CssClass dui_border_36 = CssClass.of("dui-border-36");
 
-  CssClass dui_border_40 = () -> "dui-border-40";
+  CssClass dui_border_40 = CssClass.of("dui-border-40");
 
-  CssClass dui_border_44 = () -> "dui-border-44";
+  CssClass dui_border_44 = CssClass.of("dui-border-44");
 
-  CssClass dui_border_48 = () -> "dui-border-48";
+  CssClass dui_border_48 = CssClass.of("dui-border-48");
 
-  CssClass dui_border_52 = () -> "dui-border-52";
+  CssClass dui_border_52 = CssClass.of("dui-border-52");
 
-  CssClass dui_border_56 = () -> "dui-border-56";
+  CssClass dui_border_56 = CssClass.of("dui-border-56");
 
-  CssClass dui_border_60 = () -> "dui-border-60";
+  CssClass dui_border_60 = CssClass.of("dui-border-60");
 
-  CssClass dui_border_64 = () -> "dui-border-64";
+  CssClass dui_border_64 = CssClass.of("dui-border-64");
 
-  CssClass dui_border_72 = () -> "dui-border-72";
+  CssClass dui_border_72 = CssClass.of("dui-border-72");
 
-  CssClass dui_border_80 = () -> "dui-border-80";
+  CssClass dui_border_80 = CssClass.of("dui-border-80");
 
-  CssClass dui_border_96 = () -> "dui-border-96";
+  CssClass dui_border_96 = CssClass.of("dui-border-96");
 
-  CssClass dui_border_x_0 = () -> "dui-border-x-0";
+  CssClass dui_border_x_0 = CssClass.of("dui-border-x-0");
 
-  CssClass dui_border_x = () -> "dui-border-x";
+  CssClass dui_border_x = CssClass.of("dui-border-x");
 
-  CssClass dui_border_x_2px = () -> "dui-border-x-2px";
+  CssClass dui_border_x_2px = CssClass.of("dui-border-x-2px");
 
-  CssClass dui_border_x_4px = () -> "dui-border-x-4px";
+  CssClass dui_border_x_4px = CssClass.of("dui-border-x-4px");
 
-  CssClass dui_border_x_8px = () -> "dui-border-x-8px";
+  CssClass dui_border_x_8px = CssClass.of("dui-border-x-8px");
 
-  CssClass dui_border_x_9999px = () -> "dui-border-x-9999px";
+  CssClass dui_border_x_9999px = CssClass.of("dui-border-x-9999px");
 
-  CssClass dui_border_x_0_5 = () -> "dui-border-x-0_5";
+  CssClass dui_border_x_0_5 = CssClass.of("dui-border-x-0_5");
 
-  CssClass dui_border_x_1 = () -> "dui-border-x-1";
+  CssClass dui_border_x_1 = CssClass.of("dui-border-x-1");
 
-  CssClass dui_border_x_1_5 = () -> "dui-border-x-1_5";
+  CssClass dui_border_x_1_5 = CssClass.of("dui-border-x-1_5");
 
-  CssClass dui_border_x_2 = () -> "dui-border-x-2";
+  CssClass dui_border_x_2 = CssClass.of("dui-border-x-2");
 
-  CssClass dui_border_x_2_5 = () -> "dui-border-x-2_5";
+  CssClass dui_border_x_2_5 = CssClass.of("dui-border-x-2_5");
 
-  CssClass dui_border_x_3 = () -> "dui-border-x-3";
+  CssClass dui_border_x_3 = CssClass.of("dui-border-x-3");
 
-  CssClass dui_border_x_3_5 = () -> "dui-border-x-3_5";
+  CssClass dui_border_x_3_5 = CssClass.of("dui-border-x-3_5");
 
-  CssClass dui_border_x_4 = () -> "dui-border-x-4";
+  CssClass dui_border_x_4 = CssClass.of("dui-border-x-4");
 
-  CssClass dui_border_x_5 = () -> "dui-border-x-5";
+  CssClass dui_border_x_5 = CssClass.of("dui-border-x-5");
 
-  CssClass dui_border_x_6 = () -> "dui-border-x-6";
+  CssClass dui_border_x_6 = CssClass.of("dui-border-x-6");
 
-  CssClass dui_border_x_7 = () -> "dui-border-x-7";
+  CssClass dui_border_x_7 = CssClass.of("dui-border-x-7");
 
-  CssClass dui_border_x_8 = () -> "dui-border-x-8";
+  CssClass dui_border_x_8 = CssClass.of("dui-border-x-8");
 
-  CssClass dui_border_x_9 = () -> "dui-border-x-9";
+  CssClass dui_border_x_9 = CssClass.of("dui-border-x-9");
 
-  CssClass dui_border_x_10 = () -> "dui-border-x-10";
+  CssClass dui_border_x_10 = CssClass.of("dui-border-x-10");
 
-  CssClass dui_border_x_11 = () -> "dui-border-x-11";
+  CssClass dui_border_x_11 = CssClass.of("dui-border-x-11");
 
-  CssClass dui_border_x_12 = () -> "dui-border-x-12";
+  CssClass dui_border_x_12 = CssClass.of("dui-border-x-12");
 
-  CssClass dui_border_x_14 = () -> "dui-border-x-14";
+  CssClass dui_border_x_14 = CssClass.of("dui-border-x-14");
 
-  CssClass dui_border_x_16 = () -> "dui-border-x-16";
+  CssClass dui_border_x_16 = CssClass.of("dui-border-x-16");
 
-  CssClass dui_border_x_20 = () -> "dui-border-x-20";
+  CssClass dui_border_x_20 = CssClass.of("dui-border-x-20");
 
-  CssClass dui_border_x_24 = () -> "dui-border-x-24";
+  CssClass dui_border_x_24 = CssClass.of("dui-border-x-24");
 
-  CssClass dui_border_x_28 = () -> "dui-border-x-28";
+  CssClass dui_border_x_28 = CssClass.of("dui-border-x-28");
 
-  CssClass dui_border_x_32 = () -> "dui-border-x-32";
+  CssClass dui_border_x_32 = CssClass.of("dui-border-x-32");
 
-  CssClass dui_border_x_36 = () -> "dui-border-x-36";
+  CssClass dui_border_x_36 = CssClass.of("dui-border-x-36");
 
-  CssClass dui_border_x_40 = () -> "dui-border-x-40";
+  CssClass dui_border_x_40 = CssClass.of("dui-border-x-40");
 
-  CssClass dui_border_x_44 = () -> "dui-border-x-44";
+  CssClass dui_border_x_44 = CssClass.of("dui-border-x-44");
 
-  CssClass dui_border_x_48 = () -> "dui-border-x-48";
+  CssClass dui_border_x_48 = CssClass.of("dui-border-x-48");
 
-  CssClass dui_border_x_52 = () -> "dui-border-x-52";
+  CssClass dui_border_x_52 = CssClass.of("dui-border-x-52");
 
-  CssClass dui_border_x_56 = () -> "dui-border-x-56";
+  CssClass dui_border_x_56 = CssClass.of("dui-border-x-56");
 
-  CssClass dui_border_x_60 = () -> "dui-border-x-60";
+  CssClass dui_border_x_60 = CssClass.of("dui-border-x-60");
 
-  CssClass dui_border_x_64 = () -> "dui-border-x-64";
+  CssClass dui_border_x_64 = CssClass.of("dui-border-x-64");
 
-  CssClass dui_border_x_72 = () -> "dui-border-x-72";
+  CssClass dui_border_x_72 = CssClass.of("dui-border-x-72");
 
-  CssClass dui_border_x_80 = () -> "dui-border-x-80";
+  CssClass dui_border_x_80 = CssClass.of("dui-border-x-80");
 
-  CssClass dui_border_x_96 = () -> "dui-border-x-96";
+  CssClass dui_border_x_96 = CssClass.of("dui-border-x-96");
 
-  CssClass dui_border_y_0 = () -> "dui-border-y-0";
+  CssClass dui_border_y_0 = CssClass.of("dui-border-y-0");
 
-  CssClass dui_border_y = () -> "dui-border-y";
+  CssClass dui_border_y = CssClass.of("dui-border-y");
 
-  CssClass dui_border_y_2px = () -> "dui-border-y-2px";
+  CssClass dui_border_y_2px = CssClass.of("dui-border-y-2px");
 
-  CssClass dui_border_y_4px = () -> "dui-border-y-4px";
+  CssClass dui_border_y_4px = CssClass.of("dui-border-y-4px");
 
-  CssClass dui_border_y_8px = () -> "dui-border-y-8px";
+  CssClass dui_border_y_8px = CssClass.of("dui-border-y-8px");
 
-  CssClass dui_border_y_9999px = () -> "dui-border-y-9999px";
+  CssClass dui_border_y_9999px = CssClass.of("dui-border-y-9999px");
 
-  CssClass dui_border_y_0_5 = () -> "dui-border-y-0_5";
+  CssClass dui_border_y_0_5 = CssClass.of("dui-border-y-0_5");
 
-  CssClass dui_border_y_1 = () -> "dui-border-y-1";
+  CssClass dui_border_y_1 = CssClass.of("dui-border-y-1");
 
-  CssClass dui_border_y_1_5 = () -> "dui-border-y-1_5";
+  CssClass dui_border_y_1_5 = CssClass.of("dui-border-y-1_5");
 
-  CssClass dui_border_y_2 = () -> "dui-border-y-2";
+  CssClass dui_border_y_2 = CssClass.of("dui-border-y-2");
 
-  CssClass dui_border_y_2_5 = () -> "dui-border-y-2_5";
+  CssClass dui_border_y_2_5 = CssClass.of("dui-border-y-2_5");
 
-  CssClass dui_border_y_3 = () -> "dui-border-y-3";
+  CssClass dui_border_y_3 = CssClass.of("dui-border-y-3");
 
-  CssClass dui_border_y_3_5 = () -> "dui-border-y-3_5";
+  CssClass dui_border_y_3_5 = CssClass.of("dui-border-y-3_5");
 
-  CssClass dui_border_y_4 = () -> "dui-border-y-4";
+  CssClass dui_border_y_4 = CssClass.of("dui-border-y-4");
 
-  CssClass dui_border_y_5 = () -> "dui-border-y-5";
+  CssClass dui_border_y_5 = CssClass.of("dui-border-y-5");
 
-  CssClass dui_border_y_6 = () -> "dui-border-y-6";
+  CssClass dui_border_y_6 = CssClass.of("dui-border-y-6");
 
-  CssClass dui_border_y_7 = () -> "dui-border-y-7";
+  CssClass dui_border_y_7 = CssClass.of("dui-border-y-7");
 
-  CssClass dui_border_y_8 = () -> "dui-border-y-8";
+  CssClass dui_border_y_8 = CssClass.of("dui-border-y-8");
 
-  CssClass dui_border_y_9 = () -> "dui-border-y-9";
+  CssClass dui_border_y_9 = CssClass.of("dui-border-y-9");
 
-  CssClass dui_border_y_10 = () -> "dui-border-y-10";
+  CssClass dui_border_y_10 = CssClass.of("dui-border-y-10");
 
-  CssClass dui_border_y_11 = () -> "dui-border-y-11";
+  CssClass dui_border_y_11 = CssClass.of("dui-border-y-11");
 
-  CssClass dui_border_y_12 = () -> "dui-border-y-12";
+  CssClass dui_border_y_12 = CssClass.of("dui-border-y-12");
 
-  CssClass dui_border_y_14 = () -> "dui-border-y-14";
+  CssClass dui_border_y_14 = CssClass.of("dui-border-y-14");
 
-  CssClass dui_border_y_16 = () -> "dui-border-y-16";
+  CssClass dui_border_y_16 = CssClass.of("dui-border-y-16");
 
-  CssClass dui_border_y_20 = () -> "dui-border-y-20";
+  CssClass dui_border_y_20 = CssClass.of("dui-border-y-20");
 
-  CssClass dui_border_y_24 = () -> "dui-border-y-24";
+  CssClass dui_border_y_24 = CssClass.of("dui-border-y-24");
 
-  CssClass dui_border_y_28 = () -> "dui-border-y-28";
+  CssClass dui_border_y_28 = CssClass.of("dui-border-y-28");
 
-  CssClass dui_border_y_32 = () -> "dui-border-y-32";
+  CssClass dui_border_y_32 = CssClass.of("dui-border-y-32");
 
-  CssClass dui_border_y_36 = () -> "dui-border-y-36";
+  CssClass dui_border_y_36 = CssClass.of("dui-border-y-36");
 
-  CssClass dui_border_y_40 = () -> "dui-border-y-40";
+  CssClass dui_border_y_40 = CssClass.of("dui-border-y-40");
 
-  CssClass dui_border_y_44 = () -> "dui-border-y-44";
+  CssClass dui_border_y_44 = CssClass.of("dui-border-y-44");
 
-  CssClass dui_border_y_48 = () -> "dui-border-y-48";
+  CssClass dui_border_y_48 = CssClass.of("dui-border-y-48");
 
-  CssClass dui_border_y_52 = () -> "dui-border-y-52";
+  CssClass dui_border_y_52 = CssClass.of("dui-border-y-52");
 
-  CssClass dui_border_y_56 = () -> "dui-border-y-56";
+  CssClass dui_border_y_56 = CssClass.of("dui-border-y-56");
 
-  CssClass dui_border_y_60 = () -> "dui-border-y-60";
+  CssClass dui_border_y_60 = CssClass.of("dui-border-y-60");
 
-  CssClass dui_border_y_64 = () -> "dui-border-y-64";
+  CssClass dui_border_y_64 = CssClass.of("dui-border-y-64");
 
-  CssClass dui_border_y_72 = () -> "dui-border-y-72";
+  CssClass dui_border_y_72 = CssClass.of("dui-border-y-72");
 
-  CssClass dui_border_y_80 = () -> "dui-border-y-80";
+  CssClass dui_border_y_80 = CssClass.of("dui-border-y-80");
 
-  CssClass dui_border_y_96 = () -> "dui-border-y-96";
+  CssClass dui_border_y_96 = CssClass.of("dui-border-y-96");
 
-  CssClass dui_border_t_0 = () -> "dui-border-t-0";
+  CssClass dui_border_t_0 = CssClass.of("dui-border-t-0");
 
-  CssClass dui_border_t = () -> "dui-border-t";
+  CssClass dui_border_t = CssClass.of("dui-border-t");
 
-  CssClass dui_border_t_2px = () -> "dui-border-t-2px";
+  CssClass dui_border_t_2px = CssClass.of("dui-border-t-2px");
 
-  CssClass dui_border_t_4px = () -> "dui-border-t-4px";
+  CssClass dui_border_t_4px = CssClass.of("dui-border-t-4px");
 
-  CssClass dui_border_t_8px = () -> "dui-border-t-8px";
+  CssClass dui_border_t_8px = CssClass.of("dui-border-t-8px");
 
-  CssClass dui_border_t_9999px = () -> "dui-border-t-9999px";
+  CssClass dui_border_t_9999px = CssClass.of("dui-border-t-9999px");
 
-  CssClass dui_border_t_0_5 = () -> "dui-border-t-0_5";
+  CssClass dui_border_t_0_5 = CssClass.of("dui-border-t-0_5");
 
-  CssClass dui_border_t_1 = () -> "dui-border-t-1";
+  CssClass dui_border_t_1 = CssClass.of("dui-border-t-1");
 
-  CssClass dui_border_t_1_5 = () -> "dui-border-t-1_5";
+  CssClass dui_border_t_1_5 = CssClass.of("dui-border-t-1_5");
 
-  CssClass dui_border_t_2 = () -> "dui-border-t-2";
+  CssClass dui_border_t_2 = CssClass.of("dui-border-t-2");
 
-  CssClass dui_border_t_2_5 = () -> "dui-border-t-2_5";
+  CssClass dui_border_t_2_5 = CssClass.of("dui-border-t-2_5");
 
-  CssClass dui_border_t_3 = () -> "dui-border-t-3";
+  CssClass dui_border_t_3 = CssClass.of("dui-border-t-3");
 
-  CssClass dui_border_t_3_5 = () -> "dui-border-t-3_5";
+  CssClass dui_border_t_3_5 = CssClass.of("dui-border-t-3_5");
 
-  CssClass dui_border_t_4 = () -> "dui-border-t-4";
+  CssClass dui_border_t_4 = CssClass.of("dui-border-t-4");
 
-  CssClass dui_border_t_5 = () -> "dui-border-t-5";
+  CssClass dui_border_t_5 = CssClass.of("dui-border-t-5");
 
-  CssClass dui_border_t_6 = () -> "dui-border-t-6";
+  CssClass dui_border_t_6 = CssClass.of("dui-border-t-6");
 
-  CssClass dui_border_t_7 = () -> "dui-border-t-7";
+  CssClass dui_border_t_7 = CssClass.of("dui-border-t-7");
 
-  CssClass dui_border_t_8 = () -> "dui-border-t-8";
+  CssClass dui_border_t_8 = CssClass.of("dui-border-t-8");
 
-  CssClass dui_border_t_9 = () -> "dui-border-t-9";
+  CssClass dui_border_t_9 = CssClass.of("dui-border-t-9");
 
-  CssClass dui_border_t_10 = () -> "dui-border-t-10";
+  CssClass dui_border_t_10 = CssClass.of("dui-border-t-10");
 
-  CssClass dui_border_t_11 = () -> "dui-border-t-11";
+  CssClass dui_border_t_11 = CssClass.of("dui-border-t-11");
 
-  CssClass dui_border_t_12 = () -> "dui-border-t-12";
+  CssClass dui_border_t_12 = CssClass.of("dui-border-t-12");
 
-  CssClass dui_border_t_14 = () -> "dui-border-t-14";
+  CssClass dui_border_t_14 = CssClass.of("dui-border-t-14");
 
-  CssClass dui_border_t_16 = () -> "dui-border-t-16";
+  CssClass dui_border_t_16 = CssClass.of("dui-border-t-16");
 
-  CssClass dui_border_t_20 = () -> "dui-border-t-20";
+  CssClass dui_border_t_20 = CssClass.of("dui-border-t-20");
 
-  CssClass dui_border_t_24 = () -> "dui-border-t-24";
+  CssClass dui_border_t_24 = CssClass.of("dui-border-t-24");
 
-  CssClass dui_border_t_28 = () -> "dui-border-t-28";
+  CssClass dui_border_t_28 = CssClass.of("dui-border-t-28");
 
-  CssClass dui_border_t_32 = () -> "dui-border-t-32";
+  CssClass dui_border_t_32 = CssClass.of("dui-border-t-32");
 
-  CssClass dui_border_t_36 = () -> "dui-border-t-36";
+  CssClass dui_border_t_36 = CssClass.of("dui-border-t-36");
 
-  CssClass dui_border_t_40 = () -> "dui-border-t-40";
+  CssClass dui_border_t_40 = CssClass.of("dui-border-t-40");
 
-  CssClass dui_border_t_44 = () -> "dui-border-t-44";
+  CssClass dui_border_t_44 = CssClass.of("dui-border-t-44");
 
-  CssClass dui_border_t_48 = () -> "dui-border-t-48";
+  CssClass dui_border_t_48 = CssClass.of("dui-border-t-48");
 
-  CssClass dui_border_t_52 = () -> "dui-border-t-52";
+  CssClass dui_border_t_52 = CssClass.of("dui-border-t-52");
 
-  CssClass dui_border_t_56 = () -> "dui-border-t-56";
+  CssClass dui_border_t_56 = CssClass.of("dui-border-t-56");
 
-  CssClass dui_border_t_60 = () -> "dui-border-t-60";
+  CssClass dui_border_t_60 = CssClass.of("dui-border-t-60");
 
-  CssClass dui_border_t_64 = () -> "dui-border-t-64";
+  CssClass dui_border_t_64 = CssClass.of("dui-border-t-64");
 
-  CssClass dui_border_t_72 = () -> "dui-border-t-72";
+  CssClass dui_border_t_72 = CssClass.of("dui-border-t-72");
 
-  CssClass dui_border_t_80 = () -> "dui-border-t-80";
+  CssClass dui_border_t_80 = CssClass.of("dui-border-t-80");
 
-  CssClass dui_border_t_96 = () -> "dui-border-t-96";
+  CssClass dui_border_t_96 = CssClass.of("dui-border-t-96");
 
-  CssClass dui_border_r_0 = () -> "dui-border-r-0";
+  CssClass dui_border_r_0 = CssClass.of("dui-border-r-0");
 
-  CssClass dui_border_r = () -> "dui-border-r";
+  CssClass dui_border_r = CssClass.of("dui-border-r");
 
-  CssClass dui_border_r_2px = () -> "dui-border-r-2px";
+  CssClass dui_border_r_2px = CssClass.of("dui-border-r-2px");
 
-  CssClass dui_border_r_4px = () -> "dui-border-r-4px";
+  CssClass dui_border_r_4px = CssClass.of("dui-border-r-4px");
 
-  CssClass dui_border_r_8px = () -> "dui-border-r-8px";
+  CssClass dui_border_r_8px = CssClass.of("dui-border-r-8px");
 
-  CssClass dui_border_r_9999px = () -> "dui-border-r-9999px";
+  CssClass dui_border_r_9999px = CssClass.of("dui-border-r-9999px");
 
-  CssClass dui_border_r_0_5 = () -> "dui-border-r-0_5";
+  CssClass dui_border_r_0_5 = CssClass.of("dui-border-r-0_5");
 
-  CssClass dui_border_r_1 = () -> "dui-border-r-1";
+  CssClass dui_border_r_1 = CssClass.of("dui-border-r-1");
 
-  CssClass dui_border_r_1_5 = () -> "dui-border-r-1_5";
+  CssClass dui_border_r_1_5 = CssClass.of("dui-border-r-1_5");
 
-  CssClass dui_border_r_2 = () -> "dui-border-r-2";
+  CssClass dui_border_r_2 = CssClass.of("dui-border-r-2");
 
-  CssClass dui_border_r_2_5 = () -> "dui-border-r-2_5";
+  CssClass dui_border_r_2_5 = CssClass.of("dui-border-r-2_5");
 
-  CssClass dui_border_r_3 = () -> "dui-border-r-3";
+  CssClass dui_border_r_3 = CssClass.of("dui-border-r-3");
 
-  CssClass dui_border_r_3_5 = () -> "dui-border-r-3_5";
+  CssClass dui_border_r_3_5 = CssClass.of("dui-border-r-3_5");
 
-  CssClass dui_border_r_4 = () -> "dui-border-r-4";
+  CssClass dui_border_r_4 = CssClass.of("dui-border-r-4");
 
-  CssClass dui_border_r_5 = () -> "dui-border-r-5";
+  CssClass dui_border_r_5 = CssClass.of("dui-border-r-5");
 
-  CssClass dui_border_r_6 = () -> "dui-border-r-6";
+  CssClass dui_border_r_6 = CssClass.of("dui-border-r-6");
 
-  CssClass dui_border_r_7 = () -> "dui-border-r-7";
+  CssClass dui_border_r_7 = CssClass.of("dui-border-r-7");
 
-  CssClass dui_border_r_8 = () -> "dui-border-r-8";
+  CssClass dui_border_r_8 = CssClass.of("dui-border-r-8");
 
-  CssClass dui_border_r_9 = () -> "dui-border-r-9";
+  CssClass dui_border_r_9 = CssClass.of("dui-border-r-9");
 
-  CssClass dui_border_r_10 = () -> "dui-border-r-10";
+  CssClass dui_border_r_10 = CssClass.of("dui-border-r-10");
 
-  CssClass dui_border_r_11 = () -> "dui-border-r-11";
+  CssClass dui_border_r_11 = CssClass.of("dui-border-r-11");
 
-  CssClass dui_border_r_12 = () -> "dui-border-r-12";
+  CssClass dui_border_r_12 = CssClass.of("dui-border-r-12");
 
-  CssClass dui_border_r_14 = () -> "dui-border-r-14";
+  CssClass dui_border_r_14 = CssClass.of("dui-border-r-14");
 
-  CssClass dui_border_r_16 = () -> "dui-border-r-16";
+  CssClass dui_border_r_16 = CssClass.of("dui-border-r-16");
 
-  CssClass dui_border_r_20 = () -> "dui-border-r-20";
+  CssClass dui_border_r_20 = CssClass.of("dui-border-r-20");
 
-  CssClass dui_border_r_24 = () -> "dui-border-r-24";
+  CssClass dui_border_r_24 = CssClass.of("dui-border-r-24");
 
-  CssClass dui_border_r_28 = () -> "dui-border-r-28";
+  CssClass dui_border_r_28 = CssClass.of("dui-border-r-28");
 
-  CssClass dui_border_r_32 = () -> "dui-border-r-32";
+  CssClass dui_border_r_32 = CssClass.of("dui-border-r-32");
 
-  CssClass dui_border_r_36 = () -> "dui-border-r-36";
+  CssClass dui_border_r_36 = CssClass.of("dui-border-r-36");
 
-  CssClass dui_border_r_40 = () -> "dui-border-r-40";
+  CssClass dui_border_r_40 = CssClass.of("dui-border-r-40");
 
-  CssClass dui_border_r_44 = () -> "dui-border-r-44";
+  CssClass dui_border_r_44 = CssClass.of("dui-border-r-44");
 
-  CssClass dui_border_r_48 = () -> "dui-border-r-48";
+  CssClass dui_border_r_48 = CssClass.of("dui-border-r-48");
 
-  CssClass dui_border_r_52 = () -> "dui-border-r-52";
+  CssClass dui_border_r_52 = CssClass.of("dui-border-r-52");
 
-  CssClass dui_border_r_56 = () -> "dui-border-r-56";
+  CssClass dui_border_r_56 = CssClass.of("dui-border-r-56");
 
-  CssClass dui_border_r_60 = () -> "dui-border-r-60";
+  CssClass dui_border_r_60 = CssClass.of("dui-border-r-60");
 
-  CssClass dui_border_r_64 = () -> "dui-border-r-64";
+  CssClass dui_border_r_64 = CssClass.of("dui-border-r-64");
 
-  CssClass dui_border_r_72 = () -> "dui-border-r-72";
+  CssClass dui_border_r_72 = CssClass.of("dui-border-r-72");
 
-  CssClass dui_border_r_80 = () -> "dui-border-r-80";
+  CssClass dui_border_r_80 = CssClass.of("dui-border-r-80");
 
-  CssClass dui_border_r_96 = () -> "dui-border-r-96";
+  CssClass dui_border_r_96 = CssClass.of("dui-border-r-96");
 
-  CssClass dui_border_b_0 = () -> "dui-border-b-0";
+  CssClass dui_border_b_0 = CssClass.of("dui-border-b-0");
 
-  CssClass dui_border_b = () -> "dui-border-b";
+  CssClass dui_border_b = CssClass.of("dui-border-b");
 
-  CssClass dui_border_b_2px = () -> "dui-border-b-2px";
+  CssClass dui_border_b_2px = CssClass.of("dui-border-b-2px");
 
-  CssClass dui_border_b_4px = () -> "dui-border-b-4px";
+  CssClass dui_border_b_4px = CssClass.of("dui-border-b-4px");
 
-  CssClass dui_border_b_8px = () -> "dui-border-b-8px";
+  CssClass dui_border_b_8px = CssClass.of("dui-border-b-8px");
 
-  CssClass dui_border_b_9999px = () -> "dui-border-b-9999px";
+  CssClass dui_border_b_9999px = CssClass.of("dui-border-b-9999px");
 
-  CssClass dui_border_b_0_5 = () -> "dui-border-b-0_5";
+  CssClass dui_border_b_0_5 = CssClass.of("dui-border-b-0_5");
 
-  CssClass dui_border_b_1 = () -> "dui-border-b-1";
+  CssClass dui_border_b_1 = CssClass.of("dui-border-b-1");
 
-  CssClass dui_border_b_1_5 = () -> "dui-border-b-1_5";
+  CssClass dui_border_b_1_5 = CssClass.of("dui-border-b-1_5");
 
-  CssClass dui_border_b_2 = () -> "dui-border-b-2";
+  CssClass dui_border_b_2 = CssClass.of("dui-border-b-2");
 
-  CssClass dui_border_b_2_5 = () -> "dui-border-b-2_5";
+  CssClass dui_border_b_2_5 = CssClass.of("dui-border-b-2_5");
 
-  CssClass dui_border_b_3 = () -> "dui-border-b-3";
+  CssClass dui_border_b_3 = CssClass.of("dui-border-b-3");
 
-  CssClass dui_border_b_3_5 = () -> "dui-border-b-3_5";
+  CssClass dui_border_b_3_5 = CssClass.of("dui-border-b-3_5");
 
-  CssClass dui_border_b_4 = () -> "dui-border-b-4";
+  CssClass dui_border_b_4 = CssClass.of("dui-border-b-4");
 
-  CssClass dui_border_b_5 = () -> "dui-border-b-5";
+  CssClass dui_border_b_5 = CssClass.of("dui-border-b-5");
 
-  CssClass dui_border_b_6 = () -> "dui-border-b-6";
+  CssClass dui_border_b_6 = CssClass.of("dui-border-b-6");
 
-  CssClass dui_border_b_7 = () -> "dui-border-b-7";
+  CssClass dui_border_b_7 = CssClass.of("dui-border-b-7");
 
-  CssClass dui_border_b_8 = () -> "dui-border-b-8";
+  CssClass dui_border_b_8 = CssClass.of("dui-border-b-8");
 
-  CssClass dui_border_b_9 = () -> "dui-border-b-9";
+  CssClass dui_border_b_9 = CssClass.of("dui-border-b-9");
 
-  CssClass dui_border_b_10 = () -> "dui-border-b-10";
+  CssClass dui_border_b_10 = CssClass.of("dui-border-b-10");
 
-  CssClass dui_border_b_11 = () -> "dui-border-b-11";
+  CssClass dui_border_b_11 = CssClass.of("dui-border-b-11");
 
-  CssClass dui_border_b_12 = () -> "dui-border-b-12";
+  CssClass dui_border_b_12 = CssClass.of("dui-border-b-12");
 
-  CssClass dui_border_b_14 = () -> "dui-border-b-14";
+  CssClass dui_border_b_14 = CssClass.of("dui-border-b-14");
 
-  CssClass dui_border_b_16 = () -> "dui-border-b-16";
+  CssClass dui_border_b_16 = CssClass.of("dui-border-b-16");
 
-  CssClass dui_border_b_20 = () -> "dui-border-b-20";
+  CssClass dui_border_b_20 = CssClass.of("dui-border-b-20");
 
-  CssClass dui_border_b_24 = () -> "dui-border-b-24";
+  CssClass dui_border_b_24 = CssClass.of("dui-border-b-24");
 
-  CssClass dui_border_b_28 = () -> "dui-border-b-28";
+  CssClass dui_border_b_28 = CssClass.of("dui-border-b-28");
 
-  CssClass dui_border_b_32 = () -> "dui-border-b-32";
+  CssClass dui_border_b_32 = CssClass.of("dui-border-b-32");
 
-  CssClass dui_border_b_36 = () -> "dui-border-b-36";
+  CssClass dui_border_b_36 = CssClass.of("dui-border-b-36");
 
-  CssClass dui_border_b_40 = () -> "dui-border-b-40";
+  CssClass dui_border_b_40 = CssClass.of("dui-border-b-40");
 
-  CssClass dui_border_b_44 = () -> "dui-border-b-44";
+  CssClass dui_border_b_44 = CssClass.of("dui-border-b-44");
 
-  CssClass dui_border_b_48 = () -> "dui-border-b-48";
+  CssClass dui_border_b_48 = CssClass.of("dui-border-b-48");
 
-  CssClass dui_border_b_52 = () -> "dui-border-b-52";
+  CssClass dui_border_b_52 = CssClass.of("dui-border-b-52");
 
-  CssClass dui_border_b_56 = () -> "dui-border-b-56";
+  CssClass dui_border_b_56 = CssClass.of("dui-border-b-56");
 
-  CssClass dui_border_b_60 = () -> "dui-border-b-60";
+  CssClass dui_border_b_60 = CssClass.of("dui-border-b-60");
 
-  CssClass dui_border_b_64 = () -> "dui-border-b-64";
+  CssClass dui_border_b_64 = CssClass.of("dui-border-b-64");
 
-  CssClass dui_border_b_72 = () -> "dui-border-b-72";
+  CssClass dui_border_b_72 = CssClass.of("dui-border-b-72");
 
-  CssClass dui_border_b_80 = () -> "dui-border-b-80";
+  CssClass dui_border_b_80 = CssClass.of("dui-border-b-80");
 
-  CssClass dui_border_b_96 = () -> "dui-border-b-96";
+  CssClass dui_border_b_96 = CssClass.of("dui-border-b-96");
 
-  CssClass dui_border_l_0 = () -> "dui-border-l-0";
+  CssClass dui_border_l_0 = CssClass.of("dui-border-l-0");
 
-  CssClass dui_border_l = () -> "dui-border-l";
+  CssClass dui_border_l = CssClass.of("dui-border-l");
 
-  CssClass dui_border_l_2px = () -> "dui-border-l-2px";
+  CssClass dui_border_l_2px = CssClass.of("dui-border-l-2px");
 
-  CssClass dui_border_l_4px = () -> "dui-border-l-4px";
+  CssClass dui_border_l_4px = CssClass.of("dui-border-l-4px");
 
-  CssClass dui_border_l_8px = () -> "dui-border-l-8px";
+  CssClass dui_border_l_8px = CssClass.of("dui-border-l-8px");
 
-  CssClass dui_border_l_9999px = () -> "dui-border-l-9999px";
+  CssClass dui_border_l_9999px = CssClass.of("dui-border-l-9999px");
 
-  CssClass dui_border_l_0_5 = () -> "dui-border-l-0_5";
+  CssClass dui_border_l_0_5 = CssClass.of("dui-border-l-0_5");
 
-  CssClass dui_border_l_1 = () -> "dui-border-l-1";
+  CssClass dui_border_l_1 = CssClass.of("dui-border-l-1");
 
-  CssClass dui_border_l_1_5 = () -> "dui-border-l-1_5";
+  CssClass dui_border_l_1_5 = CssClass.of("dui-border-l-1_5");
 
-  CssClass dui_border_l_2 = () -> "dui-border-l-2";
+  CssClass dui_border_l_2 = CssClass.of("dui-border-l-2");
 
-  CssClass dui_border_l_2_5 = () -> "dui-border-l-2_5";
+  CssClass dui_border_l_2_5 = CssClass.of("dui-border-l-2_5");
 
-  CssClass dui_border_l_3 = () -> "dui-border-l-3";
+  CssClass dui_border_l_3 = CssClass.of("dui-border-l-3");
 
-  CssClass dui_border_l_3_5 = () -> "dui-border-l-3_5";
+  CssClass dui_border_l_3_5 = CssClass.of("dui-border-l-3_5");
 
-  CssClass dui_border_l_4 = () -> "dui-border-l-4";
+  CssClass dui_border_l_4 = CssClass.of("dui-border-l-4");
 
-  CssClass dui_border_l_5 = () -> "dui-border-l-5";
+  CssClass dui_border_l_5 = CssClass.of("dui-border-l-5");
 
-  CssClass dui_border_l_6 = () -> "dui-border-l-6";
+  CssClass dui_border_l_6 = CssClass.of("dui-border-l-6");
 
-  CssClass dui_border_l_7 = () -> "dui-border-l-7";
+  CssClass dui_border_l_7 = CssClass.of("dui-border-l-7");
 
-  CssClass dui_border_l_8 = () -> "dui-border-l-8";
+  CssClass dui_border_l_8 = CssClass.of("dui-border-l-8");
 
-  CssClass dui_border_l_9 = () -> "dui-border-l-9";
+  CssClass dui_border_l_9 = CssClass.of("dui-border-l-9");
 
-  CssClass dui_border_l_10 = () -> "dui-border-l-10";
+  CssClass dui_border_l_10 = CssClass.of("dui-border-l-10");
 
-  CssClass dui_border_l_11 = () -> "dui-border-l-11";
+  CssClass dui_border_l_11 = CssClass.of("dui-border-l-11");
 
-  CssClass dui_border_l_12 = () -> "dui-border-l-12";
+  CssClass dui_border_l_12 = CssClass.of("dui-border-l-12");
 
-  CssClass dui_border_l_14 = () -> "dui-border-l-14";
+  CssClass dui_border_l_14 = CssClass.of("dui-border-l-14");
 
-  CssClass dui_border_l_16 = () -> "dui-border-l-16";
+  CssClass dui_border_l_16 = CssClass.of("dui-border-l-16");
 
-  CssClass dui_border_l_20 = () -> "dui-border-l-20";
+  CssClass dui_border_l_20 = CssClass.of("dui-border-l-20");
 
-  CssClass dui_border_l_24 = () -> "dui-border-l-24";
+  CssClass dui_border_l_24 = CssClass.of("dui-border-l-24");
 
-  CssClass dui_border_l_28 = () -> "dui-border-l-28";
+  CssClass dui_border_l_28 = CssClass.of("dui-border-l-28");
 
-  CssClass dui_border_l_32 = () -> "dui-border-l-32";
+  CssClass dui_border_l_32 = CssClass.of("dui-border-l-32");
 
-  CssClass dui_border_l_36 = () -> "dui-border-l-36";
+  CssClass dui_border_l_36 = CssClass.of("dui-border-l-36");
 
-  CssClass dui_border_l_40 = () -> "dui-border-l-40";
+  CssClass dui_border_l_40 = CssClass.of("dui-border-l-40");
 
-  CssClass dui_border_l_44 = () -> "dui-border-l-44";
+  CssClass dui_border_l_44 = CssClass.of("dui-border-l-44");
 
-  CssClass dui_border_l_48 = () -> "dui-border-l-48";
+  CssClass dui_border_l_48 = CssClass.of("dui-border-l-48");
 
-  CssClass dui_border_l_52 = () -> "dui-border-l-52";
+  CssClass dui_border_l_52 = CssClass.of("dui-border-l-52");
 
-  CssClass dui_border_l_56 = () -> "dui-border-l-56";
+  CssClass dui_border_l_56 = CssClass.of("dui-border-l-56");
 
-  CssClass dui_border_l_60 = () -> "dui-border-l-60";
+  CssClass dui_border_l_60 = CssClass.of("dui-border-l-60");
 
-  CssClass dui_border_l_64 = () -> "dui-border-l-64";
+  CssClass dui_border_l_64 = CssClass.of("dui-border-l-64");
 
-  CssClass dui_border_l_72 = () -> "dui-border-l-72";
+  CssClass dui_border_l_72 = CssClass.of("dui-border-l-72");
 
-  CssClass dui_border_l_80 = () -> "dui-border-l-80";
+  CssClass dui_border_l_80 = CssClass.of("dui-border-l-80");
 
-  CssClass dui_border_l_96 = () -> "dui-border-l-96";
+  CssClass dui_border_l_96 = CssClass.of("dui-border-l-96");
 
-  CssClass dui_divide_x_0 = () -> "dui-divide-x-0";
+  CssClass dui_divide_x_0 = CssClass.of("dui-divide-x-0");
 
-  CssClass dui_divide_x_2 = () -> "dui-divide-x-2";
+  CssClass dui_divide_x_2 = CssClass.of("dui-divide-x-2");
 
-  CssClass dui_divide_x_4 = () -> "dui-divide-x-4";
+  CssClass dui_divide_x_4 = CssClass.of("dui-divide-x-4");
 
-  CssClass dui_divide_x_8 = () -> "dui-divide-x-8";
+  CssClass dui_divide_x_8 = CssClass.of("dui-divide-x-8");
 
-  CssClass dui_divide_x = () -> "dui-divide-x";
+  CssClass dui_divide_x = CssClass.of("dui-divide-x");
 
-  CssClass dui_divide_y_0 = () -> "dui-divide-y-0";
+  CssClass dui_divide_y_0 = CssClass.of("dui-divide-y-0");
 
-  CssClass dui_divide_y_2 = () -> "dui-divide-y-2";
+  CssClass dui_divide_y_2 = CssClass.of("dui-divide-y-2");
 
-  CssClass dui_divide_y_4 = () -> "dui-divide-y-4";
+  CssClass dui_divide_y_4 = CssClass.of("dui-divide-y-4");
 
-  CssClass dui_divide_y_8 = () -> "dui-divide-y-8";
+  CssClass dui_divide_y_8 = CssClass.of("dui-divide-y-8");
 
-  CssClass dui_divide_y = () -> "dui-divide-y";
+  CssClass dui_divide_y = CssClass.of("dui-divide-y");
 
-  CssClass dui_outline_0 = () -> "dui-outline-0";
+  CssClass dui_outline_0 = CssClass.of("dui-outline-0");
 
-  CssClass dui_outline_1 = () -> "dui-outline-1";
+  CssClass dui_outline_1 = CssClass.of("dui-outline-1");
 
-  CssClass dui_outline_2 = () -> "dui-outline-2";
+  CssClass dui_outline_2 = CssClass.of("dui-outline-2");
 
-  CssClass dui_outline_4 = () -> "dui-outline-4";
+  CssClass dui_outline_4 = CssClass.of("dui-outline-4");
 
-  CssClass dui_outline_8 = () -> "dui-outline-8";
+  CssClass dui_outline_8 = CssClass.of("dui-outline-8");
 
-  CssClass dui_outline_offset_0 = () -> "dui-outline-offset-0";
+  CssClass dui_outline_offset_0 = CssClass.of("dui-outline-offset-0");
 
-  CssClass dui_outline_offset_1 = () -> "dui-outline-offset-1";
+  CssClass dui_outline_offset_1 = CssClass.of("dui-outline-offset-1");
 
-  CssClass dui_outline_offset_2 = () -> "dui-outline-offset-2";
+  CssClass dui_outline_offset_2 = CssClass.of("dui-outline-offset-2");
 
-  CssClass dui_outline_offset_4 = () -> "dui-outline-offset-4";
+  CssClass dui_outline_offset_4 = CssClass.of("dui-outline-offset-4");
 
-  CssClass dui_outline_offset_8 = () -> "dui-outline-offset-8";
+  CssClass dui_outline_offset_8 = CssClass.of("dui-outline-offset-8");
 
-  CssClass dui_font_size_0 = () -> "dui-font-size-0";
+  CssClass dui_font_size_0 = CssClass.of("dui-font-size-0");
 
-  CssClass dui_font_size_px = () -> "dui-font-size-px";
+  CssClass dui_font_size_px = CssClass.of("dui-font-size-px");
 
-  CssClass dui_font_size_2px = () -> "dui-font-size-2px";
+  CssClass dui_font_size_2px = CssClass.of("dui-font-size-2px");
 
-  CssClass dui_font_size_4px = () -> "dui-font-size-4px";
+  CssClass dui_font_size_4px = CssClass.of("dui-font-size-4px");
 
-  CssClass dui_font_size_8px = () -> "dui-font-size-8px";
+  CssClass dui_font_size_8px = CssClass.of("dui-font-size-8px");
 
-  CssClass dui_font_size_0_5 = () -> "dui-font-size-0_5";
+  CssClass dui_font_size_0_5 = CssClass.of("dui-font-size-0_5");
 
-  CssClass dui_font_size_1 = () -> "dui-font-size-1";
+  CssClass dui_font_size_1 = CssClass.of("dui-font-size-1");
 
-  CssClass dui_font_size_1_5 = () -> "dui-font-size-1_5";
+  CssClass dui_font_size_1_5 = CssClass.of("dui-font-size-1_5");
 
-  CssClass dui_font_size_2 = () -> "dui-font-size-2";
+  CssClass dui_font_size_2 = CssClass.of("dui-font-size-2");
 
-  CssClass dui_font_size_2_5 = () -> "dui-font-size-2_5";
+  CssClass dui_font_size_2_5 = CssClass.of("dui-font-size-2_5");
 
-  CssClass dui_font_size_3 = () -> "dui-font-size-3";
+  CssClass dui_font_size_3 = CssClass.of("dui-font-size-3");
 
-  CssClass dui_font_size_3_5 = () -> "dui-font-size-3_5";
+  CssClass dui_font_size_3_5 = CssClass.of("dui-font-size-3_5");
 
-  CssClass dui_font_size_4 = () -> "dui-font-size-4";
+  CssClass dui_font_size_4 = CssClass.of("dui-font-size-4");
 
-  CssClass dui_font_size_5 = () -> "dui-font-size-5";
+  CssClass dui_font_size_5 = CssClass.of("dui-font-size-5");
 
-  CssClass dui_font_size_6 = () -> "dui-font-size-6";
+  CssClass dui_font_size_6 = CssClass.of("dui-font-size-6");
 
-  CssClass dui_font_size_7 = () -> "dui-font-size-7";
+  CssClass dui_font_size_7 = CssClass.of("dui-font-size-7");
 
-  CssClass dui_font_size_8 = () -> "dui-font-size-8";
+  CssClass dui_font_size_8 = CssClass.of("dui-font-size-8");
 
-  CssClass dui_font_size_9 = () -> "dui-font-size-9";
+  CssClass dui_font_size_9 = CssClass.of("dui-font-size-9");
 
-  CssClass dui_font_size_10 = () -> "dui-font-size-10";
+  CssClass dui_font_size_10 = CssClass.of("dui-font-size-10");
 
-  CssClass dui_font_size_11 = () -> "dui-font-size-11";
+  CssClass dui_font_size_11 = CssClass.of("dui-font-size-11");
 
-  CssClass dui_font_size_12 = () -> "dui-font-size-12";
+  CssClass dui_font_size_12 = CssClass.of("dui-font-size-12");
 
-  CssClass dui_font_size_14 = () -> "dui-font-size-14";
+  CssClass dui_font_size_14 = CssClass.of("dui-font-size-14");
 
-  CssClass dui_font_size_16 = () -> "dui-font-size-16";
+  CssClass dui_font_size_16 = CssClass.of("dui-font-size-16");
 
-  CssClass dui_font_size_20 = () -> "dui-font-size-20";
+  CssClass dui_font_size_20 = CssClass.of("dui-font-size-20");
 
-  CssClass dui_font_size_24 = () -> "dui-font-size-24";
+  CssClass dui_font_size_24 = CssClass.of("dui-font-size-24");
 
-  CssClass dui_font_size_28 = () -> "dui-font-size-28";
+  CssClass dui_font_size_28 = CssClass.of("dui-font-size-28");
 
-  CssClass dui_font_size_32 = () -> "dui-font-size-32";
+  CssClass dui_font_size_32 = CssClass.of("dui-font-size-32");
 
-  CssClass dui_font_size_36 = () -> "dui-font-size-36";
+  CssClass dui_font_size_36 = CssClass.of("dui-font-size-36");
 
-  CssClass dui_font_size_40 = () -> "dui-font-size-40";
+  CssClass dui_font_size_40 = CssClass.of("dui-font-size-40");
 
-  CssClass dui_font_size_44 = () -> "dui-font-size-44";
+  CssClass dui_font_size_44 = CssClass.of("dui-font-size-44");
 
-  CssClass dui_font_size_48 = () -> "dui-font-size-48";
+  CssClass dui_font_size_48 = CssClass.of("dui-font-size-48");
 
-  CssClass dui_font_size_52 = () -> "dui-font-size-52";
+  CssClass dui_font_size_52 = CssClass.of("dui-font-size-52");
 
-  CssClass dui_font_size_56 = () -> "dui-font-size-56";
+  CssClass dui_font_size_56 = CssClass.of("dui-font-size-56");
 
-  CssClass dui_font_size_60 = () -> "dui-font-size-60";
+  CssClass dui_font_size_60 = CssClass.of("dui-font-size-60");
 
-  CssClass dui_font_size_64 = () -> "dui-font-size-64";
+  CssClass dui_font_size_64 = CssClass.of("dui-font-size-64");
 
-  CssClass dui_font_size_72 = () -> "dui-font-size-72";
+  CssClass dui_font_size_72 = CssClass.of("dui-font-size-72");
 
-  CssClass dui_font_size_80 = () -> "dui-font-size-80";
+  CssClass dui_font_size_80 = CssClass.of("dui-font-size-80");
 
-  CssClass dui_font_size_96 = () -> "dui-font-size-96";
+  CssClass dui_font_size_96 = CssClass.of("dui-font-size-96");
 
-  CssClass dui_font_size_1_2p = () -> "dui-font-size-1_2p";
+  CssClass dui_font_size_1_2p = CssClass.of("dui-font-size-1_2p");
 
-  CssClass dui_font_size_1_3p = () -> "dui-font-size-1_3p";
+  CssClass dui_font_size_1_3p = CssClass.of("dui-font-size-1_3p");
 
-  CssClass dui_font_size_2_3p = () -> "dui-font-size-2_3p";
+  CssClass dui_font_size_2_3p = CssClass.of("dui-font-size-2_3p");
 
-  CssClass dui_font_size_1_4p = () -> "dui-font-size-1_4p";
+  CssClass dui_font_size_1_4p = CssClass.of("dui-font-size-1_4p");
 
-  CssClass dui_font_size_3_4p = () -> "dui-font-size-3_4p";
+  CssClass dui_font_size_3_4p = CssClass.of("dui-font-size-3_4p");
 
-  CssClass dui_font_size_full = () -> "dui-font-size-full";
+  CssClass dui_font_size_full = CssClass.of("dui-font-size-full");
 }
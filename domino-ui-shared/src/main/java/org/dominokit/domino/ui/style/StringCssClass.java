@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.style;
+
+/**
+ * A {@link CssClass} backed by a plain css class name string.
+ *
+ * <p>This is the cheapest form of a css class, it holds nothing but the name, and is used for the
+ * large sets of constants in {@link ColorsCss}, {@link SpacingCss} and {@link DisplayCss} instead
+ * of creating a lambda for each constant.
+ */
+public final class StringCssClass implements CssClass {
+
+  private final String cssClass;
+
+  /**
+   * Creates a css class for the specified name.
+   *
+   * @param cssClass The css class name.
+   */
+  public StringCssClass(String cssClass) {
+    this.cssClass = cssClass;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getCssClass() {
+    return cssClass;
+  }
+}
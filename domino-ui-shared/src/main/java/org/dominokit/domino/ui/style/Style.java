@@ -376,6 +376,18 @@ public class Style<E extends Element> implements DominoStyle<E, Style<E>> {
     return this;
   }
 
+  /**
+   * Applies a prepared {@link CssBatch} to the HTML element.
+   *
+   * @param batch The css batch to apply.
+   * @return This Style instance for method chaining.
+   */
+  @Override
+  public Style<E> applyCss(CssBatch batch) {
+    batch.apply(element);
+    return this;
+  }
+
   /**
    * Sets the CSS <b>border</b> property of the HTML element.
    *
@@ -42,6 +42,7 @@ import org.dominokit.domino.ui.style.GenericCss;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.ChildHandler;
 import org.dominokit.domino.ui.utils.SwipeUtil;
+import org.dominokit.domino.ui.utils.VisibilityScheduler;
 import org.gwtproject.core.client.Scheduler;
 import org.gwtproject.timer.client.Timer;
 
@@ -59,6 +60,7 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel>
   private final OListElement indicatorsElement;
   private final DivElement slidesElement;
   private boolean autoSlide = false;
+  private boolean visible = true;
 
   private final AnchorElement prevElement;
   private final AnchorElement nextElement;
@@ -121,6 +123,7 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel>
     init(this);
     addAttachListener();
     addDetachListener();
+    VisibilityScheduler.observe(this, this::onVisibilityChanged);
 
     addEventListener(
         EventType.wheel.getName(),
@@ -188,7 +191,20 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel>
   private void resetTimer() {
     if (autoSlide) {
       timer.cancel();
-      timer.scheduleRepeating(autoSlideDuration);
+      if (visible) {
+        timer.scheduleRepeating(autoSlideDuration);
+      }
+    }
+  }
+
+  private void onVisibilityChanged(boolean visible) {
+    this.visible = visible;
+    if (visible) {
+      if (autoSlide && attached && !timer.isRunning()) {
+        timer.scheduleRepeating(autoSlideDuration);
+      }
+    } else if (timer.isRunning()) {
+      timer.cancel();
     }
   }
 
@@ -204,7 +220,7 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel>
     onAttached(
         mutationRecord -> {
           this.attached = true;
-          if (autoSlide) {
+          if (autoSlide && visible) {
             timer.scheduleRepeating(autoSlideDuration);
           }
         });
@@ -342,7 +358,7 @@ public class Carousel extends BaseDominoElement<HTMLDivElement, Carousel>
   public Carousel startAutoSlide(int slideDuration) {
     this.autoSlide = true;
     this.autoSlideDuration = slideDuration;
-    if (attached) {
+    if (attached && visible) {
       timer.scheduleRepeating(slideDuration);
     }
 
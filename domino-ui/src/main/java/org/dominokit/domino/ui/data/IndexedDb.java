@@ -0,0 +1,130 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.data;
+
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Event;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+/** Minimal bindings for the IndexedDB API used by the {@link StoreCache}. */
+final class IndexedDb {
+
+  private IndexedDb() {}
+
+  /**
+   * @return true if the browser exposes the {@code indexedDB} factory.
+   */
+  static boolean isSupported() {
+    return Js.asPropertyMap(DomGlobal.window).has("indexedDB")
+        && nonNull(Js.asPropertyMap(DomGlobal.window).get("indexedDB"));
+  }
+
+  /**
+   * @return the browser {@code indexedDB} factory.
+   */
+  static Factory factory() {
+    return Js.uncheckedCast(Js.asPropertyMap(DomGlobal.window).get("indexedDB"));
+  }
+
+  @JsFunction
+  interface EventHandler {
+    void onEvent(Event evt);
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "IDBFactory")
+  interface Factory {
+    OpenRequest open(String name, double version);
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "IDBRequest")
+  interface Request {
+    @JsProperty
+    Object getResult();
+
+    @JsProperty
+    void setOnsuccess(EventHandler handler);
+
+    @JsProperty
+    void setOnerror(EventHandler handler);
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "IDBOpenDBRequest")
+  interface OpenRequest extends Request {
+    @JsProperty
+    void setOnupgradeneeded(EventHandler handler);
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "DOMStringList")
+  interface StringList {
+    boolean contains(String name);
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "IDBDatabase")
+  interface Database {
+    @JsProperty
+    StringList getObjectStoreNames();
+
+    ObjectStore createObjectStore(String name);
+
+    Transaction transaction(String[] storeNames, String mode);
+
+    void close();
+
+    @JsProperty
+    void setOnversionchange(EventHandler handler);
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "IDBTransaction")
+  interface Transaction {
+    ObjectStore objectStore(String name);
+
+    @JsProperty
+    void setOncomplete(EventHandler handler);
+
+    @JsProperty
+    void setOnabort(EventHandler handler);
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "IDBObjectStore")
+  interface ObjectStore {
+    Request get(String key);
+
+    Request put(Object value, String key);
+
+    Request delete(String key);
+
+    Request openCursor();
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "IDBCursorWithValue")
+  interface Cursor {
+    @JsProperty
+    Object getKey();
+
+    @JsProperty
+    Object getValue();
+
+    @JsMethod(name = "continue")
+    void continueCursor();
+  }
+}
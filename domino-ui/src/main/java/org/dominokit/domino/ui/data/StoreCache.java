@@ -0,0 +1,540 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.data;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.core.JsArray;
+import elemental2.core.JsDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * A persistent snapshot of a local store data kept in the browser IndexedDB, used to warm start
+ * stores like the {@code LocalListDataStore} and the {@code LocalSuggestionsStore} with the data
+ * from the previous visit while the fresh data is being loaded.
+ *
+ * <p>The records are persisted as strings using the provided encoder and decoder. Each snapshot is
+ * tagged with the version returned by the server, so the {@link Refresher} can tell if the data
+ * changed and return either the full data or only the changed records since that version.
+ *
+ * <p>Snapshots older than {@link #getMaxAge()} are ignored and removed, and when the total size of
+ * all the snapshots exceeds {@link #getMaxTotalSize()} the least recently used snapshots are
+ * evicted. When IndexedDB is not available the cache is a no-op and the refresher is always asked
+ * for the full data.
+ *
+ * <p>Usage example:
+ *
+ * <pre>
+ * StoreCache&lt;Country&gt; cache =
+ *     StoreCache.create("countries", Country::toJson, Country::fromJson)
+ *         .setKeyProvider(Country::getCode);
+ * localListDataStore.warmStart(
+ *     cache,
+ *     (cachedVersion, callback) -&gt;
+ *         countriesService.changesSince(
+ *             cachedVersion,
+ *             changes -&gt; callback.delta(changes.getUpdated(), changes.getRemoved(), changes.getVersion())));
+ * </pre>
+ *
+ * @param <T> The type of the cached records.
+ */
+public class StoreCache<T> {
+
+  private static final String DB_NAME = "dui-store-cache";
+  private static final int DB_VERSION = 1;
+  private static final String META = "meta";
+  private static final String DATA = "data";
+  private static final String READ_ONLY = "readonly";
+  private static final String READ_WRITE = "readwrite";
+
+  private static IndexedDb.Database database;
+  private static boolean unavailable = false;
+  private static final List<Consumer<IndexedDb.Database>> pendingOpen = new ArrayList<>();
+  private static double maxTotalSize = 20_000_000;
+
+  private final String key;
+  private final Function<T, String> encoder;
+  private final Function<String, T> decoder;
+  private Function<T, String> keyProvider;
+  private double maxAge = 7 * 24 * 60 * 60 * 1000d;
+  private List<T> current;
+
+  /**
+   * Creates a cache for the snapshot stored with the provided key.
+   *
+   * @param key The unique key of the snapshot.
+   * @param encoder A function to convert a record to a string.
+   * @param decoder A function to convert a string back to a record.
+   * @param <T> The type of the cached records.
+   * @return a new {@link StoreCache}.
+   */
+  public static <T> StoreCache<T> create(
+      String key, Function<T, String> encoder, Function<String, T> decoder) {
+    return new StoreCache<>(key, encoder, decoder);
+  }
+
+  /**
+   * Creates a cache for the snapshot stored with the provided key.
+   *
+   * @param key The unique key of the snapshot.
+   * @param encoder A function to convert a record to a string.
+   * @param decoder A function to convert a string back to a record.
+   */
+  public StoreCache(String key, Function<T, String> encoder, Function<String, T> decoder) {
+    this.key = key;
+    this.encoder = encoder;
+    this.decoder = decoder;
+  }
+
+  /**
+   * @return true if the browser supports IndexedDB.
+   */
+  public static boolean isSupported() {
+    return !unavailable && IndexedDb.isSupported();
+  }
+
+  /**
+   * @return the maximum size, in characters, of all the snapshots together.
+   */
+  public static double getMaxTotalSize() {
+    return maxTotalSize;
+  }
+
+  /**
+   * Sets the maximum size, in characters, of all the snapshots together, the least recently used
+   * snapshots are evicted when the limit is exceeded, defaults to 20 million characters.
+   *
+   * @param maxTotalSize The maximum size.
+   */
+  public static void setMaxTotalSize(double maxTotalSize) {
+    StoreCache.maxTotalSize = maxTotalSize;
+  }
+
+  /**
+   * @return the snapshot key.
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Sets the function that returns the unique key of a record, required to apply the delta
+   * refreshes.
+   *
+   * @param keyProvider The record key function.
+   * @return same cache instance
+   */
+  public StoreCache<T> setKeyProvider(Function<T, String> keyProvider) {
+    this.keyProvider = keyProvider;
+    return this;
+  }
+
+  /**
+   * @return the maximum age in milliseconds of a snapshot before it is ignored.
+   */
+  public double getMaxAge() {
+    return maxAge;
+  }
+
+  /**
+   * Sets the maximum age of the snapshot, older snapshots are ignored and removed, defaults to 7
+   * days.
+   *
+   * @param maxAge The maximum age in milliseconds.
+   * @return same cache instance
+   */
+  public StoreCache<T> setMaxAge(double maxAge) {
+    this.maxAge = maxAge;
+    return this;
+  }
+
+  /**
+   * Serves the cached snapshot, if any, to the data consumer immediately then asks the refresher to
+   * reconcile it with the server, the reconciled data is passed to the consumer again and saved as
+   * the new snapshot.
+   *
+   * @param dataConsumer The consumer receiving the cached then the refreshed data, usually the
+   *     store {@code setData}.
+   * @param refresher The refresher loading the fresh data.
+   */
+  public void warmStart(Consumer<List<T>> dataConsumer, Refresher<T> refresher) {
+    load(
+        (data, cachedVersion) -> {
+          if (nonNull(data)) {
+            current = data;
+            dataConsumer.accept(new ArrayList<>(data));
+          }
+          refresher.refresh(
+              cachedVersion,
+              new RefreshCallback<T>() {
+                @Override
+                public void unchanged() {
+                  if (nonNull(current)) {
+                    touch();
+                  }
+                }
+
+                @Override
+                public void replace(List<T> data, String version) {
+                  current = new ArrayList<>(data);
+                  dataConsumer.accept(new ArrayList<>(current));
+                  save(current, version);
+                }
+
+                @Override
+                public void delta(List<T> changed, Collection<String> removedKeys, String version) {
+                  if (isNull(keyProvider)) {
+                    throw new IllegalStateException(
+                        "A key provider is required to apply a delta refresh, consider setting a key provider for the cache");
+                  }
+                  current =
+                      merge(
+                          isNull(current) ? new ArrayList<>() : current,
+                          changed,
+                          removedKeys,
+                          keyProvider);
+                  dataConsumer.accept(new ArrayList<>(current));
+                  save(current, version);
+                }
+              });
+        });
+  }
+
+  /**
+   * Loads the cached snapshot, the listener receives {@code null} data when there is no valid
+   * snapshot.
+   *
+   * @param listener The listener receiving the cached data and version.
+   */
+  public void load(LoadListener<T> listener) {
+    withDatabase(
+        db -> {
+          if (isNull(db)) {
+            listener.onLoaded(null, null);
+            return;
+          }
+          try {
+            IndexedDb.Transaction transaction =
+                db.transaction(new String[] {META, DATA}, READ_ONLY);
+            IndexedDb.Request metaRequest = transaction.objectStore(META).get(key);
+            IndexedDb.Request dataRequest = transaction.objectStore(DATA).get(key);
+            transaction.setOnabort(evt -> listener.onLoaded(null, null));
+            transaction.setOncomplete(
+                evt -> {
+                  JsPropertyMap<Object> meta = Js.uncheckedCast(metaRequest.getResult());
+                  if (isNull(meta) || isNull(dataRequest.getResult())) {
+                    listener.onLoaded(null, null);
+                  } else if (JsDate.now() - meta.getAsAny("savedAt").asDouble() > maxAge) {
+                    remove();
+                    listener.onLoaded(null, null);
+                  } else {
+                    List<T> data = decode(Js.uncheckedCast(dataRequest.getResult()));
+                    if (isNull(data)) {
+                      remove();
+                      listener.onLoaded(null, null);
+                    } else {
+                      touch();
+                      listener.onLoaded(data, Js.uncheckedCast(meta.get("version")));
+                    }
+                  }
+                });
+          } catch (RuntimeException e) {
+            listener.onLoaded(null, null);
+          }
+        });
+  }
+
+  private List<T> decode(JsArray<String> items) {
+    try {
+      List<T> data = new ArrayList<>(items.length);
+      for (int i = 0; i < items.length; i++) {
+        data.add(decoder.apply(items.getAt(i)));
+      }
+      return data;
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Saves the data as the cached snapshot, data larger than {@link #getMaxTotalSize()} is not
+   * cached.
+   *
+   * @param data The data to cache.
+   * @param version The version of the data.
+   */
+  public void save(List<T> data, String version) {
+    JsArray<String> items = new JsArray<>();
+    double size = 0;
+    for (T record : data) {
+      String item = encoder.apply(record);
+      items.push(item);
+      size += item.length();
+    }
+    if (size > maxTotalSize) {
+      remove();
+      return;
+    }
+    double now = JsDate.now();
+    JsPropertyMap<Object> meta = JsPropertyMap.of("savedAt", now, "lastUsed", now, "size", size);
+    meta.set("maxAge", maxAge);
+    meta.set("version", version);
+    withDatabase(
+        db -> {
+          if (isNull(db)) {
+            return;
+          }
+          try {
+            IndexedDb.Transaction transaction =
+                db.transaction(new String[] {META, DATA}, READ_WRITE);
+            transaction.objectStore(META).put(meta, key);
+            transaction.objectStore(DATA).put(items, key);
+            transaction.setOncomplete(evt -> evict(db, key));
+          } catch (RuntimeException e) {
+            // the snapshot is only an optimization, failing to save it is not an error.
+          }
+        });
+  }
+
+  /** Removes the cached snapshot. */
+  public void remove() {
+    withDatabase(
+        db -> {
+          if (nonNull(db)) {
+            delete(db, key);
+          }
+        });
+  }
+
+  private void touch() {
+    withDatabase(
+        db -> {
+          if (isNull(db)) {
+            return;
+          }
+          try {
+            IndexedDb.ObjectStore metaStore =
+                db.transaction(new String[] {META}, READ_WRITE).objectStore(META);
+            IndexedDb.Request request = metaStore.get(key);
+            request.setOnsuccess(
+                evt -> {
+                  if (nonNull(request.getResult())) {
+                    JsPropertyMap<Object> meta = Js.uncheckedCast(request.getResult());
+                    meta.set("lastUsed", JsDate.now());
+                    metaStore.put(meta, key);
+                  }
+                });
+          } catch (RuntimeException e) {
+            // ignore, the last used time is only used for the eviction order.
+          }
+        });
+  }
+
+  private void evict(IndexedDb.Database db, String keep) {
+    try {
+      IndexedDb.Request request =
+          db.transaction(new String[] {META}, READ_ONLY).objectStore(META).openCursor();
+      List<JsPropertyMap<Object>> entries = new ArrayList<>();
+      request.setOnsuccess(
+          evt -> {
+            IndexedDb.Cursor cursor = Js.uncheckedCast(request.getResult());
+            if (nonNull(cursor)) {
+              JsPropertyMap<Object> entry = Js.uncheckedCast(cursor.getValue());
+              entry.set("key", cursor.getKey());
+              entries.add(entry);
+              cursor.continueCursor();
+            } else {
+              evict(db, keep, entries);
+            }
+          });
+    } catch (RuntimeException e) {
+      // ignore, eviction will be retried on the next save.
+    }
+  }
+
+  private void evict(IndexedDb.Database db, String keep, List<JsPropertyMap<Object>> entries) {
+    entries.sort(Comparator.comparingDouble(entry -> entry.getAsAny("lastUsed").asDouble()));
+    double total = 0;
+    for (JsPropertyMap<Object> entry : entries) {
+      total += entry.getAsAny("size").asDouble();
+    }
+    double now = JsDate.now();
+    Set<String> evicted = new HashSet<>();
+    for (JsPropertyMap<Object> entry : entries) {
+      String entryKey = Js.asString(entry.get("key"));
+      boolean expired =
+          now - entry.getAsAny("savedAt").asDouble() > entry.getAsAny("maxAge").asDouble();
+      if (!entryKey.equals(keep) && (expired || total > maxTotalSize)) {
+        total -= entry.getAsAny("size").asDouble();
+        evicted.add(entryKey);
+      }
+    }
+    evicted.forEach(entryKey -> delete(db, entryKey));
+  }
+
+  private static void delete(IndexedDb.Database db, String key) {
+    try {
+      IndexedDb.Transaction transaction = db.transaction(new String[] {META, DATA}, READ_WRITE);
+      transaction.objectStore(META).delete(key);
+      transaction.objectStore(DATA).delete(key);
+    } catch (RuntimeException e) {
+      // ignore, the entry will be evicted later.
+    }
+  }
+
+  /**
+   * Applies a delta to a list of records, records with a removed key are dropped, changed records
+   * replace the records with the same key in place and new records are appended.
+   */
+  static <T> List<T> merge(
+      List<T> base,
+      List<T> changed,
+      Collection<String> removedKeys,
+      Function<T, String> keyProvider) {
+    Map<String, T> merged = new LinkedHashMap<>();
+    base.forEach(record -> merged.put(keyProvider.apply(record), record));
+    if (nonNull(removedKeys)) {
+      removedKeys.forEach(merged::remove);
+    }
+    if (nonNull(changed)) {
+      changed.forEach(record -> merged.put(keyProvider.apply(record), record));
+    }
+    return new ArrayList<>(merged.values());
+  }
+
+  private static void withDatabase(Consumer<IndexedDb.Database> consumer) {
+    if (nonNull(database)) {
+      consumer.accept(database);
+      return;
+    }
+    if (!isSupported()) {
+      consumer.accept(null);
+      return;
+    }
+    pendingOpen.add(consumer);
+    if (pendingOpen.size() > 1) {
+      return;
+    }
+    try {
+      IndexedDb.OpenRequest request = IndexedDb.factory().open(DB_NAME, DB_VERSION);
+      request.setOnupgradeneeded(
+          evt -> {
+            IndexedDb.Database db = Js.uncheckedCast(request.getResult());
+            if (!db.getObjectStoreNames().contains(META)) {
+              db.createObjectStore(META);
+            }
+            if (!db.getObjectStoreNames().contains(DATA)) {
+              db.createObjectStore(DATA);
+            }
+          });
+      request.setOnsuccess(
+          evt -> {
+            IndexedDb.Database db = Js.uncheckedCast(request.getResult());
+            db.setOnversionchange(
+                versionChange -> {
+                  db.close();
+                  database = null;
+                });
+            database = db;
+            flushPending(db);
+          });
+      request.setOnerror(
+          evt -> {
+            evt.preventDefault();
+            unavailable = true;
+            flushPending(null);
+          });
+    } catch (RuntimeException e) {
+      unavailable = true;
+      flushPending(null);
+    }
+  }
+
+  private static void flushPending(IndexedDb.Database db) {
+    List<Consumer<IndexedDb.Database>> consumers = new ArrayList<>(pendingOpen);
+    pendingOpen.clear();
+    consumers.forEach(consumer -> consumer.accept(db));
+  }
+
+  /**
+   * Listener receiving the cached snapshot.
+   *
+   * @param <T> The type of the cached records.
+   */
+  @FunctionalInterface
+  public interface LoadListener<T> {
+    /**
+     * @param data The cached data, or {@code null} when there is no valid snapshot.
+     * @param version The version of the cached data, or {@code null} when there is no valid
+     *     snapshot.
+     */
+    void onLoaded(List<T> data, String version);
+  }
+
+  /**
+   * Loads the fresh data to reconcile with the cached snapshot.
+   *
+   * @param <T> The type of the cached records.
+   */
+  @FunctionalInterface
+  public interface Refresher<T> {
+    /**
+     * @param cachedVersion The version of the cached snapshot, or {@code null} when nothing is
+     *     cached and the full data is needed.
+     * @param callback The callback to report the refreshed data.
+     */
+    void refresh(String cachedVersion, RefreshCallback<T> callback);
+  }
+
+  /**
+   * Callback to report the result of a {@link Refresher}.
+   *
+   * @param <T> The type of the cached records.
+   */
+  public interface RefreshCallback<T> {
+    /** The cached snapshot is still up to date. */
+    void unchanged();
+
+    /**
+     * Replaces the whole data.
+     *
+     * @param data The fresh data.
+     * @param version The version of the fresh data.
+     */
+    void replace(List<T> data, String version);
+
+    /**
+     * Applies the changes since the cached version, requires a key provider.
+     *
+     * @param changed The added or updated records.
+     * @param removedKeys The keys of the removed records.
+     * @param version The version of the data after the changes.
+     */
+    void delta(List<T> changed, Collection<String> removedKeys, String version);
+  }
+}
@@ -23,6 +23,7 @@ import elemental2.dom.Element;
 import elemental2.dom.Node;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.elements.TableRowElement;
@@ -77,6 +78,8 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
   private ScreenMedia showOn;
   private ScreenMedia hideOn;
   private boolean drawTitle = true;
+  private ColumnValue<T, ?> columnValue;
+  private boolean deferred = false;
 
   private final List<ColumnShowHideListener> showHideListeners = new ArrayList<>();
   private final List<ColumnShowHideListener> permanentHideListeners = new ArrayList<>();
@@ -811,6 +814,63 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
     return Optional.ofNullable(sortKey).orElse(name);
   }
 
+  /**
+   * Checks if the cells of this column are rendered lazily.
+   *
+   * @return true if the column is deferred, false otherwise
+   */
+  public boolean isDeferred() {
+    return deferred;
+  }
+
+  /**
+   * Defers the rendering of the cells of this column, for columns with expensive renderers. The
+   * cells show a light placeholder when the row is drawn, and the renderer runs when the row gets
+   * near the viewport or when the browser is idle, in small time slices. Cells of a table drawn
+   * before it is attached are rendered once it is attached. Editable cells are always rendered
+   * immediately. The plugins {@code onAfterAddCell} is called once the real content is rendered.
+   *
+   * @param deferred true to defer the cells rendering
+   * @return the current instance for chaining
+   */
+  public ColumnConfig<T> setDeferred(boolean deferred) {
+    this.deferred = deferred;
+    return this;
+  }
+
+  /**
+   * Sets the typed value accessor of the column, the memoized values are used by the default cell
+   * renderer, the column based search filter and sorter, the summary and the export.
+   *
+   * @param columnValue the column value accessor
+   * @param <V> the type of the column value
+   * @return the current instance for chaining
+   */
+  public <V> ColumnConfig<T> setValue(ColumnValue<T, V> columnValue) {
+    this.columnValue = columnValue;
+    return this;
+  }
+
+  /**
+   * Sets the typed value accessor of the column, see {@link #setValue(ColumnValue)}.
+   *
+   * @param accessor the function extracting the column value from a record
+   * @param <V> the type of the column value
+   * @return the current instance for chaining
+   */
+  public <V> ColumnConfig<T> setValue(Function<? super T, V> accessor) {
+    return setValue(ColumnValue.<T, V>of(accessor));
+  }
+
+  /**
+   * Retrieves the typed value accessor of the column.
+   *
+   * @return an Optional containing the column value accessor if set, otherwise empty
+   */
+  public Optional<ColumnValue<T, ?>> getColumnValue() {
+    return Optional.ofNullable(columnValue);
+  }
+
   /**
    * Checks if the column is a utility column.
    *
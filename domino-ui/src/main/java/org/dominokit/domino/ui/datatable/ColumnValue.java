@@ -0,0 +1,218 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.core.JsWeakMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import jsinterop.base.Js;
+
+/**
+ * A typed value accessor for a {@link ColumnConfig}, extracting the column value from a record once
+ * and sharing it between the cell rendering, the stores filtering and sorting, the header filters,
+ * the summary and the export.
+ *
+ * <p>The extracted value, its formatted text and its comparable key are memoized per record and
+ * recomputed only after the record is invalidated, the {@link TableRow} invalidates its record when
+ * it is updated, records changed in place by other means should be invalidated with {@link
+ * #invalidate(Object)} or {@link #invalidateAll()}.
+ *
+ * <p>Usage example:
+ *
+ * <pre>
+ * ColumnConfig.&lt;Employee&gt;create("hireDate", "Hire date")
+ *     .setValue(
+ *         ColumnValue.of(Employee::getHireDate)
+ *             .setFormatter(date -&gt; dateFormat.format(date)));
+ * </pre>
+ *
+ * @param <T> The type of the table records.
+ * @param <V> The type of the column value.
+ */
+public class ColumnValue<T, V> {
+
+  private final Function<? super T, V> accessor;
+  private Function<? super V, String> formatter = String::valueOf;
+  private Function<? super V, ? extends Comparable<?>> comparableKey;
+  private JsWeakMap<Object, Entry<V>> cache = new JsWeakMap<>();
+
+  /**
+   * Creates a column value for the provided accessor.
+   *
+   * @param accessor The function extracting the column value from a record.
+   * @param <T> The type of the table records.
+   * @param <V> The type of the column value.
+   * @return a new {@link ColumnValue}.
+   */
+  public static <T, V> ColumnValue<T, V> of(Function<? super T, V> accessor) {
+    return new ColumnValue<>(accessor);
+  }
+
+  /**
+   * Creates a column value for the provided accessor.
+   *
+   * @param accessor The function extracting the column value from a record.
+   */
+  public ColumnValue(Function<? super T, V> accessor) {
+    this.accessor = accessor;
+  }
+
+  /**
+   * Sets the formatter converting the column value to the text displayed in the cell and used in
+   * the search and the export, defaults to {@link String#valueOf(Object)}, null values are always
+   * formatted as an empty string.
+   *
+   * @param formatter The value formatter.
+   * @return same instance
+   */
+  public ColumnValue<T, V> setFormatter(Function<? super V, String> formatter) {
+    this.formatter = formatter;
+    invalidateAll();
+    return this;
+  }
+
+  /**
+   * Sets the function returning the key used to sort the column, defaults to the value itself when
+   * it is {@link Comparable} or its formatted text otherwise.
+   *
+   * @param comparableKey The comparable key function.
+   * @return same instance
+   */
+  public ColumnValue<T, V> setComparableKey(
+      Function<? super V, ? extends Comparable<?>> comparableKey) {
+    this.comparableKey = comparableKey;
+    invalidateAll();
+    return this;
+  }
+
+  /**
+   * @param record The table record.
+   * @return the memoized column value of the record.
+   */
+  public V getValue(T record) {
+    return entry(record).value;
+  }
+
+  /**
+   * @param record The table record.
+   * @return the memoized formatted column value of the record.
+   */
+  public String format(T record) {
+    Entry<V> entry = entry(record);
+    if (isNull(entry.text)) {
+      entry.text = isNull(entry.value) ? "" : formatter.apply(entry.value);
+    }
+    return entry.text;
+  }
+
+  /**
+   * @param record The table record.
+   * @return the memoized sort key of the record.
+   */
+  public Comparable<?> getComparableKey(T record) {
+    Entry<V> entry = entry(record);
+    if (!entry.keyResolved) {
+      if (isNull(entry.value)) {
+        entry.key = null;
+      } else if (nonNull(comparableKey)) {
+        entry.key = comparableKey.apply(entry.value);
+      } else if (entry.value instanceof Comparable) {
+        entry.key = (Comparable<?>) entry.value;
+      } else {
+        entry.key = format(record);
+      }
+      entry.keyResolved = true;
+    }
+    return entry.key;
+  }
+
+  /**
+   * @return a comparator sorting the records by their comparable keys, null keys first.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Comparator<T> comparator() {
+    return (a, b) -> {
+      Comparable keyA = getComparableKey(a);
+      Comparable keyB = getComparableKey(b);
+      if (isNull(keyA)) {
+        return isNull(keyB) ? 0 : -1;
+      }
+      if (isNull(keyB)) {
+        return 1;
+      }
+      return keyA.compareTo(keyB);
+    };
+  }
+
+  /**
+   * @param records The table records.
+   * @return the memoized column values of the records in the same order.
+   */
+  public List<V> getValues(Collection<? extends T> records) {
+    List<V> values = new ArrayList<>(records.size());
+    records.forEach(record -> values.add(getValue(record)));
+    return values;
+  }
+
+  /**
+   * Drops the memoized values of a record, to be called when the record changes in place.
+   *
+   * @param record The changed record.
+   */
+  public void invalidate(T record) {
+    if (isCacheable(record)) {
+      cache.delete(record);
+    }
+  }
+
+  /** Drops the memoized values of all the records. */
+  public void invalidateAll() {
+    cache = new JsWeakMap<>();
+  }
+
+  private Entry<V> entry(T record) {
+    if (!isCacheable(record)) {
+      return new Entry<>(accessor.apply(record));
+    }
+    Entry<V> entry = cache.get(record);
+    if (isNull(entry)) {
+      entry = new Entry<>(accessor.apply(record));
+      cache.set(record, entry);
+    }
+    return entry;
+  }
+
+  private static boolean isCacheable(Object record) {
+    return nonNull(record) && "object".equals(Js.typeof(record));
+  }
+
+  private static class Entry<V> {
+    private final V value;
+    private String text;
+    private Comparable<?> key;
+    private boolean keyResolved;
+
+    private Entry(V value) {
+      this.value = value;
+    }
+  }
+}
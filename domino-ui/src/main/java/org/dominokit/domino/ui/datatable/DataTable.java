@@ -15,6 +15,7 @@
  */
 package org.dominokit.domino.ui.datatable;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.div;
 import static org.dominokit.domino.ui.utils.Domino.table;
@@ -22,6 +23,7 @@ import static org.dominokit.domino.ui.utils.Domino.tbody;
 import static org.dominokit.domino.ui.utils.Domino.tfoot;
 import static org.dominokit.domino.ui.utils.Domino.thead;
 
+import elemental2.core.JsDate;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.EventListener;
 import elemental2.dom.HTMLDivElement;
@@ -47,7 +49,10 @@ import org.dominokit.domino.ui.elements.TBodyElement;
 import org.dominokit.domino.ui.elements.TFootElement;
 import org.dominokit.domino.ui.elements.THeadElement;
 import org.dominokit.domino.ui.elements.TableElement;
+import org.dominokit.domino.ui.events.EventOptions;
 import org.dominokit.domino.ui.events.EventType;
+import org.dominokit.domino.ui.loaders.Loader;
+import org.dominokit.domino.ui.loaders.LoaderEffect;
 import org.dominokit.domino.ui.style.BooleanCssClass;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.ChildHandler;
@@ -56,6 +61,7 @@ import org.dominokit.domino.ui.utils.DominoEvents;
 import org.dominokit.domino.ui.utils.DynamicStyleSheet;
 import org.dominokit.domino.ui.utils.HasSelectionListeners;
 import org.dominokit.domino.ui.utils.HasSelectionSupport;
+import org.dominokit.domino.ui.utils.PerformanceTracer;
 
 /**
  * Represents a flexible and feature-rich data table for displaying and interacting with data. The
@@ -107,6 +113,11 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
       };
 
   private DynamicStyleSheet<HTMLDivElement, DataTable<T>> dynamicStyleSheet;
+  private int scrollFrame = -1;
+  private RowsRendering rowsRendering;
+  private Loader rowsLoader;
+  private int lastScrollTop;
+  private int lastScrollLeft;
   private Set<SelectionListener<? super TableRow<T>, ? super List<TableRow<T>>>>
       selectionListeners = new HashSet<>();
   private Set<SelectionListener<? super TableRow<T>, ? super List<TableRow<T>>>>
@@ -130,13 +141,7 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
           tableElement.setAttribute("dui-data-h-scroll", 0);
           this.addEventListener(EventType.keydown.getName(), disableKeyboardListener, true);
           tableElement.addEventListener(
-              "scroll",
-              evt -> {
-                double scrollTop = new Double(tableElement.element().scrollTop).intValue();
-                double scrollLeft = new Double(tableElement.element().scrollLeft).intValue();
-                tableElement.setAttribute("dui-data-v-scroll", scrollTop);
-                tableElement.setAttribute("dui-data-h-scroll", scrollLeft);
-              });
+              "scroll", evt -> scheduleScrollUpdate(), EventOptions.of().setPassive(true));
           this.dataStore.onDataChanged(
               dataChangedEvent -> {
                 fireTableEvent(
@@ -155,8 +160,16 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
                 } else {
                   setData(dataChangedEvent.getNewData());
                 }
-                fireTableEvent(
-                    new TableDataUpdatedEvent<>(this.data, dataChangedEvent.getTotalCount()));
+                Runnable dataUpdated =
+                    () ->
+                        fireTableEvent(
+                            new TableDataUpdatedEvent<>(
+                                this.data, dataChangedEvent.getTotalCount()));
+                if (nonNull(rowsRendering)) {
+                  rowsRendering.onComplete = dataUpdated;
+                } else {
+                  dataUpdated.run();
+                }
               });
 
           initDynamicStyleSheet();
@@ -282,6 +295,7 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    * @return the current DataTable instance
    */
   public DataTable<T> setData(List<T> data) {
+    cancelRowsRendering();
     this.data = data;
     tableRows.clear();
     removeRecordsHandler.removeRows(this);
@@ -291,6 +305,30 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     return this;
   }
 
+  /**
+   * Coalesces scroll events into a single frame and only touches the scroll attributes when the
+   * scroll position actually changed, so scrolling does not invalidate styles on every event.
+   */
+  private void scheduleScrollUpdate() {
+    if (scrollFrame < 0) {
+      scrollFrame =
+          DomGlobal.requestAnimationFrame(
+              timestamp -> {
+                scrollFrame = -1;
+                int scrollTop = new Double(tableElement.element().scrollTop).intValue();
+                int scrollLeft = new Double(tableElement.element().scrollLeft).intValue();
+                if (scrollTop != lastScrollTop) {
+                  lastScrollTop = scrollTop;
+                  tableElement.setAttribute("dui-data-v-scroll", scrollTop);
+                }
+                if (scrollLeft != lastScrollLeft) {
+                  lastScrollLeft = scrollLeft;
+                  tableElement.setAttribute("dui-data-h-scroll", scrollLeft);
+                }
+              });
+    }
+  }
+
   /**
    * Appends the provided data to the existing data in the table.
    *
@@ -308,23 +346,63 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
   }
 
   /**
-   * Adds rows to the data table based on the provided data and starting index.
+   * Adds rows to the data table based on the provided data and starting index, when the chunked
+   * rendering is enabled the rows are queued to the pending {@link RowsRendering}.
    *
    * @param data the list of data to be added as rows
    * @param initialIndex the starting index for the new rows
    */
   private void addRows(List<T> data, int initialIndex) {
+    if (tableConfig.isChunkedRendering()) {
+      if (nonNull(rowsRendering)) {
+        rowsRendering.records.addAll(data);
+      } else {
+        tableConfig.getColumns().forEach(ColumnConfig::clearShowHideListeners);
+        rowsRendering = new RowsRendering(new ArrayList<>(data), initialIndex);
+        rowsRendering.renderSlice();
+      }
+      return;
+    }
+    PerformanceTracer.Trace trace = PerformanceTracer.start(PerformanceTracer.TRACE_ADD_ROWS);
     tableConfig.getColumns().forEach(ColumnConfig::clearShowHideListeners);
 
     for (int index = 0; index < data.size(); index++) {
-      TableRow<T> tableRow = new TableRow<>(data.get(index), initialIndex + index, this);
-      tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(DataTable.this, tableRow));
-
-      tableConfig.drawRecord(DataTable.this, tableRow);
-      tableRows.add(tableRow);
+      drawRow(data.get(index), initialIndex + index);
     }
+    PerformanceTracer.count(PerformanceTracer.ROWS_DRAWN, data.size());
+    onAllRowsAdded();
+    trace.end();
+  }
+
+  private void drawRow(T record, int index) {
+    TableRow<T> tableRow = new TableRow<>(record, index, this);
+    tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(DataTable.this, tableRow));
 
+    tableConfig.drawRecord(DataTable.this, tableRow);
+    tableRows.add(tableRow);
+  }
+
+  private void onAllRowsAdded() {
+    PerformanceTracer.Trace pluginsTrace =
+        PerformanceTracer.start(PerformanceTracer.TRACE_PLUGINS_ROWS_ADDED);
     tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+    pluginsTrace.end();
+  }
+
+  private void cancelRowsRendering() {
+    if (nonNull(rowsRendering)) {
+      rowsRendering.release();
+    }
+  }
+
+  /**
+   * Checks if rows are still being drawn in chunks, see {@link
+   * TableConfig#setChunkedRendering(boolean)}.
+   *
+   * @return true if some rows are not drawn yet.
+   */
+  public boolean isRenderingRows() {
+    return nonNull(rowsRendering);
   }
 
   /**
@@ -1003,4 +1081,67 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
      */
     void removeRows(DataTable<T> table);
   }
+
+  /**
+   * Draws the rows in time-sliced chunks, yielding to the browser between the chunks with a {@link
+   * SliceScheduler}.
+   */
+  private class RowsRendering {
+    private final List<T> records;
+    private final int initialIndex;
+    private int next = 0;
+    private final SliceScheduler scheduler = new SliceScheduler();
+    private Runnable onComplete = () -> {};
+
+    private RowsRendering(List<T> records, int initialIndex) {
+      this.records = records;
+      this.initialIndex = initialIndex;
+    }
+
+    private void renderSlice() {
+      PerformanceTracer.Trace trace = PerformanceTracer.start(PerformanceTracer.TRACE_ADD_ROWS);
+      double start = JsDate.now();
+      int drawn = 0;
+      while (next < records.size()
+          && (drawn == 0 || JsDate.now() - start < tableConfig.getRenderingSliceBudget())) {
+        drawRow(records.get(next), initialIndex + next);
+        next++;
+        drawn++;
+      }
+      PerformanceTracer.count(PerformanceTracer.ROWS_DRAWN, drawn);
+      if (next < records.size()) {
+        showProgress();
+        scheduler.schedule(this::renderSlice);
+      } else {
+        release();
+        onAllRowsAdded();
+        onComplete.run();
+      }
+      trace.end();
+    }
+
+    private void showProgress() {
+      if (isNull(rowsLoader)) {
+        rowsLoader = Loader.create(DataTable.this, LoaderEffect.PROGRESS_BAR);
+      }
+      rowsLoader.setLoadingText((next * 100 / records.size()) + "%");
+      if (!rowsLoader.isStarted()) {
+        rowsLoader.start();
+      }
+    }
+
+    private void stopProgress() {
+      if (nonNull(rowsLoader)) {
+        rowsLoader.stop();
+      }
+    }
+
+    private void release() {
+      if (rowsRendering == this) {
+        rowsRendering = null;
+      }
+      scheduler.cancel();
+      stopProgress();
+    }
+  }
 }
@@ -43,6 +43,8 @@ public interface DataTableStyles {
 
   CssClass dui_datatable_td = () -> "dui-datatable-td";
 
+  CssClass dui_datatable_td_deferred = () -> "dui-datatable-td-deferred";
+
   CssClass dui_datatable_thead = () -> "dui-datatable-thead";
 
   CssClass dui_datatable_sticky_header = () -> "dui-datatable-sticky-header";
@@ -0,0 +1,186 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.core.JsDate;
+import elemental2.core.JsWeakMap;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.IdleCallbackOptions;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jsinterop.base.Js;
+import org.dominokit.domino.ui.utils.IntersectionObserver;
+import org.dominokit.domino.ui.utils.IntersectionObserverEntry;
+import org.dominokit.domino.ui.utils.IntersectionObserverOptions;
+import org.dominokit.domino.ui.utils.MutationObserverCallback;
+import org.gwtproject.timer.client.Timer;
+
+/**
+ * Renders the cells of the deferred columns, see {@link ColumnConfig#setDeferred(boolean)}, when
+ * their row gets near the viewport, using one {@link IntersectionObserver} shared by all the
+ * tables, or during the browser idle time in small batches, whichever comes first.
+ *
+ * <p>Rows found outside the document, like rows of a table drawn before it is attached or later
+ * moved out of the document, stay pending and are only referenced weakly until they are attached
+ * again, so rows that are really removed are dropped with their cells.
+ */
+class DeferredCells {
+
+  private static final double SLICE_BUDGET = 8;
+  private static final int IDLE_TIMEOUT = 1000;
+
+  private static final Map<Element, List<RowCell<?>>> pendingRows = new LinkedHashMap<>();
+  private static final JsWeakMap<Element, List<RowCell<?>>> detachedRows = new JsWeakMap<>();
+  private static IntersectionObserver intersectionObserver;
+  private static boolean observerInitialized = false;
+  private static int idleHandle = -1;
+  private static Timer fallbackTimer;
+
+  private DeferredCells() {}
+
+  /**
+   * Schedules the rendering of a deferred cell.
+   *
+   * @param cell The cell to render.
+   */
+  static void schedule(RowCell<?> cell) {
+    Element row = cell.getTableRow().element();
+    List<RowCell<?>> cells = pendingRows.get(row);
+    if (isNull(cells) && detachedRows.has(row)) {
+      detachedRows.get(row).add(cell);
+      return;
+    }
+    if (isNull(cells)) {
+      cells = new ArrayList<>();
+      pendingRows.put(row, cells);
+      IntersectionObserver observer = getObserver();
+      if (nonNull(observer)) {
+        observer.observe(row);
+      }
+    }
+    cells.add(cell);
+    scheduleIdle();
+  }
+
+  private static IntersectionObserver getObserver() {
+    if (!observerInitialized) {
+      observerInitialized = true;
+      if (Js.asPropertyMap(DomGlobal.window).has("IntersectionObserver")) {
+        IntersectionObserverOptions options = IntersectionObserverOptions.create();
+        options.rootMargin = "200px 0px";
+        intersectionObserver =
+            new IntersectionObserver(
+                entries -> {
+                  for (IntersectionObserverEntry entry : entries.asList()) {
+                    if (entry.getIsIntersecting()) {
+                      renderRow(entry.getTarget());
+                    }
+                  }
+                },
+                options);
+      }
+    }
+    return intersectionObserver;
+  }
+
+  private static void renderRow(Element row) {
+    List<RowCell<?>> cells = pendingRows.remove(row);
+    if (nonNull(intersectionObserver)) {
+      intersectionObserver.unobserve(row);
+    }
+    if (nonNull(cells)) {
+      cells.forEach(RowCell::renderDeferred);
+    }
+  }
+
+  private static void scheduleIdle() {
+    if (idleHandle >= 0 || (nonNull(fallbackTimer) && fallbackTimer.isRunning())) {
+      return;
+    }
+    if (Js.asPropertyMap(DomGlobal.window).has("requestIdleCallback")) {
+      IdleCallbackOptions options = IdleCallbackOptions.create();
+      options.setTimeout(IDLE_TIMEOUT);
+      idleHandle =
+          DomGlobal.requestIdleCallback(
+              deadline -> {
+                idleHandle = -1;
+                double remaining = deadline.timeRemaining();
+                renderSlice(deadline.isDidTimeout() ? SLICE_BUDGET : Math.max(1, remaining - 1));
+              },
+              options);
+    } else {
+      if (isNull(fallbackTimer)) {
+        fallbackTimer =
+            new Timer() {
+              @Override
+              public void run() {
+                renderSlice(SLICE_BUDGET);
+              }
+            };
+      }
+      fallbackTimer.schedule(50);
+    }
+  }
+
+  private static void renderSlice(double budget) {
+    double start = JsDate.now();
+    Iterator<Element> rows = pendingRows.keySet().iterator();
+    List<Element> rendered = new ArrayList<>();
+    while (rows.hasNext() && JsDate.now() - start < budget) {
+      Element row = rows.next();
+      rendered.add(row);
+      List<RowCell<?>> cells = pendingRows.get(row);
+      if (DomGlobal.document.documentElement.contains(row)) {
+        cells.forEach(RowCell::renderDeferred);
+      } else {
+        waitForAttach(row, cells);
+      }
+    }
+    rendered.forEach(
+        row -> {
+          pendingRows.remove(row);
+          if (nonNull(intersectionObserver)) {
+            intersectionObserver.unobserve(row);
+          }
+        });
+    if (!pendingRows.isEmpty()) {
+      scheduleIdle();
+    }
+  }
+
+  private static void waitForAttach(Element row, List<RowCell<?>> cells) {
+    detachedRows.set(row, cells);
+    cells
+        .get(0)
+        .getTableRow()
+        .onAttached(
+            MutationObserverCallback.doOnce(
+                mutationRecord -> {
+                  List<RowCell<?>> attachedCells = detachedRows.get(row);
+                  detachedRows.delete(row);
+                  if (nonNull(attachedCells)) {
+                    attachedCells.forEach(DeferredCells::schedule);
+                  }
+                }));
+  }
+}
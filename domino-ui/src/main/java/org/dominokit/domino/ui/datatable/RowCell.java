@@ -17,10 +17,12 @@
 package org.dominokit.domino.ui.datatable;
 
 import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.DataTableStyles.dui_datatable_td_deferred;
 import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
 
 import elemental2.dom.HTMLTableCellElement;
 import java.util.Optional;
+import org.dominokit.domino.ui.utils.PerformanceTracer;
 
 /**
  * The {@code RowCell} class represents a cell within a data table row. It encapsulates the cell's
@@ -35,6 +37,9 @@ public class RowCell<T>
   /** The column configuration associated with this cell. */
   private final ColumnConfig<T> columnConfig;
 
+  private boolean deferredPending = false;
+  private Runnable afterDeferredRender;
+
   /**
    * Constructs a new {@code RowCell} with the given cell information and column configuration.
    *
@@ -48,7 +53,10 @@ public class RowCell<T>
 
   @Override
   public RowCellRenderer<T> getDefaultCellRenderer() {
-    return cellInfo -> elements.text();
+    return cell ->
+        getColumnConfig()
+            .flatMap(ColumnConfig::getColumnValue)
+            .ifPresent(value -> cell.appendChild(elements.text(value.format(cell.getRecord()))));
   }
 
   /**
@@ -78,19 +86,64 @@ public class RowCell<T>
                 columnConfig.getHeadElement().addCss(columnConfig.getHeaderTextAlign());
               }
 
-              if (getCellInfo().getTableRow().isEditable()) {
-                if (nonNull(columnConfig.getEditableCellRenderer())) {
-                  columnConfig.getEditableCellRenderer().render(this);
-                } else {
-                  getDefaultCellRenderer().render(this);
+              if (columnConfig.isDeferred() && !getCellInfo().getTableRow().isEditable()) {
+                addCss(dui_datatable_td_deferred);
+                if (!deferredPending) {
+                  deferredPending = true;
+                  DeferredCells.schedule(this);
                 }
               } else {
-                if (nonNull(columnConfig.getCellRenderer())) {
-                  columnConfig.getCellRenderer().render(this);
-                } else {
-                  getDefaultCellRenderer().render(this);
-                }
+                deferredPending = false;
+                removeCss(dui_datatable_td_deferred);
+                renderContent(columnConfig);
               }
             });
   }
+
+  /** Renders the real content of a deferred cell still showing its placeholder. */
+  void renderDeferred() {
+    if (deferredPending) {
+      deferredPending = false;
+      removeCss(dui_datatable_td_deferred);
+      getColumnConfig().ifPresent(this::renderContent);
+      if (nonNull(afterDeferredRender)) {
+        Runnable callback = afterDeferredRender;
+        afterDeferredRender = null;
+        callback.run();
+      }
+    }
+  }
+
+  /**
+   * Runs the callback once the real content of the pending deferred cell is rendered.
+   *
+   * @param callback The callback to run.
+   */
+  void afterDeferredRender(Runnable callback) {
+    this.afterDeferredRender = callback;
+  }
+
+  /**
+   * @return true if the cell belongs to a deferred column and still shows its placeholder.
+   */
+  public boolean isDeferredPending() {
+    return deferredPending;
+  }
+
+  private void renderContent(ColumnConfig<T> columnConfig) {
+    PerformanceTracer.count(PerformanceTracer.CELLS_RENDERED);
+    if (getCellInfo().getTableRow().isEditable()) {
+      if (nonNull(columnConfig.getEditableCellRenderer())) {
+        columnConfig.getEditableCellRenderer().render(this);
+      } else {
+        getDefaultCellRenderer().render(this);
+      }
+    } else {
+      if (nonNull(columnConfig.getCellRenderer())) {
+        columnConfig.getCellRenderer().render(this);
+      } else {
+        getDefaultCellRenderer().render(this);
+      }
+    }
+  }
 }
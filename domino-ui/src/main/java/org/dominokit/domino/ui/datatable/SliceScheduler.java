@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.MessageChannel;
+import jsinterop.base.Js;
+
+/**
+ * Schedules the next slice of a time-sliced task, yielding to the browser in between through a
+ * {@link MessageChannel}, which unlike animation frames keeps running in background tabs, or a zero
+ * delay timeout when message channels are not supported.
+ */
+class SliceScheduler {
+
+  private MessageChannel channel;
+  private double timeoutHandle = -1;
+  private Runnable next;
+
+  /**
+   * Schedules the next slice, replacing any slice already scheduled.
+   *
+   * @param slice The slice to run.
+   */
+  void schedule(Runnable slice) {
+    this.next = slice;
+    if (Js.asPropertyMap(DomGlobal.window).has("MessageChannel")) {
+      if (isNull(channel)) {
+        channel = new MessageChannel();
+        channel.port1.onmessage = evt -> runNext();
+      }
+      channel.port2.postMessage(null);
+    } else if (timeoutHandle < 0) {
+      timeoutHandle =
+          DomGlobal.setTimeout(
+              ignore -> {
+                timeoutHandle = -1;
+                runNext();
+              },
+              0);
+    }
+  }
+
+  private void runNext() {
+    Runnable slice = next;
+    next = null;
+    if (nonNull(slice)) {
+      slice.run();
+    }
+  }
+
+  /** Cancels the scheduled slice and releases the message channel. */
+  void cancel() {
+    next = null;
+    if (nonNull(channel)) {
+      channel.port1.onmessage = null;
+      channel = null;
+    }
+    if (timeoutHandle >= 0) {
+      DomGlobal.clearTimeout(timeoutHandle);
+      timeoutHandle = -1;
+    }
+  }
+}
@@ -34,6 +34,7 @@ import org.dominokit.domino.ui.elements.THeadElement;
 import org.dominokit.domino.ui.elements.TableRowElement;
 import org.dominokit.domino.ui.style.DominoCss;
 import org.dominokit.domino.ui.utils.ChildHandler;
+import org.dominokit.domino.ui.utils.DomBuilder;
 import org.dominokit.domino.ui.utils.HasMultiSelectionSupport;
 
 /**
@@ -62,6 +63,8 @@ public class TableConfig<T>
   private String fixedDefaultColumnWidth = "100px";
   private String fixedBodyHeight = "";
   private boolean lazyLoad = true;
+  private boolean chunkedRendering = false;
+  private double renderingSliceBudget = 8;
   private boolean multiSelect = true;
   private boolean stickyHeader = false;
   private RowAppender<T> rowAppender =
@@ -87,9 +90,8 @@ public class TableConfig<T>
           .setCellRenderer(
               rowCell -> {
                 rowCell.addCss(dui_datatable_column_utility);
-                return elements
-                    .div()
-                    .addCss(dui_datatable_utility_elements)
+                return DomBuilder.div()
+                    .css(dui_datatable_utility_elements)
                     .apply(
                         div -> {
                           List<DataTablePlugin<T>> pluginsList = getPlugins();
@@ -99,14 +101,14 @@ public class TableConfig<T>
                             if (optionalElements.isPresent()) {
                               List<HTMLElement> nodes = optionalElements.get();
                               for (HTMLElement node : nodes) {
-                                String orderAttr = elements.elementOf(node).getAttribute("order");
+                                String orderAttr = node.getAttribute("order");
                                 String order = (orderAttr != null) ? orderAttr : "0";
                                 div.appendChild(
-                                    elements
-                                        .div()
-                                        .setCssProperty("order", Integer.parseInt(order))
-                                        .addCss(dui_datatable_utility_element)
-                                        .appendChild(node));
+                                    DomBuilder.div()
+                                        .style("order", String.valueOf(Integer.parseInt(order)))
+                                        .css(dui_datatable_utility_element)
+                                        .add(node)
+                                        .element());
                               }
                             }
                           }
@@ -339,6 +341,49 @@ public class TableConfig<T>
     return this;
   }
 
+  /**
+   * Checks if the rows are drawn in time-sliced chunks.
+   *
+   * @return {@code true} if the chunked rendering is enabled, {@code false} otherwise.
+   */
+  public boolean isChunkedRendering() {
+    return chunkedRendering;
+  }
+
+  /**
+   * Enables or disables drawing the rows in time-sliced chunks, yielding to the browser between the
+   * chunks so large pages do not block the browser. While the rows are being drawn the table loader
+   * shows the progress, a newer data change cancels the remaining rows, and the plugins {@code
+   * onAllRowsAdded} and the {@code TableDataUpdatedEvent} are only fired after the last chunk.
+   *
+   * @param chunkedRendering {@code true} to enable the chunked rendering, {@code false} to draw all
+   *     the rows at once.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setChunkedRendering(boolean chunkedRendering) {
+    this.chunkedRendering = chunkedRendering;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds spent drawing rows in each chunk.
+   */
+  public double getRenderingSliceBudget() {
+    return renderingSliceBudget;
+  }
+
+  /**
+   * Sets the time in milliseconds spent drawing rows in each chunk when the chunked rendering is
+   * enabled, defaults to 8ms, at least one row is drawn per chunk.
+   *
+   * @param renderingSliceBudget The chunk time budget in milliseconds.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setRenderingSliceBudget(double renderingSliceBudget) {
+    this.renderingSliceBudget = renderingSliceBudget;
+    return this;
+  }
+
   /**
    * Retrieves the fixed height for the table body when in fixed layout mode.
    *
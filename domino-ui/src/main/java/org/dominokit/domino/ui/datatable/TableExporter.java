@@ -0,0 +1,456 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.core.JsArray;
+import elemental2.core.JsDate;
+import elemental2.dom.Blob;
+import elemental2.dom.BlobPropertyBag;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLAnchorElement;
+import elemental2.dom.URL;
+import elemental2.promise.Promise;
+import java.util.List;
+import java.util.stream.Collectors;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+import org.dominokit.domino.ui.data.StoreDataChangeListener;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+import org.dominokit.domino.ui.utils.Clipboard;
+import org.dominokit.domino.ui.utils.ClipboardItem;
+
+/**
+ * Exports the records of a {@link DataTable} as CSV or TSV text, streaming the visible columns
+ * through their {@link ColumnValue} in time-sliced chunks so that large tables are exported without
+ * freezing the page or building the whole text as a single string.
+ *
+ * <p>Each slice formats as many rows as fit in the slice budget and appends them as one part of the
+ * resulting {@link Blob}, the export reports its progress after every slice and can be cancelled at
+ * any time through the returned {@link ExportTask}. Exports of a table backed by a {@link
+ * LocalListDataStore} read the store records without copying them, and are cancelled when the store
+ * data changes before the export completes.
+ *
+ * <p>Usage example:
+ *
+ * <pre>
+ * TableExporter.create(table)
+ *     .setFormat(TableExporter.Format.TSV)
+ *     .onProgress((exported, total) -&gt; progressBar.setValue(exported * 100d / total))
+ *     .download("employees.tsv");
+ * </pre>
+ *
+ * @param <T> The type of the table records.
+ */
+public class TableExporter<T> {
+
+  private final List<ColumnConfig<T>> columns;
+  private final List<T> records;
+  private final LocalListDataStore<T> store;
+  private Format format = Format.CSV;
+  private boolean includeHeader = true;
+  private double sliceBudget = 8;
+  private ProgressListener progressListener = (exported, total) -> {};
+
+  /**
+   * Creates an exporter for the visible columns of the table, columns without a {@link ColumnValue}
+   * are not exported. The filtered and sorted records of a {@link LocalListDataStore} are exported
+   * without copying them and the export is cancelled if the store data changes while it runs,
+   * otherwise the records currently displayed in the table are exported.
+   *
+   * @param table The table to export.
+   * @param <T> The type of the table records.
+   * @return a new {@link TableExporter}.
+   */
+  public static <T> TableExporter<T> create(DataTable<T> table) {
+    List<ColumnConfig<T>> columns =
+        table.getTableConfig().getLeafColumns().stream()
+            .filter(column -> !column.isHidden() && !column.isUtilityColumn())
+            .filter(column -> column.getColumnValue().isPresent())
+            .collect(Collectors.toList());
+    if (table.getDataStore() instanceof LocalListDataStore) {
+      return new TableExporter<>(columns, (LocalListDataStore<T>) table.getDataStore());
+    }
+    return new TableExporter<>(columns, table.getRecords());
+  }
+
+  /**
+   * Creates an exporter for the provided columns and records.
+   *
+   * @param columns The columns to export, each column should have a {@link ColumnValue}.
+   * @param records The records to export, the list should not change while an export runs.
+   * @param <T> The type of the table records.
+   * @return a new {@link TableExporter}.
+   */
+  public static <T> TableExporter<T> create(List<ColumnConfig<T>> columns, List<T> records) {
+    return new TableExporter<>(columns, records);
+  }
+
+  /**
+   * Creates an exporter for the provided columns and records.
+   *
+   * @param columns The columns to export, each column should have a {@link ColumnValue}.
+   * @param records The records to export.
+   */
+  public TableExporter(List<ColumnConfig<T>> columns, List<T> records) {
+    this.columns = columns;
+    this.records = records;
+    this.store = null;
+  }
+
+  private TableExporter(List<ColumnConfig<T>> columns, LocalListDataStore<T> store) {
+    this.columns = columns;
+    this.records = null;
+    this.store = store;
+  }
+
+  /**
+   * @param format The output format, defaults to {@link Format#CSV}.
+   * @return same exporter instance
+   */
+  public TableExporter<T> setFormat(Format format) {
+    this.format = format;
+    return this;
+  }
+
+  /**
+   * @return the output format
+   */
+  public Format getFormat() {
+    return format;
+  }
+
+  /**
+   * @param includeHeader true to write the columns titles as the first line, defaults to true.
+   * @return same exporter instance
+   */
+  public TableExporter<T> setIncludeHeader(boolean includeHeader) {
+    this.includeHeader = includeHeader;
+    return this;
+  }
+
+  /**
+   * @return true if the columns titles are written as the first line
+   */
+  public boolean isIncludeHeader() {
+    return includeHeader;
+  }
+
+  /**
+   * @param sliceBudget The time in milliseconds spent formatting rows before yielding to the
+   *     browser, defaults to 8, at least one row is formatted in each slice.
+   * @return same exporter instance
+   */
+  public TableExporter<T> setSliceBudget(double sliceBudget) {
+    this.sliceBudget = sliceBudget;
+    return this;
+  }
+
+  /**
+   * @return the time in milliseconds spent formatting rows before yielding to the browser
+   */
+  public double getSliceBudget() {
+    return sliceBudget;
+  }
+
+  /**
+   * @param progressListener The listener notified after each slice with the count of exported rows.
+   * @return same exporter instance
+   */
+  public TableExporter<T> onProgress(ProgressListener progressListener) {
+    this.progressListener = isNull(progressListener) ? (exported, total) -> {} : progressListener;
+    return this;
+  }
+
+  /**
+   * Starts exporting the records into a {@link Blob} of the format MIME type.
+   *
+   * @return the running {@link ExportTask}, its result resolves to the exported blob.
+   */
+  public ExportTask toBlob() {
+    return new ExportTask();
+  }
+
+  /**
+   * Starts exporting the records and downloads the exported blob as a file once completed.
+   *
+   * @param fileName The name of the downloaded file.
+   * @return the running {@link ExportTask}, its result resolves to the exported blob.
+   */
+  public ExportTask download(String fileName) {
+    ExportTask task = new ExportTask();
+    task.result =
+        task.result.then(
+            blob -> {
+              String url = URL.createObjectURL(blob);
+              if (nonNull(url)) {
+                HTMLAnchorElement anchor = Js.uncheckedCast(DomGlobal.document.createElement("a"));
+                anchor.href = url;
+                anchor.download = fileName;
+                DomGlobal.document.body.appendChild(anchor);
+                anchor.click();
+                anchor.remove();
+                DomGlobal.setTimeout(ignore -> URL.revokeObjectURL(url), 0);
+              }
+              return Promise.resolve(blob);
+            });
+    return task;
+  }
+
+  /**
+   * Starts exporting the records and writes them to the clipboard as plain text. When {@link
+   * ClipboardItem} is supported the item is written right away with the pending export, so the
+   * write still happens within the user gesture that started it, otherwise the text is written once
+   * the export completes.
+   *
+   * @return the running {@link ExportTask}, its result resolves to the exported blob once written
+   *     to the clipboard and is rejected if the export is cancelled or the clipboard is not
+   *     accessible.
+   */
+  public ExportTask toClipboard() {
+    ExportTask task = new ExportTask();
+    Promise<Blob> exported = task.result;
+    if (!Js.asPropertyMap(DomGlobal.window.navigator).has("clipboard")) {
+      task.result = exported.then(ignore -> Promise.reject("Clipboard is not accessible"));
+    } else if (Js.asPropertyMap(DomGlobal.window).has("ClipboardItem")) {
+      Promise<Blob> textBlob =
+          exported.then(
+              blob ->
+                  Promise.resolve(
+                      new Blob(
+                          JsArray.of(Blob.ConstructorBlobPartsArrayUnionType.of(blob)),
+                          typeOf("text/plain"))));
+      task.result =
+          Clipboard.put(new ClipboardItem(JsPropertyMap.of("text/plain", textBlob)))
+              .then(ignore -> exported);
+    } else {
+      task.result =
+          exported.then(
+              blob -> blob.text().then(text -> Clipboard.put(text)).then(ignore -> exported));
+    }
+    return task;
+  }
+
+  private void appendLine(StringBuilder out, List<String> values) {
+    for (int i = 0; i < values.size(); i++) {
+      if (i > 0) {
+        out.append(format.delimiter);
+      }
+      out.append(format.escape(values.get(i)));
+    }
+    out.append(format.lineSeparator);
+  }
+
+  private List<String> titles() {
+    return columns.stream()
+        .map(column -> isNull(column.getTitle()) ? column.getName() : column.getTitle())
+        .collect(Collectors.toList());
+  }
+
+  private List<String> values(T record) {
+    return columns.stream()
+        .map(column -> column.getColumnValue().map(value -> value.format(record)).orElse(""))
+        .collect(Collectors.toList());
+  }
+
+  private static BlobPropertyBag typeOf(String mimeType) {
+    BlobPropertyBag options = BlobPropertyBag.create();
+    options.setType(mimeType);
+    return options;
+  }
+
+  /**
+   * A running export, yielding to the browser between slices until all the records are exported or
+   * the task is cancelled.
+   */
+  public final class ExportTask {
+
+    private final SliceScheduler scheduler = new SliceScheduler();
+    private final JsArray<Blob.ConstructorBlobPartsArrayUnionType> parts = new JsArray<>();
+    private final List<T> records =
+        isNull(store) ? TableExporter.this.records : store.getFilteredRecordsView();
+    private final int total = records.size();
+    private final StoreDataChangeListener<T> dataChangeListener = event -> onDataChanged();
+    private Promise.PromiseExecutorCallbackFn.ResolveCallbackFn<Blob> resolve;
+    private Promise.PromiseExecutorCallbackFn.RejectCallbackFn reject;
+    private Promise<Blob> result;
+    private int next;
+    private boolean done;
+    private boolean cancelled;
+
+    private ExportTask() {
+      this.result =
+          new Promise<>(
+              (resolve, reject) -> {
+                this.resolve = resolve;
+                this.reject = reject;
+              });
+      if (nonNull(store)) {
+        store.onDataChanged(dataChangeListener);
+      }
+      scheduler.schedule(this::exportSlice);
+    }
+
+    private void onDataChanged() {
+      if (!done && !cancelled) {
+        abort("Export cancelled, the table data changed");
+      }
+      // the store is notifying its listeners, remove this one once it is done.
+      DomGlobal.setTimeout(ignore -> removeDataChangeListener(), 0);
+    }
+
+    private void exportSlice() {
+      if (records.size() != total) {
+        // the records were changed in place without notifying, like a record dragged out.
+        stop("Export cancelled, the table data changed");
+        return;
+      }
+      double start = JsDate.now();
+      StringBuilder chunk = new StringBuilder();
+      if (parts.length == 0 && includeHeader) {
+        appendLine(chunk, titles());
+      }
+      while (next < total) {
+        appendLine(chunk, values(records.get(next++)));
+        if (JsDate.now() - start >= sliceBudget) {
+          break;
+        }
+      }
+      parts.push(Blob.ConstructorBlobPartsArrayUnionType.of(chunk.toString()));
+      progressListener.onProgress(next, total);
+      if (next < total) {
+        scheduler.schedule(this::exportSlice);
+      } else {
+        done = true;
+        removeDataChangeListener();
+        resolve.onInvoke(new Blob(parts, typeOf(format.mimeType)));
+      }
+    }
+
+    /** Cancels the export, the task result is rejected and the exported parts are released. */
+    public void cancel() {
+      if (!done && !cancelled) {
+        stop("Export cancelled");
+      }
+    }
+
+    private void stop(String reason) {
+      removeDataChangeListener();
+      abort(reason);
+    }
+
+    private void abort(String reason) {
+      cancelled = true;
+      scheduler.cancel();
+      parts.length = 0;
+      reject.onInvoke(reason);
+    }
+
+    private void removeDataChangeListener() {
+      if (nonNull(store)) {
+        store.removeDataChangeListener(dataChangeListener);
+      }
+    }
+
+    /**
+     * @return a promise resolving to the exported blob, or rejected when the export is cancelled.
+     */
+    public Promise<Blob> getResult() {
+      return result;
+    }
+
+    /**
+     * @return the count of exported records
+     */
+    public int getExported() {
+      return next;
+    }
+
+    /**
+     * @return the count of records to export
+     */
+    public int getTotal() {
+      return total;
+    }
+
+    /**
+     * @return true if all the records were exported
+     */
+    public boolean isDone() {
+      return done;
+    }
+
+    /**
+     * @return true if the export was cancelled
+     */
+    public boolean isCancelled() {
+      return cancelled;
+    }
+  }
+
+  /** The supported export formats. */
+  public enum Format {
+    /**
+     * Comma separated values, fields containing the delimiter, quotes or line breaks are quoted
+     * with their quotes doubled.
+     */
+    CSV(",", "\r\n", "text/csv"),
+    /** Tab separated values, tabs and line breaks within fields are replaced with spaces. */
+    TSV("\t", "\n", "text/tab-separated-values");
+
+    private final String delimiter;
+    private final String lineSeparator;
+    private final String mimeType;
+
+    Format(String delimiter, String lineSeparator, String mimeType) {
+      this.delimiter = delimiter;
+      this.lineSeparator = lineSeparator;
+      this.mimeType = mimeType;
+    }
+
+    /**
+     * @return the MIME type of the exported blob
+     */
+    public String getMimeType() {
+      return mimeType;
+    }
+
+    String escape(String value) {
+      if (this == TSV) {
+        return value.replaceAll("[\\t\\r\\n]", " ");
+      }
+      if (value.contains(delimiter)
+          || value.contains("\"")
+          || value.contains("\n")
+          || value.contains("\r")) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+      }
+      return value;
+    }
+  }
+
+  /** A listener notified with the export progress. */
+  @FunctionalInterface
+  public interface ProgressListener {
+    /**
+     * @param exported The count of exported records.
+     * @param total The count of records to export.
+     */
+    void onProgress(int exported, int total);
+  }
+}
@@ -29,6 +29,7 @@ import org.dominokit.domino.ui.forms.FieldsGrouping;
 import org.dominokit.domino.ui.forms.validations.ValidationResult;
 import org.dominokit.domino.ui.style.BooleanCssClass;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.DomBuilder;
 import org.dominokit.domino.ui.utils.HasSelectionListeners;
 import org.dominokit.domino.ui.utils.Selectable;
 
@@ -553,6 +554,8 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
    * @param record The new record to be set in the row.
    */
   public void updateRow(T record, Set<ColumnConfig<T>> columns) {
+    invalidateColumnValues(this.record);
+    invalidateColumnValues(record);
     this.record = record;
     getCells()
         .values()
@@ -572,6 +575,13 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
             new ArrayList<>(dataTable.getData()), dataTable.getData().size()));
   }
 
+  private void invalidateColumnValues(T record) {
+    dataTable
+        .getTableConfig()
+        .getLeafColumns()
+        .forEach(column -> column.getColumnValue().ifPresent(value -> value.invalidate(record)));
+  }
+
   /**
    * Validates the content of each cell in the row. It uses the validation mechanism provided by the
    * cell's info. If any cell's content is invalid, the method will return the first encountered
@@ -754,7 +764,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
    * @param columnConfig The configuration information for the column to which this cell belongs.
    */
   public void renderCell(ColumnConfig<T> columnConfig) {
-    HTMLTableCellElement cellElement = td().addCss(dui_datatable_td).element();
+    HTMLTableCellElement cellElement = DomBuilder.td().css(dui_datatable_td).element();
 
     ColumnCssRuleMeta.get(columnConfig)
         .ifPresent(
@@ -762,8 +772,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
                 meta.cssRules()
                     .forEach(
                         columnCssRule ->
-                            elementOf(cellElement)
-                                .addCss(columnCssRule.getCssRule().getCssClass())));
+                            cellElement.classList.add(columnCssRule.getCssRule().getCssClass())));
 
     RowCell<T> rowCell =
         new RowCell<>(new RowCellInfo<>(this, columnConfig, cellElement), columnConfig);
@@ -781,10 +790,17 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
         .getPlugins()
         .forEach(plugin -> plugin.onBeforeAddCell(dataTable, this, rowCell));
     element().appendChild(cellElement);
-    dataTable
-        .getTableConfig()
-        .getPlugins()
-        .forEach(plugin -> plugin.onAfterAddCell(dataTable, this, rowCell));
+    Runnable afterAddCell =
+        () ->
+            dataTable
+                .getTableConfig()
+                .getPlugins()
+                .forEach(plugin -> plugin.onAfterAddCell(dataTable, this, rowCell));
+    if (rowCell.isDeferredPending()) {
+      rowCell.afterDeferredRender(afterAddCell);
+    } else {
+      afterAddCell.run();
+    }
     columnConfig.addShowHideListener(DefaultColumnShowHideListener.of(cellElement));
   }
 
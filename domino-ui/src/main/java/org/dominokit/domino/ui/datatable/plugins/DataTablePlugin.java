@@ -133,7 +133,9 @@ public interface DataTablePlugin<T>
   default void onBeforeAddCell(DataTable<T> dataTable, TableRow<T> tableRow, RowCell<T> rowCell) {}
 
   /**
-   * Called after adding a cell to the DataTable.
+   * Called after adding a cell to the DataTable. For the cells of deferred columns, see {@link
+   * org.dominokit.domino.ui.datatable.ColumnConfig#setDeferred(boolean)}, this is called once the
+   * real cell content is rendered instead of the placeholder.
    *
    * @param dataTable The DataTable instance.
    * @param tableRow The TableRow to which the cell belongs.
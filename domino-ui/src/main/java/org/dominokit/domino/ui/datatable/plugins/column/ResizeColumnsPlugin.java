@@ -21,9 +21,6 @@ import static org.dominokit.domino.ui.datatable.plugins.PluginsConstants.DUI_DT_
 import static org.dominokit.domino.ui.utils.Unit.px;
 
 import elemental2.dom.DomGlobal;
-import elemental2.dom.EventListener;
-import elemental2.dom.MouseEvent;
-import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.*;
 import org.dominokit.domino.ui.datatable.events.ColumnResizedEvent;
 import org.dominokit.domino.ui.datatable.events.ColumnResizingEvent;
@@ -32,7 +29,7 @@ import org.dominokit.domino.ui.datatable.plugins.HasPluginConfig;
 import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.utils.DominoCSSRule;
-import org.dominokit.domino.ui.utils.DominoDom;
+import org.dominokit.domino.ui.utils.PointerDrag;
 import org.dominokit.domino.ui.utils.meta.AttributeMeta;
 
 /**
@@ -100,157 +97,94 @@ public class ResizeColumnsPlugin<T>
                               evt.stopPropagation();
                               evt.preventDefault();
                             });
-                EventListener resizeListener =
-                    evt -> {
-                      MouseEvent mouseEvent = Js.uncheckedCast(evt);
-                      column.applyAndOnParents(
-                          col -> {
-                            ResizeColumnMeta.get(col)
-                                .ifPresent(
-                                    meta -> {
-                                      double currentPosition = mouseEvent.clientX;
-                                      double diff = currentPosition - meta.getStartPosition();
-                                      resizeColumn(col, meta, diff);
-                                    });
-                          });
-
-                      column.onEachLastSubColumn(
-                          col -> {
-                            ResizeColumnMeta.get(col)
-                                .ifPresent(
-                                    meta -> {
-                                      double currentPosition = mouseEvent.clientX;
-                                      double diff = currentPosition - meta.getStartPosition();
-                                      resizeColumn(col, meta, diff);
-                                    });
-                          });
-
-                      ColumnConfig<T> dataColumn = column.getLastGrandSiblingColumn();
-                      ResizeColumnMeta.get(dataColumn)
-                          .ifPresent(
-                              meta -> {
-                                double currentPosition = mouseEvent.clientX;
-                                double diff = currentPosition - meta.getStartPosition();
-
-                                dataTable.fireTableEvent(ColumnResizingEvent.of(column, diff));
-                              });
-                    };
-
                 resizeElement.addEventListener(
                     EventType.mousedown.getName(),
-                    evt -> {
-                      MouseEvent mouseEvent = Js.uncheckedCast(evt);
-                      if (mouseEvent.buttons == 1) {
-                        mouseEvent.stopPropagation();
-                        mouseEvent.preventDefault();
-                        this.resizingColumn = column;
-                        this.resizing = true;
-                        this.datatable.applyMeta(AttributeMeta.of(DUI_DT_COL_RESIZING, true));
-                        column
-                            .getGrandParent()
-                            .applyAndOnSubColumns(
-                                col ->
-                                    ResizeColumnMeta.get(col)
-                                        .ifPresent(
-                                            meta ->
-                                                meta.setInitialWidth(
-                                                        col.getHeadElement()
-                                                            .getBoundingClientRect()
-                                                            .width)
-                                                    .setStartPosition(mouseEvent.clientX)));
-                        DominoDom.document.body.addEventListener(
-                            EventType.mousemove.getName(), resizeListener);
-                      }
-                    });
-                EventListener stopResizing =
                     evt -> {
                       evt.stopPropagation();
-                      if (column.equals(this.resizingColumn) && resizing) {
-                        this.resizing = false;
-
-                        ResizeColumnMeta.get(column)
-                            .ifPresent(
-                                meta -> {
-                                  MouseEvent mouseEvent = Js.uncheckedCast(evt);
-                                  double currentPosition = mouseEvent.clientX;
-                                  double diff = currentPosition - meta.getStartPosition();
-
-                                  dataTable.fireTableEvent(
-                                      ColumnResizedEvent.of(column, diff, true));
-                                });
-
-                        DominoDom.document.body.removeEventListener(
-                            EventType.mousemove.getName(), resizeListener);
-                        DomGlobal.setTimeout(
-                            p -> {
-                              this.datatable.removeMeta(DUI_DT_COL_RESIZING);
-                            },
-                            300);
-                      }
-                    };
-
-                this.datatable.onAttached(
-                    mutationRecord -> {
-                      DominoDom.document.body.addEventListener(
-                          EventType.mouseup.getName(), stopResizing);
-                    });
-                this.datatable.onDetached(
-                    mutationRecord -> {
-                      resizeElement.removeEventListener(EventType.mouseup.getName(), stopResizing);
-                      DominoDom.document.body.removeEventListener(
-                          EventType.mouseup.getName(), stopResizing);
+                      evt.preventDefault();
                     });
+                PointerDrag.of(resizeElement.element())
+                    .onStart(drag -> startResizing(column, drag))
+                    .onMove(drag -> onResizing(column, drag.getDeltaX()))
+                    .onEnd(drag -> stopResizing(column, drag.getDeltaX()));
                 column.appendChild(resizeElement);
               }
             });
   }
 
+  private void startResizing(ColumnConfig<T> column, PointerDrag.Drag drag) {
+    drag.getEvent().stopPropagation();
+    this.resizingColumn = column;
+    this.resizing = true;
+    this.datatable.applyMeta(AttributeMeta.of(DUI_DT_COL_RESIZING, true));
+    column
+        .getGrandParent()
+        .applyAndOnSubColumns(
+            col ->
+                ResizeColumnMeta.get(col)
+                    .ifPresent(
+                        meta ->
+                            meta.setInitialWidth(col.getHeadElement().getBoundingClientRect().width)
+                                .setStartPosition(drag.getStartX())));
+  }
+
+  private void onResizing(ColumnConfig<T> column, double diff) {
+    column.applyAndOnParents(
+        col -> ResizeColumnMeta.get(col).ifPresent(meta -> resizeColumn(col, meta, diff)));
+    column.onEachLastSubColumn(
+        col -> ResizeColumnMeta.get(col).ifPresent(meta -> resizeColumn(col, meta, diff)));
+    datatable.getDynamicStyleSheet().flush();
+    datatable.fireTableEvent(ColumnResizingEvent.of(column, diff));
+  }
+
+  private void stopResizing(ColumnConfig<T> column, double diff) {
+    if (column.equals(this.resizingColumn) && resizing) {
+      this.resizing = false;
+      datatable.fireTableEvent(ColumnResizedEvent.of(column, diff, true));
+      DomGlobal.setTimeout(p -> this.datatable.removeMeta(DUI_DT_COL_RESIZING), 300);
+    }
+  }
+
   /**
-   * Resizes the specified column with the given metadata and difference value.
+   * Resizes the specified column with the given metadata and difference value, this is called at
+   * most once per animation frame while dragging.
    *
    * @param col The ColumnConfig to resize.
    * @param meta The ResizeColumnMeta containing column resize metadata.
    * @param diff The difference in width to apply to the column.
    */
   private void resizeColumn(ColumnConfig<T> col, ResizeColumnMeta meta, double diff) {
-    DomGlobal.requestAnimationFrame(
-        timestamp -> {
-          double widthValue = meta.getInitialWidth() + diff;
-          if (widthValue >= 20) {
-            String width = px.of(widthValue);
-
-            col.setWidth(width);
-
-            String minWidth = meta.suppliedMinWidthOrOriginal(width);
-
-            if (config.isClipContent()) {
-              String maxWidth = meta.suppliedMaxWidthOrOriginal(width);
-              col.maxWidth(maxWidth);
-              ColumnCssRuleMeta.get(col)
-                  .flatMap(cssMeta -> cssMeta.getColumnCssRule(ColumnCssRuleMeta.DEFAULT_RULE))
-                  .ifPresent(
-                      columnCssRule ->
-                          columnCssRule.getCssRule().setProperty("max-width", maxWidth));
-            }
-
-            ColumnCssRuleMeta.get(col)
-                .flatMap(cssMeta -> cssMeta.getColumnCssRule(ColumnCssRuleMeta.DEFAULT_RULE))
-                .ifPresent(
-                    columnCssRule -> {
-                      DominoCSSRule style = columnCssRule.getCssRule();
-                      style.setProperty("min-width", minWidth);
-                      style.setProperty("width", width);
-                    });
-
-            ColumnHeaderMeta.get(col)
-                .ifPresent(
-                    headersMeta ->
-                        headersMeta
-                            .getExtraHeadElements()
-                            .forEach(header -> header.setWidth(width)));
-            datatable.getDynamicStyleSheet().flush();
-          }
-        });
+    double widthValue = meta.getInitialWidth() + diff;
+    if (widthValue >= 20) {
+      String width = px.of(widthValue);
+
+      col.setWidth(width);
+
+      String minWidth = meta.suppliedMinWidthOrOriginal(width);
+
+      if (config.isClipContent()) {
+        String maxWidth = meta.suppliedMaxWidthOrOriginal(width);
+        col.maxWidth(maxWidth);
+        ColumnCssRuleMeta.get(col)
+            .flatMap(cssMeta -> cssMeta.getColumnCssRule(ColumnCssRuleMeta.DEFAULT_RULE))
+            .ifPresent(
+                columnCssRule -> columnCssRule.getCssRule().setProperty("max-width", maxWidth));
+      }
+
+      ColumnCssRuleMeta.get(col)
+          .flatMap(cssMeta -> cssMeta.getColumnCssRule(ColumnCssRuleMeta.DEFAULT_RULE))
+          .ifPresent(
+              columnCssRule -> {
+                DominoCSSRule style = columnCssRule.getCssRule();
+                style.setProperty("min-width", minWidth);
+                style.setProperty("width", width);
+              });
+
+      ColumnHeaderMeta.get(col)
+          .ifPresent(
+              headersMeta ->
+                  headersMeta.getExtraHeadElements().forEach(header -> header.setWidth(width)));
+    }
   }
 
   /**
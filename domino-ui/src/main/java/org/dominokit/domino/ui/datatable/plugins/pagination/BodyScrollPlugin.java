@@ -16,24 +16,46 @@
 
 package org.dominokit.domino.ui.datatable.plugins.pagination;
 
-import static org.dominokit.domino.ui.utils.Domino.*;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import elemental2.core.JsMath;
+import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLTableElement;
+import java.util.List;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.datatable.plugins.HasPluginConfig;
+import org.dominokit.domino.ui.events.EventOptions;
+import org.dominokit.domino.ui.utils.IntersectionObserver;
+import org.dominokit.domino.ui.utils.IntersectionObserverEntry;
+import org.dominokit.domino.ui.utils.IntersectionObserverOptions;
 
 /**
  * A plugin for handling body scroll events in a DataTable.
  *
+ * <p>By default the plugin listens to the table body scroll events, reading the scroll metrics at
+ * most once per animation frame. When {@link BodyScrollPluginConfig#isUseSentinels()} is enabled
+ * the first and last rendered rows are observed with an {@link IntersectionObserver} instead, so
+ * scrolling itself does no work until one of them reaches the visible area.
+ *
+ * <p>When a scroll event causes the data store to replace the rendered rows, for example a store
+ * that keeps a bounded number of pages, the plugin keeps the row the user was looking at in place.
+ *
  * @param <T> The type of data in the DataTable.
  */
 public class BodyScrollPlugin<T>
     implements DataTablePlugin<T>, HasPluginConfig<T, BodyScrollPlugin<T>, BodyScrollPluginConfig> {
 
   private BodyScrollPluginConfig config = new BodyScrollPluginConfig(0);
+  private DataTable<T> dataTable;
+  private IntersectionObserver sentinelsObserver;
+  private TableRow<T> topSentinel;
+  private TableRow<T> bottomSentinel;
+  private int scrollFrame = -1;
 
   /**
    * Initializes the plugin and adds scroll event listeners to the DataTable's body.
@@ -42,24 +64,118 @@ public class BodyScrollPlugin<T>
    */
   @Override
   public void onBodyAdded(DataTable<T> dataTable) {
+    this.dataTable = dataTable;
     HTMLTableElement scrollElement = dataTable.tableElement().element();
-    scrollElement.addEventListener(
-        "scroll",
-        evt -> {
-          double scrollTop = new Double(scrollElement.scrollTop).intValue();
-          if (scrollTop == 0) {
-            dataTable.fireTableEvent(new BodyScrollEvent(ScrollPosition.TOP));
-          }
-          int offsetHeight = new Double(scrollElement.offsetHeight).intValue();
-          int scrollHeight = new Double(scrollElement.scrollHeight).intValue();
-          int clientHeight = new Double(scrollElement.clientHeight).intValue();
-
-          if (JsMath.abs(offsetHeight) + JsMath.abs(scrollTop)
-              >= new Double(scrollHeight + (offsetHeight - clientHeight)).intValue()
-                  - config.getOffset()) {
-            dataTable.fireTableEvent(new BodyScrollEvent(ScrollPosition.BOTTOM));
-          }
-        });
+    if (config.isUseSentinels() && isIntersectionObserverSupported()) {
+      IntersectionObserverOptions options = IntersectionObserverOptions.create();
+      options.root = scrollElement;
+      options.rootMargin = config.getOffset() + "px 0px " + config.getOffset() + "px 0px";
+      sentinelsObserver =
+          new IntersectionObserver(
+              entries -> {
+                for (IntersectionObserverEntry entry : entries.asList()) {
+                  if (entry.getIsIntersecting()) {
+                    if (nonNull(topSentinel) && entry.getTarget() == topSentinel.element()) {
+                      fireScrollEvent(ScrollPosition.TOP);
+                    }
+                    if (nonNull(bottomSentinel) && entry.getTarget() == bottomSentinel.element()) {
+                      fireScrollEvent(ScrollPosition.BOTTOM);
+                    }
+                  }
+                }
+              },
+              options);
+    } else {
+      dataTable
+          .tableElement()
+          .addEventListener(
+              "scroll",
+              evt -> {
+                if (scrollFrame < 0) {
+                  scrollFrame =
+                      DomGlobal.requestAnimationFrame(
+                          timestamp -> {
+                            scrollFrame = -1;
+                            checkScrollPosition(scrollElement);
+                          });
+                }
+              },
+              EventOptions.of().setPassive(true));
+    }
+  }
+
+  /**
+   * Moves the sentinels to the first and last rendered rows whenever the table rows change.
+   *
+   * @param dataTable The DataTable instance to which this plugin is applied.
+   */
+  @Override
+  public void onAllRowsAdded(DataTable<T> dataTable) {
+    if (isNull(sentinelsObserver)) {
+      return;
+    }
+    sentinelsObserver.disconnect();
+    topSentinel = null;
+    bottomSentinel = null;
+    List<TableRow<T>> rows = dataTable.getRows();
+    if (!rows.isEmpty()) {
+      topSentinel = rows.get(0);
+      bottomSentinel = rows.get(rows.size() - 1);
+      sentinelsObserver.observe(topSentinel.element());
+      if (bottomSentinel != topSentinel) {
+        sentinelsObserver.observe(bottomSentinel.element());
+      }
+    }
+  }
+
+  private void checkScrollPosition(HTMLTableElement scrollElement) {
+    double scrollTop = new Double(scrollElement.scrollTop).intValue();
+    int offsetHeight = new Double(scrollElement.offsetHeight).intValue();
+    int scrollHeight = new Double(scrollElement.scrollHeight).intValue();
+    int clientHeight = new Double(scrollElement.clientHeight).intValue();
+    if (scrollTop == 0) {
+      fireScrollEvent(ScrollPosition.TOP);
+    }
+
+    if (JsMath.abs(offsetHeight) + JsMath.abs(scrollTop)
+        >= new Double(scrollHeight + (offsetHeight - clientHeight)).intValue()
+            - config.getOffset()) {
+      fireScrollEvent(ScrollPosition.BOTTOM);
+    }
+  }
+
+  /**
+   * Fires the scroll event, if the rows were replaced while handling it the row at the loading edge
+   * is moved back to the position it had before the event so the content does not jump.
+   */
+  private void fireScrollEvent(ScrollPosition position) {
+    List<TableRow<T>> rows = dataTable.getRows();
+    if (rows.isEmpty()) {
+      dataTable.fireTableEvent(new BodyScrollEvent(position));
+      return;
+    }
+    HTMLTableElement scrollElement = dataTable.tableElement().element();
+    TableRow<T> anchor =
+        ScrollPosition.TOP.equals(position) ? rows.get(0) : rows.get(rows.size() - 1);
+    double anchorOffset = anchor.element().offsetTop - scrollElement.scrollTop;
+
+    dataTable.fireTableEvent(new BodyScrollEvent(position));
+
+    if (isNull(anchor.element().parentNode)) {
+      dataTable
+          .getRecordRow(anchor.getRecord())
+          .ifPresent(
+              row -> {
+                double scrollTop = row.element().offsetTop - anchorOffset;
+                if (scrollTop != scrollElement.scrollTop) {
+                  scrollElement.scrollTop = scrollTop;
+                }
+              });
+    }
+  }
+
+  private static boolean isIntersectionObserverSupported() {
+    return Js.asPropertyMap(DomGlobal.window).has("IntersectionObserver");
   }
 
   /**
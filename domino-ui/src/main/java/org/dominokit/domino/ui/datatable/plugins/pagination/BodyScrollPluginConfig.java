@@ -24,6 +24,7 @@ import org.dominokit.domino.ui.datatable.plugins.PluginConfig;
 public class BodyScrollPluginConfig implements PluginConfig {
 
   private int offset;
+  private boolean useSentinels;
 
   /**
    * creates a new instance with the specified scroll offset.
@@ -34,6 +35,19 @@ public class BodyScrollPluginConfig implements PluginConfig {
     this.offset = offset;
   }
 
+  /**
+   * creates a new instance with the specified scroll offset and loading mode.
+   *
+   * @param offset number of pixels to be used as scroll offset.
+   * @param useSentinels true to detect the top/bottom of the table body with an {@code
+   *     IntersectionObserver} on the first and last rows instead of reading the scroll metrics on
+   *     every scroll event.
+   */
+  public BodyScrollPluginConfig(int offset, boolean useSentinels) {
+    this.offset = offset;
+    this.useSentinels = useSentinels;
+  }
+
   /**
    * @return int number of pixels to use as an offset for reaching the scroll bottom.
    */
@@ -50,4 +64,26 @@ public class BodyScrollPluginConfig implements PluginConfig {
     this.offset = offset;
     return this;
   }
+
+  /**
+   * @return boolean true if the top/bottom of the table body is detected by observing the first and
+   *     last rows instead of listening to scroll events.
+   */
+  public boolean isUseSentinels() {
+    return useSentinels;
+  }
+
+  /**
+   * Enables or disables the sentinel mode, when enabled the plugin observes the first and last
+   * rendered rows with an {@code IntersectionObserver} and fires the scroll events when they come
+   * within {@link #getOffset()} pixels of the visible area, falls back to the scroll listener when
+   * the browser does not support {@code IntersectionObserver}.
+   *
+   * @param useSentinels true to enable the sentinel mode.
+   * @return same configuration instance
+   */
+  public BodyScrollPluginConfig setUseSentinels(boolean useSentinels) {
+    this.useSentinels = useSentinels;
+    return this;
+  }
 }
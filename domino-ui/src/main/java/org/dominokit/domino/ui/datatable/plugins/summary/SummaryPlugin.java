@@ -20,7 +20,9 @@ import static java.util.Objects.isNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
@@ -95,6 +97,23 @@ public class SummaryPlugin<T, S>
     return this;
   }
 
+  /**
+   * Returns the values of a column for the current table records, using the memoized values of the
+   * column {@link org.dominokit.domino.ui.datatable.ColumnValue}, to compute the summary records.
+   *
+   * @param columnName The column name.
+   * @return the column values in the table records order, or an empty list if the column has no
+   *     value accessor.
+   */
+  public List<?> getColumnValues(String columnName) {
+    return dataTable
+        .getTableConfig()
+        .findColumnByName(columnName)
+        .flatMap(ColumnConfig::getColumnValue)
+        .<List<?>>map(value -> value.getValues(dataTable.getRecords()))
+        .orElse(Collections.emptyList());
+  }
+
   public void removeSummaryRecords() {
     summaryRows.forEach(BaseDominoElement::remove);
     summaryRows.clear();
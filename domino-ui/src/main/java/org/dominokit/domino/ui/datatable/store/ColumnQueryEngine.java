@@ -0,0 +1,494 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.core.JsArray;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import jsinterop.base.JsPropertyMap;
+import org.dominokit.domino.ui.datatable.model.Filter;
+
+/**
+ * Runs search, filter and sort queries over column arrays extracted from the records of a {@link
+ * WorkerListDataStore}, producing the permutation of record indices that matches the query.
+ *
+ * <p>This is the main thread implementation, {@link #WORKER_SCRIPT} is the same algorithm for the
+ * Web Worker and both must be kept in sync.
+ */
+final class ColumnQueryEngine {
+
+  static final String TEXT = "string";
+  static final String NUMBER = "number";
+  static final String BOOLEAN = "boolean";
+
+  /**
+   * Prefix of the columns only used for sorting, they hold the sort keys of a column and are
+   * preferred over the column with the plain name when sorting, but never searched.
+   */
+  static final String SORT_COLUMN_PREFIX = "#sort:";
+
+  static final String WORKER_SCRIPT =
+      "var columns = {}, types = {}, size = 0, lastKey = null, lastOrder = [];\n"
+          + "function typeOf(values) {\n"
+          + "  for (var i = 0; i < values.length; i++) {\n"
+          + "    if (values[i] != null) { return typeof values[i]; }\n"
+          + "  }\n"
+          + "  return 'string';\n"
+          + "}\n"
+          + "function lower(value) { return String(value).toLowerCase(); }\n"
+          + "function parse(type, value) {\n"
+          + "  if (value == null) { return null; }\n"
+          + "  if (type === 'number') { var n = Number(value); return isNaN(n) ? null : n; }\n"
+          + "  if (type === 'boolean') { return lower(value).trim() === 'true'; }\n"
+          + "  return String(value);\n"
+          + "}\n"
+          + "function cmp(a, b) {\n"
+          + "  if (a == null) { return b == null ? 0 : -1; }\n"
+          + "  if (b == null) { return 1; }\n"
+          + "  return a < b ? -1 : (a > b ? 1 : 0);\n"
+          + "}\n"
+          + "function like(type, value, raw) {\n"
+          + "  return type === 'string' ? lower(value).indexOf(lower(raw)) > -1\n"
+          + "      : cmp(value, parse(type, raw)) === 0;\n"
+          + "}\n"
+          + "function matches(filter, index) {\n"
+          + "  var values = filter.values;\n"
+          + "  if (filter.field === '*') {\n"
+          + "    var text = values.length && values[0] != null ? lower(values[0]) : '';\n"
+          + "    if (!text) { return true; }\n"
+          + "    for (var name in columns) {\n"
+          + "      if (name.indexOf('"
+          + SORT_COLUMN_PREFIX
+          + "') === 0) { continue; }\n"
+          + "      var cell = columns[name][index];\n"
+          + "      if (types[name] === 'string' && cell != null\n"
+          + "          && lower(cell).indexOf(text) > -1) { return true; }\n"
+          + "    }\n"
+          + "    return false;\n"
+          + "  }\n"
+          + "  var column = columns[filter.field];\n"
+          + "  if (!column) { return true; }\n"
+          + "  var value = column[index], type = types[filter.field], op = filter.op;\n"
+          + "  if (op === 'isNull') { return value == null; }\n"
+          + "  if (op === 'isNotNull') { return value != null; }\n"
+          + "  if (!values.length || values[0] == null || values[0] === '') { return true; }\n"
+          + "  if (value == null) {\n"
+          + "    return op === 'notEquals' || op === 'notContains' || op === 'notLike';\n"
+          + "  }\n"
+          + "  var target = parse(type, values[0]);\n"
+          + "  switch (op) {\n"
+          + "    case 'equals': return cmp(value, target) === 0;\n"
+          + "    case 'notEquals': return cmp(value, target) !== 0;\n"
+          + "    case 'lessThan': return cmp(value, target) < 0;\n"
+          + "    case 'lessThanOrEquals': return cmp(value, target) <= 0;\n"
+          + "    case 'greaterThan': return cmp(value, target) > 0;\n"
+          + "    case 'greaterThanOrEquals': return cmp(value, target) >= 0;\n"
+          + "    case 'between': return cmp(value, target) >= 0\n"
+          + "        && (values.length < 2 || cmp(value, parse(type, values[1])) <= 0);\n"
+          + "    case 'containsAny':\n"
+          + "      for (var k = 0; k < values.length; k++) {\n"
+          + "        if (cmp(value, parse(type, values[k])) === 0) { return true; }\n"
+          + "      }\n"
+          + "      return false;\n"
+          + "    case 'startsWith': return type === 'string'\n"
+          + "        ? lower(value).indexOf(lower(values[0])) === 0 : like(type, value, values[0]);\n"
+          + "    case 'endsWith':\n"
+          + "      if (type !== 'string') { return like(type, value, values[0]); }\n"
+          + "      var s = lower(value), t = lower(values[0]);\n"
+          + "      return s.length >= t.length && s.substring(s.length - t.length) === t;\n"
+          + "    case 'notContains': case 'notLike': return !like(type, value, values[0]);\n"
+          + "    default: return like(type, value, values[0]);\n"
+          + "  }\n"
+          + "}\n"
+          + "function query(msg) {\n"
+          + "  var key = JSON.stringify([msg.filters, msg.sort]);\n"
+          + "  if (key !== lastKey) {\n"
+          + "    var order = [];\n"
+          + "    rows: for (var i = 0; i < size; i++) {\n"
+          + "      for (var f = 0; f < msg.filters.length; f++) {\n"
+          + "        if (!matches(msg.filters[f], i)) { continue rows; }\n"
+          + "      }\n"
+          + "      order.push(i);\n"
+          + "    }\n"
+          + "    var sortColumn = msg.sort\n"
+          + "        ? columns['"
+          + SORT_COLUMN_PREFIX
+          + "' + msg.sort.field] || columns[msg.sort.field] : null;\n"
+          + "    if (sortColumn) {\n"
+          + "      var dir = msg.sort.dir;\n"
+          + "      order.sort(function (a, b) {\n"
+          + "        return cmp(sortColumn[a], sortColumn[b]) * dir || a - b;\n"
+          + "      });\n"
+          + "    }\n"
+          + "    lastKey = key;\n"
+          + "    lastOrder = order;\n"
+          + "  }\n"
+          + "  var from = Math.min(msg.offset, lastOrder.length);\n"
+          + "  var to = msg.limit > 0 ? Math.min(lastOrder.length, from + msg.limit)"
+          + " : lastOrder.length;\n"
+          + "  var page = new Int32Array(to - from);\n"
+          + "  for (var p = 0; p < page.length; p++) { page[p] = lastOrder[from + p]; }\n"
+          + "  postMessage({id: msg.id, total: lastOrder.length, indices: page}, [page.buffer]);\n"
+          + "}\n"
+          + "onmessage = function (e) {\n"
+          + "  var msg = e.data;\n"
+          + "  if (msg.type === 'data') {\n"
+          + "    columns = msg.columns;\n"
+          + "    size = msg.size;\n"
+          + "    types = {};\n"
+          + "    for (var name in columns) { types[name] = typeOf(columns[name]); }\n"
+          + "    lastKey = null;\n"
+          + "  } else if (msg.type === 'query') {\n"
+          + "    query(msg);\n"
+          + "  }\n"
+          + "};\n";
+
+  private final Map<String, Object[]> columns = new LinkedHashMap<>();
+  private final Map<String, String> types = new HashMap<>();
+  private int size;
+  private String lastKey;
+  private int[] lastOrder = new int[0];
+
+  /**
+   * Converts a value returned by a column accessor to a structured clone friendly value, numbers
+   * and dates become doubles, booleans are kept and anything else is converted to a string.
+   */
+  static Object toColumnValue(Object value) {
+    if (isNull(value)) {
+      return null;
+    }
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    if (value instanceof Date) {
+      return (double) ((Date) value).getTime();
+    }
+    if (value instanceof Boolean) {
+      return value;
+    }
+    if (value instanceof Enum) {
+      return ((Enum<?>) value).name();
+    }
+    return String.valueOf(value);
+  }
+
+  static <T> Map<String, Object[]> extract(
+      List<T> records, Map<String, Function<? super T, ?>> accessors) {
+    Map<String, Object[]> extracted = new LinkedHashMap<>();
+    accessors.forEach(
+        (name, accessor) -> {
+          Object[] values = new Object[records.size()];
+          for (int i = 0; i < values.length; i++) {
+            values[i] = toColumnValue(accessor.apply(records.get(i)));
+          }
+          extracted.put(name, values);
+        });
+    return extracted;
+  }
+
+  /**
+   * Creates the {@link #WORKER_SCRIPT} message that replaces the worker columns.
+   *
+   * @param columns The extracted columns, see {@link #extract(List, Map)}.
+   * @param size The number of records.
+   * @return the data message.
+   */
+  static JsPropertyMap<Object> dataMessage(Map<String, Object[]> columns, int size) {
+    JsPropertyMap<Object> jsColumns = JsPropertyMap.of();
+    columns.forEach(
+        (name, values) -> {
+          JsArray<Object> array = new JsArray<>();
+          for (Object value : values) {
+            array.push(value);
+          }
+          jsColumns.set(name, array);
+        });
+    return JsPropertyMap.of("type", "data", "columns", jsColumns, "size", (double) size);
+  }
+
+  /**
+   * Creates the {@link #WORKER_SCRIPT} message that runs a query, the worker replies with the query
+   * id, the total matches count and the record indices of the requested page.
+   *
+   * @param id The query id.
+   * @param filters The search and header filters.
+   * @param sortField The column to sort by, or null to keep the records order.
+   * @param direction 1 for ascending, -1 for descending.
+   * @param offset The index of the first match to return.
+   * @param limit The maximum number of matches to return, 0 for all.
+   * @return the query message.
+   */
+  static JsPropertyMap<Object> queryMessage(
+      int id, List<Filter> filters, String sortField, int direction, int offset, int limit) {
+    JsArray<Object> jsFilters = new JsArray<>();
+    for (Filter filter : filters) {
+      JsArray<String> values = new JsArray<>();
+      if (nonNull(filter.getValues())) {
+        filter.getValues().forEach(values::push);
+      }
+      jsFilters.push(
+          JsPropertyMap.of(
+              "field", filter.getFieldName(), "op", operatorName(filter), "values", values));
+    }
+    JsPropertyMap<Object> message = JsPropertyMap.of("type", "query", "filters", jsFilters);
+    message.set("id", (double) id);
+    message.set("offset", (double) offset);
+    message.set("limit", (double) limit);
+    message.set(
+        "sort",
+        nonNull(sortField)
+            ? JsPropertyMap.of("field", sortField, "dir", (double) direction)
+            : null);
+    return message;
+  }
+
+  void setColumns(Map<String, Object[]> columns, int size) {
+    this.columns.clear();
+    this.columns.putAll(columns);
+    this.size = size;
+    this.types.clear();
+    columns.forEach((name, values) -> types.put(name, typeOf(values)));
+    this.lastKey = null;
+  }
+
+  /**
+   * Returns the indices of the records matching the filters, sorted by the specified column. The
+   * result of the last query is reused when only the page changes.
+   *
+   * @param filters The search and header filters.
+   * @param sortField The column to sort by, or null to keep the records order.
+   * @param direction 1 for ascending, -1 for descending.
+   * @return the matching record indices in display order.
+   */
+  int[] query(List<Filter> filters, String sortField, int direction) {
+    String key = queryKey(filters, sortField, direction);
+    if (!key.equals(lastKey)) {
+      List<Integer> order = new ArrayList<>();
+      for (int i = 0; i < size; i++) {
+        if (matchesAll(filters, i)) {
+          order.add(i);
+        }
+      }
+      Object[] sortColumn = sortColumn(sortField);
+      if (nonNull(sortColumn)) {
+        order.sort(
+            (a, b) -> {
+              int result = compare(sortColumn[a], sortColumn[b]) * direction;
+              return result != 0 ? result : Integer.compare(a, b);
+            });
+      }
+      lastOrder = order.stream().mapToInt(Integer::intValue).toArray();
+      lastKey = key;
+    }
+    return lastOrder;
+  }
+
+  private Object[] sortColumn(String sortField) {
+    if (isNull(sortField)) {
+      return null;
+    }
+    Object[] sortColumn = columns.get(SORT_COLUMN_PREFIX + sortField);
+    return nonNull(sortColumn) ? sortColumn : columns.get(sortField);
+  }
+
+  static String queryKey(List<Filter> filters, String sortField, int direction) {
+    StringBuilder key = new StringBuilder();
+    for (Filter filter : filters) {
+      key.append(filter.getFieldName())
+          .append('\u0001')
+          .append(operatorName(filter))
+          .append('\u0001')
+          .append(filter.getValues())
+          .append('\u0002');
+    }
+    return key.append(sortField).append('\u0001').append(direction).toString();
+  }
+
+  static String operatorName(Filter filter) {
+    return nonNull(filter.getOperator()) ? filter.getOperator().getName() : "like";
+  }
+
+  private boolean matchesAll(List<Filter> filters, int index) {
+    for (Filter filter : filters) {
+      if (!matches(filter, index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean matches(Filter filter, int index) {
+    List<String> values =
+        nonNull(filter.getValues()) ? filter.getValues() : Collections.emptyList();
+    if ("*".equals(filter.getFieldName())) {
+      String text = !values.isEmpty() && nonNull(values.get(0)) ? lower(values.get(0)) : "";
+      if (text.isEmpty()) {
+        return true;
+      }
+      for (Map.Entry<String, Object[]> column : columns.entrySet()) {
+        Object cell = column.getValue()[index];
+        if (!column.getKey().startsWith(SORT_COLUMN_PREFIX)
+            && TEXT.equals(types.get(column.getKey()))
+            && nonNull(cell)
+            && lower(cell).contains(text)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    Object[] column = columns.get(filter.getFieldName());
+    if (isNull(column)) {
+      return true;
+    }
+    return matchesValue(filter, column[index], types.get(filter.getFieldName()));
+  }
+
+  /**
+   * Checks a single column value, as returned by {@link #toColumnValue(Object)}, against a column
+   * filter.
+   *
+   * @param filter The column filter.
+   * @param value The column value.
+   * @param type The column type, see {@link #typeOf(Object)}.
+   * @return true if the value matches the filter.
+   */
+  static boolean matchesValue(Filter filter, Object value, String type) {
+    List<String> values =
+        nonNull(filter.getValues()) ? filter.getValues() : Collections.emptyList();
+    String op = operatorName(filter);
+    if ("isNull".equals(op)) {
+      return isNull(value);
+    }
+    if ("isNotNull".equals(op)) {
+      return nonNull(value);
+    }
+    if (values.isEmpty() || isNull(values.get(0)) || values.get(0).isEmpty()) {
+      return true;
+    }
+    if (isNull(value)) {
+      return "notEquals".equals(op) || "notContains".equals(op) || "notLike".equals(op);
+    }
+    Object target = parse(type, values.get(0));
+    switch (op) {
+      case "equals":
+        return compare(value, target) == 0;
+      case "notEquals":
+        return compare(value, target) != 0;
+      case "lessThan":
+        return compare(value, target) < 0;
+      case "lessThanOrEquals":
+        return compare(value, target) <= 0;
+      case "greaterThan":
+        return compare(value, target) > 0;
+      case "greaterThanOrEquals":
+        return compare(value, target) >= 0;
+      case "between":
+        return compare(value, target) >= 0
+            && (values.size() < 2 || compare(value, parse(type, values.get(1))) <= 0);
+      case "containsAny":
+        return values.stream().anyMatch(candidate -> compare(value, parse(type, candidate)) == 0);
+      case "startsWith":
+        return TEXT.equals(type)
+            ? lower(value).startsWith(lower(values.get(0)))
+            : like(type, value, values.get(0));
+      case "endsWith":
+        return TEXT.equals(type)
+            ? lower(value).endsWith(lower(values.get(0)))
+            : like(type, value, values.get(0));
+      case "notContains":
+      case "notLike":
+        return !like(type, value, values.get(0));
+      default:
+        return like(type, value, values.get(0));
+    }
+  }
+
+  private static boolean like(String type, Object value, String raw) {
+    return TEXT.equals(type)
+        ? lower(value).contains(lower(raw))
+        : compare(value, parse(type, raw)) == 0;
+  }
+
+  private static String typeOf(Object[] values) {
+    for (Object value : values) {
+      if (nonNull(value)) {
+        return typeOf(value);
+      }
+    }
+    return TEXT;
+  }
+
+  /**
+   * @return the type of a value returned by {@link #toColumnValue(Object)}.
+   */
+  static String typeOf(Object value) {
+    if (value instanceof Double) {
+      return NUMBER;
+    }
+    if (value instanceof Boolean) {
+      return BOOLEAN;
+    }
+    return TEXT;
+  }
+
+  private static Object parse(String type, String value) {
+    if (isNull(value)) {
+      return null;
+    }
+    if (NUMBER.equals(type)) {
+      try {
+        return Double.parseDouble(value.trim());
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    if (BOOLEAN.equals(type)) {
+      return Boolean.parseBoolean(value.trim());
+    }
+    return value;
+  }
+
+  private static String lower(Object value) {
+    return String.valueOf(value).toLowerCase();
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static int compare(Object a, Object b) {
+    if (isNull(a)) {
+      return isNull(b) ? 0 : -1;
+    }
+    if (isNull(b)) {
+      return 1;
+    }
+    if (Objects.equals(a, b)) {
+      return 0;
+    }
+    if (a.getClass() != b.getClass()) {
+      return String.valueOf(a).compareTo(String.valueOf(b));
+    }
+    return Integer.signum(((Comparable) a).compareTo(b));
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.Comparator;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.ColumnValue;
+import org.dominokit.domino.ui.datatable.TableConfig;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+
+/**
+ * A {@link RecordsSorter} sorting the records by the memoized comparable keys of the {@link
+ * ColumnValue} of the column with the same sort key, records are kept in order when no such column
+ * exists.
+ *
+ * @param <T> The type of the table records.
+ */
+public class ColumnValuesRecordsSorter<T> implements RecordsSorter<T> {
+
+  private final TableConfig<T> tableConfig;
+
+  /**
+   * Creates a sorter for the columns of the provided table configuration.
+   *
+   * @param tableConfig The table configuration.
+   */
+  public ColumnValuesRecordsSorter(TableConfig<T> tableConfig) {
+    this.tableConfig = tableConfig;
+  }
+
+  @Override
+  public Comparator<T> onSortChange(String sortBy, SortDirection sortDirection) {
+    for (ColumnConfig<T> column : tableConfig.getLeafColumns()) {
+      if (column.getSortKey().equals(sortBy) && column.getColumnValue().isPresent()) {
+        Comparator<T> comparator = column.getColumnValue().get().comparator();
+        return SortDirection.DESC.equals(sortDirection) ? comparator.reversed() : comparator;
+      }
+    }
+    return (a, b) -> 0;
+  }
+}
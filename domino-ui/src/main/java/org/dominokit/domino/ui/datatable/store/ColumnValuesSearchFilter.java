@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+
+import java.util.List;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.ColumnValue;
+import org.dominokit.domino.ui.datatable.TableConfig;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+
+/**
+ * A {@link SearchFilter} matching the records using the {@link ColumnValue} of the table columns,
+ * the header filters are matched against the column with the same filter key, and the search filter
+ * against the formatted values of all the columns.
+ *
+ * <p>The header filters use the same matching rules as the {@link WorkerListDataStore}, while the
+ * search matches the formatted text of every column, where the {@link WorkerListDataStore} only
+ * searches the columns with text values.
+ *
+ * @param <T> The type of the table records.
+ */
+public class ColumnValuesSearchFilter<T> implements SearchFilter<T> {
+
+  private final TableConfig<T> tableConfig;
+
+  /**
+   * Creates a filter for the columns of the provided table configuration.
+   *
+   * @param tableConfig The table configuration.
+   */
+  public ColumnValuesSearchFilter(TableConfig<T> tableConfig) {
+    this.tableConfig = tableConfig;
+  }
+
+  @Override
+  public boolean filterRecord(SearchEvent event, T record) {
+    for (Filter filter : event.getFilters()) {
+      if (!matches(filter, record)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean matches(Filter filter, T record) {
+    List<String> values = filter.getValues();
+    if ("*".equals(filter.getFieldName())) {
+      if (isNull(values) || values.isEmpty() || isNull(values.get(0))) {
+        return true;
+      }
+      String text = values.get(0).toLowerCase();
+      if (text.isEmpty()) {
+        return true;
+      }
+      for (ColumnConfig<T> column : tableConfig.getLeafColumns()) {
+        if (column.getColumnValue().isPresent()
+            && column.getColumnValue().get().format(record).toLowerCase().contains(text)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    for (ColumnConfig<T> column : tableConfig.getLeafColumns()) {
+      if (column.getFilterKey().equals(filter.getFieldName())
+          && column.getColumnValue().isPresent()) {
+        Object value =
+            ColumnQueryEngine.toColumnValue(column.getColumnValue().get().getValue(record));
+        return ColumnQueryEngine.matchesValue(filter, value, ColumnQueryEngine.typeOf(value));
+      }
+    }
+    return true;
+  }
+}
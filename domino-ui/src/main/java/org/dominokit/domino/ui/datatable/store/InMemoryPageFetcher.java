@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link PageFetcher} serving pages from an in-memory list, it filters and sorts the records the
+ * same way {@link LocalListDataStore} does. Useful as a stand-in for a server in tests and
+ * prototypes.
+ *
+ * @param <T> The type of the records.
+ */
+public class InMemoryPageFetcher<T> implements PageFetcher<T> {
+
+  private final List<T> records;
+  private SearchFilter<T> searchFilter;
+  private RecordsSorter<T> recordsSorter;
+  private int fetchCount;
+
+  /**
+   * @param records The records to serve.
+   */
+  public InMemoryPageFetcher(List<T> records) {
+    this.records = records;
+  }
+
+  /**
+   * @param searchFilter The filter applied to the records for search requests.
+   * @return same instance
+   */
+  public InMemoryPageFetcher<T> setSearchFilter(SearchFilter<T> searchFilter) {
+    this.searchFilter = searchFilter;
+    return this;
+  }
+
+  /**
+   * @param recordsSorter The sorter applied to the records for sorted requests.
+   * @return same instance
+   */
+  public InMemoryPageFetcher<T> setRecordsSorter(RecordsSorter<T> recordsSorter) {
+    this.recordsSorter = recordsSorter;
+    return this;
+  }
+
+  /**
+   * @return the number of pages fetched so far.
+   */
+  public int getFetchCount() {
+    return fetchCount;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void fetch(PageRequest request, PageCallback<T> callback) {
+    fetchCount++;
+    List<T> matching =
+        nonNull(searchFilter) && nonNull(request.getSearchEvent())
+            ? records.stream()
+                .filter(record -> searchFilter.filterRecord(request.getSearchEvent(), record))
+                .collect(Collectors.toList())
+            : new ArrayList<>(records);
+    if (nonNull(recordsSorter) && nonNull(request.getSortBy())) {
+      matching.sort(recordsSorter.onSortChange(request.getSortBy(), request.getSortDirection()));
+    }
+    int from = Math.min(request.getOffset(), matching.size());
+    int to = Math.min(from + request.getLimit(), matching.size());
+    callback.onSuccess(new ArrayList<>(matching.subList(from, to)), matching.size());
+  }
+}
@@ -26,6 +26,7 @@ import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGI
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
@@ -36,7 +37,9 @@ import org.dominokit.domino.ui.data.DataFilter;
 import org.dominokit.domino.ui.data.DataStore;
 import org.dominokit.domino.ui.data.FilterMode;
 import org.dominokit.domino.ui.data.HasDataFilters;
+import org.dominokit.domino.ui.data.StoreCache;
 import org.dominokit.domino.ui.data.StoreDataChangeListener;
+import org.dominokit.domino.ui.datatable.TableConfig;
 import org.dominokit.domino.ui.datatable.events.*;
 import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
 import org.dominokit.domino.ui.pagination.HasPagination;
@@ -134,6 +137,19 @@ public class LocalListDataStore<T>
     load();
   }
 
+  /**
+   * Sets the data cached by the provided {@link StoreCache} from a previous visit, if any, then
+   * sets the data again once the refresher reconciles it with the server.
+   *
+   * @param cache The cache keeping the data snapshot.
+   * @param refresher The refresher loading the fresh data.
+   * @return same store instance
+   */
+  public LocalListDataStore<T> warmStart(StoreCache<T> cache, StoreCache.Refresher<T> refresher) {
+    cache.warmStart(this::setData, refresher);
+    return this;
+  }
+
   /**
    * Clears the contents of the store and then reloads the data.
    *
@@ -242,6 +258,20 @@ public class LocalListDataStore<T>
     return this;
   }
 
+  /**
+   * Uses the {@link org.dominokit.domino.ui.datatable.ColumnValue} of the table columns for
+   * searching, filtering and sorting, see {@link ColumnValuesSearchFilter} and {@link
+   * ColumnValuesRecordsSorter}.
+   *
+   * @param tableConfig The table configuration defining the columns.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> useColumnValues(TableConfig<T> tableConfig) {
+    setSearchFilter(new ColumnValuesSearchFilter<>(tableConfig));
+    setRecordsSorter(new ColumnValuesRecordsSorter<>(tableConfig));
+    return this;
+  }
+
   /**
    * Sets the records sorter used for sorting records along with a custom sorting function.
    *
@@ -753,6 +783,17 @@ public class LocalListDataStore<T>
     return new ArrayList<>(filtered);
   }
 
+  /**
+   * Retrieves a read-only view of the filtered list of records in the data store without copying
+   * it, the view reflects later changes to the store and should not be kept beyond the current
+   * operation.
+   *
+   * @return An unmodifiable view of the filtered records.
+   */
+  public List<T> getFilteredRecordsView() {
+    return Collections.unmodifiableList(filtered);
+  }
+
   /**
    * Sets the actions for drag-and-drop operations on records within the data store.
    *
@@ -63,6 +63,8 @@ public class LocalListScrollingDataSource<T>
   private Set<DataFilter<? super T>> dataFilters;
   private SearchEvent lastSearch;
   private boolean append = false;
+  private int maxResidentPages = 0;
+  private int firstResidentPage = 1;
 
   /**
    * Creates a new instance of {@link LocalListScrollingDataSource} with the specified page size.
@@ -242,7 +244,31 @@ public class LocalListScrollingDataSource<T>
     int fromPage = append ? oldPage : 0;
     int fromIndex = pagination.getPageSize() * fromPage;
     int toIndex = Math.min(getToIndex(fromIndex), filtered.size());
+    if (!append) {
+      firstResidentPage = 1;
+    }
 
+    if (maxResidentPages > 0
+        && pagination.activePage() - firstResidentPage + 1 > maxResidentPages) {
+      firstResidentPage = pagination.activePage() - maxResidentPages + 1;
+      fireWindow();
+    } else {
+      fireDataChanged(fromIndex, toIndex, append);
+    }
+    this.append = false;
+  }
+
+  /**
+   * Fires the records of all the resident pages as a replacement of the table rows, the data change
+   * event has no way to remove a single page from the table.
+   */
+  private void fireWindow() {
+    int fromIndex = Math.min((firstResidentPage - 1) * pagination.getPageSize(), filtered.size());
+    int toIndex = Math.min(pagination.activePage() * pagination.getPageSize(), filtered.size());
+    fireDataChanged(fromIndex, toIndex, false);
+  }
+
+  private void fireDataChanged(int fromIndex, int toIndex, boolean append) {
     listeners.forEach(
         dataChangeListener ->
             dataChangeListener.onDataChanged(
@@ -250,7 +276,6 @@ public class LocalListScrollingDataSource<T>
                     new ArrayList<>(filtered.subList(fromIndex, toIndex)),
                     append,
                     filtered.size())));
-    this.append = false;
   }
 
   private int getToIndex(int fromIndex) {
@@ -284,9 +309,10 @@ public class LocalListScrollingDataSource<T>
   }
 
   /**
-   * Handles scrolling events in the data table, specifically when scrolling to the bottom. It
-   * increments the page index and triggers an update in append mode if the scroll position is at
-   * the bottom.
+   * Handles scrolling events in the data table. When scrolling to the bottom it increments the page
+   * index and triggers an update in append mode. When scrolling to the top while the number of
+   * resident pages is limited and the first pages were evicted, it loads back the page before the
+   * first resident page and evicts the last one, see {@link #setMaxResidentPages(int)}.
    *
    * @param bodyScrollEvent The body scroll event to handle.
    */
@@ -298,6 +324,11 @@ public class LocalListScrollingDataSource<T>
         this.append = true;
         pagination.nextPage(false);
       }
+    } else if (maxResidentPages > 0 && firstResidentPage > 1) {
+      firstResidentPage--;
+      int lastPage = Math.min(pagination.activePage(), firstResidentPage + maxResidentPages - 1);
+      pagination.withPausedChangeListeners(p -> pagination.gotoPage(lastPage, true));
+      fireWindow();
     }
   }
 
@@ -444,6 +475,40 @@ public class LocalListScrollingDataSource<T>
     return this.filtersPaused;
   }
 
+  /**
+   * @return the maximum number of pages kept in the data table, 0 means no limit.
+   */
+  public int getMaxResidentPages() {
+    return maxResidentPages;
+  }
+
+  /**
+   * Limits the number of pages kept in the data table. When scrolling to the bottom loads a page
+   * beyond this limit the pages at the top are evicted, and scrolling back to the top reloads them
+   * while evicting pages from the bottom, this keeps the number of rendered rows bounded for large
+   * lists. Use with the {@link BodyScrollPlugin} so the scroll position is kept while the pages are
+   * swapped.
+   *
+   * <p>Evicting does not remove only the evicted page from the table, the data table replaces its
+   * rows with the whole resident window, so every eviction re-renders up to {@code maxResidentPages
+   * * pageSize} rows. Keep the limit small enough for that re-rendering to stay cheap.
+   *
+   * @param maxResidentPages the maximum number of pages, 0 or less means no limit which is the
+   *     default.
+   * @return same datasource instance
+   */
+  public LocalListScrollingDataSource<T> setMaxResidentPages(int maxResidentPages) {
+    this.maxResidentPages = Math.max(0, maxResidentPages);
+    return this;
+  }
+
+  /**
+   * @return the 1-based index of the first page currently loaded in the data table.
+   */
+  public int getFirstResidentPage() {
+    return firstResidentPage;
+  }
+
   /**
    * Gets the filtered records based on the current filtering criteria.
    *
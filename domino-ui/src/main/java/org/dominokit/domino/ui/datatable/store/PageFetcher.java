@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.List;
+
+/**
+ * Fetches a page of records for a {@link RemoteDataStore}, usually from a server.
+ *
+ * @param <T> The type of the records.
+ */
+@FunctionalInterface
+public interface PageFetcher<T> {
+
+  /**
+   * Fetches the page described by the request and reports the result to the callback, the callback
+   * can be called synchronously or asynchronously.
+   *
+   * @param request The page request.
+   * @param callback The callback to receive the page.
+   */
+  void fetch(PageRequest request, PageCallback<T> callback);
+
+  /**
+   * Receives the result of a page fetch.
+   *
+   * @param <T> The type of the records.
+   */
+  interface PageCallback<T> {
+
+    /**
+     * @param records The records of the page.
+     * @param totalCount The total number of records matching the query.
+     */
+    void onSuccess(List<T> records, int totalCount);
+
+    /**
+     * @param error The fetch failure.
+     */
+    void onFailure(Throwable error);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+
+/**
+ * Represents a single page query issued by a {@link RemoteDataStore} to its {@link PageFetcher}. A
+ * fetcher can register abort handlers to cancel its in-flight work when the page is no longer
+ * needed, the response of an aborted request is ignored by the store.
+ */
+public final class PageRequest {
+
+  private final int pageIndex;
+  private final int offset;
+  private final int limit;
+  private final String sortBy;
+  private final SortDirection sortDirection;
+  private final SearchEvent searchEvent;
+  private final boolean prefetch;
+  private final List<Runnable> abortHandlers = new ArrayList<>();
+  private boolean aborted = false;
+
+  PageRequest(
+      int pageIndex,
+      int limit,
+      String sortBy,
+      SortDirection sortDirection,
+      SearchEvent searchEvent,
+      boolean prefetch) {
+    this.pageIndex = pageIndex;
+    this.offset = pageIndex * limit;
+    this.limit = limit;
+    this.sortBy = sortBy;
+    this.sortDirection = sortDirection;
+    this.searchEvent = searchEvent;
+    this.prefetch = prefetch;
+  }
+
+  /**
+   * @return the zero based index of the requested page.
+   */
+  public int getPageIndex() {
+    return pageIndex;
+  }
+
+  /**
+   * @return the index of the first requested record.
+   */
+  public int getOffset() {
+    return offset;
+  }
+
+  /**
+   * @return the maximum number of requested records.
+   */
+  public int getLimit() {
+    return limit;
+  }
+
+  /**
+   * @return the sort key of the sorted column, or null if the records are not sorted.
+   */
+  public String getSortBy() {
+    return sortBy;
+  }
+
+  /**
+   * @return the sort direction, or null if the records are not sorted.
+   */
+  public SortDirection getSortDirection() {
+    return sortDirection;
+  }
+
+  /**
+   * @return the search event of the query, or null if there is no search.
+   */
+  public SearchEvent getSearchEvent() {
+    return searchEvent;
+  }
+
+  /**
+   * @return the search filters of the query.
+   */
+  public List<Filter> getFilters() {
+    return searchEvent == null
+        ? Collections.emptyList()
+        : Collections.unmodifiableList(searchEvent.getFilters());
+  }
+
+  /**
+   * @return true if the page is requested ahead of being displayed.
+   */
+  public boolean isPrefetch() {
+    return prefetch;
+  }
+
+  /**
+   * @return true if this request was aborted.
+   */
+  public boolean isAborted() {
+    return aborted;
+  }
+
+  /**
+   * Registers a handler to be called when this request is aborted, if the request is already
+   * aborted the handler is called immediately.
+   *
+   * @param handler The abort handler, for example one that aborts an XHR call.
+   * @return same request instance
+   */
+  public PageRequest onAbort(Runnable handler) {
+    if (aborted) {
+      handler.run();
+    } else {
+      abortHandlers.add(handler);
+    }
+    return this;
+  }
+
+  void abort() {
+    if (!aborted) {
+      aborted = true;
+      abortHandlers.forEach(Runnable::run);
+      abortHandlers.clear();
+    }
+  }
+}
@@ -0,0 +1,477 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
+import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
+import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
+
+import elemental2.dom.DomGlobal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.dominokit.domino.ui.data.DataChangedEvent;
+import org.dominokit.domino.ui.data.DataStore;
+import org.dominokit.domino.ui.data.StoreDataChangeListener;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.pagination.HasPagination;
+import org.dominokit.domino.ui.utils.DominoEvent;
+import org.dominokit.domino.ui.utils.LruCache;
+import org.gwtproject.timer.client.Timer;
+
+/**
+ * A data store that loads the records of a DataTable page by page using a {@link PageFetcher}, for
+ * example from a server.
+ *
+ * <ul>
+ *   <li>Loaded pages are kept in a least recently used cache keyed by the search and sort query,
+ *       the page size and the page index, going back to a cached page does not fetch it again.
+ *   <li>The pages adjacent to the displayed page are prefetched.
+ *   <li>A request for a page that is no longer needed, because the user moved to another page or
+ *       changed the query, is aborted and its response is ignored.
+ *   <li>Rapid search and sort changes are coalesced into a single query.
+ * </ul>
+ *
+ * <pre>
+ * RemoteDataStore&lt;Contact&gt; store =
+ *     new RemoteDataStore&lt;&gt;(
+ *         (request, callback) -&gt;
+ *             contactsService.list(request.getOffset(), request.getLimit(), ...)
+ *                 .then(page -&gt; callback.onSuccess(page.getItems(), page.getTotal())));
+ * store.setPagination(pagination);
+ * </pre>
+ *
+ * @param <T> The type of the records.
+ */
+public class RemoteDataStore<T> implements DataStore<T> {
+
+  private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+  private final PageFetcher<T> pageFetcher;
+  private final LruCache<String, Page<T>> cache = new LruCache<>(20);
+  private final Map<String, PageRequest> inFlight = new HashMap<>();
+
+  private HasPagination pagination;
+  private int pageSize = 10;
+  private int prefetchPages = 1;
+  private int queryDelay = 100;
+  private Consumer<Throwable> errorHandler =
+      error -> DomGlobal.console.error("Failed to load page", error);
+
+  private SortEvent<T> lastSort;
+  private SearchEvent lastSearch;
+  // the sort and search of the applied query, pages are requested and cached for this state while
+  // a newer sort or search is still waiting for the query delay.
+  private SortEvent<T> querySort;
+  private SearchEvent querySearch;
+  private String queryKey = "";
+  private int pageIndex = 0;
+  private String displayedKey;
+  private int totalCount = -1;
+  private Timer queryTimer;
+  private boolean resetPageOnQuery;
+
+  /**
+   * Creates a store that loads its pages using the specified fetcher.
+   *
+   * @param pageFetcher The page fetcher.
+   */
+  public RemoteDataStore(PageFetcher<T> pageFetcher) {
+    this.pageFetcher = pageFetcher;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onDataChanged(StoreDataChangeListener<T> dataChangeListener) {
+    listeners.add(dataChangeListener);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void removeDataChangeListener(StoreDataChangeListener<T> dataChangeListener) {
+    listeners.remove(dataChangeListener);
+  }
+
+  /** Loads the current page, from the cache if it was already loaded. */
+  @Override
+  public void load() {
+    loadPage(currentPageIndex());
+  }
+
+  /**
+   * Handles the search, sort and pagination events of the table.
+   *
+   * @param event The table event to handle.
+   */
+  @Override
+  public void handleEvent(DominoEvent event) {
+    switch (event.getType()) {
+      case SEARCH_EVENT:
+        this.lastSearch = (SearchEvent) event;
+        scheduleQuery(true);
+        break;
+      case SORT_EVENT:
+        this.lastSort = (SortEvent<T>) event;
+        scheduleQuery(false);
+        break;
+      case PAGINATION_EVENT:
+        loadPage(currentPageIndex());
+        break;
+    }
+  }
+
+  /**
+   * Displays the page at the specified index, from the cache if it was already loaded.
+   *
+   * @param pageIndex The zero based page index.
+   */
+  public void loadPage(int pageIndex) {
+    this.pageIndex = Math.max(0, pageIndex);
+    String key = pageKey(this.pageIndex);
+    displayedKey = key;
+    abortSuperseded();
+
+    Page<T> page = cache.get(key);
+    if (nonNull(page)) {
+      fireUpdate(page);
+      prefetchAround(this.pageIndex);
+    } else if (!inFlight.containsKey(key)) {
+      fetch(this.pageIndex, false);
+    }
+  }
+
+  /**
+   * Applies any pending search or sort change immediately instead of waiting for the query delay.
+   */
+  public void flushQuery() {
+    if (nonNull(queryTimer) && queryTimer.isRunning()) {
+      queryTimer.cancel();
+      runQuery();
+    }
+  }
+
+  /** Removes all the cached pages, the next page load fetches the page again. */
+  public void invalidate() {
+    cache.clear();
+  }
+
+  /** Aborts all the in-flight requests. */
+  public void cancel() {
+    if (nonNull(queryTimer)) {
+      queryTimer.cancel();
+    }
+    new ArrayList<>(inFlight.values()).forEach(PageRequest::abort);
+    inFlight.clear();
+  }
+
+  /**
+   * @return true if a page request or a query change is pending.
+   */
+  public boolean isLoading() {
+    return !inFlight.isEmpty() || (nonNull(queryTimer) && queryTimer.isRunning());
+  }
+
+  /**
+   * @return the total number of records reported by the last loaded page, or -1 if no page was
+   *     loaded yet.
+   */
+  public int getTotalCount() {
+    return totalCount;
+  }
+
+  /**
+   * @return the last sort event.
+   */
+  public SortEvent<T> getLastSort() {
+    return lastSort;
+  }
+
+  /**
+   * @return the last search event.
+   */
+  public SearchEvent getLastSearch() {
+    return lastSearch;
+  }
+
+  /**
+   * @return the pagination of the table if any.
+   */
+  public HasPagination getPagination() {
+    return pagination;
+  }
+
+  /**
+   * Sets the pagination used to get the active page and page size, and updated with the total count
+   * of the records.
+   *
+   * @param pagination The pagination.
+   * @return same store instance
+   */
+  public RemoteDataStore<T> setPagination(HasPagination pagination) {
+    this.pagination = pagination;
+    return this;
+  }
+
+  /**
+   * Sets the page size used when no pagination is set.
+   *
+   * @param pageSize The page size, default is 10.
+   * @return same store instance
+   */
+  public RemoteDataStore<T> setPageSize(int pageSize) {
+    this.pageSize = pageSize;
+    return this;
+  }
+
+  /**
+   * @return the page size.
+   */
+  public int getPageSize() {
+    return nonNull(pagination) ? pagination.getPageSize() : pageSize;
+  }
+
+  /**
+   * Sets how many pages before and after the displayed page are fetched ahead.
+   *
+   * @param prefetchPages The number of pages on each side, 0 disables prefetching, default is 1.
+   * @return same store instance
+   */
+  public RemoteDataStore<T> setPrefetchPages(int prefetchPages) {
+    this.prefetchPages = prefetchPages;
+    return this;
+  }
+
+  /**
+   * @return how many pages before and after the displayed page are fetched ahead.
+   */
+  public int getPrefetchPages() {
+    return prefetchPages;
+  }
+
+  /**
+   * Sets the time to wait after a search or sort event for more changes before querying.
+   *
+   * @param queryDelay The delay in milliseconds, 0 queries immediately, default is 100.
+   * @return same store instance
+   */
+  public RemoteDataStore<T> setQueryDelay(int queryDelay) {
+    this.queryDelay = queryDelay;
+    return this;
+  }
+
+  /**
+   * @return the time to wait after a search or sort event before querying in milliseconds.
+   */
+  public int getQueryDelay() {
+    return queryDelay;
+  }
+
+  /**
+   * Sets the limits of the pages cache.
+   *
+   * @param maxPages The maximum number of cached pages, a value less than 1 means unbounded.
+   * @param timeToLive The time to live of a cached page in milliseconds, a value less than 1 means
+   *     pages never expire.
+   * @return same store instance
+   */
+  public RemoteDataStore<T> setCacheLimits(int maxPages, double timeToLive) {
+    cache.setMaxSize(maxPages);
+    cache.setTimeToLive(timeToLive);
+    return this;
+  }
+
+  /**
+   * Sets the handler for page fetch failures of the displayed page, failed prefetches are ignored.
+   *
+   * @param errorHandler The error handler.
+   * @return same store instance
+   */
+  public RemoteDataStore<T> setErrorHandler(Consumer<Throwable> errorHandler) {
+    this.errorHandler = errorHandler;
+    return this;
+  }
+
+  private void scheduleQuery(boolean resetPage) {
+    this.resetPageOnQuery = this.resetPageOnQuery || resetPage;
+    if (queryDelay <= 0) {
+      runQuery();
+      return;
+    }
+    if (isNull(queryTimer)) {
+      queryTimer =
+          new Timer() {
+            @Override
+            public void run() {
+              runQuery();
+            }
+          };
+    }
+    queryTimer.schedule(queryDelay);
+  }
+
+  private void runQuery() {
+    String newQueryKey = createQueryKey();
+    boolean resetPage = resetPageOnQuery;
+    resetPageOnQuery = false;
+    querySort = lastSort;
+    querySearch = lastSearch;
+    if (newQueryKey.equals(queryKey) && nonNull(displayedKey)) {
+      return;
+    }
+    queryKey = newQueryKey;
+    totalCount = -1;
+    if (resetPage && nonNull(pagination) && pagination.activePage() != 1) {
+      pagination.gotoPage(1, true);
+    }
+    loadPage(resetPage ? 0 : currentPageIndex());
+  }
+
+  private void fetch(int index, boolean prefetch) {
+    String key = pageKey(index);
+    PageRequest request =
+        new PageRequest(
+            index,
+            getPageSize(),
+            nonNull(querySort) ? querySort.getColumnConfig().getSortKey() : null,
+            nonNull(querySort) ? querySort.getSortDirection() : null,
+            querySearch,
+            prefetch);
+    inFlight.put(key, request);
+    pageFetcher.fetch(
+        request,
+        new PageFetcher.PageCallback<T>() {
+          @Override
+          public void onSuccess(List<T> records, int totalCount) {
+            if (request.isAborted() || inFlight.get(key) != request) {
+              return;
+            }
+            inFlight.remove(key);
+            Page<T> page = new Page<>(records, totalCount);
+            cache.put(key, page);
+            if (key.equals(displayedKey)) {
+              fireUpdate(page);
+              prefetchAround(index);
+            }
+          }
+
+          @Override
+          public void onFailure(Throwable error) {
+            if (request.isAborted() || inFlight.get(key) != request) {
+              return;
+            }
+            inFlight.remove(key);
+            if (key.equals(displayedKey)) {
+              errorHandler.accept(error);
+            }
+          }
+        });
+  }
+
+  private void prefetchAround(int index) {
+    for (int distance = 1; distance <= prefetchPages; distance++) {
+      prefetch(index + distance);
+      prefetch(index - distance);
+    }
+  }
+
+  private void prefetch(int index) {
+    if (index < 0 || (totalCount >= 0 && index * getPageSize() >= totalCount)) {
+      return;
+    }
+    String key = pageKey(index);
+    if (!cache.containsKey(key) && !inFlight.containsKey(key)) {
+      fetch(index, true);
+    }
+  }
+
+  private void abortSuperseded() {
+    List<String> superseded = new ArrayList<>();
+    inFlight.forEach(
+        (key, request) -> {
+          if (!key.equals(displayedKey)
+              && (!key.startsWith(pageKeyPrefix())
+                  || Math.abs(request.getPageIndex() - pageIndex) > prefetchPages)) {
+            superseded.add(key);
+          }
+        });
+    superseded.forEach(key -> inFlight.remove(key).abort());
+  }
+
+  private void fireUpdate(Page<T> page) {
+    if (nonNull(pagination) && (totalCount != page.totalCount)) {
+      int activePage = pagination.activePage();
+      pagination.updatePagesByTotalCount(page.totalCount, getPageSize());
+      if (activePage > 1 && activePage <= pagination.getPagesCount()) {
+        pagination.gotoPage(activePage, true);
+      }
+    }
+    totalCount = page.totalCount;
+    List<T> records = new ArrayList<>(page.records);
+    listeners.forEach(
+        listener -> listener.onDataChanged(new DataChangedEvent<>(records, page.totalCount)));
+  }
+
+  private int currentPageIndex() {
+    return nonNull(pagination) ? Math.max(0, pagination.activePage() - 1) : pageIndex;
+  }
+
+  private String createQueryKey() {
+    StringBuilder key = new StringBuilder();
+    if (nonNull(lastSort)) {
+      key.append(lastSort.getColumnConfig().getSortKey())
+          .append(':')
+          .append(lastSort.getSortDirection());
+    }
+    if (nonNull(lastSearch)) {
+      for (Filter filter : lastSearch.getFilters()) {
+        key.append('|')
+            .append(filter.getFieldName())
+            .append(':')
+            .append(nonNull(filter.getType()) ? filter.getType().getTypeName() : "")
+            .append(':')
+            .append(nonNull(filter.getOperator()) ? filter.getOperator().getName() : "")
+            .append(':')
+            .append(nonNull(filter.getCategory()) ? filter.getCategory().key() : "")
+            .append(':')
+            .append(filter.getValues());
+      }
+    }
+    return key.toString();
+  }
+
+  private String pageKey(int index) {
+    return pageKeyPrefix() + index;
+  }
+
+  private String pageKeyPrefix() {
+    return queryKey + "#" + getPageSize() + "#";
+  }
+
+  private static final class Page<T> {
+    private final List<T> records;
+    private final int totalCount;
+
+    private Page(List<T> records, int totalCount) {
+      this.records = records;
+      this.totalCount = totalCount;
+    }
+  }
+}
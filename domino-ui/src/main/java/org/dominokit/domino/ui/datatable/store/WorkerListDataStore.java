@@ -0,0 +1,390 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
+import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
+import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
+
+import elemental2.dom.Blob;
+import elemental2.dom.BlobPropertyBag;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.URL;
+import elemental2.dom.Worker;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import jsinterop.base.Js;
+import jsinterop.base.JsArrayLike;
+import jsinterop.base.JsPropertyMap;
+import org.dominokit.domino.ui.data.DataChangedEvent;
+import org.dominokit.domino.ui.data.DataStore;
+import org.dominokit.domino.ui.data.StoreDataChangeListener;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.ColumnValue;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+import org.dominokit.domino.ui.pagination.HasPagination;
+import org.dominokit.domino.ui.utils.DominoEvent;
+
+/**
+ * A local list data store that runs search, filter and sort off the main thread, for large lists
+ * where sorting or filtering with {@link LocalListDataStore} would block the user input.
+ *
+ * <p>The values used for searching, filtering and sorting are extracted from the records by the
+ * accessors added with {@link #addColumn(String, Function)}, the column name must match the sort
+ * key of the table column and the field name used by its header filter. The column arrays are sent
+ * once to a Web Worker, each query then only sends back the record indices of the visible page.
+ *
+ * <ul>
+ *   <li>Numbers and dates are compared as numbers, booleans as booleans and anything else as text.
+ *   <li>The table search ({@code *} field) matches any text column containing the search text
+ *       ignoring the case.
+ *   <li>Header filters are applied by their operator, {@code like} matches text columns containing
+ *       the value and numeric or boolean columns equal to the value.
+ * </ul>
+ *
+ * <p>When Web Workers are not available, or the worker fails to start, the same queries run on the
+ * main thread.
+ *
+ * <pre>
+ * WorkerListDataStore&lt;Contact&gt; store =
+ *     new WorkerListDataStore&lt;&gt;(contacts)
+ *         .addColumn("name", Contact::getName)
+ *         .addColumn("age", Contact::getAge)
+ *         .setPagination(pagination);
+ * </pre>
+ *
+ * @param <T> the type of the data table records
+ */
+public class WorkerListDataStore<T> implements DataStore<T> {
+
+  private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+  private final Map<String, Function<? super T, ?>> accessors = new LinkedHashMap<>();
+  private List<T> records = new ArrayList<>();
+  private HasPagination pagination;
+  private List<Filter> filters = new ArrayList<>();
+  private SortEvent<T> lastSort;
+  private SearchEvent lastSearch;
+
+  private boolean useWorker = true;
+  private Worker worker;
+  private String workerUrl;
+  private ColumnQueryEngine engine;
+  private boolean dataChanged = true;
+  private int queryId = 0;
+  private boolean resetPage = false;
+  private int totalCount = -1;
+
+  /** Creates an empty store. */
+  public WorkerListDataStore() {}
+
+  /**
+   * Creates a store with the specified records.
+   *
+   * @param records The initial records.
+   */
+  public WorkerListDataStore(List<T> records) {
+    this.records = new ArrayList<>(records);
+  }
+
+  /**
+   * Adds a column used for searching, filtering and sorting.
+   *
+   * @param name The column name, should match the column sort key and header filter field name.
+   * @param accessor Extracts the column value from a record.
+   * @return same store instance
+   */
+  public WorkerListDataStore<T> addColumn(String name, Function<? super T, ?> accessor) {
+    accessors.put(name, accessor);
+    dataChanged = true;
+    return this;
+  }
+
+  /**
+   * Adds a column using the memoized values of the column {@link ColumnValue}, the values are
+   * searched and filtered under the column filter key, and the records are sorted by the column
+   * comparable keys under the column sort key. Columns without a value accessor are ignored.
+   *
+   * @param column The table column.
+   * @return same store instance
+   */
+  public WorkerListDataStore<T> addColumn(ColumnConfig<T> column) {
+    column
+        .getColumnValue()
+        .ifPresent(
+            value -> {
+              addColumn(column.getFilterKey(), value::getValue);
+              addColumn(
+                  ColumnQueryEngine.SORT_COLUMN_PREFIX + column.getSortKey(),
+                  value::getComparableKey);
+            });
+    return this;
+  }
+
+  /**
+   * Enables or disables running the queries in a Web Worker, enabled by default.
+   *
+   * @param useWorker false to always run the queries on the main thread.
+   * @return same store instance
+   */
+  public WorkerListDataStore<T> setUseWorker(boolean useWorker) {
+    if (this.useWorker != useWorker) {
+      this.useWorker = useWorker;
+      terminate();
+    }
+    return this;
+  }
+
+  /**
+   * @return true if the queries are currently running in a Web Worker.
+   */
+  public boolean isUsingWorker() {
+    return nonNull(worker);
+  }
+
+  /**
+   * @return the pagination of the store, null if not paginated.
+   */
+  public HasPagination getPagination() {
+    return pagination;
+  }
+
+  /**
+   * @param pagination The pagination used to slice the records.
+   * @return same store instance
+   */
+  public WorkerListDataStore<T> setPagination(HasPagination pagination) {
+    this.pagination = pagination;
+    return this;
+  }
+
+  /**
+   * @return a copy of all the records in the store.
+   */
+  public List<T> getRecords() {
+    return new ArrayList<>(records);
+  }
+
+  /**
+   * Replaces the records of the store and reloads the data.
+   *
+   * @param records The new records.
+   */
+  public void setData(List<T> records) {
+    this.records = new ArrayList<>(records);
+    this.dataChanged = true;
+    this.resetPage = true;
+    load();
+  }
+
+  /** Removes all the records from the store. */
+  public void clear() {
+    setData(new ArrayList<>());
+  }
+
+  /**
+   * @return the last search event applied to the store.
+   */
+  public SearchEvent getLastSearch() {
+    return lastSearch;
+  }
+
+  /**
+   * @return the last sort event applied to the store.
+   */
+  public SortEvent<T> getLastSort() {
+    return lastSort;
+  }
+
+  /**
+   * @return the number of records matching the current search and filters, or -1 if no query
+   *     completed yet.
+   */
+  public int getTotalCount() {
+    return totalCount;
+  }
+
+  @Override
+  public void onDataChanged(StoreDataChangeListener<T> dataChangeListener) {
+    listeners.add(dataChangeListener);
+  }
+
+  @Override
+  public void removeDataChangeListener(StoreDataChangeListener<T> dataChangeListener) {
+    listeners.remove(dataChangeListener);
+  }
+
+  @Override
+  public void load() {
+    runQuery();
+  }
+
+  @Override
+  public void handleEvent(DominoEvent event) {
+    switch (event.getType()) {
+      case SEARCH_EVENT:
+        this.lastSearch = (SearchEvent) event;
+        this.filters = new ArrayList<>(lastSearch.getFilters());
+        this.resetPage = true;
+        runQuery();
+        break;
+      case SORT_EVENT:
+        this.lastSort = (SortEvent<T>) event;
+        runQuery();
+        break;
+      case PAGINATION_EVENT:
+        runQuery();
+        break;
+    }
+  }
+
+  /** Terminates the Web Worker, the next query starts a new one. */
+  public void terminate() {
+    if (nonNull(worker)) {
+      worker.terminate();
+      if (nonNull(workerUrl)) {
+        URL.revokeObjectURL(workerUrl);
+      }
+      worker = null;
+      workerUrl = null;
+    }
+    engine = null;
+    dataChanged = true;
+  }
+
+  private void runQuery() {
+    int id = ++queryId;
+    int offset = 0;
+    int limit = 0;
+    if (nonNull(pagination)) {
+      limit = pagination.getPageSize();
+      offset = resetPage ? 0 : Math.max(0, pagination.activePage() - 1) * limit;
+    }
+    String sortField = null;
+    int direction = 1;
+    if (nonNull(lastSort) && !SortDirection.NONE.equals(lastSort.getSortDirection())) {
+      sortField = lastSort.getColumnConfig().getSortKey();
+      direction = SortDirection.DESC.equals(lastSort.getSortDirection()) ? -1 : 1;
+    }
+
+    if (useWorker && startWorker()) {
+      if (dataChanged) {
+        worker.postMessage(
+            ColumnQueryEngine.dataMessage(
+                ColumnQueryEngine.extract(records, accessors), records.size()));
+        dataChanged = false;
+      }
+      worker.postMessage(
+          ColumnQueryEngine.queryMessage(id, filters, sortField, direction, offset, limit));
+    } else {
+      if (isNull(engine)) {
+        engine = new ColumnQueryEngine();
+      }
+      if (dataChanged) {
+        engine.setColumns(ColumnQueryEngine.extract(records, accessors), records.size());
+        dataChanged = false;
+      }
+      int[] order = engine.query(filters, sortField, direction);
+      int from = Math.min(offset, order.length);
+      int to = limit > 0 ? Math.min(order.length, from + limit) : order.length;
+      int[] page = new int[to - from];
+      System.arraycopy(order, from, page, 0, page.length);
+      onResult(id, order.length, page);
+    }
+  }
+
+  private boolean startWorker() {
+    if (nonNull(worker)) {
+      return true;
+    }
+    try {
+      if (!Js.asPropertyMap(DomGlobal.window).has("Worker")) {
+        useWorker = false;
+        return false;
+      }
+      BlobPropertyBag options = BlobPropertyBag.create();
+      options.setType("application/javascript");
+      Blob blob =
+          new Blob(
+              new Blob.ConstructorBlobPartsArrayUnionType[] {
+                Blob.ConstructorBlobPartsArrayUnionType.of(ColumnQueryEngine.WORKER_SCRIPT)
+              },
+              options);
+      workerUrl = URL.createObjectURL(blob);
+      if (isNull(workerUrl)) {
+        useWorker = false;
+        return false;
+      }
+      worker = new Worker(workerUrl);
+      worker.onmessage = evt -> onWorkerMessage(Js.asPropertyMap(evt.data));
+      worker.onerror =
+          evt -> {
+            evt.preventDefault();
+            fallbackToMainThread();
+          };
+      dataChanged = true;
+      return true;
+    } catch (Throwable e) {
+      useWorker = false;
+      worker = null;
+      return false;
+    }
+  }
+
+  private void fallbackToMainThread() {
+    terminate();
+    useWorker = false;
+    runQuery();
+  }
+
+  private void onWorkerMessage(JsPropertyMap<Object> data) {
+    JsArrayLike<Object> indices = Js.asArrayLike(data.get("indices"));
+    int[] page = new int[indices.getLength()];
+    for (int i = 0; i < page.length; i++) {
+      page[i] = Js.coerceToInt(indices.getAt(i));
+    }
+    onResult(Js.coerceToInt(data.get("id")), Js.coerceToInt(data.get("total")), page);
+  }
+
+  private void onResult(int id, int total, int[] page) {
+    if (id != queryId) {
+      return;
+    }
+    List<T> pageRecords = new ArrayList<>(page.length);
+    for (int index : page) {
+      pageRecords.add(records.get(index));
+    }
+    if (nonNull(pagination) && (resetPage || total != totalCount)) {
+      int activePage = pagination.activePage();
+      pagination.updatePagesByTotalCount(total);
+      if (!resetPage && activePage > 1 && activePage <= pagination.getPagesCount()) {
+        pagination.gotoPage(activePage, true);
+      }
+    }
+    this.resetPage = false;
+    this.totalCount = total;
+    listeners.forEach(
+        dataChangeListener ->
+            dataChangeListener.onDataChanged(new DataChangedEvent<>(pageRecords, total)));
+  }
+}
@@ -15,16 +15,16 @@
  */
 package org.dominokit.domino.ui.datepicker;
 
-import static org.dominokit.domino.ui.utils.Domino.div;
-import static org.dominokit.domino.ui.utils.Domino.span;
+import static java.util.Objects.isNull;
 
 import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
+import elemental2.dom.HTMLElement;
 import java.util.Date;
-import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.elements.SpanElement;
 import org.dominokit.domino.ui.style.BooleanCssClass;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.DomBuilder;
 import org.gwtproject.i18n.shared.cldr.DateTimeFormatInfo;
 
 /**
@@ -41,12 +41,13 @@ import org.gwtproject.i18n.shared.cldr.DateTimeFormatInfo;
 public class CalendarDay extends BaseDominoElement<HTMLDivElement, CalendarDay>
     implements CalendarStyles {
 
-  private final int day;
-  private final boolean inRange;
-  private final DivElement root;
+  private int day;
+  private boolean inRange;
+  private final HTMLDivElement root;
   private final IsCalendar calendar;
-  private final Date date;
-  private final SpanElement dayNumber;
+  private Date date;
+  private final HTMLElement dayNumberElement;
+  private SpanElement dayNumber;
 
   /**
    * Constructs a calendar day with the specified attributes.
@@ -57,34 +58,84 @@ public class CalendarDay extends BaseDominoElement<HTMLDivElement, CalendarDay>
    * @param inRange Indicates if the day is within the current month.
    */
   public CalendarDay(IsCalendar calendar, Date date, int day, boolean inRange) {
+    this(calendar, date, day, inRange, true);
+  }
+
+  /**
+   * Constructs a calendar day with the specified attributes.
+   *
+   * @param calendar The parent calendar of this day.
+   * @param date The date this day represents.
+   * @param day The day of the week (1-7).
+   * @param inRange Indicates if the day is within the current month.
+   * @param selectOnClick true to dispatch the date selection event when this day is clicked, false
+   *     when the clicks are handled by the owning month view.
+   */
+  CalendarDay(IsCalendar calendar, Date date, int day, boolean inRange, boolean selectOnClick) {
     this.calendar = calendar;
     this.date = date;
     this.day = day;
     this.inRange = inRange;
 
-    root =
-        div()
-            .addCss(
-                dui_calendar_day,
-                BooleanCssClass.of(dui_month_day_in_range, inRange),
-                BooleanCssClass.of(dui_month_day_out_of_range, !inRange),
-                BooleanCssClass.of(dui_selected_date, isSelectedDate()),
-                BooleanCssClass.of(
-                    dui_selected_date_match, isSelectionMatch() && !isSelectedDate()),
-                BooleanCssClass.of(dui_today_date, isTodayDate()))
-            .appendChild(
-                this.dayNumber =
-                    span()
-                        .addCss(dui_calendar_day_number)
-                        .textContent(String.valueOf(date.getDate())));
+    dayNumberElement =
+        DomBuilder.span()
+            .css(dui_calendar_day_number)
+            .text(String.valueOf(date.getDate()))
+            .element();
+    root = DomBuilder.div().css(dui_calendar_day).add(dayNumberElement).element();
     init(this);
-    addClickListener(
-        evt -> {
-          this.dispatchEvent(
-              CalendarCustomEvents.dateSelectionChanged(
-                  new Date(this.date.getYear(), this.date.getMonth(), this.date.getDate())
-                      .getTime()));
-        });
+    updateRangeState();
+    updateSelectionState(new Date());
+    if (selectOnClick) {
+      addClickListener(evt -> select());
+    }
+  }
+
+  /**
+   * Rebinds this day to another date, this allows a month view to reuse its days elements when
+   * navigating between months instead of creating new ones.
+   *
+   * @param date The date this day represents.
+   * @param day The day of the week (1-7).
+   * @param inRange Indicates if the day is within the current month.
+   * @param today The current date.
+   */
+  void bind(Date date, int day, boolean inRange, Date today) {
+    boolean sameDayNumber = this.date.getDate() == date.getDate();
+    this.date = date;
+    this.day = day;
+    this.inRange = inRange;
+    if (!sameDayNumber) {
+      this.dayNumberElement.textContent = String.valueOf(date.getDate());
+    }
+    updateRangeState();
+    updateSelectionState(today);
+  }
+
+  /**
+   * Updates the selected and today css classes of this day from the calendar state.
+   *
+   * @param today The current date.
+   */
+  void updateSelectionState(Date today) {
+    boolean selectedDate = isSelectedDate();
+    addCss(
+        BooleanCssClass.of(dui_selected_date, selectedDate),
+        BooleanCssClass.of(dui_selected_date_match, !selectedDate && isSelectionMatch()),
+        BooleanCssClass.of(dui_today_date, isSameDayAs(today)));
+  }
+
+  private void updateRangeState() {
+    addCss(
+        BooleanCssClass.of(dui_month_day_in_range, inRange),
+        BooleanCssClass.of(dui_month_day_out_of_range, !inRange));
+  }
+
+  /** Dispatches the date selection changed event for the date of this day. */
+  void select() {
+    this.dispatchEvent(
+        CalendarCustomEvents.dateSelectionChanged(
+            new Date(this.date.getYear(), this.date.getMonth(), this.date.getDate()).getTime()));
   }
 
   /**
@@ -107,7 +158,7 @@ public class CalendarDay extends BaseDominoElement<HTMLDivElement, CalendarDay>
    */
   @Override
   public Element getClickableElement() {
-    return dayNumber.element();
+    return dayNumberElement;
   }
 
   /**
@@ -131,9 +182,9 @@ public class CalendarDay extends BaseDominoElement<HTMLDivElement, CalendarDay>
   }
 
   public boolean isInRange(Date dateFrom, Date dateTo) {
-    Date fromNoTime = removeTime(dateFrom);
-    Date toNoTime = removeTime(dateTo);
-    Date thisDayNoTime = removeTime(date);
+    Date fromNoTime = removeTime(new Date(dateFrom.getTime()));
+    Date toNoTime = removeTime(new Date(dateTo.getTime()));
+    Date thisDayNoTime = removeTime(new Date(date.getTime()));
     return thisDayNoTime.getTime() >= fromNoTime.getTime()
         && thisDayNoTime.getTime() <= toNoTime.getTime();
   }
@@ -209,10 +260,10 @@ public class CalendarDay extends BaseDominoElement<HTMLDivElement, CalendarDay>
   /**
    * Retrieves the date this day represents.
    *
-   * @return The date.
+   * @return A copy of the date, the day dates are shared with the cached month views.
    */
   public Date getDate() {
-    return date;
+    return new Date(date.getTime());
   }
 
   /**
@@ -221,6 +272,9 @@ public class CalendarDay extends BaseDominoElement<HTMLDivElement, CalendarDay>
    * @return The span element for day number.
    */
   public SpanElement getDayNumber() {
+    if (isNull(dayNumber)) {
+      dayNumber = SpanElement.of(dayNumberElement);
+    }
     return dayNumber;
   }
 
@@ -248,6 +302,6 @@ public class CalendarDay extends BaseDominoElement<HTMLDivElement, CalendarDay>
    */
   @Override
   public HTMLDivElement element() {
-    return this.root.element();
+    return this.root;
   }
 }
@@ -17,13 +17,20 @@
 package org.dominokit.domino.ui.datepicker;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.dom.Element;
+import elemental2.dom.Event;
 import elemental2.dom.HTMLDivElement;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.elements.DivElement;
+import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 
 /**
@@ -32,17 +39,34 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
  * <p>It displays the days of a month, provides functionality for selecting days, and interacts with
  * calendar plugins to customize the behavior and appearance of the month view.
  *
+ * <p>The days elements are created once and rebound to the dates of the displayed month when the
+ * calendar navigates between months, unless a {@link CalendarPlugin} does not support reusing the
+ * days, then the days are created again for every month as before. Days clicks are handled by a
+ * single listener on the month root element.
+ *
  * @see BaseDominoElement
  */
 public class CalendarMonth extends BaseDominoElement<HTMLDivElement, CalendarMonth>
     implements CalendarStyles, CalendarViewListener {
 
+  private static final int MONTHS_CACHE_SIZE = 24;
+
   private final IsCalendar calendar;
   private MonthData monthData;
   private Date date;
-  private CalendarDay[] monthDays = new CalendarDay[42];
+  private CalendarDay[] monthDays = new CalendarDay[MonthData.VIEW_DAYS_COUNT];
+  private final DivElement[] daysRows = new DivElement[6];
   private DivElement root;
+  private DivElement daysHeader;
   private CalendarDay selectedDay;
+  private int boundFirstDayOfTheWeek = -1;
+  private final Map<Integer, MonthData> monthsCache =
+      new LinkedHashMap<Integer, MonthData>(MONTHS_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, MonthData> eldest) {
+          return size() > MONTHS_CACHE_SIZE;
+        }
+      };
 
   /**
    * Creates a new month view for the given calendar.
@@ -53,8 +77,12 @@ public class CalendarMonth extends BaseDominoElement<HTMLDivElement, CalendarMon
     this.calendar = calendar;
     this.calendar.bindCalenderViewListener(this);
     this.date = this.calendar.getDate();
-    this.root = div().addCss(dui_calendar_month);
+    this.root =
+        div()
+            .addCss(dui_calendar_month)
+            .appendChild(daysHeader = div().addCss(dui_month_days_header));
     init(this);
+    this.root.addEventListener(EventType.click.getName(), this::onDayClicked);
     setDate(this.date);
   }
 
@@ -78,105 +106,122 @@ public class CalendarMonth extends BaseDominoElement<HTMLDivElement, CalendarMon
   }
 
   private void updateView() {
-    this.root.clearElement();
     int firstDayOfTheWeek = this.calendar.getDateTimeFormatInfo().firstDayOfTheWeek();
-    Date tempDate = new Date(this.date.getYear(), this.date.getMonth(), 1);
+    MonthData viewMonth = monthDataOf(this.date);
+    Date today = new Date();
 
-    int monthFirstDay = tempDate.getDay() == 0 ? 7 : tempDate.getDay();
+    boolean created = isNull(monthDays[0]) || !isDayRecyclingSupported();
+    if (created) {
+      removeDays();
+      createDays(viewMonth, firstDayOfTheWeek);
+    } else if (viewMonth != this.monthData || firstDayOfTheWeek != boundFirstDayOfTheWeek) {
+      Date[] dates = viewMonth.getViewDates(firstDayOfTheWeek);
+      for (int index = 0; index < monthDays.length; index++) {
+        monthDays[index].bind(
+            dates[index], index % 7, viewMonth.isInMonth(firstDayOfTheWeek, index), today);
+      }
+    } else {
+      for (CalendarDay monthDay : monthDays) {
+        monthDay.updateSelectionState(today);
+      }
+    }
 
-    this.root.appendChild(
-        div()
-            .addCss(dui_month_days_header)
-            .apply(
-                daysHeader -> {
-                  int index = firstDayOfTheWeek;
-                  while (index != -1) {
-                    daysHeader.appendChild(WeekDayHeader.create(this.calendar, index));
-                    index = index + 1;
-                    if (index > 6) {
-                      index = 0;
-                    }
-                    if (index == firstDayOfTheWeek) {
-                      index = -1;
-                    }
-                  }
-                }));
-    this.monthData = new MonthData(this.date);
-    MonthData monthBefore = monthData.getMonthBefore();
-    MonthData monthAfter = monthData.getMonthAfter();
-
-    int offset = Math.abs(monthFirstDay - firstDayOfTheWeek);
-    int diff = offset + 1;
-    int[] currentDaysCounter = new int[] {0};
-    int[] monthBeforeDaysCounter = new int[] {monthBefore.getDaysCount() - offset + 1};
-    int[] monthAfterDaysCounter = new int[] {1};
-
-    int[] index = new int[] {0};
-    for (int i = 0; i < 6; i++) {
-      this.root.appendChild(
-          div()
-              .addCss(dui_month_days_row)
-              .apply(
-                  daysRow -> {
-                    for (int day = 0; day < 7; day++) {
-                      CalendarDay calendarDay;
-                      if (index[0] < offset) {
-                        calendarDay =
-                            CalendarDay.create(
-                                this.calendar,
-                                new Date(
-                                    monthBefore.getYear(),
-                                    monthBefore.getMonth(),
-                                    monthBeforeDaysCounter[0]),
-                                day,
-                                false);
-                        monthBeforeDaysCounter[0] = monthBeforeDaysCounter[0] + 1;
-                      } else if (index[0] >= offset
-                          && index[0] < (monthData.getDaysCount() + diff - 1)) {
-                        calendarDay =
-                            CalendarDay.create(
-                                this.calendar,
-                                new Date(
-                                    monthData.getYear(),
-                                    monthData.getMonth(),
-                                    currentDaysCounter[0] + 1),
-                                day,
-                                true);
-                        currentDaysCounter[0] = currentDaysCounter[0] + 1;
-                      } else {
-                        calendarDay =
-                            CalendarDay.create(
-                                this.calendar,
-                                new Date(
-                                    monthAfter.getYear(),
-                                    monthAfter.getMonth(),
-                                    monthAfterDaysCounter[0]),
-                                day,
-                                false);
-                        monthAfterDaysCounter[0] = monthAfterDaysCounter[0] + 1;
-                      }
-
-                      calendarDay.addClickListener(
-                          evt -> {
-                            CalendarDay oldDay = this.selectedDay;
-                            this.selectedDay = calendarDay;
-                            this.calendar
-                                .getDateSelectionListeners()
-                                .forEach(
-                                    listener -> listener.onDaySelected(oldDay, this.selectedDay));
-                          });
-                      daysRow.appendChild(calendarDay);
-                      this.calendar
-                          .getConfig()
-                          .getPlugins()
-                          .forEach(
-                              plugin -> {
-                                plugin.onCalendarDayAdded(calendarDay);
-                              });
-                      monthDays[index[0]] = calendarDay;
-                      index[0] = index[0] + 1;
-                    }
-                  }));
+    if (firstDayOfTheWeek != boundFirstDayOfTheWeek) {
+      updateDaysHeader(firstDayOfTheWeek);
+    }
+    this.monthData = viewMonth;
+    this.boundFirstDayOfTheWeek = firstDayOfTheWeek;
+    if (created) {
+      return;
+    }
+    for (CalendarDay monthDay : monthDays) {
+      this.calendar
+          .getConfig()
+          .getPlugins()
+          .forEach(plugin -> plugin.onCalendarDayUpdated(monthDay));
+    }
+  }
+
+  private MonthData monthDataOf(Date date) {
+    int key = date.getYear() * 12 + date.getMonth();
+    MonthData cached = monthsCache.get(key);
+    if (isNull(cached)) {
+      cached = new MonthData(new Date(date.getYear(), date.getMonth(), 1));
+      monthsCache.put(key, cached);
+    }
+    return cached;
+  }
+
+  private boolean isDayRecyclingSupported() {
+    return this.calendar.getConfig().getPlugins().stream()
+        .allMatch(CalendarPlugin::isDayRecyclingSupported);
+  }
+
+  private void removeDays() {
+    for (int row = 0; row < daysRows.length; row++) {
+      if (nonNull(daysRows[row])) {
+        daysRows[row].remove();
+        daysRows[row] = null;
+      }
+    }
+  }
+
+  private void createDays(MonthData viewMonth, int firstDayOfTheWeek) {
+    Date[] dates = viewMonth.getViewDates(firstDayOfTheWeek);
+    for (int row = 0; row < 6; row++) {
+      DivElement daysRow = div().addCss(dui_month_days_row);
+      for (int day = 0; day < 7; day++) {
+        int index = row * 7 + day;
+        CalendarDay calendarDay =
+            new CalendarDay(
+                this.calendar,
+                dates[index],
+                day,
+                viewMonth.isInMonth(firstDayOfTheWeek, index),
+                false);
+        daysRow.appendChild(calendarDay);
+        this.calendar
+            .getConfig()
+            .getPlugins()
+            .forEach(plugin -> plugin.onCalendarDayAdded(calendarDay));
+        monthDays[index] = calendarDay;
+      }
+      this.root.appendChild(daysRow);
+      daysRows[row] = daysRow;
+    }
+  }
+
+  private void updateDaysHeader(int firstDayOfTheWeek) {
+    daysHeader.clearElement();
+    int index = firstDayOfTheWeek;
+    while (index != -1) {
+      daysHeader.appendChild(WeekDayHeader.create(this.calendar, index));
+      index = index + 1;
+      if (index > 6) {
+        index = 0;
+      }
+      if (index == firstDayOfTheWeek) {
+        index = -1;
+      }
+    }
+  }
+
+  private void onDayClicked(Event evt) {
+    Element target = Js.uncheckedCast(evt.target);
+    Element dayNumber = target.closest("." + dui_calendar_day_number.getCssClass());
+    if (isNull(dayNumber)) {
+      return;
+    }
+    for (CalendarDay calendarDay : monthDays) {
+      if (calendarDay.getClickableElement() == dayNumber) {
+        CalendarDay oldDay = this.selectedDay;
+        this.selectedDay = calendarDay;
+        calendarDay.select();
+        this.calendar
+            .getDateSelectionListeners()
+            .forEach(listener -> listener.onDaySelected(oldDay, this.selectedDay));
+        return;
+      }
     }
   }
 
@@ -30,6 +30,31 @@ public interface CalendarPlugin {
    */
   default void onCalendarDayAdded(CalendarDay calendarDay) {}
 
+  /**
+   * Invoked every time the month view is updated after the calendar day was added, this is only
+   * called when all the calendar plugins support reusing the days, see {@link
+   * #isDayRecyclingSupported()}, in that case the month view days are created once and then reused
+   * for other months, so this is called with the day already bound to its new date. Plugins that
+   * decorate the days based on their date should override this to update the decoration, while
+   * listeners registered in {@link #onCalendarDayAdded(CalendarDay)} stay registered on the reused
+   * day.
+   *
+   * @param calendarDay The calendar day that was updated
+   */
+  default void onCalendarDayUpdated(CalendarDay calendarDay) {}
+
+  /**
+   * Indicates if this plugin supports reusing the calendar days for other months, when any of the
+   * calendar plugins does not support it the days are created again and {@link
+   * #onCalendarDayAdded(CalendarDay)} is called for every displayed month.
+   *
+   * @return true if this plugin updates its days decoration in {@link
+   *     #onCalendarDayUpdated(CalendarDay)}, false by default.
+   */
+  default boolean isDayRecyclingSupported() {
+    return false;
+  }
+
   /**
    * Invoked when the calendar is initialized.
    *
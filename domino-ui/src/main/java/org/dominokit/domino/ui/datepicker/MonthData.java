@@ -34,9 +34,15 @@ import java.util.Date;
  */
 public class MonthData {
 
+  /** The number of days displayed in a month view, 6 weeks of 7 days. */
+  public static final int VIEW_DAYS_COUNT = 42;
+
   private final int daysCount;
   private final int fullYear;
   private final Date date;
+  private Date[] viewDates;
+  private int viewOffset;
+  private int viewFirstDayOfTheWeek = -1;
 
   /**
    * Constructs a new MonthData instance based on the provided date.
@@ -111,4 +117,56 @@ public class MonthData {
   public int getFullYear() {
     return fullYear;
   }
+
+  /**
+   * Retrieves the dates displayed in a month view of this month, including the trailing days of the
+   * month before and the leading days of the month after. The dates are computed once and reused
+   * for the same first day of the week.
+   *
+   * @param firstDayOfTheWeek The index of the first day of the week, 0 for sunday.
+   * @return An array of {@link #VIEW_DAYS_COUNT} dates.
+   */
+  public Date[] getViewDates(int firstDayOfTheWeek) {
+    if (viewFirstDayOfTheWeek != firstDayOfTheWeek) {
+      computeViewDates(firstDayOfTheWeek);
+    }
+    return viewDates;
+  }
+
+  /**
+   * Checks if the date at the specified index of the month view belongs to this month.
+   *
+   * @param firstDayOfTheWeek The index of the first day of the week, 0 for sunday.
+   * @param index The index of the day in the month view.
+   * @return true if the day belongs to this month, false otherwise.
+   */
+  public boolean isInMonth(int firstDayOfTheWeek, int index) {
+    if (viewFirstDayOfTheWeek != firstDayOfTheWeek) {
+      computeViewDates(firstDayOfTheWeek);
+    }
+    return index >= viewOffset && index < viewOffset + daysCount;
+  }
+
+  private void computeViewDates(int firstDayOfTheWeek) {
+    Date firstDate = new Date(getYear(), getMonth(), 1);
+    int monthFirstDay = firstDate.getDay() == 0 ? 7 : firstDate.getDay();
+    MonthData monthBefore = getMonthBefore();
+    MonthData monthAfter = getMonthAfter();
+
+    this.viewOffset = Math.abs(monthFirstDay - firstDayOfTheWeek);
+    this.viewDates = new Date[VIEW_DAYS_COUNT];
+    int monthBeforeDay = monthBefore.getDaysCount() - viewOffset + 1;
+    int monthAfterDay = 1;
+    for (int index = 0; index < VIEW_DAYS_COUNT; index++) {
+      if (index < viewOffset) {
+        viewDates[index] =
+            new Date(monthBefore.getYear(), monthBefore.getMonth(), monthBeforeDay++);
+      } else if (index < viewOffset + daysCount) {
+        viewDates[index] = new Date(getYear(), getMonth(), index - viewOffset + 1);
+      } else {
+        viewDates[index] = new Date(monthAfter.getYear(), monthAfter.getMonth(), monthAfterDay++);
+      }
+    }
+    this.viewFirstDayOfTheWeek = firstDayOfTheWeek;
+  }
 }
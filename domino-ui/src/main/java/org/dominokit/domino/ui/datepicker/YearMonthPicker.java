@@ -18,6 +18,8 @@ package org.dominokit.domino.ui.datepicker;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.HTMLDivElement;
+import java.util.ArrayList;
+import java.util.List;
 import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.spin.HSpinSelect;
 import org.dominokit.domino.ui.spin.SpinItem;
@@ -41,6 +43,9 @@ public class YearMonthPicker extends BaseDominoElement<HTMLDivElement, YearMonth
   private final MonthsPicker monthsPicker;
   private final HSpinSelect<YearPicker> yearPickerSpin;
   private final IsCalendar calendar;
+  private final List<YearPicker> yearCards = new ArrayList<>();
+  private SpinItem<YearPicker> referenceItem;
+  private int viewYear = Integer.MIN_VALUE;
 
   /**
    * Creates a new year-month picker for the specified calendar.
@@ -57,7 +62,9 @@ public class YearMonthPicker extends BaseDominoElement<HTMLDivElement, YearMonth
             .appendChild(this.monthsPicker = MonthsPicker.create(this.calendar))
             .appendChild(
                 this.yearPickerSpin =
-                    HSpinSelect.<YearPicker>create().addCss(dui_calender_years_spin));
+                    HSpinSelect.<YearPicker>create()
+                        .addCss(dui_calender_years_spin)
+                        .addChangeListener((oldValue, yearsCard) -> onYearsCardChanged(yearsCard)));
 
     init(this);
   }
@@ -74,35 +81,44 @@ public class YearMonthPicker extends BaseDominoElement<HTMLDivElement, YearMonth
 
   private void updateView() {
     monthsPicker.updateView();
-    YearPicker referenceCard = YearPicker.create(this.calendar, this.calendar.getDate().getYear());
-    YearPicker previousCard =
-        YearPicker.create(this.calendar, this.calendar.getDate().getYear() - 12);
-    YearPicker nextCard = YearPicker.create(this.calendar, this.calendar.getDate().getYear() + 12);
+    int selectedYear = this.calendar.getDate().getYear();
+    if (selectedYear == viewYear && this.yearPickerSpin.itemsCount() > 0) {
+      this.yearCards.forEach(YearPicker::refresh);
+      this.yearPickerSpin.moveToIndex(this.yearPickerSpin.indexOf(referenceItem));
+      return;
+    }
+    this.viewYear = selectedYear;
+    YearPicker referenceCard = YearPicker.create(this.calendar, selectedYear);
+    YearPicker previousCard = YearPicker.create(this.calendar, selectedYear - 12);
+    YearPicker nextCard = YearPicker.create(this.calendar, selectedYear + 12);
+    this.yearCards.clear();
+    this.yearCards.add(previousCard);
+    this.yearCards.add(referenceCard);
+    this.yearCards.add(nextCard);
 
     this.yearPickerSpin
         .reset()
         .appendChild(SpinItem.create(referenceCard).appendChild(previousCard))
-        .appendChild(SpinItem.create(referenceCard).appendChild(referenceCard))
+        .appendChild(referenceItem = SpinItem.create(referenceCard).appendChild(referenceCard))
         .appendChild(SpinItem.create(referenceCard).appendChild(nextCard))
-        .moveToIndex(1)
-        .apply(
-            spin -> {
-              spin.addChangeListener(
-                  (oldValue, yearsCard) -> {
-                    int activeIndex = spin.indexOf(spin.getActiveItem());
-                    if (activeIndex == spin.itemsCount() - 1) {
-                      SpinItem<YearPicker> lastYearCard =
-                          spin.getItems().get(spin.itemsCount() - 1);
-                      int refYear = lastYearCard.getValue().getReferenceYear() + 14;
-                      YearPicker newCard = YearPicker.create(this.calendar, refYear);
-                      spin.appendChild(SpinItem.create(newCard).appendChild(newCard));
-                    } else if (activeIndex == 0) {
-                      int refYear = yearsCard.getReferenceYear() - 14;
-                      YearPicker newCard = YearPicker.create(this.calendar, refYear);
-                      spin.prependChild(SpinItem.create(newCard).appendChild(newCard));
-                    }
-                  });
-            });
+        .moveToIndex(1);
+  }
+
+  private void onYearsCardChanged(YearPicker yearsCard) {
+    HSpinSelect<YearPicker> spin = this.yearPickerSpin;
+    int activeIndex = spin.indexOf(spin.getActiveItem());
+    if (activeIndex == spin.itemsCount() - 1) {
+      SpinItem<YearPicker> lastYearCard = spin.getItems().get(spin.itemsCount() - 1);
+      int refYear = lastYearCard.getValue().getReferenceYear() + 14;
+      YearPicker newCard = YearPicker.create(this.calendar, refYear);
+      yearCards.add(newCard);
+      spin.appendChild(SpinItem.create(newCard).appendChild(newCard));
+    } else if (activeIndex == 0) {
+      int refYear = yearsCard.getReferenceYear() - 14;
+      YearPicker newCard = YearPicker.create(this.calendar, refYear);
+      yearCards.add(newCard);
+      spin.prependChild(SpinItem.create(newCard).appendChild(newCard));
+    }
   }
 
   /**
@@ -15,10 +15,15 @@
  */
 package org.dominokit.domino.ui.datepicker;
 
+import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.style.BooleanCssClass;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
@@ -40,7 +45,10 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
 public class YearPicker extends BaseDominoElement<HTMLDivElement, YearPicker>
     implements CalendarStyles {
 
+  private static final String YEAR_ATTRIBUTE = "dui-year";
+
   private final DivElement root;
+  private final List<DivElement> years = new ArrayList<>();
   private final int referenceYear;
   private final IsCalendar calendar;
 
@@ -62,23 +70,28 @@ public class YearPicker extends BaseDominoElement<HTMLDivElement, YearPicker>
       DivElement yearsRow = div().addCss(dui_years_row);
       this.root.appendChild(yearsRow);
       for (int i = 0; i < 5; i++) {
-        final int year = counter;
-        yearsRow.appendChild(
+        DivElement yearElement =
             div()
-                .addCss(
-                    dui_years_selector_year,
-                    BooleanCssClass.of(dui_current_year, isCurrentYear(counter)),
-                    BooleanCssClass.of(dui_selected_year, isSelectedYear(counter)))
-                .textContent(String.valueOf(counter + 1900))
-                .addClickListener(
-                    evt -> {
-                      Date date = new Date(calendar.getActiveSelection().getTime());
-                      date.setYear(year);
-                      dispatchEvent(CalendarCustomEvents.dateNavigationChanged(date.getTime()));
-                    }));
+                .addCss(dui_years_selector_year)
+                .setAttribute(YEAR_ATTRIBUTE, String.valueOf(counter))
+                .textContent(String.valueOf(counter + 1900));
+        years.add(yearElement);
+        yearsRow.appendChild(yearElement);
         counter++;
       }
     }
+    refresh();
+    this.root.addClickListener(
+        evt -> {
+          Element yearElement =
+              Js.<Element>uncheckedCast(evt.target)
+                  .closest("." + dui_years_selector_year.getCssClass());
+          if (nonNull(yearElement)) {
+            Date date = new Date(calendar.getActiveSelection().getTime());
+            date.setYear(Integer.parseInt(yearElement.getAttribute(YEAR_ATTRIBUTE)));
+            dispatchEvent(CalendarCustomEvents.dateNavigationChanged(date.getTime()));
+          }
+        });
 
     init(this);
   }
@@ -94,12 +107,17 @@ public class YearPicker extends BaseDominoElement<HTMLDivElement, YearPicker>
     return new YearPicker(calendar, referenceYear);
   }
 
-  private boolean isCurrentYear(int year) {
-    return year == new Date().getYear();
-  }
-
-  private boolean isSelectedYear(int year) {
-    return year == this.calendar.getDate().getYear();
+  /** Updates the current and selected year marks without recreating the years elements. */
+  void refresh() {
+    int currentYear = new Date().getYear();
+    int selectedYear = this.calendar.getDate().getYear();
+    int year = referenceYear - 7;
+    for (DivElement yearElement : years) {
+      yearElement.addCss(
+          BooleanCssClass.of(dui_current_year, year == currentYear),
+          BooleanCssClass.of(dui_selected_year, year == selectedYear));
+      year++;
+    }
   }
 
   /**
@@ -26,10 +26,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.config.HasComponentConfig;
 import org.dominokit.domino.ui.config.ZIndexConfig;
 import org.dominokit.domino.ui.utils.HasZIndexLayer;
 import org.dominokit.domino.ui.utils.IsPopup;
+import org.dominokit.domino.ui.utils.LeakDetector;
+import org.dominokit.domino.ui.utils.Register;
 
 /**
  * Default implementation of the {@link ZIndexManager} for managing z-index values of popups and
@@ -49,6 +52,7 @@ public class DefaultZIndexManager implements ZIndexManager, HasComponentConfig<Z
 
   private Integer currentZIndex;
   private static Deque<IsPopup<?>> modals = new LinkedList<>();
+  private static Map<IsPopup<?>, Register> modalsLeakRegisters = new HashMap<>();
 
   private final List<ZIndexListener> listeners = new ArrayList<>();
   private Map<HasZIndexLayer.ZIndexLayer, Integer> counters = new HashMap<>();
@@ -100,6 +104,12 @@ public class DefaultZIndexManager implements ZIndexManager, HasComponentConfig<Z
         elements.body().appendChild(ModalBackDrop.INSTANCE);
       }
       modals.push(popup);
+      if (LeakDetector.isEnabled() && popup instanceof IsElement) {
+        modalsLeakRegisters.put(
+            popup,
+            LeakDetector.trackGlobalReference(
+                ((IsElement<?>) popup).element(), "DefaultZIndexManager modals stack"));
+      }
     }
 
     Integer next = getNextZIndex(popup);
@@ -118,6 +128,7 @@ public class DefaultZIndexManager implements ZIndexManager, HasComponentConfig<Z
   public void onPopupClose(IsPopup<?> popup) {
     if (popup.isModal()) {
       modals.remove(popup);
+      Optional.ofNullable(modalsLeakRegisters.remove(popup)).ifPresent(Register::remove);
       if (!modals.isEmpty()) {
         Integer backdropZIndex = getNextZIndex(popup);
         ModalBackDrop.INSTANCE.setZIndex(backdropZIndex);
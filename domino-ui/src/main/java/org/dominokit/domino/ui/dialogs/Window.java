@@ -15,17 +15,17 @@
  */
 package org.dominokit.domino.ui.dialogs;
 
+import static java.util.Objects.isNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
 
 import elemental2.dom.*;
 import jsinterop.base.Js;
-import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.icons.MdiIcon;
 import org.dominokit.domino.ui.icons.lib.Icons;
 import org.dominokit.domino.ui.layout.NavBar;
 import org.dominokit.domino.ui.utils.ChildHandler;
-import org.dominokit.domino.ui.utils.Domino;
+import org.dominokit.domino.ui.utils.PointerDrag;
 import org.dominokit.domino.ui.utils.PostfixAddOn;
 
 /**
@@ -49,15 +49,11 @@ public class Window extends AbstractDialog<Window> {
   private final MdiIcon closeIcon;
   private boolean maximized = false;
 
-  private double mouseX;
-  private double mouseY;
-
-  private boolean startMoving = false;
-  private double deltaX;
-  private double deltaY;
-
-  private final EventListener moveListener;
-  private final EventListener stopMoveListener;
+  private final PointerDrag moveDrag;
+  private double startLeft;
+  private double startTop;
+  private double maxLeft;
+  private double maxTop;
 
   private double windowLeft = -1;
   private double windowTop = -1;
@@ -140,50 +136,49 @@ public class Window extends AbstractDialog<Window> {
     navHeader.appendChild(PostfixAddOn.of(restoreIcon));
     navHeader.appendChild(PostfixAddOn.of(closeIcon));
 
-    moveListener = this::onMove;
-    stopMoveListener =
-        evt -> {
-          if (draggable) {
-            modalElement.removeCss(dui_no_transition);
-            startMoving = false;
-          }
-        };
-
-    addOpenListener(component -> addMoveListeners());
-    addCloseListener(component -> removeMoveListeners());
+    moveDrag =
+        PointerDrag.of(headerElement.get().element())
+            .setStartCondition(this::canStartMoving)
+            .onStart(drag -> onStartMoving())
+            .onMove(this::onMove)
+            .onEnd(drag -> modalElement.removeCss(dui_no_transition));
+    addCloseListener(component -> cancelMoving());
     updatePosition();
 
     modalElement.onResize((element1, observer, entries) -> updatePosition());
   }
 
-  private void onMove(Event evt) {
-    evt.preventDefault();
-    if (draggable) {
-      MouseEvent mouseEvent = Js.uncheckedCast(evt);
-      if (startMoving && mouseEvent.button == 0 && !maximized) {
-
-        mouseX = mouseEvent.clientX;
-        mouseY = mouseEvent.clientY;
+  private boolean canStartMoving(PointerEvent event) {
+    Element target = Js.uncheckedCast(event.target);
+    return draggable && !maximized && isNull(target.closest("." + dui_clickable.getCssClass()));
+  }
 
-        double initialWidth = modalElement.element().offsetWidth;
-        double initialHeight = modalElement.element().offsetHeight;
+  private void onStartMoving() {
+    modalElement.addCss(dui_no_transition);
+    HTMLElement modal = modalElement.element();
+    startLeft = modal.offsetLeft;
+    startTop = modal.offsetTop;
+    maxLeft = DomGlobal.window.innerWidth - modal.offsetWidth;
+    maxTop = DomGlobal.window.innerHeight - modal.offsetHeight;
+  }
 
-        double windowWidth = DomGlobal.window.innerWidth;
-        double windowHeight = DomGlobal.window.innerHeight;
+  private void cancelMoving() {
+    moveDrag.cancel();
+    modalElement.removeCss(dui_no_transition);
+  }
 
-        double left = mouseX + deltaX;
-        double top = mouseY + deltaY;
+  private void onMove(PointerDrag.Drag drag) {
+    double left = startLeft + drag.getDeltaX();
+    double top = startTop + drag.getDeltaY();
 
-        if (left > 0 && left < (windowWidth - initialWidth)) {
-          modalElement.element().style.left = left + "px";
-          this.windowLeft = left;
-        }
+    if (left > 0 && left < maxLeft) {
+      modalElement.element().style.left = left + "px";
+      this.windowLeft = left;
+    }
 
-        if (top > 0 && top < (windowHeight - initialHeight)) {
-          modalElement.element().style.top = top + "px";
-          this.windowTop = top;
-        }
-      }
+    if (top > 0 && top < maxTop) {
+      modalElement.element().style.top = top + "px";
+      this.windowTop = top;
     }
   }
 
@@ -235,42 +230,6 @@ public class Window extends AbstractDialog<Window> {
     }
   }
 
-  private void removeMoveListeners() {
-    DomGlobal.document.body.removeEventListener(EventType.mouseup.getName(), stopMoveListener);
-    DomGlobal.document.body.removeEventListener(EventType.touchend.getName(), stopMoveListener);
-    DomGlobal.document.body.removeEventListener(EventType.mousemove.getName(), moveListener);
-    DomGlobal.document.body.removeEventListener(EventType.touchmove.getName(), moveListener);
-    headerElement.element().removeEventListener(EventType.mousemove.getName(), moveListener);
-    headerElement.element().removeEventListener(EventType.touchmove.getName(), moveListener);
-    headerElement.element().removeEventListener(EventType.mouseup.getName(), stopMoveListener);
-    headerElement.element().removeEventListener(EventType.touchend.getName(), stopMoveListener);
-  }
-
-  private void addMoveListeners() {
-    headerElement
-        .get()
-        .addEventsListener(
-            evt -> {
-              if (draggable) {
-                MouseEvent mouseEvent = Js.uncheckedCast(evt);
-                if (!startMoving && mouseEvent.button == 0) {
-                  modalElement.addCss(dui_no_transition);
-                  deltaX = modalElement.element().offsetLeft - mouseEvent.clientX;
-                  deltaY = modalElement.element().offsetTop - mouseEvent.clientY;
-
-                  startMoving = true;
-                }
-              }
-            },
-            true,
-            "mousedown",
-            "touchstart");
-
-    Domino.body().addEventsListener(stopMoveListener, true, "mouseup", "touchend");
-    Domino.body().addEventsListener(moveListener, true, "mousemove", "touchmove");
-    body().addEventsListener(stopMoveListener, "mouseup", "touchend");
-  }
-
   /**
    * Checks if the window is draggable.
    *
@@ -288,6 +247,9 @@ public class Window extends AbstractDialog<Window> {
    */
   public Window setDraggable(boolean draggable) {
     this.draggable = draggable;
+    if (!draggable) {
+      cancelMoving();
+    }
     return this;
   }
 
@@ -297,6 +259,7 @@ public class Window extends AbstractDialog<Window> {
    * @return The current instance of the Window.
    */
   public Window maximize() {
+    cancelMoving();
     maximizeIcon.collapse();
     restoreIcon.expand();
     maximized = true;
@@ -142,6 +142,21 @@ public interface EventType {
   /** Represents the "pointerlockerror" event type. */
   EventType pointerlockerror = () -> "pointerlockerror";
 
+  /** Represents the "pointerdown" event type. */
+  EventType pointerdown = () -> "pointerdown";
+
+  /** Represents the "pointermove" event type. */
+  EventType pointermove = () -> "pointermove";
+
+  /** Represents the "pointerup" event type. */
+  EventType pointerup = () -> "pointerup";
+
+  /** Represents the "pointercancel" event type. */
+  EventType pointercancel = () -> "pointercancel";
+
+  /** Represents the "lostpointercapture" event type. */
+  EventType lostpointercapture = () -> "lostpointercapture";
+
   /** Represents the "dragstart" event type. */
   EventType dragstart = () -> "dragstart";
 
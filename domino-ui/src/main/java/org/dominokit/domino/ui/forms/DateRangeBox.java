@@ -15,6 +15,7 @@
  */
 package org.dominokit.domino.ui.forms;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datepicker.CalendarStyles.dui_date_in_range;
 import static org.dominokit.domino.ui.menu.direction.DropDirection.BEST_MIDDLE_DOWN_UP;
@@ -43,6 +44,7 @@ import org.dominokit.domino.ui.i18n.CalendarLabels;
 import org.dominokit.domino.ui.i18n.HasLabels;
 import org.dominokit.domino.ui.menu.direction.DropDirection;
 import org.dominokit.domino.ui.popover.Popover;
+import org.dominokit.domino.ui.style.BooleanCssClass;
 import org.dominokit.domino.ui.utils.AsyncHandler;
 import org.dominokit.domino.ui.utils.ChildHandler;
 import org.dominokit.domino.ui.utils.DelayedExecution;
@@ -672,19 +674,25 @@ public class DateRangeBox extends TextInputFormField<DateRangeBox, HTMLInputElem
   }
 
   private void markInRangeDays(CalendarMonth month) {
-    if (nonNull(this.value)) {
-      List<CalendarDay> days = month.getMonthViewDays();
-      for (int index = 0; index < days.size(); index++) {
-        CalendarDay day = days.get(index);
-        if (day.isInRange(this.value.getFrom(), this.value.getTo())) {
-          days.get(index).addCss(dui_date_in_range);
-        } else {
-          dui_date_in_range.remove(days.get(index));
-        }
-      }
+    List<CalendarDay> days = month.getMonthViewDays();
+    if (isNull(this.value)) {
+      // days are reused across months, so a cleared range must unmark them.
+      days.forEach(day -> day.removeCss(dui_date_in_range));
+      return;
+    }
+    int from = dayKey(this.value.getFrom());
+    int to = dayKey(this.value.getTo());
+    for (int index = 0; index < days.size(); index++) {
+      CalendarDay day = days.get(index);
+      int dayKey = dayKey(day.getDate());
+      day.addCss(BooleanCssClass.of(dui_date_in_range, dayKey >= from && dayKey <= to));
     }
   }
 
+  private static int dayKey(Date date) {
+    return (date.getYear() * 12 + date.getMonth()) * 32 + date.getDate();
+  }
+
   /**
    * Retrieves the date-time format information associated with this DateRangeBox.
    *
@@ -53,8 +53,13 @@ public class FieldsGrouping
   private final Set<Validator<FieldsGrouping>> validators = new LinkedHashSet<>();
   private final List<String> errors = new ArrayList<>();
 
+  private final Map<HasGrouping<?>, HasChangeListeners.ChangeListener<Object>> changeValidators =
+      new HashMap<>();
+
   private boolean validationsPaused = false;
   private boolean focusValidationsPaused = false;
+  private boolean validateOnChange = false;
+  private ValidationScheduler validationScheduler;
 
   /**
    * Constructs a new FieldsGrouping instance.
@@ -73,6 +78,9 @@ public class FieldsGrouping
    */
   public FieldsGrouping addFormElement(HasGrouping<?> formElement) {
     formElements.add(formElement);
+    if (validateOnChange) {
+      listenToChanges(formElement);
+    }
     return this;
   }
 
@@ -486,6 +494,72 @@ public class FieldsGrouping
     return this;
   }
 
+  /**
+   * Returns the {@link ValidationScheduler} of this group, the scheduler validates only the changed
+   * fields and their dependents in the next animation frame instead of validating the whole group.
+   *
+   * @return The validation scheduler of this group.
+   */
+  public ValidationScheduler getValidationScheduler() {
+    if (validationScheduler == null) {
+      validationScheduler = new ValidationScheduler(this);
+    }
+    return validationScheduler;
+  }
+
+  /**
+   * Schedules the validation of a form element and its dependents in the next animation frame.
+   *
+   * @param formElement The changed form element.
+   * @return The current `FieldsGrouping` instance for method chaining.
+   */
+  public FieldsGrouping validateLater(HasGrouping<?> formElement) {
+    getValidationScheduler().markDirty(formElement);
+    return this;
+  }
+
+  /**
+   * Schedules the validation of a form element whenever its value changes, this applies to form
+   * elements that implement {@link HasChangeListeners} including the ones added later to this
+   * group.
+   *
+   * @return The current `FieldsGrouping` instance for method chaining.
+   */
+  public FieldsGrouping validateOnChange() {
+    this.validateOnChange = true;
+    formElements.forEach(this::listenToChanges);
+    return this;
+  }
+
+  /**
+   * Stops scheduling the validation of the form elements when their values change.
+   *
+   * @return The current `FieldsGrouping` instance for method chaining.
+   */
+  public FieldsGrouping removeValidateOnChange() {
+    this.validateOnChange = false;
+    new ArrayList<>(changeValidators.keySet()).forEach(this::stopListeningToChanges);
+    return this;
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void listenToChanges(HasGrouping<?> formElement) {
+    if (formElement instanceof HasChangeListeners && !changeValidators.containsKey(formElement)) {
+      HasChangeListeners.ChangeListener<Object> listener =
+          (oldValue, newValue) -> validateLater(formElement);
+      changeValidators.put(formElement, listener);
+      ((HasChangeListeners) formElement).addChangeListener(listener);
+    }
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void stopListeningToChanges(HasGrouping<?> formElement) {
+    HasChangeListeners.ChangeListener<Object> listener = changeValidators.remove(formElement);
+    if (nonNull(listener)) {
+      ((HasChangeListeners) formElement).removeChangeListener(listener);
+    }
+  }
+
   /**
    * Removes a specific form element from this `FieldsGrouping`.
    *
@@ -494,6 +568,7 @@ public class FieldsGrouping
    */
   public FieldsGrouping removeFormElement(HasGrouping hasGrouping) {
     formElements.remove(hasGrouping);
+    stopListeningToChanges(hasGrouping);
     return this;
   }
 
@@ -503,6 +578,7 @@ public class FieldsGrouping
    * @return The current `FieldsGrouping` instance for method chaining.
    */
   public FieldsGrouping removeAllFormElements() {
+    new ArrayList<>(changeValidators.keySet()).forEach(this::stopListeningToChanges);
     formElements.clear();
     return this;
   }
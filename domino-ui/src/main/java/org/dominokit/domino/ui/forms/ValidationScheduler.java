@@ -0,0 +1,404 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.forms;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.DomGlobal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.dominokit.domino.ui.forms.validations.ValidationResult;
+import org.dominokit.domino.ui.utils.HasValidation;
+
+/**
+ * Schedules the validation of the fields of a {@link FieldsGrouping}, instead of validating all the
+ * fields of the group every time one of them changes.
+ *
+ * <p>Fields are marked dirty when they change, the dirty fields and their declared dependents are
+ * validated together in the next animation frame. Each field is validated using its own {@link
+ * HasGrouping#validate()} so built-in checks such as required run the same way as in {@link
+ * FieldsGrouping#validate()}, async validation results are only re-rendered if the field error
+ * messages actually changed.
+ *
+ * <p>Async validators run after the field sync validators pass, when a field is marked dirty again
+ * while its async validation is in progress the pending validation is cancelled and its result is
+ * ignored.
+ *
+ * <p><strong>Usage Example:</strong>
+ *
+ * <pre>
+ * FieldsGrouping group = FieldsGrouping.create().group(password, confirmPassword);
+ * group.getValidationScheduler()
+ *     .addDependents(password, confirmPassword)
+ *     .addAsyncValidator(username, (field, validation) -&gt; checkUserName(field, validation))
+ *     .onValidated(result -&gt; saveButton.setDisabled(!result.isValid()));
+ * group.validateOnChange();
+ * </pre>
+ */
+public class ValidationScheduler {
+
+  private final FieldsGrouping fieldsGrouping;
+  private final Set<HasGrouping<?>> dirtyFields = new LinkedHashSet<>();
+  private final Map<HasGrouping<?>, Set<HasGrouping<?>>> dependents = new HashMap<>();
+  private final Map<HasGrouping<?>, List<AsyncValidator<?>>> asyncValidators = new HashMap<>();
+  private final Map<HasGrouping<?>, AsyncValidation> pendingValidations = new HashMap<>();
+  private final List<Consumer<ValidationResult>> validatedListeners = new ArrayList<>();
+  private boolean scheduled = false;
+  private ValidationResult lastResult = ValidationResult.valid();
+
+  /**
+   * Creates a scheduler for the specified fields grouping.
+   *
+   * @param fieldsGrouping The fields grouping to validate.
+   */
+  ValidationScheduler(FieldsGrouping fieldsGrouping) {
+    this.fieldsGrouping = fieldsGrouping;
+  }
+
+  /**
+   * Marks a field as changed, the field and its dependents will be validated in the next animation
+   * frame.
+   *
+   * @param field The changed field.
+   * @return same scheduler instance
+   */
+  public ValidationScheduler markDirty(HasGrouping<?> field) {
+    collectDirty(field);
+    schedule();
+    return this;
+  }
+
+  /**
+   * Marks all the fields of the group as changed.
+   *
+   * @return same scheduler instance
+   */
+  public ValidationScheduler markAllDirty() {
+    fieldsGrouping.getFormElements().forEach(this::collectDirty);
+    schedule();
+    return this;
+  }
+
+  /**
+   * Declares fields that should be validated again whenever the source field is validated, for
+   * example a confirm password field depending on the password field.
+   *
+   * @param field The source field.
+   * @param fieldDependents The fields depending on the source field.
+   * @return same scheduler instance
+   */
+  public ValidationScheduler addDependents(
+      HasGrouping<?> field, HasGrouping<?>... fieldDependents) {
+    Set<HasGrouping<?>> fieldDependentsSet =
+        dependents.computeIfAbsent(field, key -> new LinkedHashSet<>());
+    Collections.addAll(fieldDependentsSet, fieldDependents);
+    return this;
+  }
+
+  /**
+   * Adds an async validator for a field, async validators are only called when all the sync
+   * validators of the field pass.
+   *
+   * @param field The field to validate.
+   * @param validator The async validator.
+   * @param <T> The type of the field.
+   * @return same scheduler instance
+   */
+  public <T extends HasGrouping<?>> ValidationScheduler addAsyncValidator(
+      T field, AsyncValidator<T> validator) {
+    asyncValidators.computeIfAbsent(field, key -> new ArrayList<>()).add(validator);
+    return this;
+  }
+
+  /**
+   * Removes an async validator from a field.
+   *
+   * @param field The field.
+   * @param validator The async validator to remove.
+   * @param <T> The type of the field.
+   * @return same scheduler instance
+   */
+  public <T extends HasGrouping<?>> ValidationScheduler removeAsyncValidator(
+      T field, AsyncValidator<T> validator) {
+    if (asyncValidators.containsKey(field)) {
+      asyncValidators.get(field).remove(validator);
+    }
+    return this;
+  }
+
+  /**
+   * Adds a listener to be called with the group validation result after every scheduled validation.
+   *
+   * @param listener The listener.
+   * @return same scheduler instance
+   */
+  public ValidationScheduler onValidated(Consumer<ValidationResult> listener) {
+    validatedListeners.add(listener);
+    return this;
+  }
+
+  /**
+   * Removes a validation result listener.
+   *
+   * @param listener The listener to remove.
+   * @return same scheduler instance
+   */
+  public ValidationScheduler removeValidatedListener(Consumer<ValidationResult> listener) {
+    validatedListeners.remove(listener);
+    return this;
+  }
+
+  /**
+   * @return true if there are fields waiting to be validated or async validations in progress.
+   */
+  public boolean isPending() {
+    return !dirtyFields.isEmpty() || !pendingValidations.isEmpty();
+  }
+
+  /**
+   * @return the result of the last scheduled validation.
+   */
+  public ValidationResult getLastResult() {
+    return lastResult;
+  }
+
+  /**
+   * Cancels the scheduled validation and all the async validations in progress.
+   *
+   * @return same scheduler instance
+   */
+  public ValidationScheduler cancel() {
+    dirtyFields.clear();
+    new ArrayList<>(pendingValidations.values()).forEach(AsyncValidation::cancel);
+    pendingValidations.clear();
+    return this;
+  }
+
+  /**
+   * Validates the dirty fields immediately instead of waiting for the next animation frame.
+   *
+   * @return the group validation result.
+   */
+  public ValidationResult flush() {
+    scheduled = false;
+    if (dirtyFields.isEmpty()) {
+      return lastResult;
+    }
+    List<HasGrouping<?>> fields = new ArrayList<>(dirtyFields);
+    dirtyFields.clear();
+
+    if (fieldsGrouping.isValidationsPaused()) {
+      return lastResult;
+    }
+
+    Map<HasGrouping<?>, ValidationResult> results = new LinkedHashMap<>();
+    for (HasGrouping<?> field : fields) {
+      results.put(field, field.validate());
+    }
+
+    results.forEach(
+        (field, result) -> {
+          if (result.isValid()) {
+            startAsyncValidation(field);
+          }
+        });
+
+    return complete();
+  }
+
+  private void collectDirty(HasGrouping<?> field) {
+    if (dirtyFields.add(field)) {
+      AsyncValidation pending = pendingValidations.remove(field);
+      if (nonNull(pending)) {
+        pending.cancel();
+      }
+      if (dependents.containsKey(field)) {
+        dependents.get(field).forEach(this::collectDirty);
+      }
+    }
+  }
+
+  private void schedule() {
+    if (!scheduled && !dirtyFields.isEmpty()) {
+      scheduled = true;
+      DomGlobal.requestAnimationFrame(timestamp -> flush());
+    }
+  }
+
+  private void render(HasGrouping<?> field, ValidationResult result) {
+    List<String> currentErrors = field.getErrors();
+    if (result.isValid()) {
+      if (!currentErrors.isEmpty()) {
+        field.clearInvalid();
+      }
+    } else if (currentErrors.size() != 1
+        || !currentErrors.get(0).equals(result.getErrorMessage())) {
+      field.invalidate(result.getErrorMessage());
+    }
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private void startAsyncValidation(HasGrouping<?> field) {
+    List<AsyncValidator<?>> validators = asyncValidators.get(field);
+    if (isNull(validators) || validators.isEmpty()) {
+      return;
+    }
+    AsyncValidation validation =
+        new AsyncValidation(
+            new ArrayList<>(validators),
+            result -> {
+              pendingValidations.remove(field);
+              render(field, result);
+              complete();
+            });
+    pendingValidations.put(field, validation);
+    validation.next((HasGrouping) field);
+  }
+
+  private ValidationResult complete() {
+    List<String> errors = fieldsGrouping.getErrors();
+    errors.clear();
+    boolean fieldsValid = true;
+    for (HasGrouping<?> formElement : fieldsGrouping.getFormElements()) {
+      if (!formElement.getErrors().isEmpty()) {
+        fieldsValid = false;
+        errors.addAll(formElement.getErrors());
+      }
+    }
+
+    ValidationResult result = ValidationResult.valid();
+    if (!fieldsValid) {
+      result = new ValidationResult(false, "Invalid fields");
+    } else {
+      for (HasValidation.Validator<FieldsGrouping> validator : fieldsGrouping.getValidators()) {
+        ValidationResult groupResult = validator.isValid(fieldsGrouping);
+        if (!groupResult.isValid()) {
+          result = groupResult;
+          break;
+        }
+      }
+    }
+    this.lastResult = result;
+    if (pendingValidations.isEmpty()) {
+      ValidationResult finalResult = result;
+      new ArrayList<>(validatedListeners).forEach(listener -> listener.accept(finalResult));
+    }
+    return result;
+  }
+
+  /**
+   * A validator that computes its result asynchronously, for example by calling a server.
+   *
+   * @param <T> The type of the validated field.
+   */
+  @FunctionalInterface
+  public interface AsyncValidator<T> {
+    /**
+     * Starts validating the field, the result must be reported by calling {@link
+     * AsyncValidation#complete(ValidationResult)}.
+     *
+     * @param field The field to validate.
+     * @param validation The validation handle used to report the result or to check for
+     *     cancellation.
+     */
+    void validate(T field, AsyncValidation validation);
+  }
+
+  /**
+   * A handle for an async validation in progress, results reported after the validation was
+   * cancelled are ignored.
+   */
+  public static final class AsyncValidation {
+    private final List<AsyncValidator<?>> validators;
+    private final Consumer<ValidationResult> onComplete;
+    private final List<Runnable> cancelHandlers = new ArrayList<>();
+    private Object field;
+    private int index = 0;
+    private boolean cancelled = false;
+    private boolean completed = false;
+
+    private AsyncValidation(
+        List<AsyncValidator<?>> validators, Consumer<ValidationResult> onComplete) {
+      this.validators = validators;
+      this.onComplete = onComplete;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void next(Object field) {
+      this.field = field;
+      AsyncValidator validator = validators.get(index);
+      validator.validate(field, this);
+    }
+
+    /**
+     * Reports the result of the current async validator, a valid result moves to the next async
+     * validator of the field if any.
+     *
+     * @param result The validation result.
+     */
+    public void complete(ValidationResult result) {
+      if (cancelled || completed) {
+        return;
+      }
+      index++;
+      if (result.isValid() && index < validators.size()) {
+        next(field);
+      } else {
+        completed = true;
+        onComplete.accept(result);
+      }
+    }
+
+    /**
+     * @return true if this validation was cancelled because the field changed again.
+     */
+    public boolean isCancelled() {
+      return cancelled;
+    }
+
+    /**
+     * Registers a handler to be called when this validation is cancelled, for example to abort an
+     * in-flight server request.
+     *
+     * @param handler The cancel handler.
+     * @return same validation instance
+     */
+    public AsyncValidation onCancel(Runnable handler) {
+      if (cancelled) {
+        handler.run();
+      } else {
+        cancelHandlers.add(handler);
+      }
+      return this;
+    }
+
+    private void cancel() {
+      if (!cancelled && !completed) {
+        cancelled = true;
+        cancelHandlers.forEach(Runnable::run);
+        cancelHandlers.clear();
+      }
+    }
+  }
+}
@@ -23,11 +23,16 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import org.dominokit.domino.ui.IsElement;
+import org.dominokit.domino.ui.utils.LruCache;
 
 /**
  * An abstract base class for lazy suggestions stores. Lazy stores do not map items to options
  * immediately when added. Instead, they map them on demand when filtering or finding suggestions.
  *
+ * <p>Mapped options are kept in a least recently used cache that is unbounded by default and can be
+ * bounded using {@link #setCacheLimits(int, double)}, options that were explicitly added using
+ * {@link #addSuggestion(Option)} are never evicted.
+ *
  * @param <T> The type of data associated with the suggestion options.
  * @param <E> The type of UI element that represents the suggestion options.
  * @param <O> The type of suggestion options.
@@ -40,7 +45,8 @@ public abstract class AbstractLazySuggestionsStore<
         S extends AbstractLazySuggestionsStore<T, E, O, S>>
     extends AbstractSuggestionsStore<T, E, O, S> {
 
-  protected final Map<T, O> cache = new HashMap<>();
+  protected final LruCache<T, O> cache = new LruCache<>(0);
+  private final Map<T, O> addedSuggestions = new HashMap<>();
 
   /**
    * Constructs an {@code AbstractLazySuggestionsStore} with the provided option mapper.
@@ -62,6 +68,9 @@ public abstract class AbstractLazySuggestionsStore<
    * @return An optional containing the mapped option, or empty if mapping failed.
    */
   protected Optional<O> getOrCreateOption(T item) {
+    if (addedSuggestions.containsKey(item)) {
+      return Optional.ofNullable(addedSuggestions.get(item));
+    }
     if (cache.containsKey(item)) {
       return Optional.ofNullable(cache.get(item));
     }
@@ -70,11 +79,25 @@ public abstract class AbstractLazySuggestionsStore<
     return option;
   }
 
+  /**
+   * Changes the limits of the mapped options cache.
+   *
+   * @param maxSize The maximum number of cached options, a value less than 1 means unbounded.
+   * @param timeToLive The time in milliseconds after which a cached option is mapped again, a value
+   *     less than 1 means cached options never expire.
+   * @return same store instance
+   */
+  public S setCacheLimits(int maxSize, double timeToLive) {
+    cache.setMaxSize(maxSize);
+    cache.setTimeToLive(timeToLive);
+    return getThis();
+  }
+
   /** {@inheritDoc} */
   @Override
   public S addSuggestion(O suggestion) {
     if (nonNull(suggestion)) {
-      cache.put(suggestion.getValue(), suggestion);
+      addedSuggestions.put(suggestion.getValue(), suggestion);
       internalAddSuggestion(suggestion);
     }
     return getThis();
@@ -92,6 +115,7 @@ public abstract class AbstractLazySuggestionsStore<
   public S removeOption(O option) {
     if (nonNull(option)) {
       cache.remove(option.getValue());
+      addedSuggestions.remove(option.getValue());
       internalRemoveOption(option);
     }
     return getThis();
@@ -108,6 +132,7 @@ public abstract class AbstractLazySuggestionsStore<
   @Override
   public S removeAllOptions() {
     cache.clear();
+    addedSuggestions.clear();
     internalRemoveAllOptions();
     return getThis();
   }
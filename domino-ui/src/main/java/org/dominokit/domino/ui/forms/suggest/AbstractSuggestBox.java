@@ -87,6 +87,9 @@ public abstract class AbstractSuggestBox<
   /** The store that provides suggestions for the suggest box. */
   protected final SuggestionsStore<T, E, O> store;
 
+  /** The pipeline issuing the search queries and dropping the stale responses. */
+  private final SuggestionsPipeline<T, E, O> suggestionsPipeline;
+
   /** The loader element used to display loading indicators. */
   private final PrimaryAddOn<HTMLElement> loaderElement;
 
@@ -100,6 +103,7 @@ public abstract class AbstractSuggestBox<
   private final DelayedTextInput.DelayedAction delayedAction =
       () -> {
         if (isEmptyInputText()) {
+          cancelSearch();
           optionsMenu.close();
         } else {
           search();
@@ -119,6 +123,7 @@ public abstract class AbstractSuggestBox<
    */
   public AbstractSuggestBox(SuggestionsStore<T, E, O> store) {
     this.store = store;
+    this.suggestionsPipeline = new SuggestionsPipeline<>(store);
     addCss(dui_form_select);
     wrapperElement.appendChild(
         fieldInput =
@@ -304,19 +309,20 @@ public abstract class AbstractSuggestBox<
     if (store != null) {
       loader.start();
       optionsMenu.removeAll();
-      store.filter(
-          getInputStringValue(),
+      String query = getInputStringValue();
+      suggestionsPipeline.request(
+          query,
           suggestions -> {
             optionsMenu.removeAll();
 
             if (suggestions.isEmpty()) {
-              applyMissingEntry(getInputStringValue());
+              applyMissingEntry(query);
             }
 
             suggestions.forEach(
                 suggestion -> {
                   optionsMenu.clearSelection(true);
-                  suggestion.highlight(getInputStringValue());
+                  suggestion.highlight(query);
                   optionsMenu.appendChild(suggestion.getMenuItem());
                 });
             if (!suggestions.isEmpty()) {
@@ -327,6 +333,31 @@ public abstract class AbstractSuggestBox<
     }
   }
 
+  /**
+   * Aborts the search in progress if any, a response that arrives later is ignored.
+   *
+   * @return same component instance
+   */
+  public C cancelSearch() {
+    if (suggestionsPipeline.isPending()) {
+      suggestionsPipeline.cancel();
+      loader.stop();
+    }
+    return (C) this;
+  }
+
+  /**
+   * Use to configure the pipeline issuing the search queries of this suggest box, for example to
+   * enable caching the results of a server backed store.
+   *
+   * @param handler The handler to apply on the suggestions pipeline.
+   * @return same component instance
+   */
+  public C withSuggestionsPipeline(ChildHandler<C, SuggestionsPipeline<T, E, O>> handler) {
+    handler.apply((C) this, suggestionsPipeline);
+    return (C) this;
+  }
+
   /**
    * Opens the options menu. This method is called when suggestions are available and should be
    * displayed.
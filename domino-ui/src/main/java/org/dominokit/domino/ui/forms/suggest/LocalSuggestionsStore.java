@@ -15,9 +15,12 @@
  */
 package org.dominokit.domino.ui.forms.suggest;
 
+import static java.util.Objects.isNull;
+
 import java.util.*;
 import java.util.function.Function;
 import org.dominokit.domino.ui.IsElement;
+import org.dominokit.domino.ui.data.StoreCache;
 
 /**
  * A local suggestions store that can be used for managing and filtering suggestion options.
@@ -204,6 +207,31 @@ public class LocalSuggestionsStore<T, E extends IsElement<?>, O extends Option<T
     return this;
   }
 
+  /**
+   * Sets the suggestions for the items cached by the provided {@link StoreCache} from a previous
+   * visit, if any, then sets them again once the refresher reconciles the items with the server.
+   * The items are mapped to options using the store option mapper.
+   *
+   * @param cache The cache keeping the items snapshot.
+   * @param refresher The refresher loading the fresh items.
+   * @return This {@code LocalSuggestionsStore} for method chaining.
+   */
+  public LocalSuggestionsStore<T, E, O> warmStart(
+      StoreCache<T> cache, StoreCache.Refresher<T> refresher) {
+    if (isNull(optionMapper)) {
+      throw new IllegalArgumentException(
+          "Option mapper is not initialized, consider setting an option mapper for the store");
+    }
+    cache.warmStart(
+        items -> {
+          List<O> options = new ArrayList<>(items.size());
+          items.forEach(item -> optionMapper.apply(item).ifPresent(options::add));
+          setSuggestions(options);
+        },
+        refresher);
+    return this;
+  }
+
   /**
    * Gets the list of suggestions in this store.
    *
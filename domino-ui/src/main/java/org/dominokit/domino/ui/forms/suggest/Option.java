@@ -17,13 +17,9 @@ package org.dominokit.domino.ui.forms.suggest;
 
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
-import static org.dominokit.domino.ui.utils.Domino.span;
 
-import elemental2.dom.DomGlobal;
 import elemental2.dom.Element;
-import elemental2.dom.Node;
 import java.util.Objects;
-import jsinterop.base.Js;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.menu.AbstractMenuItem;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
@@ -181,7 +177,7 @@ public abstract class Option<V, C extends IsElement<?>, O extends Option<V, C, O
    */
   public void highlight(String displayValue) {
     if (nonNull(displayValue) && displayValue.length() > 0) {
-      highlightNode(menuItem.getClickableElement(), displayValue);
+      MatchHighlighter.of(displayValue).highlight(menuItem.getClickableElement());
     }
   }
 
@@ -215,49 +211,6 @@ public abstract class Option<V, C extends IsElement<?>, O extends Option<V, C, O
     return target;
   }
 
-  /**
-   * Highlights text within a DOM node based on a search term. This method recursively traverses
-   * child nodes of the given node to apply highlighting to text nodes.
-   *
-   * @param node The DOM node to apply highlighting to.
-   * @param searchTerm The search term used for highlighting.
-   */
-  private void highlightNode(Node node, String searchTerm) {
-    cleanHighlight(node);
-    if (node.nodeType == DomGlobal.document.TEXT_NODE) {
-      String text = node.nodeValue;
-      String highlighted = MatchHighlighter.highlight(text, searchTerm);
-      node.parentElement.appendChild(span().setInnerHtml(highlighted).element());
-      node.parentElement.removeChild(node);
-    } else if (node.nodeType == DomGlobal.document.ELEMENT_NODE) {
-      for (int i = 0; i < node.childNodes.length; i++) {
-        highlightNode(node.childNodes.getAt(i), searchTerm);
-      }
-    }
-  }
-
-  /**
-   * Cleans up any existing highlighting within a DOM node. This method is used to remove previously
-   * applied highlighting before re-highlighting.
-   *
-   * @param node The DOM node to clean up highlighting from.
-   */
-  private void cleanHighlight(Node node) {
-    if (node.nodeType == DomGlobal.document.ELEMENT_NODE) {
-      if (node.nodeName.equalsIgnoreCase("mark")) {
-        node.parentElement.textContent =
-            node.parentElement.textContent.replace("<mark>", "").replace("</mark>", "");
-      } else {
-        for (int i = 0; i < node.childNodes.length; i++) {
-
-          if (node.childNodes.getAt(i) instanceof Node) {
-            cleanHighlight(Js.uncheckedCast(node.childNodes.getAt(i)));
-          }
-        }
-      }
-    }
-  }
-
   public O onSelected() {
     return (O) this;
   }
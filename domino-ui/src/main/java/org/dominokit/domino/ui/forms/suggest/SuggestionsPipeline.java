@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.forms.suggest;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.dominokit.domino.ui.IsElement;
+import org.dominokit.domino.ui.utils.LruCache;
+
+/**
+ * Issues suggestions queries against a {@link SuggestionsStore} and makes sure only the response of
+ * the latest query is delivered.
+ *
+ * <p>Every query is tagged with a sequence number, responses of older queries are dropped, and by
+ * default the in-flight requests of older queries are aborted when a new query is issued. A query
+ * that is identical to one already in flight reuses it instead of calling the store again.
+ * Optionally the results of completed queries can be kept in a size and time bounded cache.
+ *
+ * @param <T> The type of the suggestion value.
+ * @param <E> The type of the suggestion element.
+ * @param <O> The type of the option representing a suggestion.
+ */
+public class SuggestionsPipeline<T, E extends IsElement<?>, O extends Option<T, E, O>> {
+
+  private final SuggestionsStore<T, E, O> store;
+  private final Map<String, InFlight> inFlight = new HashMap<>();
+  private final LruCache<String, List<O>> results = new LruCache<>(0);
+  private boolean resultsCacheEnabled = false;
+  private boolean abortStale = true;
+  private int sequence = 0;
+
+  /**
+   * Creates a pipeline for the specified store.
+   *
+   * @param store The suggestions store.
+   */
+  public SuggestionsPipeline(SuggestionsStore<T, E, O> store) {
+    this.store = store;
+  }
+
+  /**
+   * Issues a query, the handler is called only if no newer query is issued before the response
+   * arrives.
+   *
+   * @param query The search query.
+   * @param handler The handler to be called with the suggestions.
+   * @return the request serving this query.
+   */
+  public SuggestionsRequest request(
+      String query, SuggestionsStore.SuggestionsHandler<T, E, O> handler) {
+    int requestSequence = ++sequence;
+    if (abortStale) {
+      abortAllExcept(query);
+    }
+
+    if (resultsCacheEnabled && results.containsKey(query)) {
+      SuggestionsRequest cached = new SuggestionsRequest(requestSequence, query);
+      handler.onSuggestionsReady(new ArrayList<>(results.get(query)));
+      return cached;
+    }
+
+    InFlight existing = inFlight.get(query);
+    if (nonNull(existing)) {
+      existing.handler = handler;
+      existing.sequence = requestSequence;
+      return existing.request;
+    }
+
+    InFlight entry = new InFlight(new SuggestionsRequest(requestSequence, query), handler);
+    inFlight.put(query, entry);
+    store.filter(query, entry.request, suggestions -> onResponse(entry, suggestions));
+    return entry.request;
+  }
+
+  /** Aborts all the in-flight requests and drops any response that arrives later. */
+  public void cancel() {
+    sequence++;
+    abortAllExcept(null);
+  }
+
+  /**
+   * @return true if there are requests waiting for a response.
+   */
+  public boolean isPending() {
+    return !inFlight.isEmpty();
+  }
+
+  /**
+   * Enables caching the results of completed queries.
+   *
+   * @param maxSize The maximum number of cached queries, a value less than 1 means unbounded.
+   * @param timeToLive The time to live of a cached result in milliseconds, a value less than 1
+   *     means results never expire.
+   * @return same pipeline instance
+   */
+  public SuggestionsPipeline<T, E, O> setResultsCache(int maxSize, double timeToLive) {
+    this.resultsCacheEnabled = true;
+    results.setMaxSize(maxSize);
+    results.setTimeToLive(timeToLive);
+    return this;
+  }
+
+  /**
+   * Disables caching the results of completed queries and clears the cached results.
+   *
+   * @return same pipeline instance
+   */
+  public SuggestionsPipeline<T, E, O> disableResultsCache() {
+    this.resultsCacheEnabled = false;
+    results.clear();
+    return this;
+  }
+
+  /**
+   * Clears the cached results, call this when the store data changes.
+   *
+   * @return same pipeline instance
+   */
+  public SuggestionsPipeline<T, E, O> invalidateResults() {
+    results.clear();
+    return this;
+  }
+
+  /**
+   * @param abortStale true to abort the in-flight requests of older queries when a new query is
+   *     issued, false to let them complete and only drop their responses.
+   * @return same pipeline instance
+   */
+  public SuggestionsPipeline<T, E, O> setAbortStale(boolean abortStale) {
+    this.abortStale = abortStale;
+    return this;
+  }
+
+  /**
+   * @return true if the in-flight requests of older queries are aborted.
+   */
+  public boolean isAbortStale() {
+    return abortStale;
+  }
+
+  /**
+   * @return the store used by this pipeline.
+   */
+  public SuggestionsStore<T, E, O> getStore() {
+    return store;
+  }
+
+  private void abortAllExcept(String query) {
+    new ArrayList<>(inFlight.keySet())
+        .forEach(
+            key -> {
+              if (!key.equals(query)) {
+                inFlight.remove(key).request.abort();
+              }
+            });
+  }
+
+  private void onResponse(InFlight entry, List<O> suggestions) {
+    String query = entry.request.getQuery();
+    if (inFlight.get(query) == entry) {
+      inFlight.remove(query);
+    }
+    if (entry.request.isAborted()) {
+      return;
+    }
+    if (resultsCacheEnabled) {
+      results.put(query, new ArrayList<>(suggestions));
+    }
+    if (entry.sequence == sequence) {
+      entry.handler.onSuggestionsReady(suggestions);
+    }
+  }
+
+  private class InFlight {
+    private final SuggestionsRequest request;
+    private SuggestionsStore.SuggestionsHandler<T, E, O> handler;
+    private int sequence;
+
+    private InFlight(
+        SuggestionsRequest request, SuggestionsStore.SuggestionsHandler<T, E, O> handler) {
+      this.request = request;
+      this.handler = handler;
+      this.sequence = request.getSequence();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.forms.suggest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a single suggestions query issued by a {@link SuggestionsPipeline}. A store serving
+ * the request can register abort handlers to cancel its in-flight work when the request is no
+ * longer needed.
+ */
+public final class SuggestionsRequest {
+
+  private final int sequence;
+  private final String query;
+  private final List<Runnable> abortHandlers = new ArrayList<>();
+  private boolean aborted = false;
+
+  SuggestionsRequest(int sequence, String query) {
+    this.sequence = sequence;
+    this.query = query;
+  }
+
+  /**
+   * @return the sequence number of this request, later requests have greater numbers.
+   */
+  public int getSequence() {
+    return sequence;
+  }
+
+  /**
+   * @return the search query of this request.
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * @return true if this request was aborted.
+   */
+  public boolean isAborted() {
+    return aborted;
+  }
+
+  /**
+   * Registers a handler to be called when this request is aborted, if the request is already
+   * aborted the handler is called immediately.
+   *
+   * @param handler The abort handler, for example one that aborts an XHR call.
+   * @return same request instance
+   */
+  public SuggestionsRequest onAbort(Runnable handler) {
+    if (aborted) {
+      handler.run();
+    } else {
+      abortHandlers.add(handler);
+    }
+    return this;
+  }
+
+  void abort() {
+    if (!aborted) {
+      aborted = true;
+      abortHandlers.forEach(Runnable::run);
+      abortHandlers.clear();
+    }
+  }
+}
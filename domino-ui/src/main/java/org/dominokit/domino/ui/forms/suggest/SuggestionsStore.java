@@ -39,6 +39,21 @@ public interface SuggestionsStore<T, E extends IsElement<?>, O extends Option<T,
    */
   void filter(String value, SuggestionsHandler<T, E, O> suggestionsHandler);
 
+  /**
+   * Filters the suggestions for a request issued by a {@link SuggestionsPipeline}. Stores backed by
+   * a server can override this method to abort their in-flight calls using {@link
+   * SuggestionsRequest#onAbort(Runnable)}, by default this delegates to {@link #filter(String,
+   * SuggestionsHandler)}.
+   *
+   * @param value The search value to filter the suggestions.
+   * @param request The request being served.
+   * @param suggestionsHandler The handler to be called with the filtered suggestions.
+   */
+  default void filter(
+      String value, SuggestionsRequest request, SuggestionsHandler<T, E, O> suggestionsHandler) {
+    filter(value, suggestionsHandler);
+  }
+
   /**
    * Finds a suggestion based on the provided search value and calls the handler with the found
    * suggestion.
@@ -19,12 +19,17 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLUListElement;
+import elemental2.dom.Node;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.dominokit.domino.ui.elements.LIElement;
 import org.dominokit.domino.ui.elements.UListElement;
+import org.dominokit.domino.ui.events.EventOptions;
 import org.dominokit.domino.ui.style.BooleanCssClass;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.HasSelectionListeners;
@@ -67,6 +72,18 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
   private Set<SelectionListener<? super T, ? super List<T>>> selectionListeners = new HashSet<>();
   private Set<SelectionListener<? super T, ? super List<T>>> deselectionListeners = new HashSet<>();
 
+  private Function<? super T, ?> keyProvider;
+  private final Map<Object, ListItem<T>> itemsByKey = new HashMap<>();
+
+  private boolean virtualScrolling = false;
+  private double itemHeight;
+  private int overscan = 5;
+  private LIElement topSpacer;
+  private LIElement bottomSpacer;
+  private boolean renderScheduled = false;
+  private final Set<ListItem<T>> renderedItems = new HashSet<>();
+  private final Set<ListItem<T>> attachedItems = new HashSet<>();
+
   /**
    * Creates a new {@code ListGroup} instance.
    *
@@ -109,8 +126,11 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
    */
   public ListGroup<T> setItems(List<? extends T> items) {
     removeAll();
-    items.forEach(this::addItem);
-    addListeners.forEach(listener -> listener.onAdd(new ArrayList<>(this.items)));
+    List<ListItem<? extends T>> addedItems = new ArrayList<>(items.size());
+    items.forEach(value -> insertAt(this.items.size(), value, true, addedItems::add));
+    if (!addedItems.isEmpty()) {
+      addListeners.forEach(listener -> listener.onAdd(addedItems));
+    }
     return this;
   }
 
@@ -123,6 +143,13 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
     clearElement();
     List<ListItem<? extends T>> removed = new ArrayList<>(this.items);
     items.clear();
+    itemsByKey.clear();
+    renderedItems.clear();
+    attachedItems.clear();
+    if (virtualScrolling) {
+      element.appendChild(topSpacer).appendChild(bottomSpacer);
+      scheduleRender();
+    }
     removeListeners.forEach(listener -> listener.onRemove(removed));
     return this;
   }
@@ -183,9 +210,15 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
       } else {
         items.add(index, li);
       }
-      this.insertAfter(li.element(), items.get(index));
-
-      itemRenderer.onRender(this, li);
+      if (nonNull(keyProvider)) {
+        itemsByKey.put(keyProvider.apply(value), li);
+      }
+      if (virtualScrolling) {
+        scheduleRender();
+      } else {
+        this.insertAfter(li.element(), items.get(index));
+        renderItem(li);
+      }
       onItemAdded.accept(li);
       if (!silent) {
         List<ListItem<? extends T>> added = new ArrayList<>();
@@ -206,6 +239,11 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
    * @return this {@code ListGroup} instance.
    */
   public ListGroup<T> removeItemsByValue(List<? extends T> toBeRemoved) {
+    if (nonNull(keyProvider)) {
+      List<ListItem<? extends T>> found = new ArrayList<>();
+      toBeRemoved.forEach(value -> findItem(value).ifPresent(found::add));
+      return removeItems(found);
+    }
     return removeItems(
         items.stream()
             .filter(listItem -> toBeRemoved.contains(listItem.getValue()))
@@ -219,10 +257,7 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
    * @return this {@code ListGroup} instance.
    */
   public ListGroup<T> removeItem(T value) {
-    Optional<ListItem<T>> first =
-        items.stream().filter(listItem -> Objects.equals(listItem.getValue(), value)).findFirst();
-
-    first.ifPresent(this::removeItem);
+    findItem(value).ifPresent(this::removeItem);
     return this;
   }
 
@@ -258,6 +293,14 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
   public ListGroup<T> removeItem(ListItem<? extends T> item, boolean silent) {
     items.remove(item);
     item.remove();
+    if (nonNull(keyProvider)) {
+      itemsByKey.remove(keyProvider.apply(item.getValue()));
+    }
+    renderedItems.remove(item);
+    attachedItems.remove(item);
+    if (virtualScrolling) {
+      scheduleRender();
+    }
 
     if (!silent) {
       List<ListItem<? extends T>> items = new ArrayList<>();
@@ -275,12 +318,7 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
    * @return this {@code ListGroup} instance.
    */
   public ListGroup<T> updateItem(T value) {
-    for (ListItem<T> listItem : items) {
-      if (Objects.equals(listItem.getValue(), value)) {
-        updateSingleItem(listItem, value);
-        break;
-      }
-    }
+    findItem(value).ifPresent(listItem -> updateSingleItem(listItem, value));
     return this;
   }
 
@@ -291,6 +329,10 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
    * @return this {@code ListGroup} instance.
    */
   public ListGroup<T> updateItems(List<? extends T> newValues) {
+    if (nonNull(keyProvider)) {
+      newValues.forEach(this::updateItem);
+      return this;
+    }
     Map<T, ListItem<T>> itemMap =
         this.items.stream()
             .collect(Collectors.toMap(ListItem::getValue, Function.identity(), (a, b) -> a));
@@ -306,9 +348,190 @@ public class ListGroup<T> extends BaseDominoElement<HTMLUListElement, ListGroup<
   }
 
   private void updateSingleItem(ListItem<T> item, T value) {
-    item.clearElement();
     item.setValue(value);
+    if (renderedItems.remove(item)) {
+      item.clearElement();
+      renderItem(item);
+    }
+  }
+
+  private void renderItem(ListItem<T> item) {
     itemRenderer.onRender(this, item);
+    renderedItems.add(item);
+  }
+
+  /**
+   * Finds the list item of a value, when a key provider is set the item is looked up by the value
+   * key, otherwise the first item with an equal value is returned.
+   *
+   * @param value The value to look for.
+   * @return an optional of the item holding the value.
+   */
+  public Optional<ListItem<T>> findItem(T value) {
+    if (nonNull(keyProvider)) {
+      return Optional.ofNullable(itemsByKey.get(keyProvider.apply(value)));
+    }
+    return items.stream()
+        .filter(listItem -> Objects.equals(listItem.getValue(), value))
+        .findFirst();
+  }
+
+  /**
+   * Finds the list item by its key, this requires a key provider to be set.
+   *
+   * @param key The key of the item value.
+   * @return an optional of the item with the specified key.
+   */
+  public Optional<ListItem<T>> findByKey(Object key) {
+    return Optional.ofNullable(itemsByKey.get(key));
+  }
+
+  /**
+   * Sets a function that extracts a unique key from the items values, the key is used to look up
+   * the items in constant time when updating, removing or finding items by value.
+   *
+   * @param keyProvider The key function, null to look up items by value equality.
+   * @return same ListGroup instance
+   */
+  public ListGroup<T> setKeyProvider(Function<? super T, ?> keyProvider) {
+    this.keyProvider = keyProvider;
+    itemsByKey.clear();
+    if (nonNull(keyProvider)) {
+      items.forEach(listItem -> itemsByKey.put(keyProvider.apply(listItem.getValue()), listItem));
+    }
+    return this;
+  }
+
+  /**
+   * Enables virtual scrolling, only the items visible in the list viewport are attached and
+   * rendered, the list should have a fixed height and all the items are expected to have the same
+   * height. Items scrolled out of the viewport are detached and rendered again when they become
+   * visible, their selection state is kept.
+   *
+   * @param itemHeight The height of a single item in pixels.
+   * @return same ListGroup instance
+   */
+  public ListGroup<T> setVirtualScrolling(double itemHeight) {
+    this.itemHeight = itemHeight;
+    if (!virtualScrolling) {
+      this.virtualScrolling = true;
+      if (isNull(topSpacer)) {
+        topSpacer = li().addCss(dui_list_group_spacer);
+        bottomSpacer = li().addCss(dui_list_group_spacer);
+        addEventListener("scroll", evt -> scheduleRender(), EventOptions.of().setPassive(true));
+      }
+      addCss(dui_overflow_y_auto);
+      items.forEach(listItem -> listItem.element().remove());
+      renderedItems.forEach(ListItem::clearElement);
+      renderedItems.clear();
+      attachedItems.clear();
+      element.appendChild(topSpacer).appendChild(bottomSpacer);
+    }
+    scheduleRender();
+    return this;
+  }
+
+  /**
+   * Disables virtual scrolling and attaches all the items.
+   *
+   * @return same ListGroup instance
+   */
+  public ListGroup<T> removeVirtualScrolling() {
+    if (virtualScrolling) {
+      this.virtualScrolling = false;
+      topSpacer.remove();
+      bottomSpacer.remove();
+      dui_overflow_y_auto.remove(this);
+      attachedItems.clear();
+      items.forEach(
+          listItem -> {
+            element.appendChild(listItem);
+            if (!renderedItems.contains(listItem)) {
+              renderItem(listItem);
+            }
+          });
+    }
+    return this;
+  }
+
+  /**
+   * @return true if virtual scrolling is enabled.
+   */
+  public boolean isVirtualScrolling() {
+    return virtualScrolling;
+  }
+
+  /**
+   * Sets the number of items rendered above and below the viewport while virtual scrolling.
+   *
+   * @param overscan the number of extra items, defaults to 5.
+   * @return same ListGroup instance
+   */
+  public ListGroup<T> setOverscan(int overscan) {
+    this.overscan = Math.max(0, overscan);
+    scheduleRender();
+    return this;
+  }
+
+  /**
+   * Attaches and renders the items of the current viewport immediately instead of waiting for the
+   * next animation frame, this has no effect when virtual scrolling is disabled.
+   *
+   * @return same ListGroup instance
+   */
+  public ListGroup<T> renderVisibleItems() {
+    renderScheduled = false;
+    if (!virtualScrolling) {
+      return this;
+    }
+    HTMLElement root = element();
+    int count = items.size();
+    int first = 0;
+    int last = -1;
+    if (count > 0 && itemHeight > 0) {
+      first = Math.max(0, (int) Math.floor(root.scrollTop / itemHeight) - overscan);
+      last =
+          Math.min(
+              count - 1,
+              (int) Math.ceil((root.scrollTop + root.clientHeight) / itemHeight) + overscan);
+      first = Math.min(first, Math.max(0, last));
+    }
+
+    List<ListItem<T>> window =
+        last >= first ? items.subList(first, last + 1) : Collections.emptyList();
+    Set<ListItem<T>> windowSet = new HashSet<>(window);
+    for (ListItem<T> attached : new ArrayList<>(attachedItems)) {
+      if (!windowSet.contains(attached)) {
+        attached.element().remove();
+        attached.clearElement();
+        renderedItems.remove(attached);
+        attachedItems.remove(attached);
+      }
+    }
+
+    Node cursor = topSpacer.element().nextSibling;
+    for (ListItem<T> listItem : window) {
+      if (listItem.element() == cursor) {
+        cursor = cursor.nextSibling;
+      } else {
+        root.insertBefore(listItem.element(), cursor);
+        attachedItems.add(listItem);
+      }
+      if (!renderedItems.contains(listItem)) {
+        renderItem(listItem);
+      }
+    }
+
+    topSpacer.setHeight((first * itemHeight) + "px");
+    bottomSpacer.setHeight((Math.max(0, count - 1 - last) * itemHeight) + "px");
+    return this;
+  }
+
+  private void scheduleRender() {
+    if (virtualScrolling && !renderScheduled) {
+      renderScheduled = true;
+      DomGlobal.requestAnimationFrame(timestamp -> renderVisibleItems());
+    }
   }
 
   /**
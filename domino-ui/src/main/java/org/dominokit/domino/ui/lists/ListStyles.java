@@ -31,4 +31,7 @@ public interface ListStyles {
 
   /** A CSS class for styling a list group item. */
   CssClass dui_list_group_item = () -> "dui-list-group-item";
+
+  /** A CSS class for the spacers holding the place of the detached items in a virtual list. */
+  CssClass dui_list_group_spacer = () -> "dui-list-group-spacer";
 }
@@ -22,6 +22,7 @@ import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.i18n.LoaderLabels;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.DominoUIConfig;
+import org.dominokit.domino.ui.utils.VisibilityScheduler;
 
 /**
  * An abstract base class for implementing loader components. Loaders are visual elements that
@@ -43,6 +44,17 @@ public abstract class BaseLoader<T extends BaseLoader<T>>
   protected HTMLDivElement loadingText =
       div().addCss(dui_loader, wait_me_text).textContent(labels.loading()).element();
 
+  /**
+   * Initializes the loader element, the loader animations are paused while the loader is hidden.
+   *
+   * @param element The loader instance.
+   */
+  @Override
+  protected void init(T element) {
+    super.init(element);
+    VisibilityScheduler.pauseAnimationsWhenHidden(this);
+  }
+
   /**
    * Gets the HTMLDivElement element associated with this loader.
    *
@@ -54,7 +54,9 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.dominokit.domino.ui.utils.KeyboardNavigation;
 import org.dominokit.domino.ui.utils.LazyChild;
+import org.dominokit.domino.ui.utils.LeakDetector;
 import org.dominokit.domino.ui.utils.PopupsCloser;
+import org.dominokit.domino.ui.utils.Register;
 import org.dominokit.domino.ui.utils.Separator;
 import org.dominokit.domino.ui.utils.SupplyOnce;
 
@@ -91,6 +93,7 @@ public class Menu<V> extends BaseMenu<V, Menu<V>, AbstractMenuItem<V>, AbstractM
 
   private final DivElement backArrowContainer;
   private boolean searchable;
+  private Register windowResizeLeakRegister = Register.EMPTY;
 
   /**
    * Factory method to create a new Menu instance.
@@ -135,12 +138,16 @@ public class Menu<V> extends BaseMenu<V, Menu<V>, AbstractMenuItem<V>, AbstractM
         () -> {
           if (isDropDown()) {
             window.addEventListener("resize", windowResizeListener);
+            windowResizeLeakRegister.remove();
+            windowResizeLeakRegister =
+                LeakDetector.trackGlobalReference(element(), "Menu window resize");
           }
         });
     onDetached(
         (mutationRecord) -> {
           if (isDropDown()) {
             window.removeEventListener("resize", windowResizeListener);
+            windowResizeLeakRegister.remove();
           }
         });
 
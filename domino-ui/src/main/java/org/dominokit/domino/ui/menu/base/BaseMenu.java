@@ -76,6 +76,7 @@ import org.dominokit.domino.ui.utils.IsPopup;
 import org.dominokit.domino.ui.utils.KeyboardNavigation;
 import org.dominokit.domino.ui.utils.LazyChild;
 import org.dominokit.domino.ui.utils.MutationObserverCallback;
+import org.dominokit.domino.ui.utils.PerformanceTracer;
 import org.dominokit.domino.ui.utils.PopupsCloser;
 import org.dominokit.domino.ui.utils.PrefixAddOn;
 import org.dominokit.domino.ui.utils.Selectable;
@@ -851,10 +852,14 @@ public abstract class BaseMenu<
       Optional<DropTarget> menuTarget = getTarget();
       menuTarget.ifPresent(
           target -> {
+            PerformanceTracer.Trace trace =
+                PerformanceTracer.start(PerformanceTracer.TRACE_POPUP_POSITION);
             getEffectiveDropDirection()
                 .position(
                     DropDirectionContext.of(
                         element.element(), target.getTargetElement().element(), fitToTargetWidth));
+            PerformanceTracer.count(PerformanceTracer.POPUPS_POSITIONED);
+            trace.end();
             DomGlobal.setTimeout(p -> startScrollFollow = true);
           });
     }
@@ -234,13 +234,15 @@ public class Notification extends BaseDominoElement<HTMLDivElement, Notification
   }
 
   /**
-   * Sets the position for the notification on the screen.
+   * Sets the position for the notification on the screen, the stacking offset of the previous
+   * position is cleared and recalculated when the notification is shown.
    *
    * @param position the desired position for the notification
    * @return this notification for chaining
    */
   public Notification setPosition(Position position) {
     root.addCss(this.position.replaceWith(position));
+    root.removeCssProperty(NotificationPosition.POSITION_OFFSET);
     return this;
   }
 
@@ -300,7 +302,7 @@ public class Notification extends BaseDominoElement<HTMLDivElement, Notification
         .beforeStart(
             element -> {
               DomGlobal.document.body.appendChild(element());
-              NotificationPosition.updatePositions(position);
+              NotificationPosition.scheduleUpdate(position);
             })
         .transition(inTransition)
         .callback(
@@ -368,7 +370,7 @@ public class Notification extends BaseDominoElement<HTMLDivElement, Notification
             e2 -> {
               element().remove();
               onComplete.run();
-              NotificationPosition.updatePositions(position);
+              NotificationPosition.scheduleUpdate(position);
             })
         .animate();
   }
@@ -0,0 +1,370 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.notifications;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.utils.Domino.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.dominokit.domino.ui.elements.SpanElement;
+import org.dominokit.domino.ui.style.CssClass;
+import org.dominokit.domino.ui.utils.DominoUIConfig;
+import org.dominokit.domino.ui.utils.Handler;
+import org.gwtproject.timer.client.Timer;
+
+/**
+ * Shows notifications in a way that is safe for bursts of notifications.
+ *
+ * <p>The number of visible notifications is limited per {@link Notification.Position} and the rest
+ * are queued and shown as the visible ones are closed. A notification with the same message,
+ * position and styles as one visible or queued within the coalesce window is not shown again,
+ * instead a counter is displayed on the existing one and its duration is restarted. Closed
+ * notifications are kept in a pool and their elements are reused for the next notifications.
+ *
+ * <pre>
+ * NotificationManager manager = NotificationManager.create().setMaxVisible(3);
+ * manager.show("Connection lost", Notification.Position.TOP_RIGHT, dui_error);
+ * </pre>
+ */
+public class NotificationManager implements NotificationStyles {
+
+  private int maxVisible = 5;
+  private int maxQueued = 50;
+  private int poolSize = 10;
+  private int coalesceWindow = 2000;
+  private int duration = -1;
+  private Handler<Notification> notificationInitializer = notification -> {};
+
+  private final Map<String, Entry> entries = new HashMap<>();
+  private final Map<Notification.Position, List<Entry>> visible =
+      new EnumMap<>(Notification.Position.class);
+  private final Map<Notification.Position, Deque<Entry>> queued =
+      new EnumMap<>(Notification.Position.class);
+  private final Deque<PooledNotification> pool = new ArrayDeque<>();
+
+  /**
+   * Creates a new notification manager.
+   *
+   * @return a new instance
+   */
+  public static NotificationManager create() {
+    return new NotificationManager();
+  }
+
+  /**
+   * Shows a notification at the default position.
+   *
+   * @param message The notification message.
+   * @return same instance
+   */
+  public NotificationManager show(String message) {
+    return show(message, DominoUIConfig.CONFIG.getUIConfig().getDefaultNotificationPosition());
+  }
+
+  /**
+   * Shows a notification at the specified position.
+   *
+   * @param message The notification message.
+   * @param position The notification position.
+   * @param styles Extra CSS classes to apply to the notification.
+   * @return same instance
+   */
+  public NotificationManager show(
+      String message, Notification.Position position, CssClass... styles) {
+    String key = keyOf(message, position, styles);
+    double now = System.currentTimeMillis();
+    Entry existing = entries.get(key);
+    if (nonNull(existing) && now - existing.createdAt <= coalesceWindow) {
+      existing.count++;
+      if (nonNull(existing.pooled)) {
+        existing.pooled.updateCounter();
+        existing.pooled.scheduleClose();
+      }
+      return this;
+    }
+
+    Entry entry = new Entry(key, message, position, styles, now);
+    entries.put(key, entry);
+    if (visibleOf(position).size() < maxVisible) {
+      display(entry);
+    } else {
+      Deque<Entry> queue = queued.computeIfAbsent(position, p -> new ArrayDeque<>());
+      queue.addLast(entry);
+      while (maxQueued > 0 && queue.size() > maxQueued) {
+        removeEntry(queue.removeFirst());
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Closes all the visible notifications and discards the queued ones.
+   *
+   * @return same instance
+   */
+  public NotificationManager dismissAll() {
+    queued.values().forEach(queue -> queue.forEach(this::removeEntry));
+    queued.clear();
+    visible.values().stream()
+        .flatMap(List::stream)
+        .filter(entry -> nonNull(entry.pooled))
+        .map(entry -> entry.pooled)
+        .forEach(pooled -> pooled.notification.close());
+    return this;
+  }
+
+  /**
+   * @param position The notification position.
+   * @return the number of notifications visible at the position.
+   */
+  public int getVisibleCount(Notification.Position position) {
+    return visibleOf(position).size();
+  }
+
+  /**
+   * @param position The notification position.
+   * @return the number of notifications waiting to be shown at the position.
+   */
+  public int getQueuedCount(Notification.Position position) {
+    Deque<Entry> queue = queued.get(position);
+    return isNull(queue) ? 0 : queue.size();
+  }
+
+  /**
+   * Sets the maximum number of notifications visible at the same time for each position.
+   *
+   * @param maxVisible The maximum number of visible notifications, default is 5.
+   * @return same instance
+   */
+  public NotificationManager setMaxVisible(int maxVisible) {
+    this.maxVisible = Math.max(1, maxVisible);
+    return this;
+  }
+
+  /**
+   * @return the maximum number of notifications visible at the same time for each position.
+   */
+  public int getMaxVisible() {
+    return maxVisible;
+  }
+
+  /**
+   * Sets the maximum number of queued notifications for each position, when exceeded the oldest
+   * queued notifications are dropped.
+   *
+   * @param maxQueued The maximum number of queued notifications, a value less than 1 means
+   *     unbounded, default is 50.
+   * @return same instance
+   */
+  public NotificationManager setMaxQueued(int maxQueued) {
+    this.maxQueued = maxQueued;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of queued notifications for each position.
+   */
+  public int getMaxQueued() {
+    return maxQueued;
+  }
+
+  /**
+   * Sets the maximum number of closed notifications kept for reuse.
+   *
+   * @param poolSize The pool size, default is 10.
+   * @return same instance
+   */
+  public NotificationManager setPoolSize(int poolSize) {
+    this.poolSize = poolSize;
+    while (pool.size() > Math.max(0, poolSize)) {
+      pool.removeLast();
+    }
+    return this;
+  }
+
+  /**
+   * @return the maximum number of closed notifications kept for reuse.
+   */
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * Sets the time window in which a duplicate notification is counted on the existing one instead
+   * of being shown again.
+   *
+   * @param coalesceWindow The window in milliseconds, default is 2000.
+   * @return same instance
+   */
+  public NotificationManager setCoalesceWindow(int coalesceWindow) {
+    this.coalesceWindow = coalesceWindow;
+    return this;
+  }
+
+  /**
+   * @return the coalesce window in milliseconds.
+   */
+  public int getCoalesceWindow() {
+    return coalesceWindow;
+  }
+
+  /**
+   * Sets how long a notification stays visible, a duplicate notification restarts it.
+   *
+   * @param duration The duration in milliseconds, a value less than 1 uses the configured default
+   *     notification duration.
+   * @return same instance
+   */
+  public NotificationManager setDuration(int duration) {
+    this.duration = duration;
+    return this;
+  }
+
+  /**
+   * Sets a handler applied once to every notification element created by this manager, pooled
+   * elements are reused for different messages so per message customization should use the styles
+   * of {@link #show(String, Notification.Position, CssClass...)}.
+   *
+   * @param notificationInitializer The handler.
+   * @return same instance
+   */
+  public NotificationManager setNotificationInitializer(
+      Handler<Notification> notificationInitializer) {
+    this.notificationInitializer = notificationInitializer;
+    return this;
+  }
+
+  private void display(Entry entry) {
+    PooledNotification pooled = pool.isEmpty() ? new PooledNotification() : pool.removeFirst();
+    pooled.entry = entry;
+    entry.pooled = pooled;
+    Notification notification = pooled.notification;
+    notification.getStyleTarget().className = pooled.className;
+    notification.addCss(entry.styles);
+    notification.setMessage(entry.message).setPosition(entry.position);
+    pooled.updateCounter();
+    visibleOf(entry.position).add(entry);
+    notification.show();
+    pooled.scheduleClose();
+  }
+
+  private void onClosed(PooledNotification pooled) {
+    pooled.closeTimer.cancel();
+    Entry entry = pooled.entry;
+    if (isNull(entry)) {
+      return;
+    }
+    pooled.entry = null;
+    entry.pooled = null;
+    visibleOf(entry.position).remove(entry);
+    removeEntry(entry);
+    if (pool.size() < poolSize) {
+      pool.addLast(pooled);
+    }
+    Deque<Entry> queue = queued.get(entry.position);
+    if (nonNull(queue) && !queue.isEmpty() && visibleOf(entry.position).size() < maxVisible) {
+      display(queue.removeFirst());
+    }
+  }
+
+  private void removeEntry(Entry entry) {
+    if (entries.get(entry.key) == entry) {
+      entries.remove(entry.key);
+    }
+  }
+
+  private List<Entry> visibleOf(Notification.Position position) {
+    return visible.computeIfAbsent(position, p -> new ArrayList<>());
+  }
+
+  private int getDuration() {
+    return duration > 0
+        ? duration
+        : DominoUIConfig.CONFIG.getUIConfig().getDefaultNotificationDuration();
+  }
+
+  private static String keyOf(String message, Notification.Position position, CssClass[] styles) {
+    StringBuilder key = new StringBuilder(position.name()).append('|').append(message);
+    for (CssClass style : styles) {
+      key.append('|').append(style.getCssClass());
+    }
+    return key.toString();
+  }
+
+  private static final class Entry {
+    private final String key;
+    private final String message;
+    private final Notification.Position position;
+    private final CssClass[] styles;
+    private final double createdAt;
+    private int count = 1;
+    private PooledNotification pooled;
+
+    private Entry(
+        String key,
+        String message,
+        Notification.Position position,
+        CssClass[] styles,
+        double createdAt) {
+      this.key = key;
+      this.message = message;
+      this.position = position;
+      this.styles = styles;
+      this.createdAt = createdAt;
+    }
+  }
+
+  private final class PooledNotification {
+    private final Notification notification;
+    private final SpanElement counter;
+    private final String className;
+    private final Timer closeTimer;
+    private Entry entry;
+
+    private PooledNotification() {
+      notification = Notification.create();
+      notificationInitializer.apply(notification);
+      notification.setInfinite(true);
+      counter = span().addCss(dui_notification_counter);
+      notification.getStyleTarget().appendChild(counter.element());
+      className = notification.getStyleTarget().className;
+      closeTimer =
+          new Timer() {
+            @Override
+            public void run() {
+              notification.close();
+            }
+          };
+      notification.addCloseHandler(closed -> onClosed(this));
+    }
+
+    private void updateCounter() {
+      int count = isNull(entry) ? 1 : entry.count;
+      counter.setTextContent(String.valueOf(count)).toggleDisplay(count > 1);
+    }
+
+    private void scheduleClose() {
+      closeTimer.schedule(getDuration());
+    }
+  }
+}
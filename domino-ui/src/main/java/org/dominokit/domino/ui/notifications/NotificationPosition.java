@@ -15,17 +15,19 @@
  */
 package org.dominokit.domino.ui.notifications;
 
+import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.notifications.NotificationStyles.*;
 import static org.dominokit.domino.ui.utils.Domino.*;
 import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
 
-import elemental2.dom.DOMRect;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.Element;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.dominokit.domino.ui.style.CompositeCssClass;
 import org.dominokit.domino.ui.style.CssClass;
-import org.dominokit.domino.ui.utils.DominoElement;
 
 /**
  * Utility class for managing and updating the positions of notifications on the screen.
@@ -47,37 +49,64 @@ public class NotificationPosition {
   private static CompositeCssClass bottomPositions =
       CompositeCssClass.of(dui_ntf_bottom_left, dui_ntf_bottom_right, dui_ntf_bottom_middle);
 
+  static final String POSITION_OFFSET = "--dui-ntf-position-offset";
+
+  private static final Set<String> pendingPositions = new HashSet<>();
+  private static final List<CssClass> pendingPositionsOrder = new ArrayList<>();
+
   /**
    * Adjusts the position offsets of all notifications that share the same position.
    *
    * <p>The method iterates over all notifications having the same position and adjusts their
-   * position offsets to prevent overlaps. Position offsets are adjusted differently based on
-   * whether the notifications are positioned at the top or bottom of the screen.
+   * position offsets to prevent overlaps. The heights of all the notifications are read first then
+   * the offsets are written, the offsets are applied as a transform of the notification wrapper so
+   * moving the notifications does not affect the page layout.
    *
    * @param notificationPosition The CSS class representing the position of the notifications to
    *     adjust.
    */
   public static void updatePositions(CssClass notificationPosition) {
+    if (!topPositions.contains(notificationPosition)
+        && !bottomPositions.contains(notificationPosition)) {
+      return;
+    }
     List<Element> samePositionNotifications =
         DomGlobal.document.querySelectorAll("." + notificationPosition.getCssClass()).asList();
 
+    int count = samePositionNotifications.size();
+    double[] heights = new double[count];
+    for (int i = 0; i < count; i++) {
+      Element notification = samePositionNotifications.get(i).firstElementChild;
+      heights[i] = nonNull(notification) ? notification.getBoundingClientRect().height : 0;
+    }
+
     double nextOffset = 0;
-    if (topPositions.contains(notificationPosition)) {
-      for (int i = samePositionNotifications.size() - 1; i > -1; i--) {
-        DominoElement<Element> e =
-            elements.elementOf(samePositionNotifications.get(i).firstElementChild);
-        e.setCssProperty("--dui-ntf-position-offset", nextOffset + "px");
-        DOMRect domRect = e.getBoundingClientRect();
-        nextOffset += domRect.bottom - domRect.top + 16;
-      }
-    } else if (bottomPositions.contains(notificationPosition)) {
-      for (int i = samePositionNotifications.size() - 1; i > -1; i--) {
-        DominoElement<Element> wrapper = elements.elementOf(samePositionNotifications.get(i));
-        DominoElement<Element> e =
-            elements.elementOf(samePositionNotifications.get(i).firstElementChild);
-        e.setCssProperty("--dui-ntf-position-offset", nextOffset + "px");
-        DOMRect domRect = e.getBoundingClientRect();
-        nextOffset += domRect.bottom - domRect.top + 16;
+    for (int i = count - 1; i > -1; i--) {
+      elements
+          .elementOf(samePositionNotifications.get(i))
+          .setCssProperty(POSITION_OFFSET, nextOffset + "px");
+      nextOffset += heights[i] + 16;
+    }
+  }
+
+  /**
+   * Schedules {@link #updatePositions(CssClass)} for the next animation frame, several calls for
+   * the same position in the same frame result in a single update.
+   *
+   * @param notificationPosition The CSS class representing the position of the notifications to
+   *     adjust.
+   */
+  public static void scheduleUpdate(CssClass notificationPosition) {
+    if (pendingPositions.add(notificationPosition.getCssClass())) {
+      pendingPositionsOrder.add(notificationPosition);
+      if (pendingPositionsOrder.size() == 1) {
+        DomGlobal.requestAnimationFrame(
+            timestamp -> {
+              List<CssClass> positions = new ArrayList<>(pendingPositionsOrder);
+              pendingPositions.clear();
+              pendingPositionsOrder.clear();
+              positions.forEach(NotificationPosition::updatePositions);
+            });
       }
     }
   }
@@ -28,4 +28,5 @@ public interface NotificationStyles {
   CssClass dui_ntf_bottom_middle = () -> "dui-ntf-bottom-middle";
   CssClass dui_ntf_bottom_right = () -> "dui-ntf-bottom-right";
   CssClass dui_notification_filler = () -> "dui-notification-filler";
+  CssClass dui_notification_counter = () -> "dui-notification-counter";
 }
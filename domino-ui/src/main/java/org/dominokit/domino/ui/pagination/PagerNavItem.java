@@ -15,17 +15,20 @@
  */
 package org.dominokit.domino.ui.pagination;
 
-import static org.dominokit.domino.ui.utils.Domino.*;
+import static java.util.Objects.isNull;
+import static org.dominokit.domino.ui.style.GenericCss.dui_clickable;
 
+import elemental2.dom.HTMLAnchorElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLLIElement;
 import elemental2.dom.Node;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.elements.AnchorElement;
-import org.dominokit.domino.ui.elements.LIElement;
 import org.dominokit.domino.ui.icons.Icon;
+import org.dominokit.domino.ui.style.CssClass;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.ChildHandler;
+import org.dominokit.domino.ui.utils.DomBuilder;
 
 /**
  * Represents a navigation item within a pager, typically used for pagination controls.
@@ -35,7 +38,8 @@ import org.dominokit.domino.ui.utils.ChildHandler;
 class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
     implements PaginationStyles {
 
-  private LIElement root;
+  private final HTMLLIElement root;
+  private final HTMLAnchorElement linkElement;
   private AnchorElement link;
   private final int page;
 
@@ -46,9 +50,7 @@ class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
    * @return A new PagerNavItem instance.
    */
   public static PagerNavItem create(Node node) {
-    return new PagerNavItem(-1)
-        .withLink((parent, link) -> link.addCss(dui_page_link))
-        .appendChild(node);
+    return new PagerNavItem(-1).withLinkCss(dui_page_link).appendChild(node);
   }
 
   /**
@@ -58,9 +60,7 @@ class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
    * @return A new PagerNavItem instance.
    */
   public static PagerNavItem create(IsElement<?> element) {
-    return new PagerNavItem(-1)
-        .withLink((parent, link) -> link.addCss(dui_page_link))
-        .appendChild(element);
+    return new PagerNavItem(-1).withLinkCss(dui_page_link).appendChild(element);
   }
 
   /**
@@ -71,7 +71,7 @@ class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
    */
   public static PagerNavItem nav(Icon<?> icon) {
     return new PagerNavItem(-1)
-        .withLink((parent, link) -> link.addCss(dui_page_link))
+        .withLinkCss(dui_page_link)
         .appendChild(icon.addCss(dui_page_icon, dui_clickable));
   }
 
@@ -82,10 +82,9 @@ class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
    * @return A new PagerNavItem instance representing the specified page.
    */
   public static PagerNavItem page(int page) {
-    return new PagerNavItem(page)
-        .withLink(
-            (parent, self) ->
-                self.addCss(dui_page_link, dui_clickable).setTextContent(String.valueOf(page)));
+    PagerNavItem item = new PagerNavItem(page);
+    DomBuilder.of(item.linkElement).css(dui_page_link, dui_clickable).text(String.valueOf(page));
+    return item;
   }
 
   /**
@@ -104,20 +103,21 @@ class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
    */
   public PagerNavItem(int page) {
     this.page = page;
-    root = li().addCss(dui_pager_item).appendChild(link = a());
+    linkElement = DomBuilder.a().element();
+    root = DomBuilder.li().css(dui_pager_item).add(linkElement).element();
     init(this);
   }
 
   /** {@inheritDoc} */
   @Override
   public HTMLElement getAppendTarget() {
-    return link.element();
+    return linkElement;
   }
 
   /** {@inheritDoc} */
   @Override
   public HTMLElement getClickableElement() {
-    return link.element();
+    return linkElement;
   }
 
   /**
@@ -126,9 +126,17 @@ class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
    * @return The AnchorElement of this PagerNavItem.
    */
   public AnchorElement getLink() {
+    if (isNull(link)) {
+      link = new AnchorElement(linkElement);
+    }
     return link;
   }
 
+  private PagerNavItem withLinkCss(CssClass... cssClasses) {
+    DomBuilder.of(linkElement).css(cssClasses);
+    return this;
+  }
+
   /**
    * Applies a handler to the anchor element of this PagerNavItem.
    *
@@ -136,7 +144,7 @@ class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
    * @return This PagerNavItem instance.
    */
   public PagerNavItem withLink(ChildHandler<PagerNavItem, AnchorElement> handler) {
-    handler.apply(this, link);
+    handler.apply(this, getLink());
     return this;
   }
 
@@ -152,6 +160,6 @@ class PagerNavItem extends BaseDominoElement<HTMLLIElement, PagerNavItem>
   /** {@inheritDoc} */
   @Override
   public HTMLLIElement element() {
-    return root.element();
+    return root;
   }
 }
@@ -76,6 +76,7 @@ public abstract class BasePopover<T extends BasePopover<T>>
   private FollowOnScroll followOnScroll;
   private Supplier<Boolean> openCondition = () -> true;
   private EventListener lostFocusListener;
+  private Register lostFocusLeakRegister = Register.EMPTY;
   private boolean closeOnBlur;
   private PopoverConfig ownConfig;
   private int openDelay;
@@ -115,6 +116,7 @@ public abstract class BasePopover<T extends BasePopover<T>>
         mutationRecord -> {
           closeEventOptions.removeHandler();
           DomGlobal.document.body.removeEventListener("blur", lostFocusListener, true);
+          lostFocusLeakRegister.remove();
           close();
         });
     addCollapseListener(this::doClose);
@@ -265,6 +267,8 @@ public abstract class BasePopover<T extends BasePopover<T>>
       followOnScroll.start();
     }
     DomGlobal.document.body.addEventListener("blur", lostFocusListener, true);
+    lostFocusLeakRegister.remove();
+    lostFocusLeakRegister = LeakDetector.trackGlobalReference(element(), "BasePopover body blur");
   }
 
   /** Positions the popover element based on the specified or default drop direction. */
@@ -278,7 +282,10 @@ public abstract class BasePopover<T extends BasePopover<T>>
    * @param position The drop direction to position the popover.
    */
   protected void doPosition(DropDirection position) {
+    PerformanceTracer.Trace trace = PerformanceTracer.start(PerformanceTracer.TRACE_POPUP_POSITION);
     popupPosition.position(DropDirectionContext.of(root.element(), targetElement.element()));
+    PerformanceTracer.count(PerformanceTracer.POPUPS_POSITIONED);
+    trace.end();
   }
 
   /**
@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.List;
 import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.VisibilityScheduler;
 
 /**
  * Represents a visual progress component that can have multiple progress bars.
@@ -48,6 +49,7 @@ public class Progress extends BaseDominoElement<HTMLDivElement, Progress>
   public Progress() {
     element = div().addCss(dui_progress);
     init(this);
+    VisibilityScheduler.pauseAnimationsWhenHidden(this);
   }
 
   /**
@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.richtext;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Describes the changes made to the content of a {@link RichTextEditor} since the previous change
+ * notification, in terms of the top-level blocks of the editable element, so that for example an
+ * autosave can send only the changed blocks instead of the whole document.
+ *
+ * <p>When {@link #isStructural()} is {@code true} top-level blocks were added or removed, and the
+ * indexes of the blocks after the first structural change have shifted.
+ */
+public class RichTextDelta {
+
+  private final List<Block> changedBlocks;
+  private final int removedBlocks;
+  private final boolean structural;
+  private final int blockCount;
+
+  RichTextDelta(List<Block> changedBlocks, int removedBlocks, boolean structural, int blockCount) {
+    this.changedBlocks = Collections.unmodifiableList(changedBlocks);
+    this.removedBlocks = removedBlocks;
+    this.structural = structural;
+    this.blockCount = blockCount;
+  }
+
+  /**
+   * @return the changed or added top-level blocks ordered by their current index.
+   */
+  public List<Block> getChangedBlocks() {
+    return changedBlocks;
+  }
+
+  /**
+   * @return the number of top-level blocks removed.
+   */
+  public int getRemovedBlocks() {
+    return removedBlocks;
+  }
+
+  /**
+   * @return true if top-level blocks were added or removed.
+   */
+  public boolean isStructural() {
+    return structural;
+  }
+
+  /**
+   * @return the current number of top-level blocks in the editor.
+   */
+  public int getBlockCount() {
+    return blockCount;
+  }
+
+  /** A changed top-level block of the editor content. */
+  public static class Block {
+    private final int index;
+    private final String html;
+
+    Block(int index, String html) {
+      this.index = index;
+      this.html = html;
+    }
+
+    /**
+     * @return the current index of the block among the top-level blocks of the editor.
+     */
+    public int getIndex() {
+      return index;
+    }
+
+    /**
+     * @return the serialized HTML of the block.
+     */
+    public String getHtml() {
+      return html;
+    }
+  }
+
+  /** A listener to receive the changes of a {@link RichTextEditor} content. */
+  @FunctionalInterface
+  public interface DeltaListener {
+    /**
+     * Called once the editor is idle after its content was changed.
+     *
+     * @param delta the changes since the previous notification.
+     */
+    void onDelta(RichTextDelta delta);
+  }
+}
@@ -15,12 +15,30 @@
  */
 package org.dominokit.domino.ui.richtext;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.core.JsArray;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
+import elemental2.dom.IdleCallbackOptions;
+import elemental2.dom.MutationObserver;
+import elemental2.dom.MutationObserverInit;
+import elemental2.dom.MutationRecord;
+import elemental2.dom.Node;
+import elemental2.dom.NodeList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.elements.DivElement;
+import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.i18n.HasLabels;
 import org.dominokit.domino.ui.i18n.RichTextLabels;
 import org.dominokit.domino.ui.richtext.commands.*;
@@ -28,10 +46,13 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.ChildHandler;
 import org.dominokit.domino.ui.utils.Counter;
 import org.dominokit.domino.ui.utils.DominoUIConfig;
+import org.dominokit.domino.ui.utils.HasChangeListeners;
 import org.dominokit.domino.ui.utils.HasValue;
 import org.gwtproject.editor.client.LeafValueEditor;
 import org.gwtproject.editor.client.TakesValue;
 import org.gwtproject.safehtml.shared.SafeHtmlBuilder;
+import org.gwtproject.safehtml.shared.SafeHtmlUtils;
+import org.gwtproject.timer.client.Timer;
 
 /**
  * A Rich Text Editor component that provides a user-friendly interface for editing and formatting
@@ -44,6 +65,15 @@ import org.gwtproject.safehtml.shared.SafeHtmlBuilder;
  * editor.setValue("Sample text");
  * }</pre>
  *
+ * <p>Edits are tracked with a {@link MutationObserver}, the serialized value is cached until the
+ * content changes and change listeners are notified once the editor is idle after the user stops
+ * typing, delta listeners receive the changed top-level blocks only.
+ *
+ * <pre>{@code
+ * editor.addChangeListener((oldValue, newValue) -> save(newValue));
+ * editor.addDeltaListener(delta -> saveBlocks(delta.getChangedBlocks()));
+ * }</pre>
+ *
  * @see RichTextStyles
  * @see HasLabels
  * @see TakesValue
@@ -58,6 +88,7 @@ public class RichTextEditor extends BaseDominoElement<HTMLDivElement, RichTextEd
         TakesValue<String>,
         LeafValueEditor<String>,
         HasValue<RichTextEditor, String>,
+        HasChangeListeners<RichTextEditor, String>,
         IsRichTextEditor {
 
   private final DivElement root;
@@ -65,6 +96,22 @@ public class RichTextEditor extends BaseDominoElement<HTMLDivElement, RichTextEd
   private final DivElement toolbars;
   private Counter fontSize = new Counter(3, 1, 7);
 
+  private final MutationObserver changesObserver;
+  private final Set<ChangeListener<? super String>> changeListeners = new LinkedHashSet<>();
+  private final Set<RichTextDelta.DeltaListener> deltaListeners = new LinkedHashSet<>();
+  private boolean changeListenersPaused;
+  private int changeDelay = DominoUIConfig.CONFIG.getUIConfig().getDelayedExecutionDefaultDelay();
+  private Timer changeTimer;
+  private int idleHandle = -1;
+
+  private boolean dirty = true;
+  private String cachedValue;
+  private String notifiedValue = "";
+  private boolean pendingChanges;
+  private final List<Node> changedBlocks = new ArrayList<>();
+  private int removedBlocks;
+  private boolean structuralChange;
+
   /**
    * Factory method to create a new instance of {@link RichTextEditor}.
    *
@@ -125,6 +172,21 @@ public class RichTextEditor extends BaseDominoElement<HTMLDivElement, RichTextEd
                             self ->
                                 actions.forEach(action -> self.appendChild(action.apply(this)))))
             .appendChild(editableElement.setAttribute("contenteditable", "true"));
+    changesObserver =
+        new MutationObserver(
+            (JsArray<MutationRecord> records, MutationObserver observer) -> {
+              if (onMutations(records)) {
+                scheduleChanges();
+              }
+              return null;
+            });
+    MutationObserverInit observerInit = MutationObserverInit.create();
+    observerInit.setChildList(true);
+    observerInit.setSubtree(true);
+    observerInit.setCharacterData(true);
+    observerInit.setAttributes(true);
+    changesObserver.observe(editableElement.element(), observerInit);
+    editableElement.addEventListener(EventType.blur.getName(), evt -> flushChanges());
     init(this);
   }
 
@@ -155,17 +217,16 @@ public class RichTextEditor extends BaseDominoElement<HTMLDivElement, RichTextEd
    * Sets the value of the rich text editor with an option to remain silent and returns the editor
    * instance for chaining.
    *
-   * <p>This method internally calls {@link #setValue(String)}. The {@code silent} parameter is
-   * currently not being used, and its functionality might be implemented in future versions.
+   * <p>This method internally calls {@link #setValue(String)} with the change listeners paused if
+   * {@code silent} is {@code true}.
    *
    * @param value The text value to be set in the editor.
-   * @param silent A flag to indicate if the operation should remain silent (currently not being
-   *     used).
+   * @param silent A flag to indicate if the change and delta listeners should not be notified.
    * @return The current RichTextEditor instance for chaining.
    */
   @Override
   public RichTextEditor withValue(String value, boolean silent) {
-    setValue(value);
+    withPauseChangeListenersToggle(silent, editor -> setValue(value));
     return this;
   }
 
@@ -173,24 +234,297 @@ public class RichTextEditor extends BaseDominoElement<HTMLDivElement, RichTextEd
    * Sets the content inside the rich text editor.
    *
    * <p>The provided string is treated as HTML, and it's safely injected into the editor's content
-   * area.
+   * area. Pending edits are discarded and the listeners are notified immediately with the whole
+   * content as changed.
    *
    * @param s The HTML content to be set in the editor.
    */
   @Override
   public void setValue(String s) {
+    cancelScheduledChanges();
+    changesObserver.takeRecords();
+    int oldBlockCount = editableElement.element().childNodes.length;
     editableElement.setInnerHtml(
         new SafeHtmlBuilder().appendHtmlConstant(s).toSafeHtml().asString());
+    changesObserver.takeRecords();
+    resetPendingChanges();
+    dirty = true;
+
+    if (!isChangeListenersPaused() && !deltaListeners.isEmpty()) {
+      NodeList<Node> blocks = editableElement.element().childNodes;
+      List<RichTextDelta.Block> changed = new ArrayList<>(blocks.length);
+      for (int index = 0; index < blocks.length; index++) {
+        changed.add(new RichTextDelta.Block(index, serialize(blocks.getAt(index))));
+      }
+      notifyDelta(new RichTextDelta(changed, oldBlockCount, true, blocks.length));
+    }
+    notifyValue();
   }
 
   /**
-   * Retrieves the current content of the rich text editor treated as HTML.
+   * Retrieves the current content of the rich text editor treated as HTML. The content is
+   * serialized only if it was changed since the previous call.
    *
    * @return The editor's current content as an HTML string.
    */
   @Override
   public String getValue() {
-    return editableElement.element().innerHTML;
+    takePendingMutations();
+    if (dirty || isNull(cachedValue)) {
+      cachedValue = editableElement.element().innerHTML;
+      dirty = false;
+    }
+    return cachedValue;
+  }
+
+  /**
+   * @return true if the content was changed and the listeners are not notified yet.
+   */
+  public boolean hasPendingChanges() {
+    takePendingMutations();
+    return pendingChanges;
+  }
+
+  /**
+   * Sets the time to wait after the last edit before notifying the change and delta listeners, the
+   * listeners are then notified when the browser is idle.
+   *
+   * @param changeDelay The delay in milliseconds.
+   * @return same editor instance
+   */
+  public RichTextEditor setChangeDelay(int changeDelay) {
+    this.changeDelay = changeDelay;
+    return this;
+  }
+
+  /**
+   * @return the time to wait after the last edit before notifying the listeners in milliseconds.
+   */
+  public int getChangeDelay() {
+    return changeDelay;
+  }
+
+  /**
+   * Adds a listener to receive the changed top-level blocks once the editor is idle after an edit.
+   *
+   * @param deltaListener The listener to add.
+   * @return same editor instance
+   */
+  public RichTextEditor addDeltaListener(RichTextDelta.DeltaListener deltaListener) {
+    deltaListeners.add(deltaListener);
+    return this;
+  }
+
+  /**
+   * Removes a delta listener.
+   *
+   * @param deltaListener The listener to remove.
+   * @return same editor instance
+   */
+  public RichTextEditor removeDeltaListener(RichTextDelta.DeltaListener deltaListener) {
+    deltaListeners.remove(deltaListener);
+    return this;
+  }
+
+  /**
+   * Notifies the change and delta listeners immediately of any pending edit instead of waiting for
+   * the editor to be idle, this is also done when the editor loses focus.
+   *
+   * @return same editor instance
+   */
+  public RichTextEditor flushChanges() {
+    cancelScheduledChanges();
+    onMutations(changesObserver.takeRecords());
+    if (!pendingChanges) {
+      return this;
+    }
+    if (isChangeListenersPaused()) {
+      resetPendingChanges();
+      notifiedValue = getValue();
+      return this;
+    }
+    RichTextDelta delta = deltaListeners.isEmpty() ? null : createDelta();
+    resetPendingChanges();
+    if (nonNull(delta)) {
+      notifyDelta(delta);
+    }
+    notifyValue();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RichTextEditor pauseChangeListeners() {
+    this.changeListenersPaused = true;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RichTextEditor resumeChangeListeners() {
+    this.changeListenersPaused = false;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RichTextEditor togglePauseChangeListeners(boolean toggle) {
+    this.changeListenersPaused = toggle;
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Set<ChangeListener<? super String>> getChangeListeners() {
+    return changeListeners;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isChangeListenersPaused() {
+    return changeListenersPaused;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public RichTextEditor triggerChangeListeners(String oldValue, String newValue) {
+    if (!isChangeListenersPaused()) {
+      changeListeners.forEach(changeListener -> changeListener.onValueChanged(oldValue, newValue));
+    }
+    return this;
+  }
+
+  private void takePendingMutations() {
+    if (onMutations(changesObserver.takeRecords())) {
+      scheduleChanges();
+    }
+  }
+
+  private boolean onMutations(JsArray<MutationRecord> records) {
+    if (records.length == 0) {
+      return false;
+    }
+    dirty = true;
+    pendingChanges = true;
+    if (deltaListeners.isEmpty()) {
+      return true;
+    }
+    Element editable = editableElement.element();
+    for (int i = 0; i < records.length; i++) {
+      MutationRecord record = records.getAt(i);
+      if (record.target == editable) {
+        if ("childList".equals(record.type)) {
+          structuralChange = true;
+          removedBlocks += record.removedNodes.length;
+          for (int j = 0; j < record.addedNodes.length; j++) {
+            markChanged(record.addedNodes.getAt(j));
+          }
+        }
+      } else {
+        markChanged(topLevelBlock(record.target));
+      }
+    }
+    return true;
+  }
+
+  private Node topLevelBlock(Node node) {
+    Node block = node;
+    while (nonNull(block) && block.parentNode != editableElement.element()) {
+      block = block.parentNode;
+    }
+    return block;
+  }
+
+  private void markChanged(Node block) {
+    if (nonNull(block) && !changedBlocks.contains(block)) {
+      changedBlocks.add(block);
+    }
+  }
+
+  private RichTextDelta createDelta() {
+    NodeList<Node> blocks = editableElement.element().childNodes;
+    List<RichTextDelta.Block> changed = new ArrayList<>(changedBlocks.size());
+    for (int index = 0; index < blocks.length && changed.size() < changedBlocks.size(); index++) {
+      Node block = blocks.getAt(index);
+      if (changedBlocks.contains(block)) {
+        changed.add(new RichTextDelta.Block(index, serialize(block)));
+      }
+    }
+    return new RichTextDelta(changed, removedBlocks, structuralChange, blocks.length);
+  }
+
+  private static String serialize(Node block) {
+    if (block.nodeType == Node.ELEMENT_NODE) {
+      return Js.<Element>uncheckedCast(block).outerHTML;
+    }
+    if (block.nodeType == Node.TEXT_NODE) {
+      return SafeHtmlUtils.htmlEscape(block.nodeValue);
+    }
+    return "";
+  }
+
+  private void notifyDelta(RichTextDelta delta) {
+    deltaListeners.forEach(listener -> listener.onDelta(delta));
+  }
+
+  private void notifyValue() {
+    String oldValue = notifiedValue;
+    String newValue = getValue();
+    notifiedValue = newValue;
+    if (!Objects.equals(oldValue, newValue)) {
+      triggerChangeListeners(oldValue, newValue);
+    }
+  }
+
+  private void resetPendingChanges() {
+    pendingChanges = false;
+    changedBlocks.clear();
+    removedBlocks = 0;
+    structuralChange = false;
+  }
+
+  private void scheduleChanges() {
+    if (changeListeners.isEmpty() && deltaListeners.isEmpty()) {
+      return;
+    }
+    if (isNull(changeTimer)) {
+      changeTimer =
+          new Timer() {
+            @Override
+            public void run() {
+              flushWhenIdle();
+            }
+          };
+    }
+    changeTimer.schedule(changeDelay);
+  }
+
+  private void flushWhenIdle() {
+    if (!Js.asPropertyMap(DomGlobal.window).has("requestIdleCallback")) {
+      flushChanges();
+      return;
+    }
+    if (idleHandle < 0) {
+      IdleCallbackOptions options = IdleCallbackOptions.create();
+      options.setTimeout(Math.max(changeDelay, 1000));
+      idleHandle =
+          DomGlobal.requestIdleCallback(
+              deadline -> {
+                idleHandle = -1;
+                flushChanges();
+              },
+              options);
+    }
+  }
+
+  private void cancelScheduledChanges() {
+    if (nonNull(changeTimer)) {
+      changeTimer.cancel();
+    }
+    if (idleHandle >= 0) {
+      DomGlobal.cancelIdleCallback(idleHandle);
+      idleHandle = -1;
+    }
   }
 
   /**
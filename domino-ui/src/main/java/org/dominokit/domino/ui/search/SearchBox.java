@@ -38,6 +38,7 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.ChildHandler;
 import org.dominokit.domino.ui.utils.PostfixAddOn;
 import org.dominokit.domino.ui.utils.PrefixAddOn;
+import org.dominokit.domino.ui.utils.VisibilityScheduler;
 import org.gwtproject.timer.client.Timer;
 
 /**
@@ -76,6 +77,7 @@ public class SearchBox extends BaseDominoElement<HTMLDivElement, SearchBox>
   private final TextBox textBox;
   private boolean autoSearch = true;
   private Timer autoSearchTimer;
+  private boolean autoSearchPending = false;
   private EventListener autoSearchEventListener;
   private final Icon<?> searchIcon;
   private final Icon<?> clearIcon;
@@ -156,6 +158,19 @@ public class SearchBox extends BaseDominoElement<HTMLDivElement, SearchBox>
 
     setAutoSearch(true);
     root.addClickListener(Event::stopPropagation);
+    VisibilityScheduler.observe(this, this::onVisibilityChanged);
+  }
+
+  private void onVisibilityChanged(boolean visible) {
+    if (visible) {
+      if (autoSearchPending) {
+        autoSearchPending = false;
+        autoSearchTimer.schedule(getAutoSearchDelay());
+      }
+    } else if (autoSearchTimer.isRunning()) {
+      autoSearchTimer.cancel();
+      autoSearchPending = true;
+    }
   }
 
   private void focusSearchBox() {
@@ -181,6 +196,7 @@ public class SearchBox extends BaseDominoElement<HTMLDivElement, SearchBox>
   public SearchBox clearSearch(boolean silent) {
     textBox.clear();
     autoSearchTimer.cancel();
+    autoSearchPending = false;
     if (!silent) {
       doSearch();
     }
@@ -210,6 +226,7 @@ public class SearchBox extends BaseDominoElement<HTMLDivElement, SearchBox>
     } else {
       textBox.removeEventListener("input", autoSearchEventListener);
       autoSearchTimer.cancel();
+      autoSearchPending = false;
     }
 
     textBox.onKeyDown(keyEvents -> keyEvents.onEnter(evt -> doSearch()));
@@ -15,18 +15,14 @@
  */
 package org.dominokit.domino.ui.splitpanel;
 
-import static elemental2.dom.DomGlobal.document;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
-import elemental2.dom.EventListener;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.MouseEvent;
-import elemental2.dom.TouchEvent;
-import jsinterop.base.Js;
 import org.dominokit.domino.ui.elements.DivElement;
-import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.ChildHandler;
+import org.dominokit.domino.ui.utils.PointerDrag;
 
 /**
  * Represents the base splitter that allows for dynamic resizing of split panels.
@@ -46,8 +42,6 @@ import org.dominokit.domino.ui.utils.ChildHandler;
 abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement<HTMLDivElement, T>
     implements HasSize, SplitStyles {
 
-  private static final int LEFT_BUTTON = 1;
-
   protected DivElement element;
   protected final DivElement handleElement;
   private double initialStartPosition = 0;
@@ -66,58 +60,14 @@ abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement
             .appendChild(handleElement = div().addCss(dui_splitter_handle));
 
     init((T) this);
-    EventListener resizeListener =
-        evt -> {
-          MouseEvent mouseEvent = Js.uncheckedCast(evt);
-
-          if (LEFT_BUTTON == mouseEvent.buttons) {
-            double currentPosition = mousePosition(mouseEvent);
-            resize(first, second, currentPosition, mainPanel);
-          }
-        };
-
-    EventListener touchResizeListener =
-        evt -> {
-          evt.preventDefault();
-          evt.stopPropagation();
-          TouchEvent touchEvent = Js.uncheckedCast(evt);
-          double currentPosition = touchPosition(touchEvent);
-          resize(first, second, currentPosition, mainPanel);
-        };
-
-    addEventListener(
-        EventType.mousedown.getName(),
-        evt -> {
-          MouseEvent mouseEvent = Js.uncheckedCast(evt);
-          initialStartPosition = mousePosition(mouseEvent);
-          startResize(first, second, mainPanel);
-          body().addEventListener(EventType.mousemove.getName(), resizeListener);
-        });
-
-    addEventListener(
-        EventType.touchstart.getName(),
-        evt -> {
-          evt.preventDefault();
-          evt.stopPropagation();
-          TouchEvent touchEvent = Js.uncheckedCast(evt);
-          initialStartPosition = touchPosition(touchEvent);
-          startResize(first, second, mainPanel);
-          body().addEventListener(EventType.touchmove.getName(), touchResizeListener);
-        });
-
-    addEventListener(
-        EventType.mouseup.getName(),
-        evt -> body().removeEventListener(EventType.mousemove.getName(), resizeListener));
-    addEventListener(
-        EventType.touchend.getName(),
-        evt -> body().removeEventListener(EventType.touchmove.getName(), touchResizeListener));
-
-    document.body.addEventListener(
-        EventType.mouseup.getName(),
-        evt -> body().removeEventListener(EventType.mousemove.getName(), resizeListener));
-    document.body.addEventListener(
-        EventType.touchend.getName(),
-        evt -> body().removeEventListener(EventType.touchmove.getName(), touchResizeListener));
+    PointerDrag.of(element.element())
+        .onStart(
+            drag -> {
+              drag.getEvent().stopPropagation();
+              initialStartPosition = mousePosition(drag.getEvent());
+              startResize(first, second, mainPanel);
+            })
+        .onMove(drag -> resize(first, second, mousePosition(drag.getEvent()), mainPanel));
   }
 
   /**
@@ -125,7 +75,7 @@ abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement
    *
    * @param first the first split panel
    * @param second the second split panel
-   * @param currentPosition the current mouse or touch position
+   * @param currentPosition the current pointer position
    * @param mainPanel the main panel containing the split panels
    */
   private void resize(
@@ -147,21 +97,14 @@ abstract class BaseSplitter<T extends BaseSplitter<?>> extends BaseDominoElement
   }
 
   /**
-   * Extracts the mouse position from a mouse event. Must be implemented by subclasses.
+   * Extracts the position from a mouse or pointer event along the splitter axis. Must be
+   * implemented by subclasses.
    *
-   * @param event the mouse event
-   * @return the mouse position
+   * @param event the mouse or pointer event
+   * @return the pointer position
    */
   protected abstract double mousePosition(MouseEvent event);
 
-  /**
-   * Extracts the touch position from a touch event. Must be implemented by subclasses.
-   *
-   * @param event the touch event
-   * @return the touch position
-   */
-  protected abstract double touchPosition(TouchEvent event);
-
   /**
    * Allows for customization of the splitter's handle.
    *
@@ -18,7 +18,6 @@ package org.dominokit.domino.ui.splitpanel;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.MouseEvent;
-import elemental2.dom.TouchEvent;
 
 /**
  * Represents a horizontal splitter used to resize adjacent panels in a horizontal split layout.
@@ -54,17 +53,6 @@ public class HSplitter extends BaseSplitter<HSplitter> {
     return new HSplitter(left, right, hSplitPanel);
   }
 
-  /**
-   * Returns the x-coordinate of the touch event.
-   *
-   * @param event the touch event
-   * @return the x-coordinate of the touch point
-   */
-  @Override
-  protected double touchPosition(TouchEvent event) {
-    return event.touches.getAt(0).clientX;
-  }
-
   /**
    * Returns the x-coordinate of the mouse event.
    *
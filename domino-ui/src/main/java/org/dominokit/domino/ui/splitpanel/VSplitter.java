@@ -18,7 +18,6 @@ package org.dominokit.domino.ui.splitpanel;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.MouseEvent;
-import elemental2.dom.TouchEvent;
 
 /**
  * Represents a vertical splitter used to resize adjacent panels in a vertical split layout.
@@ -63,17 +62,6 @@ public class VSplitter extends BaseSplitter<VSplitter> {
     return event.clientY;
   }
 
-  /**
-   * Returns the y-coordinate of the touch event.
-   *
-   * @param event the touch event
-   * @return the y-coordinate of the touch point
-   */
-  @Override
-  protected double touchPosition(TouchEvent event) {
-    return event.touches.getAt(0).clientY;
-  }
-
   /**
    * Gets the height of the splitter.
    *
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.config.HasComponentConfig;
 import org.dominokit.domino.ui.config.TabsConfig;
@@ -65,6 +66,10 @@ public class Tab extends BaseDominoElement<HTMLLIElement, Tab>
   private CloseHandler closeCondition = (tab1, callToClose) -> callToClose.apply();
   private final List<Consumer<Tab>> closeHandlers = new ArrayList<>();
   private final List<ActivationHandler> activationHandlers = new ArrayList<>();
+  private Supplier<? extends IsElement<?>> contentSupplier;
+  private boolean contentLoaded = true;
+  private IsElement<?> lazyContent;
+  private Object savedState;
 
   /** Constructor to create an empty tab. */
   private Tab() {
@@ -374,10 +379,98 @@ public class Tab extends BaseDominoElement<HTMLLIElement, Tab>
    */
   @Override
   public Tab setContent(Node content) {
+    disposeLazyContent();
+    this.contentSupplier = null;
+    this.contentLoaded = true;
     tabPanel.clearElement();
     return appendChild(content);
   }
 
+  /**
+   * Sets a supplier for the content of the tab, the content is not created until the tab is
+   * activated for the first time. When the content is unloaded by the {@link TabsPanel} keep-alive
+   * policy it is disposed and the supplier is called again on the next activation.
+   *
+   * @param contentSupplier The supplier of the tab content.
+   * @return The current {@link Tab} instance.
+   */
+  public Tab setLazyContent(Supplier<? extends IsElement<?>> contentSupplier) {
+    disposeLazyContent();
+    tabPanel.clearElement();
+    this.contentSupplier = contentSupplier;
+    this.savedState = null;
+    this.contentLoaded = false;
+    if (isActive()) {
+      loadContent();
+    }
+    return this;
+  }
+
+  /**
+   * Loads the tab content if it is not loaded, lazy content is created using its supplier then the
+   * state saved while unloading is restored.
+   *
+   * @return The current {@link Tab} instance.
+   */
+  public Tab loadContent() {
+    if (!contentLoaded) {
+      contentLoaded = true;
+      if (nonNull(contentSupplier)) {
+        lazyContent = contentSupplier.get();
+        tabPanel.appendChild(lazyContent);
+      }
+      StateHandler stateHandler = getStateHandler();
+      if (nonNull(savedState) && nonNull(stateHandler)) {
+        stateHandler.onRestoreState(this, savedState);
+      }
+      savedState = null;
+    }
+    return this;
+  }
+
+  /**
+   * Unloads the lazy content of the tab to release its resources while the tab is not visible. The
+   * tab state is saved first, then the content is removed so its remove handlers run, and it is
+   * created again from its supplier on the next activation. Content set with {@link
+   * #setContent(Node)} has no supplier to rebuild it from and is kept loaded.
+   *
+   * @return The current {@link Tab} instance.
+   */
+  public Tab unloadContent() {
+    if (contentLoaded && nonNull(contentSupplier) && !isActive()) {
+      StateHandler stateHandler = getStateHandler();
+      if (nonNull(stateHandler)) {
+        savedState = stateHandler.onSaveState(this);
+      }
+      disposeLazyContent();
+      tabPanel.clearElement();
+      contentLoaded = false;
+    }
+    return this;
+  }
+
+  private void disposeLazyContent() {
+    if (nonNull(lazyContent)) {
+      if (lazyContent instanceof BaseDominoElement) {
+        ((BaseDominoElement<?, ?>) lazyContent).remove();
+      } else {
+        lazyContent.element().remove();
+      }
+      lazyContent = null;
+    }
+  }
+
+  /**
+   * @return true if the tab content is currently loaded.
+   */
+  public boolean isContentLoaded() {
+    return contentLoaded;
+  }
+
+  private StateHandler getStateHandler() {
+    return nonNull(parent) ? parent.getTabStateHandler() : null;
+  }
+
   /**
    * Sets the title of the tab.
    *
@@ -454,6 +547,10 @@ public class Tab extends BaseDominoElement<HTMLLIElement, Tab>
     if (nonNull(parent) && nonNull(parent.getActiveTab())) {
       parent.deActivateTab(parent.getActiveTab(), silent);
     }
+    loadContent();
+    if (nonNull(parent)) {
+      parent.onTabActivated(this);
+    }
     dui_active.apply(tab, tabPanel);
     if (!silent) {
       activationHandlers.forEach(handler -> handler.onActiveStateChanged(this, true));
@@ -700,6 +797,28 @@ public class Tab extends BaseDominoElement<HTMLLIElement, Tab>
     void onBeforeClose(Tab tab, ApplyFunction callToClose);
   }
 
+  /**
+   * Interface to save the state of a tab before its content is unloaded by the {@link TabsPanel}
+   * keep-alive policy and to restore it after the content is loaded again.
+   */
+  public interface StateHandler {
+    /**
+     * Called before the tab content is unloaded.
+     *
+     * @param tab The tab being unloaded.
+     * @return The state to be restored later, for example scroll positions or a table search.
+     */
+    Object onSaveState(Tab tab);
+
+    /**
+     * Called after the tab content is loaded again.
+     *
+     * @param tab The reloaded tab.
+     * @param state The state returned from {@link #onSaveState(Tab)}.
+     */
+    void onRestoreState(Tab tab, Object state);
+  }
+
   /** Interface to handle tab activation state changes. */
   @FunctionalInterface
   public interface ActivationHandler {
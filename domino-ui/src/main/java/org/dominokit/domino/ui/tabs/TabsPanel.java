@@ -23,6 +23,7 @@ import elemental2.dom.Element;
 import elemental2.dom.HTMLDivElement;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -62,6 +63,9 @@ public class TabsPanel extends BaseDominoElement<HTMLDivElement, TabsPanel>
   private Transition transition;
   private List<Tab> tabs = new ArrayList<>();
   private boolean autoActivate = true;
+  private int keepAlive = -1;
+  private final LinkedList<Tab> aliveTabs = new LinkedList<>();
+  private Tab.StateHandler tabStateHandler;
 
   private final List<Consumer<Tab>> closeHandlers = new ArrayList<>();
   private final List<Tab.ActivationHandler> activationHandlers = new ArrayList<>();
@@ -222,6 +226,8 @@ public class TabsPanel extends BaseDominoElement<HTMLDivElement, TabsPanel>
       if (!tab.isActive()) {
         activeTab = tab;
         activeTab.activate(silent);
+        // the tab is not parented yet while being inserted, so track it here as well.
+        keepAlive(tab);
         if (!silent) {
           activationHandlers.forEach(handler -> handler.onActiveStateChanged(tab, true));
         }
@@ -347,6 +353,7 @@ public class TabsPanel extends BaseDominoElement<HTMLDivElement, TabsPanel>
     }
 
     tabs.remove(tab);
+    aliveTabs.remove(tab);
     tab.removeTab();
 
     closeHandlers.forEach(closeHandler -> closeHandler.accept(tab));
@@ -437,6 +444,65 @@ public class TabsPanel extends BaseDominoElement<HTMLDivElement, TabsPanel>
     return tabs.stream().filter(tab -> Objects.equals(tab.getKey(), key)).findFirst();
   }
 
+  /**
+   * Limits the number of tabs that keep their content loaded, when a tab is activated the lazy
+   * content of the least recently activated tabs beyond this limit is unloaded and it is loaded
+   * again when those tabs are activated, see {@link Tab#unloadContent()}.
+   *
+   * @param keepAlive The number of most recently activated tabs to keep loaded including the active
+   *     tab, a value less than 1 keeps all tabs loaded.
+   * @return The current {@link TabsPanel} instance.
+   */
+  public TabsPanel setKeepAlive(int keepAlive) {
+    this.keepAlive = keepAlive;
+    if (nonNull(activeTab)) {
+      keepAlive(activeTab);
+    }
+    return this;
+  }
+
+  /**
+   * @return The number of most recently activated tabs that keep their content loaded, a value less
+   *     than 1 means all tabs are kept loaded.
+   */
+  public int getKeepAlive() {
+    return keepAlive;
+  }
+
+  /**
+   * Sets a handler to save the state of the tabs before their content is unloaded and restore it
+   * when the content is loaded again.
+   *
+   * @param tabStateHandler The tab state handler.
+   * @return The current {@link TabsPanel} instance.
+   */
+  public TabsPanel setTabStateHandler(Tab.StateHandler tabStateHandler) {
+    this.tabStateHandler = tabStateHandler;
+    return this;
+  }
+
+  /**
+   * @return The tab state handler, or null if not set.
+   */
+  public Tab.StateHandler getTabStateHandler() {
+    return tabStateHandler;
+  }
+
+  void onTabActivated(Tab tab) {
+    this.activeTab = tab;
+    keepAlive(tab);
+  }
+
+  private void keepAlive(Tab tab) {
+    aliveTabs.remove(tab);
+    aliveTabs.addFirst(tab);
+    if (keepAlive > 0) {
+      while (aliveTabs.size() > keepAlive) {
+        aliveTabs.removeLast().unloadContent();
+      }
+    }
+  }
+
   /**
    * Checks if the auto-activation feature is enabled. When auto-activation is enabled, the first
    * tab added to the tabs panel will automatically be set as active.
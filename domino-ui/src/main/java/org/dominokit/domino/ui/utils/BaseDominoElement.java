@@ -68,6 +68,7 @@ import org.dominokit.domino.ui.menu.base.IsMenuItem;
 import org.dominokit.domino.ui.menu.direction.DropDirection;
 import org.dominokit.domino.ui.popover.Popover;
 import org.dominokit.domino.ui.popover.Tooltip;
+import org.dominokit.domino.ui.style.CssBatch;
 import org.dominokit.domino.ui.style.CssClass;
 import org.dominokit.domino.ui.style.CssProperty;
 import org.dominokit.domino.ui.style.DominoStyle;
@@ -133,59 +134,17 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   /** A unique identifier for this DOM element. */
   private String uuid;
 
-  /** A tooltip associated with this DOM element. */
-  private Tooltip tooltip;
-
-  /** The collapsible state of this DOM element. */
-  private Collapsible collapsible;
-
   /** The style of this DOM element. */
   @Editor.Ignore private Style<Element> style;
 
-  /** The screen media for hiding this DOM element. */
-  private ScreenMedia hideOn;
-
-  /** The screen media for showing this DOM element. */
-  private ScreenMedia showOn;
-
-  /** The elevation level of this DOM element. */
-  private Elevation elevation;
+  /** Whether the style was handed out and must be released when this element is detached. */
+  private boolean styleDetachObserved;
 
   /** The Waves support for this DOM element. */
   protected WavesSupport wavesSupport;
 
-  /** Optional ResizeObserver for this DOM element. */
-  private ResizeObserver resizeObserver;
-
-  private LambdaFunction resizeInitializer;
-  private List<ResizeHandler<T>> resizeHandlers;
-
-  /** The keyboard events for this DOM element. */
-  private KeyboardEvents<E> keyboardEvents;
-
-  /** A lazy initializer for keyboard events. */
-  private LazyInitializer keyEventsInitializer;
-
-  /** Flag to pause collapse listeners. */
-  private boolean openCloseListenersPaused = false;
-
-  /** Set of collapse listeners for this DOM element. */
-  protected Set<CloseListener<? super T>> closeListeners;
-
-  /** Set of expand listeners for this DOM element. */
-  protected Set<OpenListener<? super T>> openListeners;
-
-  private LambdaFunction dominoUuidInitializer;
-
-  private EventListener attachEventListener;
-  private EventListener detachEventListener;
-  private EventListener attributeChangeEventListener;
-  private EventListener textContentChangeEventListener;
-  private List<Consumer<T>> onBeforeRemoveHandlers;
-  private List<Consumer<T>> onRemoveHandlers;
-  private Map<String, ComponentMeta> metaObjects;
-
-  private TransitionListeners<E, T> transitionListeners;
+  /** The rarely used state of this element, created on first use. */
+  private ElementExtras<E, T> extras;
 
   /**
    * Initializes the DOM element with common functionality.
@@ -195,67 +154,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Editor.Ignore
   protected void init(T element) {
     this.element = element;
-    dominoUuidInitializer =
-        () -> {
-          if (hasDominoId()) {
-            uuid = getAttribute(DOMINO_UUID);
-          } else {
-            this.uuid = DominoId.unique();
-            setAttribute(DOMINO_UUID, this.uuid);
-            if (!hasId()) {
-              element().id = this.uuid;
-            }
-          }
-          dominoUuidInitializer = () -> {};
-        };
-
-    keyEventsInitializer = new LazyInitializer(() -> keyboardEvents = getKeyboardEvents());
-    transitionListeners = TransitionListeners.of(element);
-
-    resizeInitializer =
-        () -> {
-          getResizeObserver()
-              .ifPresent(
-                  observer -> {
-                    observer.unobserve(element());
-                    observer.disconnect();
-                  });
-          nowAndWhenAttached(
-              () -> {
-                ResizeObserver resizeObserver =
-                    new ResizeObserver(
-                        entries -> {
-                          getResizeObserver()
-                              .ifPresent(
-                                  observer -> {
-                                    for (int index = 0;
-                                        index < getResizeHandlers().size();
-                                        index++) {
-                                      getResizeHandlers()
-                                          .get(index)
-                                          .onResize((T) BaseDominoElement.this, observer, entries);
-                                    }
-                                  });
-                        });
-                this.resizeObserver = resizeObserver;
-                resizeObserver.observe(this.element());
-              });
-
-          onDetached(
-              (mutationRecord) -> {
-                getResizeObserver()
-                    .ifPresent(
-                        observer -> {
-                          observer.unobserve(element());
-                          observer.disconnect();
-                        });
-                this.resizeObserver = null;
-              });
-          resizeInitializer = () -> {};
-        };
-    onDetached(
-        NamedMutationObserverCallback.doOnce(
-            "dui-freestyles-detach-observer", mutationRecord -> freeStyle()));
+    LeakDetector.track(this);
     onAttributeChange(
         "readonly",
         NamedMutationObserverCallback.of(
@@ -270,11 +169,61 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
                 setDisabled(ElementUtil.getBooleanAttribute(this.element(), "disabled"))));
   }
 
+  private ElementExtras<E, T> extras() {
+    if (isNull(extras)) {
+      extras = new ElementExtras<>();
+    }
+    return extras;
+  }
+
+  private void initDominoUuid() {
+    if (isNull(uuid)) {
+      if (hasDominoId()) {
+        uuid = getAttribute(DOMINO_UUID);
+      } else {
+        this.uuid = DominoId.unique();
+        setAttribute(DOMINO_UUID, this.uuid);
+        if (!hasId()) {
+          element().id = this.uuid;
+        }
+      }
+    }
+  }
+
+  private void initResize() {
+    if (!extras().resizeObserved) {
+      extras().resizeObserved = true;
+      observeResize();
+    }
+  }
+
+  private KeyboardEvents<E> keyboardEvents() {
+    if (isNull(extras().keyboardEvents)) {
+      extras().keyboardEvents = getKeyboardEvents();
+    }
+    return extras().keyboardEvents;
+  }
+
+  private TransitionListeners<E, T> transitionListeners() {
+    if (isNull(extras().transitionListeners)) {
+      extras().transitionListeners = TransitionListeners.of((T) this);
+    }
+    return extras().transitionListeners;
+  }
+
   private void freeStyle() {
     if (nonNull(style)) {
-      style().cleanup();
+      style.cleanup();
       this.style = null;
     }
+    this.styleDetachObserved = false;
+  }
+
+  private Style<Element> internalStyle() {
+    if (isNull(this.style)) {
+      this.style = Style.of(getStyleTarget());
+    }
+    return style;
   }
 
   private KeyboardEvents<E> getKeyboardEvents() {
@@ -285,15 +234,33 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
     return Js.uncheckedCast(asPropertyMap.get("dui-keyboard-events"));
   }
 
-  private Optional<ResizeObserver> getResizeObserver() {
-    return Optional.ofNullable(resizeObserver);
+  private void observeResize() {
+    SharedResizeObserver.observe(
+        element(),
+        new SharedResizeObserver.ResizeListener() {
+          @Override
+          public void onResize(ResizeObserver observer, JsArray<ResizeObserverEntry> entries) {
+            for (int index = 0; index < getResizeHandlers().size(); index++) {
+              getResizeHandlers()
+                  .get(index)
+                  .onResize((T) BaseDominoElement.this, observer, entries);
+            }
+          }
+
+          @Override
+          public void onDetached(Element target) {
+            onAttached(
+                NamedMutationObserverCallback.doOnce(
+                    "dui-resize-attach-observer", mutationRecord -> observeResize()));
+          }
+        });
   }
 
   private List<ResizeHandler<T>> getResizeHandlers() {
-    if (isNull(this.resizeHandlers)) {
-      this.resizeHandlers = new ArrayList<>();
+    if (isNull(extras().resizeHandlers)) {
+      extras().resizeHandlers = new ArrayList<>();
     }
-    return resizeHandlers;
+    return extras().resizeHandlers;
   }
 
   /**
@@ -348,7 +315,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Override
   public T setZIndex(int zindex) {
     this.setAttribute("dui-z-index", zindex);
-    style().setZIndex(zindex);
+    internalStyle().setZIndex(zindex);
     setCssProperty("--dui-element-z-index", String.valueOf(zindex));
     return (T) this;
   }
@@ -549,10 +516,10 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public Collapsible getCollapsible() {
-    if (isNull(this.collapsible)) {
-      this.collapsible = Collapsible.create(getCollapsibleElement());
+    if (isNull(extras().collapsible)) {
+      extras().collapsible = Collapsible.create(getCollapsibleElement());
     }
-    return collapsible;
+    return extras().collapsible;
   }
 
   /**
@@ -574,7 +541,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T pauseOpenCloseListeners() {
-    this.openCloseListenersPaused = true;
+    extras().openCloseListenersPaused = true;
     return (T) this;
   }
 
@@ -585,7 +552,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T resumeOpenCloseListeners() {
-    this.openCloseListenersPaused = false;
+    extras().openCloseListenersPaused = false;
     return (T) this;
   }
 
@@ -597,7 +564,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T togglePauseCloseListeners(boolean toggle) {
-    this.openCloseListenersPaused = toggle;
+    extras().openCloseListenersPaused = toggle;
     return (T) this;
   }
 
@@ -612,10 +579,10 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   }
 
   private Set<CloseListener<? super T>> closeListeners() {
-    if (isNull(this.closeListeners)) {
-      this.closeListeners = new HashSet<>();
+    if (isNull(extras().closeListeners)) {
+      extras().closeListeners = new HashSet<>();
     }
-    return closeListeners;
+    return extras().closeListeners;
   }
 
   /**
@@ -629,10 +596,10 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   }
 
   private Set<OpenListener<? super T>> openListeners() {
-    if (isNull(this.openListeners)) {
-      this.openListeners = new HashSet<>();
+    if (isNull(extras().openListeners)) {
+      extras().openListeners = new HashSet<>();
     }
-    return openListeners;
+    return extras().openListeners;
   }
 
   /**
@@ -642,7 +609,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public boolean isOpenCloseListenersPaused() {
-    return this.openCloseListenersPaused;
+    return nonNull(extras) && extras.openCloseListenersPaused;
   }
 
   /**
@@ -653,8 +620,8 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T triggerCloseListeners(T component) {
-    if (!this.openCloseListenersPaused) {
-      new ArrayList<>(getCloseListeners())
+    if (!isOpenCloseListenersPaused() && nonNull(extras) && nonNull(extras.closeListeners)) {
+      new ArrayList<>(extras.closeListeners)
           .forEach(closeListener -> closeListener.onClosed((T) this));
     }
     return (T) this;
@@ -668,8 +635,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T triggerOpenListeners(T component) {
-    if (!this.openCloseListenersPaused) {
-      new ArrayList<>(getOpenListeners()).forEach(openListener -> openListener.onOpened((T) this));
+    if (!isOpenCloseListenersPaused() && nonNull(extras) && nonNull(extras.openListeners)) {
+      new ArrayList<>(extras.openListeners)
+          .forEach(openListener -> openListener.onOpened((T) this));
     }
     return (T) this;
   }
@@ -745,7 +713,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   public T onAttachedDetached(MutationObserverCallback observerCallback) {
     initAttachListener();
     initDetachListener();
-    getAttachDetachObservers().add(observerCallback);
+    if (getAttachDetachObservers().add(observerCallback)) {
+      LeakDetector.countObserver(this);
+    }
     ElementUtil.startObserving();
     return element;
   }
@@ -759,7 +729,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Editor.Ignore
   public T onAttached(MutationObserverCallback observerCallback) {
     initAttachListener();
-    getAttachObservers().add(observerCallback);
+    if (getAttachObservers().add(observerCallback)) {
+      LeakDetector.countObserver(this);
+    }
     ElementUtil.startObserving();
     return element;
   }
@@ -781,28 +753,28 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
       if (!hasAttribute(ATTACH_UID_KEY)) {
         setAttribute(ATTACH_UID_KEY, DominoId.unique());
 
-        this.attachEventListener =
+        EventListener attachEventListener =
             evt -> {
               CustomEvent cevent = Js.uncheckedCast(evt);
               Set<MutationObserverCallback> original = getAttachObservers();
               Set<MutationObserverCallback> attachObservers = new HashSet<>(original);
               for (MutationObserverCallback observer : attachObservers) {
                 observer.onObserved(Js.uncheckedCast(cevent.detail));
-                if (observer.isAutoRemove()) {
-                  original.remove(observer);
+                if (observer.isAutoRemove() && original.remove(observer)) {
+                  LeakDetector.releaseObserver(this);
                 }
               }
               for (MutationObserverCallback callback : getAttachDetachObservers()) {
                 callback.onObserved(Js.uncheckedCast(cevent.detail));
-                if (callback.isAutoRemove()) {
-                  original.remove(callback);
+                if (callback.isAutoRemove() && original.remove(callback)) {
+                  LeakDetector.releaseObserver(this);
                 }
               }
             };
         this.element
             .element()
-            .addEventListener(ObserverEventType.attachedType(this), this.attachEventListener);
-        propertyBag().set("dui-attach-listener", this.attachEventListener);
+            .addEventListener(ObserverEventType.attachedType(this), attachEventListener);
+        propertyBag().set("dui-attach-listener", attachEventListener);
       }
     }
   }
@@ -836,7 +808,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Editor.Ignore
   public T onDetached(MutationObserverCallback callback) {
     initDetachListener();
-    getDetachObservers().add(callback);
+    if (getDetachObservers().add(callback)) {
+      LeakDetector.countObserver(this);
+    }
     ElementUtil.startObserving();
     return element;
   }
@@ -858,29 +832,29 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
       if (!hasAttribute(DETACH_UID_KEY)) {
         setAttribute(DETACH_UID_KEY, DominoId.unique());
 
-        this.detachEventListener =
+        EventListener detachEventListener =
             evt -> {
               CustomEvent cevent = Js.uncheckedCast(evt);
               Set<MutationObserverCallback> original = getDetachObservers();
               Set<MutationObserverCallback> detachObservers = new HashSet<>(original);
               for (MutationObserverCallback observer : detachObservers) {
                 observer.onObserved(Js.uncheckedCast(cevent.detail));
-                if (observer.isAutoRemove()) {
-                  original.remove(observer);
+                if (observer.isAutoRemove() && original.remove(observer)) {
+                  LeakDetector.releaseObserver(this);
                 }
               }
               original = getAttachDetachObservers();
               for (MutationObserverCallback callback : getAttachDetachObservers()) {
                 callback.onObserved(Js.uncheckedCast(cevent.detail));
-                if (callback.isAutoRemove()) {
-                  original.remove(callback);
+                if (callback.isAutoRemove() && original.remove(callback)) {
+                  LeakDetector.releaseObserver(this);
                 }
               }
             };
         this.element
             .element()
-            .addEventListener(ObserverEventType.detachedType(this), this.detachEventListener);
-        propertyBag().set("dui-detach-listener", this.detachEventListener);
+            .addEventListener(ObserverEventType.detachedType(this), detachEventListener);
+        propertyBag().set("dui-detach-listener", detachEventListener);
       }
     }
   }
@@ -906,7 +880,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The modified DOM element.
    */
   public T removeAttachObserver(MutationObserverCallback callback) {
-    getAttachObservers().remove(callback);
+    if (getAttachObservers().remove(callback)) {
+      LeakDetector.releaseObserver(this);
+    }
     return element;
   }
 
@@ -918,7 +894,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The modified DOM element.
    */
   public T removeDetachObserver(MutationObserverCallback callback) {
-    getDetachObservers().remove(callback);
+    if (getDetachObservers().remove(callback)) {
+      LeakDetector.releaseObserver(this);
+    }
     return element;
   }
 
@@ -929,7 +907,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public boolean isAttached() {
-    dominoUuidInitializer.apply();
+    initDominoUuid();
     return element().isConnected;
   }
 
@@ -947,7 +925,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
     } else {
       onAttached((mutationRecord) -> handler.run());
     }
-    dominoUuidInitializer.apply();
+    initDominoUuid();
     return (T) this;
   }
 
@@ -962,11 +940,11 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   public Register registerNowOrWhenAttached(Runnable handler) {
     if (isAttached()) {
       handler.run();
-      dominoUuidInitializer.apply();
+      initDominoUuid();
       return Register.EMPTY;
     } else {
       Register register = registerOnAttached((mutationRecord) -> handler.run());
-      dominoUuidInitializer.apply();
+      initDominoUuid();
       return register;
     }
   }
@@ -985,7 +963,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
     } else {
       handler.run();
     }
-    dominoUuidInitializer.apply();
+    initDominoUuid();
     return (T) this;
   }
 
@@ -1000,11 +978,11 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   public Register registerNowOrWhenDetached(Runnable handler) {
     if (isAttached()) {
       Register register = registerOnDetached((mutationRecord) -> handler.run());
-      dominoUuidInitializer.apply();
+      initDominoUuid();
       return register;
     } else {
       handler.run();
-      dominoUuidInitializer.apply();
+      initDominoUuid();
       return Register.EMPTY;
     }
   }
@@ -1022,7 +1000,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
       handler.run();
     }
     onAttached((mutationRecord) -> handler.run());
-    dominoUuidInitializer.apply();
+    initDominoUuid();
     return (T) this;
   }
 
@@ -1037,11 +1015,11 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   public Register registerNowAndWhenAttached(Runnable handler) {
     if (isAttached()) {
       handler.run();
-      dominoUuidInitializer.apply();
+      initDominoUuid();
       return Register.EMPTY;
     }
     Register register = registerOnAttached((mutationRecord) -> handler.run());
-    dominoUuidInitializer.apply();
+    initDominoUuid();
     return register;
   }
 
@@ -1058,7 +1036,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
       handler.run();
     }
     onDetached((mutationRecord) -> handler.run());
-    dominoUuidInitializer.apply();
+    initDominoUuid();
     return (T) this;
   }
 
@@ -1073,11 +1051,11 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   public Register registerNowAndWhenDetached(Runnable handler) {
     if (!isAttached()) {
       handler.run();
-      dominoUuidInitializer.apply();
+      initDominoUuid();
       return Register.EMPTY;
     }
     Register register = registerOnDetached((mutationRecord) -> handler.run());
-    dominoUuidInitializer.apply();
+    initDominoUuid();
     return register;
   }
 
@@ -1105,7 +1083,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
       if (!hasAttribute(ATTRIBUTE_CHANGE_UID_KEY)) {
         setAttribute(ATTRIBUTE_CHANGE_UID_KEY, DominoId.unique());
       }
-      this.attributeChangeEventListener =
+      EventListener attributeChangeEventListener =
           evt -> {
             boolean paused =
                 Js.uncheckedCast(
@@ -1149,8 +1127,8 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
             }
           };
       String type = ObserverEventType.attributeType(this);
-      this.element.element().addEventListener(type, this.attributeChangeEventListener);
-      propertyBag().set("dui-attributes-change-listener", this.attributeChangeEventListener);
+      this.element.element().addEventListener(type, attributeChangeEventListener);
+      propertyBag().set("dui-attributes-change-listener", attributeChangeEventListener);
     }
     if (!original.containsKey(attribute)) {
       original.put(attribute, new HashSet<>());
@@ -1205,7 +1183,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
       if (!hasAttribute(CHARACTER_DATA_CHANGE_UID_KEY)) {
         setAttribute(CHARACTER_DATA_CHANGE_UID_KEY, DominoId.unique());
       }
-      this.textContentChangeEventListener =
+      EventListener textContentChangeEventListener =
           evt -> {
             boolean paused =
                 Js.uncheckedCast(
@@ -1227,8 +1205,8 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
             }
           };
       String type = ObserverEventType.characterDataType(this);
-      this.element.element().addEventListener(type, this.textContentChangeEventListener);
-      propertyBag().set("dui-text-change-listener", this.textContentChangeEventListener);
+      this.element.element().addEventListener(type, textContentChangeEventListener);
+      propertyBag().set("dui-text-change-listener", textContentChangeEventListener);
     }
 
     original.add(observerCallback);
@@ -1263,14 +1241,16 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   }
 
   /**
-   * Registers a resize handler to be notified when the size of this element changes.
+   * Registers a resize handler to be notified when the size of this element changes. All elements
+   * share the same {@link SharedResizeObserver}, handlers are called at most once per animation
+   * frame.
    *
    * @param resizeHandler The resize handler to be registered.
    * @return The modified DOM element.
    */
   @Editor.Ignore
   public T onResize(ResizeHandler<T> resizeHandler) {
-    resizeInitializer.apply();
+    initResize();
     getResizeHandlers().add(resizeHandler);
     return (T) this;
   }
@@ -1294,14 +1274,20 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   /**
    * Retrieves the style object for this element, allowing manipulation of its styles.
    *
+   * <p>The returned style is released when this element is detached from the DOM. The css helper
+   * methods of this class use the same style internally without registering that detach observer.
+   *
    * @return The style object for this element.
    */
   @Editor.Ignore
   public Style<Element> style() {
-    if (isNull(this.style)) {
-      this.style = Style.of(getStyleTarget());
+    if (!styleDetachObserved) {
+      styleDetachObserved = true;
+      onDetached(
+          NamedMutationObserverCallback.doOnce(
+              "dui-freestyles-detach-observer", mutationRecord -> freeStyle()));
     }
-    return style;
+    return internalStyle();
   }
 
   /**
@@ -2368,24 +2354,28 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T remove() {
-    onBeforeRemoveHandlers().forEach(h -> h.accept((T) this));
+    if (nonNull(extras) && nonNull(extras.onBeforeRemoveHandlers)) {
+      extras.onBeforeRemoveHandlers.forEach(h -> h.accept((T) this));
+    }
     element().remove();
-    onRemoveHandlers().forEach(h -> h.accept((T) this));
+    if (nonNull(extras) && nonNull(extras.onRemoveHandlers)) {
+      extras.onRemoveHandlers.forEach(h -> h.accept((T) this));
+    }
     return element;
   }
 
   private List<Consumer<T>> onRemoveHandlers() {
-    if (isNull(this.onRemoveHandlers)) {
-      this.onRemoveHandlers = new ArrayList<>();
+    if (isNull(extras().onRemoveHandlers)) {
+      extras().onRemoveHandlers = new ArrayList<>();
     }
-    return onRemoveHandlers;
+    return extras().onRemoveHandlers;
   }
 
   private List<Consumer<T>> onBeforeRemoveHandlers() {
-    if (isNull(this.onBeforeRemoveHandlers)) {
-      this.onBeforeRemoveHandlers = new ArrayList<>();
+    if (isNull(extras().onBeforeRemoveHandlers)) {
+      extras().onBeforeRemoveHandlers = new ArrayList<>();
     }
-    return onBeforeRemoveHandlers;
+    return extras().onBeforeRemoveHandlers;
   }
 
   /**
@@ -2564,9 +2554,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   public T setTooltip(String text) {
     return setTooltip(
         text,
-        isNull(this.tooltip)
+        isNull(extras) || isNull(extras.tooltip)
             ? config().getUIConfig().getDefaultPopoverDropDirection()
-            : tooltip.getPopupPosition());
+            : extras.tooltip.getPopupPosition());
   }
 
   /**
@@ -2592,9 +2582,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   public T setTooltip(Node node) {
     return setTooltip(
         node,
-        isNull(this.tooltip)
+        isNull(extras) || isNull(extras.tooltip)
             ? config().getUIConfig().getDefaultPopoverDropDirection()
-            : tooltip.getPopupPosition());
+            : extras.tooltip.getPopupPosition());
   }
 
   /**
@@ -2626,7 +2616,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return same component instance
    */
   public T withToolTip(ChildHandler<T, Optional<Tooltip>> handler) {
-    handler.apply((T) this, Optional.ofNullable(this.tooltip));
+    handler.apply((T) this, Optional.ofNullable(getTooltip()));
     return element;
   }
 
@@ -2639,12 +2629,12 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T setTooltip(Node node, DropDirection position) {
-    if (isNull(tooltip)) {
-      tooltip = Tooltip.create(element(), node);
+    if (isNull(extras().tooltip)) {
+      extras().tooltip = Tooltip.create(element(), node);
     } else {
-      tooltip.setContent(node);
+      extras().tooltip.setContent(node);
     }
-    tooltip.setPosition(position);
+    extras().tooltip.setPosition(position);
     return element;
   }
 
@@ -2655,9 +2645,9 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T removeTooltip() {
-    if (nonNull(tooltip)) {
-      tooltip.detach();
-      tooltip = null;
+    if (nonNull(getTooltip())) {
+      extras.tooltip.detach();
+      extras.tooltip = null;
     }
     return element;
   }
@@ -2740,8 +2730,8 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Editor.Ignore
   public T hideOn(ScreenMedia screenMedia) {
     removeHideOn();
-    this.hideOn = screenMedia;
-    addCss("dui-hide-on-" + this.hideOn.getStyle());
+    extras().hideOn = screenMedia;
+    addCss("dui-hide-on-" + screenMedia.getStyle());
 
     return element;
   }
@@ -2753,8 +2743,8 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T removeHideOn() {
-    if (nonNull(hideOn)) {
-      removeCss("dui-hide-on-" + hideOn.getStyle());
+    if (nonNull(extras) && nonNull(extras.hideOn)) {
+      removeCss("dui-hide-on-" + extras.hideOn.getStyle());
     }
 
     return element;
@@ -2769,8 +2759,8 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Editor.Ignore
   public T showOn(ScreenMedia screenMedia) {
     removeShowOn();
-    this.showOn = screenMedia;
-    addCss("dui-show-on-" + this.showOn.getStyle());
+    extras().showOn = screenMedia;
+    addCss("dui-show-on-" + screenMedia.getStyle());
     return element;
   }
 
@@ -2781,8 +2771,8 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T removeShowOn() {
-    if (nonNull(showOn)) {
-      removeCss("dui-show-on-" + showOn.getStyle());
+    if (nonNull(extras) && nonNull(extras.showOn)) {
+      removeCss("dui-show-on-" + extras.showOn.getStyle());
     }
 
     return element;
@@ -2818,7 +2808,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T addCss(String... cssClass) {
-    style().addCss(cssClass);
+    internalStyle().addCss(cssClass);
     return element;
   }
 
@@ -2830,7 +2820,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T removeCss(String... cssClass) {
-    style().removeCss(cssClass);
+    internalStyle().removeCss(cssClass);
     return element;
   }
 
@@ -2842,7 +2832,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T removeCss(CssClass... cssClass) {
-    style().removeCss(cssClass);
+    internalStyle().removeCss(cssClass);
     return element;
   }
 
@@ -2854,7 +2844,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T setWidth(String width) {
-    style().setWidth(width);
+    internalStyle().setWidth(width);
     return element;
   }
 
@@ -2866,7 +2856,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public T setHeight(String height) {
-    style().setHeight(height);
+    internalStyle().setHeight(height);
     return element;
   }
 
@@ -3054,7 +3044,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Editor.Ignore
   public String getDominoId() {
-    dominoUuidInitializer.apply();
+    initDominoUuid();
     return uuid;
   }
 
@@ -3241,7 +3231,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The modified DOM element.
    */
   public T onTransitionStart(TransitionListener<? super T> listener) {
-    transitionListeners.onTransitionStart(listener);
+    transitionListeners().onTransitionStart(listener);
     return (T) this;
   }
 
@@ -3252,7 +3242,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The modified DOM element.
    */
   public T removeTransitionStartListener(TransitionListener<? super T> listener) {
-    transitionListeners.removeTransitionStartListener(listener);
+    transitionListeners().removeTransitionStartListener(listener);
     return (T) this;
   }
 
@@ -3263,7 +3253,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The modified DOM element.
    */
   public T onTransitionCancel(TransitionListener<? super T> listener) {
-    transitionListeners.onTransitionCancel(listener);
+    transitionListeners().onTransitionCancel(listener);
     return (T) this;
   }
 
@@ -3274,7 +3264,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The modified DOM element.
    */
   public T removeTransitionCancelListener(TransitionListener<? super T> listener) {
-    transitionListeners.removeTransitionCancelListener(listener);
+    transitionListeners().removeTransitionCancelListener(listener);
     return (T) this;
   }
 
@@ -3285,7 +3275,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The modified DOM element.
    */
   public T onTransitionEnd(TransitionListener<? super T> listener) {
-    transitionListeners.onTransitionEnd(listener);
+    transitionListeners().onTransitionEnd(listener);
     return (T) this;
   }
 
@@ -3296,7 +3286,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The modified DOM element.
    */
   public T removeTransitionEndListener(TransitionListener<? super T> listener) {
-    transitionListeners.removeTransitionEndListener(listener);
+    transitionListeners().removeTransitionEndListener(listener);
     return (T) this;
   }
 
@@ -3306,7 +3296,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The elevation style.
    */
   public Elevation getElevation() {
-    return elevation;
+    return isNull(extras) ? null : extras.elevation;
   }
 
   /**
@@ -3315,7 +3305,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return The tooltip element.
    */
   public Tooltip getTooltip() {
-    return tooltip;
+    return isNull(extras) ? null : extras.tooltip;
   }
 
   /**
@@ -3326,7 +3316,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(CssProperty property) {
-    style().setCssProperty(property);
+    internalStyle().setCssProperty(property);
     return (T) this;
   }
 
@@ -3339,7 +3329,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(String name, String value) {
-    style().setCssProperty(name, value);
+    internalStyle().setCssProperty(name, value);
     return (T) this;
   }
 
@@ -3352,7 +3342,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(String name, Number value) {
-    style().setCssProperty(name, String.valueOf(value));
+    internalStyle().setCssProperty(name, String.valueOf(value));
     return (T) this;
   }
 
@@ -3365,7 +3355,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(String name, int value) {
-    style().setCssProperty(name, String.valueOf(value));
+    internalStyle().setCssProperty(name, String.valueOf(value));
     return (T) this;
   }
 
@@ -3378,7 +3368,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(String name, double value) {
-    style().setCssProperty(name, String.valueOf(value));
+    internalStyle().setCssProperty(name, String.valueOf(value));
     return (T) this;
   }
 
@@ -3391,7 +3381,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(String name, short value) {
-    style().setCssProperty(name, String.valueOf(value));
+    internalStyle().setCssProperty(name, String.valueOf(value));
     return (T) this;
   }
 
@@ -3404,7 +3394,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(String name, float value) {
-    style().setCssProperty(name, String.valueOf(value));
+    internalStyle().setCssProperty(name, String.valueOf(value));
     return (T) this;
   }
 
@@ -3417,7 +3407,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(String name, boolean value) {
-    style().setCssProperty(name, String.valueOf(value));
+    internalStyle().setCssProperty(name, String.valueOf(value));
     return (T) this;
   }
 
@@ -3431,7 +3421,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCssProperty(String name, String value, boolean important) {
-    style().setCssProperty(name, value, important);
+    internalStyle().setCssProperty(name, value, important);
     return (T) this;
   }
 
@@ -3461,7 +3451,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T removeCssProperty(String name) {
-    style().removeCssProperty(name);
+    internalStyle().removeCssProperty(name);
     return (T) this;
   }
 
@@ -3474,7 +3464,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Editor.Ignore
   @Override
   public T addCss(String cssClass) {
-    style().addCss(cssClass);
+    internalStyle().addCss(cssClass);
     return (T) this;
   }
 
@@ -3487,7 +3477,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Editor.Ignore
   @Override
   public T addCss(CssClass cssClass) {
-    style().addCss(cssClass);
+    internalStyle().addCss(cssClass);
     return (T) this;
   }
 
@@ -3513,7 +3503,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   @Editor.Ignore
   @Override
   public T addCss(CssClass... cssClasses) {
-    style().addCss(cssClasses);
+    internalStyle().addCss(cssClasses);
     return (T) this;
   }
 
@@ -3538,7 +3528,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T removeCss(String cssClass) {
-    style().removeCss(cssClass);
+    internalStyle().removeCss(cssClass);
     return (T) this;
   }
 
@@ -3550,7 +3540,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T removeCss(CssClass cssClass) {
-    style().removeCss(cssClass);
+    internalStyle().removeCss(cssClass);
     return (T) this;
   }
 
@@ -3562,7 +3552,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T removeCss(HasCssClass hasCssClass) {
-    style().removeCss(hasCssClass);
+    internalStyle().removeCss(hasCssClass);
     return (T) this;
   }
 
@@ -3575,7 +3565,33 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T replaceCss(String cssClass, String replacementClass) {
-    style().replaceCss(cssClass, replacementClass);
+    internalStyle().replaceCss(cssClass, replacementClass);
+    return (T) this;
+  }
+
+  /**
+   * Collects css classes changes in a {@link CssBatch} and applies them to the element at once.
+   *
+   * @param batch The handler that adds and removes css classes to the batch.
+   * @return The modified DOM element.
+   */
+  @Editor.Ignore
+  @Override
+  public T batchCss(Consumer<CssBatch> batch) {
+    internalStyle().batchCss(batch);
+    return (T) this;
+  }
+
+  /**
+   * Applies a prepared {@link CssBatch} to the element.
+   *
+   * @param batch The css batch to apply.
+   * @return The modified DOM element.
+   */
+  @Editor.Ignore
+  @Override
+  public T applyCss(CssBatch batch) {
+    internalStyle().applyCss(batch);
     return (T) this;
   }
 
@@ -3587,7 +3603,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setBorder(String border) {
-    style().setBorder(border);
+    internalStyle().setBorder(border);
     return (T) this;
   }
 
@@ -3599,7 +3615,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setBorderColor(String borderColor) {
-    style().setBorderColor(borderColor);
+    internalStyle().setBorderColor(borderColor);
     return (T) this;
   }
 
@@ -3612,7 +3628,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setWidth(String width, boolean important) {
-    style().setWidth(width, important);
+    internalStyle().setWidth(width, important);
     return (T) this;
   }
 
@@ -3624,7 +3640,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMinWidth(String width) {
-    style().setMinWidth(width);
+    internalStyle().setMinWidth(width);
     return (T) this;
   }
 
@@ -3637,7 +3653,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMinWidth(String width, boolean important) {
-    style().setMinWidth(width, important);
+    internalStyle().setMinWidth(width, important);
     return (T) this;
   }
 
@@ -3649,7 +3665,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMaxWidth(String width) {
-    style().setMaxWidth(width);
+    internalStyle().setMaxWidth(width);
     return (T) this;
   }
 
@@ -3662,7 +3678,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMaxWidth(String width, boolean important) {
-    style().setMaxWidth(width, important);
+    internalStyle().setMaxWidth(width, important);
     return (T) this;
   }
 
@@ -3675,7 +3691,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setHeight(String height, boolean important) {
-    style().setHeight(height, important);
+    internalStyle().setHeight(height, important);
     return (T) this;
   }
 
@@ -3687,7 +3703,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMinHeight(String height) {
-    style().setMinHeight(height);
+    internalStyle().setMinHeight(height);
     return (T) this;
   }
 
@@ -3700,7 +3716,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMinHeight(String height, boolean important) {
-    style().setMinHeight(height, important);
+    internalStyle().setMinHeight(height, important);
     return (T) this;
   }
 
@@ -3712,7 +3728,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMaxHeight(String height) {
-    style().setMaxHeight(height);
+    internalStyle().setMaxHeight(height);
     return (T) this;
   }
 
@@ -3725,7 +3741,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMaxHeight(String height, boolean important) {
-    style().setMaxHeight(height, important);
+    internalStyle().setMaxHeight(height, important);
     return (T) this;
   }
 
@@ -3737,7 +3753,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setTextAlign(String textAlign) {
-    style().setTextAlign(textAlign);
+    internalStyle().setTextAlign(textAlign);
     return (T) this;
   }
 
@@ -3750,7 +3766,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setTextAlign(String textAlign, boolean important) {
-    style().setTextAlign(textAlign, important);
+    internalStyle().setTextAlign(textAlign, important);
     return (T) this;
   }
 
@@ -3762,7 +3778,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setColor(String color) {
-    style().setColor(color);
+    internalStyle().setColor(color);
     return (T) this;
   }
 
@@ -3775,7 +3791,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setColor(String color, boolean important) {
-    style().setColor(color, important);
+    internalStyle().setColor(color, important);
     return (T) this;
   }
 
@@ -3787,7 +3803,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setBackgroundColor(String color) {
-    style().setBackgroundColor(color);
+    internalStyle().setBackgroundColor(color);
     return (T) this;
   }
 
@@ -3800,7 +3816,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setBackgroundColor(String color, boolean important) {
-    style().setBackgroundColor(color, important);
+    internalStyle().setBackgroundColor(color, important);
     return (T) this;
   }
 
@@ -3812,7 +3828,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMargin(String margin) {
-    style().setMargin(margin);
+    internalStyle().setMargin(margin);
     return (T) this;
   }
 
@@ -3825,7 +3841,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMargin(String margin, boolean important) {
-    style().setMargin(margin, important);
+    internalStyle().setMargin(margin, important);
     return (T) this;
   }
 
@@ -3837,7 +3853,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMarginTop(String margin) {
-    style().setMarginTop(margin);
+    internalStyle().setMarginTop(margin);
     return (T) this;
   }
 
@@ -3850,7 +3866,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMarginTop(String margin, boolean important) {
-    style().setMarginTop(margin, important);
+    internalStyle().setMarginTop(margin, important);
     return (T) this;
   }
 
@@ -3862,7 +3878,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMarginBottom(String margin) {
-    style().setMarginBottom(margin);
+    internalStyle().setMarginBottom(margin);
     return (T) this;
   }
 
@@ -3875,7 +3891,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMarginBottom(String margin, boolean important) {
-    style().setMarginBottom(margin, important);
+    internalStyle().setMarginBottom(margin, important);
     return (T) this;
   }
 
@@ -3887,7 +3903,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMarginLeft(String margin) {
-    style().setMarginLeft(margin);
+    internalStyle().setMarginLeft(margin);
     return (T) this;
   }
 
@@ -3900,7 +3916,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMarginLeft(String margin, boolean important) {
-    style().setMarginLeft(margin, important);
+    internalStyle().setMarginLeft(margin, important);
     return (T) this;
   }
 
@@ -3912,7 +3928,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMarginRight(String margin) {
-    style().setMarginRight(margin);
+    internalStyle().setMarginRight(margin);
     return (T) this;
   }
 
@@ -3925,7 +3941,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setMarginRight(String margin, boolean important) {
-    style().setMarginRight(margin, important);
+    internalStyle().setMarginRight(margin, important);
     return (T) this;
   }
 
@@ -3937,7 +3953,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPaddingRight(String padding) {
-    style().setPaddingRight(padding);
+    internalStyle().setPaddingRight(padding);
     return (T) this;
   }
 
@@ -3950,7 +3966,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPaddingRight(String padding, boolean important) {
-    style().setPaddingRight(padding, important);
+    internalStyle().setPaddingRight(padding, important);
     return (T) this;
   }
 
@@ -3962,7 +3978,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPaddingLeft(String padding) {
-    style().setPaddingLeft(padding);
+    internalStyle().setPaddingLeft(padding);
     return (T) this;
   }
 
@@ -3975,7 +3991,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPaddingLeft(String padding, boolean important) {
-    style().setPaddingLeft(padding, important);
+    internalStyle().setPaddingLeft(padding, important);
     return (T) this;
   }
 
@@ -3987,7 +4003,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPaddingBottom(String padding) {
-    style().setPaddingBottom(padding);
+    internalStyle().setPaddingBottom(padding);
     return (T) this;
   }
 
@@ -4000,7 +4016,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPaddingBottom(String padding, boolean important) {
-    style().setPaddingBottom(padding, important);
+    internalStyle().setPaddingBottom(padding, important);
     return (T) this;
   }
 
@@ -4012,7 +4028,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPaddingTop(String padding) {
-    style().setPaddingTop(padding);
+    internalStyle().setPaddingTop(padding);
     return (T) this;
   }
 
@@ -4025,7 +4041,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPaddingTop(String padding, boolean important) {
-    style().setPaddingTop(padding, important);
+    internalStyle().setPaddingTop(padding, important);
     return (T) this;
   }
 
@@ -4037,7 +4053,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPadding(String padding) {
-    style().setPadding(padding);
+    internalStyle().setPadding(padding);
     return (T) this;
   }
 
@@ -4050,7 +4066,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPadding(String padding, boolean important) {
-    style().setPadding(padding, important);
+    internalStyle().setPadding(padding, important);
     return (T) this;
   }
 
@@ -4062,7 +4078,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setDisplay(String display) {
-    style().setDisplay(display);
+    internalStyle().setDisplay(display);
     return (T) this;
   }
 
@@ -4075,7 +4091,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setDisplay(String display, boolean important) {
-    style().setDisplay(display, important);
+    internalStyle().setDisplay(display, important);
     return (T) this;
   }
 
@@ -4087,7 +4103,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setFontSize(String fontSize) {
-    style().setFontSize(fontSize);
+    internalStyle().setFontSize(fontSize);
     return (T) this;
   }
 
@@ -4100,7 +4116,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setFontSize(String fontSize, boolean important) {
-    style().setFontSize(fontSize, important);
+    internalStyle().setFontSize(fontSize, important);
     return (T) this;
   }
 
@@ -4112,7 +4128,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setFloat(String cssFloat) {
-    style().setFloat(cssFloat);
+    internalStyle().setFloat(cssFloat);
     return (T) this;
   }
 
@@ -4125,7 +4141,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setFloat(String cssFloat, boolean important) {
-    style().setFloat(cssFloat, important);
+    internalStyle().setFloat(cssFloat, important);
     return (T) this;
   }
 
@@ -4137,7 +4153,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setLineHeight(String lineHeight) {
-    style().setLineHeight(lineHeight);
+    internalStyle().setLineHeight(lineHeight);
     return (T) this;
   }
 
@@ -4150,7 +4166,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setLineHeight(String lineHeight, boolean important) {
-    style().setLineHeight(lineHeight, important);
+    internalStyle().setLineHeight(lineHeight, important);
     return (T) this;
   }
 
@@ -4162,7 +4178,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setOverFlow(String overFlow) {
-    style().setOverFlow(overFlow);
+    internalStyle().setOverFlow(overFlow);
     return (T) this;
   }
 
@@ -4175,7 +4191,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setOverFlow(String overFlow, boolean important) {
-    style().setOverFlow(overFlow, important);
+    internalStyle().setOverFlow(overFlow, important);
     return (T) this;
   }
 
@@ -4187,7 +4203,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCursor(String cursor) {
-    style().setCursor(cursor);
+    internalStyle().setCursor(cursor);
     return (T) this;
   }
 
@@ -4200,7 +4216,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setCursor(String cursor, boolean important) {
-    style().setCursor(cursor, important);
+    internalStyle().setCursor(cursor, important);
     return (T) this;
   }
 
@@ -4212,7 +4228,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPosition(String position) {
-    style().setPosition(position);
+    internalStyle().setPosition(position);
     return (T) this;
   }
 
@@ -4225,7 +4241,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPosition(String position, boolean important) {
-    style().setPosition(position, important);
+    internalStyle().setPosition(position, important);
     return (T) this;
   }
 
@@ -4237,7 +4253,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setLeft(String left) {
-    style().setLeft(left);
+    internalStyle().setLeft(left);
     return (T) this;
   }
 
@@ -4250,7 +4266,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setLeft(String left, boolean important) {
-    style().setLeft(left, important);
+    internalStyle().setLeft(left, important);
     return (T) this;
   }
 
@@ -4262,7 +4278,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setRight(String right) {
-    style().setRight(right);
+    internalStyle().setRight(right);
     return (T) this;
   }
 
@@ -4275,7 +4291,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setRight(String right, boolean important) {
-    style().setRight(right, important);
+    internalStyle().setRight(right, important);
     return (T) this;
   }
 
@@ -4287,7 +4303,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setTop(String top) {
-    style().setTop(top);
+    internalStyle().setTop(top);
     return (T) this;
   }
 
@@ -4300,7 +4316,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setTop(String top, boolean important) {
-    style().setTop(top, important);
+    internalStyle().setTop(top, important);
     return (T) this;
   }
 
@@ -4312,7 +4328,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setBottom(String bottom) {
-    style().setBottom(bottom);
+    internalStyle().setBottom(bottom);
     return (T) this;
   }
 
@@ -4325,7 +4341,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setBottom(String bottom, boolean important) {
-    style().setBottom(bottom, important);
+    internalStyle().setBottom(bottom, important);
     return (T) this;
   }
 
@@ -4337,7 +4353,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public boolean containsCss(String cssClass) {
-    return style().containsCss(cssClass);
+    return internalStyle().containsCss(cssClass);
   }
 
   /**
@@ -4347,7 +4363,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    * @return An optional containing the CSS class name if found, empty otherwise.
    */
   public Optional<String> hasCssClass(String cssClass) {
-    return style().containsCss(cssClass) ? Optional.of(cssClass) : Optional.empty();
+    return internalStyle().containsCss(cssClass) ? Optional.of(cssClass) : Optional.empty();
   }
 
   /**
@@ -4357,7 +4373,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T alignCenter() {
-    style().alignCenter();
+    internalStyle().alignCenter();
     return (T) this;
   }
 
@@ -4368,7 +4384,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T alignRight() {
-    style().alignRight();
+    internalStyle().alignRight();
     return (T) this;
   }
 
@@ -4380,7 +4396,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T cssText(String cssText) {
-    style().cssText(cssText);
+    internalStyle().cssText(cssText);
     return (T) this;
   }
 
@@ -4391,7 +4407,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public int cssClassesCount() {
-    return style().cssClassesCount();
+    return internalStyle().cssClassesCount();
   }
 
   /**
@@ -4402,7 +4418,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public String cssClassByIndex(int index) {
-    return style().cssClassByIndex(index);
+    return internalStyle().cssClassByIndex(index);
   }
 
   /**
@@ -4413,7 +4429,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setPointerEvents(String pointerEvents) {
-    style().setPointerEvents(pointerEvents);
+    internalStyle().setPointerEvents(pointerEvents);
     return (T) this;
   }
 
@@ -4425,7 +4441,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setAlignItems(String alignItems) {
-    style().setAlignItems(alignItems);
+    internalStyle().setAlignItems(alignItems);
     return (T) this;
   }
 
@@ -4437,7 +4453,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setOverFlowY(String overflow) {
-    style().setOverFlowY(overflow);
+    internalStyle().setOverFlowY(overflow);
     return (T) this;
   }
 
@@ -4450,7 +4466,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setOverFlowY(String overflow, boolean important) {
-    style().setOverFlowY(overflow, important);
+    internalStyle().setOverFlowY(overflow, important);
     return (T) this;
   }
 
@@ -4462,7 +4478,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setOverFlowX(String overflow) {
-    style().setOverFlowX(overflow);
+    internalStyle().setOverFlowX(overflow);
     return (T) this;
   }
 
@@ -4475,7 +4491,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setOverFlowX(String overflow, boolean important) {
-    style().setOverFlowX(overflow, important);
+    internalStyle().setOverFlowX(overflow, important);
     return (T) this;
   }
 
@@ -4487,7 +4503,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setBoxShadow(String boxShadow) {
-    style().setBoxShadow(boxShadow);
+    internalStyle().setBoxShadow(boxShadow);
     return (T) this;
   }
 
@@ -4499,7 +4515,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setTransitionDuration(String transactionDuration) {
-    style().setTransitionDuration(transactionDuration);
+    internalStyle().setTransitionDuration(transactionDuration);
     return (T) this;
   }
 
@@ -4511,7 +4527,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setFlex(String flex) {
-    style().setFlex(flex);
+    internalStyle().setFlex(flex);
     return (T) this;
   }
 
@@ -4523,7 +4539,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setOpacity(double opacity) {
-    style().setOpacity(opacity);
+    internalStyle().setOpacity(opacity);
     return (T) this;
   }
 
@@ -4536,7 +4552,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setOpacity(double opacity, boolean important) {
-    style().setOpacity(opacity, important);
+    internalStyle().setOpacity(opacity, important);
     return (T) this;
   }
 
@@ -4641,10 +4657,10 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
   }
 
   private Map<String, ComponentMeta> metaObjects() {
-    if (isNull(this.metaObjects)) {
-      this.metaObjects = new HashMap<>();
+    if (isNull(extras().metaObjects)) {
+      extras().metaObjects = new HashMap<>();
     }
-    return metaObjects;
+    return extras().metaObjects;
   }
 
   /**
@@ -4655,8 +4671,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T onKeyDown(KeyEventsConsumer onKeyDown) {
-    keyEventsInitializer.apply();
-    keyboardEvents.listenOnKeyDown(onKeyDown);
+    keyboardEvents().listenOnKeyDown(onKeyDown);
     return (T) this;
   }
 
@@ -4667,8 +4682,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T stopOnKeyDown() {
-    keyEventsInitializer.apply();
-    keyboardEvents.stopListenOnKeyDown();
+    keyboardEvents().stopListenOnKeyDown();
     return (T) this;
   }
 
@@ -4680,8 +4694,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T onKeyUp(KeyEventsConsumer onKeyUp) {
-    keyEventsInitializer.apply();
-    keyboardEvents.listenOnKeyUp(onKeyUp);
+    keyboardEvents().listenOnKeyUp(onKeyUp);
     return (T) this;
   }
 
@@ -4692,8 +4705,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T stopOnKeyUp() {
-    keyEventsInitializer.apply();
-    keyboardEvents.stopListenOnKeyUp();
+    keyboardEvents().stopListenOnKeyUp();
     return (T) this;
   }
 
@@ -4705,8 +4717,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T onInput(KeyEventsConsumer onInput) {
-    keyEventsInitializer.apply();
-    keyboardEvents.listenOnInput(onInput);
+    keyboardEvents().listenOnInput(onInput);
     return (T) this;
   }
 
@@ -4717,8 +4728,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T stopOnInput() {
-    keyEventsInitializer.apply();
-    keyboardEvents.stopListenOnInput();
+    keyboardEvents().stopListenOnInput();
     return (T) this;
   }
 
@@ -4730,8 +4740,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T onBeforeInput(KeyEventsConsumer onBeforeInput) {
-    keyEventsInitializer.apply();
-    keyboardEvents.listenOnBeforeInput(onBeforeInput);
+    keyboardEvents().listenOnBeforeInput(onBeforeInput);
     return (T) this;
   }
 
@@ -4742,8 +4751,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T stopOnBeforeInput() {
-    keyEventsInitializer.apply();
-    keyboardEvents.stopListenOnBeforeInput();
+    keyboardEvents().stopListenOnBeforeInput();
     return (T) this;
   }
 
@@ -4754,8 +4762,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public KeyboardEventOptions getKeyboardEventsOptions() {
-    keyEventsInitializer.apply();
-    return keyboardEvents.getOptions();
+    return keyboardEvents().getOptions();
   }
 
   /**
@@ -4766,8 +4773,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
    */
   @Override
   public T setDefaultOptions(KeyboardEventOptions defaultOptions) {
-    keyEventsInitializer.apply();
-    keyboardEvents.setDefaultOptions(defaultOptions);
+    keyboardEvents().setDefaultOptions(defaultOptions);
     return (T) this;
   }
 
@@ -4933,7 +4939,7 @@ public abstract class BaseDominoElement<E extends Element, T extends IsElement<E
      * Handles element resizing.
      *
      * @param element The element being resized.
-     * @param observer The ResizeObserver instance.
+     * @param observer The shared ResizeObserver instance, it must not be disconnected.
      * @param entries The ResizeObserver entries.
      */
     void onResize(T element, ResizeObserver observer, JsArray<ResizeObserverEntry> entries);
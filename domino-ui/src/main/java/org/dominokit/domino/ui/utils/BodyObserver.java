@@ -69,6 +69,8 @@ final class BodyObserver {
           new MutationObserver(
               (JsArray<MutationRecord> records, MutationObserver observer) -> {
                 if (!paused) {
+                  PerformanceTracer.Trace trace =
+                      PerformanceTracer.start(PerformanceTracer.TRACE_BODY_OBSERVER);
                   MutationRecord[] recordsArray =
                       Js.uncheckedCast(records.asArray(new MutationRecord[records.length]));
                   for (MutationRecord record : recordsArray) {
@@ -80,6 +82,7 @@ final class BodyObserver {
                       onElementsAppended(record);
                     }
                   }
+                  trace.end();
                 }
                 return null;
               });
@@ -115,6 +118,7 @@ final class BodyObserver {
             ceinit.setDetail(record);
             CustomEvent<MutationRecord> event = new CustomEvent<>(type, ceinit);
             element.dispatchEvent(event);
+            PerformanceTracer.count(PerformanceTracer.OBSERVER_CALLBACKS);
           }
         }
 
@@ -127,6 +131,7 @@ final class BodyObserver {
                 processed.add(type);
                 CustomEvent<MutationRecord> event = new CustomEvent<>(type, ceinit);
                 child.element().dispatchEvent(event);
+                PerformanceTracer.count(PerformanceTracer.OBSERVER_CALLBACKS);
               }
             });
       }
@@ -151,6 +156,7 @@ final class BodyObserver {
             ceinit.setDetail(record);
             CustomEvent<MutationRecord> event = new CustomEvent<>(type, ceinit);
             element.dispatchEvent(event);
+            PerformanceTracer.count(PerformanceTracer.OBSERVER_CALLBACKS);
           }
         }
 
@@ -163,6 +169,7 @@ final class BodyObserver {
                 ceinit.setDetail(record);
                 CustomEvent<MutationRecord> event = new CustomEvent<>(type, ceinit);
                 child.element().dispatchEvent(event);
+                PerformanceTracer.count(PerformanceTracer.OBSERVER_CALLBACKS);
               }
             });
       }
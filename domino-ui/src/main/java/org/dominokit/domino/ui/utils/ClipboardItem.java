@@ -21,6 +21,7 @@ import elemental2.core.JsArray;
 import elemental2.dom.Blob;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
+import jsinterop.base.JsPropertyMap;
 
 /**
  * Represents an item that can be added to the clipboard. This class is a native JavaScript class
@@ -33,4 +34,13 @@ import jsinterop.annotations.JsType;
 public class ClipboardItem {
   public ClipboardItem(JsArray<String> mimeTypes, Blob blob) {}
   ;
+
+  /**
+   * Creates a clipboard item from a map of MIME types to their data, the values can be a {@link
+   * Blob}, a string or a promise resolving to either, which lets the item be created synchronously
+   * within the user gesture while its content is still being produced.
+   *
+   * @param items The map of MIME types to data.
+   */
+  public ClipboardItem(JsPropertyMap<?> items) {}
 }
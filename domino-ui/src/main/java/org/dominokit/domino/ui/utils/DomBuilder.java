@@ -0,0 +1,311 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.style.GenericCss.dui;
+import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
+
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLAnchorElement;
+import elemental2.dom.HTMLDivElement;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLLIElement;
+import elemental2.dom.HTMLSpanElement;
+import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
+import elemental2.dom.Node;
+import java.util.function.Consumer;
+import jsinterop.base.Js;
+import org.dominokit.domino.ui.IsElement;
+import org.dominokit.domino.ui.style.CssClass;
+
+/**
+ * A lightweight fluent builder for raw DOM elements, it sets classes, attributes, styles, text and
+ * children directly on the element without creating a {@link BaseDominoElement} wrapper.
+ *
+ * <p>Use this for DOM that is built once and never manipulated through the domino API again, like
+ * table cells content or decorations, and wrap the result using {@link #wrap()} only when the
+ * domino API is needed. For everything else use {@link ElementsFactory}.
+ *
+ * <p><strong>Usage Example:</strong>
+ *
+ * <pre>
+ * HTMLTableCellElement cell = DomBuilder.td()
+ *     .css(dui_datatable_td)
+ *     .attr("data-column", "name")
+ *     .add(DomBuilder.span().css(dui_text_ellipsis).text(name))
+ *     .element();
+ * </pre>
+ *
+ * @param <E> The type of the built element.
+ */
+public final class DomBuilder<E extends Element> implements IsElement<E> {
+
+  private final E element;
+
+  private DomBuilder(E element) {
+    this.element = element;
+  }
+
+  /**
+   * Creates a builder for a new element with the specified tag, the element gets the {@code dui}
+   * base css class like the elements created by {@link ElementsFactory}.
+   *
+   * @param tag The element tag name.
+   * @param <E> The type of the element.
+   * @return a new builder
+   */
+  public static <E extends Element> DomBuilder<E> create(String tag) {
+    E element = Js.uncheckedCast(elements.create(tag, Element.class));
+    element.classList.add(dui.getCssClass());
+    return new DomBuilder<>(element);
+  }
+
+  /**
+   * Creates a builder for an existing element.
+   *
+   * @param element The element to build on.
+   * @param <E> The type of the element.
+   * @return a new builder
+   */
+  public static <E extends Element> DomBuilder<E> of(E element) {
+    return new DomBuilder<>(element);
+  }
+
+  /**
+   * @return a builder for a new div element.
+   */
+  public static DomBuilder<HTMLDivElement> div() {
+    return create("div");
+  }
+
+  /**
+   * @return a builder for a new span element.
+   */
+  public static DomBuilder<HTMLSpanElement> span() {
+    return create("span");
+  }
+
+  /**
+   * @return a builder for a new anchor element.
+   */
+  public static DomBuilder<HTMLAnchorElement> a() {
+    return create("a");
+  }
+
+  /**
+   * @return a builder for a new li element.
+   */
+  public static DomBuilder<HTMLLIElement> li() {
+    return create("li");
+  }
+
+  /**
+   * @return a builder for a new td element.
+   */
+  public static DomBuilder<HTMLTableCellElement> td() {
+    return create("td");
+  }
+
+  /**
+   * @return a builder for a new tr element.
+   */
+  public static DomBuilder<HTMLTableRowElement> tr() {
+    return create("tr");
+  }
+
+  /**
+   * @return a builder for a new document fragment.
+   */
+  public static Fragment fragment() {
+    return new Fragment();
+  }
+
+  /**
+   * Applies css classes to the element, each class is applied with {@link CssClass#apply(Element)}
+   * so that classes like {@code BooleanCssClass} or {@code LimitOneOfPrefixedCssClass} keep their
+   * semantics.
+   *
+   * @param cssClasses The css classes.
+   * @return same builder instance
+   */
+  public DomBuilder<E> css(CssClass... cssClasses) {
+    for (CssClass cssClass : cssClasses) {
+      cssClass.apply(element);
+    }
+    return this;
+  }
+
+  /**
+   * Adds css classes to the element.
+   *
+   * @param cssClasses The css classes names.
+   * @return same builder instance
+   */
+  public DomBuilder<E> css(String... cssClasses) {
+    element.classList.add(cssClasses);
+    return this;
+  }
+
+  /**
+   * Sets an attribute on the element.
+   *
+   * @param name The attribute name.
+   * @param value The attribute value.
+   * @return same builder instance
+   */
+  public DomBuilder<E> attr(String name, String value) {
+    element.setAttribute(name, value);
+    return this;
+  }
+
+  /**
+   * Sets an inline style property on the element, this has no effect for non HTML elements.
+   *
+   * @param property The css property name.
+   * @param value The css property value.
+   * @return same builder instance
+   */
+  public DomBuilder<E> style(String property, String value) {
+    if (element instanceof HTMLElement) {
+      ((HTMLElement) Js.uncheckedCast(element)).style.setProperty(property, value);
+    }
+    return this;
+  }
+
+  /**
+   * Sets the text content of the element.
+   *
+   * @param text The text.
+   * @return same builder instance
+   */
+  public DomBuilder<E> text(String text) {
+    element.textContent = text;
+    return this;
+  }
+
+  /**
+   * Appends a child node to the element, null nodes are ignored.
+   *
+   * @param node The child node.
+   * @return same builder instance
+   */
+  public DomBuilder<E> add(Node node) {
+    if (nonNull(node)) {
+      element.appendChild(node);
+    }
+    return this;
+  }
+
+  /**
+   * Appends a child element to the element, null elements are ignored.
+   *
+   * @param child The child element.
+   * @return same builder instance
+   */
+  public DomBuilder<E> add(IsElement<?> child) {
+    if (nonNull(child)) {
+      element.appendChild(child.element());
+    }
+    return this;
+  }
+
+  /**
+   * Appends a text node to the element.
+   *
+   * @param text The text.
+   * @return same builder instance
+   */
+  public DomBuilder<E> addText(String text) {
+    element.appendChild(DomGlobal.document.createTextNode(text));
+    return this;
+  }
+
+  /**
+   * Applies a function on the raw element.
+   *
+   * @param handler The function to apply.
+   * @return same builder instance
+   */
+  public DomBuilder<E> apply(Consumer<E> handler) {
+    handler.accept(element);
+    return this;
+  }
+
+  /**
+   * @return the built element.
+   */
+  @Override
+  public E element() {
+    return element;
+  }
+
+  /**
+   * Wraps the built element as a {@link DominoElement}, call this only when the domino API is
+   * needed for the element.
+   *
+   * @return a domino element wrapping the built element.
+   */
+  public DominoElement<E> wrap() {
+    return elements.elementOf(element);
+  }
+
+  /**
+   * A builder for a {@link DocumentFragment}, this allows building several sibling nodes and
+   * attaching them to the document with a single append.
+   */
+  public static final class Fragment {
+    private final DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+
+    private Fragment() {}
+
+    /**
+     * Appends a node to the fragment, null nodes are ignored.
+     *
+     * @param node The node.
+     * @return same fragment builder
+     */
+    public Fragment add(Node node) {
+      if (nonNull(node)) {
+        fragment.appendChild(node);
+      }
+      return this;
+    }
+
+    /**
+     * Appends an element to the fragment, null elements are ignored.
+     *
+     * @param child The element.
+     * @return same fragment builder
+     */
+    public Fragment add(IsElement<?> child) {
+      if (nonNull(child)) {
+        fragment.appendChild(child.element());
+      }
+      return this;
+    }
+
+    /**
+     * @return the built document fragment.
+     */
+    public DocumentFragment build() {
+      return fragment;
+    }
+  }
+}
@@ -137,4 +137,59 @@ public class DominoUIConfig {
   public boolean isClosePopupOnBlur() {
     return this.closePopupOnBlur;
   }
+
+  /**
+   * Enables or disables the {@link PerformanceTracer} instrumentation, disabled by default.
+   *
+   * @param performanceTracing {@code true} to record User Timing marks, measures and counters for
+   *     the domino-ui hot paths.
+   * @return This {@code DominoUIConfig} instance for method chaining.
+   */
+  public DominoUIConfig setPerformanceTracing(boolean performanceTracing) {
+    PerformanceTracer.setEnabled(performanceTracing);
+    return this;
+  }
+
+  /**
+   * Checks if the {@link PerformanceTracer} instrumentation is enabled.
+   *
+   * @return {@code true} if the performance tracing is enabled, {@code false} otherwise.
+   */
+  public boolean isPerformanceTracing() {
+    return PerformanceTracer.isEnabled();
+  }
+
+  /**
+   * Enables or disables the {@link LeakDetector} debug mode, disabled by default. Should be enabled
+   * before the application creates its components.
+   *
+   * @param leakDetection {@code true} to track component instances, observers and global
+   *     references.
+   * @return This {@code DominoUIConfig} instance for method chaining.
+   */
+  public DominoUIConfig setLeakDetection(boolean leakDetection) {
+    LeakDetector.setEnabled(leakDetection);
+    return this;
+  }
+
+  /**
+   * Checks if the {@link LeakDetector} debug mode is enabled.
+   *
+   * @return {@code true} if the leak detection is enabled, {@code false} otherwise.
+   */
+  public boolean isLeakDetection() {
+    return LeakDetector.isEnabled();
+  }
+
+  /**
+   * Sets the number of seconds an element can stay detached while still holding global listeners or
+   * references before the {@link LeakDetector} reports it, defaults to 30 seconds.
+   *
+   * @param seconds The threshold in seconds.
+   * @return This {@code DominoUIConfig} instance for method chaining.
+   */
+  public DominoUIConfig setLeakDetectionThreshold(int seconds) {
+    LeakDetector.setDetachedThreshold(seconds);
+    return this;
+  }
 }
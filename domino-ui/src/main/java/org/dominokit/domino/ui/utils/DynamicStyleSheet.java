@@ -57,7 +57,10 @@ public class DynamicStyleSheet<E extends HTMLElement, D extends BaseDominoElemen
 
   /** Flushes the dynamic stylesheet into the associated {@code HTMLStyleElement}. */
   public void flush() {
+    PerformanceTracer.Trace trace = PerformanceTracer.start(PerformanceTracer.TRACE_STYLE_FLUSH);
     dominoStyleSheet.flushInto(styleElement);
+    PerformanceTracer.count(PerformanceTracer.STYLE_FLUSHES);
+    trace.end();
   }
 
   /**
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import elemental2.dom.Element;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.dominokit.domino.ui.IsElement;
+import org.dominokit.domino.ui.animations.TransitionListeners;
+import org.dominokit.domino.ui.collapsible.Collapsible;
+import org.dominokit.domino.ui.keyboard.KeyboardEvents;
+import org.dominokit.domino.ui.popover.Tooltip;
+import org.dominokit.domino.ui.style.Elevation;
+
+/**
+ * Holds the state of a {@link BaseDominoElement} that most elements never use, this is created the
+ * first time one of these features is used so that plain wrapped elements, like table cells and
+ * icons, only pay for the fields they actually need.
+ *
+ * @param <E> The type of the wrapped DOM element.
+ * @param <T> The type of the domino element.
+ */
+final class ElementExtras<E extends Element, T extends IsElement<E>> {
+
+  Tooltip tooltip;
+  Collapsible collapsible;
+  ScreenMedia hideOn;
+  ScreenMedia showOn;
+  Elevation elevation;
+  boolean resizeObserved;
+  List<BaseDominoElement.ResizeHandler<T>> resizeHandlers;
+  KeyboardEvents<E> keyboardEvents;
+  boolean openCloseListenersPaused;
+  Set<HasOpenCloseListeners.CloseListener<? super T>> closeListeners;
+  Set<HasOpenCloseListeners.OpenListener<? super T>> openListeners;
+  List<Consumer<T>> onBeforeRemoveHandlers;
+  List<Consumer<T>> onRemoveHandlers;
+  Map<String, ComponentMeta> metaObjects;
+  TransitionListeners<E, T> transitionListeners;
+}
@@ -28,6 +28,7 @@ public class FollowOnScroll {
   private final EventListener repositionListener;
   private final DominoElement<Element> target;
   private MutationObserverCallback observerCallback;
+  private Register leakRegister = Register.EMPTY;
 
   /**
    * Constructs a new FollowOnScroll instance.
@@ -53,12 +54,17 @@ public class FollowOnScroll {
   /** Starts listening to scroll events to reposition the follower. */
   public void start() {
     document.addEventListener("scroll", repositionListener, true);
+    leakRegister.remove();
+    leakRegister =
+        LeakDetector.trackGlobalReference(target.element(), "FollowOnScroll document scroll");
   }
 
   /** Stops listening to scroll events, halting the follow-on-scroll behavior. */
   public void stop() {
     document.removeEventListener("scroll", repositionListener, true);
     target.removeDetachObserver(observerCallback);
+    leakRegister.remove();
+    leakRegister = Register.EMPTY;
   }
 
   /** An interface for defining a ScrollFollower that tracks the follower's state and position. */
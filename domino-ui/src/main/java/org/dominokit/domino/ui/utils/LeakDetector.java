@@ -0,0 +1,415 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.core.JsDate;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import org.gwtproject.timer.client.Timer;
+
+/**
+ * A debug mode that helps finding components retained after they are removed from the page, enabled
+ * with {@link DominoUIConfig#setLeakDetection(boolean)}.
+ *
+ * <p>While enabled the detector:
+ *
+ * <ul>
+ *   <li>counts the component instances created by type, and the instances still alive when the
+ *       browser supports {@code FinalizationRegistry}.
+ *   <li>counts the attach and detach observers currently registered by type.
+ *   <li>tracks the listeners and references registered on global targets, like the document, the
+ *       window or the modals stack, on behalf of an element, and flags the elements detached for
+ *       longer than {@link #getDetachedThreshold()} seconds while still holding them.
+ * </ul>
+ *
+ * <p>The counters are only collected while enabled, so the detector should be enabled before the
+ * application starts, for example in automated soak tests:
+ *
+ * <pre>
+ * DominoUIConfig.CONFIG.setLeakDetection(true).setLeakDetectionThreshold(10);
+ * ...
+ * RetentionReport report = LeakDetector.report();
+ * assertTrue(report.toString(), report.getSuspects().isEmpty());
+ * </pre>
+ */
+public class LeakDetector {
+
+  private static final Map<String, int[]> created = new HashMap<>();
+  private static final Map<String, int[]> finalized = new HashMap<>();
+  private static final Map<String, int[]> observers = new HashMap<>();
+  private static final List<GlobalReference> globalReferences = new ArrayList<>();
+  private static boolean enabled = false;
+  private static int detachedThreshold = 30;
+  private static FinalizationRegistry finalizationRegistry;
+  private static Timer sweepTimer;
+
+  private LeakDetector() {}
+
+  /**
+   * @return true if the leak detection is enabled.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  static void setEnabled(boolean enabled) {
+    LeakDetector.enabled = enabled;
+    if (enabled) {
+      if (isNull(finalizationRegistry)
+          && Js.asPropertyMap(DomGlobal.window).has("FinalizationRegistry")) {
+        finalizationRegistry =
+            new FinalizationRegistry(type -> increment(finalized, Js.uncheckedCast(type), 1));
+      }
+      scheduleSweep();
+    } else if (nonNull(sweepTimer)) {
+      sweepTimer.cancel();
+    }
+  }
+
+  /**
+   * @return the number of seconds an element can stay detached while holding global references
+   *     before it is reported as a suspect.
+   */
+  public static int getDetachedThreshold() {
+    return detachedThreshold;
+  }
+
+  static void setDetachedThreshold(int seconds) {
+    detachedThreshold = Math.max(0, seconds);
+    if (enabled) {
+      scheduleSweep();
+    }
+  }
+
+  private static void scheduleSweep() {
+    if (isNull(sweepTimer)) {
+      sweepTimer =
+          new Timer() {
+            @Override
+            public void run() {
+              sweep();
+            }
+          };
+    }
+    sweepTimer.cancel();
+    sweepTimer.scheduleRepeating(Math.max(1000, detachedThreshold * 500));
+  }
+
+  /**
+   * Counts a new component instance, called by {@link BaseDominoElement} when a component is
+   * initialized.
+   *
+   * @param component The new component.
+   */
+  static void track(Object component) {
+    if (enabled) {
+      String type = typeOf(component);
+      increment(created, type, 1);
+      if (nonNull(finalizationRegistry)) {
+        finalizationRegistry.register(component, type);
+      }
+    }
+  }
+
+  /**
+   * Counts an attach or detach observer registered by a component.
+   *
+   * @param component The component registering the observer.
+   */
+  static void countObserver(Object component) {
+    if (enabled) {
+      increment(observers, typeOf(component), 1);
+    }
+  }
+
+  /**
+   * Stops counting an attach or detach observer removed from a component, either explicitly or
+   * automatically after it was called once.
+   *
+   * @param component The component that registered the observer.
+   */
+  static void releaseObserver(Object component) {
+    if (enabled) {
+      int[] count = observers.get(typeOf(component));
+      // observers registered before the detection was enabled or reset were never counted.
+      if (nonNull(count) && count[0] > 0) {
+        count[0]--;
+      }
+    }
+  }
+
+  /**
+   * Tracks a listener or a reference registered on a global target on behalf of an element, the
+   * returned {@link Register} must be removed together with the listener or reference.
+   *
+   * @param owner The element the listener or reference belongs to.
+   * @param description A description of the listener or reference used in the report.
+   * @return a {@link Register} to stop tracking, {@link Register#EMPTY} when the leak detection is
+   *     disabled.
+   */
+  public static Register trackGlobalReference(Element owner, String description) {
+    if (!enabled || isNull(owner)) {
+      return Register.EMPTY;
+    }
+    GlobalReference reference = new GlobalReference(owner, description);
+    globalReferences.add(reference);
+    return () -> globalReferences.remove(reference);
+  }
+
+  private static void increment(Map<String, int[]> counters, String type, int delta) {
+    int[] value = counters.get(type);
+    if (isNull(value)) {
+      value = new int[1];
+      counters.put(type, value);
+    }
+    value[0] += delta;
+  }
+
+  private static String typeOf(Object component) {
+    return component.getClass().getSimpleName();
+  }
+
+  private static void sweep() {
+    double now = JsDate.now();
+    // owners already garbage collected did not leak, they only missed removing their register.
+    globalReferences.removeIf(reference -> isNull(reference.getOwner()));
+    for (GlobalReference reference : globalReferences) {
+      if (DomGlobal.document.documentElement.contains(reference.getOwner())) {
+        reference.detachedSince = -1;
+      } else if (reference.detachedSince < 0) {
+        reference.detachedSince = now;
+      }
+    }
+  }
+
+  /**
+   * @return a report of the tracked instances, observers and suspected leaks.
+   */
+  public static RetentionReport report() {
+    sweep();
+    double now = JsDate.now();
+    Map<String, Integer> instances = new TreeMap<>();
+    created.forEach(
+        (type, count) -> {
+          int[] gone = finalized.get(type);
+          instances.put(type, count[0] - (nonNull(gone) ? gone[0] : 0));
+        });
+    Map<String, Integer> observersCount = new TreeMap<>();
+    observers.forEach((type, count) -> observersCount.put(type, count[0]));
+    List<Suspect> suspects = new ArrayList<>();
+    for (GlobalReference reference : globalReferences) {
+      Element owner = reference.getOwner();
+      if (nonNull(owner)
+          && reference.detachedSince >= 0
+          && now - reference.detachedSince >= detachedThreshold * 1000d) {
+        suspects.add(new Suspect(owner, reference.description, now - reference.detachedSince));
+      }
+    }
+    return new RetentionReport(
+        instances,
+        observersCount,
+        globalReferences.size(),
+        suspects,
+        nonNull(finalizationRegistry));
+  }
+
+  /** Logs the {@link #report()} to the browser console. */
+  public static void dump() {
+    DomGlobal.console.warn(report().toString());
+  }
+
+  /** Clears all the collected counters and tracked references. */
+  public static void reset() {
+    created.clear();
+    finalized.clear();
+    observers.clear();
+    globalReferences.clear();
+  }
+
+  /**
+   * Holds the owner through a {@code WeakRef} so the detector does not retain the elements it
+   * reports, browsers without {@code WeakRef} fall back to a strong reference.
+   */
+  private static class GlobalReference {
+    private final WeakRef weakOwner;
+    private final Element owner;
+    private final String description;
+    private double detachedSince = -1;
+
+    private GlobalReference(Element owner, String description) {
+      boolean weakRefSupported = Js.asPropertyMap(DomGlobal.window).has("WeakRef");
+      this.weakOwner = weakRefSupported ? new WeakRef(owner) : null;
+      this.owner = weakRefSupported ? null : owner;
+      this.description = description;
+    }
+
+    private Element getOwner() {
+      return nonNull(weakOwner) ? Js.uncheckedCast(weakOwner.deref()) : owner;
+    }
+  }
+
+  /** An element detached for longer than the threshold while still holding a global reference. */
+  public static class Suspect {
+    private final Element element;
+    private final String description;
+    private final double detachedFor;
+
+    private Suspect(Element element, String description, double detachedFor) {
+      this.element = element;
+      this.description = description;
+      this.detachedFor = detachedFor;
+    }
+
+    /**
+     * @return the detached element.
+     */
+    public Element getElement() {
+      return element;
+    }
+
+    /**
+     * @return the description of the global listener or reference still held.
+     */
+    public String getDescription() {
+      return description;
+    }
+
+    /**
+     * @return the time in milliseconds since the element was found detached.
+     */
+    public double getDetachedFor() {
+      return detachedFor;
+    }
+
+    @Override
+    public String toString() {
+      return "<"
+          + element.tagName.toLowerCase()
+          + (isNull(element.id) || element.id.isEmpty() ? "" : " id=\"" + element.id + "\"")
+          + "> "
+          + description
+          + ", detached for "
+          + Math.round(detachedFor / 1000)
+          + "s";
+    }
+  }
+
+  /** A point in time report of the retained instances and suspected leaks. */
+  public static class RetentionReport {
+    private final Map<String, Integer> instances;
+    private final Map<String, Integer> observers;
+    private final int globalReferences;
+    private final List<Suspect> suspects;
+    private final boolean finalizationSupported;
+
+    private RetentionReport(
+        Map<String, Integer> instances,
+        Map<String, Integer> observers,
+        int globalReferences,
+        List<Suspect> suspects,
+        boolean finalizationSupported) {
+      this.instances = Collections.unmodifiableMap(instances);
+      this.observers = Collections.unmodifiableMap(observers);
+      this.globalReferences = globalReferences;
+      this.suspects = Collections.unmodifiableList(suspects);
+      this.finalizationSupported = finalizationSupported;
+    }
+
+    /**
+     * @return the number of instances by component type, the instances alive when {@link
+     *     #isFinalizationSupported()} otherwise the instances created.
+     */
+    public Map<String, Integer> getInstances() {
+      return instances;
+    }
+
+    /**
+     * @return the number of attach and detach observers currently registered by component type.
+     */
+    public Map<String, Integer> getObservers() {
+      return observers;
+    }
+
+    /**
+     * @return the number of global listeners and references currently held.
+     */
+    public int getGlobalReferences() {
+      return globalReferences;
+    }
+
+    /**
+     * @return the elements detached for longer than the threshold still holding global references.
+     */
+    public List<Suspect> getSuspects() {
+      return suspects;
+    }
+
+    /**
+     * @return true if the garbage collected instances are subtracted from the instances count.
+     */
+    public boolean isFinalizationSupported() {
+      return finalizationSupported;
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder report = new StringBuilder("domino-ui retention report\n");
+      report
+          .append(finalizationSupported ? "live instances: " : "created instances: ")
+          .append(instances)
+          .append("\nobservers: ")
+          .append(observers)
+          .append("\nglobal references: ")
+          .append(globalReferences)
+          .append("\nsuspects: ")
+          .append(suspects.size());
+      suspects.forEach(suspect -> report.append("\n  ").append(suspect));
+      return report.toString();
+    }
+  }
+
+  @JsFunction
+  private interface FinalizationCallback {
+    void onFinalized(Object heldValue);
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "WeakRef")
+  private static class WeakRef {
+    WeakRef(Object target) {}
+
+    native Object deref();
+  }
+
+  @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "FinalizationRegistry")
+  private static class FinalizationRegistry {
+    FinalizationRegistry(FinalizationCallback callback) {}
+
+    native void register(Object target, Object heldValue);
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.nonNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A least recently used map bounded by a maximum size and an optional time to live for its entries.
+ *
+ * <p>Reading an entry using {@link #get(Object)} marks it as recently used, when the cache exceeds
+ * its maximum size the least recently used entry is evicted. Entries older than the time to live
+ * are treated as missing and are removed when accessed.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+public class LruCache<K, V> extends LinkedHashMap<K, V> {
+
+  private final Map<Object, Double> timestamps = new HashMap<>();
+  private int maxSize;
+  private double timeToLive;
+
+  /**
+   * Creates a cache bounded by the specified size, entries never expire.
+   *
+   * @param maxSize The maximum number of entries, a value less than 1 means unbounded.
+   */
+  public LruCache(int maxSize) {
+    this(maxSize, 0);
+  }
+
+  /**
+   * Creates a cache bounded by the specified size and time to live.
+   *
+   * @param maxSize The maximum number of entries, a value less than 1 means unbounded.
+   * @param timeToLive The time to live of an entry in milliseconds, a value less than 1 means
+   *     entries never expire.
+   */
+  public LruCache(int maxSize, double timeToLive) {
+    super(16, 0.75f, true);
+    this.maxSize = maxSize;
+    this.timeToLive = timeToLive;
+  }
+
+  /**
+   * Changes the maximum size of the cache, evicting the least recently used entries if needed.
+   *
+   * @param maxSize The maximum number of entries, a value less than 1 means unbounded.
+   * @return same cache instance
+   */
+  public LruCache<K, V> setMaxSize(int maxSize) {
+    this.maxSize = maxSize;
+    if (maxSize > 0) {
+      while (size() > maxSize) {
+        remove(keySet().iterator().next());
+      }
+    }
+    return this;
+  }
+
+  /**
+   * @return the maximum number of entries, a value less than 1 means unbounded.
+   */
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Changes the time to live of the cache entries.
+   *
+   * @param timeToLive The time to live in milliseconds, a value less than 1 means entries never
+   *     expire.
+   * @return same cache instance
+   */
+  public LruCache<K, V> setTimeToLive(double timeToLive) {
+    this.timeToLive = timeToLive;
+    return this;
+  }
+
+  /**
+   * @return the time to live of the cache entries in milliseconds.
+   */
+  public double getTimeToLive() {
+    return timeToLive;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public V get(Object key) {
+    if (isExpired(key)) {
+      remove(key);
+      return null;
+    }
+    return super.get(key);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean containsKey(Object key) {
+    if (isExpired(key)) {
+      remove(key);
+      return false;
+    }
+    return super.containsKey(key);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public V put(K key, V value) {
+    if (timeToLive > 0) {
+      timestamps.put(key, now());
+    }
+    return super.put(key, value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public V remove(Object key) {
+    timestamps.remove(key);
+    return super.remove(key);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void clear() {
+    timestamps.clear();
+    super.clear();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+    if (maxSize > 0 && size() > maxSize) {
+      timestamps.remove(eldest.getKey());
+      return true;
+    }
+    return false;
+  }
+
+  private boolean isExpired(Object key) {
+    if (timeToLive <= 0) {
+      return false;
+    }
+    Double timestamp = timestamps.get(key);
+    return nonNull(timestamp) && now() - timestamp > timeToLive;
+  }
+
+  private static double now() {
+    return System.currentTimeMillis();
+  }
+}
@@ -17,19 +17,55 @@
 package org.dominokit.domino.ui.utils;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import elemental2.core.JsRegExp;
 import elemental2.core.RegExpResult;
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.Node;
+import elemental2.dom.NodeList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import jsinterop.base.Js;
 
 /**
  * The {@code MatchHighlighter} class provides utility methods for highlighting matching substrings
  * within a source string. It allows you to emphasize specific parts of the source string by
  * wrapping them with HTML mark tags.
+ *
+ * <p>For highlighting many values against the same query, like suggestions on every keystroke, use
+ * {@link #of(String)} which compiles the query once into a highlighter that supports several
+ * whitespace separated terms, highlights every occurrence and can work directly on text nodes.
+ *
+ * <pre>
+ * MatchHighlighter highlighter = MatchHighlighter.of("dom ui");
+ * highlighter.highlight("Domino UI"); // &lt;mark&gt;Dom&lt;/mark&gt;ino &lt;mark&gt;UI&lt;/mark&gt;
+ * highlighter.highlight(menuItem.element()); // wraps the matches in mark elements
+ * </pre>
  */
 public class MatchHighlighter {
 
   private static final String prefix = "<mark>";
   private static final String postfix = "</mark>";
+  private static final String MARK_ATTRIBUTE = "dui-highlight";
+  private static final int CACHE_SIZE = 32;
+
+  private static final LruCache<String, Object> LITERALS_CACHE = new LruCache<>(CACHE_SIZE);
+  private static final LruCache<String, MatchHighlighter> QUERIES_CACHE =
+      new LruCache<>(CACHE_SIZE);
+
+  private final String query;
+  private final List<String> terms;
+  private final JsRegExp regExp;
+
+  private MatchHighlighter(String query) {
+    this.query = query;
+    this.terms = splitTerms(query);
+    this.regExp = terms.isEmpty() ? null : new JsRegExp(toPattern(terms), "gi");
+  }
 
   /**
    * Highlights the matching part of a source string by wrapping it with HTML mark tags.
@@ -40,14 +76,14 @@ public class MatchHighlighter {
    *     if no match is found.
    */
   public static String highlight(String source, String part) {
-    if (isNull(part)
-        || isNull(source)
-        || part.isEmpty()
-        || source.isEmpty()
-        || !containsPart(source, part)) {
+    if (isNull(part) || isNull(source) || part.isEmpty() || source.isEmpty()) {
       return sourceOrEmpty(source);
     }
-    JsRegExp regExp = new JsRegExp(escapeRegExp(part), "i");
+    JsRegExp regExp = Js.uncheckedCast(LITERALS_CACHE.get(part));
+    if (isNull(regExp)) {
+      regExp = new JsRegExp(escapeRegExp(part), "i");
+      LITERALS_CACHE.put(part, regExp);
+    }
     RegExpResult result = regExp.exec(source);
     if (isNull(result)) {
       return source;
@@ -57,16 +93,198 @@ public class MatchHighlighter {
   }
 
   /**
-   * Checks if a source string contains a specific part, ignoring case.
+   * Returns a highlighter compiled for the specified query, the query is split into whitespace
+   * separated terms and matching is case-insensitive. Compiled highlighters are cached so calling
+   * this method repeatedly with the same query does not compile it again.
    *
-   * @param source The source string to check.
-   * @param part The substring to search for within the source string.
-   * @return {@code true} if the part is found within the source string, ignoring case; otherwise,
-   *     {@code false}.
+   * @param query The search query.
+   * @return a compiled highlighter for the query.
+   */
+  public static MatchHighlighter of(String query) {
+    String key = sourceOrEmpty(query);
+    MatchHighlighter highlighter = QUERIES_CACHE.get(key);
+    if (isNull(highlighter)) {
+      highlighter = new MatchHighlighter(key);
+      QUERIES_CACHE.put(key, highlighter);
+    }
+    return highlighter;
+  }
+
+  /**
+   * @return the query this highlighter was compiled for.
+   */
+  public String getQuery() {
+    return query;
+  }
+
+  /**
+   * @return the terms of the query.
+   */
+  public List<String> getTerms() {
+    return terms;
+  }
+
+  /**
+   * Checks if the source contains any of the query terms.
+   *
+   * @param source The source string.
+   * @return true if any of the terms is found in the source.
+   */
+  public boolean matches(String source) {
+    if (isNull(regExp) || isNull(source) || source.isEmpty()) {
+      return false;
+    }
+    regExp.lastIndex = 0;
+    boolean found = regExp.test(source);
+    regExp.lastIndex = 0;
+    return found;
+  }
+
+  /**
+   * Highlights every occurrence of every query term in the source by wrapping it with HTML mark
+   * tags. The source is not escaped, for untrusted text use {@link #highlight(Node)}.
+   *
+   * @param source The source string.
+   * @return the highlighted string, or the source if nothing matches.
    */
-  private static boolean containsPart(String source, String part) {
-    JsRegExp regExp = new JsRegExp(escapeRegExp(part), "i");
-    return !isNull(regExp.exec(source));
+  public String highlight(String source) {
+    if (isNull(regExp) || isNull(source) || source.isEmpty()) {
+      return sourceOrEmpty(source);
+    }
+    StringBuilder builder = null;
+    int position = 0;
+    regExp.lastIndex = 0;
+    RegExpResult result;
+    while (nonNull(result = regExp.exec(source))) {
+      if (isNull(builder)) {
+        builder = new StringBuilder(source.length() + 16);
+      }
+      String match = result.getAt(0);
+      builder
+          .append(source.substring(position, result.index))
+          .append(prefix)
+          .append(match)
+          .append(postfix);
+      position = result.index + match.length();
+    }
+    regExp.lastIndex = 0;
+    if (isNull(builder)) {
+      return source;
+    }
+    return builder.append(source.substring(position)).toString();
+  }
+
+  /**
+   * Highlights every occurrence of every query term in the text nodes of the specified node by
+   * wrapping the matches in {@code <mark>} elements, the text is never parsed as HTML. Marks added
+   * by a previous call are removed first.
+   *
+   * @param root The node to highlight.
+   */
+  public void highlight(Node root) {
+    clear(root);
+    if (isNull(regExp) || isNull(root)) {
+      return;
+    }
+    List<Node> textNodes = new ArrayList<>();
+    collectTextNodes(root, textNodes);
+    for (Node textNode : textNodes) {
+      highlightTextNode(textNode);
+    }
+  }
+
+  /**
+   * Removes the marks added by {@link #highlight(Node)} from the specified node.
+   *
+   * @param root The highlighted node.
+   */
+  public static void clear(Node root) {
+    if (isNull(root) || root.nodeType != Node.ELEMENT_NODE) {
+      return;
+    }
+    Element element = Js.uncheckedCast(root);
+    NodeList<Element> marks = element.querySelectorAll("mark[" + MARK_ATTRIBUTE + "]");
+    if (marks.length == 0) {
+      return;
+    }
+    List<Node> parents = new ArrayList<>();
+    for (int i = 0; i < marks.length; i++) {
+      Element mark = marks.getAt(i);
+      Node parent = mark.parentNode;
+      while (nonNull(mark.firstChild)) {
+        parent.insertBefore(mark.firstChild, mark);
+      }
+      parent.removeChild(mark);
+      if (!parents.contains(parent)) {
+        parents.add(parent);
+      }
+    }
+    parents.forEach(Node::normalize);
+  }
+
+  private void highlightTextNode(Node textNode) {
+    String text = textNode.nodeValue;
+    if (isNull(text) || text.isEmpty()) {
+      return;
+    }
+    DocumentFragment fragment = null;
+    int position = 0;
+    regExp.lastIndex = 0;
+    RegExpResult result;
+    while (nonNull(result = regExp.exec(text))) {
+      if (isNull(fragment)) {
+        fragment = DomGlobal.document.createDocumentFragment();
+      }
+      String match = result.getAt(0);
+      if (result.index > position) {
+        fragment.appendChild(
+            DomGlobal.document.createTextNode(text.substring(position, result.index)));
+      }
+      Element mark = DomGlobal.document.createElement("mark");
+      mark.setAttribute(MARK_ATTRIBUTE, "");
+      mark.textContent = match;
+      fragment.appendChild(mark);
+      position = result.index + match.length();
+    }
+    regExp.lastIndex = 0;
+    if (nonNull(fragment)) {
+      if (position < text.length()) {
+        fragment.appendChild(DomGlobal.document.createTextNode(text.substring(position)));
+      }
+      textNode.parentNode.replaceChild(fragment, textNode);
+    }
+  }
+
+  private static void collectTextNodes(Node node, List<Node> textNodes) {
+    if (node.nodeType == Node.TEXT_NODE) {
+      textNodes.add(node);
+    } else if (node.nodeType == Node.ELEMENT_NODE) {
+      for (int i = 0; i < node.childNodes.length; i++) {
+        collectTextNodes(node.childNodes.getAt(i), textNodes);
+      }
+    }
+  }
+
+  private static List<String> splitTerms(String query) {
+    List<String> terms = new ArrayList<>();
+    for (String term : Arrays.asList(query.trim().split("\\s+"))) {
+      if (!term.isEmpty() && terms.stream().noneMatch(term::equalsIgnoreCase)) {
+        terms.add(term);
+      }
+    }
+    terms.sort((first, second) -> second.length() - first.length());
+    return terms;
+  }
+
+  private static String toPattern(List<String> terms) {
+    StringBuilder pattern = new StringBuilder();
+    for (String term : terms) {
+      if (pattern.length() > 0) {
+        pattern.append('|');
+      }
+      pattern.append(escapeRegExp(term));
+    }
+    return pattern.toString();
   }
 
   /**
@@ -0,0 +1,348 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.DomGlobal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jsinterop.base.Js;
+
+/**
+ * Opt-in instrumentation of the domino-ui hot paths, enabled with {@link
+ * DominoUIConfig#setPerformanceTracing(boolean)}.
+ *
+ * <p>When enabled, traced operations are recorded as User Timing marks and measures, so they show
+ * up in the browser performance tools, and are aggregated together with a set of counters that can
+ * be read with {@link #snapshot()} or forwarded as they happen using {@link
+ * #addListener(TraceListener)}. When disabled, tracing an operation only costs a static field read.
+ *
+ * <p>The User Timing measures are cleared from the performance buffer once aggregated, so that long
+ * tracing sessions do not grow the buffer without bound, the browser performance tools recording
+ * still shows them. Use {@link #setKeepMeasures(boolean)} to keep them in the buffer, for example
+ * to read them with {@code performance.getEntriesByType("measure")}.
+ *
+ * <pre>
+ * DominoUIConfig.CONFIG.setPerformanceTracing(true);
+ * PerformanceTracer.addListener((name, duration) -&gt; rum.timing(name, duration));
+ * ...
+ * int rows = PerformanceTracer.snapshot().getCounter(PerformanceTracer.ROWS_DRAWN);
+ * </pre>
+ */
+public class PerformanceTracer {
+
+  /** Counts the data table rows drawn. */
+  public static final String ROWS_DRAWN = "dui-rows-drawn";
+
+  /** Counts the data table cells rendered. */
+  public static final String CELLS_RENDERED = "dui-cells-rendered";
+
+  /** Counts the attach/detach events dispatched by the body mutation observer. */
+  public static final String OBSERVER_CALLBACKS = "dui-observer-callbacks";
+
+  /** Counts the dynamic style sheets flushes. */
+  public static final String STYLE_FLUSHES = "dui-style-flushes";
+
+  /** Counts the menus and popovers positioning. */
+  public static final String POPUPS_POSITIONED = "dui-popups-positioned";
+
+  /** Traces {@code DataTable} rows rendering. */
+  public static final String TRACE_ADD_ROWS = "dui:DataTable.addRows";
+
+  /** Traces the {@code DataTablePlugin.onAllRowsAdded} hooks. */
+  public static final String TRACE_PLUGINS_ROWS_ADDED = "dui:DataTablePlugin.onAllRowsAdded";
+
+  /** Traces the body mutation observer callbacks. */
+  public static final String TRACE_BODY_OBSERVER = "dui:BodyObserver.callback";
+
+  /** Traces the dynamic style sheets flushes. */
+  public static final String TRACE_STYLE_FLUSH = "dui:DynamicStyleSheet.flush";
+
+  /** Traces the menus and popovers positioning. */
+  public static final String TRACE_POPUP_POSITION = "dui:Popup.position";
+
+  private static final Map<String, int[]> counters = new HashMap<>();
+  private static final Map<String, double[]> measures = new HashMap<>();
+  private static final List<TraceListener> listeners = new ArrayList<>();
+  private static boolean enabled = false;
+  private static boolean keepMeasures = false;
+  private static Boolean userTimingSupported;
+  private static int traceId = 0;
+
+  private PerformanceTracer() {}
+
+  /**
+   * @return true if the tracing is enabled.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  static void setEnabled(boolean enabled) {
+    PerformanceTracer.enabled = enabled;
+  }
+
+  /**
+   * @return true if the User Timing measures are kept in the performance buffer.
+   */
+  public static boolean isKeepMeasures() {
+    return keepMeasures;
+  }
+
+  /**
+   * Keeps the User Timing measures in the performance buffer instead of clearing them once
+   * aggregated, the buffer then grows with every traced operation while tracing is enabled.
+   *
+   * @param keepMeasures true to keep the measures, defaults to false.
+   */
+  public static void setKeepMeasures(boolean keepMeasures) {
+    PerformanceTracer.keepMeasures = keepMeasures;
+  }
+
+  /**
+   * Starts tracing an operation, call {@link Trace#end()} when the operation completes. Returns a
+   * shared no-op trace when the tracing is disabled.
+   *
+   * @param name The operation name, used as the User Timing measure name.
+   * @return the started {@link Trace}.
+   */
+  public static Trace start(String name) {
+    if (!enabled) {
+      return Trace.NONE;
+    }
+    return new Trace(name);
+  }
+
+  /**
+   * Increments a counter by one if the tracing is enabled.
+   *
+   * @param counter The counter name.
+   */
+  public static void count(String counter) {
+    if (enabled) {
+      increment(counter, 1);
+    }
+  }
+
+  /**
+   * Increments a counter by the specified amount if the tracing is enabled.
+   *
+   * @param counter The counter name.
+   * @param delta The amount to add.
+   */
+  public static void count(String counter, int delta) {
+    if (enabled) {
+      increment(counter, delta);
+    }
+  }
+
+  private static void increment(String counter, int delta) {
+    int[] value = counters.get(counter);
+    if (isNull(value)) {
+      value = new int[1];
+      counters.put(counter, value);
+    }
+    value[0] += delta;
+  }
+
+  /**
+   * @return a copy of the current counters and measures.
+   */
+  public static Snapshot snapshot() {
+    Map<String, Integer> countersCopy = new HashMap<>();
+    counters.forEach((name, value) -> countersCopy.put(name, value[0]));
+    Map<String, Measure> measuresCopy = new HashMap<>();
+    measures.forEach(
+        (name, value) -> measuresCopy.put(name, new Measure((int) value[0], value[1], value[2])));
+    return new Snapshot(countersCopy, measuresCopy);
+  }
+
+  /** Resets all the counters and measures. */
+  public static void reset() {
+    counters.clear();
+    measures.clear();
+  }
+
+  /**
+   * Adds a listener to be called every time a traced operation completes.
+   *
+   * @param listener The listener.
+   * @return a {@link Register} to remove the listener.
+   */
+  public static Register addListener(TraceListener listener) {
+    listeners.add(listener);
+    return () -> listeners.remove(listener);
+  }
+
+  private static boolean isUserTimingSupported() {
+    if (isNull(userTimingSupported)) {
+      userTimingSupported =
+          Js.asPropertyMap(DomGlobal.performance).has("mark")
+              && Js.asPropertyMap(DomGlobal.performance).has("measure");
+    }
+    return userTimingSupported;
+  }
+
+  /** A running traced operation. */
+  public static class Trace {
+
+    private static final Trace NONE = new Trace();
+
+    private final String name;
+    private final String markName;
+    private final double startTime;
+
+    private Trace() {
+      this.name = null;
+      this.markName = null;
+      this.startTime = 0;
+    }
+
+    private Trace(String name) {
+      this.name = name;
+      this.startTime = DomGlobal.performance.now();
+      if (isUserTimingSupported()) {
+        this.markName = name + "#" + (++traceId);
+        DomGlobal.performance.mark(markName);
+      } else {
+        this.markName = null;
+      }
+    }
+
+    /** Ends the operation, recording its duration. */
+    public void end() {
+      if (this == NONE) {
+        return;
+      }
+      double duration = DomGlobal.performance.now() - startTime;
+      if (nonNull(markName)) {
+        DomGlobal.performance.measure(name, markName);
+        DomGlobal.performance.clearMarks(markName);
+        if (!keepMeasures) {
+          DomGlobal.performance.clearMeasures(name);
+        }
+      }
+      double[] measure = measures.get(name);
+      if (isNull(measure)) {
+        measure = new double[3];
+        measures.put(name, measure);
+      }
+      measure[0]++;
+      measure[1] += duration;
+      measure[2] = Math.max(measure[2], duration);
+      for (TraceListener listener : new ArrayList<>(listeners)) {
+        listener.onTrace(name, duration);
+      }
+    }
+  }
+
+  /** A listener called every time a traced operation completes. */
+  @FunctionalInterface
+  public interface TraceListener {
+    /**
+     * @param name The operation name.
+     * @param duration The operation duration in milliseconds.
+     */
+    void onTrace(String name, double duration);
+  }
+
+  /** The aggregated durations of a traced operation. */
+  public static class Measure {
+    private final int count;
+    private final double total;
+    private final double max;
+
+    private Measure(int count, double total, double max) {
+      this.count = count;
+      this.total = total;
+      this.max = max;
+    }
+
+    /**
+     * @return the number of times the operation was traced.
+     */
+    public int getCount() {
+      return count;
+    }
+
+    /**
+     * @return the total duration in milliseconds.
+     */
+    public double getTotal() {
+      return total;
+    }
+
+    /**
+     * @return the longest duration in milliseconds.
+     */
+    public double getMax() {
+      return max;
+    }
+
+    /**
+     * @return the average duration in milliseconds.
+     */
+    public double getAverage() {
+      return count > 0 ? total / count : 0;
+    }
+  }
+
+  /** A point in time copy of the counters and measures. */
+  public static class Snapshot {
+    private final Map<String, Integer> counters;
+    private final Map<String, Measure> measures;
+
+    private Snapshot(Map<String, Integer> counters, Map<String, Measure> measures) {
+      this.counters = Collections.unmodifiableMap(counters);
+      this.measures = Collections.unmodifiableMap(measures);
+    }
+
+    /**
+     * @param counter The counter name.
+     * @return the counter value, 0 if it was never incremented.
+     */
+    public int getCounter(String counter) {
+      return counters.getOrDefault(counter, 0);
+    }
+
+    /**
+     * @return all the counters by name.
+     */
+    public Map<String, Integer> getCounters() {
+      return counters;
+    }
+
+    /**
+     * @param name The operation name.
+     * @return the operation measure, or null if it was never traced.
+     */
+    public Measure getMeasure(String name) {
+      return measures.get(name);
+    }
+
+    /**
+     * @return all the measures by operation name.
+     */
+    public Map<String, Measure> getMeasures() {
+      return measures;
+    }
+  }
+}
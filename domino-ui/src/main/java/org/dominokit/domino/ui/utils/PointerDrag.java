@@ -0,0 +1,369 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.nonNull;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Event;
+import elemental2.dom.EventListener;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.PointerEvent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import jsinterop.base.Js;
+import org.dominokit.domino.ui.events.EventType;
+
+/**
+ * A drag gesture on an element built on pointer events, it works the same for mouse, touch and pen
+ * input.
+ *
+ * <p>The pointer is captured by the handle element when the drag starts so no listeners are added
+ * to the document body, and the pointer moves are coalesced so that the move handlers are called at
+ * most once per animation frame with the latest pointer position after applying the constraints.
+ *
+ * <pre>
+ * PointerDrag.of(handle.element())
+ *     .onStart(drag -&gt; startWidth = panel.getBoundingClientRect().width)
+ *     .addConstraint(drag -&gt; drag.setDeltaX(Math.max(drag.getDeltaX(), 20 - startWidth)))
+ *     .onMove(drag -&gt; panel.style.width = (startWidth + drag.getDeltaX()) + "px");
+ * </pre>
+ */
+public class PointerDrag {
+
+  private final HTMLElement handle;
+  private final List<DragHandler> startHandlers = new ArrayList<>();
+  private final List<DragHandler> moveHandlers = new ArrayList<>();
+  private final List<DragHandler> endHandlers = new ArrayList<>();
+  private final List<DragHandler> constraints = new ArrayList<>();
+  private Predicate<PointerEvent> startCondition = event -> true;
+
+  private final EventListener downListener = this::onPointerDown;
+  private final EventListener moveListener = this::onPointerMove;
+  private final EventListener upListener = this::onPointerUp;
+
+  private Drag drag;
+  private int frameHandle = -1;
+  private boolean enabled = true;
+
+  /**
+   * Creates a drag gesture for the specified handle element.
+   *
+   * @param handle The element that starts the drag when pressed.
+   * @return a new drag gesture attached to the handle.
+   */
+  public static PointerDrag of(HTMLElement handle) {
+    return new PointerDrag(handle);
+  }
+
+  /**
+   * Creates a drag gesture for the specified handle element.
+   *
+   * @param handle The element that starts the drag when pressed.
+   */
+  public PointerDrag(HTMLElement handle) {
+    this.handle = handle;
+    this.handle.style.setProperty("touch-action", "none");
+    this.handle.addEventListener(EventType.pointerdown.getName(), downListener);
+  }
+
+  /**
+   * Adds a handler called when a drag starts.
+   *
+   * @param handler The handler.
+   * @return same instance
+   */
+  public PointerDrag onStart(DragHandler handler) {
+    startHandlers.add(handler);
+    return this;
+  }
+
+  /**
+   * Adds a handler called at most once per animation frame while dragging.
+   *
+   * @param handler The handler.
+   * @return same instance
+   */
+  public PointerDrag onMove(DragHandler handler) {
+    moveHandlers.add(handler);
+    return this;
+  }
+
+  /**
+   * Adds a handler called when the drag ends, the pending move is applied before.
+   *
+   * @param handler The handler.
+   * @return same instance
+   */
+  public PointerDrag onEnd(DragHandler handler) {
+    endHandlers.add(handler);
+    return this;
+  }
+
+  /**
+   * Adds a constraint that can change the deltas of the drag using {@link Drag#setDeltaX(double)}
+   * and {@link Drag#setDeltaY(double)} before the move handlers are called, constraints are applied
+   * in the order they are added.
+   *
+   * @param constraint The constraint.
+   * @return same instance
+   */
+  public PointerDrag addConstraint(DragHandler constraint) {
+    constraints.add(constraint);
+    return this;
+  }
+
+  /**
+   * Sets a condition checked on pointer down, the drag starts only if it returns true. By default
+   * any primary pointer with the main button starts the drag.
+   *
+   * @param startCondition The condition.
+   * @return same instance
+   */
+  public PointerDrag setStartCondition(Predicate<PointerEvent> startCondition) {
+    this.startCondition = startCondition;
+    return this;
+  }
+
+  /**
+   * Enables or disables the drag, disabling it while dragging cancels the current drag.
+   *
+   * @param enabled true to enable the drag.
+   * @return same instance
+   */
+  public PointerDrag setEnabled(boolean enabled) {
+    this.enabled = enabled;
+    if (!enabled) {
+      cancel();
+    }
+    return this;
+  }
+
+  /**
+   * @return true if the drag is enabled.
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * @return true if a drag is in progress.
+   */
+  public boolean isDragging() {
+    return nonNull(drag);
+  }
+
+  /** Ends the current drag if any without calling the end handlers. */
+  public void cancel() {
+    if (isDragging()) {
+      finish(false);
+    }
+  }
+
+  /** Cancels the current drag if any and removes the listeners from the handle element. */
+  public void remove() {
+    cancel();
+    handle.removeEventListener(EventType.pointerdown.getName(), downListener);
+  }
+
+  private void onPointerDown(Event evt) {
+    PointerEvent event = Js.uncheckedCast(evt);
+    if (!enabled
+        || isDragging()
+        || !event.isPrimary
+        || event.button != 0
+        || !startCondition.test(event)) {
+      return;
+    }
+    evt.preventDefault();
+    drag = new Drag(event);
+    handle.setPointerCapture(event.pointerId);
+    handle.addEventListener(EventType.pointermove.getName(), moveListener);
+    handle.addEventListener(EventType.pointerup.getName(), upListener);
+    handle.addEventListener(EventType.pointercancel.getName(), upListener);
+    handle.addEventListener(EventType.lostpointercapture.getName(), upListener);
+    startHandlers.forEach(handler -> handler.handle(drag));
+  }
+
+  private void onPointerMove(Event evt) {
+    PointerEvent event = Js.uncheckedCast(evt);
+    if (!isDragging() || event.pointerId != drag.pointerId) {
+      return;
+    }
+    drag.update(event);
+    if (frameHandle < 0) {
+      frameHandle = DomGlobal.requestAnimationFrame(timestamp -> applyMove());
+    }
+  }
+
+  private void onPointerUp(Event evt) {
+    PointerEvent event = Js.uncheckedCast(evt);
+    if (!isDragging() || event.pointerId != drag.pointerId) {
+      return;
+    }
+    if (!EventType.lostpointercapture.getName().equals(evt.type)) {
+      drag.update(event);
+    }
+    finish(true);
+  }
+
+  private void applyMove() {
+    frameHandle = -1;
+    if (isDragging() && drag.moved) {
+      drag.moved = false;
+      drag.constrain();
+      constraints.forEach(constraint -> constraint.handle(drag));
+      moveHandlers.forEach(handler -> handler.handle(drag));
+    }
+  }
+
+  private void finish(boolean notify) {
+    if (frameHandle >= 0) {
+      DomGlobal.cancelAnimationFrame(frameHandle);
+    }
+    if (notify) {
+      applyMove();
+    }
+    frameHandle = -1;
+    Drag endedDrag = drag;
+    drag = null;
+    handle.removeEventListener(EventType.pointermove.getName(), moveListener);
+    handle.removeEventListener(EventType.pointerup.getName(), upListener);
+    handle.removeEventListener(EventType.pointercancel.getName(), upListener);
+    handle.removeEventListener(EventType.lostpointercapture.getName(), upListener);
+    if (handle.hasPointerCapture(endedDrag.pointerId)) {
+      handle.releasePointerCapture(endedDrag.pointerId);
+    }
+    if (notify) {
+      endHandlers.forEach(handler -> handler.handle(endedDrag));
+    }
+  }
+
+  /** The state of a drag gesture. */
+  public static class Drag {
+    private final int pointerId;
+    private final double startX;
+    private final double startY;
+    private double clientX;
+    private double clientY;
+    private double deltaX;
+    private double deltaY;
+    private boolean moved;
+    private PointerEvent event;
+
+    private Drag(PointerEvent event) {
+      this.pointerId = event.pointerId;
+      this.startX = event.clientX;
+      this.startY = event.clientY;
+      this.clientX = event.clientX;
+      this.clientY = event.clientY;
+      this.event = event;
+    }
+
+    private void update(PointerEvent event) {
+      this.event = event;
+      this.clientX = event.clientX;
+      this.clientY = event.clientY;
+      this.moved = true;
+    }
+
+    private void constrain() {
+      this.deltaX = clientX - startX;
+      this.deltaY = clientY - startY;
+    }
+
+    /**
+     * @return the horizontal pointer position when the drag started.
+     */
+    public double getStartX() {
+      return startX;
+    }
+
+    /**
+     * @return the vertical pointer position when the drag started.
+     */
+    public double getStartY() {
+      return startY;
+    }
+
+    /**
+     * @return the latest horizontal pointer position.
+     */
+    public double getClientX() {
+      return clientX;
+    }
+
+    /**
+     * @return the latest vertical pointer position.
+     */
+    public double getClientY() {
+      return clientY;
+    }
+
+    /**
+     * @return the horizontal distance from the start position after applying the constraints.
+     */
+    public double getDeltaX() {
+      return deltaX;
+    }
+
+    /**
+     * Changes the horizontal distance, to be used from constraints.
+     *
+     * @param deltaX The new horizontal distance.
+     * @return same instance
+     */
+    public Drag setDeltaX(double deltaX) {
+      this.deltaX = deltaX;
+      return this;
+    }
+
+    /**
+     * @return the vertical distance from the start position after applying the constraints.
+     */
+    public double getDeltaY() {
+      return deltaY;
+    }
+
+    /**
+     * Changes the vertical distance, to be used from constraints.
+     *
+     * @param deltaY The new vertical distance.
+     * @return same instance
+     */
+    public Drag setDeltaY(double deltaY) {
+      this.deltaY = deltaY;
+      return this;
+    }
+
+    /**
+     * @return the latest pointer event of the drag.
+     */
+    public PointerEvent getEvent() {
+      return event;
+    }
+  }
+
+  /** A handler for the drag gesture phases. */
+  @FunctionalInterface
+  public interface DragHandler {
+    /**
+     * @param drag The current drag state.
+     */
+    void handle(Drag drag);
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import elemental2.core.JsArray;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import java.util.ArrayList;
+import java.util.List;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * A single, application wide {@link ResizeObserver} that dispatches size changes to the listeners
+ * of the observed elements.
+ *
+ * <p>Size changes are collected and dispatched once per animation frame, only the latest entry of
+ * each element is delivered. When a dispatched element is no longer connected to the document it is
+ * unobserved and its listener {@link ResizeListener#onDetached(Element)} is called, so no attach or
+ * detach mutation observer is needed to release the observed elements.
+ *
+ * <p>The {@link ResizeObserver} passed to the listeners is shared, it must not be disconnected.
+ */
+public final class SharedResizeObserver {
+
+  private static final String LISTENER_KEY = "dui-shared-resize-listener";
+  private static final String PENDING_ENTRY_KEY = "dui-shared-resize-entry";
+
+  private static ResizeObserver resizeObserver;
+  private static List<Element> pendingTargets = new ArrayList<>();
+  private static boolean flushScheduled = false;
+
+  private SharedResizeObserver() {}
+
+  /**
+   * Starts observing the size changes of the target element, replacing any listener previously
+   * registered for the same element.
+   *
+   * @param target The element to observe.
+   * @param listener The listener to be notified when the element size changes.
+   */
+  public static void observe(Element target, ResizeListener listener) {
+    Js.asPropertyMap(target).set(LISTENER_KEY, listener);
+    getResizeObserver().observe(target);
+  }
+
+  /**
+   * Stops observing the size changes of the target element.
+   *
+   * @param target The element to stop observing.
+   */
+  public static void unobserve(Element target) {
+    JsPropertyMap<Object> properties = Js.asPropertyMap(target);
+    properties.delete(LISTENER_KEY);
+    properties.delete(PENDING_ENTRY_KEY);
+    if (nonNull(resizeObserver)) {
+      resizeObserver.unobserve(target);
+    }
+  }
+
+  /**
+   * @param target The element to check.
+   * @return true if the element size changes are being observed.
+   */
+  public static boolean isObserved(Element target) {
+    return Js.asPropertyMap(target).has(LISTENER_KEY);
+  }
+
+  private static ResizeObserver getResizeObserver() {
+    if (isNull(resizeObserver)) {
+      resizeObserver = new ResizeObserver(SharedResizeObserver::onEntries);
+    }
+    return resizeObserver;
+  }
+
+  private static void onEntries(JsArray<ResizeObserverEntry> entries) {
+    for (int index = 0; index < entries.length; index++) {
+      ResizeObserverEntry entry = entries.getAt(index);
+      JsPropertyMap<Object> properties = Js.asPropertyMap(entry.target);
+      if (properties.has(LISTENER_KEY)) {
+        if (!properties.has(PENDING_ENTRY_KEY)) {
+          pendingTargets.add(entry.target);
+        }
+        properties.set(PENDING_ENTRY_KEY, entry);
+      }
+    }
+    if (!flushScheduled && !pendingTargets.isEmpty()) {
+      flushScheduled = true;
+      DomGlobal.requestAnimationFrame(timestamp -> flush());
+    }
+  }
+
+  private static void flush() {
+    flushScheduled = false;
+    List<Element> targets = pendingTargets;
+    pendingTargets = new ArrayList<>();
+    for (Element target : targets) {
+      JsPropertyMap<Object> properties = Js.asPropertyMap(target);
+      ResizeObserverEntry entry = Js.uncheckedCast(properties.get(PENDING_ENTRY_KEY));
+      ResizeListener listener = Js.uncheckedCast(properties.get(LISTENER_KEY));
+      properties.delete(PENDING_ENTRY_KEY);
+      if (isNull(listener) || isNull(entry)) {
+        continue;
+      }
+      if (!target.isConnected) {
+        unobserve(target);
+        listener.onDetached(target);
+        continue;
+      }
+      listener.onResize(resizeObserver, new JsArray<>(entry));
+    }
+  }
+
+  /** A listener for the size changes of an element observed by {@link SharedResizeObserver}. */
+  public interface ResizeListener {
+    /**
+     * Called once per frame at most with the latest size of the observed element.
+     *
+     * @param observer The shared resize observer.
+     * @param entries The entries of the observed element.
+     */
+    void onResize(ResizeObserver observer, JsArray<ResizeObserverEntry> entries);
+
+    /**
+     * Called when the observed element was found detached from the document, the element is no
+     * longer observed.
+     *
+     * @param target The detached element.
+     */
+    default void onDetached(Element target) {}
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.style.GenericCss.dui_paused;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import java.util.ArrayList;
+import java.util.List;
+import jsinterop.base.Js;
+import org.dominokit.domino.ui.style.BooleanCssClass;
+
+/**
+ * Tracks whether elements are actually visible to the user so components can suspend their timers
+ * and animations while they are scrolled off-screen, inside a hidden container such as an inactive
+ * tab, or while the browser tab itself is in the background.
+ *
+ * <p>The visibility combines the Page Visibility API with a single shared {@link
+ * IntersectionObserver} for all watched elements. An element is considered visible until told
+ * otherwise, when {@code IntersectionObserver} is not supported only the page visibility is used.
+ *
+ * <pre>
+ * Register register =
+ *     VisibilityScheduler.observe(carousel, visible -&gt; {
+ *       if (visible) { timer.scheduleRepeating(3000); } else { timer.cancel(); }
+ *     });
+ * </pre>
+ */
+public class VisibilityScheduler {
+
+  private static final List<Watch> watches = new ArrayList<>();
+  private static IntersectionObserver intersectionObserver;
+  private static boolean initialized = false;
+  private static boolean pageVisible = true;
+
+  private VisibilityScheduler() {}
+
+  private static void init() {
+    if (initialized) {
+      return;
+    }
+    initialized = true;
+    pageVisible = !DomGlobal.document.hidden;
+    DomGlobal.document.addEventListener(
+        "visibilitychange",
+        evt -> {
+          pageVisible = !DomGlobal.document.hidden;
+          new ArrayList<>(watches).forEach(Watch::update);
+        });
+    if (Js.asPropertyMap(DomGlobal.window).has("IntersectionObserver")) {
+      intersectionObserver =
+          new IntersectionObserver(
+              entries -> {
+                for (IntersectionObserverEntry entry : entries.asList()) {
+                  for (Watch watch : new ArrayList<>(watches)) {
+                    if (watch.element == entry.getTarget()) {
+                      watch.intersecting = entry.getIsIntersecting();
+                      watch.update();
+                    }
+                  }
+                }
+              },
+              IntersectionObserverOptions.create());
+    }
+  }
+
+  /**
+   * @return true if the browser tab is currently visible.
+   */
+  public static boolean isPageVisible() {
+    init();
+    return pageVisible;
+  }
+
+  /**
+   * Starts watching the visibility of the specified element, the listener is only called when the
+   * visibility changes. The caller is responsible for calling {@link Watch#remove()} when the
+   * element is no longer needed.
+   *
+   * @param element The element to watch.
+   * @param listener The listener to be called when the element visibility changes.
+   * @return The {@link Watch} registration.
+   */
+  public static Watch watch(Element element, VisibilityListener listener) {
+    init();
+    Watch watch = new Watch(element, listener);
+    watches.add(watch);
+    if (nonNull(intersectionObserver)) {
+      intersectionObserver.observe(element);
+    }
+    watch.update();
+    return watch;
+  }
+
+  /**
+   * Watches the visibility of the specified component only while it is attached to the DOM. When
+   * the component is detached while hidden the listener is not called, it is called with {@code
+   * true} once the component is attached again and visible, or when the returned {@link Register}
+   * is removed.
+   *
+   * @param element The component to watch.
+   * @param listener The listener to be called when the component visibility changes.
+   * @return a {@link Register} to stop watching the component.
+   */
+  public static Register observe(BaseDominoElement<?, ?> element, VisibilityListener listener) {
+    Watch[] current = new Watch[1];
+    boolean[] hidden = new boolean[1];
+    VisibilityListener trackingListener =
+        visible -> {
+          if (hidden[0] == visible) {
+            hidden[0] = !visible;
+            listener.onVisibilityChanged(visible);
+          }
+        };
+    Runnable restore =
+        () -> {
+          if (hidden[0]) {
+            hidden[0] = false;
+            listener.onVisibilityChanged(true);
+          }
+        };
+    Runnable start =
+        () -> {
+          if (isNull(current[0])) {
+            current[0] = watch(element.element(), trackingListener);
+            if (current[0].isVisible()) {
+              restore.run();
+            }
+          }
+        };
+    Runnable stop =
+        () -> {
+          if (nonNull(current[0])) {
+            current[0].remove();
+            current[0] = null;
+          }
+        };
+    Register attachRegister = element.registerOnAttached(mutationRecord -> start.run());
+    Register detachRegister = element.registerOnDetached(mutationRecord -> stop.run());
+    if (element.isAttached()) {
+      start.run();
+    }
+    return () -> {
+      attachRegister.remove();
+      detachRegister.remove();
+      stop.run();
+      restore.run();
+    };
+  }
+
+  /**
+   * Pauses the CSS animations of the component and its children, by applying the {@code dui-paused}
+   * css class, while the component is attached but not visible.
+   *
+   * @param element The component to pause.
+   * @return a {@link Register} to stop watching the component.
+   */
+  public static Register pauseAnimationsWhenHidden(BaseDominoElement<?, ?> element) {
+    return observe(
+        element, visible -> BooleanCssClass.of(dui_paused, !visible).apply(element.element()));
+  }
+
+  /** A listener to be called when the visibility of a watched element changes. */
+  @FunctionalInterface
+  public interface VisibilityListener {
+    /**
+     * @param visible true if the element became visible, false if it became hidden.
+     */
+    void onVisibilityChanged(boolean visible);
+  }
+
+  /** A registration for a watched element. */
+  public static class Watch implements Register {
+    private final Element element;
+    private final VisibilityListener listener;
+    private boolean intersecting = true;
+    private boolean visible = true;
+    private boolean removed = false;
+
+    private Watch(Element element, VisibilityListener listener) {
+      this.element = element;
+      this.listener = listener;
+    }
+
+    private void update() {
+      boolean newVisible = pageVisible && intersecting;
+      if (!removed && newVisible != visible) {
+        visible = newVisible;
+        listener.onVisibilityChanged(visible);
+      }
+    }
+
+    /**
+     * @return true if the watched element is currently visible.
+     */
+    public boolean isVisible() {
+      return visible;
+    }
+
+    /**
+     * Stops watching the element, the listener is not called even if the element was hidden so a
+     * detached component does not resume what it suspended.
+     */
+    @Override
+    public void remove() {
+      if (removed) {
+        return;
+      }
+      watches.remove(this);
+      if (nonNull(intersectionObserver)
+          && watches.stream().noneMatch(watch -> watch.element == element)) {
+        intersectionObserver.unobserve(element);
+      }
+      removed = true;
+    }
+  }
+}
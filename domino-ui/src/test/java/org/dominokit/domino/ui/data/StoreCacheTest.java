@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.data;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class StoreCacheTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldMergeDelta() {
+    List<String> merged =
+        StoreCache.merge(
+            Arrays.asList("a1", "b1", "c1"),
+            Arrays.asList("b2", "d1"),
+            Collections.singletonList("c"),
+            record -> record.substring(0, 1));
+
+    assertEquals(Arrays.asList("a1", "b2", "d1"), merged);
+  }
+
+  public void testShouldServeReconciledDataAndCacheIt() {
+    StoreCache<String> cache =
+        StoreCache.create("dui-test-" + System.currentTimeMillis(), value -> value, value -> value)
+            .setKeyProvider(record -> record.substring(0, 1));
+    List<List<String>> served = new ArrayList<>();
+    delayTestFinish(5000);
+
+    cache.warmStart(
+        served::add,
+        (cachedVersion, callback) -> {
+          assertNull(cachedVersion);
+          callback.replace(Arrays.asList("a1", "b1"), "v1");
+          assertEquals(1, served.size());
+          assertEquals(Arrays.asList("a1", "b1"), served.get(0));
+          if (!StoreCache.isSupported()) {
+            finishTest();
+            return;
+          }
+          StoreCache<String> reloaded =
+              StoreCache.create(cache.getKey(), Function.identity(), Function.identity())
+                  .setKeyProvider(record -> record.substring(0, 1));
+          List<List<String>> reloadedData = new ArrayList<>();
+          reloaded.warmStart(
+              reloadedData::add,
+              (version, reloadCallback) -> {
+                if (version == null) {
+                  // IndexedDB exists but can not persist in this environment.
+                  finishTest();
+                  return;
+                }
+                assertEquals("v1", version);
+                assertEquals(Arrays.asList("a1", "b1"), reloadedData.get(0));
+                reloadCallback.delta(Collections.singletonList("c1"), null, "v2");
+                assertEquals(Arrays.asList("a1", "b1", "c1"), reloadedData.get(1));
+                reloaded.remove();
+                finishTest();
+              });
+        });
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.DomGlobal;
+import java.util.Arrays;
+import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+
+public class ChunkedRenderingTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtSetUp() {
+    DataTableTestHelper.polyfillCssEscape();
+  }
+
+  public void testShouldDrawRowsInChunksAndCancelOnNewerData() {
+    TableConfig<String> tableConfig =
+        new TableConfig<String>().setChunkedRendering(true).setRenderingSliceBudget(0);
+    tableConfig.addColumn(ColumnConfig.<String>create("name").setValue(value -> value));
+    LocalListDataStore<String> store = new LocalListDataStore<>();
+    DataTable<String> table = new DataTable<>(tableConfig, store);
+    DomGlobal.document.body.appendChild(table.element());
+    int[] updates = new int[1];
+    table.addTableEventListener(TableDataUpdatedEvent.DATA_UPDATED, event -> updates[0]++);
+
+    store.setData(Arrays.asList("a", "b", "c", "d", "e"));
+    assertTrue(table.isRenderingRows());
+    assertEquals(1, table.getRows().size());
+    assertEquals(0, updates[0]);
+
+    store.setData(Arrays.asList("x", "y", "z"));
+    assertEquals(1, table.getRows().size());
+
+    delayTestFinish(5000);
+    DataTableTestHelper.waitUntil(
+        () -> !table.isRenderingRows(),
+        () -> {
+          assertEquals(3, table.getRows().size());
+          assertEquals("z", table.getRows().get(2).getRecord());
+          assertEquals(3, table.bodyElement().element().childElementCount);
+          assertEquals(1, updates[0]);
+          table.remove();
+          finishTest();
+        });
+  }
+}
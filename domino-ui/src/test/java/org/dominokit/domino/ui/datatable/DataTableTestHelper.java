@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import elemental2.dom.DomGlobal;
+import java.util.function.BooleanSupplier;
+import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+import org.gwtproject.timer.client.Timer;
+
+/** Shared setup and waiting helpers for the data table tests. */
+final class DataTableTestHelper {
+
+  private static final int POLL_INTERVAL = 20;
+
+  private DataTableTestHelper() {}
+
+  /** HtmlUnit does not implement CSS.escape used by the table dynamic style sheet. */
+  static void polyfillCssEscape() {
+    JsPropertyMap<Object> css = Js.asPropertyMap(DomGlobal.window).getAsAny("CSS").asPropertyMap();
+    if (!css.has("escape")) {
+      css.set("escape", (Escape) value -> value);
+    }
+  }
+
+  /**
+   * Polls the condition until it is met then runs the assertions, the test timeout set with {@code
+   * delayTestFinish} fails the test if the condition is never met.
+   *
+   * @param condition The condition to wait for.
+   * @param then The assertions to run once the condition is met.
+   */
+  static void waitUntil(BooleanSupplier condition, Runnable then) {
+    new Timer() {
+      @Override
+      public void run() {
+        if (condition.getAsBoolean()) {
+          cancel();
+          then.run();
+        }
+      }
+    }.scheduleRepeating(POLL_INTERVAL);
+  }
+
+  @JsFunction
+  private interface Escape {
+    String escape(String value);
+  }
+}
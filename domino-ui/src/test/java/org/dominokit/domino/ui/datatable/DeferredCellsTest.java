@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.CustomEvent;
+import elemental2.dom.DomGlobal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+import org.dominokit.domino.ui.utils.ObserverEventType;
+import org.gwtproject.timer.client.Timer;
+
+public class DeferredCellsTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtSetUp() {
+    DataTableTestHelper.polyfillCssEscape();
+  }
+
+  public void testShouldRenderDeferredCellsLater() {
+    TableConfig<String> tableConfig = new TableConfig<>();
+    tableConfig
+        .addColumn(ColumnConfig.<String>create("eager").setValue(value -> value))
+        .addColumn(
+            ColumnConfig.<String>create("deferred")
+                .setDeferred(true)
+                .setValue(value -> value.toUpperCase()));
+    LocalListDataStore<String> store = new LocalListDataStore<>();
+    DataTable<String> table = new DataTable<>(tableConfig, store);
+    DomGlobal.document.body.appendChild(table.element());
+    store.setData(Arrays.asList("a", "b"));
+
+    TableRow<String> row = table.getRows().get(0);
+    assertEquals("a", row.getCell("eager").element().textContent);
+    assertTrue(row.getCell("deferred").isDeferredPending());
+    assertEquals("", row.getCell("deferred").element().textContent);
+
+    delayTestFinish(5000);
+    DataTableTestHelper.waitUntil(
+        () -> !table.getRows().get(1).getCell("deferred").isDeferredPending(),
+        () -> {
+          assertFalse(row.getCell("deferred").isDeferredPending());
+          assertEquals("A", row.getCell("deferred").element().textContent);
+          assertEquals("B", table.getRows().get(1).getCell("deferred").element().textContent);
+          table.remove();
+          finishTest();
+        });
+  }
+
+  public void testShouldRenderDeferredCellsOfTableAttachedLater() {
+    List<String> afterAddContent = new ArrayList<>();
+    TableConfig<String> tableConfig = new TableConfig<>();
+    tableConfig
+        .addColumn(
+            ColumnConfig.<String>create("deferred")
+                .setDeferred(true)
+                .setValue(value -> value.toUpperCase()))
+        .addPlugin(
+            new DataTablePlugin<String>() {
+              @Override
+              public void onAfterAddCell(
+                  DataTable<String> dataTable, TableRow<String> tableRow, RowCell<String> rowCell) {
+                afterAddContent.add(rowCell.element().textContent);
+              }
+            });
+    LocalListDataStore<String> store = new LocalListDataStore<>();
+    DataTable<String> table = new DataTable<>(tableConfig, store);
+    store.setData(Arrays.asList("a", "b"));
+    assertTrue(afterAddContent.isEmpty());
+
+    delayTestFinish(5000);
+    // let the idle slices run while the table is still detached, like a table in a hidden tab.
+    new Timer() {
+      @Override
+      public void run() {
+        TableRow<String> row = table.getRows().get(0);
+        assertTrue(row.getCell("deferred").isDeferredPending());
+        assertTrue(row.getCell("deferred").containsCss("dui-datatable-td-deferred"));
+        DomGlobal.document.body.appendChild(table.element());
+        // HtmlUnit does not run the body mutation observer, dispatch the attach events directly.
+        table
+            .getRows()
+            .forEach(
+                tableRow ->
+                    tableRow
+                        .element()
+                        .dispatchEvent(
+                            new CustomEvent<>(ObserverEventType.attachedType(tableRow))));
+        DataTableTestHelper.waitUntil(
+            () -> !table.getRows().get(1).getCell("deferred").isDeferredPending(),
+            () -> {
+              assertEquals("A", row.getCell("deferred").element().textContent);
+              assertEquals(Arrays.asList("A", "B"), afterAddContent);
+              table.remove();
+              finishTest();
+            });
+      }
+    }.schedule(300);
+  }
+}
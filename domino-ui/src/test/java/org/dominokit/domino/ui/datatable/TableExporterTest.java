@@ -0,0 +1,177 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.Blob;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.dominokit.domino.ui.data.StoreDataChangeListener;
+import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+
+public class TableExporterTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtSetUp() {
+    DataTableTestHelper.polyfillCssEscape();
+  }
+
+  public void testShouldStreamCsvInSlices() {
+    List<ColumnConfig<String[]>> columns =
+        Arrays.asList(
+            ColumnConfig.<String[]>create("name", "Name").setValue(record -> record[0]),
+            ColumnConfig.<String[]>create("note", "Note").setValue(record -> record[1]));
+    List<String[]> records =
+        Arrays.asList(
+            new String[] {"a", "plain"},
+            new String[] {"b", "x,y"},
+            new String[] {"c", "say \"hi\""},
+            new String[] {"d", null});
+    List<Integer> progress = new ArrayList<>();
+
+    TableExporter<String[]>.ExportTask task =
+        TableExporter.create(columns, records)
+            .setSliceBudget(0)
+            .onProgress((exported, total) -> progress.add(exported))
+            .toBlob();
+    assertFalse(task.isDone());
+
+    delayTestFinish(5000);
+    task.getResult()
+        .then(Blob::text)
+        .then(
+            text -> {
+              assertTrue(task.isDone());
+              assertEquals(Arrays.asList(1, 2, 3, 4), progress);
+              assertEquals(
+                  "Name,Note\r\na,plain\r\nb,\"x,y\"\r\nc,\"say \"\"hi\"\"\"\r\nd,\r\n", text);
+              finishTest();
+              return null;
+            });
+  }
+
+  public void testShouldRejectCancelledExport() {
+    List<ColumnConfig<String>> columns =
+        Arrays.asList(ColumnConfig.<String>create("name").setValue(record -> record));
+    TableExporter<String>.ExportTask task =
+        TableExporter.create(columns, Arrays.asList("a", "b", "c"))
+            .setFormat(TableExporter.Format.TSV)
+            .setSliceBudget(0)
+            .toBlob();
+    task.cancel();
+    assertTrue(task.isCancelled());
+
+    delayTestFinish(5000);
+    task.getResult()
+        .then(
+            blob -> {
+              fail("Cancelled export should not complete");
+              return null;
+            },
+            error -> {
+              assertFalse(task.isDone());
+              assertEquals(0, task.getExported());
+              finishTest();
+              return null;
+            });
+  }
+
+  public void testShouldCancelExportWhenStoreDataChanges() {
+    TableConfig<String> tableConfig = new TableConfig<>();
+    tableConfig.addColumn(ColumnConfig.<String>create("name").setValue(record -> record));
+    LocalListDataStore<String> store = new LocalListDataStore<>();
+    DataTable<String> table = new DataTable<>(tableConfig, store);
+    store.setData(Arrays.asList("a", "b", "c", "d"));
+
+    TableExporter<String>.ExportTask task =
+        TableExporter.create(table)
+            .setSliceBudget(0)
+            .onProgress(
+                (exported, total) -> {
+                  if (exported == 2) {
+                    store.setData(Arrays.asList("x"));
+                  }
+                })
+            .toBlob();
+
+    delayTestFinish(5000);
+    task.getResult()
+        .then(
+            blob -> {
+              fail("Export should be cancelled when the store data changes");
+              return null;
+            },
+            error -> {
+              assertTrue(task.isCancelled());
+              assertFalse(task.isDone());
+              assertEquals(2, task.getExported());
+              finishTest();
+              return null;
+            });
+  }
+
+  public void testShouldStopListeningWhenRecordsChangeWithoutNotifying() {
+    TableConfig<String> tableConfig = new TableConfig<>();
+    tableConfig.addColumn(ColumnConfig.<String>create("name").setValue(record -> record));
+    List<String> view = new ArrayList<>(Arrays.asList("a", "b", "c", "d"));
+    List<StoreDataChangeListener<String>> removed = new ArrayList<>();
+    LocalListDataStore<String> store =
+        new LocalListDataStore<String>() {
+          @Override
+          public List<String> getFilteredRecordsView() {
+            return view;
+          }
+
+          @Override
+          public void removeDataChangeListener(StoreDataChangeListener<String> dataChangeListener) {
+            removed.add(dataChangeListener);
+            super.removeDataChangeListener(dataChangeListener);
+          }
+        };
+    DataTable<String> table = new DataTable<>(tableConfig, store);
+
+    TableExporter<String>.ExportTask task =
+        TableExporter.create(table)
+            .setSliceBudget(0)
+            .onProgress(
+                (exported, total) -> {
+                  if (exported == 2) {
+                    view.remove(0);
+                  }
+                })
+            .toBlob();
+
+    delayTestFinish(5000);
+    task.getResult()
+        .then(
+            blob -> {
+              fail("Export should be cancelled when the records change");
+              return null;
+            },
+            error -> {
+              assertTrue(task.isCancelled());
+              assertEquals(1, removed.size());
+              finishTest();
+              return null;
+            });
+  }
+}
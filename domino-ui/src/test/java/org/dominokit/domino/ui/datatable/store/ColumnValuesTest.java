@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.ColumnValue;
+import org.dominokit.domino.ui.datatable.TableConfig;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.model.Category;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.FilterTypes;
+import org.dominokit.domino.ui.datatable.model.Operator;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+
+public class ColumnValuesTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldMemoizeValuesUntilInvalidated() {
+    int[] calls = new int[1];
+    ColumnValue<Item, Integer> value =
+        ColumnValue.<Item, Integer>of(
+                item -> {
+                  calls[0]++;
+                  return item.amount;
+                })
+            .setFormatter(amount -> "#" + amount);
+    Item item = new Item("a", 5);
+
+    assertEquals(Integer.valueOf(5), value.getValue(item));
+    assertEquals("#5", value.format(item));
+    assertEquals(Integer.valueOf(5), value.getComparableKey(item));
+    assertEquals(1, calls[0]);
+
+    item.amount = 7;
+    assertEquals(Integer.valueOf(5), value.getValue(item));
+    value.invalidate(item);
+    assertEquals("#7", value.format(item));
+    assertEquals(2, calls[0]);
+  }
+
+  public void testShouldFilterAndSortUsingColumnValues() {
+    TableConfig<Item> tableConfig = new TableConfig<>();
+    tableConfig
+        .addColumn(ColumnConfig.<Item>create("name").setValue(item -> item.name))
+        .addColumn(ColumnConfig.<Item>create("amount").setValue(item -> item.amount));
+    List<Item> items =
+        new ArrayList<>(Arrays.asList(new Item("b", 20), new Item("a", 5), new Item("c", 12)));
+    ColumnValuesSearchFilter<Item> filter = new ColumnValuesSearchFilter<>(tableConfig);
+    SearchEvent event =
+        new SearchEvent(
+            Collections.singletonList(
+                new Filter(
+                    "amount",
+                    FilterTypes.INTEGER,
+                    Operator.greaterThan,
+                    Collections.singletonList("10"),
+                    Category.HEADER_FILTER)));
+
+    List<String> matched = new ArrayList<>();
+    items.stream()
+        .filter(item -> filter.filterRecord(event, item))
+        .forEach(i -> matched.add(i.name));
+    assertEquals(Arrays.asList("b", "c"), matched);
+
+    items.sort(
+        new ColumnValuesRecordsSorter<>(tableConfig).onSortChange("amount", SortDirection.DESC));
+    assertEquals("b", items.get(0).name);
+    assertEquals("a", items.get(2).name);
+  }
+
+  private static class Item {
+    private final String name;
+    private int amount;
+
+    private Item(String name, int amount) {
+      this.name = name;
+      this.amount = amount;
+    }
+  }
+}
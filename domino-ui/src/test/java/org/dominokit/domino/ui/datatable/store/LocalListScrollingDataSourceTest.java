@@ -15,17 +15,19 @@
  */
 package org.dominokit.domino.ui.datatable.store;
 
-import static org.junit.Assert.assertEquals;
-
+import com.google.gwt.junit.client.GWTTestCase;
 import java.util.ArrayList;
 import java.util.List;
 import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
 import org.dominokit.domino.ui.datatable.plugins.pagination.BodyScrollPlugin;
-import org.junit.Test;
 
-public class LocalListScrollingDataSourceTest {
+public class LocalListScrollingDataSourceTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
 
-  @Test
   public void testLoadData() {
     List<Integer> data = new ArrayList<>();
     for (int i = 0; i < 50; i++) {
@@ -46,7 +48,6 @@ public class LocalListScrollingDataSourceTest {
     assertEquals(Integer.valueOf(9), loadedData.get(loadedData.size() - 1));
   }
 
-  @Test
   public void testInitialLoadedPages() {
     List<Integer> data = new ArrayList<>();
     for (int i = 0; i < 50; i++) {
@@ -68,7 +69,6 @@ public class LocalListScrollingDataSourceTest {
     assertEquals(Integer.valueOf(19), loadedData.get(loadedData.size() - 1));
   }
 
-  @Test
   public void testScrollingAppend() {
     List<Integer> data = new ArrayList<>();
     for (int i = 0; i < 50; i++) {
@@ -92,12 +92,11 @@ public class LocalListScrollingDataSourceTest {
     dataSource.handleEvent(new BodyScrollEvent(BodyScrollPlugin.ScrollPosition.BOTTOM));
 
     assertEquals(20, loadedData.size());
-    assertEquals(true, appendCalled[0]);
+    assertTrue(appendCalled[0]);
     assertEquals(Integer.valueOf(10), loadedData.get(10));
     assertEquals(Integer.valueOf(19), loadedData.get(19));
   }
 
-  @Test
   public void testProgrammaticPaginationUpdate() {
     List<Integer> data = new ArrayList<>();
     for (int i = 0; i < 50; i++) {
@@ -134,7 +133,6 @@ public class LocalListScrollingDataSourceTest {
     assertEquals(Integer.valueOf(19), loadedData.get(19));
   }
 
-  @Test
   public void testJumpToPageLoadsAllPreviousPages() {
     List<Integer> data = new ArrayList<>();
     for (int i = 0; i < 100; i++) {
@@ -162,4 +160,44 @@ public class LocalListScrollingDataSourceTest {
     assertEquals(Integer.valueOf(0), loadedData.get(0));
     assertEquals(Integer.valueOf(39), loadedData.get(39));
   }
+
+  public void testMaxResidentPages() {
+    List<Integer> data = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      data.add(i);
+    }
+
+    LocalListScrollingDataSource<Integer> dataSource =
+        new LocalListScrollingDataSource<>(data, 10).setMaxResidentPages(2);
+    final List<Integer> loadedData = new ArrayList<>();
+    dataSource.onDataChanged(
+        event -> {
+          if (!event.isAppend()) {
+            loadedData.clear();
+          }
+          loadedData.addAll(event.getNewData());
+        });
+
+    dataSource.load();
+    dataSource.handleEvent(new BodyScrollEvent(BodyScrollPlugin.ScrollPosition.BOTTOM));
+    assertEquals(20, loadedData.size());
+    assertEquals(1, dataSource.getFirstResidentPage());
+
+    dataSource.handleEvent(new BodyScrollEvent(BodyScrollPlugin.ScrollPosition.BOTTOM));
+    assertEquals(20, loadedData.size());
+    assertEquals(2, dataSource.getFirstResidentPage());
+    assertEquals(Integer.valueOf(10), loadedData.get(0));
+    assertEquals(Integer.valueOf(29), loadedData.get(19));
+
+    dataSource.handleEvent(new BodyScrollEvent(BodyScrollPlugin.ScrollPosition.TOP));
+    assertEquals(20, loadedData.size());
+    assertEquals(1, dataSource.getFirstResidentPage());
+    assertEquals(2, dataSource.getPagination().activePage());
+    assertEquals(Integer.valueOf(0), loadedData.get(0));
+    assertEquals(Integer.valueOf(19), loadedData.get(19));
+
+    dataSource.handleEvent(new BodyScrollEvent(BodyScrollPlugin.ScrollPosition.TOP));
+    assertEquals(20, loadedData.size());
+    assertEquals(1, dataSource.getFirstResidentPage());
+  }
 }
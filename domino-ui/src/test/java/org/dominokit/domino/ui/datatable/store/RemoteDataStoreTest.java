@@ -0,0 +1,192 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+import org.gwtproject.timer.client.Timer;
+
+public class RemoteDataStoreTest extends GWTTestCase {
+
+  private final List<Integer> loadedData = new ArrayList<>();
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldLoadPageAndPrefetchNextPage() {
+    InMemoryPageFetcher<Integer> fetcher = new InMemoryPageFetcher<>(records(50));
+    RemoteDataStore<Integer> store = createStore(fetcher);
+
+    store.load();
+
+    assertEquals(10, loadedData.size());
+    assertEquals(Integer.valueOf(0), loadedData.get(0));
+    assertEquals(Integer.valueOf(9), loadedData.get(9));
+    assertEquals(50, store.getTotalCount());
+    assertEquals(2, fetcher.getFetchCount());
+  }
+
+  public void testShouldServeCachedPagesWithoutFetching() {
+    InMemoryPageFetcher<Integer> fetcher = new InMemoryPageFetcher<>(records(50));
+    RemoteDataStore<Integer> store = createStore(fetcher);
+
+    store.load();
+    store.loadPage(1);
+
+    assertEquals(Integer.valueOf(10), loadedData.get(0));
+    assertEquals(3, fetcher.getFetchCount());
+
+    store.loadPage(0);
+
+    assertEquals(Integer.valueOf(0), loadedData.get(0));
+    assertEquals(3, fetcher.getFetchCount());
+  }
+
+  public void testShouldNotServePagesCachedWithAnotherPageSize() {
+    InMemoryPageFetcher<Integer> fetcher = new InMemoryPageFetcher<>(records(50));
+    RemoteDataStore<Integer> store = createStore(fetcher);
+    store.setPrefetchPages(0);
+
+    store.loadPage(1);
+    assertEquals(Integer.valueOf(10), loadedData.get(0));
+
+    store.setPageSize(20);
+    store.loadPage(1);
+
+    assertEquals(20, loadedData.size());
+    assertEquals(Integer.valueOf(20), loadedData.get(0));
+    assertEquals(2, fetcher.getFetchCount());
+  }
+
+  public void testShouldNotPrefetchBeyondTheLastPage() {
+    InMemoryPageFetcher<Integer> fetcher = new InMemoryPageFetcher<>(records(15));
+    RemoteDataStore<Integer> store = createStore(fetcher);
+
+    store.loadPage(1);
+    store.loadPage(1);
+
+    assertEquals(5, loadedData.size());
+    assertEquals(2, fetcher.getFetchCount());
+  }
+
+  public void testShouldIgnoreSupersededResponses() {
+    List<Runnable> pending = new ArrayList<>();
+    List<PageRequest> requests = new ArrayList<>();
+    InMemoryPageFetcher<Integer> fetcher = new InMemoryPageFetcher<>(records(100));
+    RemoteDataStore<Integer> store =
+        createStore(
+            (request, callback) -> {
+              requests.add(request);
+              pending.add(() -> fetcher.fetch(request, callback));
+            });
+    store.setPrefetchPages(0);
+
+    store.loadPage(0);
+    store.loadPage(5);
+
+    assertEquals(2, requests.size());
+    assertTrue(requests.get(0).isAborted());
+    assertFalse(requests.get(1).isAborted());
+
+    pending.forEach(Runnable::run);
+
+    assertEquals(Integer.valueOf(50), loadedData.get(0));
+  }
+
+  public void testShouldCoalesceSortEvents() {
+    InMemoryPageFetcher<Integer> fetcher =
+        new InMemoryPageFetcher<>(records(50))
+            .setRecordsSorter(
+                (sortBy, direction) ->
+                    SortDirection.ASC.equals(direction)
+                        ? Comparator.<Integer>naturalOrder()
+                        : Comparator.<Integer>reverseOrder());
+    RemoteDataStore<Integer> store = createStore(fetcher);
+    store.setQueryDelay(50);
+    store.load();
+
+    ColumnConfig<Integer> column = ColumnConfig.create("value");
+    store.handleEvent(new SortEvent<>(SortDirection.ASC, column));
+    store.handleEvent(new SortEvent<>(SortDirection.DESC, column));
+    store.handleEvent(new SortEvent<>(SortDirection.ASC, column));
+    store.handleEvent(new SortEvent<>(SortDirection.DESC, column));
+
+    delayTestFinish(2000);
+    new Timer() {
+      @Override
+      public void run() {
+        assertEquals(4, fetcher.getFetchCount());
+        assertEquals(Integer.valueOf(49), loadedData.get(0));
+        finishTest();
+      }
+    }.schedule(200);
+  }
+
+  public void testShouldLoadPagesOfTheAppliedQueryWhileAQueryIsPending() {
+    InMemoryPageFetcher<Integer> fetcher =
+        new InMemoryPageFetcher<>(records(50))
+            .setRecordsSorter(
+                (sortBy, direction) ->
+                    SortDirection.ASC.equals(direction)
+                        ? Comparator.<Integer>naturalOrder()
+                        : Comparator.<Integer>reverseOrder());
+    RemoteDataStore<Integer> store = createStore(fetcher);
+    store.setPrefetchPages(0);
+    store.setQueryDelay(0);
+    ColumnConfig<Integer> column = ColumnConfig.create("value");
+    store.handleEvent(new SortEvent<>(SortDirection.ASC, column));
+
+    store.setQueryDelay(50);
+    store.handleEvent(new SortEvent<>(SortDirection.DESC, column));
+    store.loadPage(3);
+    assertEquals(Integer.valueOf(30), loadedData.get(0));
+    store.handleEvent(new SortEvent<>(SortDirection.ASC, column));
+
+    delayTestFinish(2000);
+    new Timer() {
+      @Override
+      public void run() {
+        assertEquals(Integer.valueOf(30), loadedData.get(0));
+        finishTest();
+      }
+    }.schedule(200);
+  }
+
+  private RemoteDataStore<Integer> createStore(PageFetcher<Integer> fetcher) {
+    RemoteDataStore<Integer> store = new RemoteDataStore<>(fetcher);
+    store.onDataChanged(
+        event -> {
+          loadedData.clear();
+          loadedData.addAll(event.getNewData());
+        });
+    return store;
+  }
+
+  private static List<Integer> records(int count) {
+    List<Integer> data = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      data.add(i);
+    }
+    return data;
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.core.Function;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import jsinterop.annotations.JsFunction;
+import jsinterop.base.Js;
+import jsinterop.base.JsArrayLike;
+import jsinterop.base.JsPropertyMap;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
+import org.dominokit.domino.ui.datatable.ColumnValue;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.events.TablePageChangeEvent;
+import org.dominokit.domino.ui.datatable.model.Category;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.FilterTypes;
+import org.dominokit.domino.ui.datatable.model.Operator;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+import org.dominokit.domino.ui.pagination.SimplePagination;
+
+public class WorkerListDataStoreTest extends GWTTestCase {
+
+  private final List<Integer> loadedData = new ArrayList<>();
+  private int loadedTotal;
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldLoadFirstPage() {
+    WorkerListDataStore<Integer> store = createStore(false);
+
+    store.load();
+
+    assertEquals(10, loadedData.size());
+    assertEquals(Integer.valueOf(0), loadedData.get(0));
+    assertEquals(Integer.valueOf(9), loadedData.get(9));
+    assertEquals(50, loadedTotal);
+  }
+
+  public void testShouldSortByColumnAndKeepThePage() {
+    SimplePagination pagination = SimplePagination.create().setPageSize(10);
+    WorkerListDataStore<Integer> store = createStore(false).setPagination(pagination);
+    store.load();
+    pagination.gotoPage(2, true);
+    store.handleEvent(new TablePageChangeEvent(2, pagination));
+
+    store.handleEvent(new SortEvent<>(SortDirection.DESC, ColumnConfig.create("value")));
+
+    assertEquals(Integer.valueOf(39), loadedData.get(0));
+    assertEquals(Integer.valueOf(30), loadedData.get(9));
+    assertEquals(2, pagination.activePage());
+  }
+
+  public void testShouldSearchTextColumnsAndApplyHeaderFilters() {
+    WorkerListDataStore<Integer> store = createStore(false);
+
+    store.handleEvent(
+        new SearchEvent(
+            new ArrayList<>(
+                Arrays.asList(
+                    Filter.create("*", "ITEM 1", Category.SEARCH),
+                    new Filter(
+                        "value",
+                        FilterTypes.INTEGER,
+                        Operator.greaterThan,
+                        Arrays.asList("12"),
+                        Category.HEADER_FILTER),
+                    Filter.create("even", "true", Category.HEADER_FILTER, FilterTypes.BOOLEAN)))));
+
+    assertEquals(Arrays.asList(14, 16, 18), loadedData);
+    assertEquals(3, loadedTotal);
+  }
+
+  public void testShouldSortColumnValuesByComparableKey() {
+    ColumnConfig<Integer> rank =
+        ColumnConfig.<Integer>create("rank")
+            .setValue(
+                ColumnValue.<Integer, Integer>of(value -> value)
+                    .setComparableKey(value -> "key" + (900 - value)));
+    WorkerListDataStore<Integer> store = createStore(false).addColumn(rank);
+
+    store.handleEvent(new SortEvent<>(SortDirection.ASC, rank));
+    assertEquals(Integer.valueOf(49), loadedData.get(0));
+
+    store.handleEvent(
+        new SearchEvent(
+            new ArrayList<>(Arrays.asList(Filter.create("*", "key", Category.SEARCH)))));
+    assertEquals(0, loadedTotal);
+  }
+
+  // HtmlUnit cannot start the blob worker so this covers the fallback to the main thread, the
+  // worker script itself is covered by testWorkerScriptShouldMatchMainThreadEngine.
+  public void testShouldReturnSameResultsWhenWorkerIsEnabled() {
+    WorkerListDataStore<Integer> store = createStore(true);
+    store.onDataChanged(
+        event -> {
+          if (loadedTotal == 25) {
+            assertEquals(Integer.valueOf(48), loadedData.get(0));
+            assertEquals(Integer.valueOf(30), loadedData.get(9));
+            store.terminate();
+            finishTest();
+          }
+        });
+
+    delayTestFinish(5000);
+    store.handleEvent(new SortEvent<>(SortDirection.DESC, ColumnConfig.create("value")));
+    store.handleEvent(
+        new SearchEvent(
+            new ArrayList<>(
+                Arrays.asList(
+                    Filter.create("even", "true", Category.HEADER_FILTER, FilterTypes.BOOLEAN)))));
+  }
+
+  public void testWorkerScriptShouldMatchMainThreadEngine() {
+    List<Integer> records = new ArrayList<>();
+    for (int i = 0; i < 60; i++) {
+      records.add(i);
+    }
+    Map<String, java.util.function.Function<? super Integer, ?>> accessors = new LinkedHashMap<>();
+    accessors.put("value", value -> value % 17);
+    accessors.put("label", value -> value % 7 == 0 ? null : "Item " + value);
+    accessors.put("even", value -> value % 2 == 0);
+    accessors.put(ColumnQueryEngine.SORT_COLUMN_PREFIX + "rank", value -> "key" + (900 - value));
+    Map<String, Object[]> columns = ColumnQueryEngine.extract(records, accessors);
+    ColumnQueryEngine engine = new ColumnQueryEngine();
+    engine.setColumns(columns, records.size());
+    WorkerScript script = new WorkerScript();
+    script.send(ColumnQueryEngine.dataMessage(columns, records.size()));
+
+    List<List<Filter>> queries =
+        Arrays.asList(
+            Collections.emptyList(),
+            Collections.singletonList(Filter.create("*", "ITEM 1", Category.SEARCH)),
+            Collections.singletonList(
+                filter("value", FilterTypes.INTEGER, Operator.greaterThan, "12")),
+            Collections.singletonList(
+                filter("value", FilterTypes.INTEGER, Operator.between, "3", "5")),
+            Collections.singletonList(
+                filter("value", FilterTypes.INTEGER, Operator.containsAny, "1", "16")),
+            Collections.singletonList(filter("label", FilterTypes.STRING, Operator.is_Null)),
+            Collections.singletonList(
+                filter("label", FilterTypes.STRING, Operator.notEquals, "Item 3")),
+            Collections.singletonList(
+                filter("label", FilterTypes.STRING, Operator.startsWith, "item 2")),
+            Collections.singletonList(filter("label", FilterTypes.STRING, Operator.endsWith, "9")),
+            Collections.singletonList(filter("label", FilterTypes.STRING, Operator.notLike, "1")),
+            Arrays.asList(
+                filter("even", FilterTypes.BOOLEAN, Operator.isEqualTo, "true"),
+                filter("value", FilterTypes.INTEGER, Operator.lessThanOrEquals, "8")));
+    String[] sortFields = {null, "value", "label", "rank"};
+    int id = 0;
+    for (List<Filter> filters : queries) {
+      for (String sortField : sortFields) {
+        for (int direction : new int[] {1, -1}) {
+          int[] expected = engine.query(filters, sortField, direction);
+          script.send(ColumnQueryEngine.queryMessage(++id, filters, sortField, direction, 0, 0));
+          String query = filters + " sorted by " + sortField + " " + direction;
+          assertEquals(query, id, Js.coerceToInt(script.reply.get("id")));
+          assertEquals(query, expected.length, Js.coerceToInt(script.reply.get("total")));
+          assertEquals(query, toList(expected), toList(script.reply.get("indices")));
+        }
+      }
+    }
+
+    int[] expected = engine.query(Collections.emptyList(), "value", -1);
+    script.send(ColumnQueryEngine.queryMessage(++id, Collections.emptyList(), "value", -1, 10, 5));
+    assertEquals(expected.length, Js.coerceToInt(script.reply.get("total")));
+    assertEquals(toList(Arrays.copyOfRange(expected, 10, 15)), toList(script.reply.get("indices")));
+  }
+
+  private static Filter filter(
+      String field, FilterTypes type, Operator operator, String... values) {
+    return new Filter(field, type, operator, Arrays.asList(values), Category.HEADER_FILTER);
+  }
+
+  private static List<Integer> toList(int[] indices) {
+    List<Integer> list = new ArrayList<>();
+    for (int index : indices) {
+      list.add(index);
+    }
+    return list;
+  }
+
+  private static List<Integer> toList(Object indices) {
+    JsArrayLike<Object> array = Js.asArrayLike(indices);
+    List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < array.getLength(); i++) {
+      list.add(Js.coerceToInt(array.getAt(i)));
+    }
+    return list;
+  }
+
+  /**
+   * Evaluates {@link ColumnQueryEngine#WORKER_SCRIPT} on the main thread, with its own {@code
+   * onmessage} and {@code postMessage}, so it can be checked without a Web Worker.
+   */
+  private static class WorkerScript {
+    private final Function onMessage;
+    private JsPropertyMap<Object> reply;
+
+    private WorkerScript() {
+      Function script =
+          new Function(
+              "postMessage",
+              "var onmessage;\n"
+                  + ColumnQueryEngine.WORKER_SCRIPT
+                  + "return function (data) { onmessage({data: data}); };");
+      PostMessage postMessage = (data, transfer) -> reply = data;
+      onMessage = Js.uncheckedCast(script.call(null, postMessage));
+    }
+
+    private void send(JsPropertyMap<Object> message) {
+      reply = null;
+      onMessage.call(null, message);
+    }
+  }
+
+  @JsFunction
+  private interface PostMessage {
+    void postMessage(JsPropertyMap<Object> data, Object transfer);
+  }
+
+  private WorkerListDataStore<Integer> createStore(boolean useWorker) {
+    loadedData.clear();
+    List<Integer> records = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      records.add(i);
+    }
+    WorkerListDataStore<Integer> store =
+        new WorkerListDataStore<>(records)
+            .setUseWorker(useWorker)
+            .addColumn("value", value -> value)
+            .addColumn("label", value -> "Item " + value)
+            .addColumn("even", value -> value % 2 == 0)
+            .setPagination(SimplePagination.create().setPageSize(10));
+    store.onDataChanged(
+        event -> {
+          loadedData.clear();
+          loadedData.addAll(event.getNewData());
+          loadedTotal = event.getTotalCount();
+        });
+    return store;
+  }
+}
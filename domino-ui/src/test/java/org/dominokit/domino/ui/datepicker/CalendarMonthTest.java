@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datepicker;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.dominokit.domino.ui.style.BooleanCssClass;
+
+public class CalendarMonthTest extends GWTTestCase {
+
+  private static final String MARKER = "test-fifteenth-day";
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldRecreateDaysForPluginsDecoratingOnAdd() {
+    Calendar calendar =
+        Calendar.create(
+            new Date(124, 0, 10),
+            new CalendarInitConfig()
+                .addPlugin(
+                    new CalendarPlugin() {
+                      @Override
+                      public void onCalendarDayAdded(CalendarDay calendarDay) {
+                        if (calendarDay.getDate().getDate() == 15) {
+                          calendarDay.addCss(MARKER);
+                        }
+                      }
+                    }));
+    List<CalendarDay> januaryDays = monthViewDays(calendar);
+    assertMarkedOnlyTheFifteenth(januaryDays);
+
+    navigate(calendar, new Date(124, 1, 10));
+
+    List<CalendarDay> februaryDays = monthViewDays(calendar);
+    assertNotSame(januaryDays.get(0), februaryDays.get(0));
+    assertMarkedOnlyTheFifteenth(februaryDays);
+  }
+
+  public void testShouldReuseDaysWhenAllPluginsSupportIt() {
+    List<CalendarDay> updated = new ArrayList<>();
+    Calendar calendar =
+        Calendar.create(
+            new Date(124, 0, 10),
+            new CalendarInitConfig()
+                .addPlugin(
+                    new CalendarPlugin() {
+                      @Override
+                      public void onCalendarDayAdded(CalendarDay calendarDay) {
+                        onCalendarDayUpdated(calendarDay);
+                      }
+
+                      @Override
+                      public void onCalendarDayUpdated(CalendarDay calendarDay) {
+                        updated.add(calendarDay);
+                        calendarDay.addCss(
+                            BooleanCssClass.of(
+                                () -> MARKER, calendarDay.getDate().getDate() == 15));
+                      }
+
+                      @Override
+                      public boolean isDayRecyclingSupported() {
+                        return true;
+                      }
+                    }));
+    List<CalendarDay> januaryDays = monthViewDays(calendar);
+    updated.clear();
+
+    navigate(calendar, new Date(124, 1, 10));
+
+    List<CalendarDay> februaryDays = monthViewDays(calendar);
+    assertSame(januaryDays.get(0), februaryDays.get(0));
+    assertEquals(februaryDays.size(), updated.size());
+    assertMarkedOnlyTheFifteenth(februaryDays);
+  }
+
+  private static void navigate(Calendar calendar, Date date) {
+    calendar.element().dispatchEvent(CalendarCustomEvents.dateNavigationChanged(date.getTime()));
+  }
+
+  private static List<CalendarDay> monthViewDays(Calendar calendar) {
+    List<CalendarDay> days = new ArrayList<>();
+    calendar.withCalendarMonth((parent, month) -> days.addAll(month.getMonthViewDays()));
+    return days;
+  }
+
+  private static void assertMarkedOnlyTheFifteenth(List<CalendarDay> days) {
+    for (CalendarDay day : days) {
+      assertEquals("day " + day.getDate(), day.getDate().getDate() == 15, day.containsCss(MARKER));
+    }
+  }
+}
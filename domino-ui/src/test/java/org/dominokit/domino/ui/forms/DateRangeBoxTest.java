@@ -0,0 +1,73 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.forms;
+
+import static org.dominokit.domino.ui.datepicker.CalendarStyles.dui_date_in_range;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.CustomEvent;
+import elemental2.dom.CustomEventInit;
+import java.util.Date;
+import jsinterop.base.JsPropertyMap;
+import org.dominokit.domino.ui.datepicker.Calendar;
+
+public class DateRangeBoxTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldUnmarkRecycledDaysWhenTheRangeIsCleared() {
+    DateRangeBox dateRangeBox =
+        DateRangeBox.create(new DateRange(new Date(124, 0, 10), new Date(124, 0, 20)));
+    Calendar[] from = new Calendar[1];
+    dateRangeBox.withFromCalendar((box, calendar) -> from[0] = calendar);
+
+    navigate(from[0], new Date(124, 0, 1));
+    assertEquals(11, inRangeCount(from[0]));
+
+    navigate(from[0], new Date(124, 1, 1));
+    assertEquals(0, inRangeCount(from[0]));
+    navigate(from[0], new Date(124, 0, 1));
+    assertEquals(11, inRangeCount(from[0]));
+
+    dateRangeBox.clear();
+    assertEquals(0, inRangeCount(from[0]));
+
+    navigate(from[0], new Date(124, 1, 1));
+    navigate(from[0], new Date(124, 0, 1));
+    assertEquals(0, inRangeCount(from[0]));
+  }
+
+  private static void navigate(Calendar calendar, Date date) {
+    CustomEventInit<JsPropertyMap<Double>> init = CustomEventInit.create();
+    init.setDetail(JsPropertyMap.of("timestamp", (double) date.getTime()));
+    calendar
+        .element()
+        .dispatchEvent(new CustomEvent<>("dui-calendar-date-navigation-changed", init));
+  }
+
+  private static int inRangeCount(Calendar calendar) {
+    int[] count = new int[1];
+    calendar.withCalendarMonth(
+        (parent, month) ->
+            month.getMonthViewDays().stream()
+                .filter(day -> day.containsCss(dui_date_in_range.getCssClass()))
+                .forEach(day -> count[0]++));
+    return count[0];
+  }
+}
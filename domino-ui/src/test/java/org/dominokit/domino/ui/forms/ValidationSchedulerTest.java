@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.forms;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.ui.forms.validations.ValidationResult;
+
+public class ValidationSchedulerTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldApplyTheRequiredCheckOfScheduledFields() {
+    CheckBox terms = CheckBox.create().setRequired(true);
+    FieldsGrouping group = FieldsGrouping.create().group(terms);
+
+    group.validateLater(terms);
+    ValidationResult result = group.getValidationScheduler().flush();
+
+    assertFalse(result.isValid());
+    assertFalse(terms.getErrors().isEmpty());
+
+    terms.check();
+    group.validateLater(terms);
+
+    assertTrue(group.getValidationScheduler().flush().isValid());
+    assertTrue(terms.getErrors().isEmpty());
+  }
+
+  public void testShouldDelegateToTheFieldOwnValidation() {
+    CheckBox custom =
+        new CheckBox() {
+          @Override
+          public ValidationResult validate(CheckBox formElement) {
+            invalidate("custom check");
+            return ValidationResult.invalid("custom check");
+          }
+        };
+    CheckBox other = CheckBox.create();
+    FieldsGrouping group = FieldsGrouping.create().group(custom, other);
+    group.getValidationScheduler().addDependents(other, custom);
+
+    group.validateLater(other);
+
+    assertFalse(group.getValidationScheduler().flush().isValid());
+    assertEquals("custom check", custom.getErrors().get(0));
+  }
+
+  public void testShouldIgnoreAsyncResultsOfFieldsChangedAgain() {
+    CheckBox subscribe = CheckBox.create();
+    FieldsGrouping group = FieldsGrouping.create().group(subscribe);
+    List<ValidationScheduler.AsyncValidation> validations = new ArrayList<>();
+    List<ValidationResult> results = new ArrayList<>();
+    group
+        .getValidationScheduler()
+        .addAsyncValidator(subscribe, (field, validation) -> validations.add(validation))
+        .onValidated(results::add);
+
+    group.validateLater(subscribe);
+    group.getValidationScheduler().flush();
+    group.validateLater(subscribe);
+    group.getValidationScheduler().flush();
+
+    assertEquals(2, validations.size());
+    assertTrue(validations.get(0).isCancelled());
+
+    validations.get(0).complete(ValidationResult.invalid("taken"));
+    assertTrue(results.isEmpty());
+    assertTrue(subscribe.getErrors().isEmpty());
+
+    validations.get(1).complete(ValidationResult.invalid("taken"));
+    assertEquals(1, results.size());
+    assertFalse(results.get(0).isValid());
+    assertEquals("taken", subscribe.getErrors().get(0));
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.forms.suggest;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import org.dominokit.domino.ui.elements.SpanElement;
+
+public class SuggestionsPipelineTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldDeliverOnlyTheLatestResponseAndAbortOlderRequests() {
+    TestStore store = new TestStore();
+    SuggestionsPipeline<String, SpanElement, SuggestOption<String>> pipeline =
+        new SuggestionsPipeline<>(store);
+    List<String> delivered = new ArrayList<>();
+    int[] aborted = new int[1];
+
+    pipeline.request("d", suggestions -> delivered.add("d")).onAbort(() -> aborted[0]++);
+    pipeline.request("do", suggestions -> delivered.add("do"));
+
+    assertEquals(1, aborted[0]);
+    assertTrue(store.calls.get(0).request.isAborted());
+
+    store.respond(0);
+    assertTrue(delivered.isEmpty());
+
+    store.respond(1);
+    assertEquals(Collections.singletonList("do"), delivered);
+    assertFalse(pipeline.isPending());
+  }
+
+  public void testShouldDropSupersededResponsesWithoutAborting() {
+    TestStore store = new TestStore();
+    SuggestionsPipeline<String, SpanElement, SuggestOption<String>> pipeline =
+        new SuggestionsPipeline<String, SpanElement, SuggestOption<String>>(store)
+            .setAbortStale(false);
+    List<String> delivered = new ArrayList<>();
+
+    pipeline.request("d", suggestions -> delivered.add("d"));
+    pipeline.request("do", suggestions -> delivered.add("do"));
+
+    store.respond(1);
+    store.respond(0);
+
+    assertFalse(store.calls.get(0).request.isAborted());
+    assertEquals(Collections.singletonList("do"), delivered);
+  }
+
+  public void testShouldReuseAnIdenticalRequestInFlight() {
+    TestStore store = new TestStore();
+    SuggestionsPipeline<String, SpanElement, SuggestOption<String>> pipeline =
+        new SuggestionsPipeline<>(store);
+    List<String> delivered = new ArrayList<>();
+
+    SuggestionsRequest first = pipeline.request("do", suggestions -> delivered.add("first"));
+    SuggestionsRequest second = pipeline.request("do", suggestions -> delivered.add("second"));
+
+    assertSame(first, second);
+    assertEquals(1, store.calls.size());
+
+    store.respond(0);
+    assertEquals(Collections.singletonList("second"), delivered);
+  }
+
+  public void testShouldServeCachedResultsWithoutCallingTheStore() {
+    TestStore store = new TestStore();
+    SuggestionsPipeline<String, SpanElement, SuggestOption<String>> pipeline =
+        new SuggestionsPipeline<String, SpanElement, SuggestOption<String>>(store)
+            .setResultsCache(10, 0);
+    List<List<SuggestOption<String>>> delivered = new ArrayList<>();
+
+    pipeline.request("do", delivered::add);
+    store.respond(0);
+    pipeline.request("do", delivered::add);
+
+    assertEquals(1, store.calls.size());
+    assertEquals(2, delivered.size());
+    assertEquals("do", delivered.get(1).get(0).getValue());
+
+    pipeline.invalidateResults();
+    pipeline.request("do", delivered::add);
+    assertEquals(2, store.calls.size());
+  }
+
+  private static final class TestStore
+      implements SuggestionsStore<String, SpanElement, SuggestOption<String>> {
+    private final List<Call> calls = new ArrayList<>();
+
+    @Override
+    public void filter(
+        String value, SuggestionsHandler<String, SpanElement, SuggestOption<String>> handler) {
+      filter(value, null, handler);
+    }
+
+    @Override
+    public void filter(
+        String value,
+        SuggestionsRequest request,
+        SuggestionsHandler<String, SpanElement, SuggestOption<String>> handler) {
+      calls.add(new Call(value, request, handler));
+    }
+
+    @Override
+    public void find(String searchValue, Consumer<SuggestOption<String>> handler) {}
+
+    private void respond(int index) {
+      Call call = calls.get(index);
+      call.handler.onSuggestionsReady(
+          Collections.singletonList(SuggestOption.create(call.value, call.value, call.value)));
+    }
+  }
+
+  private static final class Call {
+    private final String value;
+    private final SuggestionsRequest request;
+    private final SuggestionsStore.SuggestionsHandler<String, SpanElement, SuggestOption<String>>
+        handler;
+
+    private Call(
+        String value,
+        SuggestionsRequest request,
+        SuggestionsStore.SuggestionsHandler<String, SpanElement, SuggestOption<String>> handler) {
+      this.value = value;
+      this.request = request;
+      this.handler = handler;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.lists;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.DomGlobal;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ListGroupTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldFindItemsByKey() {
+    ListGroup<Contact> listGroup =
+        ListGroup.<Contact>create().setKeyProvider(contact -> contact.id).setItems(contacts(5));
+
+    assertEquals("Contact 3", listGroup.findByKey(3).get().getValue().name);
+    assertFalse(listGroup.findByKey(7).isPresent());
+
+    listGroup.updateItem(new Contact(3, "Updated"));
+    assertEquals("Updated", listGroup.findByKey(3).get().getValue().name);
+    assertEquals("Updated", listGroup.findItem(new Contact(3, "")).get().getValue().name);
+
+    listGroup.removeItem(listGroup.findByKey(3).get());
+    assertFalse(listGroup.findByKey(3).isPresent());
+    assertEquals(4, listGroup.getItems().size());
+  }
+
+  public void testShouldAttachOnlyTheVisibleWindow() {
+    List<String> rendered = new ArrayList<>();
+    int[] removed = new int[1];
+    ListGroup<Contact> listGroup =
+        ListGroup.<Contact>create()
+            .setItemRenderer(
+                (group, item) -> {
+                  rendered.add(item.getValue().name);
+                  item.addOnRemoveListener(ignore -> removed[0]++);
+                })
+            .setOverscan(2)
+            .setVirtualScrolling(20)
+            .setItems(contacts(100));
+    listGroup.setHeight("100px");
+    DomGlobal.document.body.appendChild(listGroup.element());
+
+    listGroup.renderVisibleItems();
+
+    int attached = listGroup.element().childElementCount - 2;
+    assertTrue(attached > 0);
+    assertTrue(attached < 100);
+    assertEquals(attached, rendered.size());
+    assertSame(
+        listGroup.getItems().get(0).element(),
+        listGroup.element().firstElementChild.nextElementSibling);
+
+    // shift the attached items out of the window, they are detached without being removed.
+    ListItem<Contact> firstItem = listGroup.getItems().get(0);
+    for (int i = 0; i < 50; i++) {
+      listGroup.insertFirst(new Contact(100 + i, "Inserted " + i));
+    }
+    listGroup.renderVisibleItems();
+    assertFalse(DomGlobal.document.documentElement.contains(firstItem.element()));
+    assertEquals(0, removed[0]);
+
+    listGroup.removeVirtualScrolling();
+    assertEquals(150, listGroup.element().childElementCount);
+    assertTrue(DomGlobal.document.documentElement.contains(firstItem.element()));
+    assertEquals(0, removed[0]);
+    listGroup.remove();
+  }
+
+  private static List<Contact> contacts(int count) {
+    List<Contact> contacts = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      contacts.add(new Contact(i, "Contact " + i));
+    }
+    return contacts;
+  }
+
+  private static final class Contact {
+    private final int id;
+    private final String name;
+
+    private Contact(int id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+  }
+}
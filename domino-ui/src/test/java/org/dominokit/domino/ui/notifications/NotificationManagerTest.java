@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.notifications;
+
+import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.CustomEvent;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.Event;
+import elemental2.dom.HTMLElement;
+import java.util.List;
+import jsinterop.base.Js;
+import org.dominokit.domino.ui.utils.BaseDominoElement;
+import org.dominokit.domino.ui.utils.ObserverEventType;
+
+public class NotificationManagerTest extends GWTTestCase {
+
+  private static final Notification.Position POSITION = Notification.Position.TOP_RIGHT;
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtTearDown() {
+    wrappers().forEach(NotificationManagerTest::close);
+  }
+
+  public void testShouldCapVisibleNotificationsAndQueueTheRest() {
+    NotificationManager manager = NotificationManager.create().setMaxVisible(2).setMaxQueued(1);
+
+    manager.show("first", POSITION).show("second", POSITION);
+    manager.show("third", POSITION).show("fourth", POSITION);
+
+    assertEquals(2, manager.getVisibleCount(POSITION));
+    assertEquals(1, manager.getQueuedCount(POSITION));
+    assertEquals(2, wrappers().size());
+
+    close(wrappers().get(0));
+
+    assertEquals(2, manager.getVisibleCount(POSITION));
+    assertEquals(0, manager.getQueuedCount(POSITION));
+    assertTrue(DomGlobal.document.body.textContent.contains("fourth"));
+    assertFalse(DomGlobal.document.body.textContent.contains("third"));
+  }
+
+  public void testShouldCountDuplicatesOnTheVisibleNotification() {
+    NotificationManager manager = NotificationManager.create();
+
+    manager.show("duplicate", POSITION).show("duplicate", POSITION).show("duplicate", POSITION);
+
+    assertEquals(1, manager.getVisibleCount(POSITION));
+    Element counter = wrappers().get(0).querySelector(".dui-notification-counter");
+    assertEquals("3", counter.textContent);
+  }
+
+  public void testShouldReusePooledNotificationsWithoutTheirStaleOffset() {
+    NotificationManager manager = NotificationManager.create();
+    manager.show("first", POSITION);
+    HTMLElement first = Js.uncheckedCast(wrappers().get(0));
+    first.setAttribute("style", NotificationPosition.POSITION_OFFSET + ": 120px");
+    assertEquals("120px", first.style.getPropertyValue(NotificationPosition.POSITION_OFFSET));
+
+    close(first);
+    manager.show("second", POSITION);
+
+    assertSame(first, wrappers().get(0));
+    assertTrue(first.textContent.contains("second"));
+    assertEquals("", first.style.getPropertyValue(NotificationPosition.POSITION_OFFSET));
+  }
+
+  private static List<Element> wrappers() {
+    return DomGlobal.document.querySelectorAll(".dui-notification-wrapper").asList();
+  }
+
+  private static void close(Element wrapper) {
+    wrapper.dispatchEvent(new CustomEvent<>(Notification.DUI_NOTIFICATION_CLOSE));
+    wrapper.firstElementChild.dispatchEvent(new Event("animationend"));
+    if (wrapper.hasAttribute(BaseDominoElement.DETACH_UID_KEY)) {
+      wrapper.dispatchEvent(
+          new CustomEvent<>(ObserverEventType.detachedType(elements.elementOf(wrapper))));
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.richtext;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Node;
+import java.util.ArrayList;
+import java.util.List;
+import org.gwtproject.timer.client.Timer;
+
+public class RichTextEditorTest extends GWTTestCase {
+
+  private final List<String> values = new ArrayList<>();
+  private final List<RichTextDelta> deltas = new ArrayList<>();
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtSetUp() {
+    values.clear();
+    deltas.clear();
+  }
+
+  public void testShouldNotifySetValueImmediatelyWithAllBlocks() {
+    RichTextEditor editor = createEditor(50);
+
+    editor.setValue("<p>a</p><p>b</p>");
+
+    assertEquals(1, values.size());
+    assertEquals("<p>a</p><p>b</p>", values.get(0));
+    assertEquals(1, deltas.size());
+    assertTrue(deltas.get(0).isStructural());
+    assertEquals(2, deltas.get(0).getChangedBlocks().size());
+    assertEquals(2, deltas.get(0).getBlockCount());
+    assertFalse(editor.hasPendingChanges());
+  }
+
+  public void testShouldNotifyEditsOnceAfterTheChangeDelay() {
+    RichTextEditor editor = createEditor(300);
+    editor.setValue("<p>a</p><p>b</p>");
+    values.clear();
+    deltas.clear();
+
+    Node secondBlockText = editor.getEditableElement().element().childNodes.getAt(1).firstChild;
+    secondBlockText.nodeValue = "b1";
+    secondBlockText.nodeValue = "b12";
+    secondBlockText.nodeValue = "b123";
+
+    assertTrue(values.isEmpty());
+    assertTrue(deltas.isEmpty());
+
+    delayTestFinish(5000);
+    after(
+        100,
+        () -> {
+          assertTrue(editor.hasPendingChanges());
+          assertTrue(values.isEmpty());
+          assertTrue(deltas.isEmpty());
+          after(
+              1000,
+              () -> {
+                assertEquals(1, values.size());
+                assertEquals("<p>a</p><p>b123</p>", values.get(0));
+                assertEquals(1, deltas.size());
+                RichTextDelta delta = deltas.get(0);
+                assertFalse(delta.isStructural());
+                assertEquals(1, delta.getChangedBlocks().size());
+                assertEquals(1, delta.getChangedBlocks().get(0).getIndex());
+                assertEquals("<p>b123</p>", delta.getChangedBlocks().get(0).getHtml());
+                assertFalse(editor.hasPendingChanges());
+                finishTest();
+              });
+        });
+  }
+
+  public void testShouldFlushPendingEditsImmediately() {
+    RichTextEditor editor = createEditor(10000);
+    editor.setValue("<p>a</p><p>b</p>");
+    values.clear();
+    deltas.clear();
+
+    editor.getEditableElement().element().firstChild.firstChild.nodeValue = "a1";
+
+    delayTestFinish(5000);
+    after(
+        100,
+        () -> {
+          assertTrue(editor.hasPendingChanges());
+          assertTrue(values.isEmpty());
+
+          editor.flushChanges();
+
+          assertEquals(1, values.size());
+          assertEquals("<p>a1</p><p>b</p>", values.get(0));
+          assertEquals(1, deltas.size());
+          assertEquals(1, deltas.get(0).getChangedBlocks().size());
+          assertEquals(0, deltas.get(0).getChangedBlocks().get(0).getIndex());
+          assertFalse(editor.hasPendingChanges());
+
+          editor.flushChanges();
+          assertEquals(1, values.size());
+          assertEquals(1, deltas.size());
+          finishTest();
+        });
+  }
+
+  public void testShouldNotNotifySilentValuesOrPausedEdits() {
+    RichTextEditor editor = createEditor(50);
+
+    editor.withValue("<p>a</p>", true);
+    assertTrue(values.isEmpty());
+    assertTrue(deltas.isEmpty());
+
+    editor.getEditableElement().element().firstChild.firstChild.nodeValue = "a1";
+
+    delayTestFinish(5000);
+    after(
+        10,
+        () -> {
+          editor.withPauseChangeListenersToggle(true, RichTextEditor::flushChanges);
+          assertFalse(editor.hasPendingChanges());
+          after(
+              500,
+              () -> {
+                assertTrue(values.isEmpty());
+                assertTrue(deltas.isEmpty());
+                assertEquals("<p>a1</p>", editor.getValue());
+                finishTest();
+              });
+        });
+  }
+
+  private RichTextEditor createEditor(int changeDelay) {
+    RichTextEditor editor =
+        RichTextEditor.create()
+            .setChangeDelay(changeDelay)
+            .addDeltaListener(deltas::add)
+            .addChangeListener((oldValue, newValue) -> values.add(newValue));
+    DomGlobal.document.body.appendChild(editor.element());
+    return editor;
+  }
+
+  private static void after(int delay, Runnable runnable) {
+    new Timer() {
+      @Override
+      public void run() {
+        runnable.run();
+      }
+    }.schedule(delay);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.search;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.core.Function;
+import elemental2.dom.CustomEvent;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Event;
+import elemental2.dom.EventInit;
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.ui.utils.ObserverEventType;
+import org.gwtproject.timer.client.Timer;
+
+public class SearchBoxTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtTearDown() {
+    setPageHidden(false);
+  }
+
+  public void testShouldNotAutoSearchWhileDetachedAfterBeingHidden() {
+    List<String> searches = new ArrayList<>();
+    SearchBox searchBox =
+        SearchBox.create().setAutoSearchDelay(50).addSearchListener(searches::add);
+    attach(searchBox);
+
+    searchBox.getTextBox().setValue("abc");
+    EventInit bubbles = EventInit.create();
+    bubbles.setBubbles(true);
+    searchBox.getTextBox().getInputElement().element().dispatchEvent(new Event("input", bubbles));
+    setPageHidden(true);
+    detach(searchBox);
+    setPageHidden(false);
+
+    delayTestFinish(5000);
+    after(
+        300,
+        () -> {
+          assertTrue(searches.isEmpty());
+
+          attach(searchBox);
+          after(
+              300,
+              () -> {
+                assertEquals(1, searches.size());
+                assertEquals("abc", searches.get(0));
+                searchBox.remove();
+                finishTest();
+              });
+        });
+  }
+
+  private static void attach(SearchBox searchBox) {
+    DomGlobal.document.body.appendChild(searchBox.element());
+    searchBox.element().dispatchEvent(new CustomEvent<>(ObserverEventType.attachedType(searchBox)));
+  }
+
+  private static void detach(SearchBox searchBox) {
+    searchBox.element().remove();
+    searchBox.element().dispatchEvent(new CustomEvent<>(ObserverEventType.detachedType(searchBox)));
+  }
+
+  private static void setPageHidden(boolean hidden) {
+    // HtmlUnit pages are always visible, override document.hidden and notify the scheduler.
+    new Function(
+            "d",
+            "h",
+            "Object.defineProperty(d, 'hidden', {configurable: true, get: function () {"
+                + " return h; }});")
+        .call(DomGlobal.document, DomGlobal.document, hidden);
+    DomGlobal.document.dispatchEvent(new Event("visibilitychange"));
+  }
+
+  private static void after(int delay, Runnable runnable) {
+    new Timer() {
+      @Override
+      public void run() {
+        runnable.run();
+      }
+    }.schedule(delay);
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.style;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+
+public class CssBatchTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldReplayBatchUsingAddAndRemoveCss() {
+    Element element = DomGlobal.document.createElement("div");
+    element.setAttribute("class", "dui-bg-red dui-hidden other");
+
+    CssBatch.create()
+        .add(LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-green"))
+        .add("dui-fg-white")
+        .remove("dui-hidden")
+        .add(BooleanCssClass.of("dui-active", true))
+        .applyTo(Style.of(element));
+
+    assertTrue(element.classList.contains("dui-bg-green"));
+    assertTrue(element.classList.contains("dui-fg-white"));
+    assertTrue(element.classList.contains("dui-active"));
+    assertTrue(element.classList.contains("other"));
+    assertFalse(element.classList.contains("dui-bg-red"));
+    assertFalse(element.classList.contains("dui-hidden"));
+    assertEquals(4, element.classList.length);
+  }
+
+  public void testShouldApplySameResultDirectlyAndThroughStyle() {
+    Element direct = DomGlobal.document.createElement("div");
+    Element replayed = DomGlobal.document.createElement("div");
+    direct.setAttribute("class", "dui-bg-red dui-hidden");
+    replayed.setAttribute("class", "dui-bg-red dui-hidden");
+    CssBatch batch =
+        CssBatch.create()
+            .remove(LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-red"))
+            .remove("dui-hidden")
+            .add("dui-visible");
+
+    batch.apply(direct);
+    batch.applyTo(Style.of(replayed));
+
+    assertEquals(direct.getAttribute("class"), replayed.getAttribute("class"));
+    assertEquals("dui-visible", replayed.getAttribute("class"));
+  }
+}
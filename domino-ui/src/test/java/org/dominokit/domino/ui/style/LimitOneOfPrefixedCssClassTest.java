@@ -0,0 +1,82 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.style;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+
+public class LimitOneOfPrefixedCssClassTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldRemoveSamePrefixClassAddedByOtherMeans() {
+    Element element = DomGlobal.document.createElement("div");
+    LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-red").apply(element);
+    element.classList.add("dui-bg-blue");
+
+    LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-green").apply(element);
+
+    assertEquals("dui-bg-green", element.getAttribute("class"));
+  }
+
+  public void testShouldRemoveMarkupClassesOnEveryApply() {
+    Element element = DomGlobal.document.createElement("div");
+    element.setAttribute("class", "dui-context-menu");
+    LimitOneOfPrefixedCssClass.of("dui-context-", "dui-context-a").apply(element);
+    assertEquals("dui-context-a", element.getAttribute("class"));
+
+    element.classList.add("dui-context-menu");
+    LimitOneOfPrefixedCssClass.of("dui-context-", "dui-context-b").apply(element);
+    assertEquals("dui-context-b", element.getAttribute("class"));
+  }
+
+  public void testShouldReplaceIndexedClassAndKeepOtherClasses() {
+    Element element = DomGlobal.document.createElement("div");
+    element.classList.add("other");
+    LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-red").apply(element);
+    LimitOneOfPrefixedCssClass.of("dui-fg-", "dui-fg-red").apply(element);
+    LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-green").apply(element);
+
+    assertTrue(element.classList.contains("other"));
+    assertTrue(element.classList.contains("dui-fg-red"));
+    assertTrue(element.classList.contains("dui-bg-green"));
+    assertFalse(element.classList.contains("dui-bg-red"));
+    assertEquals(3, element.classList.length);
+
+    LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-green").remove(element);
+    assertFalse(element.classList.contains("dui-bg-green"));
+    assertEquals(2, element.classList.length);
+  }
+
+  public void testShouldReplaceIndexedClassAfterUnrelatedClassChanges() {
+    Element element = DomGlobal.document.createElement("div");
+    LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-red").apply(element);
+    element.classList.add("dui-hover");
+    element.classList.add("x-dui-bg-");
+
+    LimitOneOfPrefixedCssClass.of("dui-bg-", "dui-bg-green").apply(element);
+
+    assertFalse(element.classList.contains("dui-bg-red"));
+    assertTrue(element.classList.contains("dui-bg-green"));
+    assertTrue(element.classList.contains("dui-hover"));
+    assertTrue(element.classList.contains("x-dui-bg-"));
+    assertEquals(3, element.classList.length);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.tabs;
+
+import static org.dominokit.domino.ui.utils.Domino.div;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.ui.elements.DivElement;
+
+public class TabsPanelTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldUnloadLazyContentOfTabsActivatedDirectly() {
+    int[] created = new int[1];
+    List<String> removed = new ArrayList<>();
+    Tab first = lazyTab("first", created, removed);
+    Tab second = lazyTab("second", created, removed);
+    Tab third = lazyTab("third", created, removed);
+    TabsPanel tabsPanel = TabsPanel.create().setKeepAlive(2).appendChild(first, second, third);
+
+    assertTrue(first.isActive());
+    assertTrue(first.isContentLoaded());
+    assertFalse(second.isContentLoaded());
+    assertEquals(1, created[0]);
+
+    second.activate();
+    third.activate();
+
+    assertFalse(first.isContentLoaded());
+    assertEquals(0, first.getTabPanel().element().childElementCount);
+    assertEquals(1, removed.size());
+    assertEquals("first", removed.get(0));
+    assertTrue(second.isContentLoaded());
+    assertTrue(third.isContentLoaded());
+
+    tabsPanel.activateTab(first);
+
+    assertTrue(first.isContentLoaded());
+    assertEquals(1, first.getTabPanel().element().childElementCount);
+    assertFalse(second.isContentLoaded());
+    assertEquals("second", removed.get(1));
+    assertEquals(4, created[0]);
+  }
+
+  public void testShouldKeepEagerContentAttached() {
+    DivElement content = div().textContent("eager");
+    int[] removed = new int[1];
+    content.addOnRemoveListener(element -> removed[0]++);
+    Tab eager = Tab.create("eager").setContent(content);
+    Tab lazy = lazyTab("lazy", new int[1], new ArrayList<>());
+    TabsPanel tabsPanel = TabsPanel.create().setKeepAlive(1).appendChild(eager, lazy);
+
+    tabsPanel.activateTab(lazy);
+
+    assertTrue(eager.isContentLoaded());
+    assertSame(eager.getTabPanel().element(), content.element().parentNode);
+    assertEquals(0, removed[0]);
+  }
+
+  public void testShouldRestoreTheSavedStateOfReloadedTabs() {
+    List<Object> restored = new ArrayList<>();
+    Tab first = lazyTab("first", new int[1], new ArrayList<>());
+    Tab second = lazyTab("second", new int[1], new ArrayList<>());
+    TabsPanel.create()
+        .setKeepAlive(1)
+        .setTabStateHandler(
+            new Tab.StateHandler() {
+              @Override
+              public Object onSaveState(Tab tab) {
+                return tab.getKey() + "-state";
+              }
+
+              @Override
+              public void onRestoreState(Tab tab, Object state) {
+                restored.add(state);
+              }
+            })
+        .appendChild(first, second);
+
+    second.activate();
+    assertTrue(restored.isEmpty());
+
+    first.activate();
+    assertEquals(1, restored.size());
+    assertEquals("first-state", restored.get(0));
+  }
+
+  private static Tab lazyTab(String key, int[] created, List<String> removed) {
+    return Tab.create(key, key)
+        .setLazyContent(
+            () -> {
+              created[0]++;
+              return div().textContent(key).addOnRemoveListener(element -> removed.add(key));
+            });
+  }
+}
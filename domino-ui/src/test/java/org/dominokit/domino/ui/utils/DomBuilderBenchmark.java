@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
+import org.dominokit.domino.ui.datatable.DataTableStyles;
+
+/**
+ * A browser microbenchmark comparing the table cell construction through a domino element wrapper,
+ * as {@code TableRow.renderCell} did before {@link DomBuilder}, with the raw element construction
+ * it does now. Both sides build the same cells with the same css classes.
+ *
+ * <p>It is not part of {@link DominoUiTestSuite} and is run on demand with {@code mvn test -pl
+ * domino-ui -Dtest=DomBuilderBenchmark}, the timings are printed to the console.
+ */
+public class DomBuilderBenchmark extends GWTTestCase {
+
+  private static final int ROWS = 200;
+  private static final int COLUMNS = 10;
+  private static final int ROUNDS = 5;
+  private static final String COLUMN_RULE = "dui-column-rule";
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testDomBuilderCellsAgainstWrappedCells() {
+    HTMLTableRowElement wrappedRow = wrappedCells();
+    HTMLTableRowElement builtRow = builtCells();
+    assertEquals(ROWS * COLUMNS, builtRow.childElementCount);
+    assertEquals(wrappedRow.childElementCount, builtRow.childElementCount);
+    HTMLTableCellElement wrappedCell = (HTMLTableCellElement) wrappedRow.firstElementChild;
+    HTMLTableCellElement builtCell = (HTMLTableCellElement) builtRow.firstElementChild;
+    assertEquals(wrappedCell.className, builtCell.className);
+
+    double wrapped = 0;
+    double built = 0;
+    for (int round = 0; round < ROUNDS; round++) {
+      double start = DomGlobal.performance.now();
+      wrappedCells();
+      wrapped += DomGlobal.performance.now() - start;
+
+      start = DomGlobal.performance.now();
+      builtCells();
+      built += DomGlobal.performance.now() - start;
+    }
+
+    DomGlobal.console.info(
+        "DomBuilder benchmark: "
+            + (ROWS * COLUMNS)
+            + " cells per round, average of "
+            + ROUNDS
+            + " rounds, wrapped "
+            + (wrapped / ROUNDS)
+            + "ms, DomBuilder "
+            + (built / ROUNDS)
+            + "ms");
+  }
+
+  private static HTMLTableRowElement wrappedCells() {
+    HTMLTableRowElement row = DomBuilder.tr().element();
+    for (int i = 0; i < ROWS * COLUMNS; i++) {
+      HTMLTableCellElement cell = elements.td().addCss(DataTableStyles.dui_datatable_td).element();
+      elements.elementOf(cell).addCss(COLUMN_RULE);
+      row.appendChild(cell);
+    }
+    return row;
+  }
+
+  private static HTMLTableRowElement builtCells() {
+    HTMLTableRowElement row = DomBuilder.tr().element();
+    for (int i = 0; i < ROWS * COLUMNS; i++) {
+      HTMLTableCellElement cell = DomBuilder.td().css(DataTableStyles.dui_datatable_td).element();
+      cell.classList.add(COLUMN_RULE);
+      row.appendChild(cell);
+    }
+    return row;
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import org.dominokit.domino.ui.datatable.DataTableStyles;
+
+public class DomBuilderTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldAddBaseCssClassLikeElementsFactory() {
+    Element built = DomBuilder.td().css(DataTableStyles.dui_datatable_td).element();
+    Element wrapped = elements.td().addCss(DataTableStyles.dui_datatable_td).element();
+
+    assertEquals(wrapped.className, built.className);
+  }
+
+  public void testShouldKeepClassesOfExistingElements() {
+    Element element = DomGlobal.document.createElement("div");
+    element.className = "custom";
+
+    DomBuilder.of(element).css("other");
+
+    assertEquals("custom other", element.className);
+  }
+}
@@ -18,11 +18,56 @@ package org.dominokit.domino.ui.utils;
 import com.google.gwt.junit.tools.GWTTestSuite;
 import junit.framework.Test;
 import junit.framework.TestSuite;
+import org.dominokit.domino.ui.data.StoreCacheTest;
+import org.dominokit.domino.ui.datatable.ChunkedRenderingTest;
+import org.dominokit.domino.ui.datatable.DeferredCellsTest;
+import org.dominokit.domino.ui.datatable.TableExporterTest;
+import org.dominokit.domino.ui.datatable.store.ColumnValuesTest;
+import org.dominokit.domino.ui.datatable.store.LocalListScrollingDataSourceTest;
+import org.dominokit.domino.ui.datatable.store.RemoteDataStoreTest;
+import org.dominokit.domino.ui.datatable.store.WorkerListDataStoreTest;
+import org.dominokit.domino.ui.datepicker.CalendarMonthTest;
+import org.dominokit.domino.ui.forms.DateRangeBoxTest;
+import org.dominokit.domino.ui.forms.ValidationSchedulerTest;
+import org.dominokit.domino.ui.forms.suggest.SuggestionsPipelineTest;
+import org.dominokit.domino.ui.lists.ListGroupTest;
+import org.dominokit.domino.ui.notifications.NotificationManagerTest;
+import org.dominokit.domino.ui.richtext.RichTextEditorTest;
+import org.dominokit.domino.ui.search.SearchBoxTest;
+import org.dominokit.domino.ui.style.CssBatchTest;
+import org.dominokit.domino.ui.style.LimitOneOfPrefixedCssClassTest;
+import org.dominokit.domino.ui.tabs.TabsPanelTest;
 
 public class DominoUiTestSuite extends GWTTestSuite {
   public static Test suite() {
     TestSuite suite = new TestSuite("Tests for client domino-ui");
     suite.addTestSuite(MatchHighlighterTest.class);
+    suite.addTestSuite(LruCacheTest.class);
+    suite.addTestSuite(DomBuilderTest.class);
+    suite.addTestSuite(SharedResizeObserverTest.class);
+    suite.addTestSuite(OpenCloseListenersTest.class);
+    suite.addTestSuite(RichTextEditorTest.class);
+    suite.addTestSuite(VisibilitySchedulerTest.class);
+    suite.addTestSuite(SearchBoxTest.class);
+    suite.addTestSuite(SuggestionsPipelineTest.class);
+    suite.addTestSuite(ListGroupTest.class);
+    suite.addTestSuite(TabsPanelTest.class);
+    suite.addTestSuite(NotificationManagerTest.class);
+    suite.addTestSuite(ValidationSchedulerTest.class);
+    suite.addTestSuite(CalendarMonthTest.class);
+    suite.addTestSuite(DateRangeBoxTest.class);
+    suite.addTestSuite(LimitOneOfPrefixedCssClassTest.class);
+    suite.addTestSuite(CssBatchTest.class);
+    suite.addTestSuite(PerformanceTracerTest.class);
+    suite.addTestSuite(LeakDetectorTest.class);
+    suite.addTestSuite(StoreCacheTest.class);
+    suite.addTestSuite(RemoteDataStoreTest.class);
+    suite.addTestSuite(WorkerListDataStoreTest.class);
+    suite.addTestSuite(ColumnValuesTest.class);
+    suite.addTestSuite(LocalListScrollingDataSourceTest.class);
+    suite.addTestSuite(DeferredCellsTest.class);
+    suite.addTestSuite(ChunkedRenderingTest.class);
+    suite.addTestSuite(TableExporterTest.class);
 
     return suite;
   }
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.CustomEvent;
+import elemental2.dom.DomGlobal;
+import org.dominokit.domino.ui.elements.DivElement;
+
+public class LeakDetectorTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtTearDown() {
+    DominoUIConfig.CONFIG.setLeakDetection(false).setLeakDetectionThreshold(30);
+    LeakDetector.reset();
+  }
+
+  public void testShouldNotTrackWhenDisabled() {
+    LeakDetector.reset();
+
+    Domino.div();
+    Register register = LeakDetector.trackGlobalReference(Domino.div().element(), "test");
+
+    assertSame(Register.EMPTY, register);
+    assertTrue(LeakDetector.report().getInstances().isEmpty());
+    assertEquals(0, LeakDetector.report().getGlobalReferences());
+  }
+
+  public void testShouldCountInstancesAndObservers() {
+    LeakDetector.reset();
+    DominoUIConfig.CONFIG.setLeakDetection(true);
+
+    Domino.div();
+    Domino.div().onAttached(mutationRecord -> {});
+
+    LeakDetector.RetentionReport report = LeakDetector.report();
+    assertTrue(DominoUIConfig.CONFIG.isLeakDetection());
+    assertTrue(report.getInstances().get("DivElement") >= 1);
+    assertTrue(report.getObservers().get("DivElement") >= 1);
+  }
+
+  public void testShouldStopCountingRemovedObservers() {
+    LeakDetector.reset();
+    DominoUIConfig.CONFIG.setLeakDetection(true);
+    DivElement element = Domino.div();
+
+    Register register = element.registerOnDetached(mutationRecord -> {});
+    element.onAttached(MutationObserverCallback.doOnce(mutationRecord -> {}));
+    assertEquals(Integer.valueOf(2), LeakDetector.report().getObservers().get("DivElement"));
+
+    register.remove();
+    assertEquals(Integer.valueOf(1), LeakDetector.report().getObservers().get("DivElement"));
+
+    element.element().dispatchEvent(new CustomEvent<>(ObserverEventType.attachedType(element)));
+    assertEquals(Integer.valueOf(0), LeakDetector.report().getObservers().get("DivElement"));
+  }
+
+  public void testShouldReportDetachedElementsHoldingGlobalReferences() {
+    LeakDetector.reset();
+    DominoUIConfig.CONFIG.setLeakDetection(true).setLeakDetectionThreshold(0);
+    DivElement attached = Domino.div();
+    DomGlobal.document.body.appendChild(attached.element());
+    DivElement detached = Domino.div().setId("detached");
+
+    LeakDetector.trackGlobalReference(attached.element(), "attached listener");
+    Register register = LeakDetector.trackGlobalReference(detached.element(), "leaking listener");
+
+    LeakDetector.RetentionReport report = LeakDetector.report();
+    assertEquals(2, report.getGlobalReferences());
+    assertEquals(1, report.getSuspects().size());
+    assertSame(detached.element(), report.getSuspects().get(0).getElement());
+    assertEquals("leaking listener", report.getSuspects().get(0).getDescription());
+    assertTrue(report.toString().contains("id=\"detached\""));
+
+    register.remove();
+    attached.remove();
+    assertEquals(1, LeakDetector.report().getSuspects().size());
+    assertEquals(1, LeakDetector.report().getGlobalReferences());
+  }
+}
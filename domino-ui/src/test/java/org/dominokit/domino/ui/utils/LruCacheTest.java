@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.Arrays;
+import java.util.List;
+import org.gwtproject.timer.client.Timer;
+
+public class LruCacheTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldEvictTheLeastRecentlyUsedEntry() {
+    LruCache<String, Integer> cache = new LruCache<>(3);
+    cache.put("a", 1);
+    cache.put("b", 2);
+    cache.put("c", 3);
+
+    cache.get("a");
+    cache.put("d", 4);
+
+    assertEquals(3, cache.size());
+    assertFalse(cache.containsKey("b"));
+    assertEquals(Arrays.asList("c", "a", "d"), keys(cache));
+  }
+
+  public void testShouldEvictTheEldestEntriesWhenShrunk() {
+    LruCache<String, Integer> cache = new LruCache<>(0);
+    for (int i = 0; i < 10; i++) {
+      cache.put("key" + i, i);
+    }
+    assertEquals(10, cache.size());
+
+    cache.setMaxSize(2);
+
+    assertEquals(Arrays.asList("key8", "key9"), keys(cache));
+  }
+
+  public void testShouldExpireEntriesAfterTheirTimeToLive() {
+    LruCache<String, Integer> cache = new LruCache<>(0, 10);
+    cache.put("a", 1);
+    assertEquals(Integer.valueOf(1), cache.get("a"));
+    delayTestFinish(5000);
+
+    new Timer() {
+      @Override
+      public void run() {
+        assertFalse(cache.containsKey("a"));
+        assertNull(cache.get("a"));
+        assertTrue(cache.isEmpty());
+        finishTest();
+      }
+    }.schedule(50);
+  }
+
+  private static List<String> keys(LruCache<String, Integer> cache) {
+    return Arrays.asList(cache.keySet().toArray(new String[0]));
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static java.util.Objects.isNull;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.core.JsRegExp;
+import elemental2.core.RegExpResult;
+import elemental2.dom.DomGlobal;
+
+/**
+ * A browser microbenchmark comparing the previous per call highlighting, which built two regular
+ * expressions for every call, with the compiled highlighter for a suggest box like workload where
+ * every keystroke highlights all the suggestions. Every value contains the query exactly once, so
+ * both sides produce the same output and do the same work.
+ *
+ * <p>It is not part of {@link DominoUiTestSuite} and is run on demand with {@code mvn test -pl
+ * domino-ui -Dtest=MatchHighlighterBenchmark}, the timings are printed to the console.
+ */
+public class MatchHighlighterBenchmark extends GWTTestCase {
+
+  private static final int SUGGESTIONS = 500;
+  private static final int ROUNDS = 5;
+  private static final String[] KEYSTROKES = {"d", "do", "dom", "domi", "domin", "domino"};
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testCompiledHighlighterAgainstPerCallHighlight() {
+    String[] values = new String[SUGGESTIONS];
+    for (int i = 0; i < SUGGESTIONS; i++) {
+      values[i] = "Item " + i + " for Domino users";
+    }
+    for (String keystroke : KEYSTROKES) {
+      MatchHighlighter highlighter = MatchHighlighter.of(keystroke);
+      for (String value : values) {
+        assertEquals(legacyHighlight(value, keystroke), highlighter.highlight(value));
+      }
+    }
+
+    double perCall = 0;
+    double compiled = 0;
+    for (int round = 0; round < ROUNDS; round++) {
+      double start = DomGlobal.performance.now();
+      for (String keystroke : KEYSTROKES) {
+        for (String value : values) {
+          legacyHighlight(value, keystroke);
+        }
+      }
+      perCall += DomGlobal.performance.now() - start;
+
+      start = DomGlobal.performance.now();
+      for (String keystroke : KEYSTROKES) {
+        MatchHighlighter highlighter = MatchHighlighter.of(keystroke);
+        for (String value : values) {
+          highlighter.highlight(value);
+        }
+      }
+      compiled += DomGlobal.performance.now() - start;
+    }
+
+    DomGlobal.console.info(
+        "MatchHighlighter benchmark: "
+            + (SUGGESTIONS * KEYSTROKES.length)
+            + " highlights per round, average of "
+            + ROUNDS
+            + " rounds, per call "
+            + (perCall / ROUNDS)
+            + "ms, compiled "
+            + (compiled / ROUNDS)
+            + "ms");
+  }
+
+  /** The per call highlight before the compiled highlighter was introduced. */
+  private static String legacyHighlight(String source, String part) {
+    if (isNull(new JsRegExp(escapeRegExp(part), "i").exec(source))) {
+      return source;
+    }
+    JsRegExp regExp = new JsRegExp(escapeRegExp(part), "i");
+    RegExpResult result = regExp.exec(source);
+    String partInSource = result.getAt(0);
+    return source.replace(partInSource, "<mark>" + partInSource + "</mark>");
+  }
+
+  private static String escapeRegExp(String text) {
+    StringBuilder builder = new StringBuilder(text.length());
+    for (int i = 0; i < text.length(); i++) {
+      char ch = text.charAt(i);
+      switch (ch) {
+        case '\\':
+        case '^':
+        case '$':
+        case '.':
+        case '|':
+        case '?':
+        case '*':
+        case '+':
+        case '(':
+        case ')':
+        case '[':
+        case ']':
+        case '{':
+        case '}':
+          builder.append('\\');
+        default:
+          builder.append(ch);
+      }
+    }
+    return builder.toString();
+  }
+}
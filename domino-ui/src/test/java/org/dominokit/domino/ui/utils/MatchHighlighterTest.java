@@ -16,6 +16,9 @@
 package org.dominokit.domino.ui.utils;
 
 import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLDivElement;
 
 public class MatchHighlighterTest extends GWTTestCase {
 
@@ -75,4 +78,62 @@ public class MatchHighlighterTest extends GWTTestCase {
   public void testShouldReturnSourceWhenPartLongerThanSource() {
     assertEquals("short", MatchHighlighter.highlight("short", "a bit longer"));
   }
+
+  public void testCompiledShouldHighlightEveryOccurrenceIgnoringCase() {
+    String highlighted = MatchHighlighter.of("foo").highlight("foo foo Foo foo");
+
+    assertEquals(
+        "<mark>foo</mark> <mark>foo</mark> <mark>Foo</mark> <mark>foo</mark>", highlighted);
+  }
+
+  public void testCompiledShouldHighlightEveryTerm() {
+    String highlighted = MatchHighlighter.of("  dom   ui ").highlight("Domino UI");
+
+    assertEquals("<mark>Dom</mark>ino <mark>UI</mark>", highlighted);
+  }
+
+  public void testCompiledShouldPreferLongerTerms() {
+    String highlighted = MatchHighlighter.of("do domino").highlight("domino");
+
+    assertEquals("<mark>domino</mark>", highlighted);
+  }
+
+  public void testCompiledShouldEscapeSpecialCharacters() {
+    assertEquals("a<mark>.b</mark>c", MatchHighlighter.of(".b").highlight("a.bc"));
+    assertFalse(MatchHighlighter.of(".b").matches("axbc"));
+  }
+
+  public void testCompiledShouldReturnSourceForBlankQuery() {
+    assertEquals("Domino UI", MatchHighlighter.of("   ").highlight("Domino UI"));
+    assertEquals("", MatchHighlighter.of("dom").highlight((String) null));
+  }
+
+  public void testCompiledShouldBeCachedPerQuery() {
+    assertSame(MatchHighlighter.of("domino"), MatchHighlighter.of("domino"));
+  }
+
+  public void testShouldHighlightTextNodesWithoutParsingHtml() {
+    HTMLDivElement div = (HTMLDivElement) DomGlobal.document.createElement("div");
+    div.appendChild(DomGlobal.document.createTextNode("<b>dom</b> "));
+    Element span = DomGlobal.document.createElement("span");
+    span.textContent = "domino";
+    div.appendChild(span);
+
+    MatchHighlighter.of("dom").highlight(div);
+
+    assertEquals(2, div.querySelectorAll("mark").length);
+    assertEquals("<b>dom</b> domino", div.textContent);
+    assertEquals(0, div.querySelectorAll("b").length);
+
+    MatchHighlighter.of("ino").highlight(div);
+
+    assertEquals(1, div.querySelectorAll("mark").length);
+    assertEquals("ino", div.querySelector("mark").textContent);
+    assertEquals("<b>dom</b> domino", div.textContent);
+
+    MatchHighlighter.clear(div);
+
+    assertEquals(0, div.querySelectorAll("mark").length);
+    assertEquals(1, span.childNodes.length);
+  }
 }
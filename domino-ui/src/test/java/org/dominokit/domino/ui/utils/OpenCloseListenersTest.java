@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.ui.elements.DivElement;
+
+public class OpenCloseListenersTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  public void testShouldTriggerAndRemoveListeners() {
+    DivElement div = elements.div();
+    List<String> calls = new ArrayList<>();
+    HasOpenCloseListeners.OpenListener<DivElement> openListener =
+        element -> calls.add(element == div ? "open" : "open-other");
+    HasOpenCloseListeners.CloseListener<DivElement> closeListener =
+        element -> calls.add(element == div ? "close" : "close-other");
+
+    assertFalse(div.hasOpenListener(openListener));
+    assertTrue(div.getOpenListeners().isEmpty());
+    div.addOpenListener(openListener).addCloseListener(closeListener);
+    assertTrue(div.hasOpenListener(openListener));
+    assertTrue(div.hasCloseListener(closeListener));
+
+    div.triggerOpenListeners(div).triggerCloseListeners(div);
+    assertEquals(2, calls.size());
+    assertEquals("open", calls.get(0));
+    assertEquals("close", calls.get(1));
+
+    div.removeOpenListener(openListener).removeCloseListener(closeListener);
+    div.triggerOpenListeners(div).triggerCloseListeners(div);
+    assertEquals(2, calls.size());
+    assertFalse(div.hasOpenListener(openListener));
+  }
+
+  public void testShouldNotTriggerListenersWhilePaused() {
+    DivElement div = elements.div();
+    List<String> calls = new ArrayList<>();
+    div.addOpenListener(element -> calls.add("open"))
+        .addCloseListener(element -> calls.add("close"));
+
+    assertFalse(div.isOpenCloseListenersPaused());
+    div.pauseOpenCloseListeners();
+    assertTrue(div.isOpenCloseListenersPaused());
+    div.triggerOpenListeners(div).triggerCloseListeners(div);
+    assertTrue(calls.isEmpty());
+
+    div.resumeOpenCloseListeners();
+    div.withPauseCloseListenersToggle(true, element -> element.triggerCloseListeners(element));
+    assertTrue(calls.isEmpty());
+    assertFalse(div.isOpenCloseListenersPaused());
+
+    div.triggerOpenListeners(div);
+    assertEquals(1, calls.size());
+  }
+
+  public void testShouldAllowListenersToRemoveThemselvesWhileTriggered() {
+    DivElement div = elements.div();
+    List<String> calls = new ArrayList<>();
+    div.addCloseListener(
+        new HasOpenCloseListeners.CloseListener<DivElement>() {
+          @Override
+          public void onClosed(DivElement element) {
+            calls.add("once");
+            element.removeCloseListener(this);
+          }
+        });
+    div.addCloseListener(element -> calls.add("always"));
+
+    div.triggerCloseListeners(div);
+    assertEquals(2, calls.size());
+
+    div.triggerCloseListeners(div);
+    assertEquals(3, calls.size());
+    assertEquals("always", calls.get(2));
+  }
+
+  public void testShouldNotTriggerAnythingWithoutListeners() {
+    DivElement div = elements.div();
+
+    div.triggerOpenListeners(div).triggerCloseListeners(div);
+
+    assertFalse(div.isOpenCloseListenersPaused());
+    assertTrue(div.getCloseListeners().isEmpty());
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.dom.HTMLDivElement;
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.ui.elements.DivElement;
+
+public class PerformanceTracerTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtTearDown() {
+    DominoUIConfig.CONFIG.setPerformanceTracing(false);
+    PerformanceTracer.reset();
+  }
+
+  public void testShouldNotRecordWhenDisabled() {
+    PerformanceTracer.reset();
+
+    PerformanceTracer.count(PerformanceTracer.ROWS_DRAWN, 10);
+    PerformanceTracer.start("test").end();
+
+    PerformanceTracer.Snapshot snapshot = PerformanceTracer.snapshot();
+    assertEquals(0, snapshot.getCounter(PerformanceTracer.ROWS_DRAWN));
+    assertNull(snapshot.getMeasure("test"));
+  }
+
+  public void testShouldRecordCountersAndMeasuresWhenEnabled() {
+    PerformanceTracer.reset();
+    DominoUIConfig.CONFIG.setPerformanceTracing(true);
+    List<String> traced = new ArrayList<>();
+    Register register = PerformanceTracer.addListener((name, duration) -> traced.add(name));
+
+    PerformanceTracer.count(PerformanceTracer.ROWS_DRAWN, 10);
+    PerformanceTracer.count(PerformanceTracer.ROWS_DRAWN);
+    PerformanceTracer.start("test").end();
+    PerformanceTracer.start("test").end();
+    register.remove();
+    PerformanceTracer.start("test").end();
+
+    PerformanceTracer.Snapshot snapshot = PerformanceTracer.snapshot();
+    assertTrue(DominoUIConfig.CONFIG.isPerformanceTracing());
+    assertEquals(11, snapshot.getCounter(PerformanceTracer.ROWS_DRAWN));
+    assertEquals(3, snapshot.getMeasure("test").getCount());
+    assertTrue(snapshot.getMeasure("test").getMax() >= 0);
+    assertEquals(2, traced.size());
+  }
+
+  public void testShouldCountStyleFlushes() {
+    PerformanceTracer.reset();
+    DominoUIConfig.CONFIG.setPerformanceTracing(true);
+    DynamicStyleSheet<HTMLDivElement, DivElement> styleSheet =
+        new DynamicStyleSheet<>("dui-test-", Domino.div());
+
+    styleSheet.flush();
+
+    assertEquals(1, PerformanceTracer.snapshot().getCounter(PerformanceTracer.STYLE_FLUSHES));
+    assertNotNull(PerformanceTracer.snapshot().getMeasure(PerformanceTracer.TRACE_STYLE_FLUSH));
+  }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.core.Function;
+import elemental2.core.JsArray;
+import elemental2.dom.CustomEvent;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLDivElement;
+import java.util.ArrayList;
+import java.util.List;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+import org.dominokit.domino.ui.elements.DivElement;
+import org.gwtproject.timer.client.Timer;
+
+public class SharedResizeObserverTest extends GWTTestCase {
+
+  private JsPropertyMap<Object> fake;
+  private Object requestAnimationFrame;
+  private boolean connectedPolyfill;
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtSetUp() {
+    // HtmlUnit has no ResizeObserver, install a fake that records the observed elements and lets
+    // the test deliver the size changes.
+    Function install =
+        new Function(
+            "w",
+            "if (!w.duiFakeResizeObserver) {\n"
+                + "  var fake = {observed: [], unobserved: []};\n"
+                + "  w.ResizeObserver = function (callback) { fake.callback = callback; };\n"
+                + "  w.ResizeObserver.prototype.observe = function (target) {"
+                + " fake.observed.push(target); };\n"
+                + "  w.ResizeObserver.prototype.unobserve = function (target) {"
+                + " fake.unobserved.push(target); };\n"
+                + "  w.ResizeObserver.prototype.disconnect = function () {};\n"
+                + "  w.ResizeObserverEntry = function (target) { this.target = target; };\n"
+                + "  fake.entry = function (target) { return new w.ResizeObserverEntry(target); };\n"
+                + "  w.duiFakeResizeObserver = fake;\n"
+                + "}\n"
+                + "return w.duiFakeResizeObserver;");
+    JsPropertyMap<Object> global = Js.asPropertyMap(Js.global());
+    fake = Js.uncheckedCast(install.call(null, global));
+    JsPropertyMap<Object> window = Js.asPropertyMap(DomGlobal.window);
+    window.set("ResizeObserver", global.get("ResizeObserver"));
+    window.set("ResizeObserverEntry", global.get("ResizeObserverEntry"));
+    // HtmlUnit does not reliably run animation frames, run the frame callbacks as timeouts.
+    requestAnimationFrame = global.get("requestAnimationFrame");
+    Function frame =
+        new Function("callback", "return setTimeout(function () { callback(Date.now()); }, 0);");
+    global.set("requestAnimationFrame", frame);
+    window.set("requestAnimationFrame", frame);
+    // nor Node.isConnected, which the shared observer uses to find the detached elements.
+    connectedPolyfill =
+        Js.isTruthy(
+            new Function(
+                    "w",
+                    "if ('isConnected' in w.Node.prototype) { return false; }\n"
+                        + "Object.defineProperty(w.Node.prototype, 'isConnected', {\n"
+                        + "  configurable: true,\n"
+                        + "  get: function () {"
+                        + " return this.ownerDocument.documentElement.contains(this); }\n"
+                        + "});\n"
+                        + "return true;")
+                .call(null, DomGlobal.window));
+  }
+
+  @Override
+  protected void gwtTearDown() {
+    Js.asPropertyMap(Js.global()).set("requestAnimationFrame", requestAnimationFrame);
+    Js.asPropertyMap(DomGlobal.window).set("requestAnimationFrame", requestAnimationFrame);
+    if (connectedPolyfill) {
+      new Function("w", "delete w.Node.prototype.isConnected;").call(null, DomGlobal.window);
+    }
+  }
+
+  public void testShouldUnobserveDetachedElementAndObserveItAgainOnAttach() {
+    DivElement div = elements.div();
+    HTMLDivElement element = div.element();
+    DomGlobal.document.body.appendChild(element);
+    List<Object> resized = new ArrayList<>();
+    div.onResize((target, observer, entries) -> resized.add(entries.getAt(0)));
+    assertEquals(1, countOf("observed", element));
+    assertTrue(SharedResizeObserver.isObserved(element));
+
+    resize(element);
+
+    delayTestFinish(5000);
+    afterFrame(
+        () -> {
+          assertEquals(1, resized.size());
+
+          element.remove();
+          resize(element);
+          afterFrame(
+              () -> {
+                assertEquals(1, resized.size());
+                assertEquals(1, countOf("unobserved", element));
+                assertFalse(SharedResizeObserver.isObserved(element));
+
+                DomGlobal.document.body.appendChild(element);
+                element.dispatchEvent(new CustomEvent<>(ObserverEventType.attachedType(div)));
+                assertEquals(2, countOf("observed", element));
+                assertTrue(SharedResizeObserver.isObserved(element));
+
+                resize(element);
+                afterFrame(
+                    () -> {
+                      assertEquals(2, resized.size());
+                      element.remove();
+                      SharedResizeObserver.unobserve(element);
+                      finishTest();
+                    });
+              });
+        });
+  }
+
+  private void resize(HTMLDivElement element) {
+    Function callback = Js.uncheckedCast(fake.get("callback"));
+    Function entry = Js.uncheckedCast(fake.get("entry"));
+    callback.call(null, new JsArray<>(entry.call(null, element)));
+  }
+
+  private int countOf(String key, HTMLDivElement element) {
+    JsArray<Object> targets = Js.uncheckedCast(fake.get(key));
+    int count = 0;
+    for (int i = 0; i < targets.length; i++) {
+      if (targets.getAt(i) == element) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static void afterFrame(Runnable runnable) {
+    new Timer() {
+      @Override
+      public void run() {
+        runnable.run();
+      }
+    }.schedule(100);
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.utils;
+
+import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
+
+import com.google.gwt.junit.client.GWTTestCase;
+import elemental2.core.Function;
+import elemental2.dom.CustomEvent;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Event;
+import java.util.ArrayList;
+import java.util.List;
+import org.dominokit.domino.ui.elements.DivElement;
+
+public class VisibilitySchedulerTest extends GWTTestCase {
+
+  @Override
+  public String getModuleName() {
+    return "org.dominokit.domino.ui.DominoUI";
+  }
+
+  @Override
+  protected void gwtTearDown() {
+    setPageHidden(false);
+  }
+
+  public void testShouldPauseAndResumeWhenThePageVisibilityChanges() {
+    List<Boolean> calls = new ArrayList<>();
+    DivElement div = elements.div();
+    DomGlobal.document.body.appendChild(div.element());
+    VisibilityScheduler.Watch watch = VisibilityScheduler.watch(div.element(), calls::add);
+    assertTrue(watch.isVisible());
+    assertTrue(calls.isEmpty());
+
+    setPageHidden(true);
+    assertFalse(VisibilityScheduler.isPageVisible());
+    assertFalse(watch.isVisible());
+    assertEquals(1, calls.size());
+    assertFalse(calls.get(0));
+
+    setPageHidden(true);
+    assertEquals(1, calls.size());
+
+    setPageHidden(false);
+    assertTrue(watch.isVisible());
+    assertEquals(2, calls.size());
+    assertTrue(calls.get(1));
+
+    watch.remove();
+    setPageHidden(true);
+    assertEquals(2, calls.size());
+    div.remove();
+  }
+
+  public void testShouldNotResumeWhenRemovedWhileHidden() {
+    List<Boolean> calls = new ArrayList<>();
+    DivElement div = elements.div();
+    VisibilityScheduler.Watch watch = VisibilityScheduler.watch(div.element(), calls::add);
+
+    setPageHidden(true);
+    watch.remove();
+    setPageHidden(false);
+
+    assertEquals(1, calls.size());
+    assertFalse(calls.get(0));
+    assertFalse(watch.isVisible());
+  }
+
+  public void testShouldResumeObservedComponentOnlyWhenAttachedAgain() {
+    List<Boolean> calls = new ArrayList<>();
+    DivElement div = elements.div();
+    Register register = VisibilityScheduler.observe(div, calls::add);
+    attach(div);
+
+    setPageHidden(true);
+    assertEquals(1, calls.size());
+    assertFalse(calls.get(0));
+
+    detach(div);
+    setPageHidden(false);
+    assertEquals(1, calls.size());
+
+    attach(div);
+    assertEquals(2, calls.size());
+    assertTrue(calls.get(1));
+
+    setPageHidden(true);
+    detach(div);
+    register.remove();
+    assertEquals(4, calls.size());
+    assertFalse(calls.get(2));
+    assertTrue(calls.get(3));
+
+    attach(div);
+    setPageHidden(false);
+    assertEquals(4, calls.size());
+    div.remove();
+  }
+
+  public void testShouldStayHiddenWhenAttachedWhilePageIsHidden() {
+    List<Boolean> calls = new ArrayList<>();
+    DivElement div = elements.div();
+    VisibilityScheduler.observe(div, calls::add);
+    attach(div);
+
+    setPageHidden(true);
+    detach(div);
+    attach(div);
+    assertEquals(1, calls.size());
+
+    setPageHidden(false);
+    assertEquals(2, calls.size());
+    assertTrue(calls.get(1));
+    div.remove();
+  }
+
+  private static void attach(DivElement div) {
+    DomGlobal.document.body.appendChild(div.element());
+    div.element().dispatchEvent(new CustomEvent<>(ObserverEventType.attachedType(div)));
+  }
+
+  private static void detach(DivElement div) {
+    div.element().remove();
+    div.element().dispatchEvent(new CustomEvent<>(ObserverEventType.detachedType(div)));
+  }
+
+  private static void setPageHidden(boolean hidden) {
+    // HtmlUnit pages are always visible, override document.hidden and notify the scheduler.
+    new Function(
+            "d",
+            "h",
+            "Object.defineProperty(d, 'hidden', {configurable: true, get: function () {"
+                + " return h; }});")
+        .call(DomGlobal.document, DomGlobal.document, hidden);
+    DomGlobal.document.dispatchEvent(new Event("visibilitychange"));
+  }
+}